@@ -76,7 +76,7 @@ public class GBDaoGenerator {
             outputDir.mkdirs();
         }
 
-        final Schema schema = new Schema(127, MAIN_PACKAGE + ".entities");
+        final Schema schema = new Schema(129, MAIN_PACKAGE + ".entities");
 
         final List<Entity> sampleProvidersToGenerate = new LinkedList<>();
 
@@ -236,6 +236,8 @@ public class GBDaoGenerator {
 
         addActivitySummary(schema, user, device);
         addBatteryLevel(schema, device);
+        addDailyTotalsRollup(schema, device);
+        addSampleBucket(schema, device);
 
         sampleProvidersToGenerate.add(addGenericHeartRateSample(schema, user, device));
         sampleProvidersToGenerate.add(addGenericSpo2Sample(schema, user, device));
@@ -1583,6 +1585,42 @@ public class GBDaoGenerator {
         return batteryLevel;
     }
 
+    private static void addDailyTotalsRollup(Schema schema, Entity device) {
+        Entity rollup = addEntity(schema, "DailyTotalsRollup");
+        rollup.setJavaDoc(
+                "Pre-computed daily totals of a device, derived from its activity samples.\n" +
+                "Rows are only stored for complete days, and are removed when samples of that day change."
+        );
+        Property deviceId = rollup.addLongProperty("deviceId").primaryKey().notNull().getProperty();
+        rollup.addToOne(device, deviceId);
+        rollup.addIntProperty("dayStart").notNull().primaryKey().javaDocGetterAndSetter("Start of the day in local time, in seconds.");
+        rollup.addLongProperty("steps").notNull();
+        rollup.addLongProperty("distance").notNull();
+        rollup.addLongProperty("activeCalories").notNull();
+        rollup.addIntProperty("lightSleepMinutes").notNull();
+        rollup.addIntProperty("deepSleepMinutes").notNull();
+        rollup.addIntProperty("remSleepMinutes").notNull();
+        rollup.addIntProperty("awakeSleepMinutes").notNull();
+    }
+
+    private static void addSampleBucket(Schema schema, Entity device) {
+        Entity bucket = addEntity(schema, "SampleBucket");
+        bucket.setJavaDoc(
+                "Aggregated values of a metric of a device over a fixed time span, derived from its samples.\n" +
+                "Buckets are computed per day, and removed when samples of that day change."
+        );
+        bucket.setSuperclass("AbstractSampleBucket");
+        Property deviceId = bucket.addLongProperty("deviceId").primaryKey().notNull().getProperty();
+        bucket.addToOne(device, deviceId);
+        bucket.addIntProperty("metric").notNull().primaryKey();
+        bucket.addIntProperty("resolution").notNull().primaryKey().javaDocGetterAndSetter("Length of the bucket, in seconds.");
+        bucket.addIntProperty("timestamp").notNull().primaryKey().javaDocGetterAndSetter("Start of the bucket, in seconds.");
+        bucket.addIntProperty("min").notNull().codeBeforeGetter(OVERRIDE);
+        bucket.addIntProperty("max").notNull().codeBeforeGetter(OVERRIDE);
+        bucket.addLongProperty("sum").notNull().codeBeforeGetter(OVERRIDE);
+        bucket.addIntProperty("count").notNull().codeBeforeGetter(OVERRIDE);
+    }
+
     private static Entity addFitProActivitySample(Schema schema, Entity user, Entity device) {
         Entity activitySample = addEntity(schema, "FitProActivitySample");
         activitySample.implementsSerializable();
@@ -71,18 +71,21 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import ch.qos.logback.core.spi.LifeCycle;
 import nodomain.freeyourgadget.gadgetbridge.activities.ControlCenterv2;
 import nodomain.freeyourgadget.gadgetbridge.database.DBHandler;
 import nodomain.freeyourgadget.gadgetbridge.database.DBHelper;
+import nodomain.freeyourgadget.gadgetbridge.database.DBLockMetrics;
 import nodomain.freeyourgadget.gadgetbridge.database.DBOpenHelper;
+import nodomain.freeyourgadget.gadgetbridge.database.DeviceDataVersions;
 import nodomain.freeyourgadget.gadgetbridge.database.PeriodicDbExporter;
 import nodomain.freeyourgadget.gadgetbridge.devices.DeviceManager;
 import nodomain.freeyourgadget.gadgetbridge.entities.DaoMaster;
 import nodomain.freeyourgadget.gadgetbridge.externalevents.BluetoothStateChangeReceiver;
+import nodomain.freeyourgadget.gadgetbridge.externalevents.NotificationFilterIndex;
 import nodomain.freeyourgadget.gadgetbridge.externalevents.opentracks.OpenTracksContentObserver;
 import nodomain.freeyourgadget.gadgetbridge.impl.GBDevice;
 import nodomain.freeyourgadget.gadgetbridge.impl.GBDeviceService;
@@ -115,13 +118,17 @@ public class GBApplication extends Application {
     private static volatile ShutdownHook SHUTDOWN_HOOK;
 
     private static GBApplication context;
-    private static final Lock dbLock = new ReentrantLock();
+    // readers and writers share the read lock, closing or replacing the database takes the write lock
+    private static final ReentrantReadWriteLock dbLock = new ReentrantReadWriteLock();
+    private static final ReentrantLock dbWriterLock = new ReentrantLock();
+    private static final DBLockMetrics dbLockMetrics = new DBLockMetrics();
     private static DeviceService deviceService;
     private static SharedPreferences sharedPrefs;
 
     private static final LimitedQueue<Integer, String> mIDSenderLookup = new LimitedQueue<>(16);
     private static GBPrefs prefs;
     private static LockHandler lockHandler;
+    private static LockHandler readLockHandler;
     /**
      * Note: is null on Lollipop
      */
@@ -393,6 +400,7 @@ public class GBApplication extends Application {
     }
 
     public static void setupLogging(boolean enabled) {
+        logging.setDebugLogging(isDebugLoggingEnabled());
         logging.setupLogging(enabled);
 
         // prepare for log shutdown
@@ -426,6 +434,10 @@ public class GBApplication extends Application {
         return prefs.getBoolean("log_to_file", false);
     }
 
+    public static boolean isDebugLoggingEnabled() {
+        return prefs != null && prefs.getBoolean("log_debug", true);
+    }
+
     public static boolean minimizeNotification() {
         return prefs.getBoolean("minimize_priority", false);
     }
@@ -437,6 +449,9 @@ public class GBApplication extends Application {
             helper = new DaoMaster.DevOpenHelper(this, null, null);
         } else {
             helper = new DBOpenHelper(this, DATABASE_NAME, null);
+            // allows readers to run concurrently with each other and with the writer,
+            // each thread gets its own connection from the pool
+            helper.setWriteAheadLoggingEnabled(true);
         }
         SQLiteDatabase db = helper.getWritableDatabase();
         DaoMaster daoMaster = new DaoMaster(db);
@@ -444,6 +459,10 @@ public class GBApplication extends Application {
             lockHandler = new LockHandler();
         }
         lockHandler.init(daoMaster, helper);
+        if (readLockHandler == null) {
+            readLockHandler = new LockHandler(true);
+        }
+        readLockHandler.init(daoMaster, helper);
     }
 
     public static Context getContext() {
@@ -478,30 +497,138 @@ public class GBApplication extends Application {
      * <p>
      * Callers must not hold a reference to the returned instance because it
      * will be invalidated at some point.
+     * <p>
+     * Writers are serialized against each other, but do not block readers from
+     * {@link #acquireReadDB()}, which see the last committed state of the database.
      *
      * @return the DBHandler
      * @throws GBException
      * @see #releaseDB()
      */
     public static DBHandler acquireDB() throws GBException {
+        return acquireWriteDB();
+    }
+
+    /**
+     * Same as {@link #acquireDB()}.
+     */
+    public static DBHandler acquireWriteDB() throws GBException {
+        final long start = System.nanoTime();
         try {
-            if (dbLock.tryLock(30, TimeUnit.SECONDS)) {
-                return lockHandler;
+            if (dbLock.readLock().tryLock(30, TimeUnit.SECONDS)) {
+                final long remaining = TimeUnit.SECONDS.toNanos(30) - (System.nanoTime() - start);
+                boolean locked = false;
+                try {
+                    locked = dbWriterLock.tryLock(remaining, TimeUnit.NANOSECONDS);
+                } finally {
+                    if (!locked) {
+                        dbLock.readLock().unlock();
+                    }
+                }
+                if (locked) {
+                    dbLockMetrics.onWriteAcquired(System.nanoTime() - start);
+                    return lockHandler;
+                }
             }
         } catch (InterruptedException ex) {
             Log.i(TAG, "Interrupted while waiting for DB lock");
         }
+        dbLockMetrics.onWriteTimeout();
+        throw new GBException("Unable to access the database.");
+    }
+
+    /**
+     * Returns a DBHandler for reading only. Any number of threads can read at the same
+     * time, also while another thread writes through {@link #acquireDB()}. Thanks to the
+     * write-ahead log, readers see the database as of the last committed transaction.
+     * Callers must close the returned handler when they are done, from the same thread.
+     * <p>
+     * The session of the returned handler does not cache entities, and must not be used
+     * to write to the database.
+     *
+     * @return the DBHandler
+     * @throws GBException
+     * @see #releaseReadDB()
+     */
+    public static DBHandler acquireReadDB() throws GBException {
+        final long start = System.nanoTime();
+        try {
+            if (dbLock.readLock().tryLock(30, TimeUnit.SECONDS)) {
+                dbLockMetrics.onReadAcquired(System.nanoTime() - start);
+                return readLockHandler;
+            }
+        } catch (InterruptedException ex) {
+            Log.i(TAG, "Interrupted while waiting for DB read lock");
+        }
+        dbLockMetrics.onReadTimeout();
+        throw new GBException("Unable to access the database.");
+    }
+
+    /**
+     * Returns the DBHandler with exclusive access to the database, which is required to close it,
+     * for example to export or import the database file. Waits for all readers and writers to finish,
+     * and blocks all new ones until released with {@link #releaseDB()}.
+     * <p>
+     * Must not be called while holding read or write access, since that can not be upgraded.
+     *
+     * @return the DBHandler
+     * @throws GBException
+     * @see #releaseDB()
+     */
+    public static DBHandler acquireExclusiveDB() throws GBException {
+        if (dbLock.getReadHoldCount() > 0 || dbWriterLock.isHeldByCurrentThread()) {
+            // would wait for ourselves until the timeout
+            throw new GBException("Unable to access the database exclusively while already accessing it.");
+        }
+        final long start = System.nanoTime();
+        try {
+            if (dbLock.writeLock().tryLock(30, TimeUnit.SECONDS)) {
+                dbLockMetrics.onExclusiveAcquired(System.nanoTime() - start);
+                return lockHandler;
+            }
+        } catch (InterruptedException ex) {
+            Log.i(TAG, "Interrupted while waiting for exclusive DB lock");
+        }
+        dbLockMetrics.onExclusiveTimeout();
         throw new GBException("Unable to access the database.");
     }
 
     /**
-     * Releases the database lock.
+     * Releases the database lock, acquired by {@link #acquireDB()} or {@link #acquireExclusiveDB()}.
      *
      * @throws IllegalMonitorStateException if the current thread is not owning the lock
      * @see #acquireDB()
      */
     public static void releaseDB() {
-        dbLock.unlock();
+        // exclusive access can not be requested while writing, so the writer lock belongs to the innermost acquire
+        if (dbWriterLock.isHeldByCurrentThread()) {
+            dbWriterLock.unlock();
+            dbLock.readLock().unlock();
+        } else {
+            dbLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Releases the database read lock.
+     *
+     * @throws IllegalMonitorStateException if the current thread is not owning the lock
+     * @see #acquireReadDB()
+     */
+    public static void releaseReadDB() {
+        dbLock.readLock().unlock();
+    }
+
+    /**
+     * Whether any thread, including the current one, currently holds write access from
+     * {@link #acquireDB()}. Its changes may or may not be visible to readers yet.
+     */
+    public static boolean isWritingDB() {
+        return dbWriterLock.isLocked();
+    }
+
+    public static DBLockMetrics getDBLockMetrics() {
+        return dbLockMetrics;
     }
 
     public static boolean isRunningNougatOrLater() {
@@ -720,6 +847,8 @@ public class GBApplication extends Application {
         }
         boolean result = deleteOldActivityDatabase(context);
         result &= getContext().deleteDatabase(DATABASE_NAME);
+        NotificationFilterIndex.getInstance().invalidate();
+        DeviceDataVersions.bumpAll();
         return result;
     }
 
@@ -50,7 +50,8 @@ public class GBExceptionHandler implements Thread.UncaughtExceptionHandler {
     }
 
     /// Log and notify the unhandled exception
-    /// Flushing and closing the log is handled by {@link GBApplication.ShutdownHook}
+    /// The log file is written in the background, so it is flushed before terminating the app.
+    /// Closing the log is handled by {@link GBApplication.ShutdownHook}
     @Override
     public void uncaughtException(@NonNull Thread thread, @NonNull Throwable ex) {
         // This method is only called if something is seriously wrong so be very generous
@@ -85,6 +86,11 @@ public class GBExceptionHandler implements Thread.UncaughtExceptionHandler {
             }
         }
 
+        try {
+            GBApplication.getLogging().flush();
+        } catch (Throwable ignored) {
+        }
+
         if (mDelegate != null) {
             try {
                 mDelegate.uncaughtException(thread, ex);
@@ -19,6 +19,7 @@ package nodomain.freeyourgadget.gadgetbridge;
 import android.database.sqlite.SQLiteDatabase;
 import android.database.sqlite.SQLiteOpenHelper;
 
+import de.greenrobot.dao.identityscope.IdentityScopeType;
 import nodomain.freeyourgadget.gadgetbridge.database.DBHandler;
 import nodomain.freeyourgadget.gadgetbridge.entities.DaoMaster;
 import nodomain.freeyourgadget.gadgetbridge.entities.DaoSession;
@@ -28,15 +29,25 @@ import nodomain.freeyourgadget.gadgetbridge.entities.DaoSession;
  */
 public class LockHandler implements DBHandler {
 
+    private final boolean readOnly;
     private DaoMaster daoMaster = null;
     private DaoSession session = null;
     private SQLiteOpenHelper helper = null;
 
     public LockHandler() {
+        this(false);
+    }
+
+    /**
+     * @param readOnly whether this handler is handed out for reading only. A read-only handler
+     *                 shares the database of the writable one, and is re-initialized along with it.
+     */
+    public LockHandler(boolean readOnly) {
+        this.readOnly = readOnly;
     }
 
     public void init(DaoMaster daoMaster, DaoMaster.OpenHelper helper) {
-        if (isValid()) {
+        if (isValid() && !readOnly) {
             throw new IllegalStateException("DB must be closed before initializing it again");
         }
         if (daoMaster == null) {
@@ -48,7 +59,8 @@ public class LockHandler implements DBHandler {
         this.daoMaster = daoMaster;
         this.helper = helper;
 
-        session = daoMaster.newSession();
+        // readers run concurrently, so do not share an identity scope between them
+        session = readOnly ? daoMaster.newSession(IdentityScopeType.None) : daoMaster.newSession();
         if (session == null) {
             throw new RuntimeException("Unable to create database session");
         }
@@ -72,11 +84,18 @@ public class LockHandler implements DBHandler {
     @Override
     public void close() {
         ensureValid();
-        GBApplication.releaseDB();
+        if (readOnly) {
+            GBApplication.releaseReadDB();
+        } else {
+            GBApplication.releaseDB();
+        }
     }
 
     @Override
     public synchronized void openDb() {
+        if (readOnly) {
+            throw new UnsupportedOperationException("The database can not be reopened from a read-only handler");
+        }
         if (session != null) {
             throw new IllegalStateException("session must be null");
         }
@@ -86,6 +105,9 @@ public class LockHandler implements DBHandler {
 
     @Override
     public synchronized void closeDb() {
+        if (readOnly) {
+            throw new UnsupportedOperationException("The database can not be closed from a read-only handler");
+        }
         if (session == null) {
             throw new IllegalStateException("session must not be null");
         }
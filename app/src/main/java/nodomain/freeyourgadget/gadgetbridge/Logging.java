@@ -29,6 +29,8 @@ import org.slf4j.LoggerFactory;
 import java.io.IOException;
 import java.util.Locale;
 
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
 import ch.qos.logback.classic.LoggerContext;
 import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
 import ch.qos.logback.classic.spi.ILoggingEvent;
@@ -45,10 +47,14 @@ public abstract class Logging {
     // Only used for tests
     public static final String PROP_LOGFILES_DIR = "GB_LOGFILES_DIR";
 
+    // Events waiting to be written to the file, see createAsyncAppender
+    private static final int ASYNC_QUEUE_SIZE = 4096;
+
     private String logDirectory;
-    private FileAppender<ILoggingEvent> fileLogger;
+    private volatile FileAppender<ILoggingEvent> fileLogger;
+    private AsyncAppender asyncLogger;
 
-    public void setupLogging(boolean enable) {
+    public synchronized void setupLogging(boolean enable) {
         try {
             if (!isFileLoggerInitialized()) {
                 init();
@@ -95,6 +101,19 @@ public abstract class Logging {
         }
     }
 
+    /**
+     * Sets the level of the root logger. By default (see logback.xml), DEBUG and above is logged.
+     * With INFO, DEBUG messages and their arguments are not formatted on the calling thread.
+     */
+    public void setDebugLogging(final boolean debug) {
+        try {
+            final ch.qos.logback.classic.Logger root = (ch.qos.logback.classic.Logger) LoggerFactory.getLogger(Logger.ROOT_LOGGER_NAME);
+            root.setLevel(debug ? Level.DEBUG : Level.INFO);
+        } catch (Throwable ex) {
+            Log.e("GBApplication", "Error setting log level", ex);
+        }
+    }
+
     public boolean isFileLoggerInitialized() {
         return logDirectory != null;
     }
@@ -121,7 +140,7 @@ public abstract class Logging {
         return LoggerFactory.getLogger(Logging.class);
     }
 
-    private void startFileLogger() {
+    private synchronized void startFileLogger() {
         if (fileLogger != null) {
             Log.w("GBApplication", "Logger already started");
             return;
@@ -134,22 +153,43 @@ public abstract class Logging {
 
         final FileAppender fileAppender = createFileAppender(logDirectory);
         fileAppender.start();
-        attachLogger(fileAppender);
+        final AsyncAppender asyncAppender = createAsyncAppender(fileAppender);
+        asyncAppender.start();
+        attachLogger(asyncAppender);
         fileLogger = fileAppender;
+        asyncLogger = asyncAppender;
     }
 
-    void stopFileLogger() {
+    synchronized void stopFileLogger() {
         if (fileLogger == null) {
             return;
         }
 
+        detachLogger(asyncLogger);
+
+        // writes the events that are still queued
+        if (asyncLogger.isStarted()) {
+            asyncLogger.stop();
+        }
         if (fileLogger.isStarted()) {
             fileLogger.stop();
         }
 
-        detachLogger(fileLogger);
-
         fileLogger = null;
+        asyncLogger = null;
+    }
+
+    /**
+     * Writes all queued events to the log file. Since the file is written in the background, this
+     * stops the file logger and starts it again, so it should only be used when the log file is
+     * about to be read.
+     */
+    public synchronized void flush() {
+        if (fileLogger == null) {
+            return;
+        }
+        stopFileLogger();
+        startFileLogger();
     }
 
     private void attachLogger(Appender<ILoggingEvent> logger) {
@@ -194,6 +234,20 @@ public abstract class Logging {
         return builder.toString();
     }
 
+    /**
+     * @return an argument for a log message that is only formatted as hex if the message is logged
+     */
+    @NonNull
+    public static Object lazyHexdump(@Nullable final byte[] bytes) {
+        return new Object() {
+            @NonNull
+            @Override
+            public String toString() {
+                return GB.hexdump(bytes);
+            }
+        };
+    }
+
     public static void logBytes(Logger logger, byte[] value) {
         if (value != null) {
             logger.warn("DATA: " + GB.hexdump(value, 0, value.length));
@@ -231,4 +285,24 @@ public abstract class Logging {
 
         return fileAppender;
     }
+
+    /**
+     * Wraps the file appender, so that the threads that log never wait for the file to be written.
+     * If the file can not keep up, TRACE, DEBUG and INFO events are dropped once the queue is 80%
+     * full, and all events are dropped once it is full, instead of blocking the logging thread.
+     */
+    private static AsyncAppender createAsyncAppender(final Appender<ILoggingEvent> fileAppender) {
+        final LoggerContext lc = (LoggerContext) LoggerFactory.getILoggerFactory();
+
+        final AsyncAppender asyncAppender = new AsyncAppender();
+        asyncAppender.setContext(lc);
+        asyncAppender.setName("ASYNC_FILE");
+        asyncAppender.setQueueSize(ASYNC_QUEUE_SIZE);
+        asyncAppender.setDiscardingThreshold(ASYNC_QUEUE_SIZE / 5);
+        asyncAppender.setNeverBlock(true);
+        asyncAppender.setMaxFlushTime(1000);
+        asyncAppender.addAppender(fileAppender);
+
+        return asyncAppender;
+    }
 }
@@ -42,9 +42,14 @@ import androidx.preference.PreferenceFragmentCompat;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
 import nodomain.freeyourgadget.gadgetbridge.GBApplication;
 import nodomain.freeyourgadget.gadgetbridge.R;
 import nodomain.freeyourgadget.gadgetbridge.devices.DeviceManager;
+import nodomain.freeyourgadget.gadgetbridge.model.DailyTotals;
 
 public class AboutUserPreferencesActivity extends AbstractSettingsActivityV2 {
     private static final Logger LOG = LoggerFactory.getLogger(AboutUserPreferencesActivity.class);
@@ -55,6 +60,15 @@ public class AboutUserPreferencesActivity extends AbstractSettingsActivityV2 {
     }
 
     public static class AboutUserPreferencesFragment extends AbstractPreferenceFragment {
+        // the profile the pre-computed daily totals may depend on
+        private static final Set<String> DAILY_TOTALS_PREFS = new HashSet<>(Arrays.asList(
+                PREF_USER_DATE_OF_BIRTH,
+                PREF_USER_HEIGHT_CM,
+                PREF_USER_WEIGHT_KG,
+                PREF_USER_GENDER,
+                PREF_USER_STEP_LENGTH_CM
+        ));
+
         @Override
         public void onCreatePreferences(final Bundle savedInstanceState, final String rootKey) {
             setPreferencesFromResource(R.xml.about_user, rootKey);
@@ -101,6 +115,15 @@ public class AboutUserPreferencesActivity extends AbstractSettingsActivityV2 {
             }
 
             pref.setOnPreferenceChangeListener((preference, newVal) -> {
+                if (DAILY_TOTALS_PREFS.contains(prefKey)) {
+                    new Thread(() -> {
+                        try {
+                            DailyTotals.clearRollups();
+                        } catch (final Exception e) {
+                            LOG.error("Failed to clear daily totals", e);
+                        }
+                    }, "ClearDailyTotals").start();
+                }
                 if (sendToDevice) {
                     GBApplication.deviceService().onSendConfiguration(prefKey);
                 }
@@ -42,7 +42,6 @@ import org.slf4j.LoggerFactory;
 import java.io.File;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 import nodomain.freeyourgadget.gadgetbridge.R;
 import nodomain.freeyourgadget.gadgetbridge.activities.charts.AbstractActivityChartFragment;
@@ -55,8 +54,8 @@ import nodomain.freeyourgadget.gadgetbridge.activities.maps.MapsTrackViewModel;
 import nodomain.freeyourgadget.gadgetbridge.database.DBAccess;
 import nodomain.freeyourgadget.gadgetbridge.database.DBHandler;
 import nodomain.freeyourgadget.gadgetbridge.impl.GBDevice;
-import nodomain.freeyourgadget.gadgetbridge.model.ActivityPoint;
 import nodomain.freeyourgadget.gadgetbridge.model.ActivitySample;
+import nodomain.freeyourgadget.gadgetbridge.util.ActivityTrackStore;
 
 
 public class ActivitySummariesChartFragment extends AbstractActivityChartFragment<ChartsData> {
@@ -221,22 +220,19 @@ public class ActivitySummariesChartFragment extends AbstractActivityChartFragmen
             super(task, context);
         }
 
+        @Override
+        protected boolean isReadOnly() {
+            return true;
+        }
+
         @Override
         protected void doInBackground(DBHandler handler) {
             final DefaultChartsData<?> dcd;
             final DefaultChartsData<LineData> activitySamplesData = buildChartFromSamples(handler);
 
-            if (trackFile != null) {
-                final List<ActivityPoint> activityPoints = MapsTrackViewModel.Companion.getActivityPoints(trackFile)
-                        .stream()
-                        .filter(ap -> ap.getHeartRate() > 0)
-                        .collect(Collectors.toList());
-
-                if (!activityPoints.isEmpty()) {
-                    dcd = buildHeartRateChart(activityPoints, activitySamplesData);
-                } else {
-                    dcd = activitySamplesData;
-                }
+            final ActivityTrackStore.Track track = trackFile != null ? MapsTrackViewModel.Companion.getTrack(trackFile) : null;
+            if (track != null && hasHeartRate(track)) {
+                dcd = buildHeartRateChart(track, activitySamplesData);
             } else {
                 dcd = activitySamplesData;
             }
@@ -268,7 +264,16 @@ public class ActivitySummariesChartFragment extends AbstractActivityChartFragmen
             return null;
         }
 
-        private DefaultChartsData<LineData> buildHeartRateChart(final List<ActivityPoint> activityPoints,
+        private boolean hasHeartRate(final ActivityTrackStore.Track track) {
+            for (int i = 0; i < track.size(); i++) {
+                if (track.getHeartRate(i) > 0) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private DefaultChartsData<LineData> buildHeartRateChart(final ActivityTrackStore.Track track,
                                                                 final DefaultChartsData<LineData> activitySamplesData) {
             // If we have data from activity samples, we need to use the same TimestampTranslation so
             // that the HR chart is aligned
@@ -286,13 +291,17 @@ public class ActivitySummariesChartFragment extends AbstractActivityChartFragmen
                 tsTranslation = new TimestampTranslation();
             }
 
-            final List<Entry> heartRateEntries = new ArrayList<>(activityPoints.size());
+            final List<Entry> heartRateEntries = new ArrayList<>(track.size());
             final List<ILineDataSet> heartRateDataSets = new ArrayList<>();
             int lastTsShorten = 0;
-            for (final ActivityPoint activityPoint : activityPoints) {
-                int tsShorten = tsTranslation.shorten((int) (activityPoint.getTime().getTime() / 1000));
+            for (int i = 0; i < track.size(); i++) {
+                final int heartRate = track.getHeartRate(i);
+                if (heartRate <= 0) {
+                    continue;
+                }
+                int tsShorten = tsTranslation.shorten((int) (track.getTime(i) / 1000));
                 if (lastTsShorten == 0 || (tsShorten - lastTsShorten) <= 60 * HeartRateUtils.MAX_HR_MEASUREMENTS_GAP_MINUTES) {
-                    heartRateEntries.add(new Entry(tsShorten, activityPoint.getHeartRate()));
+                    heartRateEntries.add(new Entry(tsShorten, heartRate));
                 } else {
                     if (!heartRateEntries.isEmpty()) {
                         List<Entry> clone = new ArrayList<>(heartRateEntries.size());
@@ -302,7 +311,7 @@ public class ActivitySummariesChartFragment extends AbstractActivityChartFragmen
                     }
                 }
                 lastTsShorten = tsShorten;
-                heartRateEntries.add(new Entry(tsShorten, activityPoint.getHeartRate()));
+                heartRateEntries.add(new Entry(tsShorten, heartRate));
             }
             if (!heartRateEntries.isEmpty()) {
                 heartRateDataSets.add(createHeartrateSet(heartRateEntries, "Heart Rate"));
@@ -50,6 +50,8 @@ import nodomain.freeyourgadget.gadgetbridge.activities.files.FileManagerActivity
 import nodomain.freeyourgadget.gadgetbridge.database.DBHandler;
 import nodomain.freeyourgadget.gadgetbridge.database.DBHelper;
 import nodomain.freeyourgadget.gadgetbridge.entities.Device;
+import nodomain.freeyourgadget.gadgetbridge.impl.GBDevice;
+import nodomain.freeyourgadget.gadgetbridge.model.DailyTotals;
 import nodomain.freeyourgadget.gadgetbridge.util.AndroidUtils;
 import nodomain.freeyourgadget.gadgetbridge.util.FileUtils;
 import nodomain.freeyourgadget.gadgetbridge.util.GB;
@@ -142,6 +144,9 @@ public class DataManagementActivity extends AbstractGBActivity {
             startActivity(fileManagerIntent);
         });
 
+        Button rebuildDailyTotalsButton = findViewById(R.id.rebuildDailyTotalsButton);
+        rebuildDailyTotalsButton.setOnClickListener(v -> rebuildDailyTotals());
+
         sharedPrefs = PreferenceManager.getDefaultSharedPreferences(this);
     }
 
@@ -226,7 +231,7 @@ public class DataManagementActivity extends AbstractGBActivity {
                 .setPositiveButton(R.string.activity_DB_ExportButton, new DialogInterface.OnClickListener() {
                     @Override
                     public void onClick(DialogInterface dialog, int which) {
-                        try (DBHandler dbHandler = GBApplication.acquireDB()) {
+                        try (DBHandler dbHandler = GBApplication.acquireExclusiveDB()) {
                             exportShared();
                             DBHelper helper = new DBHelper(DataManagementActivity.this);
                             File dir = FileUtils.getExternalFilesDir();
@@ -254,7 +259,7 @@ public class DataManagementActivity extends AbstractGBActivity {
                 .setPositiveButton(R.string.dbmanagementactivity_overwrite, new DialogInterface.OnClickListener() {
                     @Override
                     public void onClick(DialogInterface dialog, int which) {
-                        try (DBHandler dbHandler = GBApplication.acquireDB()) {
+                        try (DBHandler dbHandler = GBApplication.acquireExclusiveDB()) {
                             DBHelper helper = new DBHelper(DataManagementActivity.this);
                             File dir = FileUtils.getExternalFilesDir();
                             SQLiteOpenHelper sqLiteOpenHelper = dbHandler.getHelper();
@@ -276,6 +281,29 @@ public class DataManagementActivity extends AbstractGBActivity {
                 .show();
     }
 
+    private void rebuildDailyTotals() {
+        new MaterialAlertDialogBuilder(this)
+                .setCancelable(true)
+                .setIcon(R.drawable.ic_warning)
+                .setTitle(R.string.dbmanagementactivity_rebuild_daily_totals_title)
+                .setMessage(R.string.dbmanagementactivity_rebuild_daily_totals_confirmation)
+                .setPositiveButton(R.string.ok, (dialog, which) -> new Thread(() -> {
+                    try {
+                        for (GBDevice device : GBApplication.app().getDeviceManager().getDevices()) {
+                            if (device.getDeviceCoordinator().supportsActivityTracking(device)) {
+                                DailyTotals.rebuildRollup(device);
+                            }
+                        }
+                        GB.toast(getString(R.string.dbmanagementactivity_rebuild_daily_totals_finished), Toast.LENGTH_LONG, GB.INFO);
+                    } catch (Exception ex) {
+                        GB.toast(getString(R.string.dbmanagementactivity_error_rebuilding_daily_totals, ex.getLocalizedMessage()), Toast.LENGTH_LONG, GB.ERROR, ex);
+                    }
+                }, "RebuildDailyTotals").start())
+                .setNegativeButton(R.string.Cancel, (dialog, which) -> {
+                })
+                .show();
+    }
+
     @Override
     public boolean onOptionsItemSelected(MenuItem item) {
         if (item.getItemId() == android.R.id.home) {
@@ -186,6 +186,14 @@ public class SettingsActivity extends AbstractSettingsActivityV2 {
                 }
             }
 
+            pref = findPreference("log_debug");
+            if (pref != null) {
+                pref.setOnPreferenceChangeListener((preference, newVal) -> {
+                    GBApplication.getLogging().setDebugLogging(Boolean.TRUE.equals(newVal));
+                    return true;
+                });
+            }
+
             pref = findPreference(PREF_LANGUAGE);
             if (pref != null) {
                 pref.setOnPreferenceChangeListener((preference, newVal) -> {
@@ -22,12 +22,13 @@ import android.content.BroadcastReceiver;
 import android.content.Context;
 import android.content.Intent;
 import android.content.IntentFilter;
-import android.os.AsyncTask;
 import android.os.Bundle;
 import android.os.Handler;
 import android.text.format.DateUtils;
 import android.view.View;
+import android.widget.Toast;
 
+import androidx.annotation.Nullable;
 import androidx.fragment.app.FragmentActivity;
 import androidx.localbroadcastmanager.content.LocalBroadcastManager;
 
@@ -39,17 +40,20 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.text.SimpleDateFormat;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Date;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.TreeSet;
 
 import nodomain.freeyourgadget.gadgetbridge.R;
 import nodomain.freeyourgadget.gadgetbridge.activities.AbstractGBFragment;
-import nodomain.freeyourgadget.gadgetbridge.database.DBAccess;
 import nodomain.freeyourgadget.gadgetbridge.database.DBHandler;
 import nodomain.freeyourgadget.gadgetbridge.impl.GBDevice;
 import nodomain.freeyourgadget.gadgetbridge.util.DateTimeUtils;
+import nodomain.freeyourgadget.gadgetbridge.util.GB;
 
 /**
  * A base class fragment to be used with ChartsActivity. The fragment can supply
@@ -58,7 +62,8 @@ import nodomain.freeyourgadget.gadgetbridge.util.DateTimeUtils;
  * The chart can be refreshed by calling #refresh()
  * Implement refreshInBackground(DBHandler, GBDevice) to fetch the samples from the DB,
  * and add the samples to the chart. The actual rendering, which must be performed in the UI
- * thread, must be done in #renderCharts().
+ * thread, must be done in #renderCharts(). Charts whose data only depends on the date range
+ * can opt in to caching their data and prefetching the neighbouring ranges with #canReuseChartData().
  * Access functionality of the hosting activity with #getHost()
  * <p/>
  * The hosting ChartsHost activity provides a section for displaying a date or date range
@@ -84,10 +89,27 @@ public abstract class AbstractChartFragment<D extends ChartsData> extends Abstra
         }
     };
 
+    // Date offsets, in days, of the ranges to prefetch, in order
+    private static final int[] PREFETCH_OFFSETS = {-1, +1, -7, +7};
+
     private final Handler loadingHandler = new Handler();
 
     private boolean mChartDirty = true;
-    private AsyncTask refreshTask;
+    private final ChartDataLoader<D> mLoader = new ChartDataLoader<>(
+            (host, db) -> refreshInBackground(host, db, host.getDevice()),
+            this::getCacheKey,
+            new ChartDataLoader.Callback<D>() {
+                @Override
+                public void onLoaded(final ChartsHost host, final D chartsData) {
+                    onDataLoaded(chartsData);
+                }
+
+                @Override
+                public void onError(final Exception e) {
+                    onDataLoadFailed(e);
+                }
+            }
+    );
 
     protected AbstractChartFragment(String... intentFilterActions) {
         mIntentFilterActions = new HashSet<>();
@@ -115,9 +137,33 @@ public abstract class AbstractChartFragment<D extends ChartsData> extends Abstra
      * This method reads the data from the database, analyzes and prepares it for
      * the charts. This will be called from a background task, so there must not be
      * any UI access. #updateChartsInUIThread and #renderCharts will be automatically called after this method.
+     * <p>
+     * The date range to load is the one of the given host, which is also returned by #getChartsHost()
+     * while loading. Long running implementations should call #throwIfCancelled() regularly.
      */
     protected abstract D refreshInBackground(ChartsHost chartsHost, DBHandler db, GBDevice device);
 
+    /**
+     * Whether the data returned by #refreshInBackground can be cached, and the data of the
+     * neighbouring date ranges loaded in advance. This requires #refreshInBackground to depend
+     * only on the device, the date range and the fragment arguments, and to not modify any state
+     * of the fragment - everything needed for rendering must be in the returned data, which
+     * must not be modified when rendering.
+     */
+    protected boolean canReuseChartData() {
+        return false;
+    }
+
+    /**
+     * Stops #refreshInBackground early if its result is not needed anymore, because another
+     * date range was requested meanwhile.
+     *
+     * @throws java.util.concurrent.CancellationException if the current load was cancelled
+     */
+    protected static void throwIfCancelled() {
+        ChartDataLoader.throwIfCancelled();
+    }
+
     /**
      * Triggers the actual (re-) rendering of the chart.
      * Always called from the UI thread.
@@ -144,6 +190,7 @@ public abstract class AbstractChartFragment<D extends ChartsData> extends Abstra
     @Override
     public void onDestroy() {
         loadingHandler.removeCallbacksAndMessages(null);
+        mLoader.cancel();
         super.onDestroy();
         LocalBroadcastManager.getInstance(requireActivity()).unregisterReceiver(mReceiver);
     }
@@ -165,6 +212,10 @@ public abstract class AbstractChartFragment<D extends ChartsData> extends Abstra
     }
 
     protected ChartsHost getChartsHost() {
+        final ChartsHost loadingHost = mLoader.getLoadingHost();
+        if (loadingHost != null) {
+            return loadingHost;
+        }
         return (ChartsHost) requireActivity();
     }
 
@@ -244,8 +295,7 @@ public abstract class AbstractChartFragment<D extends ChartsData> extends Abstra
     }
 
     /**
-     * Default implementation shifts the dates by one day, if visible
-     * and calls #refreshIfVisible().
+     * Default implementation shifts the dates by the offset and reloads the chart, if visible.
      *
      * @param startDate the start date
      * @param endDate   the end date
@@ -258,13 +308,8 @@ public abstract class AbstractChartFragment<D extends ChartsData> extends Abstra
             }
 
             updateDateInfo(getStartDate(), getEndDate());
-        }
-        refreshIfVisible();
-    }
-
-    private void refreshIfVisible() {
-        if (isResumed()) {
-            refresh();
+            // only the date changed, so prefetched data can be used
+            load();
         } else {
             mChartDirty = true;
         }
@@ -332,6 +377,11 @@ public abstract class AbstractChartFragment<D extends ChartsData> extends Abstra
      * #renderCharts
      */
     protected void refresh() {
+        mLoader.invalidate();
+        load();
+    }
+
+    private void load() {
         LOG.info("Refreshing data for {} from {} to {}", getTitle(), sdf.format(getStartDate()), sdf.format(getEndDate()));
 
         ChartsHost chartsHost = getChartsHost();
@@ -340,57 +390,78 @@ public abstract class AbstractChartFragment<D extends ChartsData> extends Abstra
                 // Delay the loading slightly to prevent quick flashes on fast loading
                 loadingHandler.postDelayed(() -> chartsHost.setLoading(true), 300L);
                 mChartDirty = false;
-                if (refreshTask != null && refreshTask.getStatus() != AsyncTask.Status.FINISHED) {
-                    refreshTask.cancel(true);
-                }
-                refreshTask = createRefreshTask("Visualizing data", getActivity()).execute();
+                mLoader.load(new ChartsHostSnapshot(chartsHost, getStartDate(), getEndDate()));
             }
         }
     }
 
-    private RefreshTask createRefreshTask(final String task, final Context context) {
-        return new RefreshTask(task, context);
-    }
+    private void onDataLoaded(final D chartsData) {
+        final FragmentActivity activity = getActivity();
+        if (activity == null || activity.isFinishing() || activity.isDestroyed()) {
+            LOG.info("Not rendering charts because activity is not available anymore");
+            return;
+        }
 
-    @SuppressLint("StaticFieldLeak")
-    private final class RefreshTask extends DBAccess {
-        private D chartsData;
+        loadingHandler.removeCallbacksAndMessages(null);
+        getChartsHost().setLoading(false);
+
+        updateChartsnUIThread(chartsData);
+        renderCharts();
 
-        public RefreshTask(final String task, final Context context) {
-            super(task, context);
+        if (canReuseChartData() && isResumed()) {
+            mLoader.prefetch(getPrefetchRanges());
         }
+    }
 
-        @Override
-        protected void doInBackground(final DBHandler db) {
-            final ChartsHost chartsHost = getChartsHost();
-            if (chartsHost != null) {
-                chartsData = refreshInBackground(chartsHost, db, chartsHost.getDevice());
-            } else {
-                cancel(true);
-            }
+    private void onDataLoadFailed(final Exception e) {
+        final FragmentActivity activity = getActivity();
+        if (activity == null || activity.isFinishing() || activity.isDestroyed()) {
+            return;
         }
 
-        @Override
-        protected void onPostExecute(final Object o) {
-            super.onPostExecute(o);
-            final FragmentActivity activity = getActivity();
-            if (activity == null || activity.isFinishing() || activity.isDestroyed()) {
-                LOG.info("Not rendering charts because activity is not available anymore");
-                return;
-            }
+        loadingHandler.removeCallbacksAndMessages(null);
+        getChartsHost().setLoading(false);
 
-            loadingHandler.removeCallbacksAndMessages(null);
-            getChartsHost().setLoading(false);
+        // we will have no data, so do not render anything to avoid NPE crashes
+        GB.toast(activity, activity.getString(R.string.dbaccess_error_executing, e.getLocalizedMessage()), Toast.LENGTH_LONG, GB.ERROR, e);
+    }
 
-            if (getTaskError() != null) {
-                // Async task failed - we will have no data, so avoid NPE crashes
-                // a log + toast were already displayed by the DBAccess class
-                return;
+    @Nullable
+    private ChartDataCache.Key getCacheKey(final ChartsHostSnapshot host) {
+        if (!canReuseChartData() || host.getDevice() == null) {
+            return null;
+        }
+        // the arguments distinguish instances of the same chart, such as the week and month charts
+        final StringBuilder chart = new StringBuilder(getClass().getName());
+        final Bundle arguments = getArguments();
+        if (arguments != null) {
+            for (final String key : new TreeSet<>(arguments.keySet())) {
+                chart.append(';').append(key).append('=').append(arguments.get(key));
             }
+        }
+        return new ChartDataCache.Key(
+                host.getDevice().getAddress(),
+                chart.toString(),
+                host.getStartDate().getTime(),
+                host.getEndDate().getTime()
+        );
+    }
 
-            updateChartsnUIThread(chartsData);
-            renderCharts();
+    /**
+     * The ranges that the previous / next day and week buttons would navigate to. Ranges that
+     * would be clamped to the current time are skipped, since they can not be known in advance.
+     */
+    private List<ChartsHostSnapshot> getPrefetchRanges() {
+        final List<ChartsHostSnapshot> ranges = new ArrayList<>(PREFETCH_OFFSETS.length);
+        final Date now = new Date();
+        for (final int offset : PREFETCH_OFFSETS) {
+            final Date start = DateTimeUtils.shiftByDays(getStartDate(), offset);
+            final Date end = DateTimeUtils.shiftByDays(getEndDate(), offset);
+            if (!end.after(now)) {
+                ranges.add(new ChartsHostSnapshot(getChartsHost(), start, end));
+            }
         }
+        return ranges;
     }
 
     /**
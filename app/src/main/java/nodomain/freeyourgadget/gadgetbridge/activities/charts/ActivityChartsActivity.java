@@ -50,6 +50,9 @@ import androidx.viewpager2.widget.ViewPager2;
 import com.google.android.material.tabs.TabLayout;
 import com.google.android.material.tabs.TabLayoutMediator;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 import java.text.SimpleDateFormat;
 import java.util.Calendar;
 import java.util.Collections;
@@ -64,13 +67,13 @@ import nodomain.freeyourgadget.gadgetbridge.activities.AbstractGBActivity;
 import nodomain.freeyourgadget.gadgetbridge.activities.AbstractGBFragment;
 import nodomain.freeyourgadget.gadgetbridge.devices.DeviceCoordinator;
 import nodomain.freeyourgadget.gadgetbridge.impl.GBDevice;
-import nodomain.freeyourgadget.gadgetbridge.model.ActivityAmounts;
 import nodomain.freeyourgadget.gadgetbridge.model.RecordedDataTypes;
 import nodomain.freeyourgadget.gadgetbridge.util.DateTimeUtils;
 import nodomain.freeyourgadget.gadgetbridge.util.GB;
-import nodomain.freeyourgadget.gadgetbridge.util.LimitedQueue;
 
 public class ActivityChartsActivity extends AbstractGBActivity implements ChartsHost {
+    private static final Logger LOG = LoggerFactory.getLogger(ActivityChartsActivity.class);
+
     public static final String STATE_START_DATE = "stateStartDate";
     public static final String STATE_END_DATE = "stateEndDate";
 
@@ -87,7 +90,6 @@ public class ActivityChartsActivity extends AbstractGBActivity implements Charts
     private Date mStartDate;
     private Date mEndDate;
     private SwipeRefreshLayout swipeLayout;
-    LimitedQueue<Integer, ActivityAmounts> mActivityAmountCache = new LimitedQueue<>(60);
 
     List<String> enabledTabsList;
 
@@ -96,6 +98,8 @@ public class ActivityChartsActivity extends AbstractGBActivity implements Charts
 
     private ActivityResultLauncher<Intent> chartsPreferencesLauncher;
     private final ActivityResultCallback<ActivityResult> chartsPreferencesCallback = result -> {
+        // the cached chart data may depend on the preferences
+        ChartDataCache.getInstance().clear();
         recreate();
     };
 
@@ -321,9 +325,19 @@ public class ActivityChartsActivity extends AbstractGBActivity implements Charts
     @Override
     protected void onDestroy() {
         LocalBroadcastManager.getInstance(this).unregisterReceiver(mReceiver);
+        LOG.debug("Chart data cache: {}", ChartDataCache.getInstance());
         super.onDestroy();
     }
 
+    @Override
+    public void onTrimMemory(final int level) {
+        super.onTrimMemory(level);
+        if (level >= TRIM_MEMORY_BACKGROUND || level == TRIM_MEMORY_RUNNING_LOW || level == TRIM_MEMORY_RUNNING_CRITICAL) {
+            LOG.debug("Clearing chart data cache, trim memory level {}", level);
+            ChartDataCache.getInstance().clear();
+        }
+    }
+
     @Override
     public boolean onCreateOptionsMenu(Menu menu) {
         super.onCreateOptionsMenu(menu);
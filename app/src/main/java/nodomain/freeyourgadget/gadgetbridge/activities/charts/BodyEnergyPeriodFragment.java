@@ -140,6 +140,7 @@ public class BodyEnergyPeriodFragment extends AbstractChartFragment<BodyEnergyPe
 
         List<BodyEnergyDayData> result = new ArrayList<>();
         for (int i = 0; i < TOTAL_DAYS; i++) {
+            throwIfCancelled();
             BodyEnergyDayData dayData = fetchBodyEnergyDataForDay(db, device, startTs + i * SEC_PER_DAY);
             result.add(dayData);
         }
@@ -1,7 +1,5 @@
 package nodomain.freeyourgadget.gadgetbridge.activities.charts;
 
-import android.app.Activity;
-
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -16,11 +14,9 @@ import nodomain.freeyourgadget.gadgetbridge.devices.DefaultRestingMetabolicRateP
 import nodomain.freeyourgadget.gadgetbridge.devices.SampleProvider;
 import nodomain.freeyourgadget.gadgetbridge.devices.TimeSampleProvider;
 import nodomain.freeyourgadget.gadgetbridge.impl.GBDevice;
-import nodomain.freeyourgadget.gadgetbridge.model.ActivityAmount;
-import nodomain.freeyourgadget.gadgetbridge.model.ActivityAmounts;
 import nodomain.freeyourgadget.gadgetbridge.model.ActivitySample;
+import nodomain.freeyourgadget.gadgetbridge.model.DailyTotals;
 import nodomain.freeyourgadget.gadgetbridge.model.RestingMetabolicRateSample;
-import nodomain.freeyourgadget.gadgetbridge.util.LimitedQueue;
 
 abstract class CaloriesFragment<T extends ChartsData> extends AbstractChartFragment<T> {
     protected static final Logger LOG = LoggerFactory.getLogger(CaloriesFragment.class);
@@ -50,21 +46,16 @@ abstract class CaloriesFragment<T extends ChartsData> extends AbstractChartFragm
         RestingMetabolicRateSample metabolicRate = getRestingMetabolicRate(db, device);
         int restingCalories = metabolicRate.getRestingMetabolicRate();
 
-        day = (Calendar) day.clone(); // do not modify the caller's argument
-        day.add(Calendar.DATE, -TOTAL_DAYS + 1);
+        Calendar firstDay = (Calendar) day.clone(); // do not modify the caller's argument
+        firstDay.add(Calendar.DATE, -TOTAL_DAYS + 1);
 
+        List<DailyTotals> dailyTotals = DailyTotals.getDailyTotalsForDevice(device, firstDay, day, db);
         List<CaloriesDay> daysData = new ArrayList<>();
-        for (int counter = 0; counter < TOTAL_DAYS; counter++) {
-            long activeCalories = 0;
-            ActivityAmounts amounts = getActivityAmountsForDay(db, day, device);
-            for (ActivityAmount amount : amounts.getAmounts()) {
-                if (amount.getTotalActiveCalories() > 0) {
-                    activeCalories += amount.getTotalActiveCalories() / 1000;
-                }
-            }
-            Calendar d = (Calendar) day.clone();
+        for (int counter = 0; counter < dailyTotals.size(); counter++) {
+            long activeCalories = Math.max(0, dailyTotals.get(counter).getActiveCalories()) / 1000;
+            Calendar d = (Calendar) firstDay.clone();
+            d.add(Calendar.DATE, counter);
             daysData.add(new CaloriesDay(d, activeCalories, restingCalories));
-            day.add(Calendar.DATE, 1);
         }
         return daysData;
     }
@@ -79,28 +70,6 @@ abstract class CaloriesFragment<T extends ChartsData> extends AbstractChartFragm
         return defaultProvider.getLatestSample();
     }
 
-    protected ActivityAmounts getActivityAmountsForDay(DBHandler db, Calendar day, GBDevice device) {
-        LimitedQueue<Integer, ActivityAmounts> activityAmountCache = null;
-        ActivityAmounts amounts = null;
-
-        Activity activity = getActivity();
-        int key = (int) (day.getTimeInMillis() / 1000);
-        if (activity != null) {
-            activityAmountCache = ((ActivityChartsActivity) activity).mActivityAmountCache;
-            amounts = activityAmountCache.lookup(key);
-        }
-
-        if (amounts == null) {
-            ActivityAnalysis analysis = new ActivityAnalysis();
-            amounts = analysis.calculateActivityAmounts(getSamplesOfDay(db, day, 0, device));
-            if (activityAmountCache != null) {
-                activityAmountCache.add(key, amounts);
-            }
-        }
-
-        return amounts;
-    }
-
     protected List<? extends ActivitySample> getSamplesOfDay(DBHandler db, Calendar day, int offsetHours, GBDevice device) {
         int startTs;
         int endTs;
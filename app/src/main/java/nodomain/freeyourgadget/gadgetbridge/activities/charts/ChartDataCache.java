@@ -0,0 +1,176 @@
+/*  Copyright (C) 2026 Freeyourgadget
+
+    This file is part of Gadgetbridge.
+
+    Gadgetbridge is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published
+    by the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    Gadgetbridge is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>. */
+package nodomain.freeyourgadget.gadgetbridge.activities.charts;
+
+import android.util.LruCache;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.Locale;
+import java.util.Objects;
+
+import nodomain.freeyourgadget.gadgetbridge.database.DeviceDataVersions;
+import nodomain.freeyourgadget.gadgetbridge.model.ActivityAmounts;
+
+/**
+ * An in-memory cache of the data computed for the charts, so that switching tabs or navigating
+ * back to a date range does not query the database again.
+ * <p>
+ * Each entry remembers the {@link DeviceDataVersions version} of the device data it was computed
+ * from, and is only returned while the version did not change. Chart data is only cached for
+ * charts whose data can be reused, see {@link AbstractChartFragment#canReuseChartData()}.
+ * <p>
+ * Thread-safe. Chart data and activity amounts are bounded separately, since the former can be
+ * much larger.
+ */
+final class ChartDataCache {
+    private static final int MAX_CHARTS_DATA = 24;
+    private static final int MAX_ACTIVITY_AMOUNTS = 400;
+
+    private static final ChartDataCache INSTANCE = new ChartDataCache();
+
+    private final LruCache<Key, Entry<ChartsData>> chartsData = new LruCache<>(MAX_CHARTS_DATA);
+    private final LruCache<Key, Entry<ActivityAmounts>> activityAmounts = new LruCache<>(MAX_ACTIVITY_AMOUNTS);
+
+    static ChartDataCache getInstance() {
+        return INSTANCE;
+    }
+
+    private ChartDataCache() {
+    }
+
+    @Nullable
+    ChartsData getChartsData(final Key key) {
+        return get(chartsData, key);
+    }
+
+    /**
+     * Whether up to date data is cached for the key.
+     */
+    boolean containsChartsData(final Key key) {
+        final Entry<ChartsData> entry = chartsData.get(key);
+        return entry != null && entry.version == DeviceDataVersions.get(key.deviceAddress);
+    }
+
+    /**
+     * @param version the version of the device data at the time the data was read, see {@link DeviceDataVersions}
+     */
+    void putChartsData(final Key key, final ChartsData data, final long version) {
+        put(chartsData, key, data, version);
+    }
+
+    @Nullable
+    ActivityAmounts getActivityAmounts(final Key key) {
+        return get(activityAmounts, key);
+    }
+
+    void putActivityAmounts(final Key key, final ActivityAmounts amounts, final long version) {
+        put(activityAmounts, key, amounts, version);
+    }
+
+    void clear() {
+        chartsData.evictAll();
+        activityAmounts.evictAll();
+    }
+
+    private <T> T get(final LruCache<Key, Entry<T>> cache, final Key key) {
+        final Entry<T> entry = cache.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.version != DeviceDataVersions.get(key.deviceAddress)) {
+            cache.remove(key);
+            return null;
+        }
+        return entry.value;
+    }
+
+    private <T> void put(final LruCache<Key, Entry<T>> cache, final Key key, final T value, final long version) {
+        if (version != DeviceDataVersions.get(key.deviceAddress)) {
+            // the data changed meanwhile, so this is already stale
+            return;
+        }
+        cache.put(key, new Entry<>(value, version));
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+        return String.format(
+                Locale.ROOT,
+                "ChartDataCache{chartsData=%d, activityAmounts=%d}",
+                chartsData.size(),
+                activityAmounts.size()
+        );
+    }
+
+    /**
+     * Identifies the data of a chart for a device and time range.
+     */
+    static final class Key {
+        private final String deviceAddress;
+        private final String chart;
+        private final long from;
+        private final long to;
+
+        /**
+         * @param chart identifies the chart and its configuration, such as the number of days shown
+         * @param from  the start of the time range, in any unit
+         * @param to    the end of the time range, in the same unit as from
+         */
+        Key(final String deviceAddress, final String chart, final long from, final long to) {
+            this.deviceAddress = deviceAddress;
+            this.chart = chart;
+            this.from = from;
+            this.to = to;
+        }
+
+        String getDeviceAddress() {
+            return deviceAddress;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            final Key key = (Key) o;
+            return from == key.from && to == key.to && deviceAddress.equals(key.deviceAddress) && chart.equals(key.chart);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(deviceAddress, chart, from, to);
+        }
+
+        @NonNull
+        @Override
+        public String toString() {
+            return "Key{" + chart + ", " + from + ".." + to + "}";
+        }
+    }
+
+    private static final class Entry<T> {
+        private final T value;
+        private final long version;
+
+        private Entry(final T value, final long version) {
+            this.value = value;
+            this.version = version;
+        }
+    }
+}
@@ -0,0 +1,309 @@
+/*  Copyright (C) 2026 Freeyourgadget
+
+    This file is part of Gadgetbridge.
+
+    Gadgetbridge is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published
+    by the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    Gadgetbridge is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>. */
+package nodomain.freeyourgadget.gadgetbridge.activities.charts;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.os.Process;
+
+import androidx.annotation.Nullable;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import nodomain.freeyourgadget.gadgetbridge.GBApplication;
+import nodomain.freeyourgadget.gadgetbridge.database.DBHandler;
+import nodomain.freeyourgadget.gadgetbridge.database.DeviceDataVersions;
+
+/**
+ * Loads the data of a chart in the background, on a small executor shared by all charts.
+ * <p>
+ * Requests are coalesced: at most one load per chart runs at a time, and only the latest
+ * requested range is kept waiting for it, while a load that became stale is cancelled. Since
+ * database queries can not be interrupted, loads must call {@link #throwIfCancelled()} between
+ * expensive steps to stop early.
+ * <p>
+ * Loaded data is kept in the {@link ChartDataCache} for charts that have a cache key, together
+ * with the version of the device data it was read at, and served from there while the data of
+ * the device did not change. Once the requested range was delivered, neighbouring ranges can be
+ * prefetched into the cache, one at a time.
+ * <p>
+ * All methods other than {@link #throwIfCancelled()} must be called from the main thread,
+ * which is also where the callback is invoked.
+ */
+final class ChartDataLoader<D extends ChartsData> {
+    private static final Logger LOG = LoggerFactory.getLogger(ChartDataLoader.class);
+
+    private static final int NUM_THREADS = 2;
+
+    private static final AtomicInteger THREAD_COUNTER = new AtomicInteger(0);
+    private static final ThreadPoolExecutor EXECUTOR = new ThreadPoolExecutor(
+            NUM_THREADS,
+            NUM_THREADS,
+            30,
+            TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(),
+            r -> new Thread(() -> {
+                Process.setThreadPriority(Process.THREAD_PRIORITY_BACKGROUND);
+                r.run();
+            }, "ChartDataLoader-" + THREAD_COUNTER.getAndIncrement())
+    );
+
+    static {
+        EXECUTOR.allowCoreThreadTimeOut(true);
+    }
+
+    private static final ThreadLocal<Request<?>> CURRENT_REQUEST = new ThreadLocal<>();
+
+    interface Source<D> {
+        /**
+         * Loads the data for the date range of the host. Called from a background thread.
+         */
+        D load(ChartsHost host, DBHandler db) throws Exception;
+    }
+
+    interface KeyFactory {
+        /**
+         * @return the key of the data for the date range of the host in the {@link ChartDataCache},
+         * or null if the data must not be cached
+         */
+        @Nullable
+        ChartDataCache.Key getCacheKey(ChartsHostSnapshot host);
+    }
+
+    interface Callback<D> {
+        void onLoaded(ChartsHost host, D data);
+
+        void onError(Exception e);
+    }
+
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+    private final ChartDataCache cache = ChartDataCache.getInstance();
+    private final Source<D> source;
+    private final KeyFactory keyFactory;
+    private final Callback<D> callback;
+
+    @Nullable
+    private Request<D> running;
+    @Nullable
+    private Request<D> pending;
+    private final Deque<ChartsHostSnapshot> prefetchQueue = new ArrayDeque<>();
+
+    ChartDataLoader(final Source<D> source, final KeyFactory keyFactory, final Callback<D> callback) {
+        this.source = source;
+        this.keyFactory = keyFactory;
+        this.callback = callback;
+    }
+
+    /**
+     * Requests the data for the date range of the host, replacing any previous request. If the
+     * data is cached, the callback is invoked before this method returns.
+     */
+    void load(final ChartsHostSnapshot host) {
+        prefetchQueue.clear();
+
+        final ChartDataCache.Key key = keyFactory.getCacheKey(host);
+        final D data = key != null ? getCached(key) : null;
+        if (data != null) {
+            LOG.debug("Using cached data for {}", host);
+            pending = null;
+            if (running != null && !running.prefetch) {
+                running.cancel();
+            }
+            callback.onLoaded(host, data);
+            return;
+        }
+
+        pending = null;
+        if (running != null && !running.cancelled && running.host.equals(host)) {
+            // already being loaded, possibly as a prefetch - just make sure it gets delivered
+            running.prefetch = false;
+            return;
+        }
+        if (running != null) {
+            running.cancel();
+        }
+        pending = new Request<>(this, host, key, false);
+        startNext();
+    }
+
+    /**
+     * Prefetches the data for the date ranges of the hosts into the cache, in order, once nothing
+     * else is being loaded. Ranges whose data can not be cached are ignored.
+     */
+    void prefetch(final List<ChartsHostSnapshot> hosts) {
+        prefetchQueue.clear();
+        prefetchQueue.addAll(hosts);
+        startNext();
+    }
+
+    /**
+     * Cancels the running load and all pending prefetches, because the data in the database may
+     * have changed. Cached data is still used if it is up to date, see {@link DeviceDataVersions}.
+     */
+    void invalidate() {
+        prefetchQueue.clear();
+        if (running != null) {
+            running.cancel();
+        }
+    }
+
+    /**
+     * Cancels all requests. The callback will not be invoked anymore for them.
+     */
+    void cancel() {
+        prefetchQueue.clear();
+        pending = null;
+        if (running != null) {
+            running.cancel();
+        }
+    }
+
+    /**
+     * @return the host being loaded by this loader on the current thread, or null if none
+     */
+    @Nullable
+    ChartsHost getLoadingHost() {
+        final Request<?> request = CURRENT_REQUEST.get();
+        return request != null && request.loader == this ? request.host : null;
+    }
+
+    /**
+     * Aborts the current load if its result is not needed anymore. Does nothing if not called
+     * from a load.
+     *
+     * @throws CancellationException if the load was cancelled
+     */
+    static void throwIfCancelled() {
+        final Request<?> request = CURRENT_REQUEST.get();
+        if (request != null && request.cancelled) {
+            throw new CancellationException("Chart data load for " + request.host + " was cancelled");
+        }
+    }
+
+    @Nullable
+    @SuppressWarnings("unchecked")
+    private D getCached(final ChartDataCache.Key key) {
+        // the key identifies the chart, so the data is always of the type loaded by it
+        return (D) cache.getChartsData(key);
+    }
+
+    private void startNext() {
+        if (running != null) {
+            return;
+        }
+
+        Request<D> next = pending;
+        pending = null;
+        while (next == null && !prefetchQueue.isEmpty()) {
+            final ChartsHostSnapshot host = prefetchQueue.poll();
+            final ChartDataCache.Key key = keyFactory.getCacheKey(host);
+            if (key != null && !cache.containsChartsData(key)) {
+                next = new Request<>(this, host, key, true);
+            }
+        }
+        if (next == null) {
+            return;
+        }
+
+        final Request<D> request = next;
+        running = request;
+        EXECUTOR.execute(() -> run(request));
+    }
+
+    private void run(final Request<D> request) {
+        D data = null;
+        Exception error = null;
+
+        if (!request.cancelled) {
+            CURRENT_REQUEST.set(request);
+            try (DBHandler db = GBApplication.acquireReadDB()) {
+                request.version = DeviceDataVersions.getForReading(request.host.getDevice());
+                data = source.load(request.host, db);
+            } catch (final CancellationException e) {
+                LOG.debug("Load of {} was cancelled", request.host);
+            } catch (final Exception e) {
+                error = e;
+            } finally {
+                CURRENT_REQUEST.remove();
+            }
+        }
+
+        final D result = data;
+        final Exception resultError = error;
+        mainHandler.post(() -> onFinished(request, result, resultError));
+    }
+
+    private void onFinished(final Request<D> request, @Nullable final D data, @Nullable final Exception error) {
+        if (running == request) {
+            running = null;
+        }
+
+        if (request.key != null && data != null) {
+            // even if the request was cancelled meanwhile, the data is complete
+            cache.putChartsData(request.key, data, request.version);
+        }
+
+        if (!request.cancelled) {
+            if (request.prefetch) {
+                if (error != null) {
+                    LOG.warn("Failed to prefetch {}", request.host, error);
+                }
+            } else if (error != null) {
+                LOG.error("Failed to load chart data for {}", request.host, error);
+                callback.onError(error);
+            } else {
+                callback.onLoaded(request.host, data);
+            }
+        }
+
+        startNext();
+    }
+
+    private static final class Request<D extends ChartsData> {
+        private final ChartDataLoader<D> loader;
+        private final ChartsHostSnapshot host;
+        @Nullable
+        private final ChartDataCache.Key key;
+        private boolean prefetch;
+        private volatile boolean cancelled;
+        private volatile long version;
+
+        private Request(final ChartDataLoader<D> loader,
+                        final ChartsHostSnapshot host,
+                        @Nullable final ChartDataCache.Key key,
+                        final boolean prefetch) {
+            this.loader = loader;
+            this.host = host;
+            this.key = key;
+            this.prefetch = prefetch;
+        }
+
+        private void cancel() {
+            cancelled = true;
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/*  Copyright (C) 2026 Freeyourgadget
+
+    This file is part of Gadgetbridge.
+
+    Gadgetbridge is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published
+    by the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    Gadgetbridge is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>. */
+package nodomain.freeyourgadget.gadgetbridge.activities.charts;
+
+import android.view.ViewGroup;
+
+import androidx.annotation.NonNull;
+
+import java.util.Date;
+import java.util.Objects;
+
+import nodomain.freeyourgadget.gadgetbridge.impl.GBDevice;
+
+/**
+ * A {@link ChartsHost} with a fixed date range, so that chart data can be loaded in the
+ * background for a range other than the one being displayed, and is not affected by the
+ * user navigating meanwhile. Everything else is delegated to the actual host.
+ * <p>
+ * Snapshots are equal if they are for the same date range.
+ */
+final class ChartsHostSnapshot implements ChartsHost {
+    private final ChartsHost host;
+    private final long startMillis;
+    private final long endMillis;
+
+    ChartsHostSnapshot(final ChartsHost host, final Date startDate, final Date endDate) {
+        this.host = host instanceof ChartsHostSnapshot ? ((ChartsHostSnapshot) host).host : host;
+        this.startMillis = startDate.getTime();
+        this.endMillis = endDate.getTime();
+    }
+
+    @Override
+    public GBDevice getDevice() {
+        return host.getDevice();
+    }
+
+    @Override
+    public void setStartDate(final Date startDate) {
+        throw new UnsupportedOperationException("The date range of a snapshot can not be changed");
+    }
+
+    @Override
+    public void setEndDate(final Date endDate) {
+        throw new UnsupportedOperationException("The date range of a snapshot can not be changed");
+    }
+
+    @Override
+    public Date getStartDate() {
+        return new Date(startMillis);
+    }
+
+    @Override
+    public Date getEndDate() {
+        return new Date(endMillis);
+    }
+
+    @Override
+    public void setDateInfo(final String dateInfo) {
+        host.setDateInfo(dateInfo);
+    }
+
+    @Override
+    public void setLoading(final boolean loading) {
+        host.setLoading(loading);
+    }
+
+    @Override
+    public ViewGroup getDateBar() {
+        return host.getDateBar();
+    }
+
+    @Override
+    public void enableSwipeRefresh(final boolean enable) {
+        host.enableSwipeRefresh(enable);
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+        if (!(o instanceof ChartsHostSnapshot)) return false;
+        final ChartsHostSnapshot that = (ChartsHostSnapshot) o;
+        return startMillis == that.startMillis && endMillis == that.endMillis;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(startMillis, endMillis);
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+        return "ChartsHostSnapshot{" + new Date(startMillis) + ".." + new Date(endMillis) + "}";
+    }
+}
@@ -256,6 +256,7 @@ public class HRVStatusFragment extends AbstractChartFragment<HRVStatusFragment.H
 
         List<HRVStatusDayData> weeklyData = new ArrayList<>();
         for (int counter = 0; counter < TOTAL_DAYS; counter++) {
+            throwIfCancelled();
             int startTs = (int) (day.getTimeInMillis() / 1000);
             int endTs = startTs + 24 * 60 * 60 - 1;
             Optional<? extends HrvSummarySample> latestSummarySample = getSamples(db, device, startTs, endTs)
@@ -10,6 +10,7 @@ import android.view.ViewGroup;
 import android.widget.LinearLayout;
 import android.widget.TextView;
 
+import androidx.annotation.Nullable;
 import androidx.core.content.ContextCompat;
 
 import com.github.mikephil.charting.charts.Chart;
@@ -31,6 +32,7 @@ import org.slf4j.LoggerFactory;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Calendar;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.Date;
 import java.util.List;
@@ -43,9 +45,12 @@ import nodomain.freeyourgadget.gadgetbridge.activities.workouts.entries.Activity
 import nodomain.freeyourgadget.gadgetbridge.database.DBHandler;
 import nodomain.freeyourgadget.gadgetbridge.devices.SampleProvider;
 import nodomain.freeyourgadget.gadgetbridge.entities.AbstractActivitySample;
+import nodomain.freeyourgadget.gadgetbridge.entities.SampleBucket;
 import nodomain.freeyourgadget.gadgetbridge.impl.GBDevice;
 import nodomain.freeyourgadget.gadgetbridge.model.ActivitySample;
 import nodomain.freeyourgadget.gadgetbridge.model.HeartRateSample;
+import nodomain.freeyourgadget.gadgetbridge.model.SampleMetric;
+import nodomain.freeyourgadget.gadgetbridge.model.SampleResolution;
 import nodomain.freeyourgadget.gadgetbridge.util.Accumulator;
 import nodomain.freeyourgadget.gadgetbridge.util.DateTimeUtils;
 import nodomain.freeyourgadget.gadgetbridge.util.GridTableBuilder;
@@ -145,16 +150,7 @@ public class HeartRatePeriodFragment extends AbstractChartFragment<HeartRatePeri
         List<? extends ActivitySample> samples = getActivitySamples(db, device, startTs, endTs);
         final HeartRateUtils heartRateUtilsInstance = HeartRateUtils.getInstance();
 
-        int restingHeartRate = DATA_INVALID;
-        if (supportsHeartRateRestingMeasurement()) {
-            restingHeartRate = device.getDeviceCoordinator()
-                    .getHeartRateRestingSampleProvider(device, db.getDaoSession())
-                    .getAllSamples(startTs * 1000L, endTs * 1000L)
-                    .stream()
-                    .max(Comparator.comparingLong(HeartRateSample::getTimestamp))
-                    .map(HeartRateSample::getHeartRate)
-                    .orElse(DATA_INVALID);
-        }
+        final int restingHeartRate = fetchRestingHeartRate(db, device, startTs, endTs);
 
         final TimeWeightedAverageAccumulator accumulator = new TimeWeightedAverageAccumulator(60 * HeartRateUtils.MAX_HR_MEASUREMENTS_GAP_MINUTES, 60);
         for (int i = 0; i < samples.size(); i++) {
@@ -171,19 +167,67 @@ public class HeartRatePeriodFragment extends AbstractChartFragment<HeartRatePeri
         return new HeartRateData(samples, restingHeartRate, average, minimum, maximum);
     }
 
+    private int fetchRestingHeartRate(DBHandler db, GBDevice device, int startTs, int endTs) {
+        if (!supportsHeartRateRestingMeasurement()) {
+            return DATA_INVALID;
+        }
+        return device.getDeviceCoordinator()
+                .getHeartRateRestingSampleProvider(device, db.getDaoSession())
+                .getAllSamples(startTs * 1000L, endTs * 1000L)
+                .stream()
+                .max(Comparator.comparingLong(HeartRateSample::getTimestamp))
+                .map(HeartRateSample::getHeartRate)
+                .orElse(DATA_INVALID);
+    }
+
+    @Override
+    protected boolean canReuseChartData() {
+        return true;
+    }
+
     @Override
     protected HeartRatePeriodData refreshInBackground(ChartsHost chartsHost, DBHandler db, GBDevice device) {
         Pair<Integer, Integer> startAndEndTs = getStartAndEndTS();
         final int startTs = startAndEndTs.getKey();
 
         List<HeartRateData> result = new ArrayList<>();
+        if (TOTAL_DAYS == 1) {
+            result.add(fetchHeartRateDataForDay(db, device, startTs));
+            return new HeartRatePeriodData(result);
+        }
+
+        // For multiple days only the daily statistics are shown, so avoid loading every sample
+        final SampleProvider<? extends ActivitySample> provider = device.getDeviceCoordinator().getSampleProvider(device, db.getDaoSession());
+        final List<SampleBucket> buckets = provider.getSampleBuckets(SampleMetric.HEART_RATE, SampleResolution.DAY, startTs, startAndEndTs.getValue());
+        final SampleBucket[] bucketsByDay = new SampleBucket[TOTAL_DAYS];
+        for (final SampleBucket bucket : buckets) {
+            // days may be 23 or 25 hours long on DST changes
+            final int i = Math.round((bucket.getTimestamp() - startTs) / (float) SEC_PER_DAY);
+            if (i >= 0 && i < TOTAL_DAYS) {
+                bucketsByDay[i] = bucket;
+            }
+        }
         for (int i = 0; i < TOTAL_DAYS; i++) {
-            HeartRateData dayData = fetchHeartRateDataForDay(db, device, startTs + i * SEC_PER_DAY);
-            result.add(dayData);
+            throwIfCancelled();
+            result.add(fetchHeartRateDataForDay(db, device, startTs + i * SEC_PER_DAY, bucketsByDay[i]));
         }
         return new HeartRatePeriodData(result);
     }
 
+    private HeartRateData fetchHeartRateDataForDay(DBHandler db, GBDevice device, int startTs, @Nullable SampleBucket bucket) {
+        final int restingHeartRate = fetchRestingHeartRate(db, device, startTs, startTs + SEC_PER_DAY - 1);
+        if (bucket == null) {
+            return new HeartRateData(Collections.emptyList(), restingHeartRate, DATA_INVALID, DATA_INVALID, DATA_INVALID);
+        }
+        return new HeartRateData(
+                Collections.emptyList(),
+                restingHeartRate,
+                (int) Math.round(bucket.getAverage()),
+                bucket.getMin(),
+                bucket.getMax()
+        );
+    }
+
     @Override
     protected void renderCharts() {
         hrLineChart.invalidate();
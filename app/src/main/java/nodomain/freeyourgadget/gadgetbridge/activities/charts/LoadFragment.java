@@ -285,6 +285,7 @@ public class LoadFragment extends AbstractChartFragment<LoadFragment.LoadsData>
         day.add(Calendar.DATE, -TOTAL_DAYS + 1);
         List<LoadData> data = new ArrayList<>();
         for (int i = 0; i < TOTAL_DAYS; i++) {
+            throwIfCancelled();
             int startTs = (int) (day.getTimeInMillis() / 1000);
             int endTs = startTs + 24 * 60 * 60 - 1;
             List<? extends WorkoutLoadSample> workoutLoadSamples = getWorkoutLoadSamples(db, device, startTs, endTs);
@@ -283,6 +283,7 @@ public class PaiChartFragment extends AbstractChartFragment<PaiChartFragment.Pai
         int maxPai = -1;
 
         for (int counter = 0; counter < TOTAL_DAYS; counter++) {
+            throwIfCancelled();
             final Optional<? extends PaiSample> sampleOpt = getSamplePaiForDay(db, device, day);
 
             if (sampleOpt.isPresent()) {
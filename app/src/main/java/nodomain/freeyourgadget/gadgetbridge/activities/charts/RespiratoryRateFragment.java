@@ -65,6 +65,7 @@ abstract class RespiratoryRateFragment<T extends ChartsData> extends AbstractCha
 
         List<RespiratoryRateDay> daysData = new ArrayList<>();
         for (int counter = 0; counter < TOTAL_DAYS; counter++) {
+            throwIfCancelled();
             int startTs;
             int endTs;
             day = (Calendar) day.clone(); // do not modify the caller's argument
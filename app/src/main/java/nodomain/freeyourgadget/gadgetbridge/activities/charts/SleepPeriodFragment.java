@@ -17,7 +17,6 @@
     along with this program.  If not, see <https://www.gnu.org/licenses/>. */
 package nodomain.freeyourgadget.gadgetbridge.activities.charts;
 
-import android.app.Activity;
 import android.graphics.Color;
 import android.os.Bundle;
 import android.view.LayoutInflater;
@@ -54,6 +53,7 @@ import java.util.concurrent.TimeUnit;
 import nodomain.freeyourgadget.gadgetbridge.GBApplication;
 import nodomain.freeyourgadget.gadgetbridge.R;
 import nodomain.freeyourgadget.gadgetbridge.database.DBHandler;
+import nodomain.freeyourgadget.gadgetbridge.database.DeviceDataVersions;
 import nodomain.freeyourgadget.gadgetbridge.databinding.FragmentWeeksleepChartBinding;
 import nodomain.freeyourgadget.gadgetbridge.impl.GBDevice;
 import nodomain.freeyourgadget.gadgetbridge.model.ActivityAmount;
@@ -64,7 +64,6 @@ import nodomain.freeyourgadget.gadgetbridge.model.ActivityUser;
 import nodomain.freeyourgadget.gadgetbridge.model.SleepScoreSample;
 import nodomain.freeyourgadget.gadgetbridge.util.Accumulator;
 import nodomain.freeyourgadget.gadgetbridge.util.DateTimeUtils;
-import nodomain.freeyourgadget.gadgetbridge.util.LimitedQueue;
 
 public class SleepPeriodFragment extends SleepFragment<SleepPeriodFragment.MyChartsData> {
     protected static final Logger LOG = LoggerFactory.getLogger(SleepPeriodFragment.class);
@@ -105,6 +104,7 @@ public class SleepPeriodFragment extends SleepFragment<SleepPeriodFragment.MyCha
         long lightWeeklyTotal = 0;
 
         for (int counter = 0; counter < TOTAL_DAYS; counter++) {
+            throwIfCancelled();
             ActivityAmounts amounts = getActivityAmountsForDay(db, day, device);
             if (calculateBalance(amounts) > 0) {
                 TOTAL_DAYS_FOR_AVERAGE++;
@@ -285,6 +285,7 @@ public class SleepPeriodFragment extends SleepFragment<SleepPeriodFragment.MyCha
         final Accumulator sleepScoreAccumulator = new Accumulator();
         final List<ILineDataSet> sleepScoreDataSets = new ArrayList<>();
         for (int counter = 0; counter < TOTAL_DAYS; counter++) {
+            throwIfCancelled();
             // Sleep stages
             ActivityAmounts amounts = getActivityAmountsForDay(db, day, device);
             daily_balance = calculateBalance(amounts);
@@ -622,23 +623,16 @@ public class SleepPeriodFragment extends SleepFragment<SleepPeriodFragment.MyCha
     }
 
     protected ActivityAmounts getActivityAmountsForDay(DBHandler db, Calendar day, GBDevice device) {
+        final ChartDataCache cache = ChartDataCache.getInstance();
+        final long dayStart = day.getTimeInMillis() / 1000 + (mOffsetHours * 3600L);
+        final ChartDataCache.Key key = new ChartDataCache.Key(device.getAddress(), "ActivityAmounts", dayStart, dayStart);
 
-        LimitedQueue<Integer, ActivityAmounts> activityAmountCache = null;
-        ActivityAmounts amounts = null;
-
-        Activity activity = getActivity();
-        int key = (int) (day.getTimeInMillis() / 1000) + (mOffsetHours * 3600);
-        if (activity != null) {
-            activityAmountCache = ((ActivityChartsActivity) activity).mActivityAmountCache;
-            amounts = activityAmountCache.lookup(key);
-        }
-
+        ActivityAmounts amounts = cache.getActivityAmounts(key);
         if (amounts == null) {
+            final long version = DeviceDataVersions.getForReading(device);
             ActivityAnalysis analysis = new ActivityAnalysis();
             amounts = analysis.calculateActivityAmounts(getSamplesOfDay(db, day, mOffsetHours, device));
-            if (activityAmountCache != null) {
-                activityAmountCache.add(key, amounts);
-            }
+            cache.putActivityAmounts(key, amounts, version);
         }
 
         return amounts;
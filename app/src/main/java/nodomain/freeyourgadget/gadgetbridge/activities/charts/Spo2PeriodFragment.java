@@ -57,7 +57,10 @@ import nodomain.freeyourgadget.gadgetbridge.R;
 import nodomain.freeyourgadget.gadgetbridge.database.DBHandler;
 import nodomain.freeyourgadget.gadgetbridge.devices.DeviceCoordinator;
 import nodomain.freeyourgadget.gadgetbridge.devices.TimeSampleProvider;
+import nodomain.freeyourgadget.gadgetbridge.entities.SampleBucket;
 import nodomain.freeyourgadget.gadgetbridge.impl.GBDevice;
+import nodomain.freeyourgadget.gadgetbridge.model.SampleMetric;
+import nodomain.freeyourgadget.gadgetbridge.model.SampleResolution;
 import nodomain.freeyourgadget.gadgetbridge.model.Spo2Sample;
 import nodomain.freeyourgadget.gadgetbridge.util.Accumulator;
 import nodomain.freeyourgadget.gadgetbridge.util.DateTimeUtils;
@@ -146,42 +149,36 @@ public class Spo2PeriodFragment extends AbstractChartFragment<Spo2PeriodFragment
         return (int) (day.getTimeInMillis() / 1000) - SEC_PER_DAY * (TOTAL_DAYS - 1);
     }
 
-    private Spo2DayData fetchSpo2DataForDay(DBHandler db, GBDevice device, int startTs) {
-        int endTs = startTs + SEC_PER_DAY - 1;
-        List<? extends Spo2Sample> samples = getSamples(db, device, startTs, endTs);
-
-        final Accumulator accumulator = new Accumulator();
-        for (final Spo2Sample sample : samples) {
-            if (sample.getSpo2() > 0) {
-                accumulator.add(sample.getSpo2());
-            }
-        }
-
-        final int average = accumulator.getCount() > 0 ? (int) Math.round(accumulator.getAverage()) : DATA_INVALID;
-        final int minimum = accumulator.getCount() > 0 ? (int) Math.round(accumulator.getMin()) : DATA_INVALID;
-        final int maximum = accumulator.getCount() > 0 ? (int) Math.round(accumulator.getMax()) : DATA_INVALID;
-
-        return new Spo2DayData(average, minimum, maximum);
+    @Override
+    protected boolean canReuseChartData() {
+        return true;
     }
 
     @Override
     protected Spo2PeriodData refreshInBackground(ChartsHost chartsHost, DBHandler db, GBDevice device) {
         final int startTs = getStartTs();
+        final int endTs = startTs + SEC_PER_DAY * TOTAL_DAYS - 1;
+
+        final DeviceCoordinator coordinator = device.getDeviceCoordinator();
+        final TimeSampleProvider<? extends Spo2Sample> sampleProvider = coordinator.getSpo2SampleProvider(device, db.getDaoSession());
+        final List<SampleBucket> buckets = sampleProvider.getSampleBuckets(SampleMetric.SPO2, SampleResolution.DAY, startTs * 1000L, endTs * 1000L);
+
+        final Spo2DayData[] days = new Spo2DayData[TOTAL_DAYS];
+        for (final SampleBucket bucket : buckets) {
+            // days may be 23 or 25 hours long on DST changes
+            final int i = Math.round((bucket.getTimestamp() - startTs) / (float) SEC_PER_DAY);
+            if (i >= 0 && i < TOTAL_DAYS) {
+                days[i] = new Spo2DayData((int) Math.round(bucket.getAverage()), bucket.getMin(), bucket.getMax());
+            }
+        }
 
         List<Spo2DayData> result = new ArrayList<>();
         for (int i = 0; i < TOTAL_DAYS; i++) {
-            Spo2DayData dayData = fetchSpo2DataForDay(db, device, startTs + i * SEC_PER_DAY);
-            result.add(dayData);
+            result.add(days[i] != null ? days[i] : new Spo2DayData(DATA_INVALID, DATA_INVALID, DATA_INVALID));
         }
         return new Spo2PeriodData(result);
     }
 
-    private List<? extends Spo2Sample> getSamples(DBHandler db, GBDevice device, int startTs, int endTs) {
-        final DeviceCoordinator coordinator = device.getDeviceCoordinator();
-        final TimeSampleProvider<? extends Spo2Sample> sampleProvider = coordinator.getSpo2SampleProvider(device, db.getDaoSession());
-        return sampleProvider.getAllSamples(startTs * 1000L, endTs * 1000L);
-    }
-
     @Override
     protected void updateChartsnUIThread(Spo2PeriodData data) {
         final int startTs = getStartTs();
@@ -48,7 +48,9 @@ import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.util.Calendar;
+import java.util.Collections;
 import java.util.Date;
+import java.util.List;
 
 import nodomain.freeyourgadget.gadgetbridge.GBApplication;
 import nodomain.freeyourgadget.gadgetbridge.R;
@@ -74,6 +76,7 @@ public class StepStreaksDashboard extends MaterialDialogFragment {
     private static final String PERIOD_CURRENT = "current";
     private static final String PERIOD_TOTALS = "totals";
     private static final int MIN_YEAR = 2015; //we go back in time, this is minimal year boundary
+    private static final int STREAK_CHUNK_DAYS = 64;
 
     public StepStreaksDashboard() {
 
@@ -246,6 +249,11 @@ public class StepStreaksDashboard extends MaterialDialogFragment {
             this.period = period;
         }
 
+        @Override
+        protected boolean isReadOnly() {
+            return true;
+        }
+
         @Override
         protected void doInBackground(DBHandler db) {
             switch (period) {
@@ -282,6 +290,10 @@ public class StepStreaksDashboard extends MaterialDialogFragment {
 
     private void calculateStreakData(DBHandler db, String period, GBDevice device, int goal) {
         Calendar day = Calendar.getInstance();
+        day.set(Calendar.HOUR_OF_DAY, 0);
+        day.set(Calendar.MINUTE, 0);
+        day.set(Calendar.SECOND, 0);
+        day.set(Calendar.MILLISECOND, 0);
         int streak_steps = 0;
         int streak_days = 0;
         int timestamp = 0;
@@ -299,13 +311,24 @@ public class StepStreaksDashboard extends MaterialDialogFragment {
         firstDate.setTime(DateTimeUtils.shiftByDays(new Date(firstSample.getTimestamp() * 1000L), -1));
         //go one day back, to ensure we are before the first day, to calculate first day data as well
 
+        List<DailyTotals> chunk = Collections.emptyList();
+        int chunkIndex = -1;
+
         while (true) {
             if (cancelTasks) {
                 GB.toast("Cancelling background jobs", Toast.LENGTH_SHORT, GB.INFO);
                 break;
             }
 
-            DailyTotals daily_data = DailyTotals.getDailyTotalsForDevice(device, day, db);
+            if (chunkIndex < 0) {
+                // every iteration goes back one day, so get the totals of the previous days in one go
+                Calendar chunkStart = (Calendar) day.clone();
+                chunkStart.add(Calendar.DATE, -(STREAK_CHUNK_DAYS - 1));
+                chunk = DailyTotals.getDailyTotalsForDevice(device, chunkStart, day, db);
+                chunkIndex = chunk.size() - 1;
+            }
+
+            DailyTotals daily_data = chunk.get(chunkIndex--);
             int steps_this_day = (int) daily_data.getSteps();
 
             if (steps_this_day > 0) {
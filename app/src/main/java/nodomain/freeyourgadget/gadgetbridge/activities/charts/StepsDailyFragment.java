@@ -91,6 +91,11 @@ public class StepsDailyFragment extends StepsFragment<StepsDailyFragment.StepsDa
         return getString(R.string.steps);
     }
 
+    @Override
+    protected boolean canReuseChartData() {
+        return true;
+    }
+
     @Override
     protected StepsDailyFragment.StepsData refreshInBackground(ChartsHost chartsHost, DBHandler db, GBDevice device) {
         Calendar day = Calendar.getInstance();
@@ -1,7 +1,5 @@
 package nodomain.freeyourgadget.gadgetbridge.activities.charts;
 
-import android.app.Activity;
-
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -14,11 +12,9 @@ import nodomain.freeyourgadget.gadgetbridge.R;
 import nodomain.freeyourgadget.gadgetbridge.database.DBHandler;
 import nodomain.freeyourgadget.gadgetbridge.devices.SampleProvider;
 import nodomain.freeyourgadget.gadgetbridge.impl.GBDevice;
-import nodomain.freeyourgadget.gadgetbridge.model.ActivityAmount;
-import nodomain.freeyourgadget.gadgetbridge.model.ActivityAmounts;
 import nodomain.freeyourgadget.gadgetbridge.model.ActivitySample;
 import nodomain.freeyourgadget.gadgetbridge.model.ActivityUser;
-import nodomain.freeyourgadget.gadgetbridge.util.LimitedQueue;
+import nodomain.freeyourgadget.gadgetbridge.model.DailyTotals;
 
 abstract class StepsFragment<T extends ChartsData> extends AbstractChartFragment<T> {
     protected static final Logger LOG = LoggerFactory.getLogger(StepsFragment.class);
@@ -45,22 +41,14 @@ abstract class StepsFragment<T extends ChartsData> extends AbstractChartFragment
     }
 
     protected List<StepsFragment.StepsDay> getMyStepsDaysData(DBHandler db, Calendar day, GBDevice device) {
-        day = (Calendar) day.clone(); // do not modify the caller's argument
-        day.add(Calendar.DATE, -TOTAL_DAYS + 1);
-
-        List<StepsDay> daysData = new ArrayList<>();;
-        for (int counter = 0; counter < TOTAL_DAYS; counter++) {
-            long totalSteps = 0;
-            long totalDistance = 0;
-            ActivityAmounts amounts = getActivityAmountsForDay(db, day, device);
-            for (ActivityAmount amount : amounts.getAmounts()) {
-                if (amount.getTotalSteps() > 0) {
-                    totalSteps += amount.getTotalSteps();
-                }
-                if (amount.getTotalDistance() > 0) {
-                    totalDistance += amount.getTotalDistance();
-                }
-            }
+        Calendar firstDay = (Calendar) day.clone(); // do not modify the caller's argument
+        firstDay.add(Calendar.DATE, -TOTAL_DAYS + 1);
+
+        List<DailyTotals> dailyTotals = DailyTotals.getDailyTotalsForDevice(device, firstDay, day, db);
+        List<StepsDay> daysData = new ArrayList<>();
+        for (int counter = 0; counter < dailyTotals.size(); counter++) {
+            long totalSteps = dailyTotals.get(counter).getSteps();
+            long totalDistance = dailyTotals.get(counter).getDistance();
             double distance = totalDistance;
             if (totalDistance == 0 && totalSteps > 0) {
                 // For gadgets that do not report distance, compute it from the steps
@@ -68,35 +56,13 @@ abstract class StepsFragment<T extends ChartsData> extends AbstractChartFragment
                 int stepLength = activityUser.getStepLengthCm();
                 distance = stepLength * totalSteps;
             }
-            Calendar d = (Calendar) day.clone();
+            Calendar d = (Calendar) firstDay.clone();
+            d.add(Calendar.DATE, counter);
             daysData.add(new StepsDay(d, totalSteps, distance / 100_000));
-            day.add(Calendar.DATE, 1);
         }
         return daysData;
     }
 
-    protected ActivityAmounts getActivityAmountsForDay(DBHandler db, Calendar day, GBDevice device) {
-        LimitedQueue<Integer, ActivityAmounts> activityAmountCache = null;
-        ActivityAmounts amounts = null;
-
-        Activity activity = getActivity();
-        int key = (int) (day.getTimeInMillis() / 1000);
-        if (activity != null) {
-            activityAmountCache = ((ActivityChartsActivity) activity).mActivityAmountCache;
-            amounts = activityAmountCache.lookup(key);
-        }
-
-        if (amounts == null) {
-            ActivityAnalysis analysis = new ActivityAnalysis();
-            amounts = analysis.calculateActivityAmounts(getSamplesOfDay(db, day, 0, device));
-            if (activityAmountCache != null) {
-                activityAmountCache.add(key, amounts);
-            }
-        }
-
-        return amounts;
-    }
-
     protected List<? extends ActivitySample> getSamplesOfDay(DBHandler db, Calendar day, int offsetHours, GBDevice device) {
         int startTs;
         int endTs;
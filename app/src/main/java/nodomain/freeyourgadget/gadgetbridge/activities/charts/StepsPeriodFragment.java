@@ -155,6 +155,11 @@ public class StepsPeriodFragment extends StepsFragment<StepsPeriodFragment.Steps
         CHART_TEXT_COLOR = GBApplication.getSecondaryTextColor(getContext());
     }
 
+    @Override
+    protected boolean canReuseChartData() {
+        return true;
+    }
+
     @Override
     protected StepsData refreshInBackground(ChartsHost chartsHost, DBHandler db, GBDevice device) {
         Calendar day = Calendar.getInstance();
@@ -262,6 +262,7 @@ public class StressPeriodFragment extends StressFragment<StressPeriodFragment.My
         }
 
         for (int counter = 0; counter < TOTAL_DAYS; counter++) {
+            throwIfCancelled();
             Calendar dayStart = (Calendar) day.clone();
             Calendar dayEnd = (Calendar) day.clone();
             dayEnd.add(Calendar.DAY_OF_MONTH, 1);
@@ -320,6 +321,7 @@ public class StressPeriodFragment extends StressFragment<StressPeriodFragment.My
         Calendar now = Calendar.getInstance();
 
         for (int counter = 0; counter < TOTAL_DAYS; counter++) {
+            throwIfCancelled();
             Calendar dayStart = (Calendar) day.clone();
             Calendar dayEnd = (Calendar) day.clone();
             dayEnd.add(Calendar.DAY_OF_MONTH, 1);
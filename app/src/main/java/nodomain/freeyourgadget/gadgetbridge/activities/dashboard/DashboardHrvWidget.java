@@ -60,7 +60,7 @@ public class DashboardHrvWidget extends AbstractGaugeWidget {
 
         HrvSummarySample latestSummary = null;
 
-        try (DBHandler dbHandler = GBApplication.acquireDB()) {
+        try (DBHandler dbHandler = GBApplication.acquireReadDB()) {
             for (GBDevice dev : devices) {
                 final TimeSampleProvider<? extends HrvSummarySample> hrvSummarySampleProvider = dev.getDeviceCoordinator().getHrvSummarySampleProvider(dev, dbHandler.getDaoSession());
 
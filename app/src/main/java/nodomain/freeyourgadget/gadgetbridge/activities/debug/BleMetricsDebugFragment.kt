@@ -0,0 +1,97 @@
+package nodomain.freeyourgadget.gadgetbridge.activities.debug
+
+import android.content.Intent
+import android.os.Bundle
+import android.widget.Toast
+import androidx.core.content.FileProvider
+import androidx.preference.PreferenceCategory
+import androidx.preference.SwitchPreferenceCompat
+import nodomain.freeyourgadget.gadgetbridge.GBApplication
+import nodomain.freeyourgadget.gadgetbridge.R
+import nodomain.freeyourgadget.gadgetbridge.service.btle.BtLEMetrics
+import nodomain.freeyourgadget.gadgetbridge.util.GB
+import org.slf4j.Logger
+import org.slf4j.LoggerFactory
+import java.io.IOException
+
+class BleMetricsDebugFragment : AbstractDebugFragment() {
+    override fun onCreatePreferences(savedInstanceState: Bundle?, rootKey: String?) {
+        setPreferencesFromResource(R.xml.debug_preferences_ble_metrics, rootKey)
+
+        findPreference<SwitchPreferenceCompat>(BtLEMetrics.PREF_BLE_METRICS_ENABLED)?.setOnPreferenceChangeListener { _, newVal ->
+            BtLEMetrics.setEnabled(newVal == true)
+            true
+        }
+
+        onClick(PREF_DEBUG_BLE_METRICS_REFRESH) { addMetrics() }
+        onClick(PREF_DEBUG_BLE_METRICS_EXPORT) { export() }
+        onClick(PREF_DEBUG_BLE_METRICS_RESET) {
+            BtLEMetrics.getAll().forEach { it.reset() }
+            addMetrics()
+        }
+
+        addMetrics()
+    }
+
+    override fun onResume() {
+        super.onResume()
+        addMetrics()
+    }
+
+    private fun addMetrics() {
+        removeDynamicPrefs(preferenceScreen)
+
+        for (metrics in BtLEMetrics.getAll()) {
+            val device = GBApplication.app().deviceManager.getDeviceByAddress(metrics.address)
+            addDynamicCategory(device?.aliasOrName ?: metrics.address)
+            val category = preferenceScreen.getPreference(preferenceScreen.preferenceCount - 1) as PreferenceCategory
+
+            addDynamicPref(category, "Queue depth", metrics.queueDepth)
+            addSection(category, "Action latency", metrics.actionLatencies)
+            addSection(category, "Transaction time", metrics.transactionTimes)
+            addSection(category, "Write throughput", metrics.writeThroughput)
+            addSection(category, "Receive throughput", metrics.receiveThroughput)
+            if (metrics.events.isNotEmpty()) {
+                addDynamicPref(category, "Events", metrics.events.joinToString("\n"))
+            }
+        }
+    }
+
+    private fun addSection(category: PreferenceCategory, title: String, values: Map<String, String>) {
+        if (values.isEmpty()) {
+            return
+        }
+        addDynamicPref(category, title, values.entries.joinToString("\n") { "${it.key}: ${it.value}" })
+    }
+
+    private fun export() {
+        val file = try {
+            BtLEMetrics.export()
+        } catch (e: IOException) {
+            LOG.error("Failed to export BLE metrics", e)
+            GB.toast(requireContext(), "Failed to export BLE metrics", Toast.LENGTH_LONG, GB.ERROR, e)
+            return
+        }
+
+        val providerUri = FileProvider.getUriForFile(
+            requireContext(),
+            requireContext().applicationContext.packageName + ".screenshot_provider",
+            file
+        )
+
+        val intent = Intent(Intent.ACTION_SEND)
+        intent.addFlags(Intent.FLAG_GRANT_READ_URI_PERMISSION)
+        intent.setType("text/plain")
+        intent.putExtra(Intent.EXTRA_SUBJECT, "Gadgetbridge BLE metrics")
+        intent.putExtra(Intent.EXTRA_STREAM, providerUri)
+        startActivity(Intent.createChooser(intent, "Share File"))
+    }
+
+    companion object {
+        private val LOG: Logger = LoggerFactory.getLogger(BleMetricsDebugFragment::class.java)
+
+        private const val PREF_DEBUG_BLE_METRICS_REFRESH = "pref_debug_ble_metrics_refresh"
+        private const val PREF_DEBUG_BLE_METRICS_EXPORT = "pref_debug_ble_metrics_export"
+        private const val PREF_DEBUG_BLE_METRICS_RESET = "pref_debug_ble_metrics_reset"
+    }
+}
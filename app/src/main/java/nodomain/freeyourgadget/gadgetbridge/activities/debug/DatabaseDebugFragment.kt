@@ -29,6 +29,8 @@ class DatabaseDebugFragment : AbstractDebugFragment() {
     }
 
     private fun addTables() {
+        findPreference<Preference>(PREF_DEBUG_DATABASE_LOCK_METRICS)?.summary = GBApplication.getDBLockMetrics().toString()
+
         val tablesHeader: PreferenceCategory = findPreference(PREF_HEADER_DATABASE_TABLES)!!
         removeDynamicPrefs(tablesHeader)
 
@@ -147,6 +149,7 @@ class DatabaseDebugFragment : AbstractDebugFragment() {
 
     companion object {
         private const val PREF_DEBUG_DATABASE_VERSION = "pref_debug_database_version"
+        private const val PREF_DEBUG_DATABASE_LOCK_METRICS = "pref_debug_database_lock_metrics"
         private const val DANGEROUS_ACTIONS = "dangerous_actions"
         private const val PREF_DEBUG_DELETE_OLD_DATABASE = "pref_debug_delete_old_database"
         private const val PREF_DEBUG_EMPTY_DATABASE = "pref_debug_empty_database"
@@ -16,6 +16,7 @@ import nodomain.freeyourgadget.gadgetbridge.entities.HealthConnectSyncStateDao
 import nodomain.freeyourgadget.gadgetbridge.util.DateTimeUtils
 import nodomain.freeyourgadget.gadgetbridge.util.GB
 import nodomain.freeyourgadget.gadgetbridge.util.healthconnect.HealthConnectSyncWorker
+import nodomain.freeyourgadget.gadgetbridge.util.healthconnect.HealthConnectWatermarks
 import org.slf4j.Logger
 import org.slf4j.LoggerFactory
 import java.time.Instant
@@ -109,6 +110,7 @@ class HealthConnectDebugFragment : AbstractDebugFragment() {
                                         date
                                     )
                                     syncStateDao.insertOrReplace(state)
+                                    HealthConnectWatermarks.rewind(db.daoSession, state)
                                 }
 
                                 reloadSyncStates()
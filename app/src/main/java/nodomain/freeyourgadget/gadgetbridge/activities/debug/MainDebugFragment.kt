@@ -64,6 +64,11 @@ class MainDebugFragment : AbstractDebugFragment() {
             }
         }
 
+        findPreference<SwitchPreferenceCompat>(LOG_DEBUG)?.setOnPreferenceChangeListener { _: Preference?, newVal: Any? ->
+            GBApplication.getLogging().setDebugLogging(Boolean.TRUE == newVal)
+            true
+        }
+
         if (Build.VERSION.SDK_INT < Build.VERSION_CODES.O) {
             findPreference<Preference>(PREF_DEBUG_COMPANION_DEVICES)?.isVisible = false
         }
@@ -105,9 +110,8 @@ class MainDebugFragment : AbstractDebugFragment() {
         }
 
         // Flush the logs, so that we ensure latest lines are also there
-        GBApplication.getLogging().setImmediateFlush(true)
         LOG.debug("Flushing logs before sharing")
-        GBApplication.getLogging().setImmediateFlush(false)
+        GBApplication.getLogging().flush()
 
         val logFile = File(fileName)
         if (!logFile.exists()) {
@@ -135,6 +139,7 @@ class MainDebugFragment : AbstractDebugFragment() {
         private const val PREF_DEBUG_ADD_TEST_DEVICE = "pref_debug_add_test_device"
         private const val PREF_HEADER_LOGS = "pref_header_logs"
         private const val LOG_TO_FILE = "log_to_file"
+        private const val LOG_DEBUG = "log_debug"
         private const val PREF_DEBUG_SHARE_LOGS = "pref_debug_share_logs"
         private const val PREF_HEADER_DEBUG = "pref_header_debug"
         private const val PREF_DEBUG_NOTIFICATIONS = "pref_debug_notifications"
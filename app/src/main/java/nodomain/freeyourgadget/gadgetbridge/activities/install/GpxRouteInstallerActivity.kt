@@ -14,7 +14,9 @@ import android.widget.Toast
 import androidx.core.app.NavUtils
 import androidx.lifecycle.lifecycleScope
 import androidx.localbroadcastmanager.content.LocalBroadcastManager
+import kotlinx.coroutines.Dispatchers
 import kotlinx.coroutines.launch
+import kotlinx.coroutines.withContext
 import nodomain.freeyourgadget.gadgetbridge.GBApplication
 import nodomain.freeyourgadget.gadgetbridge.R
 import nodomain.freeyourgadget.gadgetbridge.activities.AbstractGBActivity
@@ -27,6 +29,7 @@ import nodomain.freeyourgadget.gadgetbridge.model.ItemWithDetails
 import nodomain.freeyourgadget.gadgetbridge.util.GB
 import nodomain.freeyourgadget.gadgetbridge.util.gpx.model.GpxFile
 import nodomain.freeyourgadget.gadgetbridge.util.maps.MapsManager
+import nodomain.freeyourgadget.gadgetbridge.util.maps.SimplifiedTrack
 
 class GpxRouteInstallerActivity : AbstractGBActivity(), InstallActivity {
     companion object {
@@ -282,7 +285,8 @@ class GpxRouteInstallerActivity : AbstractGBActivity(), InstallActivity {
             val points = gpxFile.activityPoints.mapNotNull { it.location }
 
             if (points.isNotEmpty()) {
-                mapsManager?.setTrack(points)
+                val track = withContext(Dispatchers.Default) { SimplifiedTrack(points) }
+                mapsManager?.setTrack(track)
             } else {
                 binding.gpxMapView.visibility = View.GONE
             }
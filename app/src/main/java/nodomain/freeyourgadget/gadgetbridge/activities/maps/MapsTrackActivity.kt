@@ -81,9 +81,9 @@ class MapsTrackActivity : AbstractGBActivity(), MenuProvider {
     }
 
     private fun observeViewModel() {
-        viewModel.trackPoints.observe(this) { points ->
-            if (points.isNotEmpty()) {
-                mapsManager.setTrack(points)
+        viewModel.track.observe(this) { track ->
+            if (track.size() > 0) {
+                mapsManager.setTrack(track)
             } else {
                 LOG.warn("No track points to display or file was empty.")
             }
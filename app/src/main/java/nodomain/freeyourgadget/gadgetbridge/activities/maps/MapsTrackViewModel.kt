@@ -7,21 +7,20 @@ import androidx.lifecycle.viewModelScope
 import kotlinx.coroutines.Dispatchers
 import kotlinx.coroutines.launch
 import kotlinx.coroutines.withContext
-import nodomain.freeyourgadget.gadgetbridge.model.ActivityPoint
 import nodomain.freeyourgadget.gadgetbridge.model.GPSCoordinate
-import nodomain.freeyourgadget.gadgetbridge.service.devices.garmin.fit.FitFile
-import nodomain.freeyourgadget.gadgetbridge.service.devices.garmin.fit.messages.FitRecord
-import nodomain.freeyourgadget.gadgetbridge.service.devices.garmin.fit.messages.FitSession
+import nodomain.freeyourgadget.gadgetbridge.util.ActivityTrackStore
 import nodomain.freeyourgadget.gadgetbridge.util.gpx.GpxParseException
 import nodomain.freeyourgadget.gadgetbridge.util.gpx.GpxParser
+import nodomain.freeyourgadget.gadgetbridge.util.maps.SimplifiedTrack
 import org.slf4j.LoggerFactory
 import java.io.File
 import java.io.FileInputStream
 import java.io.IOException
 
 class MapsTrackViewModel : ViewModel() {
-    private val _trackPoints = MutableLiveData<List<GPSCoordinate>>()
-    val trackPoints: LiveData<List<GPSCoordinate>> = _trackPoints
+    // simplifying a long track takes a while, so it is done here and not by the map on the main thread
+    private val _track = MutableLiveData<SimplifiedTrack>()
+    val track: LiveData<SimplifiedTrack> = _track
 
     private val _isLoading = MutableLiveData<Boolean>()
     val isLoading: LiveData<Boolean> = _isLoading
@@ -34,12 +33,10 @@ class MapsTrackViewModel : ViewModel() {
         viewModelScope.launch {
             try {
                 val points = fetchTrackPoints(trackFile)
-                if (points.isNotEmpty()) {
-                    _trackPoints.postValue(points)
-                } else {
+                if (points.isEmpty()) {
                     LOG.warn("No track points found in file: ${trackFile.name}")
-                    _trackPoints.postValue(emptyList())
                 }
+                _track.postValue(withContext(Dispatchers.Default) { SimplifiedTrack(points) })
             } catch (e: Exception) {
                 LOG.error("Error loading track points", e)
                 _error.postValue(e)
@@ -51,34 +48,29 @@ class MapsTrackViewModel : ViewModel() {
 
     private suspend fun fetchTrackPoints(trackFile: File): List<GPSCoordinate> {
         return withContext(Dispatchers.IO) {
-            getActivityPoints(trackFile).mapNotNull { it.location }
+            val track = getTrack(trackFile) ?: return@withContext emptyList()
+            (0 until track.size()).mapNotNull { track.getLocation(it) }
         }
     }
 
     companion object {
         private val LOG = LoggerFactory.getLogger(MapsTrackViewModel::class.java)
 
-        fun getActivityPoints(trackFile: File): List<ActivityPoint> {
+        /**
+         * @return the track of a gpx or fit file, or null if it could not be read
+         */
+        fun getTrack(trackFile: File): ActivityTrackStore.Track? {
             try {
                 when {
                     trackFile.name.endsWith(".gpx") -> {
                         FileInputStream(trackFile).use { inputStream ->
                             val gpxParser = GpxParser(inputStream)
-                            return gpxParser.gpxFile.activityPoints
+                            return ActivityTrackStore.Track.of(gpxParser.gpxFile.activityPoints)
                         }
                     }
 
                     trackFile.name.endsWith(".fit") -> {
-                        val fitFile = FitFile.parseIncoming(trackFile)
-                        val activityPoints = fitFile.records
-                           .filterIsInstance<FitRecord>()
-                           .map { it.toActivityPoint() }
-                        for (activityPoint in activityPoints) {
-                            if (activityPoint.location != null) {
-                                return activityPoints
-                            }
-                        }
-                        return fitFile.records.filterIsInstance<FitSession>()[0].toActivityPoints()
+                        return ActivityTrackStore.getTrack(trackFile)
                     }
 
                     else -> {
@@ -93,7 +85,7 @@ class MapsTrackViewModel : ViewModel() {
                 LOG.error("Failed to parse fit file", e)
             }
 
-            return emptyList()
+            return null
         }
     }
 }
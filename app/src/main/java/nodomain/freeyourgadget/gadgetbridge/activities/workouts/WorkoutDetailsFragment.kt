@@ -59,7 +59,7 @@ import nodomain.freeyourgadget.gadgetbridge.R
 import nodomain.freeyourgadget.gadgetbridge.activities.ActivitySummariesChartFragment
 import nodomain.freeyourgadget.gadgetbridge.activities.charts.DurationXLabelFormatter
 import nodomain.freeyourgadget.gadgetbridge.activities.fit.FitViewerActivity
-import nodomain.freeyourgadget.gadgetbridge.activities.maps.MapsTrackViewModel.Companion.getActivityPoints
+import nodomain.freeyourgadget.gadgetbridge.activities.maps.MapsTrackViewModel.Companion.getTrack
 import nodomain.freeyourgadget.gadgetbridge.activities.workouts.charts.ChartDataRepository
 import nodomain.freeyourgadget.gadgetbridge.activities.workouts.charts.DefaultWorkoutCharts
 import nodomain.freeyourgadget.gadgetbridge.activities.workouts.charts.WorkoutChartsActivity
@@ -91,7 +91,6 @@ import java.io.StringWriter
 import java.nio.charset.StandardCharsets
 import java.util.Locale
 import java.util.concurrent.TimeUnit
-import java.util.stream.Collectors
 
 class WorkoutDetailsFragment : Fragment(), MenuProvider {
     private var workoutId: Long = -1
@@ -187,14 +186,13 @@ class WorkoutDetailsFragment : Fragment(), MenuProvider {
                     if (parsedWorkout.charts.isEmpty()) {
                         try {
                             val trackFile = ActivitySummaryUtils.getTrackFile(parsedWorkout.summary)
-                            if (trackFile != null) {
-                                val activityPoints = getActivityPoints(trackFile)
-                                    .stream()
-                                    .collect(Collectors.toList())
+                            val track = trackFile?.let { getTrack(it) }
+                            if (track != null) {
                                 val defaultCharts = DefaultWorkoutCharts.buildDefaultCharts(
                                     requireContext(),
-                                    activityPoints,
-                                    ActivityKind.fromCode(parsedWorkout.summary.activityKind)
+                                    track,
+                                    ActivityKind.fromCode(parsedWorkout.summary.activityKind),
+                                    1
                                 )
                                 return@withContext Workout(parsedWorkout.summary, parsedWorkout.data, defaultCharts)
                             }
@@ -20,8 +20,8 @@ import nodomain.freeyourgadget.gadgetbridge.activities.maps.MapsSettingsFragment
 import nodomain.freeyourgadget.gadgetbridge.activities.maps.MapsTrackActivity
 import nodomain.freeyourgadget.gadgetbridge.activities.maps.MapsTrackViewModel
 import nodomain.freeyourgadget.gadgetbridge.databinding.FragmentWorkoutGpsBinding
-import nodomain.freeyourgadget.gadgetbridge.model.GPSCoordinate
 import nodomain.freeyourgadget.gadgetbridge.util.maps.MapsManager
+import nodomain.freeyourgadget.gadgetbridge.util.maps.SimplifiedTrack
 import org.slf4j.LoggerFactory
 import java.io.File
 
@@ -77,10 +77,10 @@ class WorkoutGpsFragment : Fragment() {
     }
 
     private fun observeViewModel() {
-        viewModel.trackPoints.observe(viewLifecycleOwner) { points ->
-            if (points.isNotEmpty()) {
+        viewModel.track.observe(viewLifecycleOwner) { track ->
+            if (track.size() > 0) {
                 lifecycleScope.launch {
-                    drawTrack(points)
+                    drawTrack(track)
                 }
             } else {
                 LOG.warn("No track points to display or file was empty.")
@@ -132,10 +132,10 @@ class WorkoutGpsFragment : Fragment() {
         binding.errorMessage.text = message
     }
 
-    private suspend fun drawTrack(trackPoints: List<GPSCoordinate>) {
+    private suspend fun drawTrack(track: SimplifiedTrack) {
         withContext(Dispatchers.Main) {
             try {
-                mapsManager.setTrack(trackPoints)
+                mapsManager.setTrack(track)
 
                 setupMapTouchListener()
             } catch (e: Exception) {
@@ -28,6 +28,7 @@ import nodomain.freeyourgadget.gadgetbridge.impl.GBDevice
 import nodomain.freeyourgadget.gadgetbridge.model.ActivityKind
 import nodomain.freeyourgadget.gadgetbridge.model.RecordedDataTypes
 import nodomain.freeyourgadget.gadgetbridge.util.ActivitySummaryUtils
+import nodomain.freeyourgadget.gadgetbridge.util.ActivityTrackStore
 import nodomain.freeyourgadget.gadgetbridge.util.GB
 import nodomain.freeyourgadget.gadgetbridge.util.WorkoutFilterUtils
 import org.slf4j.LoggerFactory
@@ -381,6 +382,7 @@ class WorkoutListActivity : AbstractListActivity<BaseActivitySummary>() {
         items.forEach { item ->
             try {
                 item.delete()
+                item.rawDetailsPath?.let { ActivityTrackStore.delete(File(it)) }
             } catch (e: Exception) {
                 // pass delete error
             }
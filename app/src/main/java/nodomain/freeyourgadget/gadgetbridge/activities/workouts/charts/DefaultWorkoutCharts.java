@@ -27,6 +27,7 @@ import com.github.mikephil.charting.data.ScatterDataSet;
 import com.github.mikephil.charting.formatter.ValueFormatter;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 
@@ -40,11 +41,23 @@ import nodomain.freeyourgadget.gadgetbridge.model.ActivitySummaryEntries;
 import nodomain.freeyourgadget.gadgetbridge.model.GPSCoordinate;
 import nodomain.freeyourgadget.gadgetbridge.model.workout.WorkoutChart;
 import nodomain.freeyourgadget.gadgetbridge.util.Accumulator;
+import nodomain.freeyourgadget.gadgetbridge.util.ActivityTrackStore;
 
 public class DefaultWorkoutCharts {
     public static List<WorkoutChart> buildDefaultCharts(final Context context,
                                                         final List<? extends ActivityPoint> activityPoints,
                                                         final ActivityKind activityKind) {
+        return buildDefaultCharts(context, ActivityTrackStore.Track.of(Collections.unmodifiableList(activityPoints)), activityKind, 1);
+    }
+
+    /**
+     * @param cadenceFactor the factor to multiply the cadence of the track with, e.g. if the device
+     *                      counts the steps of one foot only
+     */
+    public static List<WorkoutChart> buildDefaultCharts(final Context context,
+                                                        final ActivityTrackStore.Track track,
+                                                        final ActivityKind activityKind,
+                                                        final int cadenceFactor) {
         final ActivityKind.CycleUnit cycleUnit = ActivityKind.getCycleUnit(activityKind);
         final List<WorkoutChart> charts = new LinkedList<>();
         final TimestampTranslation tsTranslation = new TimestampTranslation();
@@ -62,52 +75,59 @@ public class DefaultWorkoutCharts {
         final Accumulator cadenceAccumulator = new Accumulator();
         final Accumulator temperatureAccumulator = new Accumulator();
 
-        for (int i = 0; i <= activityPoints.size() - 1; i++) {
-            final ActivityPoint point = activityPoints.get(i);
-            final long tsShorten = tsTranslation.shorten((int) point.getTime().getTime());
+        for (int i = 0; i < track.size(); i++) {
+            final long tsShorten = tsTranslation.shorten((int) track.getTime(i));
 
             // HR
-            if (point.getHeartRate() > 0) {
-                heartRateDataPoints.add(new Entry(tsShorten, point.getHeartRate()));
+            final int heartRate = track.getHeartRate(i);
+            if (heartRate > 0) {
+                heartRateDataPoints.add(new Entry(tsShorten, heartRate));
             }
 
             // Elevation
-            if (point.getLocation() != null && point.getLocation().getAltitude() != GPSCoordinate.UNKNOWN_ALTITUDE) {
-                elevationDataPoints.add(new Entry(tsShorten, (float) point.getLocation().getAltitude()));
-                if (point.getLocation().getAltitude() != 0) {
+            final double altitude = track.getAltitude(i);
+            if (track.hasLocation(i) && altitude != GPSCoordinate.UNKNOWN_ALTITUDE) {
+                elevationDataPoints.add(new Entry(tsShorten, (float) altitude));
+                if (altitude != 0) {
                     // Some devices provide all points at zero
                     hasElevationValues = true;
                 }
             }
 
             // Speed
-            speedDataPoints.add(new Entry(tsShorten, point.getSpeed()));
-            if (!hasSpeedValues && point.getSpeed() > 0) {
+            final float speed = track.getSpeed(i);
+            speedDataPoints.add(new Entry(tsShorten, speed));
+            if (!hasSpeedValues && speed > 0) {
                 hasSpeedValues = true;
             }
 
             // Cadence
-            cadenceDataPoints.add(new Entry(tsShorten, point.getCadence()));
-            cadenceAccumulator.add(point.getCadence());
-            if (!hasCadenceValues && point.getCadence() > 0) {
+            final int cadence = track.getCadence(i) * cadenceFactor;
+            cadenceDataPoints.add(new Entry(tsShorten, cadence));
+            cadenceAccumulator.add(cadence);
+            if (!hasCadenceValues && cadence > 0) {
                 hasCadenceValues = true;
             }
-            if (point.getPower() >= 0) {
-                powerDataPoints.add(new Entry(tsShorten, (float) point.getPower()));
+            final int power = track.getPower(i);
+            if (power >= 0) {
+                powerDataPoints.add(new Entry(tsShorten, (float) power));
             }
-            if (point.getRespiratoryRate() >= 0) {
-                respiratoryRatePoints.add(new Entry(tsShorten, point.getRespiratoryRate()));
+            final float respiratoryRate = track.getRespiratoryRate(i);
+            if (respiratoryRate >= 0) {
+                respiratoryRatePoints.add(new Entry(tsShorten, respiratoryRate));
             }
 
             // Depth (diving activity)
-            if (point.getDepth() > 0) {
-                depthDataPoints.add(new Entry(tsShorten, (float) point.getDepth() * -1));
+            final double depth = track.getDepth(i);
+            if (depth > 0) {
+                depthDataPoints.add(new Entry(tsShorten, (float) depth * -1));
             }
 
             // Temperature
-            if (point.getTemperature() > -273) {
-                temperatureDataPoints.add(new Entry(tsShorten, (float) point.getTemperature()));
-                temperatureAccumulator.add(point.getTemperature());
+            final double temperature = track.getTemperature(i);
+            if (temperature > -273) {
+                temperatureDataPoints.add(new Entry(tsShorten, (float) temperature));
+                temperatureAccumulator.add(temperature);
             }
         }
 
@@ -72,6 +72,7 @@ import nodomain.freeyourgadget.gadgetbridge.entities.UserAttributes;
 import nodomain.freeyourgadget.gadgetbridge.entities.UserDao;
 import nodomain.freeyourgadget.gadgetbridge.entities.WorldClock;
 import nodomain.freeyourgadget.gadgetbridge.entities.WorldClockDao;
+import nodomain.freeyourgadget.gadgetbridge.externalevents.NotificationFilterIndex;
 import nodomain.freeyourgadget.gadgetbridge.impl.GBDevice;
 import nodomain.freeyourgadget.gadgetbridge.model.ActivityUser;
 import nodomain.freeyourgadget.gadgetbridge.model.DeviceType;
@@ -101,7 +102,8 @@ public class DBHelper {
     /**
      * Closes the database and returns its name.
      * Important: after calling this, you have to DBHandler#openDb() it again
-     * to get it back to work.
+     * to get it back to work. The handler must have been acquired through
+     * GBApplication#acquireExclusiveDB(), so that no other thread is using the database.
      */
     private String getClosedDBPath(DBHandler dbHandler) throws IllegalStateException {
         SQLiteDatabase db = dbHandler.getDatabase();
@@ -144,6 +146,62 @@ public class DBHelper {
         }
     }
 
+    /**
+     * Exports a consistent snapshot of the database, without blocking the app while it is written to
+     * the destination, which may be slow.
+     * <p>
+     * The snapshot is first written to a temporary file in the cache. On Android 11 and later, this
+     * uses VACUUM INTO on a separate read-only connection, which only reads a consistent snapshot
+     * of the write-ahead log, so that other threads can keep reading and writing meanwhile. Older
+     * versions do not support VACUUM INTO, so there the database is closed and copied while holding
+     * exclusive access.
+     */
+    public void exportDBSnapshot(OutputStream dest) throws IOException {
+        final File snapshot = File.createTempFile("gadgetbridge-snapshot", ".db", context.getCacheDir());
+        try {
+            writeSnapshot(snapshot);
+            FileUtils.copyFileToStream(snapshot, dest);
+        } finally {
+            if (!snapshot.delete()) {
+                LOG.warn("Failed to delete database snapshot {}", snapshot);
+            }
+        }
+    }
+
+    private void writeSnapshot(File snapshot) throws IOException {
+        final long start = System.currentTimeMillis();
+        if (GBApplication.isRedVelvetCakeOrLater()) {
+            // VACUUM INTO refuses to overwrite an existing file
+            if (snapshot.exists() && !snapshot.delete()) {
+                throw new IOException("Failed to delete " + snapshot);
+            }
+            // read access does not block writers, it only keeps the database from being closed or replaced
+            try (DBHandler dbHandler = GBApplication.acquireReadDB()) {
+                // a connection of our own, so that the primary connection stays free for writers
+                final String dbPath = dbHandler.getDatabase().getPath();
+                try (SQLiteDatabase db = SQLiteDatabase.openDatabase(dbPath, null, SQLiteDatabase.OPEN_READONLY)) {
+                    db.execSQL("VACUUM INTO ?", new Object[]{snapshot.getAbsolutePath()});
+                }
+            } catch (final Exception e) {
+                throw new IOException("Failed to write database snapshot", e);
+            }
+        } else {
+            try (DBHandler dbHandler = GBApplication.acquireExclusiveDB()) {
+                final String dbPath = getClosedDBPath(dbHandler);
+                try {
+                    FileUtils.copyFile(new File(dbPath), snapshot);
+                } finally {
+                    dbHandler.openDb();
+                }
+            } catch (final IOException e) {
+                throw e;
+            } catch (final Exception e) {
+                throw new IOException("Failed to write database snapshot", e);
+            }
+        }
+        LOG.debug("Wrote database snapshot of {} bytes in {}ms", snapshot.length(), System.currentTimeMillis() - start);
+    }
+
     private String getDate() {
         return new SimpleDateFormat("yyyyMMdd-HHmmss", Locale.US).format(new Date());
     }
@@ -159,6 +217,8 @@ public class DBHelper {
             FileUtils.copyStreamToFile(inputStream, toFile);
         } finally {
             dbHandler.openDb();
+            NotificationFilterIndex.getInstance().invalidate();
+            DeviceDataVersions.bumpAll();
         }
     }
 
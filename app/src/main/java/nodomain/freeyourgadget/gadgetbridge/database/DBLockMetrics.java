@@ -0,0 +1,120 @@
+/*  Copyright (C) 2026 Freeyourgadget
+
+    This file is part of Gadgetbridge.
+
+    Gadgetbridge is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published
+    by the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    Gadgetbridge is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>. */
+package nodomain.freeyourgadget.gadgetbridge.database;
+
+import androidx.annotation.NonNull;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps track of how long threads wait to acquire the database, so that lock contention
+ * becomes visible in the logs and on the database debug screen.
+ */
+public class DBLockMetrics {
+    private static final long SLOW_WAIT_MILLIS = 1000;
+
+    // Lazily initialized, since the metrics are created before logging is set up
+    private static class LoggerHolder {
+        private static final Logger LOG = LoggerFactory.getLogger(DBLockMetrics.class);
+    }
+
+    private final Counter reads = new Counter();
+    private final Counter writes = new Counter();
+    private final Counter exclusive = new Counter();
+
+    public void onReadAcquired(final long waitNanos) {
+        reads.record(waitNanos);
+        checkSlow("read", waitNanos);
+    }
+
+    public void onWriteAcquired(final long waitNanos) {
+        writes.record(waitNanos);
+        checkSlow("write", waitNanos);
+    }
+
+    public void onExclusiveAcquired(final long waitNanos) {
+        exclusive.record(waitNanos);
+        checkSlow("exclusive", waitNanos);
+    }
+
+    public void onReadTimeout() {
+        reads.timeouts.incrementAndGet();
+        LoggerHolder.LOG.error("Timed out waiting for database read access - {}", this);
+    }
+
+    public void onWriteTimeout() {
+        writes.timeouts.incrementAndGet();
+        LoggerHolder.LOG.error("Timed out waiting for database write access - {}", this);
+    }
+
+    public void onExclusiveTimeout() {
+        exclusive.timeouts.incrementAndGet();
+        LoggerHolder.LOG.error("Timed out waiting for exclusive database access - {}", this);
+    }
+
+    private void checkSlow(final String kind, final long waitNanos) {
+        final long waitMillis = TimeUnit.NANOSECONDS.toMillis(waitNanos);
+        if (waitMillis >= SLOW_WAIT_MILLIS) {
+            LoggerHolder.LOG.warn(
+                    "Waited {}ms for database {} access on {} - {}",
+                    waitMillis,
+                    kind,
+                    Thread.currentThread().getName(),
+                    this
+            );
+        }
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+        return "DBLockMetrics{reads=" + reads + ", writes=" + writes + ", exclusive=" + exclusive + "}";
+    }
+
+    private static class Counter {
+        private final AtomicLong count = new AtomicLong();
+        private final AtomicLong timeouts = new AtomicLong();
+        private final AtomicLong totalWaitNanos = new AtomicLong();
+        private final AtomicLong maxWaitNanos = new AtomicLong();
+
+        private void record(final long waitNanos) {
+            count.incrementAndGet();
+            totalWaitNanos.addAndGet(waitNanos);
+            maxWaitNanos.accumulateAndGet(waitNanos, Math::max);
+        }
+
+        @NonNull
+        @Override
+        public String toString() {
+            final long n = count.get();
+            final double avgMillis = n > 0 ? totalWaitNanos.get() / (n * 1e6) : 0;
+            return String.format(
+                    Locale.ROOT,
+                    "{count=%d, timeouts=%d, avgWait=%.2fms, maxWait=%dms}",
+                    n,
+                    timeouts.get(),
+                    avgMillis,
+                    TimeUnit.NANOSECONDS.toMillis(maxWaitNanos.get())
+            );
+        }
+    }
+}
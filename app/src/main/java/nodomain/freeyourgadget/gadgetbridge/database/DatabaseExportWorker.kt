@@ -12,6 +12,7 @@ import nodomain.freeyourgadget.gadgetbridge.util.GBPrefs
 import org.slf4j.Logger
 import org.slf4j.LoggerFactory
 import androidx.core.net.toUri
+import java.io.IOException
 
 class DatabaseExportWorker(
     private val mContext: Context,
@@ -38,11 +39,12 @@ class DatabaseExportWorker(
         }
 
         try {
-            GBApplication.acquireDB().use { dbHandler ->
-                val helper = DBHelper(mContext)
-                mContext.contentResolver.openOutputStream(dst.toUri()).use { out ->
-                    helper.exportDB(dbHandler, out)
+            val helper = DBHelper(mContext)
+            mContext.contentResolver.openOutputStream(dst.toUri()).use { out ->
+                if (out == null) {
+                    throw IOException("Failed to open $dst")
                 }
+                helper.exportDBSnapshot(out)
             }
 
             GBApplication.getPrefs().preferences.edit {
@@ -0,0 +1,82 @@
+/*  Copyright (C) 2026 Freeyourgadget
+
+    This file is part of Gadgetbridge.
+
+    Gadgetbridge is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published
+    by the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    Gadgetbridge is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>. */
+package nodomain.freeyourgadget.gadgetbridge.database;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import nodomain.freeyourgadget.gadgetbridge.GBApplication;
+import nodomain.freeyourgadget.gadgetbridge.impl.GBDevice;
+
+/**
+ * A counter per device that is incremented whenever data of the device changes, so that data
+ * computed from the database can be cached and recognized as stale afterwards.
+ * <p>
+ * The counter is incremented when samples are added through the sample providers, when
+ * a device signals that it finished fetching data, and when a device is deleted. All counters are
+ * incremented when the whole database is replaced or emptied. Sample providers only change it
+ * while holding write access, but readers do not wait for writers, so data must be read after
+ * getting the version with {@link #getForReading(GBDevice)}.
+ */
+public final class DeviceDataVersions {
+    private static final ConcurrentMap<String, AtomicLong> VERSIONS = new ConcurrentHashMap<>();
+    // added to the version of every device, both only ever increase
+    private static final AtomicLong GLOBAL_VERSION = new AtomicLong();
+
+    /**
+     * Never the current version, so that data read with it is never considered up to date.
+     */
+    public static final long UNSTABLE = -1;
+
+    private DeviceDataVersions() {
+    }
+
+    public static long get(final GBDevice device) {
+        return get(device.getAddress());
+    }
+
+    /**
+     * Returns the version to remember with data that is read afterwards, or {@link #UNSTABLE} if
+     * a write is in progress whose changes may or may not be visible to the reader yet.
+     */
+    public static long getForReading(final GBDevice device) {
+        final long version = get(device);
+        return GBApplication.isWritingDB() ? UNSTABLE : version;
+    }
+
+    public static long get(final String address) {
+        final AtomicLong version = VERSIONS.get(address);
+        return GLOBAL_VERSION.get() + (version != null ? version.get() : 0);
+    }
+
+    public static void bump(final GBDevice device) {
+        bump(device.getAddress());
+    }
+
+    public static void bump(final String address) {
+        VERSIONS.computeIfAbsent(address, k -> new AtomicLong()).incrementAndGet();
+    }
+
+    /**
+     * Marks the data of all devices as changed, including devices that are not known yet, e.g.
+     * after importing a database.
+     */
+    public static void bumpAll() {
+        GLOBAL_VERSION.incrementAndGet();
+    }
+}
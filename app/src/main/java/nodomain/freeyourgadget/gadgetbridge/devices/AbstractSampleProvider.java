@@ -38,12 +38,16 @@ import de.greenrobot.dao.Property;
 import de.greenrobot.dao.query.QueryBuilder;
 import de.greenrobot.dao.query.WhereCondition;
 import nodomain.freeyourgadget.gadgetbridge.database.DBHelper;
+import nodomain.freeyourgadget.gadgetbridge.database.DeviceDataVersions;
 import nodomain.freeyourgadget.gadgetbridge.entities.AbstractActivitySample;
 import nodomain.freeyourgadget.gadgetbridge.entities.DaoSession;
 import nodomain.freeyourgadget.gadgetbridge.entities.Device;
+import nodomain.freeyourgadget.gadgetbridge.entities.SampleBucket;
 import nodomain.freeyourgadget.gadgetbridge.impl.GBDevice;
 import nodomain.freeyourgadget.gadgetbridge.model.ActivityKind;
 import nodomain.freeyourgadget.gadgetbridge.model.ActivitySample;
+import nodomain.freeyourgadget.gadgetbridge.model.SampleMetric;
+import nodomain.freeyourgadget.gadgetbridge.model.SampleResolution;
 import nodomain.freeyourgadget.gadgetbridge.util.DateTimeUtils;
 
 /**
@@ -102,11 +106,58 @@ public abstract class AbstractSampleProvider<T extends AbstractActivitySample> i
     @Override
     public void addGBActivitySample(T activitySample) {
         getSampleDao().insertOrReplace(activitySample);
+        invalidateAggregates(activitySample.getTimestamp(), activitySample.getTimestamp());
     }
 
     @Override
     public void addGBActivitySamples(T[] activitySamples) {
         getSampleDao().insertOrReplaceInTx(activitySamples);
+        if (activitySamples.length > 0) {
+            int minTimestamp = Integer.MAX_VALUE;
+            int maxTimestamp = Integer.MIN_VALUE;
+            for (T sample : activitySamples) {
+                minTimestamp = Math.min(minTimestamp, sample.getTimestamp());
+                maxTimestamp = Math.max(maxTimestamp, sample.getTimestamp());
+            }
+            invalidateAggregates(minTimestamp, maxTimestamp);
+        }
+    }
+
+    /**
+     * Adds the given samples without creating an entity for each of them, which is much faster
+     * for large imports. The samples are written straight to the table of {@link #getSampleDao()},
+     * so subclasses that store samples differently must override this as well.
+     */
+    public void addGBActivitySamples(final SampleColumns samples) {
+        if (samples.size() == 0) {
+            return;
+        }
+        final long deviceId = DBHelper.getDevice(getDevice(), getSession()).getId();
+        final long userId = DBHelper.getUser(getSession()).getId();
+        samples.insertOrReplace(getSampleDao(), getTimestampSampleProperty(), getDeviceIdentifierSampleProperty(), deviceId, userId);
+        invalidateAggregates((int) samples.getMinTimestamp(), (int) samples.getMaxTimestamp());
+    }
+
+    /**
+     * Marks the data of the device as changed, and drops the pre-computed daily totals and sample
+     * buckets that are affected by samples between the given timestamps, in seconds. Subclasses that insert samples directly must call this as well.
+     */
+    protected void invalidateAggregates(int timestampFrom, int timestampTo) {
+        new DailyTotalsRollupProvider(getDevice(), getSession()).invalidate(timestampFrom, timestampTo);
+        new SampleBucketProvider(getDevice(), getSession()).invalidate(timestampFrom, timestampTo);
+        DeviceDataVersions.bump(getDevice());
+    }
+
+    @NonNull
+    @Override
+    public List<SampleBucket> getSampleBuckets(SampleMetric metric, SampleResolution resolution, int timestamp_from, int timestamp_to) {
+        return new SampleBucketProvider(getDevice(), getSession()).getBuckets(
+                metric,
+                resolution,
+                timestamp_from,
+                timestamp_to,
+                SampleBucketProvider.fromActivitySamples(this, metric)
+        );
     }
 
     @Nullable
@@ -32,11 +32,15 @@ import de.greenrobot.dao.AbstractDao;
 import de.greenrobot.dao.Property;
 import de.greenrobot.dao.query.QueryBuilder;
 import nodomain.freeyourgadget.gadgetbridge.database.DBHelper;
+import nodomain.freeyourgadget.gadgetbridge.database.DeviceDataVersions;
 import nodomain.freeyourgadget.gadgetbridge.entities.AbstractTimeSample;
 import nodomain.freeyourgadget.gadgetbridge.entities.DaoSession;
 import nodomain.freeyourgadget.gadgetbridge.entities.Device;
+import nodomain.freeyourgadget.gadgetbridge.entities.SampleBucket;
 import nodomain.freeyourgadget.gadgetbridge.entities.User;
 import nodomain.freeyourgadget.gadgetbridge.impl.GBDevice;
+import nodomain.freeyourgadget.gadgetbridge.model.SampleMetric;
+import nodomain.freeyourgadget.gadgetbridge.model.SampleResolution;
 import nodomain.freeyourgadget.gadgetbridge.util.GB;
 
 /**
@@ -85,11 +89,63 @@ public abstract class AbstractTimeSampleProvider<T extends AbstractTimeSample> i
     @Override
     public void addSample(final T activitySample) {
         getSampleDao().insertOrReplace(activitySample);
+        invalidateAggregates(activitySample.getTimestamp(), activitySample.getTimestamp());
     }
 
     @Override
     public void addSamples(final List<T> activitySamples) {
         getSampleDao().insertOrReplaceInTx(activitySamples);
+        if (!activitySamples.isEmpty()) {
+            long minTimestamp = Long.MAX_VALUE;
+            long maxTimestamp = Long.MIN_VALUE;
+            for (final T sample : activitySamples) {
+                minTimestamp = Math.min(minTimestamp, sample.getTimestamp());
+                maxTimestamp = Math.max(maxTimestamp, sample.getTimestamp());
+            }
+            invalidateAggregates(minTimestamp, maxTimestamp);
+        }
+    }
+
+    /**
+     * Adds the given samples without creating an entity for each of them, which is much faster
+     * for large imports. The samples are written straight to the table of {@link #getSampleDao()},
+     * so subclasses that store samples differently must override this as well.
+     */
+    public void addSamples(final SampleColumns samples) {
+        if (samples.size() == 0) {
+            return;
+        }
+        final long deviceId = DBHelper.getDevice(getDevice(), getSession()).getId();
+        final long userId = DBHelper.getUser(getSession()).getId();
+        samples.insertOrReplace(getSampleDao(), getTimestampSampleProperty(), getDeviceIdentifierSampleProperty(), deviceId, userId);
+        invalidateAggregates(samples.getMinTimestamp(), samples.getMaxTimestamp());
+    }
+
+    /**
+     * Marks the data of the device as changed, and drops the pre-computed daily totals and sample
+     * buckets that are affected by samples between the given timestamps, in milliseconds. Some
+     * devices merge these samples into their activity samples, such as sleep stages, so the totals
+     * may depend on them.
+     */
+    protected void invalidateAggregates(final long timestampFrom, final long timestampTo) {
+        new DailyTotalsRollupProvider(getDevice(), getSession()).invalidate(timestampFrom / 1000L, timestampTo / 1000L);
+        new SampleBucketProvider(getDevice(), getSession()).invalidate(timestampFrom / 1000L, timestampTo / 1000L);
+        DeviceDataVersions.bump(getDevice());
+    }
+
+    @NonNull
+    @Override
+    public List<SampleBucket> getSampleBuckets(final SampleMetric metric,
+                                               final SampleResolution resolution,
+                                               final long timestampFrom,
+                                               final long timestampTo) {
+        return new SampleBucketProvider(getDevice(), getSession()).getBuckets(
+                metric,
+                resolution,
+                (int) (timestampFrom / 1000L),
+                (int) (timestampTo / 1000L),
+                SampleBucketProvider.fromTimeSamples(this, metric)
+        );
     }
 
     @Nullable
@@ -208,6 +264,19 @@ public abstract class AbstractTimeSampleProvider<T extends AbstractTimeSample> i
     protected abstract Property getDeviceIdentifierSampleProperty();
 
     public void persistForDevice(final Context context, final GBDevice gbDevice, final List<T> samples) {
+        try {
+            addSamplesForDevice(gbDevice, samples);
+        } catch (final Exception e) {
+            LOG.error("Error saving samples", e);
+            GB.toast(context, "Error saving samples", Toast.LENGTH_LONG, GB.ERROR, e);
+        }
+    }
+
+    /**
+     * Same as {@link #persistForDevice(Context, GBDevice, List)}, but failures are thrown instead
+     * of shown, so that the caller can roll back its transaction.
+     */
+    public void addSamplesForDevice(final GBDevice gbDevice, final List<T> samples) {
         if (samples.isEmpty()) {
             return;
         }
@@ -218,21 +287,16 @@ public abstract class AbstractTimeSampleProvider<T extends AbstractTimeSample> i
                 getClass().getSimpleName().replace("SampleProvider", "")
         );
 
-        try {
-            final DaoSession session = getSession();
-
-            final Device device = DBHelper.getDevice(gbDevice, session);
-            final User user = DBHelper.getUser(session);
+        final DaoSession session = getSession();
 
-            for (final T sample : samples) {
-                sample.setDevice(device);
-                sample.setUser(user);
-            }
+        final Device device = DBHelper.getDevice(gbDevice, session);
+        final User user = DBHelper.getUser(session);
 
-            this.addSamples(samples);
-        } catch (final Exception e) {
-            LOG.error("Error saving samples", e);
-            GB.toast(context, "Error saving samples", Toast.LENGTH_LONG, GB.ERROR, e);
+        for (final T sample : samples) {
+            sample.setDevice(device);
+            sample.setUser(user);
         }
+
+        this.addSamples(samples);
     }
 }
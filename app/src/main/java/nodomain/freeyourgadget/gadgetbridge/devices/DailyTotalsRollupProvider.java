@@ -0,0 +1,191 @@
+/*  Copyright (C) 2026 Freeyourgadget
+
+    This file is part of Gadgetbridge.
+
+    Gadgetbridge is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published
+    by the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    Gadgetbridge is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>. */
+package nodomain.freeyourgadget.gadgetbridge.devices;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import nodomain.freeyourgadget.gadgetbridge.database.DBHelper;
+import nodomain.freeyourgadget.gadgetbridge.entities.DailyTotalsRollup;
+import nodomain.freeyourgadget.gadgetbridge.entities.DailyTotalsRollupDao;
+import nodomain.freeyourgadget.gadgetbridge.entities.DaoSession;
+import nodomain.freeyourgadget.gadgetbridge.entities.Device;
+import nodomain.freeyourgadget.gadgetbridge.impl.GBDevice;
+
+/**
+ * Access to the pre-computed {@link DailyTotalsRollup} of a device.
+ * <p>
+ * Rows are filled in on demand when the totals of a complete day are first computed, and are
+ * removed whenever samples of that day are added, so that they get computed again. Rows must be
+ * stored with write access, and only if no samples of the device were added since reading the
+ * samples they were computed from, see {@link nodomain.freeyourgadget.gadgetbridge.database.DeviceDataVersions}.
+ * <p>
+ * Days are local calendar days, which are not always 24 hours long because of daylight saving time.
+ */
+public final class DailyTotalsRollupProvider {
+    private static final Logger LOG = LoggerFactory.getLogger(DailyTotalsRollupProvider.class);
+
+    private final DaoSession mSession;
+    private final GBDevice mDevice;
+
+    public DailyTotalsRollupProvider(final GBDevice device, final DaoSession session) {
+        mDevice = device;
+        mSession = session;
+    }
+
+    @Nullable
+    public DailyTotalsRollup get(final int dayStart) {
+        final Device dbDevice = DBHelper.findDevice(mDevice, mSession);
+        if (dbDevice == null) {
+            return null;
+        }
+        final DailyTotalsRollupDao dao = mSession.getDailyTotalsRollupDao();
+        final List<DailyTotalsRollup> rollups = dao.queryBuilder()
+                .where(
+                        DailyTotalsRollupDao.Properties.DeviceId.eq(dbDevice.getId()),
+                        DailyTotalsRollupDao.Properties.DayStart.eq(dayStart)
+                ).limit(1)
+                .list();
+        dao.detachAll();
+        return !rollups.isEmpty() ? rollups.get(0) : null;
+    }
+
+    /**
+     * @return the stored rollups between both day starts (inclusive), by day start
+     */
+    @NonNull
+    public Map<Integer, DailyTotalsRollup> getRange(final int fromDayStart, final int toDayStart) {
+        final Device dbDevice = DBHelper.findDevice(mDevice, mSession);
+        if (dbDevice == null) {
+            return Collections.emptyMap();
+        }
+        final DailyTotalsRollupDao dao = mSession.getDailyTotalsRollupDao();
+        final List<DailyTotalsRollup> rollups = dao.queryBuilder()
+                .where(
+                        DailyTotalsRollupDao.Properties.DeviceId.eq(dbDevice.getId()),
+                        DailyTotalsRollupDao.Properties.DayStart.ge(fromDayStart),
+                        DailyTotalsRollupDao.Properties.DayStart.le(toDayStart)
+                ).list();
+        dao.detachAll();
+
+        final Map<Integer, DailyTotalsRollup> ret = new HashMap<>(rollups.size() * 2);
+        for (final DailyTotalsRollup rollup : rollups) {
+            ret.put(rollup.getDayStart(), rollup);
+        }
+        return ret;
+    }
+
+    /**
+     * Stores the rollups of complete days. The device of the rollups is set by this method.
+     */
+    public void store(final List<DailyTotalsRollup> rollups) {
+        final Device dbDevice = DBHelper.findDevice(mDevice, mSession);
+        if (dbDevice == null) {
+            return;
+        }
+        for (final DailyTotalsRollup rollup : rollups) {
+            if (!isComplete(rollup.getDayStart())) {
+                throw new IllegalArgumentException("Refusing to store rollup of incomplete day " + rollup.getDayStart());
+            }
+            rollup.setDeviceId(dbDevice.getId());
+        }
+        final DailyTotalsRollupDao dao = mSession.getDailyTotalsRollupDao();
+        dao.insertOrReplaceInTx(rollups);
+        dao.detachAll();
+    }
+
+    /**
+     * Removes the rollups of all days that are affected by samples between both timestamps (inclusive),
+     * in seconds. This is cheap for recent samples, which can only affect days that were not stored yet.
+     */
+    public void invalidate(final long timestampFrom, final long timestampTo) {
+        if (timestampFrom >= getStartOfToday()) {
+            return;
+        }
+        final Device dbDevice = DBHelper.findDevice(mDevice, mSession);
+        if (dbDevice == null) {
+            return;
+        }
+        final Calendar day = Calendar.getInstance();
+        day.setTimeInMillis(timestampFrom * 1000L);
+        final int fromDayStart = getDayStart(day);
+        // a sample contributes to the totals of its own day, and to the sleep of the following
+        // day, which starts at noon of the day before
+        day.setTimeInMillis(timestampTo * 1000L);
+        day.add(Calendar.DATE, 1);
+        final int toDayStart = getDayStart(day);
+        mSession.getDailyTotalsRollupDao().queryBuilder()
+                .where(
+                        DailyTotalsRollupDao.Properties.DeviceId.eq(dbDevice.getId()),
+                        DailyTotalsRollupDao.Properties.DayStart.ge(fromDayStart),
+                        DailyTotalsRollupDao.Properties.DayStart.le(toDayStart)
+                ).buildDelete()
+                .executeDeleteWithoutDetachingEntities();
+    }
+
+    /**
+     * Removes all rollups of the device, so that they get computed again.
+     */
+    public void clear() {
+        final Device dbDevice = DBHelper.findDevice(mDevice, mSession);
+        if (dbDevice == null) {
+            return;
+        }
+        LOG.info("Clearing daily totals rollup for {}", mDevice);
+        mSession.getDailyTotalsRollupDao().queryBuilder()
+                .where(DailyTotalsRollupDao.Properties.DeviceId.eq(dbDevice.getId()))
+                .buildDelete()
+                .executeDeleteWithoutDetachingEntities();
+    }
+
+    /**
+     * Removes the rollups of all devices, e.g. after the user profile changed.
+     */
+    public static void clearAll(final DaoSession session) {
+        LOG.info("Clearing daily totals rollup for all devices");
+        session.getDailyTotalsRollupDao().deleteAll();
+    }
+
+    /**
+     * Whether all samples of a day, including its sleep window, are in the past.
+     */
+    public static boolean isComplete(final int dayStart) {
+        return dayStart < getStartOfToday();
+    }
+
+    public static int getDayStart(final Calendar day) {
+        final Calendar dayStart = (Calendar) day.clone();
+        dayStart.set(Calendar.HOUR_OF_DAY, 0);
+        dayStart.set(Calendar.MINUTE, 0);
+        dayStart.set(Calendar.SECOND, 0);
+        dayStart.set(Calendar.MILLISECOND, 0);
+        return (int) (dayStart.getTimeInMillis() / 1000);
+    }
+
+    private static int getStartOfToday() {
+        return getDayStart(Calendar.getInstance());
+    }
+}
@@ -19,6 +19,7 @@ package nodomain.freeyourgadget.gadgetbridge.devices;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
@@ -73,6 +74,16 @@ public class DefaultRestingMetabolicRateProvider extends AbstractTimeSampleProvi
         throw new UnsupportedOperationException("addSamples not supported");
     }
 
+    @Override
+    public void addSamples(final SampleColumns samples) {
+        // the rate is computed, so there is no table to insert the columns into
+        final List<RestingMetabolicRateSample> timeSamples = new ArrayList<>(samples.size());
+        for (int i = 0; i < samples.size(); i++) {
+            timeSamples.add(new DefaultRestingMetabolicRateSample(samples.getTimestamp(i)));
+        }
+        addSamples(timeSamples);
+    }
+
     @Override
     public RestingMetabolicRateSample createSample() {
         return new DefaultRestingMetabolicRateSample(System.currentTimeMillis());
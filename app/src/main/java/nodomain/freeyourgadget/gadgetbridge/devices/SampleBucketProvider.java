@@ -0,0 +1,397 @@
+/*  Copyright (C) 2026 Freeyourgadget
+
+    This file is part of Gadgetbridge.
+
+    Gadgetbridge is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published
+    by the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    Gadgetbridge is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>. */
+package nodomain.freeyourgadget.gadgetbridge.devices;
+
+import androidx.annotation.NonNull;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import nodomain.freeyourgadget.gadgetbridge.GBApplication;
+import nodomain.freeyourgadget.gadgetbridge.database.DBHandler;
+import nodomain.freeyourgadget.gadgetbridge.database.DBHelper;
+import nodomain.freeyourgadget.gadgetbridge.database.DeviceDataVersions;
+import nodomain.freeyourgadget.gadgetbridge.entities.DaoSession;
+import nodomain.freeyourgadget.gadgetbridge.entities.Device;
+import nodomain.freeyourgadget.gadgetbridge.entities.SampleBucket;
+import nodomain.freeyourgadget.gadgetbridge.entities.SampleBucketDao;
+import nodomain.freeyourgadget.gadgetbridge.impl.GBDevice;
+import nodomain.freeyourgadget.gadgetbridge.model.ActivitySample;
+import nodomain.freeyourgadget.gadgetbridge.model.SampleMetric;
+import nodomain.freeyourgadget.gadgetbridge.model.SampleResolution;
+import nodomain.freeyourgadget.gadgetbridge.model.TimeSample;
+import nodomain.freeyourgadget.gadgetbridge.util.DateTimeUtils;
+
+/**
+ * Access to the {@link SampleBucket}s of a device, which aggregate the samples of a metric at
+ * several resolutions, so that long time ranges can be charted without reading every sample.
+ * <p>
+ * Buckets are computed a whole day at a time, when a day is first requested, and stored once the
+ * day is complete. The day bucket is always stored, even if empty, to mark the day as computed.
+ * Writing samples removes the buckets of the affected days, so that they get computed again.
+ * Like for {@link DailyTotalsRollupProvider}, buckets are computed with the session of the caller,
+ * which may only have read access, but stored with write access, and only if no samples of the
+ * device were added since reading the samples they were computed from, see {@link DeviceDataVersions}.
+ * <p>
+ * Minute buckets are not stored, since they are not much smaller than the samples themselves,
+ * and are only picked for short time ranges.
+ */
+public final class SampleBucketProvider {
+    private static final Logger LOG = LoggerFactory.getLogger(SampleBucketProvider.class);
+
+    private static final SampleResolution[] STORED_RESOLUTIONS = {
+            SampleResolution.QUARTER_HOUR,
+            SampleResolution.HOUR,
+            SampleResolution.DAY,
+    };
+
+    /**
+     * Reads the values of a metric from the samples.
+     */
+    public interface ValueSource {
+        /**
+         * @param timestampFrom the start timestamp, in seconds, inclusive
+         * @param timestampTo   the end timestamp, in seconds, inclusive
+         */
+        void read(int timestampFrom, int timestampTo, ValueConsumer consumer);
+    }
+
+    public interface ValueConsumer {
+        /**
+         * @param timestamp the timestamp of the value, in seconds
+         * @param value     a valid value, see {@link SampleMetric#getValue(Object)}
+         */
+        void accept(int timestamp, int value);
+    }
+
+    private final DaoSession mSession;
+    private final GBDevice mDevice;
+
+    public SampleBucketProvider(final GBDevice device, final DaoSession session) {
+        mDevice = device;
+        mSession = session;
+    }
+
+    /**
+     * Gets the non-empty buckets that overlap a time range, ordered by time.
+     *
+     * @param timestampFrom the start timestamp, in seconds, inclusive
+     * @param timestampTo   the end timestamp, in seconds, inclusive
+     */
+    @NonNull
+    public List<SampleBucket> getBuckets(final SampleMetric metric,
+                                         final SampleResolution resolution,
+                                         final int timestampFrom,
+                                         final int timestampTo,
+                                         final ValueSource source) {
+        final Device dbDevice = DBHelper.findDevice(mDevice, mSession);
+        if (dbDevice == null || resolution == SampleResolution.MINUTE) {
+            return aggregate(metric, resolution, timestampFrom, timestampTo, source);
+        }
+        final long version = DeviceDataVersions.getForReading(mDevice);
+
+        final int firstDayStart = getDayStart(timestampFrom);
+        final int lastDayStart = getDayStart(timestampTo);
+        final int lastDayEnd = getNextDayStart(lastDayStart);
+
+        final SampleBucketDao dao = mSession.getSampleBucketDao();
+        final List<SampleBucket> storedDays = query(dbDevice, metric, SampleResolution.DAY, firstDayStart, lastDayStart);
+        final Set<Integer> computedDays = new HashSet<>();
+        for (final SampleBucket dayBucket : storedDays) {
+            computedDays.add(dayBucket.getTimestamp());
+        }
+
+        final List<SampleBucket> ret = new ArrayList<>();
+        if (resolution == SampleResolution.DAY) {
+            ret.addAll(storedDays);
+        } else if (!computedDays.isEmpty()) {
+            ret.addAll(query(dbDevice, metric, resolution, firstDayStart, lastDayEnd - 1));
+        }
+
+        final List<SampleBucket> toStore = new ArrayList<>();
+        for (int dayStart = firstDayStart; dayStart <= lastDayStart; dayStart = getNextDayStart(dayStart)) {
+            if (computedDays.contains(dayStart)) {
+                continue;
+            }
+            final boolean complete = dayStart < getDayStart(System.currentTimeMillis() / 1000L);
+            final List<SampleBucket> dayBuckets = aggregateDay(metric, dayStart, getNextDayStart(dayStart), STORED_RESOLUTIONS, source);
+            for (final SampleBucket bucket : dayBuckets) {
+                if (bucket.getResolution() == resolution.getSeconds()) {
+                    ret.add(bucket);
+                }
+                if (complete) {
+                    bucket.setDeviceId(dbDevice.getId());
+                    toStore.add(bucket);
+                }
+            }
+        }
+
+        dao.detachAll();
+        if (!toStore.isEmpty()) {
+            store(metric, toStore, version);
+        }
+
+        return filter(ret, timestampFrom, timestampTo);
+    }
+
+    /**
+     * Removes the buckets of all days with samples between both timestamps (inclusive), in seconds.
+     * This is cheap for samples of today, since its buckets are not stored yet.
+     */
+    public void invalidate(final long timestampFrom, final long timestampTo) {
+        final int firstDayStart = getDayStart(timestampFrom);
+        if (firstDayStart >= getDayStart(System.currentTimeMillis() / 1000L)) {
+            return;
+        }
+        final Device dbDevice = DBHelper.findDevice(mDevice, mSession);
+        if (dbDevice == null) {
+            return;
+        }
+        mSession.getSampleBucketDao().queryBuilder()
+                .where(
+                        SampleBucketDao.Properties.DeviceId.eq(dbDevice.getId()),
+                        SampleBucketDao.Properties.Timestamp.ge(firstDayStart),
+                        SampleBucketDao.Properties.Timestamp.lt(getNextDayStart(getDayStart(timestampTo)))
+                ).buildDelete()
+                .executeDeleteWithoutDetachingEntities();
+    }
+
+    /**
+     * Removes all buckets of the device, so that they get computed again.
+     */
+    public void clear() {
+        final Device dbDevice = DBHelper.findDevice(mDevice, mSession);
+        if (dbDevice == null) {
+            return;
+        }
+        LOG.info("Clearing sample buckets for {}", mDevice);
+        mSession.getSampleBucketDao().queryBuilder()
+                .where(SampleBucketDao.Properties.DeviceId.eq(dbDevice.getId()))
+                .buildDelete()
+                .executeDeleteWithoutDetachingEntities();
+    }
+
+    /**
+     * Aggregates the samples in memory, without storing the buckets.
+     *
+     * @see #getBuckets(SampleMetric, SampleResolution, int, int, ValueSource)
+     */
+    @NonNull
+    public static List<SampleBucket> aggregate(final SampleMetric metric,
+                                               final SampleResolution resolution,
+                                               final int timestampFrom,
+                                               final int timestampTo,
+                                               final ValueSource source) {
+        final List<SampleBucket> ret = new ArrayList<>();
+        final int lastDayStart = getDayStart(timestampTo);
+        for (int dayStart = getDayStart(timestampFrom); dayStart <= lastDayStart; dayStart = getNextDayStart(dayStart)) {
+            ret.addAll(aggregateDay(metric, dayStart, getNextDayStart(dayStart), new SampleResolution[]{resolution}, source));
+        }
+        return filter(ret, timestampFrom, timestampTo);
+    }
+
+    /**
+     * Reads the values of a metric from the (high resolution) activity samples of a provider.
+     */
+    public static ValueSource fromActivitySamples(final SampleProvider<? extends ActivitySample> provider,
+                                                  final SampleMetric metric) {
+        return (timestampFrom, timestampTo, consumer) -> {
+            for (final ActivitySample sample : provider.getAllActivitySamplesHighRes(timestampFrom, timestampTo)) {
+                if (!metric.isMetricOf(sample)) {
+                    throw new IllegalArgumentException("Samples of " + provider.getClass().getSimpleName() + " have no " + metric);
+                }
+                final int value = metric.getValue(sample);
+                if (value != SampleMetric.NO_VALUE) {
+                    consumer.accept(sample.getTimestamp(), value);
+                }
+            }
+        };
+    }
+
+    /**
+     * Reads the values of a metric from the samples of a time sample provider.
+     */
+    public static ValueSource fromTimeSamples(final TimeSampleProvider<? extends TimeSample> provider,
+                                              final SampleMetric metric) {
+        return (timestampFrom, timestampTo, consumer) -> {
+            for (final TimeSample sample : provider.getAllSamples(timestampFrom * 1000L, timestampTo * 1000L + 999L)) {
+                if (!metric.isMetricOf(sample)) {
+                    throw new IllegalArgumentException("Samples of " + provider.getClass().getSimpleName() + " have no " + metric);
+                }
+                final int value = metric.getValue(sample);
+                if (value != SampleMetric.NO_VALUE) {
+                    consumer.accept((int) (sample.getTimestamp() / 1000L), value);
+                }
+            }
+        };
+    }
+
+    /**
+     * Stores the buckets with write access, unless samples of the device were added since reading
+     * the samples they were computed from.
+     */
+    private void store(final SampleMetric metric, final List<SampleBucket> buckets, final long version) {
+        if (DeviceDataVersions.get(mDevice) != version) {
+            LOG.debug("Not storing {} {} buckets for {}, samples were added meanwhile", buckets.size(), metric, mDevice);
+            return;
+        }
+        try (DBHandler handler = GBApplication.acquireDB()) {
+            // writers only change the version while holding write access
+            if (DeviceDataVersions.get(mDevice) != version) {
+                LOG.debug("Not storing {} {} buckets for {}, samples were added meanwhile", buckets.size(), metric, mDevice);
+                return;
+            }
+            LOG.debug("Storing {} {} buckets for {}", buckets.size(), metric, mDevice);
+            final SampleBucketDao dao = handler.getDaoSession().getSampleBucketDao();
+            dao.insertOrReplaceInTx(buckets);
+            dao.detachAll();
+        } catch (final Exception e) {
+            LOG.warn("Failed to store {} buckets for {}", metric, mDevice, e);
+        }
+    }
+
+    private List<SampleBucket> query(final Device dbDevice,
+                                     final SampleMetric metric,
+                                     final SampleResolution resolution,
+                                     final int timestampFrom,
+                                     final int timestampTo) {
+        return mSession.getSampleBucketDao().queryBuilder()
+                .where(
+                        SampleBucketDao.Properties.DeviceId.eq(dbDevice.getId()),
+                        SampleBucketDao.Properties.Metric.eq(metric.getId()),
+                        SampleBucketDao.Properties.Resolution.eq(resolution.getSeconds()),
+                        SampleBucketDao.Properties.Timestamp.ge(timestampFrom),
+                        SampleBucketDao.Properties.Timestamp.le(timestampTo)
+                ).list();
+    }
+
+    /**
+     * Computes the buckets of a day at the given resolutions in a single pass over the samples.
+     * The day bucket is always returned, buckets of other resolutions only if not empty.
+     */
+    private static List<SampleBucket> aggregateDay(final SampleMetric metric,
+                                                   final int dayStart,
+                                                   final int nextDayStart,
+                                                   final SampleResolution[] resolutions,
+                                                   final ValueSource source) {
+        final Accumulator[] accumulators = new Accumulator[resolutions.length];
+        for (int i = 0; i < resolutions.length; i++) {
+            final int seconds = resolutions[i] == SampleResolution.DAY ? nextDayStart - dayStart : resolutions[i].getSeconds();
+            accumulators[i] = new Accumulator(dayStart, nextDayStart, seconds);
+        }
+
+        source.read(dayStart, nextDayStart - 1, (timestamp, value) -> {
+            for (final Accumulator accumulator : accumulators) {
+                accumulator.add(timestamp, value);
+            }
+        });
+
+        final List<SampleBucket> ret = new ArrayList<>();
+        for (int i = 0; i < resolutions.length; i++) {
+            accumulators[i].collect(metric, resolutions[i], resolutions[i] == SampleResolution.DAY, ret);
+        }
+        return ret;
+    }
+
+    private static List<SampleBucket> filter(final List<SampleBucket> buckets, final int timestampFrom, final int timestampTo) {
+        final List<SampleBucket> ret = new ArrayList<>(buckets.size());
+        for (final SampleBucket bucket : buckets) {
+            if (bucket.getCount() > 0 && bucket.getTimestamp() <= timestampTo && bucket.getTimestamp() + bucket.getResolution() > timestampFrom) {
+                ret.add(bucket);
+            }
+        }
+        Collections.sort(ret, Comparator.comparingInt(SampleBucket::getTimestamp));
+        return ret;
+    }
+
+    private static int getDayStart(final long timestamp) {
+        final Calendar calendar = Calendar.getInstance();
+        calendar.setTimeInMillis(timestamp * 1000L);
+        return (int) (DateTimeUtils.dayStart(calendar).getTimeInMillis() / 1000L);
+    }
+
+    private static int getNextDayStart(final int dayStart) {
+        final Calendar calendar = Calendar.getInstance();
+        calendar.setTimeInMillis(dayStart * 1000L);
+        calendar.add(Calendar.DATE, 1);
+        return (int) (DateTimeUtils.dayStart(calendar).getTimeInMillis() / 1000L);
+    }
+
+    private static class Accumulator {
+        private final int start;
+        private final int end;
+        private final int seconds;
+        private final int[] min;
+        private final int[] max;
+        private final long[] sum;
+        private final int[] count;
+
+        private Accumulator(final int start, final int end, final int seconds) {
+            this.start = start;
+            this.end = end;
+            this.seconds = seconds;
+            final int numBuckets = (end - start + seconds - 1) / seconds;
+            this.min = new int[numBuckets];
+            this.max = new int[numBuckets];
+            this.sum = new long[numBuckets];
+            this.count = new int[numBuckets];
+        }
+
+        private void add(final int timestamp, final int value) {
+            if (timestamp < start || timestamp >= end) {
+                return;
+            }
+            final int i = (timestamp - start) / seconds;
+            if (count[i] == 0 || value < min[i]) {
+                min[i] = value;
+            }
+            if (count[i] == 0 || value > max[i]) {
+                max[i] = value;
+            }
+            sum[i] += value;
+            count[i]++;
+        }
+
+        private void collect(final SampleMetric metric,
+                             final SampleResolution resolution,
+                             final boolean includeEmpty,
+                             final List<SampleBucket> out) {
+            for (int i = 0; i < count.length; i++) {
+                if (count[i] == 0 && !includeEmpty) {
+                    continue;
+                }
+                final SampleBucket bucket = new SampleBucket();
+                bucket.setMetric(metric.getId());
+                bucket.setResolution(resolution.getSeconds());
+                bucket.setTimestamp(start + i * seconds);
+                bucket.setMin(min[i]);
+                bucket.setMax(max[i]);
+                bucket.setSum(sum[i]);
+                bucket.setCount(count[i]);
+                out.add(bucket);
+            }
+        }
+    }
+}
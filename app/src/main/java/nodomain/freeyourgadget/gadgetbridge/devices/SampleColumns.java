@@ -0,0 +1,222 @@
+/*  Copyright (C) 2026 Freeyourgadget
+
+    This file is part of Gadgetbridge.
+
+    Gadgetbridge is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published
+    by the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    Gadgetbridge is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>. */
+package nodomain.freeyourgadget.gadgetbridge.devices;
+
+import android.database.sqlite.SQLiteDatabase;
+import android.database.sqlite.SQLiteStatement;
+
+import androidx.annotation.Nullable;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import de.greenrobot.dao.AbstractDao;
+import de.greenrobot.dao.Property;
+
+/**
+ * A batch of samples stored column by column in primitive arrays, to be inserted without
+ * creating an entity for every sample, see {@link AbstractSampleProvider#addGBActivitySamples(SampleColumns)}
+ * and {@link AbstractTimeSampleProvider#addSamples(SampleColumns)}.
+ * <p>
+ * The device and user of the samples are set when inserting. Columns that are not given are
+ * written as 0 if they can not be null, and as null otherwise.
+ */
+public final class SampleColumns {
+    private static final String USER_ID_PROPERTY = "userId";
+
+    private final long[] timestamps;
+    private final Map<String, Object> columns = new LinkedHashMap<>();
+
+    /**
+     * @param timestamps the timestamps of the samples, in the unit of the sample type - seconds for
+     *                   activity samples, milliseconds for time samples
+     */
+    public SampleColumns(final long[] timestamps) {
+        this.timestamps = timestamps;
+    }
+
+    public SampleColumns put(final Property property, final int[] values) {
+        return putColumn(property, values, values.length);
+    }
+
+    public SampleColumns put(final Property property, final long[] values) {
+        return putColumn(property, values, values.length);
+    }
+
+    public SampleColumns put(final Property property, final float[] values) {
+        return putColumn(property, values, values.length);
+    }
+
+    private SampleColumns putColumn(final Property property, final Object values, final int length) {
+        if (length != timestamps.length) {
+            throw new IllegalArgumentException("Expected " + timestamps.length + " values for " + property.name + ", got " + length);
+        }
+        columns.put(property.columnName, values);
+        return this;
+    }
+
+    /**
+     * @return a batch with the same columns as this one, for the given timestamps, for example to
+     * convert them to another unit
+     */
+    public SampleColumns withTimestamps(final long[] newTimestamps) {
+        if (newTimestamps.length != timestamps.length) {
+            throw new IllegalArgumentException("Expected " + timestamps.length + " timestamps, got " + newTimestamps.length);
+        }
+        final SampleColumns copy = new SampleColumns(newTimestamps);
+        copy.columns.putAll(columns);
+        return copy;
+    }
+
+    public boolean has(final Property property) {
+        return columns.containsKey(property.columnName);
+    }
+
+    /**
+     * @return the value of the column in the given row, or the default value if the column was
+     * not given. For providers that can not insert the columns directly and create the samples
+     * one by one instead.
+     */
+    public int getInt(final Property property, final int row, final int defaultValue) {
+        final Object values = columns.get(property.columnName);
+        if (values instanceof int[]) {
+            return ((int[]) values)[row];
+        } else if (values instanceof long[]) {
+            return (int) ((long[]) values)[row];
+        } else if (values instanceof float[]) {
+            return Math.round(((float[]) values)[row]);
+        }
+        return defaultValue;
+    }
+
+    public int size() {
+        return timestamps.length;
+    }
+
+    public long getTimestamp(final int i) {
+        return timestamps[i];
+    }
+
+    public long getMinTimestamp() {
+        long min = Long.MAX_VALUE;
+        for (final long timestamp : timestamps) {
+            min = Math.min(min, timestamp);
+        }
+        return min;
+    }
+
+    public long getMaxTimestamp() {
+        long max = Long.MIN_VALUE;
+        for (final long timestamp : timestamps) {
+            max = Math.max(max, timestamp);
+        }
+        return max;
+    }
+
+    /**
+     * Inserts or replaces all samples into the table of the dao, through a single compiled
+     * statement in one transaction. Entities of the dao that are attached to the session are
+     * detached afterwards, since they may be outdated.
+     */
+    void insertOrReplace(final AbstractDao<?, ?> dao,
+                         final Property timestampProperty,
+                         final Property deviceProperty,
+                         final long deviceId,
+                         final long userId) {
+        final Property[] properties = dao.getProperties();
+        final Object[] values = new Object[properties.length];
+        final StringBuilder sql = new StringBuilder("INSERT OR REPLACE INTO \"").append(dao.getTablename()).append("\" (");
+        int numColumns = 0;
+        for (int i = 0; i < properties.length; i++) {
+            final Property property = properties[i];
+            if (i > 0) {
+                sql.append(',');
+            }
+            sql.append('"').append(property.columnName).append('"');
+            values[i] = columns.get(property.columnName);
+            if (values[i] != null) {
+                numColumns++;
+                if (isBoundByProvider(property, timestampProperty, deviceProperty)) {
+                    throw new IllegalArgumentException("Column " + property.name + " is set by the sample provider");
+                }
+            }
+        }
+        if (numColumns != columns.size()) {
+            throw new IllegalArgumentException("Unknown columns for " + dao.getTablename() + " in " + columns.keySet());
+        }
+        sql.append(") VALUES (");
+        for (int i = 0; i < properties.length; i++) {
+            sql.append(i > 0 ? ",?" : "?");
+        }
+        sql.append(')');
+
+        final SQLiteDatabase db = dao.getDatabase();
+        db.beginTransaction();
+        try {
+            final SQLiteStatement statement = db.compileStatement(sql.toString());
+            try {
+                for (int row = 0; row < timestamps.length; row++) {
+                    for (int i = 0; i < properties.length; i++) {
+                        final Property property = properties[i];
+                        // bind indices are 1-based
+                        if (property == timestampProperty) {
+                            statement.bindLong(i + 1, timestamps[row]);
+                        } else if (property == deviceProperty) {
+                            statement.bindLong(i + 1, deviceId);
+                        } else if (USER_ID_PROPERTY.equals(property.name)) {
+                            statement.bindLong(i + 1, userId);
+                        } else {
+                            bind(statement, i + 1, property, values[i], row);
+                        }
+                    }
+                    statement.executeInsert();
+                }
+            } finally {
+                statement.close();
+            }
+            db.setTransactionSuccessful();
+        } finally {
+            db.endTransaction();
+        }
+
+        dao.detachAll();
+    }
+
+    private static boolean isBoundByProvider(final Property property,
+                                             final Property timestampProperty,
+                                             final Property deviceProperty) {
+        return property == timestampProperty || property == deviceProperty || USER_ID_PROPERTY.equals(property.name);
+    }
+
+    private static void bind(final SQLiteStatement statement,
+                             final int index,
+                             final Property property,
+                             @Nullable final Object values,
+                             final int row) {
+        if (values instanceof int[]) {
+            statement.bindLong(index, ((int[]) values)[row]);
+        } else if (values instanceof long[]) {
+            statement.bindLong(index, ((long[]) values)[row]);
+        } else if (values instanceof float[]) {
+            statement.bindDouble(index, ((float[]) values)[row]);
+        } else if (property.type.isPrimitive()) {
+            statement.bindLong(index, 0);
+        } else {
+            statement.bindNull(index);
+        }
+    }
+}
@@ -22,7 +22,10 @@ import java.util.List;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import nodomain.freeyourgadget.gadgetbridge.entities.AbstractActivitySample;
+import nodomain.freeyourgadget.gadgetbridge.entities.SampleBucket;
 import nodomain.freeyourgadget.gadgetbridge.model.ActivityKind;
+import nodomain.freeyourgadget.gadgetbridge.model.SampleMetric;
+import nodomain.freeyourgadget.gadgetbridge.model.SampleResolution;
 
 /**
  * Interface to retrieve samples from the database, and also create and add samples to the database.
@@ -119,4 +122,25 @@ public interface SampleProvider<T extends AbstractActivitySample> {
     @Nullable
     T getFirstActivitySample();
 
+    /**
+     * Returns the values of a metric within the given time span, aggregated into buckets of the
+     * given resolution. Empty buckets are omitted. Implementations may keep the buckets stored, so
+     * this should be preferred over aggregating the samples when charting long time spans.
+     * @param metric the metric to aggregate, which must be one of the activity samples
+     * @param resolution the resolution of the buckets, see {@link SampleResolution#forRange(long, int)}
+     * @param timestamp_from the start timestamp
+     * @param timestamp_to the end timestamp
+     * @return the buckets overlapping the time span, ordered by time
+     */
+    @NonNull
+    default List<SampleBucket> getSampleBuckets(SampleMetric metric, SampleResolution resolution, int timestamp_from, int timestamp_to) {
+        return SampleBucketProvider.aggregate(
+                metric,
+                resolution,
+                timestamp_from,
+                timestamp_to,
+                SampleBucketProvider.fromActivitySamples(this, metric)
+        );
+    }
+
 }
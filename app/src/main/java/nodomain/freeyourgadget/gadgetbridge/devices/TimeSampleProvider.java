@@ -21,6 +21,9 @@ import androidx.annotation.Nullable;
 
 import java.util.List;
 
+import nodomain.freeyourgadget.gadgetbridge.entities.SampleBucket;
+import nodomain.freeyourgadget.gadgetbridge.model.SampleMetric;
+import nodomain.freeyourgadget.gadgetbridge.model.SampleResolution;
 import nodomain.freeyourgadget.gadgetbridge.model.TimeSample;
 
 /**
@@ -96,4 +99,31 @@ public interface TimeSampleProvider<T extends TimeSample> {
      */
     @Nullable
     T getFirstSample();
+
+    /**
+     * Returns the values of a metric within the given time span, aggregated into buckets of the
+     * given resolution. Empty buckets are omitted. Implementations may keep the buckets stored, so
+     * this should be preferred over aggregating the samples when charting long time spans.
+     * <p>
+     * Note that, unlike the samples, the buckets have timestamps in seconds.
+     *
+     * @param metric        the metric to aggregate, which must be the one of these samples
+     * @param resolution    the resolution of the buckets, see {@link SampleResolution#forRange(long, int)}
+     * @param timestampFrom the start timestamp, in milliseconds
+     * @param timestampTo   the end timestamp, in milliseconds
+     * @return the buckets overlapping the time span, ordered by time
+     */
+    @NonNull
+    default List<SampleBucket> getSampleBuckets(final SampleMetric metric,
+                                                final SampleResolution resolution,
+                                                final long timestampFrom,
+                                                final long timestampTo) {
+        return SampleBucketProvider.aggregate(
+                metric,
+                resolution,
+                (int) (timestampFrom / 1000L),
+                (int) (timestampTo / 1000L),
+                SampleBucketProvider.fromTimeSamples(this, metric)
+        );
+    }
 }
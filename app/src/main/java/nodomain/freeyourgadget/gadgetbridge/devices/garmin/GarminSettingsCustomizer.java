@@ -121,9 +121,13 @@ public class GarminSettingsCustomizer implements DeviceSpecificSettingsCustomize
                                 }
 
                                 @Override
-                                public void onFinish() {
+                                public void onFinish(final List<File> failedFiles) {
                                     GB.updateTransferNotification("", "", false, 100, context);
-                                    GB.toast("Parsed " + filesToProcess.size() + " files", Toast.LENGTH_SHORT, GB.INFO);
+                                    if (failedFiles.isEmpty()) {
+                                        GB.toast("Parsed " + filesToProcess.size() + " files", Toast.LENGTH_SHORT, GB.INFO);
+                                    } else {
+                                        GB.toast("Failed to parse " + failedFiles.size() + " of " + filesToProcess.size() + " files", Toast.LENGTH_LONG, GB.WARN);
+                                    }
                                     handler.getDevice().sendDeviceUpdateIntent(context);
                                 }
                             });
@@ -393,7 +397,11 @@ public class GarminSettingsCustomizer implements DeviceSpecificSettingsCustomize
             }
 
             @Override
-            public void onFinish() {
+            public void onFinish(final List<File> failedFiles) {
+                if (!failedFiles.isEmpty()) {
+                    LOG.warn("Failed to parse {} files: {}", failedFiles.size(), failedFiles);
+                    GB.toast(context, "Failed to parse " + failedFiles.size() + " of " + fitFiles.size() + " files", Toast.LENGTH_LONG, GB.WARN);
+                }
                 PARSING_FROM_STORAGE.set(false);
                 transferNotification.finish();
                 GB.signalActivityDataFinish(device);
@@ -28,7 +28,7 @@ import nodomain.freeyourgadget.gadgetbridge.model.ActivitySummaryData;
 import nodomain.freeyourgadget.gadgetbridge.model.ActivitySummaryParser;
 import nodomain.freeyourgadget.gadgetbridge.model.workout.Workout;
 import nodomain.freeyourgadget.gadgetbridge.model.workout.WorkoutChart;
-import nodomain.freeyourgadget.gadgetbridge.service.devices.garmin.fit.FitFile;
+import nodomain.freeyourgadget.gadgetbridge.service.devices.garmin.fit.FitStreamDecoder;
 import nodomain.freeyourgadget.gadgetbridge.service.devices.garmin.fit.RecordData;
 import nodomain.freeyourgadget.gadgetbridge.service.devices.garmin.fit.enums.GarminSport;
 import nodomain.freeyourgadget.gadgetbridge.service.devices.garmin.fit.exception.FitParseException;
@@ -44,6 +44,7 @@ import nodomain.freeyourgadget.gadgetbridge.service.devices.garmin.fit.messages.
 import nodomain.freeyourgadget.gadgetbridge.service.devices.garmin.fit.messages.FitSport;
 import nodomain.freeyourgadget.gadgetbridge.service.devices.garmin.fit.messages.FitTimeInZone;
 import nodomain.freeyourgadget.gadgetbridge.service.devices.garmin.fit.messages.FitUserProfile;
+import nodomain.freeyourgadget.gadgetbridge.util.ActivityTrackStore;
 import nodomain.freeyourgadget.gadgetbridge.util.FileUtils;
 import nodomain.freeyourgadget.gadgetbridge.util.StringUtils;
 
@@ -55,6 +56,8 @@ public class GarminWorkoutParser implements ActivitySummaryParser {
     private final List<FitTimeInZone> timesInZone = new ArrayList<>();
     private final List<ActivityPoint> activityPoints = new ArrayList<>();
     private List<ActivityPoint> sessionActivityPoints;
+    // the track of the parsed file, if its record points were not parsed since it was cached
+    private ActivityTrackStore.Track cachedTrack = null;
     private FitSession session = null;
     private FitSport sport = null;
     private FitUserProfile userProfile = null;
@@ -96,29 +99,34 @@ public class GarminWorkoutParser implements ActivitySummaryParser {
             return new Workout(summary, ActivitySummaryData.fromJson(summary.getSummaryData()));
         }
 
-        final FitFile fitFile;
+        cachedTrack = ActivityTrackStore.getCachedTrack(file);
         try {
-            fitFile = FitFile.parseIncoming(file);
+            if (cachedTrack != null) {
+                // The points are read from the cached track, only the other messages are needed to
+                // update the summary
+                FitStreamDecoder.decode(file, record -> {
+                    if (!(record instanceof FitRecord)) {
+                        handleRecord(record);
+                    }
+                });
+            } else {
+                FitStreamDecoder.decode(file, this::handleRecord);
+            }
         } catch (final IOException | FitParseException e) {
             LOG.error("Failed to parse fit file", e);
             return new Workout(summary, ActivitySummaryData.fromJson(summary.getSummaryData()));
         }
-
-        for (final RecordData record : fitFile.getRecords()) {
-            handleRecord(record);
-        }
-
+        final ActivityTrackStore.Track track = cachedTrack != null ? cachedTrack : ActivityTrackStore.put(file, activityPoints, session);
         final ActivitySummaryData activitySummaryData = updateSummary(summary);
+
         final ActivityKind activityKind = ActivityKind.fromCode(summary.getActivityKind());
         final ActivityKind.CycleUnit cycleUnit = ActivityKind.getCycleUnit(activityKind);
 
-        if (cycleUnit == ActivityKind.CycleUnit.STEPS) {
-            activityPoints.forEach(ap -> ap.setCadence(ap.getCadence() * 2));
-        }
-
         final List<WorkoutChart> charts = new LinkedList<>();
-        if (!this.activityPoints.isEmpty()) {
-            charts.addAll(DefaultWorkoutCharts.buildDefaultCharts(context, activityPoints, activityKind));
+        if (track.size() > 0) {
+            // the cadence is per foot
+            final int cadenceFactor = cycleUnit == ActivityKind.CycleUnit.STEPS ? 2 : 1;
+            charts.addAll(DefaultWorkoutCharts.buildDefaultCharts(context, track, activityKind, cadenceFactor));
         }
 
         final long nanoEnd = System.nanoTime();
@@ -132,9 +140,17 @@ public class GarminWorkoutParser implements ActivitySummaryParser {
         );
     }
 
+    /**
+     * Stores the track of the last parsed fit file, see {@link ActivityTrackStore}.
+     */
+    public void storeTrack(final File file) {
+        ActivityTrackStore.put(file, activityPoints, session);
+    }
+
     public void reset() {
         timesInZone.clear();
         activityPoints.clear();
+        cachedTrack = null;
         session = null;
         sport = null;
         userProfile = null;
@@ -229,15 +245,20 @@ public class GarminWorkoutParser implements ActivitySummaryParser {
 
         summary.setActivityKind(activityKind.getCode());
 
-        if (session.getTotalElapsedTime() != null) {
-            summary.setEndTime(new Date(summary.getStartTime().getTime() + session.getTotalElapsedTime().intValue()));
+        // The unsigned fields are read with -1 and the floating point ones with NaN as the
+        // default, so that fields used in calculations are only decoded once
+        final long totalElapsedTime = session.getTotalElapsedTime(-1);
+        if (totalElapsedTime != -1) {
+            summary.setEndTime(new Date(summary.getStartTime().getTime() + (int) totalElapsedTime));
         }
 
-        if (session.getTotalTimerTime() != null) {
-            summaryData.add(ACTIVE_SECONDS, session.getTotalTimerTime() / 1000f, UNIT_SECONDS);
+        final long totalTimerTime = session.getTotalTimerTime(-1);
+        if (totalTimerTime != -1) {
+            summaryData.add(ACTIVE_SECONDS, totalTimerTime / 1000f, UNIT_SECONDS);
         }
-        if (session.getTotalDistance() != null) {
-            summaryData.add(DISTANCE_METERS, session.getTotalDistance() / 100f, UNIT_METERS);
+        final long totalDistance = session.getTotalDistance(-1);
+        if (totalDistance != -1) {
+            summaryData.add(DISTANCE_METERS, totalDistance / 100f, UNIT_METERS);
         }
         if (session.getPoolLength() != null) {
             summaryData.add(POOL_LENGTH, session.getPoolLength(), UNIT_METERS);
@@ -245,21 +266,24 @@ public class GarminWorkoutParser implements ActivitySummaryParser {
         if (session.getAvgSwolf() != null) {
             summaryData.add(SWOLF_AVG, session.getAvgSwolf(), UNIT_NONE);
         }
-        if (session.getTotalCycles() != null && cycleUnit != ActivityKind.CycleUnit.NONE) {
+        final long totalCycles = session.getTotalCycles(-1);
+        if (totalCycles != -1 && cycleUnit != ActivityKind.CycleUnit.NONE) {
             if (cycleUnit == ActivityKind.CycleUnit.STEPS) {
-                summaryData.addTotal(session.getTotalCycles() * 2, cycleUnit);
+                summaryData.addTotal(totalCycles * 2, cycleUnit);
             } else {
                 // FIXME some of the rest might also need adjusting...
-                summaryData.addTotal(session.getTotalCycles(), cycleUnit);
+                summaryData.addTotal(totalCycles, cycleUnit);
             }
         }
         summaryData.add(STEP_LENGTH_AVG, session.getAvgStepLength(), UNIT_MM);
-        if (session.getTotalCalories() != null) {
+        final int totalCalories = session.getTotalCalories(-1);
+        if (totalCalories != -1) {
             summaryData.add(CALORIES_CONSUMED, session.getCaloriesConsumed(), UNIT_KCAL);
-            summaryData.add(CALORIES_TOTAL, session.getTotalCalories(), UNIT_KCAL);
-            if (session.getRestingCalories() != null) {
-                summaryData.add(CALORIES_BURNT, session.getTotalCalories() - session.getRestingCalories(), UNIT_KCAL);
-                summaryData.add(CALORIES_RESTING, session.getRestingCalories(), UNIT_KCAL);
+            summaryData.add(CALORIES_TOTAL, totalCalories, UNIT_KCAL);
+            final int restingCalories = session.getRestingCalories(-1);
+            if (restingCalories != -1) {
+                summaryData.add(CALORIES_BURNT, totalCalories - restingCalories, UNIT_KCAL);
+                summaryData.add(CALORIES_RESTING, restingCalories, UNIT_KCAL);
             }
         }
         if (session.getFluidConsumed() != null) {
@@ -295,20 +319,22 @@ public class GarminWorkoutParser implements ActivitySummaryParser {
         if (session.getAvgStress() != null) {
             summaryData.add(STRESS_AVG, session.getAvgStress(), UNIT_NONE);
         }
-        if (session.getAvgCadence() != null) {
+        final int avgCadence = session.getAvgCadence(-1);
+        if (avgCadence != -1) {
             if (cycleUnit == ActivityKind.CycleUnit.STEPS) {
-                summaryData.addCadenceAvg(session.getAvgCadence() * 2, cycleUnit);
+                summaryData.addCadenceAvg(avgCadence * 2, cycleUnit);
             } else {
                 // FIXME some of the rest might also need adjusting...
-                summaryData.addCadenceAvg(session.getAvgCadence(), cycleUnit);
+                summaryData.addCadenceAvg(avgCadence, cycleUnit);
             }
         }
-        if (session.getMaxCadence() != null) {
+        final int maxCadence = session.getMaxCadence(-1);
+        if (maxCadence != -1) {
             if (cycleUnit == ActivityKind.CycleUnit.STEPS) {
-                summaryData.addCadenceMax(session.getMaxCadence() * 2, cycleUnit);
+                summaryData.addCadenceMax(maxCadence * 2, cycleUnit);
             } else {
                 // FIXME some of the rest might also need adjusting...
-                summaryData.addCadenceMax(session.getMaxCadence(), cycleUnit);
+                summaryData.addCadenceMax(maxCadence, cycleUnit);
             }
         }
         if (session.getTotalAscent() != null && !ActivityKind.isDiving(activityKind)) {
@@ -317,27 +343,30 @@ public class GarminWorkoutParser implements ActivitySummaryParser {
         if (session.getTotalDescent() != null && !ActivityKind.isDiving(activityKind)) {
             summaryData.add(TOTAL_DESCENT, session.getTotalDescent(), UNIT_METERS);
         }
-        if (session.getAvgVam() != null && !ActivityKind.isDiving(activityKind)) {
-            summaryData.add(AVERAGE_ASCENT_VELOCITY, session.getAvgVam() * 3600, UNIT_METERS_PER_HOUR);
+        final float avgVam = session.getAvgVam(Float.NaN);
+        if (!Float.isNaN(avgVam) && !ActivityKind.isDiving(activityKind)) {
+            summaryData.add(AVERAGE_ASCENT_VELOCITY, avgVam * 3600, UNIT_METERS_PER_HOUR);
         }
         if (session.getAvgSwimCadence() != null) {
             summaryData.add(SWIM_AVG_CADENCE, session.getAvgSwimCadence(), UNIT_STROKES_PER_LENGTH);
         }
 
-        if (session.getEnhancedAvgSpeed() != null) {
+        final double enhancedAvgSpeed = session.getEnhancedAvgSpeed(Double.NaN);
+        if (!Double.isNaN(enhancedAvgSpeed)) {
             if (ActivityKind.isPaceActivity(activityKind)) {
-                summaryData.add(PACE_AVG_SECONDS_KM, Math.round((60 / (session.getEnhancedAvgSpeed() * 3.6)) * 60), UNIT_SECONDS);
+                summaryData.add(PACE_AVG_SECONDS_KM, Math.round((60 / (enhancedAvgSpeed * 3.6)) * 60), UNIT_SECONDS);
             } else {
-                summaryData.add(SPEED_AVG, Math.round((session.getEnhancedAvgSpeed() * 3600 / 1000) * 100.0) / 100.0, UNIT_KMPH);
+                summaryData.add(SPEED_AVG, Math.round((enhancedAvgSpeed * 3600 / 1000) * 100.0) / 100.0, UNIT_KMPH);
             }
         }
 
-        if (session.getEnhancedMaxSpeed() != null) {
+        final double enhancedMaxSpeed = session.getEnhancedMaxSpeed(Double.NaN);
+        if (!Double.isNaN(enhancedMaxSpeed)) {
             if (ActivityKind.isPaceActivity(activityKind)) {
-                summaryData.add(PACE_MAX, Math.round((60 / (session.getEnhancedMaxSpeed() * 3.6)) * 60), UNIT_SECONDS);
+                summaryData.add(PACE_MAX, Math.round((60 / (enhancedMaxSpeed * 3.6)) * 60), UNIT_SECONDS);
             } else if (ActivityKind.isDiving(activityKind)) { // Hide average speed for diving activities
             } else {
-                summaryData.add(SPEED_MAX, Math.round((session.getEnhancedMaxSpeed() * 3600 / 1000) * 100.0) / 100.0, UNIT_KMPH);
+                summaryData.add(SPEED_MAX, Math.round((enhancedMaxSpeed * 3600 / 1000) * 100.0) / 100.0, UNIT_KMPH);
             }
         }
 
@@ -345,8 +374,9 @@ public class GarminWorkoutParser implements ActivitySummaryParser {
         summaryData.add(MAX_POWER, session.getMaxPower(), UNIT_WATT);
         summaryData.add(NORMALIZED_POWER, session.getNormalizedPower(), UNIT_WATT);
 
-        if (session.getStandTime() != null) {
-            summaryData.add(STANDING_TIME, session.getStandTime() / 1000, UNIT_SECONDS);
+        final long standTime = session.getStandTime(-1);
+        if (standTime != -1) {
+            summaryData.add(STANDING_TIME, standTime / 1000, UNIT_SECONDS);
         }
         summaryData.add(STANDING_COUNT, session.getStandCount(), UNIT_NONE);
         summaryData.add(AVG_LEFT_PCO, session.getAvgLeftPco(), UNIT_MM);
@@ -355,13 +385,14 @@ public class GarminWorkoutParser implements ActivitySummaryParser {
         summaryData.add(AVG_VERTICAL_OSCILLATION, session.getAvgVerticalOscillation(), UNIT_MM);
         summaryData.add(AVG_GROUND_CONTACT_TIME, session.getAvgStanceTime(), UNIT_MILLISECONDS);
         summaryData.add(AVG_VERTICAL_RATIO, session.getAvgVerticalRatio(), UNIT_PERCENTAGE);
-        if (session.getAvgStanceTimeBalance() != null) {
+        final float avgStanceTimeBalance = session.getAvgStanceTimeBalance(Float.NaN);
+        if (!Float.isNaN(avgStanceTimeBalance)) {
             summaryData.add(
                     AVG_GROUND_CONTACT_TIME_BALANCE,
                     context.getString(
                             R.string.range_percentage_float,
-                            session.getAvgStanceTimeBalance(),
-                            100f - session.getAvgStanceTimeBalance()
+                            avgStanceTimeBalance,
+                            100f - avgStanceTimeBalance
                     )
             );
         }
@@ -613,8 +644,8 @@ public class GarminWorkoutParser implements ActivitySummaryParser {
 
             int i = 1;
             for (final FitDiveGas gas : diveGases) {
-                int helium = gas.getHeliumContent() != null ? gas.getHeliumContent() : 0;
-                int oxygen = gas.getOxygenContent() != null ? gas.getOxygenContent() : 0;
+                int helium = gas.getHeliumContent(0);
+                int oxygen = gas.getOxygenContent(0);
                 int nitrogen = 100 - helium - oxygen;
                 tableBuilder.addRow(
                         "gas_" + i,
@@ -642,7 +673,8 @@ public class GarminWorkoutParser implements ActivitySummaryParser {
 
             int i = 1;
             for (final FitSet set : sets) {
-                if (set.getSetType() != null && set.getDuration() != null && set.getSetType() == 1) {
+                final double duration = set.getDuration(Double.NaN);
+                if (set.getSetType(-1) == 1 && !Double.isNaN(duration)) {
                     ExerciseCategory category = null;
                     if (set.getCategory() != null && set.getCategory().length > 0) {
                         category = set.getCategory()[0];
@@ -655,7 +687,7 @@ public class GarminWorkoutParser implements ActivitySummaryParser {
                                     new ActivitySummaryValue(category != null ? context.getString(category.getNameResId()) : null, UNIT_NONE),
                                     new ActivitySummaryValue(set.getRepetitions() != null ? String.valueOf(set.getRepetitions()) : null),
                                     new ActivitySummaryValue(set.getWeight(), weightUnit),
-                                    new ActivitySummaryValue(set.getDuration().longValue(), UNIT_SECONDS)
+                                    new ActivitySummaryValue((long) duration, UNIT_SECONDS)
                             )
                     );
 
@@ -667,7 +699,7 @@ public class GarminWorkoutParser implements ActivitySummaryParser {
         }
 
         final boolean anyValidLaps = laps.stream()
-                .filter(lap -> (lap.getTotalTimerTime() != null && lap.getTotalTimerTime() != 0))
+                .filter(lap -> lap.getTotalTimerTime(0) != 0)
                 .count() > 1;
         final boolean anySwimmingLaps = laps.stream()
                 .anyMatch(lap -> lap.getSwimStyle() != null);
@@ -690,7 +722,8 @@ public class GarminWorkoutParser implements ActivitySummaryParser {
 
             int i = 1;
             for (final FitLap lap : laps) {
-                if (lap.getTotalTimerTime() == null || lap.getTotalTimerTime() == 0) {
+                final double lapTimerTime = lap.getTotalTimerTime(0);
+                if (lapTimerTime == 0) {
                     continue;
                 }
 
@@ -698,12 +731,13 @@ public class GarminWorkoutParser implements ActivitySummaryParser {
 
                 final Double speedValue;
                 final String speedUnit;
-                if (lap.getEnhancedAvgSpeed() != null) {
+                final double lapAvgSpeed = lap.getEnhancedAvgSpeed(Double.NaN);
+                if (!Double.isNaN(lapAvgSpeed)) {
                     if (ActivityKind.isPaceActivity(activityKind)) {
-                        speedValue = (double) Math.round((60 / (lap.getEnhancedAvgSpeed() * 3.6)) * 60);
+                        speedValue = (double) Math.round((60 / (lapAvgSpeed * 3.6)) * 60);
                         speedUnit = UNIT_SECONDS;
                     } else {
-                        speedValue = Math.round((lap.getEnhancedAvgSpeed() * 3600 / 1000) * 100.0) / 100.0;
+                        speedValue = Math.round((lapAvgSpeed * 3600 / 1000) * 100.0) / 100.0;
                         speedUnit = UNIT_KMPH;
                     }
                 } else {
@@ -720,7 +754,7 @@ public class GarminWorkoutParser implements ActivitySummaryParser {
                     row.add(new ActivitySummaryValue(speedValue, speedUnit));
                 }
                 row.add(new ActivitySummaryValue(lap.getAvgHeartRate(), UNIT_BPM));
-                row.add(new ActivitySummaryValue(lap.getTotalTimerTime(), UNIT_SECONDS));
+                row.add(new ActivitySummaryValue(lapTimerTime, UNIT_SECONDS));
 
                 tableBuilder.addRow("interval_" + i, row);
 
@@ -733,7 +767,8 @@ public class GarminWorkoutParser implements ActivitySummaryParser {
         summaryData.add(
                 INTERNAL_HAS_GPS,
                 String.valueOf(activityPoints.stream().anyMatch(p -> p.getLocation() != null) ||
-                        sessionActivityPoints.stream().anyMatch(p -> p.getLocation() != null))
+                        sessionActivityPoints.stream().anyMatch(p -> p.getLocation() != null) ||
+                        (cachedTrack != null && cachedTrack.hasAnyLocation()))
         );
 
         summary.setSummaryData(summaryData.toString());
@@ -257,6 +257,8 @@ public class HuaweiPacket {
 
     private byte[] partialPacket = null;
     protected byte[] payload = null;
+    private byte[] slicedPayload = null;
+    private int slicedPayloadLength = 0;
 
     public boolean complete = false;
 
@@ -373,15 +375,15 @@ public class HuaweiPacket {
             addLen++;
         }
 
-        byte[] newPayload = new byte[expectedSize - addLen];
-        buffer.get(newPayload, 0, expectedSize - addLen);
+        // The payload is not copied, the TLV is parsed from the received data directly
+        byte[] payloadData = data;
+        int payloadOffset = buffer.position();
+        int payloadLength = expectedSize - addLen;
+        buffer.position(payloadOffset + payloadLength);
         short expectedChecksum = buffer.getShort();
         this.left = buffer.remaining();
-        buffer.rewind();
 
-        byte[] dataNoCRC = new byte[expectedSize + 3];
-        buffer.get(dataNoCRC, 0, expectedSize + 3);
-        short actualChecksum = (short) CheckSums.getCRC16(dataNoCRC, 0x0000);
+        short actualChecksum = (short) CheckSums.getCRC16(data, 0, expectedSize + 3, 0x0000);
         if (actualChecksum != expectedChecksum) {
             throw new ChecksumIncorrectException("Checksum mismatch : "
                     + String.valueOf(actualChecksum)
@@ -390,23 +392,22 @@ public class HuaweiPacket {
         }
 
         if (isSliced == 1 || isSliced == 2 || isSliced == 3) {
-            if (payload != null) {
-                int newCapacity = payload.length + newPayload.length;
-                newPayload = ByteBuffer.allocate(newCapacity)
-                        .put(payload)
-                        .put(newPayload)
-                        .array();
-            }
+            appendSlice(data, payloadOffset, payloadLength);
 
             if (isSliced != 3) {
                 // Sliced packet isn't complete yet
-                this.payload = newPayload;
                 return;
             }
+
+            payloadData = slicedPayload;
+            payloadOffset = 0;
+            payloadLength = slicedPayloadLength;
+            slicedPayload = null;
+            slicedPayloadLength = 0;
         }
 
-        this.serviceId = newPayload[0];
-        this.commandId = newPayload[1];
+        this.serviceId = payloadData[payloadOffset];
+        this.commandId = payloadData[payloadOffset + 1];
         this.complete = true;
 
         if (
@@ -416,12 +417,29 @@ public class HuaweiPacket {
                 (serviceId == 0x1c && commandId == 0x05)
         ) {
             // TODO: this doesn't seem to be TLV
-            this.payload = newPayload;
+            if (payloadOffset == 0 && payloadLength == payloadData.length)
+                this.payload = payloadData;
+            else
+                this.payload = Arrays.copyOfRange(payloadData, payloadOffset, payloadOffset + payloadLength);
             return;
         }
 
         this.tlv = new HuaweiTLV();
-        this.tlv.parse(newPayload, 2, newPayload.length - 2);
+        this.tlv.parse(payloadData, payloadOffset + 2, payloadLength - 2);
+    }
+
+    /**
+     * Appends the payload of a slice, growing the buffer geometrically so that large sliced
+     * packets are not copied again for every slice.
+     */
+    private void appendSlice(byte[] data, int offset, int length) {
+        if (slicedPayload == null) {
+            slicedPayload = new byte[Math.max(length, 256)];
+        } else if (slicedPayloadLength + length > slicedPayload.length) {
+            slicedPayload = Arrays.copyOf(slicedPayload, Math.max(slicedPayloadLength + length, slicedPayload.length * 2));
+        }
+        System.arraycopy(data, offset, slicedPayload, slicedPayloadLength, length);
+        slicedPayloadLength += length;
     }
 
     public HuaweiPacket parse(byte[] data) throws ParseException {
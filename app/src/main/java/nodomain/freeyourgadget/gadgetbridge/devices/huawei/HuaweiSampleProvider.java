@@ -34,6 +34,7 @@ import de.greenrobot.dao.Property;
 import de.greenrobot.dao.query.QueryBuilder;
 import nodomain.freeyourgadget.gadgetbridge.database.DBHelper;
 import nodomain.freeyourgadget.gadgetbridge.devices.AbstractSampleProvider;
+import nodomain.freeyourgadget.gadgetbridge.devices.SampleColumns;
 import nodomain.freeyourgadget.gadgetbridge.entities.DaoSession;
 import nodomain.freeyourgadget.gadgetbridge.entities.Device;
 import nodomain.freeyourgadget.gadgetbridge.entities.HuaweiActivitySample;
@@ -241,6 +242,8 @@ public class HuaweiSampleProvider extends AbstractSampleProvider<HuaweiActivityS
     @Override
     public void addGBActivitySamples(HuaweiActivitySample[] activitySamples) {
         List<HuaweiActivitySample> newSamples = new ArrayList<>();
+        int minTimestamp = Integer.MAX_VALUE;
+        int maxTimestamp = Integer.MIN_VALUE;
         for (HuaweiActivitySample sample : activitySamples) {
             HuaweiActivitySample start = copySample(sample);
             HuaweiActivitySample end = copySample(sample);
@@ -255,8 +258,47 @@ public class HuaweiSampleProvider extends AbstractSampleProvider<HuaweiActivityS
 
             newSamples.add(start);
             newSamples.add(end);
+            minTimestamp = Math.min(minTimestamp, Math.min(start.getTimestamp(), end.getTimestamp()));
+            maxTimestamp = Math.max(maxTimestamp, Math.max(start.getTimestamp(), end.getTimestamp()));
         }
         getSampleDao().insertOrReplaceInTx(newSamples);
+        if (!newSamples.isEmpty()) {
+            invalidateAggregates(minTimestamp, maxTimestamp);
+        }
+    }
+
+    /**
+     * Every sample is stored as a start and an end row, so the samples are created one by one and
+     * added like {@link #addGBActivitySamples(HuaweiActivitySample[])}. Columns that are not given
+     * are not measured.
+     */
+    @Override
+    public void addGBActivitySamples(SampleColumns samples) {
+        if (samples.size() == 0) {
+            return;
+        }
+        final long deviceId = DBHelper.getDevice(getDevice(), getSession()).getId();
+        final long userId = DBHelper.getUser(getSession()).getId();
+        final HuaweiActivitySample[] activitySamples = new HuaweiActivitySample[samples.size()];
+        for (int i = 0; i < samples.size(); i++) {
+            final int timestamp = (int) samples.getTimestamp(i);
+            activitySamples[i] = new HuaweiActivitySample(
+                    timestamp,
+                    deviceId,
+                    userId,
+                    samples.getInt(HuaweiActivitySampleDao.Properties.OtherTimestamp, i, timestamp),
+                    (byte) samples.getInt(HuaweiActivitySampleDao.Properties.Source, i, 0),
+                    samples.getInt(HuaweiActivitySampleDao.Properties.RawKind, i, ActivitySample.NOT_MEASURED),
+                    samples.getInt(HuaweiActivitySampleDao.Properties.RawIntensity, i, ActivitySample.NOT_MEASURED),
+                    samples.getInt(HuaweiActivitySampleDao.Properties.Steps, i, ActivitySample.NOT_MEASURED),
+                    samples.getInt(HuaweiActivitySampleDao.Properties.Calories, i, ActivitySample.NOT_MEASURED),
+                    samples.getInt(HuaweiActivitySampleDao.Properties.Distance, i, ActivitySample.NOT_MEASURED),
+                    samples.getInt(HuaweiActivitySampleDao.Properties.Spo, i, ActivitySample.NOT_MEASURED),
+                    samples.getInt(HuaweiActivitySampleDao.Properties.HeartRate, i, ActivitySample.NOT_MEASURED),
+                    samples.getInt(HuaweiActivitySampleDao.Properties.RestingHeartRate, i, ActivitySample.NOT_MEASURED)
+            );
+        }
+        addGBActivitySamples(activitySamples);
     }
 
     /**
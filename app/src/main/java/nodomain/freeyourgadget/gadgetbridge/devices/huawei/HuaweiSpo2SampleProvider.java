@@ -30,6 +30,7 @@ import de.greenrobot.dao.Property;
 import de.greenrobot.dao.query.QueryBuilder;
 import nodomain.freeyourgadget.gadgetbridge.database.DBHelper;
 import nodomain.freeyourgadget.gadgetbridge.devices.AbstractTimeSampleProvider;
+import nodomain.freeyourgadget.gadgetbridge.devices.SampleColumns;
 import nodomain.freeyourgadget.gadgetbridge.entities.AbstractSpo2Sample;
 import nodomain.freeyourgadget.gadgetbridge.entities.DaoSession;
 import nodomain.freeyourgadget.gadgetbridge.entities.Device;
@@ -89,6 +90,19 @@ public class HuaweiSpo2SampleProvider extends AbstractTimeSampleProvider<HuaweiS
         LOG.error("Huawei Spo2 sample provider addSamples called!");
     }
 
+    /**
+     * The SpO2 values are stored in the Huawei activity samples, so the columns are those of
+     * {@link HuaweiActivitySampleDao}, with the timestamps in milliseconds.
+     */
+    @Override
+    public void addSamples(SampleColumns samples) {
+        final long[] timestamps = new long[samples.size()];
+        for (int i = 0; i < timestamps.length; i++) {
+            timestamps[i] = samples.getTimestamp(i) / 1000L;
+        }
+        this.huaweiSampleProvider.addGBActivitySamples(samples.withTimestamps(timestamps));
+    }
+
     @Nullable
     @Override
     public HuaweiSpo2Sample getLatestSample() {
@@ -35,6 +35,7 @@ import java.util.Objects;
 
 import nodomain.freeyourgadget.gadgetbridge.devices.huawei.HuaweiCrypto.CryptoException;
 import nodomain.freeyourgadget.gadgetbridge.devices.huawei.HuaweiPacket.ParamsProvider;
+import nodomain.freeyourgadget.gadgetbridge.util.GB;
 import nodomain.freeyourgadget.gadgetbridge.util.StringUtils;
 
 public class HuaweiTLV {
@@ -46,38 +47,94 @@ public class HuaweiTLV {
         return Objects.equals(valueMap, huaweiTLV.valueMap);
     }
 
+    /**
+     * A single tag and its value. The value of a parsed TLV is a range of the parsed buffer, and
+     * only copied into its own array when it is requested with {@link #getValue()}.
+     */
     public static class TLV {
         private final byte tag;
-        private final byte[] value;
+        private final byte[] source;
+        private final int offset;
+        private final int valueLength;
+        private byte[] value;
 
         public TLV(byte tag, byte[] value) {
             this.tag = tag;
+            this.source = value;
+            this.offset = 0;
+            this.valueLength = value.length;
             this.value = value;
         }
 
+        TLV(byte tag, byte[] source, int offset, int length) {
+            this.tag = tag;
+            this.source = source;
+            this.offset = offset;
+            this.valueLength = length;
+            if (offset == 0 && length == source.length)
+                this.value = source;
+        }
+
         public byte getTag() {
             return tag;
         }
 
         public byte[] getValue() {
+            if (value == null)
+                value = Arrays.copyOfRange(source, offset, offset + valueLength);
             return value;
         }
 
+        // The value, once copied, may have been modified by the caller
+        private byte[] array() {
+            return value != null ? value : source;
+        }
+
+        private int arrayOffset() {
+            return value != null ? 0 : offset;
+        }
+
+        public int getValueLength() {
+            return valueLength;
+        }
+
+        byte getValueByte(int index) {
+            if (index >= valueLength)
+                throw new ArrayIndexOutOfBoundsException(index);
+            return array()[arrayOffset() + index];
+        }
+
+        ByteBuffer wrapValue() {
+            return ByteBuffer.wrap(array(), arrayOffset(), valueLength).slice();
+        }
+
+        String getValueString() {
+            return new String(array(), arrayOffset(), valueLength, StandardCharsets.UTF_8);
+        }
+
+        HuaweiTLV parseValue() {
+            return new HuaweiTLV().parse(array(), arrayOffset(), valueLength);
+        }
+
         public int length() {
-            return 1 + VarInt.getVarIntSize(value.length) + value.length;
+            return 1 + VarInt.getVarIntSize(valueLength) + valueLength;
         }
 
         public byte[] serialize() {
-            return ByteBuffer.allocate(this.length())
-                    .put(tag)
-                    .put(VarInt.putVarIntValue(value.length))
-                    .put(value)
-                    .array();
+            ByteBuffer buffer = ByteBuffer.allocate(this.length());
+            writeTo(buffer);
+            return buffer.array();
+        }
+
+        void writeTo(ByteBuffer buffer) {
+            buffer.put(tag)
+                    .put(VarInt.putVarIntValue(valueLength))
+                    .put(array(), arrayOffset(), valueLength);
         }
 
         @NonNull
         public String toString() {
-            return "{tag: " + Integer.toHexString(tag & 0xFF) + " - Value: " + StringUtils.bytesToHex(value) + "} - ";
+            return "{tag: " + Integer.toHexString(tag & 0xFF) + " - Value: " + GB.hexdump(array(), arrayOffset(), valueLength) + "} - ";
         }
 
         @Override
@@ -85,14 +142,28 @@ public class HuaweiTLV {
             if (this == o) return true;
             if (o == null || getClass() != o.getClass()) return false;
             TLV tlv = (TLV) o;
-            return tag == tlv.tag && Arrays.equals(value, tlv.value);
+            if (tag != tlv.tag || valueLength != tlv.valueLength) return false;
+            byte[] array = array(), otherArray = tlv.array();
+            int arrayOffset = arrayOffset(), otherArrayOffset = tlv.arrayOffset();
+            for (int i = 0; i < valueLength; i++)
+                if (array[arrayOffset + i] != otherArray[otherArrayOffset + i])
+                    return false;
+            return true;
         }
     }
 
     private static final Logger LOG = LoggerFactory.getLogger(HuaweiTLV.class);
 
+    // Tag lookups use an index once there are this many elements
+    private static final int INDEX_MIN_SIZE = 8;
+
     protected List<TLV> valueMap;
 
+    // Position + 1 of the first element of each tag, 0 if there is none
+    private int[] index;
+    private List<TLV> indexedList;
+    private int indexedSize;
+
     public HuaweiTLV() {
         this.valueMap = new ArrayList<>();
     }
@@ -105,7 +176,8 @@ public class HuaweiTLV {
     }
 
     /**
-     * Parse byte buffer into this HuaweiTLV
+     * Parse byte buffer into this HuaweiTLV. The values are not copied, so the buffer must not
+     * be modified afterwards.
      * @param buffer The buffer to parse
      * @param offset The offset to start parsing at
      * @param length The length to parse
@@ -129,12 +201,11 @@ public class HuaweiTLV {
             if (parsed == length && tag == 0)
                 break;
             // Size is a VarInt >= 1 byte
-            VarInt varInt = new VarInt(buffer, offset + parsed);
-            int size = varInt.dValue;
-            parsed += varInt.size;
-            byte[] value = new byte[size];
-            System.arraycopy(buffer, offset + parsed, value, 0, size);
-            put(tag, value);
+            int size = VarInt.getVarIntValue(buffer, offset + parsed);
+            parsed += VarInt.getVarIntSize(size);
+            if (size < 0 || offset + parsed + size > buffer.length)
+                throw new ArrayIndexOutOfBoundsException("TLV value of size " + size + " exceeds buffer length " + buffer.length);
+            valueMap.add(new TLV(tag, buffer, offset + parsed, size));
             parsed += size;
         }
         LOG.debug("Parsed TLV: {}", this);
@@ -154,7 +225,7 @@ public class HuaweiTLV {
             return new byte[0];
         ByteBuffer buffer = ByteBuffer.allocate(length);
         for (TLV entry : valueMap)
-            buffer.put(entry.serialize());
+            entry.writeTo(buffer);
         LOG.debug("Serialized TLV: {}", this);
         return buffer.array();
     }
@@ -162,6 +233,7 @@ public class HuaweiTLV {
     public HuaweiTLV put(int tag) {
         byte[] value = new byte[0];
         valueMap.add(new TLV((byte)tag, value));
+        index = null;
         return this;
     }
 
@@ -170,6 +242,7 @@ public class HuaweiTLV {
             return this;
         }
         valueMap.add(new TLV((byte)tag, value));
+        index = null;
         return this;
     }
 
@@ -215,11 +288,34 @@ public class HuaweiTLV {
         return this.valueMap;
     }
 
+    private int indexOf(int tag) {
+        List<TLV> entries = valueMap;
+        int size = entries.size();
+        if (size < INDEX_MIN_SIZE) {
+            for (int i = 0; i < size; i++)
+                if (entries.get(i).getTag() == (byte) tag)
+                    return i;
+            return -1;
+        }
+        if (index == null || indexedList != entries || indexedSize != size) {
+            index = new int[256];
+            for (int i = size - 1; i >= 0; i--)
+                index[entries.get(i).getTag() & 0xFF] = i + 1;
+            indexedList = entries;
+            indexedSize = size;
+        }
+        return index[tag & 0xFF] - 1;
+    }
+
+    private TLV getTLV(int tag) throws HuaweiPacket.MissingTagException {
+        int i = indexOf(tag);
+        if (i < 0)
+            throw new HuaweiPacket.MissingTagException(tag);
+        return valueMap.get(i);
+    }
+
     public byte[] getBytes(int tag) throws HuaweiPacket.MissingTagException {
-        for (TLV item : valueMap)
-            if (item.getTag() == (byte) tag)
-                return item.getValue();
-        throw new HuaweiPacket.MissingTagException(tag);
+        return getTLV(tag).getValue();
     }
 
     public byte[] getBytes(int tag, byte[] defaultValue) {
@@ -231,7 +327,7 @@ public class HuaweiTLV {
     }
 
     public Byte getByte(int tag) throws HuaweiPacket.MissingTagException {
-        return getBytes(tag)[0];
+        return getTLV(tag).getValueByte(0);
     }
 
     public Byte getByte(int tag, Byte defaultValue) {
@@ -243,7 +339,7 @@ public class HuaweiTLV {
     }
 
     public Boolean getBoolean(int tag) throws HuaweiPacket.MissingTagException {
-        return getBytes(tag)[0] == 1;
+        return getTLV(tag).getValueByte(0) == 1;
     }
 
     public Boolean getBoolean(int tag, Boolean defaultValue) {
@@ -255,7 +351,7 @@ public class HuaweiTLV {
     }
 
     public Integer getInteger(int tag) throws HuaweiPacket.MissingTagException {
-        return ByteBuffer.wrap(getBytes(tag)).getInt();
+        return getTLV(tag).wrapValue().getInt();
     }
 
     public Integer getInteger(int tag, Integer defaultResult) {
@@ -267,7 +363,7 @@ public class HuaweiTLV {
     }
 
     public Short getShort(int tag) throws HuaweiPacket.MissingTagException {
-        return ByteBuffer.wrap(getBytes(tag)).getShort();
+        return getTLV(tag).wrapValue().getShort();
     }
 
     public Short getShort(int tag, Short defaultValue) {
@@ -279,57 +375,61 @@ public class HuaweiTLV {
     }
 
     public Long getLong(int tag) throws HuaweiPacket.MissingTagException {
-        return ByteBuffer.wrap(getBytes(tag)).getLong();
+        return getTLV(tag).wrapValue().getLong();
     }
 
     public Integer getAsInteger(int tag) throws HuaweiPacket.MissingTagException {
-        byte[] bytes = getBytes(tag);
-        if(bytes.length == 1) {
-            return bytes[0] & 0xFF;
-        } else if(bytes.length == 2) {
-            return ByteBuffer.wrap(getBytes(tag)).getShort() & 0xFFFF;
+        TLV tlv = getTLV(tag);
+        if(tlv.getValueLength() == 1) {
+            return tlv.getValueByte(0) & 0xFF;
+        } else if(tlv.getValueLength() == 2) {
+            return tlv.wrapValue().getShort() & 0xFFFF;
         }
-        return ByteBuffer.wrap(getBytes(tag)).getInt();
+        return tlv.wrapValue().getInt();
     }
 
     public Integer getAsInteger(int tag, int def) {
-        byte[] bytes = getBytes(tag, null);
-        if (bytes == null || bytes.length == 0 || bytes.length > 4) {
+        int i = indexOf(tag);
+        if (i < 0) {
+            return def;
+        }
+        TLV tlv = valueMap.get(i);
+        int length = tlv.getValueLength();
+        if (length == 0 || length > 4) {
             return def;
         }
         int res = 0;
-        for (int i = 0; i < bytes.length; i++) {
-            res |= (bytes[i] & 255) << (((bytes.length - i) - 1) * 8);
+        for (int j = 0; j < length; j++) {
+            res |= (tlv.getValueByte(j) & 255) << (((length - j) - 1) * 8);
         }
         return res;
     }
 
     public Long getAsLong(int tag) throws HuaweiPacket.MissingTagException {
-        byte[] bytes = getBytes(tag);
-        if(bytes.length == 1) {
-            return (long) (bytes[0] & 0xFF);
-        } else if(bytes.length == 2) {
-            return (long) (ByteBuffer.wrap(getBytes(tag)).getShort() & 0xFFFF);
-        } else if(bytes.length == 4) {
-            return (long) (ByteBuffer.wrap(getBytes(tag)).getInt());
+        TLV tlv = getTLV(tag);
+        if(tlv.getValueLength() == 1) {
+            return (long) (tlv.getValueByte(0) & 0xFF);
+        } else if(tlv.getValueLength() == 2) {
+            return (long) (tlv.wrapValue().getShort() & 0xFFFF);
+        } else if(tlv.getValueLength() == 4) {
+            return (long) (tlv.wrapValue().getInt());
         }
-        return ByteBuffer.wrap(getBytes(tag)).getLong();
+        return tlv.wrapValue().getLong();
     }
 
     public String getString(int tag) throws HuaweiPacket.MissingTagException {
-        return new String(getBytes(tag), StandardCharsets.UTF_8);
+        return getTLV(tag).getValueString();
     }
 
     public HuaweiTLV getObject(int tag) throws HuaweiPacket.MissingTagException {
-        byte[] bytes = getBytes(tag);
-        return new HuaweiTLV().parse(bytes, 0, bytes.length);
+        return getTLV(tag).parseValue();
     }
 
     public List<HuaweiTLV> getObjects(int tag) {
         List<HuaweiTLV> returnValue = new ArrayList<>();
         for (TLV tlv : valueMap) {
             if (tlv.getTag() == (byte) tag)
-                returnValue.add(new HuaweiTLV().parse(tlv.getValue()));
+                returnValue.add(tlv.parseValue());
         }
         return returnValue;
     }
@@ -338,16 +438,13 @@ public class HuaweiTLV {
         List<HuaweiTLV> returnValue = new ArrayList<>();
         for (TLV tlv : valueMap) {
             if (((tlv.getTag() & 0xFF) >>> 7) == 1)
-                returnValue.add(new HuaweiTLV().parse(tlv.getValue()));
+                returnValue.add(tlv.parseValue());
         }
         return returnValue;
     }
 
     public boolean contains(int tag) {
-        for (TLV item : valueMap)
-            if (item.getTag() == (byte) tag)
-                return true;
-        return false;
+        return indexOf(tag) >= 0;
     }
 
     /**
@@ -362,6 +459,7 @@ public class HuaweiTLV {
                 foundItem = item;
         if (foundItem != null) {
             valueMap.remove(foundItem);
+            index = null;
             return foundItem.getValue();
         } else {
             return null;
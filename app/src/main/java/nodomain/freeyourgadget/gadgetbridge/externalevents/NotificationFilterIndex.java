@@ -0,0 +1,206 @@
+/*  Copyright (C) 2026 Freeyourgadget
+
+    This file is part of Gadgetbridge.
+
+    Gadgetbridge is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published
+    by the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    Gadgetbridge is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>. */
+package nodomain.freeyourgadget.gadgetbridge.externalevents;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import org.ahocorasick.trie.Emit;
+import org.ahocorasick.trie.Trie;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import nodomain.freeyourgadget.gadgetbridge.GBApplication;
+import nodomain.freeyourgadget.gadgetbridge.database.DBHandler;
+import nodomain.freeyourgadget.gadgetbridge.entities.DaoSession;
+import nodomain.freeyourgadget.gadgetbridge.entities.NotificationFilter;
+import nodomain.freeyourgadget.gadgetbridge.entities.NotificationFilterEntry;
+
+import static nodomain.freeyourgadget.gadgetbridge.activities.NotificationFilterActivity.NOTIFICATION_FILTER_SUBMODE_ALL;
+
+/**
+ * The notification filters of all apps, compiled for matching and kept in memory, so that
+ * notifications can be filtered without accessing the database.
+ * <p>
+ * The filters are loaded on first use, and must be invalidated with {@link #invalidate()}
+ * whenever they are changed in the database.
+ */
+public final class NotificationFilterIndex {
+    private static final Logger LOG = LoggerFactory.getLogger(NotificationFilterIndex.class);
+
+    private static final NotificationFilterIndex INSTANCE = new NotificationFilterIndex();
+
+    @Nullable
+    private Map<String, CompiledFilter> filters;
+    private long generation;
+
+    private NotificationFilterIndex() {
+    }
+
+    public static NotificationFilterIndex getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * @return the filter of the app with the given package name, or null if it has none
+     */
+    @Nullable
+    public CompiledFilter get(final String packageName) {
+        return load().get(packageName.toLowerCase());
+    }
+
+    /**
+     * Discards the loaded filters, so that they are loaded again from the database on next use.
+     */
+    public synchronized void invalidate() {
+        LOG.debug("Invalidating notification filters");
+        filters = null;
+        generation++;
+    }
+
+    private Map<String, CompiledFilter> load() {
+        final long loadGeneration;
+        synchronized (this) {
+            if (filters != null) {
+                return filters;
+            }
+            loadGeneration = generation;
+        }
+
+        final long start = System.currentTimeMillis();
+        final Map<String, CompiledFilter> loaded;
+        try (DBHandler db = GBApplication.acquireReadDB()) {
+            loaded = load(db.getDaoSession());
+        } catch (final Exception e) {
+            LOG.error("Failed to load notification filters", e);
+            return Collections.emptyMap();
+        }
+        LOG.debug("Loaded {} notification filters in {}ms", loaded.size(), System.currentTimeMillis() - start);
+
+        synchronized (this) {
+            // do not keep filters that were changed while we were loading them
+            if (generation == loadGeneration) {
+                filters = loaded;
+            }
+        }
+        return loaded;
+    }
+
+    private static Map<String, CompiledFilter> load(final DaoSession session) {
+        final Map<Long, List<String>> wordsByFilterId = new HashMap<>();
+        for (final NotificationFilterEntry entry : session.getNotificationFilterEntryDao().loadAll()) {
+            List<String> words = wordsByFilterId.get(entry.getNotificationFilterId());
+            if (words == null) {
+                words = new ArrayList<>();
+                wordsByFilterId.put(entry.getNotificationFilterId(), words);
+            }
+            words.add(entry.getNotificationFilterContent());
+        }
+
+        final Map<String, CompiledFilter> ret = new HashMap<>();
+        for (final NotificationFilter filter : session.getNotificationFilterDao().loadAll()) {
+            if (filter.getAppIdentifier() == null) {
+                continue;
+            }
+            final List<String> words = wordsByFilterId.get(filter.getId());
+            ret.put(
+                    filter.getAppIdentifier().toLowerCase(),
+                    compile(filter, words != null ? words : Collections.emptyList())
+            );
+        }
+        return ret;
+    }
+
+    public static CompiledFilter compile(@NonNull final NotificationFilter filter, @NonNull final Collection<String> words) {
+        return new CompiledFilter(filter.getNotificationFilterMode(), filter.getNotificationFilterSubMode(), words);
+    }
+
+    /**
+     * A filter with all its words in a single trie, so that a text is scanned only once
+     * regardless of the number of words.
+     */
+    public static final class CompiledFilter {
+        private final int mode;
+        private final int subMode;
+        private final Set<String> words;
+        private final Trie trie;
+        // an empty word is contained in every text
+        private final boolean hasEmptyWord;
+
+        private CompiledFilter(final int mode, final int subMode, final Collection<String> words) {
+            this.mode = mode;
+            this.subMode = subMode;
+            this.words = Collections.unmodifiableSet(new LinkedHashSet<>(words));
+
+            final Trie.TrieBuilder builder = Trie.builder();
+            boolean hasEmptyWord = false;
+            for (final String word : this.words) {
+                if (word.isEmpty()) {
+                    hasEmptyWord = true;
+                } else {
+                    builder.addKeyword(word);
+                }
+            }
+            this.trie = builder.build();
+            this.hasEmptyWord = hasEmptyWord;
+        }
+
+        public int getMode() {
+            return mode;
+        }
+
+        public int getSubMode() {
+            return subMode;
+        }
+
+        public Set<String> getWords() {
+            return words;
+        }
+
+        /**
+         * @return whether the text contains any of the words, or all of them for
+         * {@link nodomain.freeyourgadget.gadgetbridge.activities.NotificationFilterActivity#NOTIFICATION_FILTER_SUBMODE_ALL}
+         */
+        public boolean matches(final String text) {
+            if (subMode != NOTIFICATION_FILTER_SUBMODE_ALL) {
+                return hasEmptyWord || trie.firstMatch(text) != null;
+            }
+
+            final int expected = hasEmptyWord ? words.size() - 1 : words.size();
+            if (expected == 0) {
+                return true;
+            }
+            final Set<String> found = new HashSet<>();
+            for (final Emit emit : trie.parseText(text)) {
+                if (found.add(emit.getKeyword()) && found.size() == expected) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -59,7 +59,6 @@ import androidx.core.content.ContextCompat;
 import androidx.localbroadcastmanager.content.LocalBroadcastManager;
 
 import org.apache.commons.lang3.StringUtils;
-import org.apache.commons.lang3.Strings;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -75,16 +74,10 @@ import java.util.List;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
-import de.greenrobot.dao.query.Query;
 import ej_utils.hp_misc;
-import nodomain.freeyourgadget.gadgetbridge.BuildConfig;
 import nodomain.freeyourgadget.gadgetbridge.GBApplication;
 import nodomain.freeyourgadget.gadgetbridge.R;
-import nodomain.freeyourgadget.gadgetbridge.database.DBHandler;
 import nodomain.freeyourgadget.gadgetbridge.entities.NotificationFilter;
-import nodomain.freeyourgadget.gadgetbridge.entities.NotificationFilterDao;
-import nodomain.freeyourgadget.gadgetbridge.entities.NotificationFilterEntry;
-import nodomain.freeyourgadget.gadgetbridge.entities.NotificationFilterEntryDao;
 import nodomain.freeyourgadget.gadgetbridge.externalevents.notifications.GoogleMapsNotificationHandler;
 import nodomain.freeyourgadget.gadgetbridge.impl.GBDevice;
 import nodomain.freeyourgadget.gadgetbridge.model.AppNotificationType;
@@ -657,46 +650,14 @@ public class NotificationListener extends NotificationListenerService {
     }
 
     private boolean checkNotificationContentForWhiteAndBlackList(String packageName, String body) {
-        long start = System.currentTimeMillis();
+        final NotificationFilterIndex.CompiledFilter notificationFilter = NotificationFilterIndex.getInstance().get(packageName);
 
-        List<String> wordsList = new ArrayList<>();
-        NotificationFilter notificationFilter;
-
-        try (DBHandler db = GBApplication.acquireDB()) {
-
-            NotificationFilterDao notificationFilterDao = db.getDaoSession().getNotificationFilterDao();
-            NotificationFilterEntryDao notificationFilterEntryDao = db.getDaoSession().getNotificationFilterEntryDao();
-
-            Query<NotificationFilter> query = notificationFilterDao.queryBuilder().where(NotificationFilterDao.Properties.AppIdentifier.eq(packageName.toLowerCase())).build();
-            notificationFilter = query.unique();
-
-            if (notificationFilter == null) {
-                LOG.debug("No Notification Filter found");
-                return true;
-            }
-
-            LOG.debug("Loaded notification filter for '{}'", packageName);
-            Query<NotificationFilterEntry> queryEntries = notificationFilterEntryDao.queryBuilder().where(NotificationFilterEntryDao.Properties.NotificationFilterId.eq(notificationFilter.getId())).build();
-
-            List<NotificationFilterEntry> filterEntries = queryEntries.list();
-
-            if (BuildConfig.DEBUG) {
-                LOG.info("Database lookup took '{}' ms", System.currentTimeMillis() - start);
-            }
-
-            if (!filterEntries.isEmpty()) {
-                for (NotificationFilterEntry temp : filterEntries) {
-                    wordsList.add(temp.getNotificationFilterContent());
-                    LOG.debug("Loaded filter word: " + temp.getNotificationFilterContent());
-                }
-            }
-
-        } catch (Exception e) {
-            LOG.error("Could not acquire DB.", e);
+        if (notificationFilter == null) {
+            LOG.debug("No Notification Filter found");
             return true;
         }
 
-        return shouldContinueAfterFilter(body, wordsList, notificationFilter);
+        return shouldContinueAfterFilter(body, notificationFilter);
     }
 
     private void handleCallNotification(StatusBarNotification sbn) {
@@ -812,23 +773,25 @@ public class NotificationListener extends NotificationListenerService {
     }
 
     boolean shouldContinueAfterFilter(String body, @NonNull List<String> wordsList, @NonNull NotificationFilter notificationFilter) {
-        LOG.debug("Mode: '{}' Submode: '{}' WordsList: '{}'", notificationFilter.getNotificationFilterMode(), notificationFilter.getNotificationFilterSubMode(), wordsList);
+        return shouldContinueAfterFilter(body, NotificationFilterIndex.compile(notificationFilter, wordsList));
+    }
+
+    boolean shouldContinueAfterFilter(String body, @NonNull NotificationFilterIndex.CompiledFilter notificationFilter) {
+        LOG.debug("Mode: '{}' Submode: '{}' WordsList: '{}'", notificationFilter.getMode(), notificationFilter.getSubMode(), notificationFilter.getWords());
 
-        boolean allMode = notificationFilter.getNotificationFilterSubMode() == NOTIFICATION_FILTER_SUBMODE_ALL;
+        boolean allMode = notificationFilter.getSubMode() == NOTIFICATION_FILTER_SUBMODE_ALL;
 
-        switch (notificationFilter.getNotificationFilterMode()) {
+        switch (notificationFilter.getMode()) {
             case NOTIFICATION_FILTER_MODE_BLACKLIST:
                 if (allMode) {
-                    for (String word : wordsList) {
-                        if (!body.contains(word)) {
-                            LOG.info("Not every word was found, blacklist has no effect, processing continues.");
-                            return true;
-                        }
+                    if (!notificationFilter.matches(body)) {
+                        LOG.info("Not every word was found, blacklist has no effect, processing continues.");
+                        return true;
                     }
                     LOG.info("Every word was found, blacklist has effect, processing stops.");
                     return false;
                 } else {
-                    boolean containsAny = Strings.CS.containsAny(body, wordsList.toArray(new CharSequence[0]));
+                    boolean containsAny = notificationFilter.matches(body);
                     if (!containsAny) {
                         LOG.info("No matching word was found, blacklist has no effect, processing continues.");
                     } else {
@@ -839,16 +802,14 @@ public class NotificationListener extends NotificationListenerService {
 
             case NOTIFICATION_FILTER_MODE_WHITELIST:
                 if (allMode) {
-                    for (String word : wordsList) {
-                        if (!body.contains(word)) {
-                            LOG.info("Not every word was found, whitelist has no effect, processing stops.");
-                            return false;
-                        }
+                    if (!notificationFilter.matches(body)) {
+                        LOG.info("Not every word was found, whitelist has no effect, processing stops.");
+                        return false;
                     }
                     LOG.info("Every word was found, whitelist has effect, processing continues.");
                     return true;
                 } else {
-                    boolean containsAny = Strings.CS.containsAny(body, wordsList.toArray(new CharSequence[0]));
+                    boolean containsAny = notificationFilter.matches(body);
                     if (containsAny) {
                         LOG.info("At least one matching word was found, whitelist has effect, processing continues.");
                     } else {
@@ -21,23 +21,30 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import nodomain.freeyourgadget.gadgetbridge.GBApplication;
 import nodomain.freeyourgadget.gadgetbridge.activities.charts.ActivityAnalysis;
 import nodomain.freeyourgadget.gadgetbridge.database.DBHandler;
+import nodomain.freeyourgadget.gadgetbridge.database.DeviceDataVersions;
 import nodomain.freeyourgadget.gadgetbridge.devices.AbstractTimeSampleProvider;
+import nodomain.freeyourgadget.gadgetbridge.devices.DailyTotalsRollupProvider;
 import nodomain.freeyourgadget.gadgetbridge.devices.DefaultRestingMetabolicRateProvider;
 import nodomain.freeyourgadget.gadgetbridge.devices.DeviceCoordinator;
 import nodomain.freeyourgadget.gadgetbridge.devices.SampleProvider;
 import nodomain.freeyourgadget.gadgetbridge.entities.AbstractActivitySample;
+import nodomain.freeyourgadget.gadgetbridge.entities.DailyTotalsRollup;
 import nodomain.freeyourgadget.gadgetbridge.impl.GBDevice;
 
 
 public class DailyTotals implements Serializable {
     private static final Logger LOG = LoggerFactory.getLogger(DailyTotals.class);
+    private static final int MIN_REBUILD_YEAR = 2015;
+    private static final int REBUILD_CHUNK_DAYS = 30;
 
     private final long steps;
     private final long distance;
@@ -80,7 +87,7 @@ public class DailyTotals implements Serializable {
 
     public static DailyTotals getDailyTotalsForDevice(GBDevice device, Calendar day) {
 
-        try (DBHandler handler = GBApplication.acquireDB()) {
+        try (DBHandler handler = GBApplication.acquireReadDB()) {
             return getDailyTotalsForDevice(device, day, handler);
         } catch (Exception e) {
             //GB.toast("Error loading sleep/steps widget data for device: " + device, Toast.LENGTH_SHORT, GB.ERROR, e);
@@ -89,6 +96,66 @@ public class DailyTotals implements Serializable {
     }
 
     public static DailyTotals getDailyTotalsForDevice(GBDevice device, Calendar day, DBHandler handler) {
+        final DailyTotalsRollupProvider rollupProvider = new DailyTotalsRollupProvider(device, handler.getDaoSession());
+        final int dayStart = DailyTotalsRollupProvider.getDayStart(day);
+        final long version = DeviceDataVersions.getForReading(device);
+
+        DailyTotalsRollup rollup = null;
+        if (DailyTotalsRollupProvider.isComplete(dayStart)) {
+            rollup = rollupProvider.get(dayStart);
+        }
+        if (rollup == null) {
+            rollup = computeRollup(handler, day, device);
+            if (DailyTotalsRollupProvider.isComplete(dayStart)) {
+                storeRollups(device, Collections.singletonList(rollup), version);
+            }
+        }
+
+        return fromRollup(rollup, getRestingCaloriesOfDay(handler, day, device));
+    }
+
+    /**
+     * Gets the totals for every day between two days (inclusive), ordered by day. Complete days are
+     * read from the pre-computed rollup, so this is cheap even for long ranges once the rollup was
+     * filled in. Resting calories are not included.
+     */
+    public static List<DailyTotals> getDailyTotalsForDevice(GBDevice device, Calendar from, Calendar to, DBHandler handler) {
+        final DailyTotalsRollupProvider rollupProvider = new DailyTotalsRollupProvider(device, handler.getDaoSession());
+        final long version = DeviceDataVersions.getForReading(device);
+        final Map<Integer, DailyTotalsRollup> storedRollups = rollupProvider.getRange(
+                DailyTotalsRollupProvider.getDayStart(from),
+                DailyTotalsRollupProvider.getDayStart(to)
+        );
+
+        final List<DailyTotals> ret = new ArrayList<>();
+        final List<DailyTotalsRollup> computedRollups = new ArrayList<>();
+        final Calendar day = (Calendar) from.clone();
+        final int lastDayStart = DailyTotalsRollupProvider.getDayStart(to);
+        int dayStart;
+        while ((dayStart = DailyTotalsRollupProvider.getDayStart(day)) <= lastDayStart) {
+            DailyTotalsRollup rollup = storedRollups.get(dayStart);
+            if (rollup == null) {
+                rollup = computeRollup(handler, day, device);
+                if (DailyTotalsRollupProvider.isComplete(dayStart)) {
+                    computedRollups.add(rollup);
+                }
+            }
+            ret.add(fromRollup(rollup, 0));
+            day.add(Calendar.DATE, 1);
+        }
+
+        if (!computedRollups.isEmpty()) {
+            LOG.debug("Computed {} missing daily totals for {}", computedRollups.size(), device);
+            storeRollups(device, computedRollups, version);
+        }
+
+        return ret;
+    }
+
+    /**
+     * Computes the totals of a day from the activity samples.
+     */
+    public static DailyTotalsRollup computeRollup(DBHandler handler, Calendar day, GBDevice device) {
         ActivityAnalysis analysis = new ActivityAnalysis();
         ActivityAmounts totalAmounts;
         ActivityAmounts amountsSleep;
@@ -101,16 +168,109 @@ public class DailyTotals implements Serializable {
         long totalSteps = 0;
         long totalDistance = 0;
         long totalActiveCalories = 0;
-        long totalRestingCalories = 0;
         for (ActivityAmount amount : totalAmounts.getAmounts()) {
             totalSteps += amount.getTotalSteps();
             totalDistance += amount.getTotalDistance();
             totalActiveCalories += amount.getTotalActiveCalories();
         }
-        totalRestingCalories = getRestingCaloriesOfDay(handler, day, device);
 
-        // Purposely not including awake sleep
-        return new DailyTotals(totalSteps, totalDistance, sleep, totalActiveCalories, totalRestingCalories);
+        final DailyTotalsRollup rollup = new DailyTotalsRollup();
+        rollup.setDayStart(DailyTotalsRollupProvider.getDayStart(day));
+        rollup.setSteps(totalSteps);
+        rollup.setDistance(totalDistance);
+        rollup.setActiveCalories(totalActiveCalories);
+        rollup.setLightSleepMinutes((int) sleep[0]);
+        rollup.setDeepSleepMinutes((int) sleep[1]);
+        rollup.setRemSleepMinutes((int) sleep[2]);
+        rollup.setAwakeSleepMinutes((int) sleep[3]);
+        return rollup;
+    }
+
+    /**
+     * Drops and computes again the pre-computed totals of all complete days of a device. The days
+     * are processed in chunks, each with its own database access, so that years of data do not
+     * keep it for minutes. Days that were not stored because samples of the device were added
+     * meanwhile are computed again when needed.
+     */
+    public static void rebuildRollup(GBDevice device) throws Exception {
+        try (DBHandler handler = GBApplication.acquireDB()) {
+            new DailyTotalsRollupProvider(device, handler.getDaoSession()).clear();
+        }
+
+        final Calendar from = Calendar.getInstance();
+        try (DBHandler handler = GBApplication.acquireReadDB()) {
+            final ActivitySample firstSample = getFirstSample(handler, device);
+            if (firstSample == null) {
+                return;
+            }
+            from.setTimeInMillis(firstSample.getTimestamp() * 1000L);
+        }
+        // the sleep of the first day starts the day before
+        from.add(Calendar.DATE, -1);
+        if (from.get(Calendar.YEAR) < MIN_REBUILD_YEAR) {
+            // avoid going back decades because of a bogus timestamp
+            from.set(MIN_REBUILD_YEAR, Calendar.JANUARY, 1);
+        }
+        final Calendar to = Calendar.getInstance();
+        to.add(Calendar.DATE, -1);
+        final int lastDayStart = DailyTotalsRollupProvider.getDayStart(to);
+
+        int days = 0;
+        while (DailyTotalsRollupProvider.getDayStart(from) <= lastDayStart) {
+            Calendar chunkTo = (Calendar) from.clone();
+            chunkTo.add(Calendar.DATE, REBUILD_CHUNK_DAYS - 1);
+            if (DailyTotalsRollupProvider.getDayStart(chunkTo) > lastDayStart) {
+                chunkTo = to;
+            }
+            try (DBHandler handler = GBApplication.acquireReadDB()) {
+                days += getDailyTotalsForDevice(device, from, chunkTo, handler).size();
+            }
+            from.add(Calendar.DATE, REBUILD_CHUNK_DAYS);
+        }
+        LOG.info("Rebuilt daily totals of {} days for {}", days, device);
+    }
+
+    /**
+     * Drops the pre-computed totals of all devices, so that they are computed again when needed.
+     * Needs to be called when settings change that the totals are computed with.
+     */
+    public static void clearRollups() throws Exception {
+        try (DBHandler handler = GBApplication.acquireDB()) {
+            DailyTotalsRollupProvider.clearAll(handler.getDaoSession());
+            // totals that are being computed right now must not be stored anymore
+            DeviceDataVersions.bumpAll();
+        }
+    }
+
+    /**
+     * Stores the rollups with write access, unless samples of the device were added since reading
+     * the samples they were computed from.
+     */
+    private static void storeRollups(GBDevice device, List<DailyTotalsRollup> rollups, long version) {
+        if (DeviceDataVersions.get(device) != version) {
+            LOG.debug("Not storing {} daily totals of {}, samples were added meanwhile", rollups.size(), device);
+            return;
+        }
+        try (DBHandler handler = GBApplication.acquireDB()) {
+            // writers only change the version while holding write access
+            if (DeviceDataVersions.get(device) != version) {
+                LOG.debug("Not storing {} daily totals of {}, samples were added meanwhile", rollups.size(), device);
+                return;
+            }
+            new DailyTotalsRollupProvider(device, handler.getDaoSession()).store(rollups);
+        } catch (final Exception e) {
+            LOG.warn("Failed to store daily totals of {}", device, e);
+        }
+    }
+
+    private static DailyTotals fromRollup(DailyTotalsRollup rollup, long restingCalories) {
+        final long[] sleep = new long[]{
+                rollup.getLightSleepMinutes(),
+                rollup.getDeepSleepMinutes(),
+                rollup.getRemSleepMinutes(),
+                rollup.getAwakeSleepMinutes()
+        };
+        return new DailyTotals(rollup.getSteps(), rollup.getDistance(), sleep, rollup.getActiveCalories(), restingCalories);
     }
 
     private static long[] getTotalsSleepForActivityAmounts(ActivityAmounts activityAmounts) {
@@ -147,7 +307,9 @@ public class DailyTotals implements Serializable {
         day.add(Calendar.HOUR, offsetHours);
 
         startTs = (int) (day.getTimeInMillis() / 1000);
-        endTs = startTs + 24 * 60 * 60 - 1;
+        // not always 24 hours, because of daylight saving time
+        day.add(Calendar.DATE, 1);
+        endTs = (int) (day.getTimeInMillis() / 1000) - 1;
 
         return getSamples(db, device, startTs, endTs);
     }
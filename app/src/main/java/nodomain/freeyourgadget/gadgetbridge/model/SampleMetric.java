@@ -0,0 +1,84 @@
+/*  Copyright (C) 2026 Freeyourgadget
+
+    This file is part of Gadgetbridge.
+
+    Gadgetbridge is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published
+    by the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    Gadgetbridge is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>. */
+package nodomain.freeyourgadget.gadgetbridge.model;
+
+import nodomain.freeyourgadget.gadgetbridge.activities.HeartRateUtils;
+
+/**
+ * A value of a sample that can be aggregated in buckets. The ids are persisted, so they must
+ * never be changed or reused.
+ * <p>
+ * Each metric must come from a single kind of sample of a device, since buckets are stored by
+ * device and metric only. Heart rate and steps come from the activity samples, the others from
+ * the respective time samples.
+ */
+public enum SampleMetric {
+    HEART_RATE(1, ActivitySample.class),
+    STEPS(2, ActivitySample.class),
+    SPO2(3, Spo2Sample.class),
+    STRESS(4, StressSample.class),
+    ;
+
+    public static final int NO_VALUE = -1;
+
+    private final int id;
+    private final Class<?> sampleType;
+
+    SampleMetric(final int id, final Class<?> sampleType) {
+        this.id = id;
+        this.sampleType = sampleType;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * @return whether this metric is taken from this kind of sample
+     */
+    public boolean isMetricOf(final Object sample) {
+        return sampleType.isInstance(sample);
+    }
+
+    /**
+     * @return the value of this metric in the sample, or {@link #NO_VALUE} if the sample has no
+     * valid value for it
+     */
+    public int getValue(final Object sample) {
+        if (!isMetricOf(sample)) {
+            return NO_VALUE;
+        }
+        final int value;
+        switch (this) {
+            case HEART_RATE:
+                value = ((ActivitySample) sample).getHeartRate();
+                return HeartRateUtils.getInstance().isValidHeartRateValue(value) ? value : NO_VALUE;
+            case STEPS:
+                value = ((ActivitySample) sample).getSteps();
+                break;
+            case SPO2:
+                value = ((Spo2Sample) sample).getSpo2();
+                break;
+            case STRESS:
+                value = ((StressSample) sample).getStress();
+                break;
+            default:
+                return NO_VALUE;
+        }
+        return value > 0 ? value : NO_VALUE;
+    }
+}
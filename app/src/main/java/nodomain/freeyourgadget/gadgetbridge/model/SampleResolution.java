@@ -0,0 +1,60 @@
+/*  Copyright (C) 2026 Freeyourgadget
+
+    This file is part of Gadgetbridge.
+
+    Gadgetbridge is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published
+    by the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    Gadgetbridge is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>. */
+package nodomain.freeyourgadget.gadgetbridge.model;
+
+/**
+ * The levels at which samples are aggregated, from finest to coarsest. Buckets of all levels are
+ * aligned to the start of the day in local time, so that each one belongs to a single day.
+ */
+public enum SampleResolution {
+    MINUTE(60),
+    QUARTER_HOUR(15 * 60),
+    HOUR(60 * 60),
+    DAY(24 * 60 * 60),
+    ;
+
+    private final int seconds;
+
+    SampleResolution(final int seconds) {
+        this.seconds = seconds;
+    }
+
+    /**
+     * @return the length of a bucket, in seconds. Days may be shorter or longer on daylight saving
+     * time changes.
+     */
+    public int getSeconds() {
+        return seconds;
+    }
+
+    /**
+     * Picks the coarsest resolution that still gives at least the requested number of buckets over
+     * a time range, or the finest one if none does.
+     *
+     * @param rangeSeconds the length of the time range, in seconds
+     * @param minBuckets   the number of buckets needed, such as the width of the chart in pixels
+     */
+    public static SampleResolution forRange(final long rangeSeconds, final int minBuckets) {
+        final SampleResolution[] resolutions = values();
+        for (int i = resolutions.length - 1; i > 0; i--) {
+            if (rangeSeconds / resolutions[i].seconds >= minBuckets) {
+                return resolutions[i];
+            }
+        }
+        return resolutions[0];
+    }
+}
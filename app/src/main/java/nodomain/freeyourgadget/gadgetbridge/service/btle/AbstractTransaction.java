@@ -21,6 +21,9 @@ import nodomain.freeyourgadget.gadgetbridge.util.DateTimeUtils;
 public abstract class AbstractTransaction {
     private final String mName;
     private final long creationTimestamp = System.currentTimeMillis();
+    private TransactionPriority priority = TransactionPriority.INTERACTIVE;
+    // set by the TransactionScheduler when queued
+    long enqueuedNanos;
 
     public AbstractTransaction(String taskName) {
         this.mName = taskName;
@@ -30,6 +33,14 @@ public abstract class AbstractTransaction {
         return mName;
     }
 
+    public TransactionPriority getPriority() {
+        return priority;
+    }
+
+    public void setPriority(TransactionPriority priority) {
+        this.priority = priority;
+    }
+
     protected String getCreationTime() {
         return DateTimeUtils.formatLocalTime(creationTimestamp);
     }
@@ -39,7 +50,7 @@ public abstract class AbstractTransaction {
     @Override
     public String toString() {
         return getCreationTime() + " " + getClass().getSimpleName() + " with "
-                + getActionCount() + " actions for " + getTaskName();
+                + getActionCount() + " actions for " + getTaskName() + " (" + priority + ")";
     }
 
 }
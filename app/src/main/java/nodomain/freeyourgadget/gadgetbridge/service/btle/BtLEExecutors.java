@@ -0,0 +1,141 @@
+/*  Copyright (C) 2026 Freeyourgadget
+
+    This file is part of Gadgetbridge.
+
+    Gadgetbridge is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published
+    by the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    Gadgetbridge is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>. */
+package nodomain.freeyourgadget.gadgetbridge.service.btle;
+
+import androidx.annotation.NonNull;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import nodomain.freeyourgadget.gadgetbridge.GBExceptionHandler;
+
+/**
+ * The threads shared by the {@link BtLEQueue}s of all devices.
+ * <p>
+ * Transactions are dispatched and gatt callbacks are delivered on a pool that only keeps threads
+ * while some device has work, so idle devices do not hold a thread. Each queue submits at most
+ * one dispatch task at a time, which keeps the transactions of a device in order. Its gatt
+ * callbacks are run by a {@link SerialExecutor}, so they stay serialized and in order, and a
+ * slow callback only delays the device it belongs to.
+ */
+final class BtLEExecutors {
+    private static final Logger LOG = LoggerFactory.getLogger(BtLEExecutors.class);
+
+    private static final long KEEP_ALIVE_SECONDS = 30;
+
+    private static final AtomicLong THREAD_COUNTER = new AtomicLong(0L);
+    private static final Thread.UncaughtExceptionHandler EXCEPTION_HANDLER = (t, e) -> {
+        LOG.error("exception in {}", t.getName(), e);
+        new GBExceptionHandler(null, true).uncaughtException(t, e);
+    };
+
+    // dispatch tasks block while waiting for the device, so the pool must not be bounded: a
+    // device that never answers would otherwise starve the others
+    private static final ExecutorService EXECUTOR = new ThreadPoolExecutor(
+            0,
+            Integer.MAX_VALUE,
+            KEEP_ALIVE_SECONDS,
+            TimeUnit.SECONDS,
+            new SynchronousQueue<>(),
+            r -> {
+                final Thread thread = new Thread(r, "BtLEQueue_pool_" + THREAD_COUNTER.getAndIncrement());
+                thread.setUncaughtExceptionHandler(EXCEPTION_HANDLER);
+                return thread;
+            }
+    );
+
+    private BtLEExecutors() {
+    }
+
+    static ExecutorService getDispatchExecutor() {
+        return EXECUTOR;
+    }
+
+    /**
+     * Runs tasks one at a time and in the order they were submitted on the shared pool, with the
+     * given thread name in the log. No thread is held while there are no tasks.
+     */
+    static final class SerialExecutor implements Executor {
+        private final String mName;
+        private final Queue<Runnable> mTasks = new ArrayDeque<>();
+        private boolean mRunning;
+        private volatile boolean mCrashed;
+
+        SerialExecutor(final String name) {
+            mName = name;
+        }
+
+        @Override
+        public void execute(@NonNull final Runnable task) {
+            synchronized (mTasks) {
+                mTasks.add(task);
+                if (mRunning || mCrashed) {
+                    return;
+                }
+                mRunning = true;
+            }
+            EXECUTOR.execute(this::runTasks);
+        }
+
+        /**
+         * @return false if a task threw, in which case no further tasks are run
+         */
+        boolean isAlive() {
+            return !mCrashed;
+        }
+
+        String getName() {
+            return mName;
+        }
+
+        private void runTasks() {
+            final Thread thread = Thread.currentThread();
+            final String poolThreadName = thread.getName();
+            thread.setName(mName);
+            boolean completed = false;
+            try {
+                while (true) {
+                    final Runnable task;
+                    synchronized (mTasks) {
+                        task = mTasks.poll();
+                        if (task == null) {
+                            mRunning = false;
+                            break;
+                        }
+                    }
+                    task.run();
+                }
+                completed = true;
+            } finally {
+                if (!completed) {
+                    // like a dead handler thread, the exception handler of the pool reports it
+                    mCrashed = true;
+                }
+                thread.setName(poolThreadName);
+            }
+        }
+    }
+}
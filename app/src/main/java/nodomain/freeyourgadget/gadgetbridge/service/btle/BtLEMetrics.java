@@ -0,0 +1,445 @@
+/*  Copyright (C) 2026 Freeyourgadget
+
+    This file is part of Gadgetbridge.
+
+    Gadgetbridge is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published
+    by the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    Gadgetbridge is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>. */
+package nodomain.freeyourgadget.gadgetbridge.service.btle;
+
+import androidx.annotation.NonNull;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import nodomain.freeyourgadget.gadgetbridge.GBApplication;
+import nodomain.freeyourgadget.gadgetbridge.util.DateTimeUtils;
+import nodomain.freeyourgadget.gadgetbridge.util.FileUtils;
+
+/**
+ * Optional instrumentation of the {@link BtLEQueue} of a device: latency of each action from
+ * dispatch to its gatt callback, wall time of transactions, queue depth, throughput per
+ * characteristic, and MTU and connection priority changes.
+ * <p>
+ * Recording is disabled by default, in which case every method returns after checking a
+ * volatile flag. While enabled, the metrics of all devices are appended to a rolling export
+ * file every few minutes and on disconnect. They can be inspected in the debug screen.
+ */
+public final class BtLEMetrics {
+    private static final Logger LOG = LoggerFactory.getLogger(BtLEMetrics.class);
+
+    public static final String PREF_BLE_METRICS_ENABLED = "ble_metrics_enabled";
+
+    public static final String EXPORT_FILE_NAME = "ble_metrics.txt";
+    private static final long MAX_EXPORT_FILE_SIZE = 1024 * 1024;
+    private static final long EXPORT_INTERVAL_MILLIS = TimeUnit.MINUTES.toMillis(5);
+
+    private static final int MAX_EVENTS = 50;
+    private static final int MAX_TASK_NAMES = 64;
+    private static final String OTHER_TASKS = "(other)";
+
+    private static volatile boolean enabled;
+    private static volatile boolean initialized;
+    private static final Map<String, BtLEMetrics> INSTANCES = new ConcurrentHashMap<>();
+    private static final ExecutorService EXPORT_EXECUTOR = Executors.newSingleThreadExecutor(
+            r -> new Thread(r, "BtLEMetrics-export")
+    );
+
+    private final String address;
+    private final Map<String, Timing> actionLatencies = new ConcurrentHashMap<>();
+    private final Map<String, Timing> transactionTimes = new ConcurrentHashMap<>();
+    private final Map<UUID, Throughput> writeThroughput = new ConcurrentHashMap<>();
+    private final Map<UUID, Throughput> receiveThroughput = new ConcurrentHashMap<>();
+    private final QueueDepth queueDepth = new QueueDepth();
+    private final Deque<String> events = new ArrayDeque<>(MAX_EVENTS);
+    private volatile long lastExportMillis = System.currentTimeMillis();
+
+    private BtLEMetrics(final String address) {
+        this.address = address;
+    }
+
+    /**
+     * @return the metrics of the device with the given address, which are kept across connections
+     */
+    public static BtLEMetrics forDevice(final String address) {
+        if (!initialized) {
+            initialized = true;
+            enabled = GBApplication.getPrefs().getBoolean(PREF_BLE_METRICS_ENABLED, false);
+        }
+        return INSTANCES.computeIfAbsent(address, BtLEMetrics::new);
+    }
+
+    public static Collection<BtLEMetrics> getAll() {
+        return new TreeMap<>(INSTANCES).values();
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static void setEnabled(final boolean enabled) {
+        LOG.info("BLE metrics {}", enabled ? "enabled" : "disabled");
+        BtLEMetrics.initialized = true;
+        BtLEMetrics.enabled = enabled;
+    }
+
+    public String getAddress() {
+        return address;
+    }
+
+    void onActionFinished(final BtLEAction action, final long startNanos) {
+        if (!enabled) {
+            return;
+        }
+        String name = action.getClass().getSimpleName();
+        if (name.isEmpty()) {
+            name = action.getClass().getName();
+        }
+        actionLatencies.computeIfAbsent(name, k -> new Timing()).record(System.nanoTime() - startNanos);
+    }
+
+    void onTransactionFinished(final AbstractTransaction transaction, final long startNanos) {
+        if (!enabled) {
+            return;
+        }
+        String name = transaction.getTaskName();
+        if (!transactionTimes.containsKey(name) && transactionTimes.size() >= MAX_TASK_NAMES) {
+            name = OTHER_TASKS;
+        }
+        transactionTimes.computeIfAbsent(name, k -> new Timing()).record(System.nanoTime() - startNanos);
+        maybeExport();
+    }
+
+    void onQueueDepth(final int depth) {
+        if (!enabled) {
+            return;
+        }
+        queueDepth.record(depth);
+    }
+
+    void onBytesWritten(final UUID characteristic, final int bytes) {
+        if (!enabled) {
+            return;
+        }
+        writeThroughput.computeIfAbsent(characteristic, k -> new Throughput()).record(bytes);
+    }
+
+    void onBytesReceived(final UUID characteristic, final int bytes) {
+        if (!enabled) {
+            return;
+        }
+        receiveThroughput.computeIfAbsent(characteristic, k -> new Throughput()).record(bytes);
+    }
+
+    void onMtuChanged(final int mtu, final int status) {
+        if (!enabled) {
+            return;
+        }
+        addEvent("MTU changed to " + mtu + " " + BleNamesResolver.getStatusString(status));
+    }
+
+    void onConnectionPriorityRequested(final int priority) {
+        if (!enabled) {
+            return;
+        }
+        addEvent("Connection priority " + BleNamesResolver.getConnectionPriorityString(priority));
+    }
+
+    void onDisconnected() {
+        if (!enabled) {
+            return;
+        }
+        addEvent("Disconnected");
+        EXPORT_EXECUTOR.execute(BtLEMetrics::exportQuietly);
+    }
+
+    public void reset() {
+        actionLatencies.clear();
+        transactionTimes.clear();
+        writeThroughput.clear();
+        receiveThroughput.clear();
+        queueDepth.reset();
+        synchronized (events) {
+            events.clear();
+        }
+    }
+
+    /**
+     * @return the latency of each action type, by its class name
+     */
+    public Map<String, String> getActionLatencies() {
+        return describe(actionLatencies);
+    }
+
+    /**
+     * @return the wall time of the transactions, by their task name
+     */
+    public Map<String, String> getTransactionTimes() {
+        return describe(transactionTimes);
+    }
+
+    public Map<String, String> getWriteThroughput() {
+        return describe(writeThroughput);
+    }
+
+    public Map<String, String> getReceiveThroughput() {
+        return describe(receiveThroughput);
+    }
+
+    public String getQueueDepth() {
+        return queueDepth.toString();
+    }
+
+    /**
+     * @return the latest MTU and connection priority changes, oldest first
+     */
+    public List<String> getEvents() {
+        synchronized (events) {
+            return new ArrayList<>(events);
+        }
+    }
+
+    /**
+     * Appends the metrics of all devices to the export file, which is rolled over once it
+     * gets too large.
+     *
+     * @return the export file
+     */
+    public static File export() throws IOException {
+        final File file = FileUtils.getExternalFile(EXPORT_FILE_NAME);
+        synchronized (BtLEMetrics.class) {
+            if (file.length() > MAX_EXPORT_FILE_SIZE) {
+                final File rolled = new File(file.getPath() + ".1");
+                if (rolled.exists() && !rolled.delete()) {
+                    LOG.warn("Failed to delete {}", rolled);
+                }
+                if (!file.renameTo(rolled)) {
+                    LOG.warn("Failed to roll over {}", file);
+                }
+            }
+            try (Writer writer = new FileWriter(file, true)) {
+                writer.write("=== " + DateTimeUtils.formatIso8601(new Date()) + "\n");
+                for (final BtLEMetrics metrics : getAll()) {
+                    metrics.lastExportMillis = System.currentTimeMillis();
+                    writer.write(metrics.toString());
+                }
+            }
+        }
+        return file;
+    }
+
+    private static void exportQuietly() {
+        try {
+            export();
+        } catch (final Exception e) {
+            LOG.warn("Failed to export BLE metrics", e);
+        }
+    }
+
+    private void maybeExport() {
+        if (System.currentTimeMillis() - lastExportMillis > EXPORT_INTERVAL_MILLIS) {
+            lastExportMillis = System.currentTimeMillis();
+            EXPORT_EXECUTOR.execute(BtLEMetrics::exportQuietly);
+        }
+    }
+
+    private void addEvent(final String event) {
+        synchronized (events) {
+            if (events.size() >= MAX_EVENTS) {
+                events.removeFirst();
+            }
+            events.addLast(DateTimeUtils.formatIso8601(new Date()) + " " + event);
+        }
+    }
+
+    private static <K extends Comparable<K>> Map<String, String> describe(final Map<K, ?> map) {
+        final Map<String, String> ret = new TreeMap<>();
+        for (final Map.Entry<K, ?> entry : new TreeMap<>(map).entrySet()) {
+            ret.put(String.valueOf(entry.getKey()), String.valueOf(entry.getValue()));
+        }
+        return ret;
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder();
+        sb.append(address).append('\n');
+        sb.append("  queue depth: ").append(getQueueDepth()).append('\n');
+        append(sb, "action latency", getActionLatencies());
+        append(sb, "transaction time", getTransactionTimes());
+        append(sb, "write throughput", getWriteThroughput());
+        append(sb, "receive throughput", getReceiveThroughput());
+        sb.append("  events:\n");
+        for (final String event : getEvents()) {
+            sb.append("    ").append(event).append('\n');
+        }
+        return sb.toString();
+    }
+
+    private static void append(final StringBuilder sb, final String title, final Map<String, String> values) {
+        sb.append("  ").append(title).append(":\n");
+        for (final Map.Entry<String, String> entry : values.entrySet()) {
+            sb.append("    ").append(entry.getKey()).append(": ").append(entry.getValue()).append('\n');
+        }
+    }
+
+    private static final class Timing {
+        private long count;
+        private long totalNanos;
+        private long maxNanos;
+
+        private synchronized void record(final long nanos) {
+            count++;
+            totalNanos += nanos;
+            maxNanos = Math.max(maxNanos, nanos);
+        }
+
+        @NonNull
+        @Override
+        public synchronized String toString() {
+            final double avgMillis = count > 0 ? totalNanos / (count * 1e6) : 0;
+            return String.format(
+                    Locale.ROOT,
+                    "count=%d, avg=%.2fms, max=%.2fms",
+                    count,
+                    avgMillis,
+                    maxNanos / 1e6
+            );
+        }
+    }
+
+    /**
+     * Bytes transferred on a characteristic. The rate only counts the time while data is
+     * flowing: a gap of more than {@link #IDLE_GAP_NANOS} between two packets, for example
+     * while disconnected, is not part of it. The recent rate covers the last
+     * {@link #WINDOW_SECONDS} seconds.
+     */
+    static final class Throughput {
+        private static final long IDLE_GAP_NANOS = TimeUnit.SECONDS.toNanos(1);
+        private static final int WINDOW_SECONDS = 10;
+
+        private long count;
+        private long bytes;
+        private long activeBytes;
+        private long activeNanos;
+        private long lastNanos;
+        // bytes per second of the sliding window, indexed by the second modulo its length
+        private final long[] windowBytes = new long[WINDOW_SECONDS];
+        private final long[] windowSeconds = new long[WINDOW_SECONDS];
+
+        private void record(final int length) {
+            record(length, System.nanoTime());
+        }
+
+        synchronized void record(final int length, final long nowNanos) {
+            if (count++ > 0 && nowNanos - lastNanos <= IDLE_GAP_NANOS) {
+                activeNanos += nowNanos - lastNanos;
+                activeBytes += length;
+            }
+            lastNanos = nowNanos;
+            bytes += length;
+
+            final long second = TimeUnit.NANOSECONDS.toSeconds(nowNanos);
+            final int i = (int) (second % WINDOW_SECONDS);
+            if (windowSeconds[i] != second) {
+                windowSeconds[i] = second;
+                windowBytes[i] = 0;
+            }
+            windowBytes[i] += length;
+        }
+
+        /**
+         * @return the average rate while data was flowing, in bytes per second
+         */
+        synchronized double getRate() {
+            // the first packet after a pause has no duration, it is not part of the rate
+            return activeNanos > 0 ? activeBytes / (activeNanos / 1e9) : 0;
+        }
+
+        /**
+         * @return the rate over the last seconds before the given time, in bytes per second
+         */
+        synchronized double getRecentRate(final long nowNanos) {
+            final long second = TimeUnit.NANOSECONDS.toSeconds(nowNanos);
+            long recentBytes = 0;
+            for (int i = 0; i < WINDOW_SECONDS; i++) {
+                if (second - windowSeconds[i] < WINDOW_SECONDS) {
+                    recentBytes += windowBytes[i];
+                }
+            }
+            return (double) recentBytes / WINDOW_SECONDS;
+        }
+
+        @NonNull
+        @Override
+        public synchronized String toString() {
+            return String.format(
+                    Locale.ROOT,
+                    "count=%d, bytes=%d, rate=%.0fB/s, recent=%.0fB/s",
+                    count,
+                    bytes,
+                    getRate(),
+                    getRecentRate(System.nanoTime())
+            );
+        }
+    }
+
+    private static final class QueueDepth {
+        private long count;
+        private long total;
+        private int max;
+
+        private synchronized void record(final int depth) {
+            count++;
+            total += depth;
+            max = Math.max(max, depth);
+        }
+
+        private synchronized void reset() {
+            count = 0;
+            total = 0;
+            max = 0;
+        }
+
+        @NonNull
+        @Override
+        public synchronized String toString() {
+            return String.format(
+                    Locale.ROOT,
+                    "samples=%d, avg=%.1f, max=%d",
+                    count,
+                    count > 0 ? (double) total / count : 0,
+                    max
+            );
+        }
+    }
+}
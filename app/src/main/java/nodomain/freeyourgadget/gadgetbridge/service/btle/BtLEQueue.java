@@ -33,7 +33,6 @@ import android.bluetooth.BluetoothProfile;
 import android.content.Context;
 import android.os.Build;
 import android.os.Handler;
-import android.os.HandlerThread;
 import android.os.Looper;
 
 import androidx.annotation.NonNull;
@@ -45,26 +44,26 @@ import org.slf4j.LoggerFactory;
 
 import java.util.List;
 import java.util.Set;
-import java.util.concurrent.BlockingDeque;
 import java.util.concurrent.CountDownLatch;
-import java.util.concurrent.LinkedBlockingDeque;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 
 import nodomain.freeyourgadget.gadgetbridge.GBApplication;
-import nodomain.freeyourgadget.gadgetbridge.GBExceptionHandler;
 import nodomain.freeyourgadget.gadgetbridge.R;
 import nodomain.freeyourgadget.gadgetbridge.impl.GBDevice;
 import nodomain.freeyourgadget.gadgetbridge.impl.GBDevice.State;
 import nodomain.freeyourgadget.gadgetbridge.service.DeviceSupport;
+import nodomain.freeyourgadget.gadgetbridge.service.btle.actions.BulkWriteAction;
+import nodomain.freeyourgadget.gadgetbridge.service.btle.actions.RequestConnectionPriorityAction;
 import nodomain.freeyourgadget.gadgetbridge.service.btle.actions.WriteAction;
 import nodomain.freeyourgadget.gadgetbridge.util.GB;
 
 /**
- * One queue/thread per connectable device.
+ * One queue per connectable device. Transactions are dispatched and gatt callbacks are delivered on threads shared by all
+ * queues, see {@link BtLEExecutors}.
  */
 @SuppressLint("MissingPermission") // if we're using this, we have bluetooth permissions
-public final class BtLEQueue implements Thread.UncaughtExceptionHandler {
+public final class BtLEQueue {
     private final Logger LOG;
     private static final byte[] EMPTY = new byte[0];
     private static final AtomicLong QUEUE_COUNTER = new AtomicLong(0L);
@@ -77,16 +76,17 @@ public final class BtLEQueue implements Thread.UncaughtExceptionHandler {
     private BluetoothGattServer mBluetoothGattServer;
     private final Set<? extends BluetoothGattService> mSupportedServerServices;
 
-    private final BlockingDeque<AbstractTransaction> mTransactions;
+    private final TransactionScheduler mTransactions;
+    private final BtLEMetrics mMetrics;
     private final AtomicBoolean mDisposed;
     private volatile boolean mAbortTransaction;
     private volatile boolean mAbortServerTransaction;
     private volatile boolean mPauseTransaction;
+    private final Object mPauseMonitor = new Object();
 
     private final Context mContext;
     private CountDownLatch mWaitForActionResultLatch;
     private CountDownLatch mWaitForServerActionResultLatch;
-    private CountDownLatch mConnectionLatch;
     private BluetoothGattCharacteristic mWaitCharacteristic;
     private final NoThrowBluetoothGattCallback<InternalGattCallback> internalGattCallback;
     private final InternalGattServerCallback internalGattServerCallback;
@@ -95,125 +95,263 @@ public final class BtLEQueue implements Thread.UncaughtExceptionHandler {
     private final boolean mSendWriteRequestResponse;
 
     private final boolean connectionForceLegacyGatt;
-    private final Thread mDispatchThread;
-    private final HandlerThread mReceiverThread;
-    private final Handler mReceiverHandler;
+    private final String mDispatchThreadName;
+    private final DispatchRunnable mDispatchRunnable = new DispatchRunnable();
+    private final AtomicBoolean mDispatchScheduled = new AtomicBoolean(false);
+    private volatile boolean mDispatchCrashed;
+    private volatile Thread mDispatchThread;
+    private final BtLEExecutors.SerialExecutor mReceiver;
     private final Handler mGattConnectTimeoutHandler;
 
+    /**
+     * Runs the queued transactions of this queue on a thread of the shared dispatch pool, until
+     * there are none left or the device is not connected. In the latter case, dispatching is
+     * resumed once the services of the device were discovered.
+     */
     private class DispatchRunnable implements Runnable {
         @Override
         public void run() {
-            LOG.debug("started thread {} for {}", Thread.currentThread().getName(), mGbDevice.getAddress());
-            boolean crashed = false;
-
-            while (!mDisposed.get() && !crashed) {
-                try {
-                    AbstractTransaction qTransaction = mTransactions.takeFirst();
-
+            final Thread thread = Thread.currentThread();
+            final String poolThreadName = thread.getName();
+            thread.setName(mDispatchThreadName);
+            mDispatchThread = thread;
+
+            boolean waitingForConnection = false;
+            try {
+                while (!mDisposed.get() && !mDispatchCrashed) {
                     if (!isConnected()) {
                         LOG.debug("not connected, waiting for connection...");
                         // TODO: request connection and initialization from the outside and wait until finished
                         internalGattCallback.Delegate.reset();
 
-                        // wait until the connection succeeds before running the actions
+                        // dispatching resumes once the connection succeeds
                         // Note that no automatic connection is performed. This has to be triggered
                         // on the outside typically by the DeviceSupport. The reason is that
                         // devices have different kinds of initializations and this class has no
                         // idea about them.
-                        mConnectionLatch = new CountDownLatch(1);
-                        mConnectionLatch.await();
-                        mConnectionLatch = null;
+                        waitingForConnection = true;
+                        break;
                     }
 
-                    if (qTransaction instanceof final ServerTransaction serverTransaction) {
-                        internalGattServerCallback.setTransactionGattCallback(serverTransaction.getGattCallback());
-                        mAbortServerTransaction = false;
+                    final AbstractTransaction qTransaction = mTransactions.poll();
+                    if (qTransaction == null) {
+                        break;
+                    }
 
-                        for (final BtLEServerAction action : serverTransaction.getActions()) {
-                            if (mAbortServerTransaction) { // got disconnected
-                                LOG.info("Aborting running server transaction");
-                                break;
-                            }
-                            if (LOG.isDebugEnabled()) {
-                                LOG.debug("execute server: {}", action);
-                            }
-                            if (action.run(mBluetoothGattServer)) {
-                                // check again, maybe due to some condition, action did not need to write, so we can't wait
-                                boolean waitForResult = action.expectsResult();
-                                if (waitForResult) {
-                                    mWaitForServerActionResultLatch.await();
-                                    mWaitForServerActionResultLatch = null;
-                                    if (mAbortServerTransaction) {
-                                        break;
-                                    }
-                                }
-                            } else {
-                                LOG.error("Server action returned false: {}", action);
-                                break; // abort the transaction
-                            }
-                        }
+                    try {
+                        runTransaction(qTransaction);
+                    } catch (InterruptedException ignored) {
+                        LOG.debug("Queue dispatch interrupted");
+                    } catch (Throwable ex) {
+                        LOG.error("Queue dispatch died", ex);
+                        mDispatchCrashed = true;
+                    } finally {
+                        mWaitForActionResultLatch = null;
+                        mWaitCharacteristic = null;
                     }
+                }
+            } finally {
+                mDispatchThread = null;
+                // do not leak an interrupt from dispose() into the pool
+                Thread.interrupted();
+                thread.setName(poolThreadName);
+                mDispatchScheduled.set(false);
+            }
 
-                    if (qTransaction instanceof final Transaction transaction) {
-                        LOG.trace("Changing gatt callback for {}? {}", transaction.getTaskName(), transaction.isModifyGattCallback());
-                        if (mImplicitGattCallbackModify || transaction.isModifyGattCallback()) {
-                            internalGattCallback.Delegate.setTransactionGattCallback(transaction.getGattCallback());
-                        }
-                        mAbortTransaction = false;
-                        // Run all actions of the transaction until one doesn't succeed
-                        for (final BtLEAction action : transaction.getActions()) {
-                            if (mAbortTransaction) { // got disconnected
-                                LOG.info("Aborting running transaction");
-                                break;
-                            }
-                            while ((action instanceof WriteAction) && mPauseTransaction && !mAbortTransaction) {
-                              LOG.info("Pausing WriteAction");
-                              try {
-                                  Thread.sleep(100L);
-                              } catch (Exception e) {
-                                  LOG.info("Exception during pause", e);
-                                  break;
-                              }
-                            }
-                            mWaitCharacteristic = action.getCharacteristic();
-                            mWaitForActionResultLatch = new CountDownLatch(1);
-                            if (LOG.isDebugEnabled()) {
-                                LOG.debug("execute: {}", action);
-                            }
-                            if (action instanceof final GattListenerAction listenerAction) {
-                                // this special action overwrites the transaction gatt listener (if any), it must
-                                // always be the last action in the transaction
-                                internalGattCallback.Delegate.setTransactionGattCallback(listenerAction.getGattCallback());
-                            }
-                            if (action.run(mBluetoothGatt)) {
-                                // check again, maybe due to some condition, action did not need to write, so we can't wait
-                                boolean waitForResult = action.expectsResult();
-                                if (waitForResult) {
-                                    mWaitForActionResultLatch.await();
-                                    mWaitForActionResultLatch = null;
-                                    if (mAbortTransaction) {
-                                        break;
-                                    }
-                                }
-                            } else {
-                                LOG.error("Action returned false: {}", action);
-                                break; // abort the transaction
-                            }
-                        }
+            // a transaction or the connection may have arrived after we decided to stop
+            if (waitingForConnection ? isConnectedQuiet() : !mTransactions.isEmpty()) {
+                scheduleDispatch();
+            }
+        }
+    }
+
+    private void scheduleDispatch() {
+        if (mDisposed.get() || mDispatchCrashed) {
+            return;
+        }
+        if (mDispatchScheduled.compareAndSet(false, true)) {
+            BtLEExecutors.getDispatchExecutor().execute(mDispatchRunnable);
+        }
+    }
+
+    private void runTransaction(final AbstractTransaction qTransaction) throws InterruptedException {
+        final long startNanos = System.nanoTime();
+        if (qTransaction instanceof final ServerTransaction serverTransaction) {
+            runServerTransaction(serverTransaction);
+        } else if (qTransaction instanceof final Transaction transaction) {
+            runClientTransaction(transaction);
+        }
+        mMetrics.onTransactionFinished(qTransaction, startNanos);
+    }
+
+    private void runServerTransaction(final ServerTransaction serverTransaction) throws InterruptedException {
+        internalGattServerCallback.setTransactionGattCallback(serverTransaction.getGattCallback());
+        mAbortServerTransaction = false;
+
+        for (final BtLEServerAction action : serverTransaction.getActions()) {
+            if (mAbortServerTransaction) { // got disconnected
+                LOG.info("Aborting running server transaction");
+                break;
+            }
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("execute server: {}", action);
+            }
+            if (action.run(mBluetoothGattServer)) {
+                // check again, maybe due to some condition, action did not need to write, so we can't wait
+                boolean waitForResult = action.expectsResult();
+                if (waitForResult) {
+                    mWaitForServerActionResultLatch.await();
+                    mWaitForServerActionResultLatch = null;
+                    if (mAbortServerTransaction) {
+                        break;
                     }
-                } catch (InterruptedException ignored) {
-                    mConnectionLatch = null;
-                    LOG.debug("Queue Dispatch Thread interrupted");
-                } catch (Throwable ex) {
-                    LOG.error("Queue Dispatch Thread died", ex);
-                    crashed = true;
-                    mConnectionLatch = null;
-                } finally {
+                }
+            } else {
+                LOG.error("Server action returned false: {}", action);
+                break; // abort the transaction
+            }
+        }
+    }
+
+    private void runClientTransaction(final Transaction transaction) throws InterruptedException {
+        LOG.trace("Changing gatt callback for {}? {}", transaction.getTaskName(), transaction.isModifyGattCallback());
+        if (mImplicitGattCallbackModify || transaction.isModifyGattCallback()) {
+            internalGattCallback.Delegate.setTransactionGattCallback(transaction.getGattCallback());
+        }
+        mAbortTransaction = false;
+        boolean first = true;
+        // Run all actions of the transaction until one doesn't succeed
+        for (final BtLEAction action : transaction.getActions()) {
+            if (!first && transaction.getPriority() == TransactionPriority.BULK) {
+                runPreemptingTransactions(transaction);
+            }
+            first = false;
+            if (mAbortTransaction) { // got disconnected
+                LOG.info("Aborting running transaction");
+                break;
+            }
+            final long actionStartNanos = System.nanoTime();
+            if (action instanceof final BulkWriteAction bulkWriteAction) {
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("execute: {}", action);
+                }
+                if (!runBulkWrite(transaction, bulkWriteAction)) {
+                    LOG.error("Bulk write failed: {}", action);
+                    break; // abort the transaction
+                }
+                recordActionMetrics(action, actionStartNanos);
+                continue;
+            }
+            if (action instanceof WriteAction) {
+                waitWhilePaused();
+            }
+            mWaitCharacteristic = action.getCharacteristic();
+            mWaitForActionResultLatch = new CountDownLatch(1);
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("execute: {}", action);
+            }
+            if (action instanceof final GattListenerAction listenerAction) {
+                // this special action overwrites the transaction gatt listener (if any), it must
+                // always be the last action in the transaction
+                internalGattCallback.Delegate.setTransactionGattCallback(listenerAction.getGattCallback());
+            }
+            if (action.run(mBluetoothGatt)) {
+                // check again, maybe due to some condition, action did not need to write, so we can't wait
+                boolean waitForResult = action.expectsResult();
+                if (waitForResult) {
+                    mWaitForActionResultLatch.await();
                     mWaitForActionResultLatch = null;
-                    mWaitCharacteristic = null;
+                    if (mAbortTransaction) {
+                        break;
+                    }
                 }
+                recordActionMetrics(action, actionStartNanos);
+            } else {
+                LOG.error("Action returned false: {}", action);
+                break; // abort the transaction
+            }
+        }
+    }
+
+    private void recordActionMetrics(final BtLEAction action, final long startNanos) {
+        if (!BtLEMetrics.isEnabled()) {
+            return;
+        }
+        mMetrics.onActionFinished(action, startNanos);
+        if (action instanceof final WriteAction writeAction && action.getCharacteristic() != null && writeAction.getValue() != null) {
+            mMetrics.onBytesWritten(action.getCharacteristic().getUuid(), writeAction.getValue().length);
+        } else if (action instanceof final BulkWriteAction bulkWriteAction && action.getCharacteristic() != null) {
+            mMetrics.onBytesWritten(action.getCharacteristic().getUuid(), bulkWriteAction.getLength());
+        } else if (action instanceof final RequestConnectionPriorityAction priorityAction) {
+            mMetrics.onConnectionPriorityRequested(priorityAction.getPriority());
+        }
+    }
+
+    /**
+     * Runs the queued transactions of higher priority than the given bulk transaction, between two
+     * of its actions. The gatt callback of the bulk transaction is restored afterwards. If one of
+     * them gets aborted, e.g. by a disconnect, the bulk transaction is aborted as well.
+     */
+    private void runPreemptingTransactions(final Transaction transaction) throws InterruptedException {
+        AbstractTransaction preempting;
+        while (!mAbortTransaction && (preempting = mTransactions.pollHigherThan(transaction.getPriority())) != null) {
+            LOG.debug("{} preempts {}", preempting, transaction);
+            final GattCallback callback = internalGattCallback.Delegate.getTransactionGattCallback();
+            runTransaction(preempting);
+            internalGattCallback.Delegate.setTransactionGattCallback(callback);
+        }
+    }
+
+    /**
+     * Runs a {@link BulkWriteAction} one chunk at a time: the next chunk is only written once
+     * {@link InternalGattCallback#onCharacteristicWrite} confirmed the previous one, since Android
+     * only accepts one pending write per connection. Like between the actions of a
+     * {@link TransactionPriority#BULK} transaction, transactions of higher priority run between
+     * two chunks, so they do not wait for the whole payload.
+     *
+     * @return true if all chunks were written
+     */
+    private boolean runBulkWrite(final Transaction transaction, final BulkWriteAction action) throws InterruptedException {
+        if (action.getCharacteristic() == null) {
+            return false;
+        }
+        boolean first = true;
+        while (action.hasNextChunk()) {
+            if (!first && transaction.getPriority() == TransactionPriority.BULK) {
+                runPreemptingTransactions(transaction);
+            }
+            first = false;
+            waitWhilePaused();
+            if (mAbortTransaction) {
+                return false;
+            }
+            mWaitCharacteristic = action.getCharacteristic();
+            mWaitForActionResultLatch = new CountDownLatch(1);
+            if (!action.run(mBluetoothGatt)) {
+                return false;
+            }
+            mWaitForActionResultLatch.await();
+            mWaitForActionResultLatch = null;
+            if (mAbortTransaction) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Blocks the dispatch thread while writes are paused by {@link #setPaused(boolean)}, until they
+     * are resumed or the transaction is aborted.
+     */
+    private void waitWhilePaused() throws InterruptedException {
+        synchronized (mPauseMonitor) {
+            if (mPauseTransaction && !mAbortTransaction) {
+                LOG.info("Pausing writes");
+                while (mPauseTransaction && !mAbortTransaction) {
+                    mPauseMonitor.wait();
+                }
+                LOG.info("Resuming writes");
             }
-            LOG.debug("finished thread {}", Thread.currentThread().getName());
         }
     }
 
@@ -240,48 +378,40 @@ public final class BtLEQueue implements Thread.UncaughtExceptionHandler {
         // 2) create new objects
         mDisposed = new AtomicBoolean(false);
         mGattMonitor = new Object();
-        mTransactions = new LinkedBlockingDeque<>();
-        internalGattCallback = new NoThrowBluetoothGattCallback<>(new InternalGattCallback(deviceSupport));
-        internalGattServerCallback = new InternalGattServerCallback(deviceSupport);
-        mDispatchThread = new Thread(new DispatchRunnable(), "BtLEQueue_" + threadIdx + "_out");
-        mDispatchThread.setUncaughtExceptionHandler(this);
-
-        // 3) start the thread
-        mDispatchThread.start();
-
-        // 4) handler thread ensure serial processing and informative thread name in the log
+        mTransactions = new TransactionScheduler();
+        mMetrics = BtLEMetrics.forDevice(gbDevice.getAddress());
+        // gatt callbacks are delivered serially on the shared pool, with an informative thread name in the log
         if (GBApplication.isRunningOreoOrLater() && !connectionForceLegacyGatt) {
-            mReceiverThread = new HandlerThread("BtLEQueue_" + threadIdx + "_in");
-            mReceiverThread.setUncaughtExceptionHandler(this);
-            mReceiverThread.start();
-            mReceiverHandler = new Handler(mReceiverThread.getLooper());
-            mReceiverHandler.post(() -> LOG.debug("started thread {} for {}", Thread.currentThread().getName(), gbDevice.getAddress()));
+            mReceiver = new BtLEExecutors.SerialExecutor("BtLEQueue_" + threadIdx + "_in");
         } else {
-            mReceiverThread = null;
-            mReceiverHandler = null;
+            mReceiver = null;
         }
-    }
-
-    @Override
-    public void uncaughtException(@NonNull Thread t, @NonNull Throwable e) {
-        LOG.error("exception in {}", t.getName(), e);
-
-        // TODO implement actual exception handling for mDispatchThread and mReceiverThread
-        new GBExceptionHandler(null, true).uncaughtException(t, e);
+        internalGattCallback = new NoThrowBluetoothGattCallback<>(new InternalGattCallback(deviceSupport), mReceiver);
+        internalGattServerCallback = new InternalGattServerCallback(deviceSupport);
+        // transactions are dispatched on the shared pool, with an informative thread name in the log
+        mDispatchThreadName = "BtLEQueue_" + threadIdx + "_out";
     }
 
     boolean isConnected() {
-        State state = mGbDevice.getState();
-        boolean gatt = (mBluetoothGatt != null);
-        boolean dispatch = mDispatchThread.isAlive();
-        boolean receiver = (mReceiverThread == null || mReceiverThread.isAlive());
-        if (state.equalsOrHigherThan(State.CONNECTED) && gatt && dispatch && receiver) {
+        if (isConnectedQuiet()) {
             return true;
         }
-        LOG.debug("not connected: state={} gatt={} dispatch={} receiver={}", state, gatt, dispatch, receiver);
+        LOG.debug("not connected: state={} gatt={} dispatch={} receiver={}",
+                mGbDevice.getState(), mBluetoothGatt != null, !mDispatchCrashed, isReceiverAlive());
         return false;
     }
 
+    private boolean isConnectedQuiet() {
+        return mGbDevice.getState().equalsOrHigherThan(State.CONNECTED)
+                && mBluetoothGatt != null
+                && !mDispatchCrashed
+                && isReceiverAlive();
+    }
+
+    private boolean isReceiverAlive() {
+        return mReceiver == null || mReceiver.isAlive();
+    }
+
     /**
      * Connects to the given remote device. Note that this does not perform any device
      * specific initialization. This should be done in the specific {@link DeviceSupport}
@@ -302,12 +432,12 @@ public final class BtLEQueue implements Thread.UncaughtExceptionHandler {
                 LOG.error("connect - queue has already been disposed");
                 String message = mContext.getString(R.string.error_queue_is_dead);
                 throw new IllegalStateException(message);
-            } else if (!mDispatchThread.isAlive()) {
-                LOG.error("connect - mDispatchThread {} is dead", mDispatchThread.getName());
+            } else if (mDispatchCrashed) {
+                LOG.error("connect - dispatch of {} has died", mDispatchThreadName);
                 String message = mContext.getString(R.string.error_sender_is_dead);
                 throw new IllegalStateException(message);
-            } else if (mReceiverThread != null && !mReceiverThread.isAlive()) {
-                LOG.error("connect - mReceiverThread {} is dead", mReceiverThread.getName());
+            } else if (!isReceiverAlive()) {
+                LOG.error("connect - receiver {} has died", mReceiver.getName());
                 String message = mContext.getString(R.string.error_receiver_is_dead);
                 throw new IllegalStateException(message);
             }
@@ -322,7 +452,7 @@ public final class BtLEQueue implements Thread.UncaughtExceptionHandler {
     }
 
     private boolean connectImp() {
-        mPauseTransaction = false;
+        setPaused(false);
 
         LOG.info("Attempting to connect to {}", mGbDevice.getName());
 
@@ -354,7 +484,7 @@ public final class BtLEQueue implements Thread.UncaughtExceptionHandler {
         if (GBApplication.isRunningOreoOrLater() && !connectionForceLegacyGatt) {
             mBluetoothGatt = remoteDevice.connectGatt(mContext, false,
                     internalGattCallback, BluetoothDevice.TRANSPORT_LE,
-                    BluetoothDevice.PHY_LE_CODED_MASK, mReceiverHandler);
+                    BluetoothDevice.PHY_LE_CODED_MASK, null);
         } else {
             mBluetoothGatt = remoteDevice.connectGatt(mContext, false,
                     internalGattCallback, BluetoothDevice.TRANSPORT_LE);
@@ -380,7 +510,7 @@ public final class BtLEQueue implements Thread.UncaughtExceptionHandler {
                 gatt.disconnect();
                 gatt.close();
             }
-            mPauseTransaction = false;
+            setPaused(false);
             BluetoothGattServer gattServer = mBluetoothGattServer;
             if (gattServer != null) {
                 mBluetoothGattServer = null;
@@ -398,10 +528,12 @@ public final class BtLEQueue implements Thread.UncaughtExceptionHandler {
     private void handleDisconnected(int status) {
         LOG.debug("handleDisconnected: {}", BleNamesResolver.getStatusString(status));
         internalGattCallback.Delegate.reset();
+        LOG.debug("Queueing delays: {}", mTransactions);
         mTransactions.clear();
-        mPauseTransaction = false;
+        mMetrics.onDisconnected();
         mAbortTransaction = true;
         mAbortServerTransaction = true;
+        setPaused(false);
         mGattConnectTimeoutHandler.removeCallbacksAndMessages(null);
         final CountDownLatch clientLatch = mWaitForActionResultLatch;
         if (clientLatch != null) {
@@ -448,7 +580,6 @@ public final class BtLEQueue implements Thread.UncaughtExceptionHandler {
                     forceDisconnect = true;
                 } else {
                     LOG.info("enabling automatic immediate BLE reconnection");
-                    mPauseTransaction = false;
                     if (mBluetoothGatt.connect()) {
                         setDeviceConnectionState(State.CONNECTING);
                     } else {
@@ -481,8 +612,14 @@ public final class BtLEQueue implements Thread.UncaughtExceptionHandler {
         }
     }
 
+    /**
+     * Pauses or resumes running write actions, e.g. if the device signals that its buffer is full.
+     */
     public void setPaused(boolean paused) {
-      mPauseTransaction = paused;
+        synchronized (mPauseMonitor) {
+            mPauseTransaction = paused;
+            mPauseMonitor.notifyAll();
+        }
     }
 
     void dispose() {
@@ -493,25 +630,21 @@ public final class BtLEQueue implements Thread.UncaughtExceptionHandler {
 
         disconnect();
 
-        if (mReceiverThread != null && mReceiverThread.isAlive()) {
-            mReceiverHandler.post(() -> {
-                LOG.debug("finish thread {}", Thread.currentThread().getName());
-                mReceiverThread.quitSafely();
-            });
-        }
-
-        if (mDispatchThread != null) {
-            mDispatchThread.interrupt();
+        // the dispatch threads are shared with other queues, only stop a running dispatch
+        final Thread dispatchThread = mDispatchThread;
+        if (dispatchThread != null) {
+            dispatchThread.interrupt();
         }
     }
 
     /**
-     * Adds a transaction to the end of the queue.
+     * Adds a transaction to the end of the lane of its priority.
      */
     void add(Transaction transaction) {
         LOG.debug("add: {}", transaction);
         if (!transaction.isEmpty()) {
-            mTransactions.addLast(transaction);
+            mMetrics.onQueueDepth(mTransactions.addLast(transaction));
+            scheduleDispatch();
         }
     }
 
@@ -520,6 +653,9 @@ public final class BtLEQueue implements Thread.UncaughtExceptionHandler {
      */
     public void abortCurrentTransaction() {
         mAbortTransaction = true;
+        synchronized (mPauseMonitor) {
+            mPauseMonitor.notifyAll();
+        }
         final CountDownLatch latch = mWaitForActionResultLatch;
         if (latch != null) {
             latch.countDown();
@@ -532,19 +668,22 @@ public final class BtLEQueue implements Thread.UncaughtExceptionHandler {
     void add(ServerTransaction transaction) {
         LOG.debug("add server: {}", transaction);
         if(!transaction.isEmpty()) {
-            mTransactions.addLast(transaction);
+            mMetrics.onQueueDepth(mTransactions.addLast(transaction));
+            scheduleDispatch();
         }
     }
 
     /**
-     * Adds a transaction to the beginning of the queue.
+     * Adds a transaction to the beginning of the lane of its priority.
      * Note that actions of the *currently executing* transaction
-     * will still be executed before the given transaction.
+     * will still be executed before the given transaction, unless it
+     * is a {@link TransactionPriority#BULK} transaction.
      */
     void insert(Transaction transaction) {
         LOG.debug("about to insert: {}", transaction);
         if (!transaction.isEmpty()) {
-            mTransactions.addFirst(transaction);
+            mMetrics.onQueueDepth(mTransactions.addFirst(transaction));
+            scheduleDispatch();
         }
     }
 
@@ -588,6 +727,11 @@ public final class BtLEQueue implements Thread.UncaughtExceptionHandler {
             mTransactionGattCallback = callback;
         }
 
+        @Nullable
+        GattCallback getTransactionGattCallback() {
+            return mTransactionGattCallback;
+        }
+
         private GattCallback getCallbackToUse() {
             final GattCallback callback = mTransactionGattCallback;
             if (callback != null) {
@@ -687,10 +831,8 @@ public final class BtLEQueue implements Thread.UncaughtExceptionHandler {
                         LOG.error("onServicesDiscovered failed", ex);
                     }
                 }
-                final CountDownLatch latch = mConnectionLatch;
-                if (latch != null) {
-                    latch.countDown();
-                }
+                // run the transactions that were queued while connecting
+                scheduleDispatch();
             } else {
                 LOG.warn("onServicesDiscovered received: {}", BleNamesResolver.getStatusString(status));
             }
@@ -721,6 +863,7 @@ public final class BtLEQueue implements Thread.UncaughtExceptionHandler {
             if (!checkCorrectGattInstance(gatt, "onMtuChanged")) {
                 return;
             }
+            mMetrics.onMtuChanged(mtu, status);
 
             final GattCallback callback = getCallbackToUse();
             if (callback != null) {
@@ -760,6 +903,7 @@ public final class BtLEQueue implements Thread.UncaughtExceptionHandler {
             if (!checkCorrectGattInstance(gatt, "onCharacteristicRead")) {
                 return;
             }
+            mMetrics.onBytesReceived(characteristic.getUuid(), value.length);
 
             final GattCallback callback = getCallbackToUse();
             if (callback != null) {
@@ -837,6 +981,7 @@ public final class BtLEQueue implements Thread.UncaughtExceptionHandler {
             if (!checkCorrectGattInstance(gatt, "characteristic changed")) {
                 return;
             }
+            mMetrics.onBytesReceived(characteristic.getUuid(), value.length);
 
             final GattCallback callback = getCallbackToUse();
             if (callback != null) {
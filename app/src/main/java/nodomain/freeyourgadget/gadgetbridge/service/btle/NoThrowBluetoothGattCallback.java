@@ -24,219 +24,136 @@ import android.bluetooth.BluetoothGattDescriptor;
 import android.os.Build;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import androidx.annotation.RequiresApi;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.concurrent.Executor;
+
 /// A {@link BluetoothGattCallback} that ensures no {@link Exception} can kill the current {@link Thread}.
 /// All processing and logging must be done in the {@link #Delegate} and not here.
+/// If an {@link Executor} is given, the {@link #Delegate} is called on it instead of the calling thread.
 public class NoThrowBluetoothGattCallback<T extends BluetoothGattCallback> extends BluetoothGattCallback {
     private static final Logger LOG = LoggerFactory.getLogger(NoThrowBluetoothGattCallback.class);
     public final T Delegate;
+    @Nullable
+    private final Executor mExecutor;
 
     public NoThrowBluetoothGattCallback(T delegate) {
+        this(delegate, null);
+    }
+
+    public NoThrowBluetoothGattCallback(T delegate, @Nullable Executor executor) {
         if (delegate == null) {
             throw new IllegalArgumentException("delegate is null");
         }
         Delegate = delegate;
+        mExecutor = executor;
+    }
+
+    private void run(String name, Runnable callback) {
+        final Runnable task = () -> {
+            try {
+                callback.run();
+            } catch (Exception ex) {
+                LOG.error(name, ex);
+            } catch (Throwable t) {
+                LOG.error(name, t);
+                throw t;
+            }
+        };
+        if (mExecutor == null) {
+            task.run();
+        } else {
+            mExecutor.execute(task);
+        }
     }
 
     @RequiresApi(api = Build.VERSION_CODES.O)
     @Override
     public void onPhyUpdate(BluetoothGatt gatt, int txPhy, int rxPhy, int status) {
-        try {
-            Delegate.onPhyUpdate(gatt, txPhy, rxPhy, status);
-        } catch (Exception ex) {
-            LOG.error("onPhyUpdate", ex);
-        } catch (Throwable t) {
-            LOG.error("onPhyUpdate", t);
-            throw t;
-        }
+        run("onPhyUpdate", () -> Delegate.onPhyUpdate(gatt, txPhy, rxPhy, status));
     }
 
     @RequiresApi(api = Build.VERSION_CODES.O)
     @Override
     public void onPhyRead(BluetoothGatt gatt, int txPhy, int rxPhy, int status) {
-        try {
-            Delegate.onPhyRead(gatt, txPhy, rxPhy, status);
-        } catch (Exception ex) {
-            LOG.error("onPhyRead", ex);
-        } catch (Throwable t) {
-            LOG.error("onPhyRead", t);
-            throw t;
-        }
+        run("onPhyRead", () -> Delegate.onPhyRead(gatt, txPhy, rxPhy, status));
     }
 
     @Override
     public void onConnectionStateChange(BluetoothGatt gatt, int status, int newState) {
-        try {
-            Delegate.onConnectionStateChange(gatt, status, newState);
-        } catch (Exception ex) {
-            LOG.error("onConnectionStateChange", ex);
-        } catch (Throwable t) {
-            LOG.error("onConnectionStateChange", t);
-            throw t;
-        }
+        run("onConnectionStateChange", () -> Delegate.onConnectionStateChange(gatt, status, newState));
     }
 
     @Override
     public void onServicesDiscovered(BluetoothGatt gatt, int status) {
-        try {
-            Delegate.onServicesDiscovered(gatt, status);
-        } catch (Exception ex) {
-            LOG.error("onServicesDiscovered", ex);
-        } catch (Throwable t) {
-            LOG.error("onServicesDiscovered", t);
-            throw t;
-        }
+        run("onServicesDiscovered", () -> Delegate.onServicesDiscovered(gatt, status));
     }
 
     @Override
     public void onCharacteristicRead(BluetoothGatt gatt, BluetoothGattCharacteristic characteristic, int status) {
-        try {
-            Delegate.onCharacteristicRead(gatt, characteristic, status);
-        } catch (Exception ex) {
-            LOG.error("onCharacteristicRead-old", ex);
-        } catch (Throwable t) {
-            LOG.error("onCharacteristicRead-old", t);
-            throw t;
-        }
+        run("onCharacteristicRead-old", () -> Delegate.onCharacteristicRead(gatt, characteristic, status));
     }
 
     @RequiresApi(api = Build.VERSION_CODES.TIRAMISU)
     @Override
     public void onCharacteristicRead(@NonNull BluetoothGatt gatt, @NonNull BluetoothGattCharacteristic characteristic, @NonNull byte[] value, int status) {
-        try {
-            Delegate.onCharacteristicRead(gatt, characteristic, value, status);
-        } catch (Exception ex) {
-            LOG.error("onCharacteristicRead", ex);
-        } catch (Throwable t) {
-            LOG.error("onCharacteristicRead", t);
-            throw t;
-        }
+        run("onCharacteristicRead", () -> Delegate.onCharacteristicRead(gatt, characteristic, value, status));
     }
 
     @Override
     public void onCharacteristicWrite(BluetoothGatt gatt, BluetoothGattCharacteristic characteristic, int status) {
-        try {
-            Delegate.onCharacteristicWrite(gatt, characteristic, status);
-        } catch (Exception ex) {
-            LOG.error("onCharacteristicWrite", ex);
-        } catch (Throwable t) {
-            LOG.error("onCharacteristicWrite", t);
-            throw t;
-        }
+        run("onCharacteristicWrite", () -> Delegate.onCharacteristicWrite(gatt, characteristic, status));
     }
 
     @Override
     public void onCharacteristicChanged(BluetoothGatt gatt, BluetoothGattCharacteristic characteristic) {
-        try {
-            Delegate.onCharacteristicChanged(gatt, characteristic);
-        } catch (Exception ex) {
-            LOG.error("onCharacteristicChanged-old", ex);
-        } catch (Throwable t) {
-            LOG.error("onCharacteristicChanged-old", t);
-            throw t;
-        }
+        run("onCharacteristicChanged-old", () -> Delegate.onCharacteristicChanged(gatt, characteristic));
     }
 
     @RequiresApi(api = Build.VERSION_CODES.TIRAMISU)
     @Override
     public void onCharacteristicChanged(@NonNull BluetoothGatt gatt, @NonNull BluetoothGattCharacteristic characteristic, @NonNull byte[] value) {
-        try {
-            Delegate.onCharacteristicChanged(gatt, characteristic, value);
-        } catch (Exception ex) {
-            LOG.error("onCharacteristicChanged", ex);
-        } catch (Throwable t) {
-            LOG.error("onCharacteristicChanged", t);
-            throw t;
-        }
+        run("onCharacteristicChanged", () -> Delegate.onCharacteristicChanged(gatt, characteristic, value));
     }
 
     @Override
     public void onDescriptorRead(BluetoothGatt gatt, BluetoothGattDescriptor descriptor, int status) {
-        try {
-            Delegate.onDescriptorRead(gatt, descriptor, status);
-        } catch (Exception ex) {
-            LOG.error("onDescriptorRead-old", ex);
-        } catch (Throwable t) {
-            LOG.error("onDescriptorRead-old", t);
-            throw t;
-        }
+        run("onDescriptorRead-old", () -> Delegate.onDescriptorRead(gatt, descriptor, status));
     }
 
     @RequiresApi(api = Build.VERSION_CODES.TIRAMISU)
     @Override
     public void onDescriptorRead(@NonNull BluetoothGatt gatt, @NonNull BluetoothGattDescriptor descriptor, int status, @NonNull byte[] value) {
-        try {
-            Delegate.onDescriptorRead(gatt, descriptor, status, value);
-        } catch (Exception ex) {
-            LOG.error("onDescriptorRead", ex);
-        } catch (Throwable t) {
-            LOG.error("onDescriptorRead", t);
-            throw t;
-        }
+        run("onDescriptorRead", () -> Delegate.onDescriptorRead(gatt, descriptor, status, value));
     }
 
     @Override
     public void onDescriptorWrite(BluetoothGatt gatt, BluetoothGattDescriptor descriptor, int status) {
-        try {
-            Delegate.onDescriptorWrite(gatt, descriptor, status);
-        } catch (Exception ex) {
-            LOG.error("onDescriptorWrite", ex);
-        } catch (Throwable t) {
-            LOG.error("onDescriptorWrite", t);
-            throw t;
-        }
+        run("onDescriptorWrite", () -> Delegate.onDescriptorWrite(gatt, descriptor, status));
     }
 
     @Override
     public void onReliableWriteCompleted(BluetoothGatt gatt, int status) {
-        try {
-            Delegate.onReliableWriteCompleted(gatt, status);
-        } catch (Exception ex) {
-            LOG.error("onReliableWriteCompleted", ex);
-        } catch (Throwable t) {
-            LOG.error("onReliableWriteCompleted", t);
-            throw t;
-        }
+        run("onReliableWriteCompleted", () -> Delegate.onReliableWriteCompleted(gatt, status));
     }
 
     @Override
     public void onReadRemoteRssi(BluetoothGatt gatt, int rssi, int status) {
-        try {
-            Delegate.onReadRemoteRssi(gatt, rssi, status);
-        } catch (Exception ex) {
-            LOG.error("onReadRemoteRssi", ex);
-        } catch (Throwable t) {
-            LOG.error("onReadRemoteRssi", t);
-            throw t;
-        }
+        run("onReadRemoteRssi", () -> Delegate.onReadRemoteRssi(gatt, rssi, status));
     }
 
     @Override
     public void onMtuChanged(BluetoothGatt gatt, int mtu, int status) {
-        try {
-            Delegate.onMtuChanged(gatt, mtu, status);
-        } catch (Exception ex) {
-            LOG.error("onMtuChanged", ex);
-        } catch (Throwable t) {
-            LOG.error("onMtuChanged", t);
-            throw t;
-        }
+        run("onMtuChanged", () -> Delegate.onMtuChanged(gatt, mtu, status));
     }
 
     @RequiresApi(api = Build.VERSION_CODES.S)
     @Override
     public void onServiceChanged(@NonNull BluetoothGatt gatt) {
-        try {
-            Delegate.onServiceChanged(gatt);
-        } catch (Exception ex) {
-            LOG.error("onServiceChanged", ex);
-        } catch (Throwable t) {
-            LOG.error("onServiceChanged", t);
-            throw t;
-        }
+        run("onServiceChanged", () -> Delegate.onServiceChanged(gatt));
     }
 }
@@ -41,6 +41,7 @@ import java.util.function.Predicate;
 
 import nodomain.freeyourgadget.gadgetbridge.impl.GBDevice;
 import nodomain.freeyourgadget.gadgetbridge.service.btle.actions.BondAction;
+import nodomain.freeyourgadget.gadgetbridge.service.btle.actions.BulkWriteAction;
 import nodomain.freeyourgadget.gadgetbridge.service.btle.actions.FunctionAction;
 import nodomain.freeyourgadget.gadgetbridge.service.btle.actions.NotifyAction;
 import nodomain.freeyourgadget.gadgetbridge.service.btle.actions.ReadAction;
@@ -193,6 +194,32 @@ public class TransactionBuilder {
         return this;
     }
 
+    /// Writes data to a given characteristic in chunks, as a single {@link BulkWriteAction}.
+    /// Each chunk is written as soon as the previous one was confirmed, using writes without
+    /// response where the characteristic supports them, which is faster than
+    /// {@link #writeChunkedData(BluetoothGattCharacteristic, byte[], int)} for large payloads.
+    /// The result status of every chunk will be made available asynchronously through
+    /// {@link GattCallback#onCharacteristicWrite(BluetoothGatt, BluetoothGattCharacteristic, int)}
+    /// In a {@link TransactionPriority#BULK} transaction, transactions of higher priority may run
+    /// between two chunks.
+    /// @param requestedChunkLength will be automatically reduced if required for this connection
+    @NonNull
+    public TransactionBuilder writeBulk(@Nullable BluetoothGattCharacteristic characteristic,
+                                        @NonNull byte[] data,
+                                        @IntRange(from = 1L) int requestedChunkLength) {
+        if (characteristic == null) {
+            LOG.warn("Unable to write characteristic: null");
+            return this;
+        }
+        if (data.length == 0) {
+            return this;
+        }
+
+        // no larger than requested
+        int chunkSize = Math.min(requestedChunkLength, getMaxWriteChunk());
+        return add(new BulkWriteAction(characteristic, data, chunkSize));
+    }
+
     /// the maximum payload length supported for one write action
     @IntRange(from = 20L, to = 512L)
     public int getMaxWriteChunk() {
@@ -350,6 +377,15 @@ public class TransactionBuilder {
         return mTransaction.getGattCallback();
     }
 
+    /// Sets the lane of the queue the transaction is run in, {@link TransactionPriority#INTERACTIVE}
+    /// by default. Alerts that must reach the device during a sync should be
+    /// {@link TransactionPriority#REALTIME}, while long transfers that may be interrupted between
+    /// their actions should be {@link TransactionPriority#BULK}.
+    public TransactionBuilder setPriority(@NonNull TransactionPriority priority) {
+        mTransaction.setPriority(priority);
+        return this;
+    }
+
     /// To be used as the final step to execute the transaction by the queue.
     /// @see #queueConnected()
     /// @see #queueImmediately()
@@ -398,8 +434,8 @@ public class TransactionBuilder {
     }
 
     /// Performs the actions as soon as possible,
-    /// that is, before any other queued transactions, but after the actions
-    /// of the currently executing transaction.
+    /// that is, before any other queued transactions of the same or lower priority,
+    /// but after the actions of the currently executing transaction.
     /// @throws IOException if the device isn't connected
     /// @throws IllegalStateException if this builder has already been queued
     /// @see #queue()
@@ -0,0 +1,38 @@
+/*  Copyright (C) 2026 Freeyourgadget
+
+    This file is part of Gadgetbridge.
+
+    Gadgetbridge is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published
+    by the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    Gadgetbridge is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>. */
+package nodomain.freeyourgadget.gadgetbridge.service.btle;
+
+/**
+ * The lane of the {@link BtLEQueue} a transaction is queued in. Lanes are served in the order
+ * of declaration, and transactions within a lane in the order they were queued.
+ */
+public enum TransactionPriority {
+    /**
+     * Time-critical alerts, such as incoming calls, which must reach the device even during a sync.
+     */
+    REALTIME,
+    /**
+     * Everything else - the default.
+     */
+    INTERACTIVE,
+    /**
+     * Long-running transfers, such as firmware uploads. Transactions of higher lanes may run
+     * between the actions of a bulk transaction, so each action must be a self-contained
+     * write for the device.
+     */
+    BULK,
+}
@@ -0,0 +1,183 @@
+/*  Copyright (C) 2026 Freeyourgadget
+
+    This file is part of Gadgetbridge.
+
+    Gadgetbridge is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published
+    by the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    Gadgetbridge is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>. */
+package nodomain.freeyourgadget.gadgetbridge.service.btle;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The queue of transactions of a {@link BtLEQueue}, with one lane per {@link TransactionPriority}.
+ * <p>
+ * Transactions are taken from the highest non-empty lane, in order within the lane. While a
+ * {@link TransactionPriority#BULK} transaction is running, the queue uses
+ * {@link #pollHigherThan(TransactionPriority)} between its actions, so that alerts do not wait
+ * for a long transfer. The time transactions waited in each lane is recorded, and logged if
+ * a realtime transaction waited too long.
+ */
+final class TransactionScheduler {
+    private static final Logger LOG = LoggerFactory.getLogger(TransactionScheduler.class);
+
+    private static final long SLOW_REALTIME_WAIT_MILLIS = 1000;
+
+    private static final TransactionPriority[] PRIORITIES = TransactionPriority.values();
+
+    private final ArrayDeque<AbstractTransaction>[] lanes;
+    private final LaneStats[] stats;
+
+    @SuppressWarnings("unchecked")
+    TransactionScheduler() {
+        lanes = new ArrayDeque[PRIORITIES.length];
+        stats = new LaneStats[PRIORITIES.length];
+        for (int i = 0; i < PRIORITIES.length; i++) {
+            lanes[i] = new ArrayDeque<>();
+            stats[i] = new LaneStats();
+        }
+    }
+
+    /**
+     * Adds the transaction to the end of its lane.
+     *
+     * @return the number of queued transactions
+     */
+    synchronized int addLast(final AbstractTransaction transaction) {
+        transaction.enqueuedNanos = System.nanoTime();
+        lanes[transaction.getPriority().ordinal()].addLast(transaction);
+        return size();
+    }
+
+    /**
+     * Adds the transaction to the beginning of its lane.
+     *
+     * @return the number of queued transactions
+     */
+    synchronized int addFirst(final AbstractTransaction transaction) {
+        transaction.enqueuedNanos = System.nanoTime();
+        lanes[transaction.getPriority().ordinal()].addFirst(transaction);
+        return size();
+    }
+
+    /**
+     * @return the next transaction of the highest non-empty lane, or null if none
+     */
+    @Nullable
+    synchronized AbstractTransaction poll() {
+        return poll(PRIORITIES.length);
+    }
+
+    /**
+     * @return the next transaction of a lane with a higher priority than the given one, or null if none
+     */
+    @Nullable
+    synchronized AbstractTransaction pollHigherThan(final TransactionPriority priority) {
+        return poll(priority.ordinal());
+    }
+
+    synchronized void clear() {
+        for (final ArrayDeque<AbstractTransaction> lane : lanes) {
+            lane.clear();
+        }
+    }
+
+    synchronized int size() {
+        int size = 0;
+        for (final ArrayDeque<AbstractTransaction> lane : lanes) {
+            size += lane.size();
+        }
+        return size;
+    }
+
+    synchronized boolean isEmpty() {
+        for (final ArrayDeque<AbstractTransaction> lane : lanes) {
+            if (!lane.isEmpty()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Nullable
+    private AbstractTransaction poll(final int laneLimit) {
+        for (int i = 0; i < laneLimit; i++) {
+            final AbstractTransaction transaction = lanes[i].pollFirst();
+            if (transaction != null) {
+                onDequeued(transaction);
+                return transaction;
+            }
+        }
+        return null;
+    }
+
+    private void onDequeued(final AbstractTransaction transaction) {
+        final long waitNanos = System.nanoTime() - transaction.enqueuedNanos;
+        stats[transaction.getPriority().ordinal()].record(waitNanos);
+
+        if (transaction.getPriority() == TransactionPriority.REALTIME) {
+            final long waitMillis = TimeUnit.NANOSECONDS.toMillis(waitNanos);
+            if (waitMillis >= SLOW_REALTIME_WAIT_MILLIS) {
+                LOG.warn("Realtime transaction waited {}ms: {} - {}", waitMillis, transaction, this);
+            }
+        }
+    }
+
+    @NonNull
+    @Override
+    public synchronized String toString() {
+        final StringBuilder sb = new StringBuilder("TransactionScheduler{");
+        for (int i = 0; i < PRIORITIES.length; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(PRIORITIES[i].name().toLowerCase(Locale.ROOT))
+                    .append("={queued=").append(lanes[i].size())
+                    .append(", ").append(stats[i])
+                    .append('}');
+        }
+        return sb.append('}').toString();
+    }
+
+    private static final class LaneStats {
+        private long count;
+        private long totalWaitNanos;
+        private long maxWaitNanos;
+
+        private void record(final long waitNanos) {
+            count++;
+            totalWaitNanos += waitNanos;
+            maxWaitNanos = Math.max(maxWaitNanos, waitNanos);
+        }
+
+        @NonNull
+        @Override
+        public String toString() {
+            final double avgMillis = count > 0 ? totalWaitNanos / (count * 1e6) : 0;
+            return String.format(
+                    Locale.ROOT,
+                    "count=%d, avgWait=%.2fms, maxWait=%dms",
+                    count,
+                    avgMillis,
+                    TimeUnit.NANOSECONDS.toMillis(maxWaitNanos)
+            );
+        }
+    }
+}
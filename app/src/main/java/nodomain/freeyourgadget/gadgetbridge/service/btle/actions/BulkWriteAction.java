@@ -0,0 +1,125 @@
+/*  Copyright (C) 2026 Freeyourgadget
+
+    This file is part of Gadgetbridge.
+
+    Gadgetbridge is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published
+    by the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    Gadgetbridge is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>. */
+package nodomain.freeyourgadget.gadgetbridge.service.btle.actions;
+
+import android.bluetooth.BluetoothGatt;
+import android.bluetooth.BluetoothGattCharacteristic;
+import android.bluetooth.BluetoothStatusCodes;
+
+import androidx.annotation.IntRange;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import nodomain.freeyourgadget.gadgetbridge.service.btle.BleNamesResolver;
+import nodomain.freeyourgadget.gadgetbridge.service.btle.BtLEAction;
+import nodomain.freeyourgadget.gadgetbridge.service.btle.BtLEQueue;
+
+/**
+ * Writes a larger payload to a {@link BluetoothGattCharacteristic} in chunks, as a single action.
+ * <p>
+ * Every {@link #run(BluetoothGatt)} writes the next chunk, and the {@link BtLEQueue} runs the
+ * action again once the chunk was confirmed through
+ * {@link nodomain.freeyourgadget.gadgetbridge.service.btle.GattCallback#onCharacteristicWrite},
+ * until all chunks are written. Android only accepts one pending write per connection, so there
+ * is never more than one chunk waiting. Writes without response are used where the characteristic
+ * supports them, which saves the round trip of the response.
+ */
+public class BulkWriteAction extends BtLEAction {
+    private static final Logger LOG = LoggerFactory.getLogger(BulkWriteAction.class);
+
+    // How often to retry a chunk while another request is pending, with an increasing delay
+    private static final int MAX_BUSY_RETRIES = 8;
+    private static final long INITIAL_BUSY_BACKOFF_MILLIS = 5L;
+    private static final long MAX_BUSY_BACKOFF_MILLIS = 200L;
+
+    private final byte[] data;
+    private final int chunkSize;
+    private int nextChunk = 0;
+
+    public BulkWriteAction(final BluetoothGattCharacteristic characteristic,
+                           final byte[] data,
+                           @IntRange(from = 1L) final int chunkSize) {
+        super(characteristic);
+        this.data = data;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Writes the next chunk. If the stack is still busy with another request, the write is
+     * retried a few times with an increasing delay.
+     *
+     * @return true if the chunk was handed to the stack
+     */
+    @Override
+    public boolean run(final BluetoothGatt gatt) {
+        final BluetoothGattCharacteristic characteristic = getCharacteristic();
+        final boolean noResponse = (characteristic.getProperties() & BluetoothGattCharacteristic.PROPERTY_WRITE_NO_RESPONSE) != 0;
+        final int writeType = noResponse ? BluetoothGattCharacteristic.WRITE_TYPE_NO_RESPONSE : BluetoothGattCharacteristic.WRITE_TYPE_DEFAULT;
+        final byte[] chunk = getChunk(nextChunk);
+
+        long backoffMillis = INITIAL_BUSY_BACKOFF_MILLIS;
+        for (int retry = 0; ; retry++) {
+            final int status = WriteAction.writeCharacteristic(gatt, characteristic, chunk, writeType);
+            if (status == BluetoothStatusCodes.SUCCESS) {
+                nextChunk++;
+                return true;
+            }
+            if (status != WriteAction.STATUS_BUSY || retry >= MAX_BUSY_RETRIES) {
+                LOG.error("Writing chunk {}/{} to {} failed: {}", nextChunk, getChunkCount(), characteristic.getUuid(), BleNamesResolver.getBluetoothStatusString(status));
+                return false;
+            }
+            try {
+                Thread.sleep(backoffMillis);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+            backoffMillis = Math.min(backoffMillis * 2, MAX_BUSY_BACKOFF_MILLIS);
+        }
+    }
+
+    @Override
+    public boolean expectsResult() {
+        return true;
+    }
+
+    public boolean hasNextChunk() {
+        return nextChunk < getChunkCount();
+    }
+
+    public int getChunkCount() {
+        return (data.length + chunkSize - 1) / chunkSize;
+    }
+
+    public byte[] getChunk(final int index) {
+        final int start = index * chunkSize;
+        final int end = Math.min(data.length, start + chunkSize);
+        final byte[] chunk = new byte[end - start];
+        System.arraycopy(data, start, chunk, 0, chunk.length);
+        return chunk;
+    }
+
+    public int getLength() {
+        return data.length;
+    }
+
+    @Override
+    public String toString() {
+        return super.toString() + " - " + data.length + " bytes in " + getChunkCount() + " chunks of " + chunkSize;
+    }
+}
@@ -31,6 +31,10 @@ public class RequestConnectionPriorityAction extends BtLEAction {
         this.priority = priority;
     }
 
+    public int getPriority() {
+        return priority;
+    }
+
     @Override
     public boolean expectsResult() {
         return false;
@@ -26,6 +26,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import nodomain.freeyourgadget.gadgetbridge.GBApplication;
+import nodomain.freeyourgadget.gadgetbridge.Logging;
 import nodomain.freeyourgadget.gadgetbridge.service.btle.BleNamesResolver;
 import nodomain.freeyourgadget.gadgetbridge.service.btle.BtLEAction;
 import nodomain.freeyourgadget.gadgetbridge.service.btle.GattCallback;
@@ -39,6 +40,11 @@ import nodomain.freeyourgadget.gadgetbridge.util.GB;
 public class WriteAction extends BtLEAction {
     private static final Logger LOG = LoggerFactory.getLogger(WriteAction.class);
 
+    /// BluetoothStatusCodes.ERROR_GATT_WRITE_REQUEST_BUSY, which is not public before API 33
+    public static final int STATUS_BUSY = 201;
+    /// BluetoothStatusCodes.ERROR_GATT_WRITE_NOT_ALLOWED, which is not public before API 33
+    public static final int STATUS_WRITE_NOT_ALLOWED = 200;
+
     private final byte[] value;
     private final boolean legacyCompat;
 
@@ -67,12 +73,44 @@ public class WriteAction extends BtLEAction {
 
     /// shared write implementation that can be used without a BtLEAction
     public static boolean writeCharacteristic(BluetoothGatt gatt, BluetoothGattCharacteristic characteristic, byte[] value) {
-        if (LOG.isDebugEnabled()) {
-            LOG.debug("writing to characteristic: {} - {}", characteristic.getUuid(), GB.hexdump(value));
-        }
+        LOG.debug("writing to characteristic: {} - {}", characteristic.getUuid(), Logging.lazyHexdump(value));
         return writeCharacteristicImp(gatt, characteristic, value, false);
     }
 
+    /// Writes to the characteristic with the given write type, without logging the value. Unlike the
+    /// other methods, this distinguishes a busy stack from other failures.
+    /// @return {@link BluetoothStatusCodes#SUCCESS}, {@link #STATUS_BUSY} if another request is still
+    /// pending and the write should be retried later, or another error
+    @SuppressLint("MissingPermission")
+    public static int writeCharacteristic(BluetoothGatt gatt, BluetoothGattCharacteristic characteristic, byte[] value, int writeType) {
+        if (GBApplication.isRunningTiramisuOrLater()) {
+            try {
+                return gatt.writeCharacteristic(characteristic, value, writeType);
+            } catch (Exception e) {
+                LOG.error("writing to characteristic {} failed with ", characteristic.getUuid(), e);
+                return BluetoothStatusCodes.ERROR_UNKNOWN;
+            }
+        }
+
+        // The legacy API only returns false, so rule out the failures we can check up front. Once the
+        // characteristic is writable and the value was set, the remaining reason is a pending request.
+        final int properties = characteristic.getProperties();
+        if ((properties & (BluetoothGattCharacteristic.PROPERTY_WRITE | BluetoothGattCharacteristic.PROPERTY_WRITE_NO_RESPONSE)) == 0) {
+            return STATUS_WRITE_NOT_ALLOWED;
+        }
+        if (!characteristic.setValue(value)) {
+            return BluetoothStatusCodes.ERROR_UNKNOWN;
+        }
+        final int previousWriteType = characteristic.getWriteType();
+        characteristic.setWriteType(writeType);
+        try {
+            return gatt.writeCharacteristic(characteristic) ? BluetoothStatusCodes.SUCCESS : STATUS_BUSY;
+        } finally {
+            // the write type is read when the request is made, restore it for other writers of this characteristic
+            characteristic.setWriteType(previousWriteType);
+        }
+    }
+
     @SuppressLint("MissingPermission")
     private static boolean writeCharacteristicImp(BluetoothGatt gatt, BluetoothGattCharacteristic characteristic, byte[] value, boolean legacyCompat) {
         if (GBApplication.isRunningTiramisuOrLater() && !legacyCompat) {
@@ -49,6 +49,7 @@ import java.util.UUID;
 import java.util.stream.Collectors;
 
 import nodomain.freeyourgadget.gadgetbridge.GBApplication;
+import nodomain.freeyourgadget.gadgetbridge.Logging;
 import nodomain.freeyourgadget.gadgetbridge.R;
 import nodomain.freeyourgadget.gadgetbridge.activities.appmanager.config.DynamicAppConfig;
 import nodomain.freeyourgadget.gadgetbridge.database.DBHandler;
@@ -147,6 +148,8 @@ public class GarminSupport extends AbstractBTLESingleDeviceSupport implements IC
     private boolean isBusyFetching;
 
     private GBProgressNotification transferNotification;
+    @Nullable
+    private volatile FitAsyncProcessor fitAsyncProcessor;
 
     final Map<UUID, GdiInstalledAppsService.InstalledAppsService.InstalledApp> installedApps = new HashMap<>();
 
@@ -201,6 +204,11 @@ public class GarminSupport extends AbstractBTLESingleDeviceSupport implements IC
         synchronized (ConnectionMonitor) {
             LOG.info("Garmin dispose()");
             GBLocationService.stop(getContext(), getDevice());
+            final FitAsyncProcessor processor = fitAsyncProcessor;
+            if (processor != null) {
+                // the remaining files stay pending and are processed on the next sync
+                processor.cancel();
+            }
             try {
                 LocalBroadcastManager.getInstance(GBApplication.getContext()).unregisterReceiver(broadcastReceiver);
             } catch (final Exception e) {
@@ -333,7 +341,7 @@ public class GarminSupport extends AbstractBTLESingleDeviceSupport implements IC
             return; //message cannot be handled
         }
 
-        LOG.debug("INCOMING message: {}/{}: {}", parsedMessage, parsedMessage.getGarminMessage(), GB.hexdump(message));
+        LOG.debug("INCOMING message: {}/{}: {}", parsedMessage, parsedMessage.getGarminMessage(), Logging.lazyHexdump(message));
         /*
         the handler elaborates the followup message but might change the status message since it does
         check the integrity of the incoming message payload. Hence we let the handlers elaborate the
@@ -660,7 +668,7 @@ public class GarminSupport extends AbstractBTLESingleDeviceSupport implements IC
         if (message == null)
             return;
         if (message.getOutgoingMessage() != null)
-            LOG.debug("OUTGOING message {}: {}", message, GB.hexdump(message.getOutgoingMessage()));
+            LOG.debug("OUTGOING message {}: {}", message, Logging.lazyHexdump(message.getOutgoingMessage()));
         if (communicator == null) {
             LOG.error("communicator is null");
             return;
@@ -672,7 +680,7 @@ public class GarminSupport extends AbstractBTLESingleDeviceSupport implements IC
         if (message == null)
             return;
         if (message.getAckBytestream() != null)
-            LOG.debug("OUTGOING ACK {}: {}", message, GB.hexdump(message.getAckBytestream()));
+            LOG.debug("OUTGOING ACK {}: {}", message, Logging.lazyHexdump(message.getAckBytestream()));
         communicator.sendMessage(taskName, message.getAckBytestream());
     }
 
@@ -930,15 +938,22 @@ public class GarminSupport extends AbstractBTLESingleDeviceSupport implements IC
 
             transferNotification.start(R.string.busy_task_processing_files, 0, filesToProcess.size());
 
-            final FitAsyncProcessor fitAsyncProcessor = new FitAsyncProcessor(getContext(), getDevice());
-            fitAsyncProcessor.process(filesToProcess, new FitAsyncProcessor.Callback() {
+            final FitAsyncProcessor processor = new FitAsyncProcessor(getContext(), getDevice());
+            fitAsyncProcessor = processor;
+            processor.process(filesToProcess, new FitAsyncProcessor.Callback() {
                 @Override
                 public void onProgress(final int i) {
                     transferNotification.setTotalProgress(i);
                 }
 
                 @Override
-                public void onFinish() {
+                public void onFinish(final List<File> failedFiles) {
+                    if (fitAsyncProcessor == processor) {
+                        fitAsyncProcessor = null;
+                    }
+                    if (!failedFiles.isEmpty()) {
+                        LOG.warn("Failed to process {} files, keeping them pending: {}", failedFiles.size(), failedFiles);
+                    }
                     getDevice().unsetBusyTask();
                     GB.signalActivityDataFinish(getDevice());
                     transferNotification.finish();
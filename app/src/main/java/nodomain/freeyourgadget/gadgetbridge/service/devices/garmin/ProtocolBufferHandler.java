@@ -28,6 +28,7 @@ import java.util.Objects;
 import java.util.UUID;
 
 import nodomain.freeyourgadget.gadgetbridge.GBApplication;
+import nodomain.freeyourgadget.gadgetbridge.Logging;
 import nodomain.freeyourgadget.gadgetbridge.activities.devicesettings.DeviceSettingsPreferenceConst;
 import nodomain.freeyourgadget.gadgetbridge.deviceevents.GBDeviceEventBatteryInfo;
 import nodomain.freeyourgadget.gadgetbridge.deviceevents.GBDeviceEventUpdatePreferences;
@@ -263,7 +264,7 @@ public class ProtocolBufferHandler implements MessageHandler {
 
             if (chunkedFragmentsMap.containsKey(statusMessage.getRequestId())) {
                 final ProtobufFragment protobufFragment = chunkedFragmentsMap.get(statusMessage.getRequestId());
-                LOG.debug("Protobuf message #{} found in queue: {}", statusMessage.getRequestId(), GB.hexdump(protobufFragment.fragmentBytes));
+                LOG.debug("Protobuf message #{} found in queue: {}", statusMessage.getRequestId(), Logging.lazyHexdump(protobufFragment.fragmentBytes));
 
                 if (protobufFragment.totalLength <= (statusMessage.getDataOffset() + maxChunkSize)) {
                     chunkedFragmentsMap.remove(statusMessage.getRequestId());
@@ -1,33 +1,82 @@
 package nodomain.freeyourgadget.gadgetbridge.service.devices.garmin.communicator;
 
-import java.nio.ByteBuffer;
-
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Arrays;
+
+/**
+ * COBS framing of the Garmin protocol. This variant relies on a leading and a trailing 0 byte around
+ * each frame (the former is not part of default implementations).
+ * <p>
+ * Received bytes are decoded as they arrive, straight into a frame buffer that is reused for all
+ * frames of the connection and grows as needed, so encoded bytes are never buffered and frames of
+ * any size up to {@link #MAX_FRAME_SIZE} can be received.
+ */
 public class CobsCoDec {
+    private static final Logger LOG = LoggerFactory.getLogger(CobsCoDec.class);
+
     private static final long BUFFER_TIMEOUT = 1500L; // turn this value up while debugging
-    private final ByteBuffer byteBuffer = ByteBuffer.allocate(10_000);
+    private static final int INITIAL_FRAME_SIZE = 4096;
+    static final int MAX_FRAME_SIZE = 1 << 20;
+    private static final int MAX_BLOCK_SIZE = 0xFE;
+
     private long lastUpdate;
+
+    // decoded bytes of the frame being received
+    private byte[] frame = new byte[INITIAL_FRAME_SIZE];
+    private int frameLength;
+    private boolean inFrame; // the leading 0 was received
+    private boolean hasBlocks; // at least one block of the frame was received
+    private int blockRemaining; // data bytes left in the current block, 0 if a code byte is expected
+    private boolean zeroPending; // a 0 follows the current block, unless it is the last one
+    private boolean discarding; // the frame is too large, and is skipped until its end
+
     private byte[] cobsDecodedMessage;
 
+    // bytes received after a decoded message that was not retrieved yet
+    private byte[] pending = new byte[0];
+    private int pendingLength;
+
     /**
-     * Accumulates received bytes in a local buffer, clearing it after a timeout, and attempts to
-     * parse it.
+     * Decodes received bytes, clearing any partial message after a timeout. At most one message
+     * is decoded until it is retrieved, following bytes are kept until then.
      *
      * @param bytes
      */
     public void receivedBytes(byte[] bytes) {
+        receivedBytes(bytes, 0, bytes.length);
+    }
+
+    public void receivedBytes(final byte[] bytes, final int offset, final int length) {
         final long now = System.currentTimeMillis();
         if ((now - lastUpdate) > BUFFER_TIMEOUT) {
             reset();
         }
         lastUpdate = now;
 
-        byteBuffer.put(bytes);
-        decode();
+        if (cobsDecodedMessage != null || pendingLength > 0) {
+            // keep the bytes in order behind the ones that are waiting
+            appendPending(bytes, offset, length);
+            if (cobsDecodedMessage == null) {
+                final int consumed = decode(pending, 0, pendingLength);
+                pendingLength -= consumed;
+                System.arraycopy(pending, consumed, pending, 0, pendingLength);
+            }
+            return;
+        }
+
+        final int consumed = decode(bytes, offset, length);
+        if (consumed < length) {
+            appendPending(bytes, offset + consumed, length - consumed);
+        }
     }
 
     private void reset() {
         cobsDecodedMessage = null;
-        byteBuffer.clear();
+        pendingLength = 0;
+        inFrame = false;
+        discarding = false;
     }
 
     public byte[] retrieveMessage() {
@@ -37,92 +86,158 @@ public class CobsCoDec {
     }
 
     /**
-     * COBS decoding algorithm variant, which relies on a leading and a trailing 0 byte (the former
-     * is not part of default implementations).
-     * This function removes the complete message from the internal buffer, if it could be decoded.
+     * Decodes bytes into the current frame, until a frame is complete.
+     *
+     * @return the number of bytes that were consumed
      */
-    private void decode() {
-        if (cobsDecodedMessage != null) {
-            // packet is waiting, unable to parse more
-            return;
-        }
-        if (byteBuffer.position() < 4) {
-            // minimal payload length including the padding
-            return;
-        }
-        if (0 != byteBuffer.get(byteBuffer.position() - 1))
-            return; //no 0x00 at the end, hence no full packet
-        byteBuffer.position(byteBuffer.position() - 1); //don't process the trailing 0
-        byteBuffer.flip();
-        if (0 != byteBuffer.get())
-            return; //no 0x00 at the start
-        ByteBuffer decodedBytesBuffer = ByteBuffer.allocate(byteBuffer.limit()); //leading and trailing 0x00 bytes
-        while (byteBuffer.hasRemaining()) {
-            byte code = byteBuffer.get();
-            if (code == 0) {
-                break;
+    private int decode(final byte[] bytes, final int offset, final int length) {
+        final int end = offset + length;
+        int i = offset;
+        while (i < end) {
+            if (blockRemaining > 0 && inFrame) {
+                // copy the data of the block, which can never contain a 0
+                final int blockEnd = Math.min(end, i + blockRemaining);
+                int dataEnd = i;
+                while (dataEnd < blockEnd && bytes[dataEnd] != 0) {
+                    dataEnd++;
+                }
+                System.arraycopy(bytes, i, frame, frameLength, dataEnd - i);
+                frameLength += dataEnd - i;
+                blockRemaining -= dataEnd - i;
+                i = dataEnd;
+                if (i == blockEnd) {
+                    continue;
+                }
+                LOG.warn("Unexpected end of COBS frame after {} bytes", frameLength);
+                blockRemaining = 0;
+                inFrame = false;
+                // fall through to handle the 0 as the start of the next frame
+            }
+
+            final byte b = bytes[i++];
+            if (!inFrame) {
+                if (b == 0) {
+                    startFrame();
+                }
+                continue;
             }
-            int codeValue = code & 0xFF;
-            int payloadSize = codeValue - 1;
-            for (int i = 0; i < payloadSize; i++) {
-                decodedBytesBuffer.put(byteBuffer.get());
+
+            if (b == 0) {
+                if (!hasBlocks) {
+                    continue; // repeated leading 0
+                }
+                inFrame = false;
+                if (discarding) {
+                    discarding = false;
+                    continue;
+                }
+                if (frameLength == 0) {
+                    continue;
+                }
+                cobsDecodedMessage = Arrays.copyOf(frame, frameLength);
+                return i - offset;
             }
-            if (codeValue != 0xFF && byteBuffer.hasRemaining()) {
-                decodedBytesBuffer.put((byte) 0); // Append a zero byte after the payload
+
+            final int codeValue = b & 0xFF;
+            if (zeroPending) {
+                put((byte) 0);
             }
+            hasBlocks = true;
+            blockRemaining = codeValue - 1;
+            zeroPending = codeValue != 0xFF;
+            ensureCapacity(frameLength + blockRemaining + 1);
         }
-
-        decodedBytesBuffer.flip();
-        cobsDecodedMessage = new byte[decodedBytesBuffer.remaining()];
-        decodedBytesBuffer.get(cobsDecodedMessage);
-        byteBuffer.compact();
+        return length;
     }
 
-    // this implementation of COBS relies on a leading and a trailing 0 byte (the former is not part of default implementations)
-    public static byte[] encode(byte[] data) {
-        ByteBuffer encodedBytesBuffer = ByteBuffer.allocate((data.length * 2) + 1); // Maximum expansion
-
-        encodedBytesBuffer.put((byte) 0);// Garmin initial padding
-        ByteBuffer buffer = ByteBuffer.wrap(data);
+    private void startFrame() {
+        inFrame = true;
+        hasBlocks = false;
+        frameLength = 0;
+        blockRemaining = 0;
+        zeroPending = false;
+        discarding = false;
+    }
 
-        while (buffer.position() < buffer.limit()) {
-            int startPos = buffer.position();
-            int zeroIndex = buffer.position();
+    private void put(final byte b) {
+        ensureCapacity(frameLength + 1);
+        frame[frameLength++] = b;
+    }
 
-            while (buffer.hasRemaining() && buffer.get() != 0) {
-                zeroIndex++;
+    private void ensureCapacity(final int capacity) {
+        if (capacity <= frame.length) {
+            return;
+        }
+        if (capacity > MAX_FRAME_SIZE) {
+            if (!discarding) {
+                LOG.error("COBS frame exceeds {} bytes, discarding it", MAX_FRAME_SIZE);
+                discarding = true;
             }
+            // keep decoding into the start of the buffer, to find the end of the frame
+            frameLength = 0;
+            return;
+        }
+        frame = Arrays.copyOf(frame, Math.min(MAX_FRAME_SIZE, Math.max(capacity, frame.length * 2)));
+    }
 
-            int payloadSize = zeroIndex - startPos;
-
-            while (payloadSize >= 0xFE) {
-                encodedBytesBuffer.put((byte) 0xFF); // Maximum payload size indicator
-                encodedBytesBuffer.put(data, startPos, 0xFE);
-                payloadSize -= 0xFE;
-                startPos += 0xFE;
-            }
+    private void appendPending(final byte[] bytes, final int offset, final int length) {
+        if (pendingLength + length > pending.length) {
+            pending = Arrays.copyOf(pending, Math.max(pendingLength + length, pending.length * 2));
+        }
+        System.arraycopy(bytes, offset, pending, pendingLength, length);
+        pendingLength += length;
+    }
 
-            encodedBytesBuffer.put((byte) (payloadSize + 1));
-            encodedBytesBuffer.put(data, startPos, payloadSize);
+    // this implementation of COBS relies on a leading and a trailing 0 byte (the former is not part of default implementations)
+    public static byte[] encode(byte[] data) {
+        return encode(data, 0);
+    }
 
-            if (buffer.hasRemaining()) {
-                zeroIndex++; // Include the zero byte in the next block
+    /**
+     * Encodes the data into an array of the exact size, leaving room for a header of the given size
+     * at its start, so that it does not need to be copied again to be sent.
+     */
+    public static byte[] encode(final byte[] data, final int headroom) {
+        final byte[] encoded = new byte[headroom + getEncodedLength(data)];
+
+        int pos = headroom;
+        encoded[pos++] = 0; // Garmin initial padding
+        int codePos = pos++;
+        int code = 1;
+        for (final byte b : data) {
+            if (b == 0) {
+                encoded[codePos] = (byte) code;
+                codePos = pos++;
+                code = 1;
+                continue;
             }
-
-            if (!buffer.hasRemaining() && payloadSize == 0) {
-                break;
+            encoded[pos++] = b;
+            if (++code == MAX_BLOCK_SIZE + 1) {
+                encoded[codePos] = (byte) code; // Maximum payload size indicator
+                codePos = pos++;
+                code = 1;
             }
-
-            buffer.position(zeroIndex);
         }
+        encoded[codePos] = (byte) code;
+        encoded[pos] = 0; // Append a zero byte to indicate end of encoding
 
-        encodedBytesBuffer.put((byte) 0); // Append a zero byte to indicate end of encoding
-        encodedBytesBuffer.flip();
-
-        byte[] encodedBytes = new byte[encodedBytesBuffer.remaining()];
-        encodedBytesBuffer.get(encodedBytes);
-
-        return encodedBytes;
+        return encoded;
     }
 
+    private static int getEncodedLength(final byte[] data) {
+        // leading and trailing 0, and the code of the first block
+        int length = 3;
+        int blockSize = 0;
+        for (final byte b : data) {
+            // every 0 is replaced by the code of the next block
+            length++;
+            if (b == 0) {
+                blockSize = 0;
+            } else if (++blockSize == MAX_BLOCK_SIZE) {
+                length++;
+                blockSize = 0;
+            }
+        }
+        return length;
+    }
 }
@@ -9,7 +9,6 @@ import android.content.Intent;
 import androidx.annotation.Nullable;
 import androidx.localbroadcastmanager.content.LocalBroadcastManager;
 
-import org.apache.commons.lang3.ArrayUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -25,6 +24,7 @@ import java.util.concurrent.ThreadLocalRandom;
 
 import nodomain.freeyourgadget.gadgetbridge.BuildConfig;
 import nodomain.freeyourgadget.gadgetbridge.GBApplication;
+import nodomain.freeyourgadget.gadgetbridge.Logging;
 import nodomain.freeyourgadget.gadgetbridge.database.DBHandler;
 import nodomain.freeyourgadget.gadgetbridge.database.DBHelper;
 import nodomain.freeyourgadget.gadgetbridge.devices.garmin.GarminActivitySampleProvider;
@@ -129,24 +129,29 @@ public class CommunicatorV2 implements ICommunicator {
             LOG.error("CANNOT SENT GFDI MESSAGE, HANDLE NOT YET SET. MESSAGE {}", message);
             return;
         }
-        final byte[] payload = CobsCoDec.encode(message);
         final MlrCommunicator mlr = mlrCommunicators.get(gfdiHandle);
         if (mlr != null) {
-            mlr.sendMessage(taskName, payload);
+            mlr.sendMessage(taskName, CobsCoDec.encode(message));
             return;
         }
+        // leave room for the handle, so that short messages can be sent as they are
+        final byte[] payload = CobsCoDec.encode(message, 1);
         final TransactionBuilder builder = mSupport.createTransactionBuilder(taskName);
-        int remainingBytes = payload.length;
+        int remainingBytes = payload.length - 1;
         if (remainingBytes > maxWriteSize - 1) {
-            int position = 0;
+            int position = 1;
             while (remainingBytes > 0) {
-                final byte[] fragment = Arrays.copyOfRange(payload, position, position + Math.min(remainingBytes, maxWriteSize - 1));
-                builder.write(characteristicSend, ArrayUtils.addAll(new byte[]{gfdiHandle.byteValue()}, fragment));
-                position += fragment.length;
-                remainingBytes -= fragment.length;
+                final int fragmentSize = Math.min(remainingBytes, maxWriteSize - 1);
+                final byte[] fragment = new byte[fragmentSize + 1];
+                fragment[0] = gfdiHandle.byteValue();
+                System.arraycopy(payload, position, fragment, 1, fragmentSize);
+                builder.write(characteristicSend, fragment);
+                position += fragmentSize;
+                remainingBytes -= fragmentSize;
             }
         } else {
-            builder.write(characteristicSend, ArrayUtils.addAll(new byte[]{gfdiHandle.byteValue()}, payload));
+            payload[0] = gfdiHandle.byteValue();
+            builder.write(characteristicSend, payload);
         }
         builder.queue();
     }
@@ -193,7 +198,7 @@ public class CommunicatorV2 implements ICommunicator {
         if (service != null) {
             final ServiceCallback serviceCallback = serviceCallbacks.get(service);
             if (serviceCallback != null) {
-                serviceCallback.onMessage(Arrays.copyOfRange(value, 1, value.length));
+                serviceCallback.onMessage(value, 1, value.length - 1);
             } else {
                 LOG.warn("Got message for {}, but no callback found", service);
             }
@@ -413,7 +418,12 @@ public class CommunicatorV2 implements ICommunicator {
 
         @Override
         public void onMessage(final byte[] value) {
-            this.cobsCoDec.receivedBytes(value);
+            onMessage(value, 0, value.length);
+        }
+
+        @Override
+        public void onMessage(final byte[] value, final int offset, final int length) {
+            this.cobsCoDec.receivedBytes(value, offset, length);
             this.mSupport.onMessage(this.cobsCoDec.retrieveMessage());
         }
     }
@@ -462,7 +472,7 @@ public class CommunicatorV2 implements ICommunicator {
 
         @Override
         public void onMessage(final byte[] value) {
-            LOG.debug("Got realtime accel: {}", GB.hexdump(value));
+            LOG.debug("Got realtime accel: {}", Logging.lazyHexdump(value));
         }
     }
 
@@ -629,6 +639,14 @@ public class CommunicatorV2 implements ICommunicator {
         }
 
         void onMessage(byte[] value);
+
+        /**
+         * Receives the part of a packet that belongs to the service. Callbacks that only read the
+         * bytes can override this to avoid copying them.
+         */
+        default void onMessage(byte[] value, int offset, int length) {
+            onMessage(Arrays.copyOfRange(value, offset, offset + length));
+        }
     }
 
     public interface ServiceWriter {
@@ -95,6 +95,17 @@ public class FieldDefinition implements FieldInterface {
         return baseType.decode(byteBuffer, scale, offset);
     }
 
+    /**
+     * Decodes a numeric value at an absolute index without boxing it. Subclasses that override
+     * {@link #decode(ByteBuffer)} return a different representation, so this must only be used
+     * for plain field definitions.
+     *
+     * @return the decoded value, or {@link Double#NaN} if it is invalid
+     */
+    public double decodeDouble(ByteBuffer byteBuffer, int index) {
+        return baseType.decodeDouble(byteBuffer, index, scale, offset);
+    }
+
     @Override
     public void encode(ByteBuffer byteBuffer, Object o) {
         baseType.encode(byteBuffer, o, scale, offset);
@@ -3,11 +3,21 @@ package nodomain.freeyourgadget.gadgetbridge.service.devices.garmin.fit;
 import android.content.Context;
 import android.os.Handler;
 
+import androidx.annotation.Nullable;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.File;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 
 import nodomain.freeyourgadget.gadgetbridge.GBApplication;
@@ -16,65 +26,180 @@ import nodomain.freeyourgadget.gadgetbridge.devices.PendingFileProvider;
 import nodomain.freeyourgadget.gadgetbridge.entities.DaoSession;
 import nodomain.freeyourgadget.gadgetbridge.impl.GBDevice;
 
+/**
+ * Imports fit files in a pipeline: files are decoded in parallel by a small pool of decoders,
+ * and a single writer persists the decoded files in the order they were provided. Each file is
+ * persisted in its own database transaction, so that a file that fails does not affect the others.
+ */
 public class FitAsyncProcessor {
     private static final Logger LOG = LoggerFactory.getLogger(FitAsyncProcessor.class);
     private static final AtomicLong THREAD_COUNTER = new AtomicLong(0L);
 
+    private static final int MAX_DECODERS = 4;
+    private static final int MAX_BATCH_SIZE = 16;
+
     private final Context context;
     private final GBDevice gbDevice;
     private final Handler handler;
+    private final int numDecoders;
+    private final AtomicBoolean cancelled = new AtomicBoolean(false);
 
     public FitAsyncProcessor(final Context context, final GBDevice gbDevice) {
         this.context = context;
         this.gbDevice = gbDevice;
         this.handler = new Handler(context.getMainLooper());
+        this.numDecoders = Math.max(1, Math.min(Runtime.getRuntime().availableProcessors() - 1, MAX_DECODERS));
+    }
+
+    /**
+     * Stop processing after the current batch. Files that were not persisted yet are kept as
+     * pending, and the callback still gets {@link Callback#onFinish(List)}.
+     */
+    public void cancel() {
+        cancelled.set(true);
     }
 
     /**
      * Process a list of files asynchronously. Callback is executed on the UI thread.
      */
     public void process(final List<File> files, final Callback callback) {
-        LOG.debug("Starting processor for {} files", files.size());
+        LOG.debug("Starting processor for {} files with {} decoders", files.size(), numDecoders);
+
+        final long processorId = THREAD_COUNTER.getAndIncrement();
 
         new Thread(() -> {
+            final AtomicLong decoderCounter = new AtomicLong(0L);
+            final ExecutorService decoders = Executors.newFixedThreadPool(
+                    numDecoders,
+                    r -> new Thread(r, "FitAsyncProcessor_" + processorId + "_decoder_" + decoderCounter.getAndIncrement())
+            );
+
+            final List<File> failedFiles = new ArrayList<>();
             try {
-                int i = 0;
-                for (final File file : files) {
-                    i++;
-                    LOG.debug("Parsing {}", file);
+                process(files, decoders, callback, failedFiles);
+            } catch (final InterruptedException e) {
+                LOG.warn("Processor was interrupted", e);
+            } catch (final Exception e) {
+                LOG.error("Failed to parse from storage", e);
+            } finally {
+                decoders.shutdownNow();
+            }
 
-                    final int finalI = i;
-                    FitAsyncProcessor.this.handler.post(() -> callback.onProgress(finalI));
+            FitAsyncProcessor.this.handler.post(() -> callback.onFinish(failedFiles));
+        }, "FitAsyncProcessor_" + processorId).start();
+    }
 
-                    try {
-                        final FitImporter fitImporter = new FitImporter(context, gbDevice);
-                        fitImporter.importFile(file);
-                    } catch (final Exception ex) {
-                        LOG.error("Exception while importing {}", file, ex);
-                        continue; // do not remove from pending files
-                    }
+    private int maxInFlight() {
+        // Decoded files keep all their samples in memory until persisted, so bound how many we keep
+        return numDecoders * 2;
+    }
 
-                    try (DBHandler handler = GBApplication.acquireDB()) {
-                        final DaoSession session = handler.getDaoSession();
+    private void process(final List<File> files,
+                         final ExecutorService decoders,
+                         final Callback callback,
+                         final List<File> failedFiles) throws InterruptedException, ExecutionException {
+        // Files are persisted in order, since some of them, such as sleep and monitoring, depend on
+        // data from the previous ones
+        final Deque<Future<DecodedFile>> inFlight = new ArrayDeque<>();
+        int next = 0;
+        int done = 0;
+
+        while (done < files.size() && !cancelled.get()) {
+            while (next < files.size() && inFlight.size() < maxInFlight()) {
+                final File file = files.get(next++);
+                inFlight.add(decoders.submit(() -> decode(file)));
+            }
+
+            // Wait for the oldest file, and take any following ones that are already decoded
+            final List<DecodedFile> batch = new ArrayList<>();
+            batch.add(inFlight.remove().get());
+            while (!inFlight.isEmpty() && inFlight.peek().isDone() && batch.size() < MAX_BATCH_SIZE) {
+                batch.add(inFlight.remove().get());
+            }
+
+            persist(batch, failedFiles);
+            done += batch.size();
+            reportProgress(callback, done);
+        }
+    }
+
+    private DecodedFile decode(final File file) {
+        if (cancelled.get()) {
+            return new DecodedFile(file, null, false);
+        }
+
+        LOG.debug("Parsing {}", file);
+
+        try {
+            final FitImporter fitImporter = new FitImporter(context, gbDevice);
+            final boolean hasData = fitImporter.decode(file);
+            return new DecodedFile(file, hasData ? fitImporter : null, true);
+        } catch (final Exception e) {
+            LOG.error("Exception while importing {}", file, e);
+            return new DecodedFile(file, null, false);
+        }
+    }
+
+    private void persist(final List<DecodedFile> batch, final List<File> failedFiles) {
+        LOG.debug("Persisting batch of {} files", batch.size());
 
-                        final PendingFileProvider pendingFileProvider = new PendingFileProvider(gbDevice, session);
+        int handled = 0;
+        try (DBHandler dbHandler = GBApplication.acquireDB()) {
+            final DaoSession session = dbHandler.getDaoSession();
+            final PendingFileProvider pendingFileProvider = new PendingFileProvider(gbDevice, session);
 
-                        pendingFileProvider.removePendingFile(file.getPath());
+            for (final DecodedFile decodedFile : batch) {
+                if (!decodedFile.success) {
+                    failedFiles.add(decodedFile.file); // do not remove from pending files
+                } else {
+                    try {
+                        session.callInTx(() -> {
+                            if (decodedFile.importer != null) {
+                                decodedFile.importer.persist(session);
+                            }
+                            pendingFileProvider.removePendingFile(decodedFile.file.getPath());
+                            return null;
+                        });
                     } catch (final Exception e) {
-                        LOG.error("Exception while removing pending file {}", file, e);
+                        // the transaction was rolled back, so the file is still pending
+                        LOG.error("Failed to persist {}", decodedFile.file, e);
+                        failedFiles.add(decodedFile.file);
+                        session.clear();
                     }
                 }
-            } catch (final Exception e) {
-                LOG.error("Failed to parse from storage", e);
+                handled++;
+            }
+        } catch (final Exception e) {
+            LOG.error("Exception while persisting {} files", batch.size() - handled, e);
+            for (final DecodedFile decodedFile : batch.subList(handled, batch.size())) {
+                failedFiles.add(decodedFile.file);
             }
+        }
+    }
+
+    private void reportProgress(final Callback callback, final int done) {
+        FitAsyncProcessor.this.handler.post(() -> callback.onProgress(done));
+    }
 
-            FitAsyncProcessor.this.handler.post(callback::onFinish);
-        }, "FitAsyncProcessor_" + THREAD_COUNTER.getAndIncrement()).start();
+    private static class DecodedFile {
+        private final File file;
+        @Nullable
+        private final FitImporter importer;
+        private final boolean success;
+
+        private DecodedFile(final File file, @Nullable final FitImporter importer, final boolean success) {
+            this.file = file;
+            this.importer = importer;
+            this.success = success;
+        }
     }
 
     public interface Callback {
         void onProgress(final int perc);
 
-        void onFinish();
+        /**
+         * @param failedFiles the files that could not be decoded or persisted, which are kept as pending
+         */
+        void onFinish(List<File> failedFiles);
     }
 }
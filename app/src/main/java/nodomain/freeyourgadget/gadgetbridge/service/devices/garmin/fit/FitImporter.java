@@ -19,6 +19,8 @@ package nodomain.freeyourgadget.gadgetbridge.service.devices.garmin.fit;
 import android.content.Context;
 import android.widget.Toast;
 
+import androidx.annotation.Nullable;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -122,7 +124,8 @@ public class FitImporter {
     private final Context context;
     private final GBDevice gbDevice;
 
-    private final SortedMap<Long, List<FitMonitoring>> activitySamplesPerTimestamp = new TreeMap<>();
+    // only the values that are needed, so that the decoded records can be released
+    private final SortedMap<Long, List<MonitoringValues>> activitySamplesPerTimestamp = new TreeMap<>();
     private final List<GarminStressSample> stressSamples = new ArrayList<>();
     private final List<GarminBodyEnergySample> bodyEnergySamples = new ArrayList<>();
     private final List<GarminSpo2Sample> spo2samples = new ArrayList<>();
@@ -139,10 +142,12 @@ public class FitImporter {
     private final List<GenericTrainingLoadChronicSample> trainingLoadChronicSamples = new ArrayList<>();
     private final Map<Integer, Integer> unknownRecords = new HashMap<>();
     private FitSleepDataInfo fitSleepDataInfo = null;
-    private final List<FitSleepDataRaw> fitSleepDataRawSamples = new ArrayList<>();
+    private int numSleepDataRawSamples = 0;
     private final List<GarminSleepRestlessMomentsSample> sleepRestlessMomentsSamples = new ArrayList<>();
     private final List<BatteryLevel> batterySamples = new ArrayList<>();
     private FitFileId fileId = null;
+    private Long lastMonitoringTimestamp = null;
+    private File exportFile = null;
 
     private final GarminWorkoutParser workoutParser;
 
@@ -152,269 +157,47 @@ public class FitImporter {
         this.workoutParser = new GarminWorkoutParser(context);
     }
 
-    /**
-     * @noinspection StatementWithEmptyBody
-     */
     public void importFile(final File file) throws IOException, FitParseException {
-        reset();
-
-        final FitFile fitFile = FitFile.parseIncoming(file);
-
-        Long lastMonitoringTimestamp = null;
-
-        for (final RecordData record : fitFile.getRecords()) {
-            if (fileId != null && fileId.getType() == FileType.FILETYPE.ACTIVITY) {
-                if (workoutParser.handleRecord(record)) {
-                    continue;
-                }
-            }
-
-            final Long ts = record.getComputedTimestamp();
-
-            if (record instanceof FitFileId newFileId) {
-                LOG.debug("File ID: {}", newFileId);
-                if (fileId != null) {
-                    // Should not happen
-                    LOG.warn("Already had a file ID: {}", fileId);
-                }
-                fileId = newFileId;
-            } else if (record instanceof FitStressLevel stressRecord) {
-                final Integer stress = stressRecord.getStressLevelValue();
-                if (stress != null && stress >= 0) {
-                    LOG.trace("Stress at {}: {}", ts, stress);
-                    final GarminStressSample sample = new GarminStressSample();
-                    sample.setTimestamp(ts * 1000L);
-                    sample.setStress(stress);
-                    stressSamples.add(sample);
-                }
+        if (!decode(file)) {
+            return;
+        }
 
-                final Integer energy = stressRecord.getBodyEnergy();
-                if (energy != null) {
-                    LOG.trace("Body energy at {}: {}", ts, energy);
-                    final GarminBodyEnergySample sample = new GarminBodyEnergySample();
-                    sample.setTimestamp(ts * 1000L);
-                    sample.setEnergy(energy);
-                    bodyEnergySamples.add(sample);
-                }
-            } else if (record instanceof FitSleepDataInfo newFitSleepDataInfo) {
-                LOG.debug("Sleep Data Info: {}", newFitSleepDataInfo);
-                if (fitSleepDataInfo != null) {
-                    // Should not happen
-                    LOG.warn("Already had sleep data info: {}", fitSleepDataInfo);
-                }
-                fitSleepDataInfo = newFitSleepDataInfo;
-            } else if (record instanceof FitSleepDataRaw fitSleepDataRaw) {
-                //LOG.debug("Sleep Data Raw: {}", fitSleepDataRaw);
-                fitSleepDataRawSamples.add(fitSleepDataRaw);
-            } else if (record instanceof FitSleepRestlessMoments fitSleepRestlessMoments) {
-                //LOG.debug("Sleep Restless Moments: {}", fitSleepRestlessMoments);
-                if (fitSleepRestlessMoments.getRestlessMomentsCount() != null) {
-                    final GarminSleepRestlessMomentsSample sample = new GarminSleepRestlessMomentsSample();
-                    sample.setTimestamp(ts * 1000L);
-                    sample.setCount(fitSleepRestlessMoments.getRestlessMomentsCount());
-                    sleepRestlessMomentsSamples.add(sample);
-                }
-            } else if (record instanceof FitSleepStats) {
-                final Integer score = ((FitSleepStats) record).getOverallSleepScore();
-                if (score == null) {
-                    continue;
-                }
-                LOG.trace("Sleep stats at {}: {}", ts, record);
-                final GarminSleepStatsSample sample = new GarminSleepStatsSample();
-                sample.setTimestamp(ts * 1000L);
-                sample.setSleepScore(score);
-                sleepStatsSamples.add(sample);
-            } else if (record instanceof FitSleepStage) {
-                final FieldDefinitionSleepStage.SleepStage stage = ((FitSleepStage) record).getSleepStage();
-                if (stage == null) {
-                    continue;
-                }
-                LOG.trace("Sleep stage at {}: {}", ts, record);
-                final GarminSleepStageSample sample = new GarminSleepStageSample();
-                sample.setTimestamp(ts * 1000L);
-                sample.setStage(stage.getId());
-                sleepStageSamples.add(sample);
-            } else if (record instanceof FitNap nap) {
-                if (nap.getStartTimestamp() == null || nap.getEndTimestamp() == null) {
-                    continue;
-                }
-                LOG.trace("Nap at {}: from {} to {}", ts, nap.getStartTimestamp(), nap.getEndTimestamp());
-                final GarminNapSample sample = new GarminNapSample();
-                sample.setTimestamp(nap.getStartTimestamp() * 1000L);
-                sample.setEndTimestamp(nap.getEndTimestamp() * 1000L);
-                napSamples.add(sample);
-            } else if (record instanceof FitMonitoring monitoringRecord) {
-                LOG.trace("Monitoring at {}: {}", ts, record);
-                final Long currentMonitoringTimestamp = monitoringRecord.computeTimestamp(lastMonitoringTimestamp);
-                if (!activitySamplesPerTimestamp.containsKey(currentMonitoringTimestamp)) {
-                    activitySamplesPerTimestamp.put(currentMonitoringTimestamp, new ArrayList<>());
-                }
-                Objects.requireNonNull(activitySamplesPerTimestamp.get(currentMonitoringTimestamp)).add(monitoringRecord);
-                lastMonitoringTimestamp = currentMonitoringTimestamp;
-            } else if (record instanceof FitSpo2 fitSpo2) {
-                final Integer spo2 = fitSpo2.getReadingSpo2();
-                if (spo2 == null || spo2 <= 0) {
-                    continue;
-                }
-                LOG.trace("SpO2 at {}: {}", ts, spo2);
-                final GarminSpo2Sample sample = new GarminSpo2Sample();
-                sample.setTimestamp(ts * 1000L);
-                sample.setSpo2(spo2);
-                sample.setTypeNum(Spo2Sample.Type.UNKNOWN.getNum());
-                if (fitSpo2.getMode() != null) {
-                    switch (fitSpo2.getMode()) {
-                        case 1:
-                            sample.setTypeNum(Spo2Sample.Type.MANUAL.getNum());
-                            break;
-                        case 3:
-                            sample.setTypeNum(Spo2Sample.Type.AUTOMATIC.getNum());
-                            break;
-                    }
-                }
-                spo2samples.add(sample);
-            } else if (record instanceof FitRespirationRate) {
-                final Float respiratoryRate = ((FitRespirationRate) record).getRespirationRate();
-                if (respiratoryRate == null || respiratoryRate <= 0) {
-                    continue;
-                }
-                LOG.trace("Respiratory rate at {}: {}", ts, respiratoryRate);
-                final GarminRespiratoryRateSample sample = new GarminRespiratoryRateSample();
-                sample.setTimestamp(ts * 1000L);
-                sample.setRespiratoryRate(respiratoryRate);
-                respiratoryRateSamples.add(sample);
-            } else if (record instanceof FitEvent event) {
-                if (event.getEvent() == null) {
-                    LOG.warn("Event in {} is null", event);
-                    continue;
-                }
+        try (DBHandler handler = GBApplication.acquireDB()) {
+            persist(handler.getDaoSession());
+        } catch (final Exception e) {
+            GB.toast(context, "Error saving samples", Toast.LENGTH_LONG, GB.ERROR, e);
+        }
+    }
 
-                LOG.trace("Event at {}: {}", ts, event);
+    /**
+     * Decode a file and copy it to the export directory, without touching the database. This allows
+     * multiple files to be decoded in parallel, by using one importer per file.
+     *
+     * @return true if the file has data to be saved with {@link #persist(DaoSession)}
+     */
+    public boolean decode(final File file) throws IOException, FitParseException {
+        reset();
 
-                final GarminEventSample sample = new GarminEventSample();
-                sample.setTimestamp(ts * 1000L);
-                sample.setEvent(event.getEvent());
-                if (event.getEventType() != null) {
-                    sample.setEventType(event.getEventType());
-                }
-                if (event.getData() != null) {
-                    sample.setData(event.getData());
-                }
-                events.add(sample);
-            } else if (record instanceof FitRecord) {
-                // handled in workout parser
-            } else if (record instanceof FitSession) {
-                // handled in workout parser
-            } else if (record instanceof FitPhysiologicalMetrics) {
-                // handled in workout parser
-            } else if (record instanceof FitSport) {
-                // handled in workout parser
-            } else if (record instanceof FitTimeInZone) {
-                // handled in workout parser
-            } else if (record instanceof FitUserProfile) {
-                // handled in workout parser
-            } else if (record instanceof FitHrvSummary hrvSummary) {
-                LOG.trace("HRV summary at {}: {}", ts, record);
-                final GarminHrvSummarySample sample = new GarminHrvSummarySample();
-                sample.setTimestamp(ts * 1000L);
-                if (hrvSummary.getWeeklyAverage() != null) {
-                    sample.setWeeklyAverage(Math.round(hrvSummary.getWeeklyAverage()));
-                }
-                if (hrvSummary.getLastNightAverage() != null) {
-                    sample.setLastNightAverage(Math.round(hrvSummary.getLastNightAverage()));
-                }
-                if (hrvSummary.getLastNight5MinHigh() != null) {
-                    sample.setLastNight5MinHigh(Math.round(hrvSummary.getLastNight5MinHigh()));
-                }
-                if (hrvSummary.getBaselineLowUpper() != null) {
-                    sample.setBaselineLowUpper(Math.round(hrvSummary.getBaselineLowUpper()));
-                }
-                if (hrvSummary.getBaselineBalancedLower() != null) {
-                    sample.setBaselineBalancedLower(Math.round(hrvSummary.getBaselineBalancedLower()));
-                }
-                if (hrvSummary.getBaselineBalancedUpper() != null) {
-                    sample.setBaselineBalancedUpper(Math.round(hrvSummary.getBaselineBalancedUpper()));
-                }
-                final FieldDefinitionHrvStatus.HrvStatus status = hrvSummary.getStatus();
-                if (status != null) {
-                    sample.setStatusNum(status.getId());
-                }
-                hrvSummarySamples.add(sample);
-            } else if (record instanceof FitHrvValue hrvValue) {
-                if (hrvValue.getValue() == null) {
-                    LOG.warn("HRV value at {} is null", ts);
-                    continue;
-                }
-                LOG.trace("HRV value at {}: {}", ts, hrvValue.getValue());
-                final GarminHrvValueSample sample = new GarminHrvValueSample();
-                sample.setTimestamp(ts * 1000L);
-                sample.setValue(Math.round(hrvValue.getValue()));
-                hrvValueSamples.add(sample);
-            } else if (record instanceof FitMonitoringInfo monitoringInfo) {
-                if (monitoringInfo.getRestingMetabolicRate() == null) {
-                    continue;
-                }
-                LOG.trace("Monitoring info at {}: {}", ts, record);
-                final GarminRestingMetabolicRateSample sample = new GarminRestingMetabolicRateSample();
-                sample.setTimestamp(ts * 1000L);
-                sample.setRestingMetabolicRate(monitoringInfo.getRestingMetabolicRate());
-                restingMetabolicRateSamples.add(sample);
-            } else if (record instanceof FitTrainingLoad trainingLoad) {
-                LOG.trace("Training load at {}: {}", ts, record);
-                if (trainingLoad.getTrainingLoadAcute() != null) {
-                    final GenericTrainingLoadAcuteSample sample = new GenericTrainingLoadAcuteSample();
-                    sample.setTimestamp(ts * 1000L);
-                    sample.setValue(trainingLoad.getTrainingLoadAcute());
-                    trainingLoadAcuteSamples.add(sample);
-                }
-                if (trainingLoad.getTrainingLoadChronic() != null) {
-                    final GenericTrainingLoadChronicSample sample = new GenericTrainingLoadChronicSample();
-                    sample.setTimestamp(ts * 1000L);
-                    sample.setValue(trainingLoad.getTrainingLoadChronic());
-                    trainingLoadChronicSamples.add(sample);
-                }
-            } else if (record instanceof FitMonitoringHrData monitoringHrData) {
-                if (monitoringHrData.getRestingHeartRate() == null) {
-                    LOG.warn("Resting HR at {} is null", ts);
-                    continue;
-                }
-                LOG.trace("Resting HR at {}: {}", ts, monitoringHrData.getRestingHeartRate());
-                final GarminHeartRateRestingSample sample = new GarminHeartRateRestingSample();
-                sample.setTimestamp(ts * 1000L);
-                sample.setHeartRate(monitoringHrData.getRestingHeartRate());
-                restingHrSamples.add(sample);
-            } else if (record instanceof FitDeviceStatus deviceStatus) {
-                Integer level = deviceStatus.getBatteryLevel();
-                if (ts != null && level != null){
-                    BatteryLevel batteryLevel = new BatteryLevel();
-                    batteryLevel.setTimestamp(ts.intValue());
-                    batteryLevel.setBatteryIndex(0);
-                    batteryLevel.setLevel(level);
-                    batterySamples.add(batteryLevel);
-                }
-            } else {
-                LOG.trace("Unknown record: {}", record);
+        // Records are handled as they are decoded, without loading the whole file in memory. Nothing
+        // is persisted until the decoder returns, since the CRC is only checked at the end
+        FitStreamDecoder.decode(file, this::handleRecord);
 
-                if (!unknownRecords.containsKey(record.getGlobalFITMessage().getNumber())) {
-                    unknownRecords.put(record.getGlobalFITMessage().getNumber(), 0);
-                }
-                unknownRecords.put(
-                        record.getGlobalFITMessage().getNumber(),
-                        Objects.requireNonNull(unknownRecords.get(record.getGlobalFITMessage().getNumber())) + 1
-                );
-            }
+        for (final Map.Entry<Integer, Integer> e : unknownRecords.entrySet()) {
+            final String globalNumber = FitDebug.mesgNumLookup(e.getKey());
+            LOG.warn("Unknown record of global number {} seen {} times", globalNumber, e.getValue());
         }
 
         if (fileId == null) {
             LOG.error("Got no file ID");
-            return;
+            return false;
         }
         if (fileId.getType() == null) {
             LOG.error("File has no type");
-            return;
+            return false;
         }
 
         // If the file is not yet on the export directory (eg. we're importing from phone storage), copy it
-        File finalExportFile = file;
+        exportFile = file;
         try {
             final File exportDirectory = gbDevice.getDeviceCoordinator().getWritableExportDirectory(gbDevice, true);
             if (!file.getAbsolutePath().startsWith(exportDirectory.getAbsolutePath())) {
@@ -434,71 +217,313 @@ public class FitImporter {
                     exportFile.setLastModified(file.lastModified());
                 }
 
-                finalExportFile = exportFile;
+                this.exportFile = exportFile;
             }
         } catch (final Exception e) {
             LOG.error("Failed to copy file to export directory", e);
         }
 
-        try (DBHandler handler = GBApplication.acquireDB()) {
-            final DaoSession session = handler.getDaoSession();
-
-            switch (fileId.getType()) {
-                case ACTIVITY:
-                    persistWorkout(finalExportFile, session);
-                    break;
-                case MONITOR:
-                    persistActivitySamples(session);
-                    persistAbstractSamples(spo2samples, new GarminSpo2SampleProvider(gbDevice, session));
-                    persistAbstractSamples(respiratoryRateSamples, new GarminRespiratoryRateSampleProvider(gbDevice, session));
-                    persistAbstractSamples(restingHrSamples, new GarminHeartRateRestingSampleProvider(gbDevice, session));
-                    persistAbstractSamples(stressSamples, new GarminStressSampleProvider(gbDevice, session));
-                    persistAbstractSamples(bodyEnergySamples, new GarminBodyEnergySampleProvider(gbDevice, session));
-                    persistAbstractSamples(restingMetabolicRateSamples, new GarminRestingMetabolicRateSampleProvider(gbDevice, session));
-                    break;
-                case METRICS:
-                    persistAbstractSamples(trainingLoadAcuteSamples, new GenericTrainingLoadAcuteSampleProvider(gbDevice, session));
-                    persistAbstractSamples(trainingLoadChronicSamples, new GenericTrainingLoadChronicSampleProvider(gbDevice, session));
-                    break;
-                case SLEEP:
-                    persistAbstractSamples(events, new GarminEventSampleProvider(gbDevice, session));
-                    persistAbstractSamples(sleepStatsSamples, new GarminSleepStatsSampleProvider(gbDevice, session));
-                    persistAbstractSamples(napSamples, new GarminNapSampleProvider(gbDevice, session));
-                    persistAbstractSamples(sleepRestlessMomentsSamples, new GarminSleepRestlessMomentsSampleProvider(gbDevice, session));
-
-                    // We may have samples, but not sleep samples - #4048
-                    // 0 unmeasurable, 1 awake
-                    final boolean anySleepSample = sleepStageSamples.stream()
-                            .anyMatch(s -> s.getStage() != 0 && s.getStage() != 1);
-                    if (anySleepSample) {
-                        persistAbstractSamples(sleepStageSamples, new GarminSleepStageSampleProvider(gbDevice, session));
-                    }
+        if (fileId.getType() == FileType.FILETYPE.ACTIVITY) {
+            // keep the track while it is parsed anyway, so that showing the workout does not need to parse it again
+            workoutParser.storeTrack(exportFile);
+        }
 
-                    processRawSleepSamples(session);
-                    break;
-                case HRV_STATUS:
-                    persistAbstractSamples(hrvSummarySamples, new GarminHrvSummarySampleProvider(gbDevice, session));
-                    persistAbstractSamples(hrvValueSamples, new GarminHrvValueSampleProvider(gbDevice, session));
-                    break;
-                default:
-                    LOG.warn("Unable to handle fit file of type {}", fileId.getType());
-            }
-        } catch (final Exception e) {
-            GB.toast(context, "Error saving specific samples", Toast.LENGTH_LONG, GB.ERROR, e);
+        return true;
+    }
+
+    /**
+     * Persist the data of the last file passed to {@link #decode(File)}. Failures are thrown, so that
+     * the caller can roll back the transaction and keep the file as pending.
+     */
+    public void persist(final DaoSession session) throws Exception {
+        switch (fileId.getType()) {
+            case ACTIVITY:
+                persistWorkout(exportFile, session);
+                break;
+            case MONITOR:
+                persistActivitySamples(session);
+                persistAbstractSamples(spo2samples, new GarminSpo2SampleProvider(gbDevice, session));
+                persistAbstractSamples(respiratoryRateSamples, new GarminRespiratoryRateSampleProvider(gbDevice, session));
+                persistAbstractSamples(restingHrSamples, new GarminHeartRateRestingSampleProvider(gbDevice, session));
+                persistAbstractSamples(stressSamples, new GarminStressSampleProvider(gbDevice, session));
+                persistAbstractSamples(bodyEnergySamples, new GarminBodyEnergySampleProvider(gbDevice, session));
+                persistAbstractSamples(restingMetabolicRateSamples, new GarminRestingMetabolicRateSampleProvider(gbDevice, session));
+                break;
+            case METRICS:
+                persistAbstractSamples(trainingLoadAcuteSamples, new GenericTrainingLoadAcuteSampleProvider(gbDevice, session));
+                persistAbstractSamples(trainingLoadChronicSamples, new GenericTrainingLoadChronicSampleProvider(gbDevice, session));
+                break;
+            case SLEEP:
+                persistAbstractSamples(events, new GarminEventSampleProvider(gbDevice, session));
+                persistAbstractSamples(sleepStatsSamples, new GarminSleepStatsSampleProvider(gbDevice, session));
+                persistAbstractSamples(napSamples, new GarminNapSampleProvider(gbDevice, session));
+                persistAbstractSamples(sleepRestlessMomentsSamples, new GarminSleepRestlessMomentsSampleProvider(gbDevice, session));
+
+                // We may have samples, but not sleep samples - #4048
+                // 0 unmeasurable, 1 awake
+                final boolean anySleepSample = sleepStageSamples.stream()
+                        .anyMatch(s -> s.getStage() != 0 && s.getStage() != 1);
+                if (anySleepSample) {
+                    persistAbstractSamples(sleepStageSamples, new GarminSleepStageSampleProvider(gbDevice, session));
+                }
+
+                processRawSleepSamples(session);
+                break;
+            case HRV_STATUS:
+                persistAbstractSamples(hrvSummarySamples, new GarminHrvSummarySampleProvider(gbDevice, session));
+                persistAbstractSamples(hrvValueSamples, new GarminHrvValueSampleProvider(gbDevice, session));
+                break;
+            default:
+                LOG.warn("Unable to handle fit file of type {}", fileId.getType());
         }
 
         // these samples can occur in multiple FIT file types
-        try (DBHandler handler = GBApplication.acquireDB()) {
-            final DaoSession session = handler.getDaoSession();
-            final long deviceId = DBHelper.getDevice(gbDevice, session).getId();
-            persistBattery(session, deviceId);
-        } catch (final Exception e) {
-            GB.toast(context, "Error saving generic samples", Toast.LENGTH_LONG, GB.ERROR, e);
+        final long deviceId = DBHelper.getDevice(gbDevice, session).getId();
+        persistBattery(session, deviceId);
+    }
+
+    /**
+     * @noinspection StatementWithEmptyBody
+     */
+    private void handleRecord(final RecordData record) {
+        if (fileId != null && fileId.getType() == FileType.FILETYPE.ACTIVITY) {
+            if (workoutParser.handleRecord(record)) {
+                return;
+            }
         }
 
-        for (final Map.Entry<Integer, Integer> e : unknownRecords.entrySet()) {
-            final String globalNumber = FitDebug.mesgNumLookup(e.getKey());
-            LOG.warn("Unknown record of global number {} seen {} times", globalNumber, e.getValue());
+        final Long ts = record.getComputedTimestamp();
+
+        if (record instanceof FitFileId newFileId) {
+            LOG.debug("File ID: {}", newFileId);
+            if (fileId != null) {
+                // Should not happen
+                LOG.warn("Already had a file ID: {}", fileId);
+            }
+            fileId = newFileId;
+        } else if (record instanceof FitStressLevel stressRecord) {
+            final Integer stress = stressRecord.getStressLevelValue();
+            if (stress != null && stress >= 0) {
+                LOG.trace("Stress at {}: {}", ts, stress);
+                final GarminStressSample sample = new GarminStressSample();
+                sample.setTimestamp(ts * 1000L);
+                sample.setStress(stress);
+                stressSamples.add(sample);
+            }
+
+            final Integer energy = stressRecord.getBodyEnergy();
+            if (energy != null) {
+                LOG.trace("Body energy at {}: {}", ts, energy);
+                final GarminBodyEnergySample sample = new GarminBodyEnergySample();
+                sample.setTimestamp(ts * 1000L);
+                sample.setEnergy(energy);
+                bodyEnergySamples.add(sample);
+            }
+        } else if (record instanceof FitSleepDataInfo newFitSleepDataInfo) {
+            LOG.debug("Sleep Data Info: {}", newFitSleepDataInfo);
+            if (fitSleepDataInfo != null) {
+                // Should not happen
+                LOG.warn("Already had sleep data info: {}", fitSleepDataInfo);
+            }
+            fitSleepDataInfo = newFitSleepDataInfo;
+        } else if (record instanceof FitSleepDataRaw fitSleepDataRaw) {
+            //LOG.debug("Sleep Data Raw: {}", fitSleepDataRaw);
+            numSleepDataRawSamples++;
+        } else if (record instanceof FitSleepRestlessMoments fitSleepRestlessMoments) {
+            //LOG.debug("Sleep Restless Moments: {}", fitSleepRestlessMoments);
+            if (fitSleepRestlessMoments.getRestlessMomentsCount() != null) {
+                final GarminSleepRestlessMomentsSample sample = new GarminSleepRestlessMomentsSample();
+                sample.setTimestamp(ts * 1000L);
+                sample.setCount(fitSleepRestlessMoments.getRestlessMomentsCount());
+                sleepRestlessMomentsSamples.add(sample);
+            }
+        } else if (record instanceof FitSleepStats) {
+            final Integer score = ((FitSleepStats) record).getOverallSleepScore();
+            if (score == null) {
+                return;
+            }
+            LOG.trace("Sleep stats at {}: {}", ts, record);
+            final GarminSleepStatsSample sample = new GarminSleepStatsSample();
+            sample.setTimestamp(ts * 1000L);
+            sample.setSleepScore(score);
+            sleepStatsSamples.add(sample);
+        } else if (record instanceof FitSleepStage) {
+            final FieldDefinitionSleepStage.SleepStage stage = ((FitSleepStage) record).getSleepStage();
+            if (stage == null) {
+                return;
+            }
+            LOG.trace("Sleep stage at {}: {}", ts, record);
+            final GarminSleepStageSample sample = new GarminSleepStageSample();
+            sample.setTimestamp(ts * 1000L);
+            sample.setStage(stage.getId());
+            sleepStageSamples.add(sample);
+        } else if (record instanceof FitNap nap) {
+            if (nap.getStartTimestamp() == null || nap.getEndTimestamp() == null) {
+                return;
+            }
+            LOG.trace("Nap at {}: from {} to {}", ts, nap.getStartTimestamp(), nap.getEndTimestamp());
+            final GarminNapSample sample = new GarminNapSample();
+            sample.setTimestamp(nap.getStartTimestamp() * 1000L);
+            sample.setEndTimestamp(nap.getEndTimestamp() * 1000L);
+            napSamples.add(sample);
+        } else if (record instanceof FitMonitoring monitoringRecord) {
+            LOG.trace("Monitoring at {}: {}", ts, record);
+            final Long currentMonitoringTimestamp = monitoringRecord.computeTimestamp(lastMonitoringTimestamp);
+            if (!activitySamplesPerTimestamp.containsKey(currentMonitoringTimestamp)) {
+                activitySamplesPerTimestamp.put(currentMonitoringTimestamp, new ArrayList<>());
+            }
+            Objects.requireNonNull(activitySamplesPerTimestamp.get(currentMonitoringTimestamp)).add(new MonitoringValues(monitoringRecord));
+            lastMonitoringTimestamp = currentMonitoringTimestamp;
+        } else if (record instanceof FitSpo2 fitSpo2) {
+            final Integer spo2 = fitSpo2.getReadingSpo2();
+            if (spo2 == null || spo2 <= 0) {
+                return;
+            }
+            LOG.trace("SpO2 at {}: {}", ts, spo2);
+            final GarminSpo2Sample sample = new GarminSpo2Sample();
+            sample.setTimestamp(ts * 1000L);
+            sample.setSpo2(spo2);
+            sample.setTypeNum(Spo2Sample.Type.UNKNOWN.getNum());
+            if (fitSpo2.getMode() != null) {
+                switch (fitSpo2.getMode()) {
+                    case 1:
+                        sample.setTypeNum(Spo2Sample.Type.MANUAL.getNum());
+                        break;
+                    case 3:
+                        sample.setTypeNum(Spo2Sample.Type.AUTOMATIC.getNum());
+                        break;
+                }
+            }
+            spo2samples.add(sample);
+        } else if (record instanceof FitRespirationRate) {
+            final Float respiratoryRate = ((FitRespirationRate) record).getRespirationRate();
+            if (respiratoryRate == null || respiratoryRate <= 0) {
+                return;
+            }
+            LOG.trace("Respiratory rate at {}: {}", ts, respiratoryRate);
+            final GarminRespiratoryRateSample sample = new GarminRespiratoryRateSample();
+            sample.setTimestamp(ts * 1000L);
+            sample.setRespiratoryRate(respiratoryRate);
+            respiratoryRateSamples.add(sample);
+        } else if (record instanceof FitEvent event) {
+            if (event.getEvent() == null) {
+                LOG.warn("Event in {} is null", event);
+                return;
+            }
+
+            LOG.trace("Event at {}: {}", ts, event);
+
+            final GarminEventSample sample = new GarminEventSample();
+            sample.setTimestamp(ts * 1000L);
+            sample.setEvent(event.getEvent());
+            if (event.getEventType() != null) {
+                sample.setEventType(event.getEventType());
+            }
+            if (event.getData() != null) {
+                sample.setData(event.getData());
+            }
+            events.add(sample);
+        } else if (record instanceof FitRecord) {
+            // handled in workout parser
+        } else if (record instanceof FitSession) {
+            // handled in workout parser
+        } else if (record instanceof FitPhysiologicalMetrics) {
+            // handled in workout parser
+        } else if (record instanceof FitSport) {
+            // handled in workout parser
+        } else if (record instanceof FitTimeInZone) {
+            // handled in workout parser
+        } else if (record instanceof FitUserProfile) {
+            // handled in workout parser
+        } else if (record instanceof FitHrvSummary hrvSummary) {
+            LOG.trace("HRV summary at {}: {}", ts, record);
+            final GarminHrvSummarySample sample = new GarminHrvSummarySample();
+            sample.setTimestamp(ts * 1000L);
+            if (hrvSummary.getWeeklyAverage() != null) {
+                sample.setWeeklyAverage(Math.round(hrvSummary.getWeeklyAverage()));
+            }
+            if (hrvSummary.getLastNightAverage() != null) {
+                sample.setLastNightAverage(Math.round(hrvSummary.getLastNightAverage()));
+            }
+            if (hrvSummary.getLastNight5MinHigh() != null) {
+                sample.setLastNight5MinHigh(Math.round(hrvSummary.getLastNight5MinHigh()));
+            }
+            if (hrvSummary.getBaselineLowUpper() != null) {
+                sample.setBaselineLowUpper(Math.round(hrvSummary.getBaselineLowUpper()));
+            }
+            if (hrvSummary.getBaselineBalancedLower() != null) {
+                sample.setBaselineBalancedLower(Math.round(hrvSummary.getBaselineBalancedLower()));
+            }
+            if (hrvSummary.getBaselineBalancedUpper() != null) {
+                sample.setBaselineBalancedUpper(Math.round(hrvSummary.getBaselineBalancedUpper()));
+            }
+            final FieldDefinitionHrvStatus.HrvStatus status = hrvSummary.getStatus();
+            if (status != null) {
+                sample.setStatusNum(status.getId());
+            }
+            hrvSummarySamples.add(sample);
+        } else if (record instanceof FitHrvValue hrvValue) {
+            if (hrvValue.getValue() == null) {
+                LOG.warn("HRV value at {} is null", ts);
+                return;
+            }
+            LOG.trace("HRV value at {}: {}", ts, hrvValue.getValue());
+            final GarminHrvValueSample sample = new GarminHrvValueSample();
+            sample.setTimestamp(ts * 1000L);
+            sample.setValue(Math.round(hrvValue.getValue()));
+            hrvValueSamples.add(sample);
+        } else if (record instanceof FitMonitoringInfo monitoringInfo) {
+            if (monitoringInfo.getRestingMetabolicRate() == null) {
+                return;
+            }
+            LOG.trace("Monitoring info at {}: {}", ts, record);
+            final GarminRestingMetabolicRateSample sample = new GarminRestingMetabolicRateSample();
+            sample.setTimestamp(ts * 1000L);
+            sample.setRestingMetabolicRate(monitoringInfo.getRestingMetabolicRate());
+            restingMetabolicRateSamples.add(sample);
+        } else if (record instanceof FitTrainingLoad trainingLoad) {
+            LOG.trace("Training load at {}: {}", ts, record);
+            if (trainingLoad.getTrainingLoadAcute() != null) {
+                final GenericTrainingLoadAcuteSample sample = new GenericTrainingLoadAcuteSample();
+                sample.setTimestamp(ts * 1000L);
+                sample.setValue(trainingLoad.getTrainingLoadAcute());
+                trainingLoadAcuteSamples.add(sample);
+            }
+            if (trainingLoad.getTrainingLoadChronic() != null) {
+                final GenericTrainingLoadChronicSample sample = new GenericTrainingLoadChronicSample();
+                sample.setTimestamp(ts * 1000L);
+                sample.setValue(trainingLoad.getTrainingLoadChronic());
+                trainingLoadChronicSamples.add(sample);
+            }
+        } else if (record instanceof FitMonitoringHrData monitoringHrData) {
+            if (monitoringHrData.getRestingHeartRate() == null) {
+                LOG.warn("Resting HR at {} is null", ts);
+                return;
+            }
+            LOG.trace("Resting HR at {}: {}", ts, monitoringHrData.getRestingHeartRate());
+            final GarminHeartRateRestingSample sample = new GarminHeartRateRestingSample();
+            sample.setTimestamp(ts * 1000L);
+            sample.setHeartRate(monitoringHrData.getRestingHeartRate());
+            restingHrSamples.add(sample);
+        } else if (record instanceof FitDeviceStatus deviceStatus) {
+            Integer level = deviceStatus.getBatteryLevel();
+            if (ts != null && level != null){
+                BatteryLevel batteryLevel = new BatteryLevel();
+                batteryLevel.setTimestamp(ts.intValue());
+                batteryLevel.setBatteryIndex(0);
+                batteryLevel.setLevel(level);
+                batterySamples.add(batteryLevel);
+            }
+        } else {
+            LOG.trace("Unknown record: {}", record);
+
+            if (!unknownRecords.containsKey(record.getGlobalFITMessage().getNumber())) {
+                unknownRecords.put(record.getGlobalFITMessage().getNumber(), 0);
+            }
+            unknownRecords.put(
+                    record.getGlobalFITMessage().getNumber(),
+                    Objects.requireNonNull(unknownRecords.get(record.getGlobalFITMessage().getNumber())) + 1
+            );
         }
     }
 
@@ -517,32 +542,23 @@ public class FitImporter {
         final BaseActivitySummary summary;
 
         // This ensures idempotency when re-processing
-        try {
-            summary = ActivitySummaryParser.findOrCreateBaseActivitySummary(
-                    session,
-                    gbDevice,
-                    Objects.requireNonNull(fileId.getTimeCreated()).intValue()
-            );
-        } catch (final Exception e) {
-            GB.toast(context, "Error finding base summary", Toast.LENGTH_LONG, GB.ERROR, e);
-            return;
-        }
+        summary = ActivitySummaryParser.findOrCreateBaseActivitySummary(
+                session,
+                gbDevice,
+                Objects.requireNonNull(fileId.getTimeCreated()).intValue()
+        );
 
         workoutParser.updateSummary(summary);
 
         summary.setRawDetailsPath(file.getAbsolutePath());
 
-        try {
-            final Device device = DBHelper.getDevice(gbDevice, session);
-            final User user = DBHelper.getUser(session);
+        final Device device = DBHelper.getDevice(gbDevice, session);
+        final User user = DBHelper.getUser(session);
 
-            summary.setDevice(device);
-            summary.setUser(user);
+        summary.setDevice(device);
+        summary.setUser(user);
 
-            session.getBaseActivitySummaryDao().insertOrReplace(summary);
-        } catch (final Exception e) {
-            GB.toast(context, "Error saving workout", Toast.LENGTH_LONG, GB.ERROR, e);
-        }
+        session.getBaseActivitySummaryDao().insertOrReplace(summary);
     }
 
     private void reset() {
@@ -563,10 +579,12 @@ public class FitImporter {
         trainingLoadChronicSamples.clear();
         unknownRecords.clear();
         fitSleepDataInfo = null;
-        fitSleepDataRawSamples.clear();
+        numSleepDataRawSamples = 0;
         sleepRestlessMomentsSamples.clear();
         batterySamples.clear();
         fileId = null;
+        lastMonitoringTimestamp = null;
+        exportFile = null;
         workoutParser.reset();
     }
 
@@ -605,7 +623,7 @@ public class FitImporter {
                 }
             }
 
-            final List<FitMonitoring> records = activitySamplesPerTimestamp.get(ts);
+            final List<MonitoringValues> records = activitySamplesPerTimestamp.get(ts);
 
             final GarminActivitySample sample = new GarminActivitySample();
             sample.setTimestamp((int) ts);
@@ -619,43 +637,32 @@ public class FitImporter {
             int minutesModerate = 0;
             int minutesVigorous = 0;
 
-            for (final FitMonitoring record : Objects.requireNonNull(records)) {
-                final Integer activityType = record.getComputedActivityType().orElse(ActivitySample.NOT_MEASURED);
+            for (final MonitoringValues record : Objects.requireNonNull(records)) {
+                final Integer activityType = record.activityType;
 
-                final Integer hr = record.getHeartRate();
-                if (hr != null) {
-                    sample.setHeartRate(hr);
+                // All of these are unsigned, so -1 can not be a valid value
+                if (record.heartRate != -1) {
+                    sample.setHeartRate(record.heartRate);
                 }
 
-                final Long steps = record.getCycles();
-                if (steps != null) {
-                    stepsPerActivity.put(activityType, steps);
+                if (record.steps != -1) {
+                    stepsPerActivity.put(activityType, record.steps);
                 }
 
-                final Long distance = record.getDistance();
-                if (distance != null) {
-                    distancePerActivity.put(activityType, distance);
+                if (record.distance != -1) {
+                    distancePerActivity.put(activityType, record.distance);
                 }
 
-                final Integer calories = record.getActiveCalories();
-                if (calories != null) {
-                    caloriesPerActivity.put(activityType, calories);
+                if (record.calories != -1) {
+                    caloriesPerActivity.put(activityType, record.calories);
                 }
 
-                final Integer intensity = record.getComputedIntensity();
-                if (intensity != null) {
-                    sample.setRawIntensity(intensity);
+                if (record.intensity != null) {
+                    sample.setRawIntensity(record.intensity);
                 }
 
-                final Integer recordMinutesModerate = record.getModerateActivityMinutes();
-                if (recordMinutesModerate != null) {
-                    minutesModerate += recordMinutesModerate;
-                }
-
-                final Integer recordMinutesVigorous = record.getVigorousActivityMinutes();
-                if (recordMinutesVigorous != null) {
-                    minutesVigorous += recordMinutesVigorous;
-                }
+                minutesModerate += record.minutesModerate;
+                minutesVigorous += record.minutesVigorous;
             }
             if (!stepsPerActivity.isEmpty()) {
                 int sumSteps = 0;
@@ -703,27 +710,19 @@ public class FitImporter {
 
         LOG.debug("Will persist {} activity samples", activitySamples.size());
 
-        try {
-            final Device device = DBHelper.getDevice(gbDevice, session);
-            final User user = DBHelper.getUser(session);
-
-            final GarminActivitySampleProvider sampleProvider = new GarminActivitySampleProvider(gbDevice, session);
+        final Device device = DBHelper.getDevice(gbDevice, session);
+        final User user = DBHelper.getUser(session);
 
-            for (final GarminActivitySample sample : activitySamples) {
-                sample.setDevice(device);
-                sample.setUser(user);
-            }
+        final GarminActivitySampleProvider sampleProvider = new GarminActivitySampleProvider(gbDevice, session);
 
-            sampleProvider.addGBActivitySamples(activitySamples.toArray(new GarminActivitySample[0]));
-        } catch (final Exception e) {
-            GB.toast(context, "Error saving activity samples", Toast.LENGTH_LONG, GB.ERROR, e);
+        for (final GarminActivitySample sample : activitySamples) {
+            sample.setDevice(device);
+            sample.setUser(user);
         }
 
-        try {
-            persistAbstractSamples(intensityMinutesSamples, new GarminIntensityMinutesSampleProvider(gbDevice, session));
-        } catch (final Exception e) {
-            GB.toast(context, "Error saving intensity minutes samples", Toast.LENGTH_LONG, GB.ERROR, e);
-        }
+        sampleProvider.addGBActivitySamples(activitySamples.toArray(new GarminActivitySample[0]));
+
+        persistAbstractSamples(intensityMinutesSamples, new GarminIntensityMinutesSampleProvider(gbDevice, session));
     }
 
     /**
@@ -733,7 +732,7 @@ public class FitImporter {
      * at all.
      */
     private void processRawSleepSamples(final DaoSession session) {
-        if (fitSleepDataRawSamples.isEmpty()) {
+        if (numSleepDataRawSamples == 0) {
             return;
         }
 
@@ -745,43 +744,39 @@ public class FitImporter {
         }
 
         final long asleepTimeMillis = Objects.requireNonNull(fileId.getTimeCreated()).intValue() * 1000L;
-        final long wakeTimeMillis = asleepTimeMillis + fitSleepDataRawSamples.size() * 60 * 1000L;
+        final long wakeTimeMillis = asleepTimeMillis + numSleepDataRawSamples * 60 * 1000L;
 
-        LOG.debug("Got {} raw sleep samples - faking sleep events from {} to {}", fitSleepDataRawSamples.size(), asleepTimeMillis, wakeTimeMillis);
+        LOG.debug("Got {} raw sleep samples - faking sleep events from {} to {}", numSleepDataRawSamples, asleepTimeMillis, wakeTimeMillis);
 
         // We only need to fake sleep start and end times, the sample provider will take care of the rest
-        try {
-            final Device device = DBHelper.getDevice(gbDevice, session);
-            final User user = DBHelper.getUser(session);
-
-            final GarminEventSampleProvider sampleProvider = new GarminEventSampleProvider(gbDevice, session);
-
-            final GarminEventSample sampleFallAsleep = new GarminEventSample();
-            sampleFallAsleep.setTimestamp(asleepTimeMillis);
-            sampleFallAsleep.setEvent(74); // sleep
-            sampleFallAsleep.setEventType(0); // sleep start
-            sampleFallAsleep.setData(-1L); // in actual samples they're a garmin epoch, this way we can identify them
-            sampleFallAsleep.setDevice(device);
-            sampleFallAsleep.setUser(user);
-
-            final GarminEventSample sampleWakeUp = new GarminEventSample();
-            sampleWakeUp.setTimestamp(wakeTimeMillis);
-            sampleWakeUp.setEvent(74); // sleep
-            sampleWakeUp.setEventType(1); // sleep end
-            sampleWakeUp.setData(-1L); // in actual samples they're a garmin epoch, this way we can identify them
-            sampleWakeUp.setDevice(device);
-            sampleWakeUp.setUser(user);
-
-            sampleProvider.addSample(sampleFallAsleep);
-            sampleProvider.addSample(sampleWakeUp);
-        } catch (final Exception e) {
-            GB.toast(context, "Error faking event samples", Toast.LENGTH_LONG, GB.ERROR, e);
-        }
+        final Device device = DBHelper.getDevice(gbDevice, session);
+        final User user = DBHelper.getUser(session);
+
+        final GarminEventSampleProvider sampleProvider = new GarminEventSampleProvider(gbDevice, session);
+
+        final GarminEventSample sampleFallAsleep = new GarminEventSample();
+        sampleFallAsleep.setTimestamp(asleepTimeMillis);
+        sampleFallAsleep.setEvent(74); // sleep
+        sampleFallAsleep.setEventType(0); // sleep start
+        sampleFallAsleep.setData(-1L); // in actual samples they're a garmin epoch, this way we can identify them
+        sampleFallAsleep.setDevice(device);
+        sampleFallAsleep.setUser(user);
+
+        final GarminEventSample sampleWakeUp = new GarminEventSample();
+        sampleWakeUp.setTimestamp(wakeTimeMillis);
+        sampleWakeUp.setEvent(74); // sleep
+        sampleWakeUp.setEventType(1); // sleep end
+        sampleWakeUp.setData(-1L); // in actual samples they're a garmin epoch, this way we can identify them
+        sampleWakeUp.setDevice(device);
+        sampleWakeUp.setUser(user);
+
+        sampleProvider.addSample(sampleFallAsleep);
+        sampleProvider.addSample(sampleWakeUp);
     }
 
     private <T extends AbstractTimeSample> void persistAbstractSamples(final List<T> samples,
                                                                        final AbstractTimeSampleProvider<T> sampleProvider) {
-        sampleProvider.persistForDevice(context, gbDevice, samples);
+        sampleProvider.addSamplesForDevice(gbDevice, samples);
     }
 
     public static String getFilePath(final FitFileId fileId) {
@@ -813,4 +808,30 @@ public class FitImporter {
 
         return sb.toString();
     }
+
+    /**
+     * The values of a {@link FitMonitoring} record that are needed to build the activity samples.
+     */
+    private static final class MonitoringValues {
+        private final int activityType;
+        private final int heartRate;
+        private final long steps;
+        private final long distance;
+        private final int calories;
+        @Nullable
+        private final Integer intensity;
+        private final int minutesModerate;
+        private final int minutesVigorous;
+
+        private MonitoringValues(final FitMonitoring record) {
+            this.activityType = record.getComputedActivityType().orElse(ActivitySample.NOT_MEASURED);
+            this.heartRate = record.getHeartRate(-1);
+            this.steps = record.getCycles(-1);
+            this.distance = record.getDistance(-1);
+            this.calories = record.getActiveCalories(-1);
+            this.intensity = record.getComputedIntensity();
+            this.minutesModerate = record.getModerateActivityMinutes(0);
+            this.minutesVigorous = record.getVigorousActivityMinutes(0);
+        }
+    }
 }
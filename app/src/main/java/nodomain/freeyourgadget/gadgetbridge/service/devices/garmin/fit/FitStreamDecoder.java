@@ -0,0 +1,219 @@
+/*  Copyright (C) 2026 Freeyourgadget
+
+    This file is part of Gadgetbridge.
+
+    Gadgetbridge is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published
+    by the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    Gadgetbridge is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>. */
+package nodomain.freeyourgadget.gadgetbridge.service.devices.garmin.fit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import nodomain.freeyourgadget.gadgetbridge.service.devices.garmin.ChecksumCalculator;
+import nodomain.freeyourgadget.gadgetbridge.service.devices.garmin.GarminByteBufferReader;
+import nodomain.freeyourgadget.gadgetbridge.service.devices.garmin.fit.exception.FitParseException;
+import nodomain.freeyourgadget.gadgetbridge.service.devices.garmin.fit.messages.FitRecordDataFactory;
+
+/**
+ * Decodes a FIT file record by record from an {@link InputStream}, handing each {@link RecordData}
+ * to a {@link RecordCallback} as soon as it is decoded. Only the current record and the record
+ * definitions are kept in memory, and the file CRC is computed incrementally while reading.
+ * <p>
+ * Note that the CRC is only verified once the whole file was read, so callers must not persist
+ * anything derived from the records before {@link #decode(RecordCallback)} returns successfully.
+ */
+public class FitStreamDecoder {
+    private static final Logger LOG = LoggerFactory.getLogger(FitStreamDecoder.class);
+
+    private static final int BUFFER_SIZE = 8192;
+
+    public interface RecordCallback {
+        void onRecord(RecordData record) throws FitParseException;
+    }
+
+    private final InputStream inputStream;
+    private final long streamLength;
+    private byte[] scratch = new byte[256];
+    private int crc = 0;
+    private long bytesRead = 0;
+
+    public FitStreamDecoder(final InputStream inputStream) {
+        this(inputStream, -1);
+    }
+
+    /**
+     * @param streamLength the number of bytes in the stream, used to detect bytes after the FIT
+     *                     file, or -1 if unknown
+     */
+    public FitStreamDecoder(final InputStream inputStream, final long streamLength) {
+        this.inputStream = inputStream;
+        this.streamLength = streamLength;
+    }
+
+    public static FitFile.Header decode(final File file, final RecordCallback callback) throws IOException, FitParseException {
+        try (InputStream inputStream = new BufferedInputStream(new FileInputStream(file), BUFFER_SIZE)) {
+            return new FitStreamDecoder(inputStream, file.length()).decode(callback);
+        }
+    }
+
+    public FitFile.Header decode(final RecordCallback callback) throws IOException, FitParseException {
+        final FitFile.Header header = readHeader();
+
+        // needed because the headers can be redefined in the file. The last header for a local message number wins
+        final Map<Integer, RecordDefinition> recordDefinitionMap = new HashMap<>();
+        // field descriptions are needed to populate developer fields of definitions that come later
+        final List<RecordData> fieldDescriptions = new ArrayList<>();
+        Long referenceTimestamp = null;
+
+        final long dataSize = Integer.toUnsignedLong(header.getDataSize());
+        long consumed = 0;
+
+        while (consumed < dataSize) {
+            readFully(0, 1);
+            consumed++;
+            final RecordHeader recordHeader = new RecordHeader(scratch[0]);
+            final Integer timeOffset = recordHeader.getTimeOffset();
+            if (timeOffset != null) {
+                if (referenceTimestamp == null) {
+                    throw new FitParseException("Got compressed timestamp without knowing current timestamp");
+                }
+
+                if (timeOffset >= (referenceTimestamp & 0x1FL)) {
+                    referenceTimestamp = (referenceTimestamp & ~0x1FL) + timeOffset;
+                } else {
+                    referenceTimestamp = (referenceTimestamp & ~0x1FL) + timeOffset + 0x20;
+                }
+            }
+
+            if (recordHeader.isDefinition()) {
+                final int length = readDefinition(recordHeader);
+                consumed += length;
+                final GarminByteBufferReader reader = new GarminByteBufferReader(scratch);
+                final RecordDefinition recordDefinition = RecordDefinition.parseIncoming(reader, recordHeader);
+                if (recordDefinition != null) {
+                    if (recordHeader.isDeveloperData()) {
+                        for (final RecordData rd : fieldDescriptions) {
+                            recordDefinition.populateDevFields(rd);
+                        }
+                    }
+                    recordDefinitionMap.put(recordHeader.getLocalMessageType(), recordDefinition);
+                }
+            } else {
+                final RecordDefinition referenceRecordDefinition = recordDefinitionMap.get(recordHeader.getLocalMessageType());
+                if (referenceRecordDefinition != null) {
+                    final RecordData runningData = FitRecordDataFactory.create(referenceRecordDefinition, recordHeader);
+                    final int length = runningData.valueHolder.capacity();
+                    ensureScratch(length);
+                    readFully(0, length);
+                    consumed += length;
+                    final Long newTimestamp = runningData.parseDataMessage(new GarminByteBufferReader(scratch), referenceTimestamp);
+                    if (newTimestamp != null)
+                        referenceTimestamp = newTimestamp;
+                    if (GlobalFITMessage.FIELD_DESCRIPTION.equals(runningData.getGlobalFITMessage()))
+                        fieldDescriptions.add(runningData);
+                    callback.onRecord(runningData);
+                }
+            }
+        }
+
+        if (consumed != dataSize) {
+            throw new FitParseException("Last record ends at " + consumed + ", after the data size " + dataSize);
+        }
+
+        final int actualCrc = crc;
+        readFully(0, 2);
+        final int fileCrc = (scratch[0] & 0xFF) | ((scratch[1] & 0xFF) << 8);
+        if (fileCrc != actualCrc) {
+            throw new FitParseException("Wrong CRC for FIT file: got " + actualCrc + " expected " + fileCrc);
+        }
+
+        final long trailing = streamLength - bytesRead;
+        if (streamLength >= 0 && trailing > 0) {
+            LOG.warn("There are {} bytes after the fit file", trailing);
+            // TODO a fit file should actually be multiple fit files
+        }
+
+        return header;
+    }
+
+    private FitFile.Header readHeader() throws IOException, FitParseException {
+        readFully(0, 1);
+        final int headerSize = scratch[0] & 0xFF;
+        if (headerSize < 12) {
+            throw new FitParseException("Too short header in FIT file.");
+        }
+        ensureScratch(headerSize);
+        readFully(1, headerSize - 1);
+
+        final GarminByteBufferReader reader = new GarminByteBufferReader(Arrays.copyOf(scratch, headerSize));
+        reader.setByteOrder(ByteOrder.LITTLE_ENDIAN);
+        return FitFile.Header.parseIncomingHeader(reader);
+    }
+
+    /**
+     * Reads the body of a definition record into the scratch buffer, starting at offset 0.
+     *
+     * @return the number of bytes read
+     */
+    private int readDefinition(final RecordHeader recordHeader) throws IOException, FitParseException {
+        // reserved, architecture, global message number (2 bytes), number of fields
+        readFully(0, 5);
+        final int numFields = scratch[4] & 0xFF;
+        int length = 5;
+        ensureScratch(length + numFields * 3 + 1);
+        readFully(length, numFields * 3);
+        length += numFields * 3;
+
+        if (recordHeader.isDeveloperData()) {
+            readFully(length, 1);
+            final int numDevFields = scratch[length] & 0xFF;
+            length++;
+            ensureScratch(length + numDevFields * 3);
+            readFully(length, numDevFields * 3);
+            length += numDevFields * 3;
+        }
+
+        return length;
+    }
+
+    private void ensureScratch(final int size) {
+        if (scratch.length < size) {
+            scratch = Arrays.copyOf(scratch, Math.max(size, scratch.length * 2));
+        }
+    }
+
+    private void readFully(final int offset, final int length) throws IOException, FitParseException {
+        int read = 0;
+        while (read < length) {
+            final int n = inputStream.read(scratch, offset + read, length - read);
+            if (n < 0) {
+                throw new FitParseException("Unexpected end of FIT file");
+            }
+            read += n;
+        }
+        bytesRead += length;
+        crc = ChecksumCalculator.computeCrc(crc, scratch, offset, length);
+    }
+}
@@ -1,6 +1,7 @@
 package nodomain.freeyourgadget.gadgetbridge.service.devices.garmin.fit;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 
 import java.lang.reflect.Array;
 import java.nio.ByteBuffer;
@@ -142,35 +143,84 @@ public class RecordData {
      * has the same native number as a native field, it has precedence.
      */
     public Object getFieldByNumber(final int number) {
-        // Developer fields are all added after regular fields in the constructor
-        final int regularFieldCount = recordDefinition.getFieldDefinitions() != null ?
-                recordDefinition.getFieldDefinitions().size() : 0;
-
-        // First, check whether we have a developer field that maps to the native field. If it exists, it has priority
-        final List<DevFieldDefinition> devFieldDefinitions = recordDefinition.getDevFieldDefinitions();
-        if (devFieldDefinitions != null) {
-            for (int i = 0; i < devFieldDefinitions.size(); i++) {
-                final DevFieldDefinition devField = devFieldDefinitions.get(i);
-
-                if (devField.getNativeMesgNum() == globalFITMessage.getNumber() && devField.getNativeFieldNum() == number) {
-                    // Get the corresponding FieldData for this developer field
-                    final int fieldDataIndex = regularFieldCount + i;
-                    if (fieldDataIndex < fieldDataList.size()) {
-                        return fieldDataList.get(fieldDataIndex).decode();
-                    }
-                }
-            }
+        final FieldData fieldData = findField(number);
+        return fieldData != null ? fieldData.decode() : null;
+    }
+
+    /**
+     * Same as {@link #getFieldByNumber(int)}, but without boxing the decoded value.
+     *
+     * @return the value of the field, or defaultValue if the field does not exist or is invalid
+     */
+    public int getIntFieldByNumber(final int number, final int defaultValue) {
+        final FieldData fieldData = findField(number);
+        if (fieldData == null) {
+            return defaultValue;
         }
+        if (fieldData.fastDecode) {
+            final double value = fieldData.decodeDouble();
+            return Double.isNaN(value) ? defaultValue : (int) value;
+        }
+        final Number value = safeCast(fieldData.decode(), Number.class);
+        return value != null ? value.intValue() : defaultValue;
+    }
 
-        // Next, check whether there is any native field that matches the number
-        for (int i = 0; i < regularFieldCount; i++) {
-            final FieldData fieldData = fieldDataList.get(i);
-            if (fieldData.getNumber() == number) {
-                return fieldData.decode();
-            }
+    /**
+     * @see #getIntFieldByNumber(int, int)
+     */
+    public long getLongFieldByNumber(final int number, final long defaultValue) {
+        final FieldData fieldData = findField(number);
+        if (fieldData == null) {
+            return defaultValue;
+        }
+        // 64-bit values do not fit a double without losing precision
+        if (fieldData.fastDecode && fieldData.baseSize < 8) {
+            final double value = fieldData.decodeDouble();
+            return Double.isNaN(value) ? defaultValue : (long) value;
         }
+        final Number value = safeCast(fieldData.decode(), Number.class);
+        return value != null ? value.longValue() : defaultValue;
+    }
 
-        return null;
+    /**
+     * @see #getIntFieldByNumber(int, int)
+     */
+    public float getFloatFieldByNumber(final int number, final float defaultValue) {
+        final FieldData fieldData = findField(number);
+        if (fieldData == null) {
+            return defaultValue;
+        }
+        if (fieldData.fastDecode) {
+            final double value = fieldData.decodeDouble();
+            return Double.isNaN(value) ? defaultValue : (float) value;
+        }
+        final Number value = safeCast(fieldData.decode(), Number.class);
+        return value != null ? value.floatValue() : defaultValue;
+    }
+
+    /**
+     * @see #getIntFieldByNumber(int, int)
+     */
+    public double getDoubleFieldByNumber(final int number, final double defaultValue) {
+        final FieldData fieldData = findField(number);
+        if (fieldData == null) {
+            return defaultValue;
+        }
+        if (fieldData.fastDecode) {
+            final double value = fieldData.decodeDouble();
+            return Double.isNaN(value) ? defaultValue : value;
+        }
+        final Number value = safeCast(fieldData.decode(), Number.class);
+        return value != null ? value.doubleValue() : defaultValue;
+    }
+
+    @Nullable
+    private FieldData findField(final int number) {
+        final int index = recordDefinition.getFieldIndex(number);
+        if (index < 0 || index >= fieldDataList.size()) {
+            return null;
+        }
+        return fieldDataList.get(index);
     }
 
     public <T> T getFieldByNumber(int number, final Class<T> clazz) {
@@ -290,12 +340,17 @@ public class RecordData {
         private final int position;
         private final int size;
         private final int baseSize;
+        // single numeric values of plain field definitions can be decoded without boxing
+        private final boolean fastDecode;
 
         public FieldData(FieldDefinition fieldDefinition, int position) {
             this.fieldDefinition = fieldDefinition;
             this.position = position;
             this.size = fieldDefinition.getSize();
             this.baseSize = fieldDefinition.getBaseType().getSize();
+            this.fastDecode = fieldDefinition.getClass() == FieldDefinition.class &&
+                    size == baseSize &&
+                    !STRING.equals(fieldDefinition.getBaseType());
         }
 
         public String getName() {
@@ -373,6 +428,10 @@ public class RecordData {
             return fieldDefinition.decode(valueHolder);
         }
 
+        private double decodeDouble() {
+            return fieldDefinition.decodeDouble(valueHolder, position);
+        }
+
         @NonNull
         public String toString() {
             return "(" + fieldDefinition.getBaseType().name() + "/" + size + ")";
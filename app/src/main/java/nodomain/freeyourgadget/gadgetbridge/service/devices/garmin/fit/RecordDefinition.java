@@ -5,6 +5,7 @@ import androidx.annotation.Nullable;
 
 import java.nio.ByteOrder;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 
@@ -18,6 +19,8 @@ public class RecordDefinition {
     private final java.nio.ByteOrder byteOrder;
     private List<FieldDefinition> fieldDefinitions;
     private List<DevFieldDefinition> devFieldDefinitions;
+    // index of the field data in records of this definition, by native field number - lazily computed
+    private int[] fieldIndexByNumber;
 
     public RecordDefinition(RecordHeader recordHeader, ByteOrder byteOrder, GlobalFITMessage globalFITMessage, List<FieldDefinition> fieldDefinitions, List<DevFieldDefinition> devFieldDefinitions) {
         this.recordHeader = recordHeader;
@@ -74,6 +77,7 @@ public class RecordDefinition {
 
     public void setDevFieldDefinitions(List<DevFieldDefinition> devFieldDefinitions) {
         this.devFieldDefinitions = devFieldDefinitions;
+        this.fieldIndexByNumber = null;
     }
 
     public RecordHeader getRecordHeader() {
@@ -87,6 +91,7 @@ public class RecordDefinition {
 
     public void setFieldDefinitions(List<FieldDefinition> fieldDefinitions) {
         this.fieldDefinitions = fieldDefinitions;
+        this.fieldIndexByNumber = null;
     }
 
     public void generateOutgoingPayload(MessageWriter writer) {
@@ -110,7 +115,54 @@ public class RecordDefinition {
                 " Global Message Number: " + globalFITMessage.name();
     }
 
+    /**
+     * Returns the index in {@link RecordData#getFieldDataList()} of the field that matches the given
+     * **native** number, taking into account dev fields. If a dev field exists that has the same
+     * native number as a native field, it has precedence.
+     *
+     * @return the index, or -1 if there is no such field
+     */
+    public int getFieldIndex(final int number) {
+        if (fieldIndexByNumber == null) {
+            fieldIndexByNumber = computeFieldIndexes();
+        }
+        if (number < 0 || number >= fieldIndexByNumber.length) {
+            return -1;
+        }
+        return fieldIndexByNumber[number];
+    }
+
+    private int[] computeFieldIndexes() {
+        // field numbers are a single byte
+        final int[] indexes = new int[256];
+        Arrays.fill(indexes, -1);
+
+        // Developer fields are all added after regular fields in the record data
+        final int regularFieldCount = fieldDefinitions != null ? fieldDefinitions.size() : 0;
+        if (devFieldDefinitions != null) {
+            for (int i = 0; i < devFieldDefinitions.size(); i++) {
+                final DevFieldDefinition devField = devFieldDefinitions.get(i);
+                final int nativeFieldNum = devField.getNativeFieldNum();
+                if (devField.getNativeMesgNum() == globalFITMessage.getNumber() &&
+                        nativeFieldNum >= 0 && nativeFieldNum < indexes.length &&
+                        indexes[nativeFieldNum] < 0) {
+                    indexes[nativeFieldNum] = regularFieldCount + i;
+                }
+            }
+        }
+
+        for (int i = 0; i < regularFieldCount; i++) {
+            final int number = fieldDefinitions.get(i).getNumber();
+            if (number >= 0 && number < indexes.length && indexes[number] < 0) {
+                indexes[number] = i;
+            }
+        }
+
+        return indexes;
+    }
+
     public void populateDevFields(RecordData recordData) {
+        fieldIndexByNumber = null;
         for (DevFieldDefinition devFieldDef : getDevFieldDefinitions()) {
             try {
                 if (devFieldDef.getFieldDefinitionNumber() == (int) recordData.getFieldByName("field_definition_number") &&
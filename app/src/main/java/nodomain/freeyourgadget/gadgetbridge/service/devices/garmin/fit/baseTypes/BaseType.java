@@ -90,6 +90,15 @@ public enum BaseType {
         return raw;
     }
 
+    /**
+     * Decodes a numeric value without boxing it, see {@link BaseTypeInterface#decodeDouble}.
+     *
+     * @return the decoded value, or {@link Double#NaN} if it is invalid
+     */
+    public double decodeDouble(ByteBuffer byteBuffer, int index, double scale, int offset) {
+        return baseTypeInterface.decodeDouble(byteBuffer, index, scale, offset);
+    }
+
     public void encode(ByteBuffer byteBuffer, Object o, double scale, int offset) {
         baseTypeInterface.encode(byteBuffer, o, scale, offset);
     }
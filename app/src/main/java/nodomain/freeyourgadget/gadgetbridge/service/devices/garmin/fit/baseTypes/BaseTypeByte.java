@@ -38,6 +38,14 @@ public class BaseTypeByte implements BaseTypeInterface {
         return (b / scale) - offset;
     }
 
+    @Override
+    public double decodeDouble(final ByteBuffer byteBuffer, final int index, final double scale, final int offset) {
+        int b = unsigned ? Byte.toUnsignedInt(byteBuffer.get(index)) : byteBuffer.get(index);
+        if (b < min || b > max || b == invalid)
+            return Double.NaN;
+        return (b / scale) - offset;
+    }
+
     @Override
     public void encode(ByteBuffer byteBuffer, Object o, double scale, int offset) {
         if (null == o) {
@@ -30,6 +30,14 @@ public class BaseTypeDouble implements BaseTypeInterface {
         return (d / scale) - offset;
     }
 
+    @Override
+    public double decodeDouble(final ByteBuffer byteBuffer, final int index, final double scale, final int offset) {
+        double d = byteBuffer.getDouble(index);
+        if (d < min || d > max || Double.isNaN(d) || d == invalid)
+            return Double.NaN;
+        return (d / scale) - offset;
+    }
+
     @Override
     public void encode(ByteBuffer byteBuffer, Object o, double scale, int offset) {
         if (null == o) {
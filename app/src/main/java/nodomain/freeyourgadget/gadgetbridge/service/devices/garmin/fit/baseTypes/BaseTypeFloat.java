@@ -30,6 +30,14 @@ public class BaseTypeFloat implements BaseTypeInterface {
         return (f / scale) - offset;
     }
 
+    @Override
+    public double decodeDouble(final ByteBuffer byteBuffer, final int index, final double scale, final int offset) {
+        float f = byteBuffer.getFloat(index);
+        if (f < min || f > max || Float.isNaN(f) || f == invalid)
+            return Double.NaN;
+        return (f / scale) - offset;
+    }
+
     @Override
     public void encode(ByteBuffer byteBuffer, Object o, double scale, int offset) {
         if (null == o) {
@@ -36,6 +36,14 @@ public class BaseTypeInt implements BaseTypeInterface {
         return (i / scale) - offset;
     }
 
+    @Override
+    public double decodeDouble(final ByteBuffer byteBuffer, final int index, final double scale, final int offset) {
+        long i = unsigned ? Integer.toUnsignedLong(byteBuffer.getInt(index)) : byteBuffer.getInt(index);
+        if (i < min || i > max || i == invalid)
+            return Double.NaN;
+        return (i / scale) - offset;
+    }
+
     @Override
     public void encode(ByteBuffer byteBuffer, Object o, double scale, int offset) {
         if (null == o) {
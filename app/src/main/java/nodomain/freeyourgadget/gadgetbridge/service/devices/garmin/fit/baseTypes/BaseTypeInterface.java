@@ -7,6 +7,14 @@ public interface BaseTypeInterface {
 
     Object decode(ByteBuffer byteBuffer, double scale, int offset);
 
+    /**
+     * Same as {@link #decode(ByteBuffer, double, int)}, but without boxing the value, and reading
+     * at an absolute index without moving the position of the buffer.
+     *
+     * @return the decoded value, or {@link Double#NaN} if it is invalid
+     */
+    double decodeDouble(ByteBuffer byteBuffer, int index, double scale, int offset);
+
     void encode(ByteBuffer byteBuffer, Object o, double scale, int offset);
 
     void invalidate(ByteBuffer byteBuffer);
@@ -38,6 +38,16 @@ public class BaseTypeLong implements BaseTypeInterface {
         return new BigDecimal(i).divide(BigDecimal.valueOf(scale)).subtract(BigDecimal.valueOf(offset)).toBigInteger().longValue();
     }
 
+    @Override
+    public double decodeDouble(final ByteBuffer byteBuffer, final int index, final double scale, final int offset) {
+        long l = byteBuffer.getLong(index);
+        if (l == invalid)
+            return Double.NaN;
+        // values above 2^53 lose precision, use decode if they matter
+        double d = unsigned && l < 0 ? (l >>> 1) * 2.0 + (l & 1) : l;
+        return (d / scale) - offset;
+    }
+
     @Override
     public void encode(ByteBuffer byteBuffer, Object o, double scale, int offset) {
         if (null == o) {
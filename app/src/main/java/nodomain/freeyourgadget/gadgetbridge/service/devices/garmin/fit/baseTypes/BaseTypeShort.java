@@ -36,6 +36,14 @@ public class BaseTypeShort implements BaseTypeInterface {
         return (s / scale) - offset;
     }
 
+    @Override
+    public double decodeDouble(final ByteBuffer byteBuffer, final int index, final double scale, final int offset) {
+        int s = unsigned ? Short.toUnsignedInt(byteBuffer.getShort(index)) : byteBuffer.getShort(index);
+        if (s < min || s > max || s == invalid)
+            return Double.NaN;
+        return (s / scale) - offset;
+    }
+
     @Override
     public void encode(ByteBuffer byteBuffer, Object o, double scale, int offset) {
         if (null == o) {
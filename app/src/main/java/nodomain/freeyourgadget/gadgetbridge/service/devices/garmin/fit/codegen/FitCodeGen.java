@@ -267,6 +267,22 @@ public class FitCodeGen {
                             .replace("${getterName}", method("get", primitive))
                             .replace("${primitiveNumber}", String.valueOf(primitive.getNumber()))
             );
+
+            final Class<?> primitiveType = getPrimitiveFieldType(primitive);
+            if (primitiveType != null) {
+                // Overload that does not box the value, for the hot paths when parsing large files
+                sb.append("""
+                        
+                            public ${primitiveType} ${getterName}(final ${primitiveType} defaultValue) {
+                                return get${primitiveTypeName}FieldByNumber(${primitiveNumber}, defaultValue);
+                            }
+                        """
+                        .replace("${primitiveType}", primitiveType.getSimpleName())
+                        .replace("${primitiveTypeName}", capitalize(primitiveType.getSimpleName()))
+                        .replace("${getterName}", method("get", primitive))
+                        .replace("${primitiveNumber}", String.valueOf(primitive.getNumber()))
+                );
+            }
         }
 
         //
@@ -405,6 +421,33 @@ public class FitCodeGen {
         throw new RuntimeException("Unknown base type " + primitive.getBaseType());
     }
 
+    /**
+     * Get the primitive type of single numeric fields without a special type, for which an accessor
+     * that does not box the value is generated.
+     */
+    @Nullable
+    public Class<?> getPrimitiveFieldType(final GlobalFITMessage.FieldDefinitionPrimitive primitive) {
+        if (primitive.getType() != null || primitive.getBaseType() == BaseType.STRING) {
+            return null;
+        }
+        if (primitive.getSize() != primitive.getBaseType().getSize()) {
+            return null;
+        }
+
+        final Class<?> fieldType = getFieldType(primitive);
+        if (fieldType == Integer.class) {
+            return int.class;
+        } else if (fieldType == Long.class) {
+            return long.class;
+        } else if (fieldType == Float.class) {
+            return float.class;
+        } else if (fieldType == Double.class) {
+            return double.class;
+        }
+
+        return null;
+    }
+
     private String toCamelCase(final String str) {
         final StringBuilder sb = new StringBuilder(str.toLowerCase());
 
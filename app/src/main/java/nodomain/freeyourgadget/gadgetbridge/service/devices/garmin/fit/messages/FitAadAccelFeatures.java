@@ -44,26 +44,46 @@ public class FitAadAccelFeatures extends RecordData {
         return getFieldByNumber(0, Integer.class);
     }
 
+    public int getTime(final int defaultValue) {
+        return getIntFieldByNumber(0, defaultValue);
+    }
+
     @Nullable
     public Long getEnergyTotal() {
         return getFieldByNumber(1, Long.class);
     }
 
+    public long getEnergyTotal(final long defaultValue) {
+        return getLongFieldByNumber(1, defaultValue);
+    }
+
     @Nullable
     public Integer getZeroCrossCnt() {
         return getFieldByNumber(2, Integer.class);
     }
 
+    public int getZeroCrossCnt(final int defaultValue) {
+        return getIntFieldByNumber(2, defaultValue);
+    }
+
     @Nullable
     public Integer getInstance() {
         return getFieldByNumber(3, Integer.class);
     }
 
+    public int getInstance(final int defaultValue) {
+        return getIntFieldByNumber(3, defaultValue);
+    }
+
     @Nullable
     public Integer getTimeAboveThreshold() {
         return getFieldByNumber(4, Integer.class);
     }
 
+    public int getTimeAboveThreshold(final int defaultValue) {
+        return getIntFieldByNumber(4, defaultValue);
+    }
+
     @Nullable
     public Long getTimestamp() {
         return getFieldByNumber(253, Long.class);
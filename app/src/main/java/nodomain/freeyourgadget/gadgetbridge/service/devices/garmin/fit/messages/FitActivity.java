@@ -44,36 +44,64 @@ public class FitActivity extends RecordData {
         return getFieldByNumber(0, Long.class);
     }
 
+    public long getTotalTimerTime(final long defaultValue) {
+        return getLongFieldByNumber(0, defaultValue);
+    }
+
     @Nullable
     public Integer getNumSessions() {
         return getFieldByNumber(1, Integer.class);
     }
 
+    public int getNumSessions(final int defaultValue) {
+        return getIntFieldByNumber(1, defaultValue);
+    }
+
     @Nullable
     public Integer getType() {
         return getFieldByNumber(2, Integer.class);
     }
 
+    public int getType(final int defaultValue) {
+        return getIntFieldByNumber(2, defaultValue);
+    }
+
     @Nullable
     public Integer getEvent() {
         return getFieldByNumber(3, Integer.class);
     }
 
+    public int getEvent(final int defaultValue) {
+        return getIntFieldByNumber(3, defaultValue);
+    }
+
     @Nullable
     public Integer getEventType() {
         return getFieldByNumber(4, Integer.class);
     }
 
+    public int getEventType(final int defaultValue) {
+        return getIntFieldByNumber(4, defaultValue);
+    }
+
     @Nullable
     public Long getLocalTimestamp() {
         return getFieldByNumber(5, Long.class);
     }
 
+    public long getLocalTimestamp(final long defaultValue) {
+        return getLongFieldByNumber(5, defaultValue);
+    }
+
     @Nullable
     public Integer getEventGroup() {
         return getFieldByNumber(6, Integer.class);
     }
 
+    public int getEventGroup(final int defaultValue) {
+        return getIntFieldByNumber(6, defaultValue);
+    }
+
     @Nullable
     public Long getTimestamp() {
         return getFieldByNumber(253, Long.class);
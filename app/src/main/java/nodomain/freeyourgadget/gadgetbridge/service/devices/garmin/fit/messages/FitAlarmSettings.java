@@ -52,21 +52,37 @@ public class FitAlarmSettings extends RecordData {
         return getFieldByNumber(1, Long.class);
     }
 
+    public long getRepeat(final long defaultValue) {
+        return getLongFieldByNumber(1, defaultValue);
+    }
+
     @Nullable
     public Integer getEnabled() {
         return getFieldByNumber(2, Integer.class);
     }
 
+    public int getEnabled(final int defaultValue) {
+        return getIntFieldByNumber(2, defaultValue);
+    }
+
     @Nullable
     public Integer getSound() {
         return getFieldByNumber(3, Integer.class);
     }
 
+    public int getSound(final int defaultValue) {
+        return getIntFieldByNumber(3, defaultValue);
+    }
+
     @Nullable
     public Integer getBacklight() {
         return getFieldByNumber(4, Integer.class);
     }
 
+    public int getBacklight(final int defaultValue) {
+        return getIntFieldByNumber(4, defaultValue);
+    }
+
     @Nullable
     public Long getSomeTimestamp() {
         return getFieldByNumber(5, Long.class);
@@ -77,6 +93,10 @@ public class FitAlarmSettings extends RecordData {
         return getFieldByNumber(7, Integer.class);
     }
 
+    public int getUnknown7(final int defaultValue) {
+        return getIntFieldByNumber(7, defaultValue);
+    }
+
     @Nullable
     public Label getLabel() {
         return getFieldByNumber(8, Label.class);
@@ -87,6 +107,10 @@ public class FitAlarmSettings extends RecordData {
         return getFieldByNumber(254, Integer.class);
     }
 
+    public int getMessageIndex(final int defaultValue) {
+        return getIntFieldByNumber(254, defaultValue);
+    }
+
     /**
      * @noinspection unused
      */
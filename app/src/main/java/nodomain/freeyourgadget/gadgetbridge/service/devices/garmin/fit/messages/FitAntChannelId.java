@@ -44,26 +44,46 @@ public class FitAntChannelId extends RecordData {
         return getFieldByNumber(0, Integer.class);
     }
 
+    public int getChannelNumber(final int defaultValue) {
+        return getIntFieldByNumber(0, defaultValue);
+    }
+
     @Nullable
     public Integer getDeviceType() {
         return getFieldByNumber(1, Integer.class);
     }
 
+    public int getDeviceType(final int defaultValue) {
+        return getIntFieldByNumber(1, defaultValue);
+    }
+
     @Nullable
     public Integer getDeviceNumber() {
         return getFieldByNumber(2, Integer.class);
     }
 
+    public int getDeviceNumber(final int defaultValue) {
+        return getIntFieldByNumber(2, defaultValue);
+    }
+
     @Nullable
     public Integer getTransmissionType() {
         return getFieldByNumber(3, Integer.class);
     }
 
+    public int getTransmissionType(final int defaultValue) {
+        return getIntFieldByNumber(3, defaultValue);
+    }
+
     @Nullable
     public Integer getDeviceIndex() {
         return getFieldByNumber(4, Integer.class);
     }
 
+    public int getDeviceIndex(final int defaultValue) {
+        return getIntFieldByNumber(4, defaultValue);
+    }
+
     /**
      * @noinspection unused
      */
@@ -44,11 +44,19 @@ public class FitAntTx extends RecordData {
         return getFieldByNumber(0, Float.class);
     }
 
+    public float getFractionalTimestamp(final float defaultValue) {
+        return getFloatFieldByNumber(0, defaultValue);
+    }
+
     @Nullable
     public Integer getMesgId() {
         return getFieldByNumber(1, Integer.class);
     }
 
+    public int getMesgId(final int defaultValue) {
+        return getIntFieldByNumber(1, defaultValue);
+    }
+
     @Nullable
     public Number[] getMesgData() {
         return getArrayFieldByNumber(2, Number.class);
@@ -59,6 +67,10 @@ public class FitAntTx extends RecordData {
         return getFieldByNumber(3, Integer.class);
     }
 
+    public int getChannelNumber(final int defaultValue) {
+        return getIntFieldByNumber(3, defaultValue);
+    }
+
     @Nullable
     public Number[] getData() {
         return getArrayFieldByNumber(4, Number.class);
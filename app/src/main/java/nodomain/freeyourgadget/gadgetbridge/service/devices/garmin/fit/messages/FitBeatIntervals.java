@@ -44,6 +44,10 @@ public class FitBeatIntervals extends RecordData {
         return getFieldByNumber(0, Integer.class);
     }
 
+    public int getTimestampMs(final int defaultValue) {
+        return getIntFieldByNumber(0, defaultValue);
+    }
+
     @Nullable
     public Number[] getTime() {
         return getArrayFieldByNumber(1, Number.class);
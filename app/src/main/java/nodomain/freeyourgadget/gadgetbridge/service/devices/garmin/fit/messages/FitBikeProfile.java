@@ -49,56 +49,100 @@ public class FitBikeProfile extends RecordData {
         return getFieldByNumber(1, Integer.class);
     }
 
+    public int getSport(final int defaultValue) {
+        return getIntFieldByNumber(1, defaultValue);
+    }
+
     @Nullable
     public Integer getSubSport() {
         return getFieldByNumber(2, Integer.class);
     }
 
+    public int getSubSport(final int defaultValue) {
+        return getIntFieldByNumber(2, defaultValue);
+    }
+
     @Nullable
     public Double getOdometer() {
         return getFieldByNumber(3, Double.class);
     }
 
+    public double getOdometer(final double defaultValue) {
+        return getDoubleFieldByNumber(3, defaultValue);
+    }
+
     @Nullable
     public Integer getBikeSpdAntId() {
         return getFieldByNumber(4, Integer.class);
     }
 
+    public int getBikeSpdAntId(final int defaultValue) {
+        return getIntFieldByNumber(4, defaultValue);
+    }
+
     @Nullable
     public Integer getBikeCadAntId() {
         return getFieldByNumber(5, Integer.class);
     }
 
+    public int getBikeCadAntId(final int defaultValue) {
+        return getIntFieldByNumber(5, defaultValue);
+    }
+
     @Nullable
     public Integer getBikeSpdcadAntId() {
         return getFieldByNumber(6, Integer.class);
     }
 
+    public int getBikeSpdcadAntId(final int defaultValue) {
+        return getIntFieldByNumber(6, defaultValue);
+    }
+
     @Nullable
     public Integer getBikePowerAntId() {
         return getFieldByNumber(7, Integer.class);
     }
 
+    public int getBikePowerAntId(final int defaultValue) {
+        return getIntFieldByNumber(7, defaultValue);
+    }
+
     @Nullable
     public Float getCustomWheelsize() {
         return getFieldByNumber(8, Float.class);
     }
 
+    public float getCustomWheelsize(final float defaultValue) {
+        return getFloatFieldByNumber(8, defaultValue);
+    }
+
     @Nullable
     public Float getAutoWheelsize() {
         return getFieldByNumber(9, Float.class);
     }
 
+    public float getAutoWheelsize(final float defaultValue) {
+        return getFloatFieldByNumber(9, defaultValue);
+    }
+
     @Nullable
     public Float getBikeWeight() {
         return getFieldByNumber(10, Float.class);
     }
 
+    public float getBikeWeight(final float defaultValue) {
+        return getFloatFieldByNumber(10, defaultValue);
+    }
+
     @Nullable
     public Float getPowerCalFactor() {
         return getFieldByNumber(11, Float.class);
     }
 
+    public float getPowerCalFactor(final float defaultValue) {
+        return getFloatFieldByNumber(11, defaultValue);
+    }
+
     @Nullable
     public Boolean getAutoWheelCal() {
         return getFieldByNumber(12, Boolean.class);
@@ -114,6 +158,10 @@ public class FitBikeProfile extends RecordData {
         return getFieldByNumber(14, Integer.class);
     }
 
+    public int getId(final int defaultValue) {
+        return getIntFieldByNumber(14, defaultValue);
+    }
+
     @Nullable
     public Boolean getSpdEnabled() {
         return getFieldByNumber(15, Boolean.class);
@@ -139,6 +187,10 @@ public class FitBikeProfile extends RecordData {
         return getFieldByNumber(19, Float.class);
     }
 
+    public float getCrankLength(final float defaultValue) {
+        return getFloatFieldByNumber(19, defaultValue);
+    }
+
     @Nullable
     public Boolean getEnabled() {
         return getFieldByNumber(20, Boolean.class);
@@ -149,31 +201,55 @@ public class FitBikeProfile extends RecordData {
         return getFieldByNumber(21, Integer.class);
     }
 
+    public int getBikeSpdAntIdTransType(final int defaultValue) {
+        return getIntFieldByNumber(21, defaultValue);
+    }
+
     @Nullable
     public Integer getBikeCadAntIdTransType() {
         return getFieldByNumber(22, Integer.class);
     }
 
+    public int getBikeCadAntIdTransType(final int defaultValue) {
+        return getIntFieldByNumber(22, defaultValue);
+    }
+
     @Nullable
     public Integer getBikeSpdcadAntIdTransType() {
         return getFieldByNumber(23, Integer.class);
     }
 
+    public int getBikeSpdcadAntIdTransType(final int defaultValue) {
+        return getIntFieldByNumber(23, defaultValue);
+    }
+
     @Nullable
     public Integer getBikePowerAntIdTransType() {
         return getFieldByNumber(24, Integer.class);
     }
 
+    public int getBikePowerAntIdTransType(final int defaultValue) {
+        return getIntFieldByNumber(24, defaultValue);
+    }
+
     @Nullable
     public Integer getOdometerRollover() {
         return getFieldByNumber(37, Integer.class);
     }
 
+    public int getOdometerRollover(final int defaultValue) {
+        return getIntFieldByNumber(37, defaultValue);
+    }
+
     @Nullable
     public Integer getFrontGearNum() {
         return getFieldByNumber(38, Integer.class);
     }
 
+    public int getFrontGearNum(final int defaultValue) {
+        return getIntFieldByNumber(38, defaultValue);
+    }
+
     @Nullable
     public Number[] getFrontGear() {
         return getArrayFieldByNumber(39, Number.class);
@@ -184,6 +260,10 @@ public class FitBikeProfile extends RecordData {
         return getFieldByNumber(40, Integer.class);
     }
 
+    public int getRearGearNum(final int defaultValue) {
+        return getIntFieldByNumber(40, defaultValue);
+    }
+
     @Nullable
     public Number[] getRearGear() {
         return getArrayFieldByNumber(41, Number.class);
@@ -199,6 +279,10 @@ public class FitBikeProfile extends RecordData {
         return getFieldByNumber(254, Integer.class);
     }
 
+    public int getMessageIndex(final int defaultValue) {
+        return getIntFieldByNumber(254, defaultValue);
+    }
+
     /**
      * @noinspection unused
      */
@@ -44,51 +44,91 @@ public class FitBloodPressure extends RecordData {
         return getFieldByNumber(0, Integer.class);
     }
 
+    public int getSystolicPressure(final int defaultValue) {
+        return getIntFieldByNumber(0, defaultValue);
+    }
+
     @Nullable
     public Integer getDiastolicPressure() {
         return getFieldByNumber(1, Integer.class);
     }
 
+    public int getDiastolicPressure(final int defaultValue) {
+        return getIntFieldByNumber(1, defaultValue);
+    }
+
     @Nullable
     public Integer getMeanArterialPressure() {
         return getFieldByNumber(2, Integer.class);
     }
 
+    public int getMeanArterialPressure(final int defaultValue) {
+        return getIntFieldByNumber(2, defaultValue);
+    }
+
     @Nullable
     public Integer getMap3SampleMean() {
         return getFieldByNumber(3, Integer.class);
     }
 
+    public int getMap3SampleMean(final int defaultValue) {
+        return getIntFieldByNumber(3, defaultValue);
+    }
+
     @Nullable
     public Integer getMapMorningValues() {
         return getFieldByNumber(4, Integer.class);
     }
 
+    public int getMapMorningValues(final int defaultValue) {
+        return getIntFieldByNumber(4, defaultValue);
+    }
+
     @Nullable
     public Integer getMapEveningValues() {
         return getFieldByNumber(5, Integer.class);
     }
 
+    public int getMapEveningValues(final int defaultValue) {
+        return getIntFieldByNumber(5, defaultValue);
+    }
+
     @Nullable
     public Integer getHeartRate() {
         return getFieldByNumber(6, Integer.class);
     }
 
+    public int getHeartRate(final int defaultValue) {
+        return getIntFieldByNumber(6, defaultValue);
+    }
+
     @Nullable
     public Integer getHeartRateType() {
         return getFieldByNumber(7, Integer.class);
     }
 
+    public int getHeartRateType(final int defaultValue) {
+        return getIntFieldByNumber(7, defaultValue);
+    }
+
     @Nullable
     public Integer getStatus() {
         return getFieldByNumber(8, Integer.class);
     }
 
+    public int getStatus(final int defaultValue) {
+        return getIntFieldByNumber(8, defaultValue);
+    }
+
     @Nullable
     public Integer getUserProfileIndex() {
         return getFieldByNumber(9, Integer.class);
     }
 
+    public int getUserProfileIndex(final int defaultValue) {
+        return getIntFieldByNumber(9, defaultValue);
+    }
+
     @Nullable
     public Long getTimestamp() {
         return getFieldByNumber(253, Long.class);
@@ -44,11 +44,19 @@ public class FitCameraEvent extends RecordData {
         return getFieldByNumber(0, Integer.class);
     }
 
+    public int getTimestampMs(final int defaultValue) {
+        return getIntFieldByNumber(0, defaultValue);
+    }
+
     @Nullable
     public Integer getCameraEventType() {
         return getFieldByNumber(1, Integer.class);
     }
 
+    public int getCameraEventType(final int defaultValue) {
+        return getIntFieldByNumber(1, defaultValue);
+    }
+
     @Nullable
     public String getCameraFileUuid() {
         return getFieldByNumber(2, String.class);
@@ -59,6 +67,10 @@ public class FitCameraEvent extends RecordData {
         return getFieldByNumber(3, Integer.class);
     }
 
+    public int getCameraOrientation(final int defaultValue) {
+        return getIntFieldByNumber(3, defaultValue);
+    }
+
     @Nullable
     public Long getTimestamp() {
         return getFieldByNumber(253, Long.class);
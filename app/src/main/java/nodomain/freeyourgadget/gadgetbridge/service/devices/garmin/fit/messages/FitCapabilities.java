@@ -54,11 +54,19 @@ public class FitCapabilities extends RecordData {
         return getFieldByNumber(21, Long.class);
     }
 
+    public long getWorkoutsSupported(final long defaultValue) {
+        return getLongFieldByNumber(21, defaultValue);
+    }
+
     @Nullable
     public Long getConnectivitySupported() {
         return getFieldByNumber(23, Long.class);
     }
 
+    public long getConnectivitySupported(final long defaultValue) {
+        return getLongFieldByNumber(23, defaultValue);
+    }
+
     /**
      * @noinspection unused
      */
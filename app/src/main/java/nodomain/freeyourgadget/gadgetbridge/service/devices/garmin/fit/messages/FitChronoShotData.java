@@ -44,11 +44,19 @@ public class FitChronoShotData extends RecordData {
         return getFieldByNumber(0, Double.class);
     }
 
+    public double getShotSpeed(final double defaultValue) {
+        return getDoubleFieldByNumber(0, defaultValue);
+    }
+
     @Nullable
     public Integer getShotNum() {
         return getFieldByNumber(1, Integer.class);
     }
 
+    public int getShotNum(final int defaultValue) {
+        return getIntFieldByNumber(1, defaultValue);
+    }
+
     @Nullable
     public Long getTimestamp() {
         return getFieldByNumber(253, Long.class);
@@ -44,36 +44,64 @@ public class FitChronoShotSession extends RecordData {
         return getFieldByNumber(0, Double.class);
     }
 
+    public double getMinSpeed(final double defaultValue) {
+        return getDoubleFieldByNumber(0, defaultValue);
+    }
+
     @Nullable
     public Double getMaxSpeed() {
         return getFieldByNumber(1, Double.class);
     }
 
+    public double getMaxSpeed(final double defaultValue) {
+        return getDoubleFieldByNumber(1, defaultValue);
+    }
+
     @Nullable
     public Double getAvgSpeed() {
         return getFieldByNumber(2, Double.class);
     }
 
+    public double getAvgSpeed(final double defaultValue) {
+        return getDoubleFieldByNumber(2, defaultValue);
+    }
+
     @Nullable
     public Integer getShotCount() {
         return getFieldByNumber(3, Integer.class);
     }
 
+    public int getShotCount(final int defaultValue) {
+        return getIntFieldByNumber(3, defaultValue);
+    }
+
     @Nullable
     public Integer getProjectileType() {
         return getFieldByNumber(4, Integer.class);
     }
 
+    public int getProjectileType(final int defaultValue) {
+        return getIntFieldByNumber(4, defaultValue);
+    }
+
     @Nullable
     public Double getGrainWeight() {
         return getFieldByNumber(5, Double.class);
     }
 
+    public double getGrainWeight(final double defaultValue) {
+        return getDoubleFieldByNumber(5, defaultValue);
+    }
+
     @Nullable
     public Double getStandardDeviation() {
         return getFieldByNumber(6, Double.class);
     }
 
+    public double getStandardDeviation(final double defaultValue) {
+        return getDoubleFieldByNumber(6, defaultValue);
+    }
+
     @Nullable
     public Long getTimestamp() {
         return getFieldByNumber(253, Long.class);
@@ -54,21 +54,37 @@ public class FitClimbPro extends RecordData {
         return getFieldByNumber(2, Integer.class);
     }
 
+    public int getClimbProEvent(final int defaultValue) {
+        return getIntFieldByNumber(2, defaultValue);
+    }
+
     @Nullable
     public Integer getClimbNumber() {
         return getFieldByNumber(3, Integer.class);
     }
 
+    public int getClimbNumber(final int defaultValue) {
+        return getIntFieldByNumber(3, defaultValue);
+    }
+
     @Nullable
     public Integer getClimbCategory() {
         return getFieldByNumber(4, Integer.class);
     }
 
+    public int getClimbCategory(final int defaultValue) {
+        return getIntFieldByNumber(4, defaultValue);
+    }
+
     @Nullable
     public Float getCurrentDist() {
         return getFieldByNumber(5, Float.class);
     }
 
+    public float getCurrentDist(final float defaultValue) {
+        return getFloatFieldByNumber(5, defaultValue);
+    }
+
     @Nullable
     public Long getTimestamp() {
         return getFieldByNumber(253, Long.class);
@@ -44,16 +44,28 @@ public class FitConnectivity extends RecordData {
         return getFieldByNumber(0, Integer.class);
     }
 
+    public int getBluetoothEnabled(final int defaultValue) {
+        return getIntFieldByNumber(0, defaultValue);
+    }
+
     @Nullable
     public Integer getBluetoothLeEnabled() {
         return getFieldByNumber(1, Integer.class);
     }
 
+    public int getBluetoothLeEnabled(final int defaultValue) {
+        return getIntFieldByNumber(1, defaultValue);
+    }
+
     @Nullable
     public Integer getAntEnabled() {
         return getFieldByNumber(2, Integer.class);
     }
 
+    public int getAntEnabled(final int defaultValue) {
+        return getIntFieldByNumber(2, defaultValue);
+    }
+
     @Nullable
     public String getName() {
         return getFieldByNumber(3, String.class);
@@ -64,46 +76,82 @@ public class FitConnectivity extends RecordData {
         return getFieldByNumber(4, Integer.class);
     }
 
+    public int getLiveTrackingEnabled(final int defaultValue) {
+        return getIntFieldByNumber(4, defaultValue);
+    }
+
     @Nullable
     public Integer getWeatherConditionsEnabled() {
         return getFieldByNumber(5, Integer.class);
     }
 
+    public int getWeatherConditionsEnabled(final int defaultValue) {
+        return getIntFieldByNumber(5, defaultValue);
+    }
+
     @Nullable
     public Integer getWeatherAlertsEnabled() {
         return getFieldByNumber(6, Integer.class);
     }
 
+    public int getWeatherAlertsEnabled(final int defaultValue) {
+        return getIntFieldByNumber(6, defaultValue);
+    }
+
     @Nullable
     public Integer getAutoActivityUploadEnabled() {
         return getFieldByNumber(7, Integer.class);
     }
 
+    public int getAutoActivityUploadEnabled(final int defaultValue) {
+        return getIntFieldByNumber(7, defaultValue);
+    }
+
     @Nullable
     public Integer getCourseDownloadEnabled() {
         return getFieldByNumber(8, Integer.class);
     }
 
+    public int getCourseDownloadEnabled(final int defaultValue) {
+        return getIntFieldByNumber(8, defaultValue);
+    }
+
     @Nullable
     public Integer getWorkoutDownloadEnabled() {
         return getFieldByNumber(9, Integer.class);
     }
 
+    public int getWorkoutDownloadEnabled(final int defaultValue) {
+        return getIntFieldByNumber(9, defaultValue);
+    }
+
     @Nullable
     public Integer getGpsEphemerisDownloadEnabled() {
         return getFieldByNumber(10, Integer.class);
     }
 
+    public int getGpsEphemerisDownloadEnabled(final int defaultValue) {
+        return getIntFieldByNumber(10, defaultValue);
+    }
+
     @Nullable
     public Integer getIncidentDetectionEnabled() {
         return getFieldByNumber(11, Integer.class);
     }
 
+    public int getIncidentDetectionEnabled(final int defaultValue) {
+        return getIntFieldByNumber(11, defaultValue);
+    }
+
     @Nullable
     public Integer getGrouptrackEnabled() {
         return getFieldByNumber(12, Integer.class);
     }
 
+    public int getGrouptrackEnabled(final int defaultValue) {
+        return getIntFieldByNumber(12, defaultValue);
+    }
+
     /**
      * @noinspection unused
      */
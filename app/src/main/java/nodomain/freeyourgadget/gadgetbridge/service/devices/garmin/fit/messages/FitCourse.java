@@ -44,6 +44,10 @@ public class FitCourse extends RecordData {
         return getFieldByNumber(4, Integer.class);
     }
 
+    public int getSport(final int defaultValue) {
+        return getIntFieldByNumber(4, defaultValue);
+    }
+
     @Nullable
     public String getName() {
         return getFieldByNumber(5, String.class);
@@ -54,11 +58,19 @@ public class FitCourse extends RecordData {
         return getFieldByNumber(6, Long.class);
     }
 
+    public long getCapabilities(final long defaultValue) {
+        return getLongFieldByNumber(6, defaultValue);
+    }
+
     @Nullable
     public Integer getSubSport() {
         return getFieldByNumber(7, Integer.class);
     }
 
+    public int getSubSport(final int defaultValue) {
+        return getIntFieldByNumber(7, defaultValue);
+    }
+
     /**
      * @noinspection unused
      */
@@ -60,6 +60,10 @@ public class FitCoursePoint extends RecordData {
         return getFieldByNumber(4, Double.class);
     }
 
+    public double getDistance(final double defaultValue) {
+        return getDoubleFieldByNumber(4, defaultValue);
+    }
+
     @Nullable
     public CoursePoint getType() {
         return getFieldByNumber(5, CoursePoint.class);
@@ -75,11 +79,19 @@ public class FitCoursePoint extends RecordData {
         return getFieldByNumber(8, Integer.class);
     }
 
+    public int getFavorite(final int defaultValue) {
+        return getIntFieldByNumber(8, defaultValue);
+    }
+
     @Nullable
     public Integer getMessageIndex() {
         return getFieldByNumber(254, Integer.class);
     }
 
+    public int getMessageIndex(final int defaultValue) {
+        return getIntFieldByNumber(254, defaultValue);
+    }
+
     /**
      * @noinspection unused
      */
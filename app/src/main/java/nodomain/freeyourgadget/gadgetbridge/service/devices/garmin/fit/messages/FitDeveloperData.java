@@ -54,16 +54,28 @@ public class FitDeveloperData extends RecordData {
         return getFieldByNumber(2, Integer.class);
     }
 
+    public int getManufacturerId(final int defaultValue) {
+        return getIntFieldByNumber(2, defaultValue);
+    }
+
     @Nullable
     public Integer getDeveloperDataIndex() {
         return getFieldByNumber(3, Integer.class);
     }
 
+    public int getDeveloperDataIndex(final int defaultValue) {
+        return getIntFieldByNumber(3, defaultValue);
+    }
+
     @Nullable
     public Long getApplicationVersion() {
         return getFieldByNumber(4, Long.class);
     }
 
+    public long getApplicationVersion(final long defaultValue) {
+        return getLongFieldByNumber(4, defaultValue);
+    }
+
     /**
      * @noinspection unused
      */
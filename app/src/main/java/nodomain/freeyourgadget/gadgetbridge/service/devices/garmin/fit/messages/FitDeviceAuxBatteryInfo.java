@@ -44,21 +44,37 @@ public class FitDeviceAuxBatteryInfo extends RecordData {
         return getFieldByNumber(0, Integer.class);
     }
 
+    public int getDeviceIndex(final int defaultValue) {
+        return getIntFieldByNumber(0, defaultValue);
+    }
+
     @Nullable
     public Float getBatteryVoltage() {
         return getFieldByNumber(1, Float.class);
     }
 
+    public float getBatteryVoltage(final float defaultValue) {
+        return getFloatFieldByNumber(1, defaultValue);
+    }
+
     @Nullable
     public Integer getBatteryStatus() {
         return getFieldByNumber(2, Integer.class);
     }
 
+    public int getBatteryStatus(final int defaultValue) {
+        return getIntFieldByNumber(2, defaultValue);
+    }
+
     @Nullable
     public Integer getBatteryIdentifier() {
         return getFieldByNumber(3, Integer.class);
     }
 
+    public int getBatteryIdentifier(final int defaultValue) {
+        return getIntFieldByNumber(3, defaultValue);
+    }
+
     @Nullable
     public Long getTimestamp() {
         return getFieldByNumber(253, Long.class);
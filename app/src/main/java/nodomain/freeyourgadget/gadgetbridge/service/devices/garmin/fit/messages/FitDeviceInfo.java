@@ -44,56 +44,100 @@ public class FitDeviceInfo extends RecordData {
         return getFieldByNumber(0, Integer.class);
     }
 
+    public int getDeviceIndex(final int defaultValue) {
+        return getIntFieldByNumber(0, defaultValue);
+    }
+
     @Nullable
     public Integer getDeviceType() {
         return getFieldByNumber(1, Integer.class);
     }
 
+    public int getDeviceType(final int defaultValue) {
+        return getIntFieldByNumber(1, defaultValue);
+    }
+
     @Nullable
     public Integer getManufacturer() {
         return getFieldByNumber(2, Integer.class);
     }
 
+    public int getManufacturer(final int defaultValue) {
+        return getIntFieldByNumber(2, defaultValue);
+    }
+
     @Nullable
     public Long getSerialNumber() {
         return getFieldByNumber(3, Long.class);
     }
 
+    public long getSerialNumber(final long defaultValue) {
+        return getLongFieldByNumber(3, defaultValue);
+    }
+
     @Nullable
     public Integer getProduct() {
         return getFieldByNumber(4, Integer.class);
     }
 
+    public int getProduct(final int defaultValue) {
+        return getIntFieldByNumber(4, defaultValue);
+    }
+
     @Nullable
     public Integer getSoftwareVersion() {
         return getFieldByNumber(5, Integer.class);
     }
 
+    public int getSoftwareVersion(final int defaultValue) {
+        return getIntFieldByNumber(5, defaultValue);
+    }
+
     @Nullable
     public Integer getHardwareVersion() {
         return getFieldByNumber(6, Integer.class);
     }
 
+    public int getHardwareVersion(final int defaultValue) {
+        return getIntFieldByNumber(6, defaultValue);
+    }
+
     @Nullable
     public Long getCumOperatingTime() {
         return getFieldByNumber(7, Long.class);
     }
 
+    public long getCumOperatingTime(final long defaultValue) {
+        return getLongFieldByNumber(7, defaultValue);
+    }
+
     @Nullable
     public Float getBatteryVoltage() {
         return getFieldByNumber(10, Float.class);
     }
 
+    public float getBatteryVoltage(final float defaultValue) {
+        return getFloatFieldByNumber(10, defaultValue);
+    }
+
     @Nullable
     public Integer getBatteryStatus() {
         return getFieldByNumber(11, Integer.class);
     }
 
+    public int getBatteryStatus(final int defaultValue) {
+        return getIntFieldByNumber(11, defaultValue);
+    }
+
     @Nullable
     public Integer getSensorPosition() {
         return getFieldByNumber(18, Integer.class);
     }
 
+    public int getSensorPosition(final int defaultValue) {
+        return getIntFieldByNumber(18, defaultValue);
+    }
+
     @Nullable
     public String getDescriptor() {
         return getFieldByNumber(19, String.class);
@@ -104,26 +148,46 @@ public class FitDeviceInfo extends RecordData {
         return getFieldByNumber(20, Integer.class);
     }
 
+    public int getAntTransmissionType(final int defaultValue) {
+        return getIntFieldByNumber(20, defaultValue);
+    }
+
     @Nullable
     public Integer getAntDeviceNumber() {
         return getFieldByNumber(21, Integer.class);
     }
 
+    public int getAntDeviceNumber(final int defaultValue) {
+        return getIntFieldByNumber(21, defaultValue);
+    }
+
     @Nullable
     public Integer getAntNetwork() {
         return getFieldByNumber(22, Integer.class);
     }
 
+    public int getAntNetwork(final int defaultValue) {
+        return getIntFieldByNumber(22, defaultValue);
+    }
+
     @Nullable
     public Long getAntId() {
         return getFieldByNumber(24, Long.class);
     }
 
+    public long getAntId(final long defaultValue) {
+        return getLongFieldByNumber(24, defaultValue);
+    }
+
     @Nullable
     public Integer getSourceType() {
         return getFieldByNumber(25, Integer.class);
     }
 
+    public int getSourceType(final int defaultValue) {
+        return getIntFieldByNumber(25, defaultValue);
+    }
+
     @Nullable
     public String getProductName() {
         return getFieldByNumber(27, String.class);
@@ -134,6 +198,10 @@ public class FitDeviceInfo extends RecordData {
         return getFieldByNumber(32, Integer.class);
     }
 
+    public int getBatteryLevel(final int defaultValue) {
+        return getIntFieldByNumber(32, defaultValue);
+    }
+
     @Nullable
     public Long getTimestamp() {
         return getFieldByNumber(253, Long.class);
@@ -44,11 +44,19 @@ public class FitDeviceSettings extends RecordData {
         return getFieldByNumber(0, Integer.class);
     }
 
+    public int getActiveTimeZone(final int defaultValue) {
+        return getIntFieldByNumber(0, defaultValue);
+    }
+
     @Nullable
     public Long getUtcOffset() {
         return getFieldByNumber(1, Long.class);
     }
 
+    public long getUtcOffset(final long defaultValue) {
+        return getLongFieldByNumber(1, defaultValue);
+    }
+
     @Nullable
     public Number[] getTimeOffset() {
         return getArrayFieldByNumber(2, Number.class);
@@ -79,6 +87,10 @@ public class FitDeviceSettings extends RecordData {
         return getFieldByNumber(12, Integer.class);
     }
 
+    public int getBacklightMode(final int defaultValue) {
+        return getIntFieldByNumber(12, defaultValue);
+    }
+
     @Nullable
     public Number[] getAlarmsEnabled() {
         return getArrayFieldByNumber(28, Number.class);
@@ -89,11 +101,19 @@ public class FitDeviceSettings extends RecordData {
         return getFieldByNumber(36, Integer.class);
     }
 
+    public int getActivityTrackerEnabled(final int defaultValue) {
+        return getIntFieldByNumber(36, defaultValue);
+    }
+
     @Nullable
     public Long getClockTime() {
         return getFieldByNumber(39, Long.class);
     }
 
+    public long getClockTime(final long defaultValue) {
+        return getLongFieldByNumber(39, defaultValue);
+    }
+
     @Nullable
     public Number[] getPagesEnabled() {
         return getArrayFieldByNumber(40, Number.class);
@@ -104,21 +124,37 @@ public class FitDeviceSettings extends RecordData {
         return getFieldByNumber(46, Integer.class);
     }
 
+    public int getMoveAlertEnabled(final int defaultValue) {
+        return getIntFieldByNumber(46, defaultValue);
+    }
+
     @Nullable
     public Integer getDateMode() {
         return getFieldByNumber(47, Integer.class);
     }
 
+    public int getDateMode(final int defaultValue) {
+        return getIntFieldByNumber(47, defaultValue);
+    }
+
     @Nullable
     public Integer getDisplayOrientation() {
         return getFieldByNumber(55, Integer.class);
     }
 
+    public int getDisplayOrientation(final int defaultValue) {
+        return getIntFieldByNumber(55, defaultValue);
+    }
+
     @Nullable
     public Integer getMountingSide() {
         return getFieldByNumber(56, Integer.class);
     }
 
+    public int getMountingSide(final int defaultValue) {
+        return getIntFieldByNumber(56, defaultValue);
+    }
+
     @Nullable
     public Number[] getDefaultPage() {
         return getArrayFieldByNumber(57, Number.class);
@@ -129,31 +165,55 @@ public class FitDeviceSettings extends RecordData {
         return getFieldByNumber(58, Integer.class);
     }
 
+    public int getAutosyncMinSteps(final int defaultValue) {
+        return getIntFieldByNumber(58, defaultValue);
+    }
+
     @Nullable
     public Integer getAutosyncMinTime() {
         return getFieldByNumber(59, Integer.class);
     }
 
+    public int getAutosyncMinTime(final int defaultValue) {
+        return getIntFieldByNumber(59, defaultValue);
+    }
+
     @Nullable
     public Integer getLactateThresholdAutodetectEnabled() {
         return getFieldByNumber(80, Integer.class);
     }
 
+    public int getLactateThresholdAutodetectEnabled(final int defaultValue) {
+        return getIntFieldByNumber(80, defaultValue);
+    }
+
     @Nullable
     public Integer getBleAutoUploadEnabled() {
         return getFieldByNumber(86, Integer.class);
     }
 
+    public int getBleAutoUploadEnabled(final int defaultValue) {
+        return getIntFieldByNumber(86, defaultValue);
+    }
+
     @Nullable
     public Integer getAutoSyncFrequency() {
         return getFieldByNumber(89, Integer.class);
     }
 
+    public int getAutoSyncFrequency(final int defaultValue) {
+        return getIntFieldByNumber(89, defaultValue);
+    }
+
     @Nullable
     public Long getAutoActivityDetect() {
         return getFieldByNumber(90, Long.class);
     }
 
+    public long getAutoActivityDetect(final long defaultValue) {
+        return getLongFieldByNumber(90, defaultValue);
+    }
+
     @Nullable
     public Number[] getAlarmsRepeat() {
         return getArrayFieldByNumber(92, Number.class);
@@ -164,21 +224,37 @@ public class FitDeviceSettings extends RecordData {
         return getFieldByNumber(94, Integer.class);
     }
 
+    public int getNumberOfScreens(final int defaultValue) {
+        return getIntFieldByNumber(94, defaultValue);
+    }
+
     @Nullable
     public Integer getSmartNotificationDisplayOrientation() {
         return getFieldByNumber(95, Integer.class);
     }
 
+    public int getSmartNotificationDisplayOrientation(final int defaultValue) {
+        return getIntFieldByNumber(95, defaultValue);
+    }
+
     @Nullable
     public Integer getTapInterface() {
         return getFieldByNumber(134, Integer.class);
     }
 
+    public int getTapInterface(final int defaultValue) {
+        return getIntFieldByNumber(134, defaultValue);
+    }
+
     @Nullable
     public Integer getTapSensitivity() {
         return getFieldByNumber(174, Integer.class);
     }
 
+    public int getTapSensitivity(final int defaultValue) {
+        return getIntFieldByNumber(174, defaultValue);
+    }
+
     /**
      * @noinspection unused
      */
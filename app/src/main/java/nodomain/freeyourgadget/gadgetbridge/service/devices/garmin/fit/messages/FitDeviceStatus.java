@@ -44,16 +44,28 @@ public class FitDeviceStatus extends RecordData {
         return getFieldByNumber(0, Float.class);
     }
 
+    public float getBatteryVoltage(final float defaultValue) {
+        return getFloatFieldByNumber(0, defaultValue);
+    }
+
     @Nullable
     public Integer getBatteryLevel() {
         return getFieldByNumber(2, Integer.class);
     }
 
+    public int getBatteryLevel(final int defaultValue) {
+        return getIntFieldByNumber(2, defaultValue);
+    }
+
     @Nullable
     public Integer getTemperature() {
         return getFieldByNumber(3, Integer.class);
     }
 
+    public int getTemperature(final int defaultValue) {
+        return getIntFieldByNumber(3, defaultValue);
+    }
+
     @Nullable
     public Long getTimestamp() {
         return getFieldByNumber(253, Long.class);
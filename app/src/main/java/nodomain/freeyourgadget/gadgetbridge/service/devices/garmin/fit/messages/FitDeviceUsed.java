@@ -44,31 +44,55 @@ public class FitDeviceUsed extends RecordData {
         return getFieldByNumber(0, Integer.class);
     }
 
+    public int getSpeed(final int defaultValue) {
+        return getIntFieldByNumber(0, defaultValue);
+    }
+
     @Nullable
     public Integer getDistance() {
         return getFieldByNumber(1, Integer.class);
     }
 
+    public int getDistance(final int defaultValue) {
+        return getIntFieldByNumber(1, defaultValue);
+    }
+
     @Nullable
     public Integer getCadence() {
         return getFieldByNumber(2, Integer.class);
     }
 
+    public int getCadence(final int defaultValue) {
+        return getIntFieldByNumber(2, defaultValue);
+    }
+
     @Nullable
     public Integer getElevation() {
         return getFieldByNumber(3, Integer.class);
     }
 
+    public int getElevation(final int defaultValue) {
+        return getIntFieldByNumber(3, defaultValue);
+    }
+
     @Nullable
     public Integer getHeartRate() {
         return getFieldByNumber(4, Integer.class);
     }
 
+    public int getHeartRate(final int defaultValue) {
+        return getIntFieldByNumber(4, defaultValue);
+    }
+
     @Nullable
     public Integer getPower() {
         return getFieldByNumber(6, Integer.class);
     }
 
+    public int getPower(final int defaultValue) {
+        return getIntFieldByNumber(6, defaultValue);
+    }
+
     @Nullable
     public Long getTimestamp() {
         return getFieldByNumber(253, Long.class);
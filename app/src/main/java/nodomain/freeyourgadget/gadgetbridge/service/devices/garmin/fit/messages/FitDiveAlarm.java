@@ -44,11 +44,19 @@ public class FitDiveAlarm extends RecordData {
         return getFieldByNumber(0, Double.class);
     }
 
+    public double getDepth(final double defaultValue) {
+        return getDoubleFieldByNumber(0, defaultValue);
+    }
+
     @Nullable
     public Long getTime() {
         return getFieldByNumber(1, Long.class);
     }
 
+    public long getTime(final long defaultValue) {
+        return getLongFieldByNumber(1, defaultValue);
+    }
+
     @Nullable
     public Boolean getEnabled() {
         return getFieldByNumber(2, Boolean.class);
@@ -59,11 +67,19 @@ public class FitDiveAlarm extends RecordData {
         return getFieldByNumber(3, Integer.class);
     }
 
+    public int getAlarmType(final int defaultValue) {
+        return getIntFieldByNumber(3, defaultValue);
+    }
+
     @Nullable
     public Integer getSound() {
         return getFieldByNumber(4, Integer.class);
     }
 
+    public int getSound(final int defaultValue) {
+        return getIntFieldByNumber(4, defaultValue);
+    }
+
     @Nullable
     public Number[] getDiveTypes() {
         return getArrayFieldByNumber(5, Number.class);
@@ -74,6 +90,10 @@ public class FitDiveAlarm extends RecordData {
         return getFieldByNumber(6, Long.class);
     }
 
+    public long getId(final long defaultValue) {
+        return getLongFieldByNumber(6, defaultValue);
+    }
+
     @Nullable
     public Boolean getPopupEnabled() {
         return getFieldByNumber(7, Boolean.class);
@@ -99,11 +119,19 @@ public class FitDiveAlarm extends RecordData {
         return getFieldByNumber(11, Double.class);
     }
 
+    public double getSpeed(final double defaultValue) {
+        return getDoubleFieldByNumber(11, defaultValue);
+    }
+
     @Nullable
     public Integer getMessageIndex() {
         return getFieldByNumber(254, Integer.class);
     }
 
+    public int getMessageIndex(final int defaultValue) {
+        return getIntFieldByNumber(254, defaultValue);
+    }
+
     /**
      * @noinspection unused
      */
@@ -44,26 +44,46 @@ public class FitDiveGas extends RecordData {
         return getFieldByNumber(0, Integer.class);
     }
 
+    public int getHeliumContent(final int defaultValue) {
+        return getIntFieldByNumber(0, defaultValue);
+    }
+
     @Nullable
     public Integer getOxygenContent() {
         return getFieldByNumber(1, Integer.class);
     }
 
+    public int getOxygenContent(final int defaultValue) {
+        return getIntFieldByNumber(1, defaultValue);
+    }
+
     @Nullable
     public Integer getStatus() {
         return getFieldByNumber(2, Integer.class);
     }
 
+    public int getStatus(final int defaultValue) {
+        return getIntFieldByNumber(2, defaultValue);
+    }
+
     @Nullable
     public Integer getMode() {
         return getFieldByNumber(3, Integer.class);
     }
 
+    public int getMode(final int defaultValue) {
+        return getIntFieldByNumber(3, defaultValue);
+    }
+
     @Nullable
     public Integer getMessageIndex() {
         return getFieldByNumber(254, Integer.class);
     }
 
+    public int getMessageIndex(final int defaultValue) {
+        return getIntFieldByNumber(254, defaultValue);
+    }
+
     /**
      * @noinspection unused
      */
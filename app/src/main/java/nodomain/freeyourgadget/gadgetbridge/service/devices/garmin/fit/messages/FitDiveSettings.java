@@ -49,161 +49,289 @@ public class FitDiveSettings extends RecordData {
         return getFieldByNumber(1, Integer.class);
     }
 
+    public int getModel(final int defaultValue) {
+        return getIntFieldByNumber(1, defaultValue);
+    }
+
     @Nullable
     public Integer getGfLow() {
         return getFieldByNumber(2, Integer.class);
     }
 
+    public int getGfLow(final int defaultValue) {
+        return getIntFieldByNumber(2, defaultValue);
+    }
+
     @Nullable
     public Integer getGfHigh() {
         return getFieldByNumber(3, Integer.class);
     }
 
+    public int getGfHigh(final int defaultValue) {
+        return getIntFieldByNumber(3, defaultValue);
+    }
+
     @Nullable
     public Integer getWaterType() {
         return getFieldByNumber(4, Integer.class);
     }
 
+    public int getWaterType(final int defaultValue) {
+        return getIntFieldByNumber(4, defaultValue);
+    }
+
     @Nullable
     public Float getWaterDensity() {
         return getFieldByNumber(5, Float.class);
     }
 
+    public float getWaterDensity(final float defaultValue) {
+        return getFloatFieldByNumber(5, defaultValue);
+    }
+
     @Nullable
     public Float getPo2Warn() {
         return getFieldByNumber(6, Float.class);
     }
 
+    public float getPo2Warn(final float defaultValue) {
+        return getFloatFieldByNumber(6, defaultValue);
+    }
+
     @Nullable
     public Float getPo2Critical() {
         return getFieldByNumber(7, Float.class);
     }
 
+    public float getPo2Critical(final float defaultValue) {
+        return getFloatFieldByNumber(7, defaultValue);
+    }
+
     @Nullable
     public Float getPo2Deco() {
         return getFieldByNumber(8, Float.class);
     }
 
+    public float getPo2Deco(final float defaultValue) {
+        return getFloatFieldByNumber(8, defaultValue);
+    }
+
     @Nullable
     public Integer getSafetyStopEnabled() {
         return getFieldByNumber(9, Integer.class);
     }
 
+    public int getSafetyStopEnabled(final int defaultValue) {
+        return getIntFieldByNumber(9, defaultValue);
+    }
+
     @Nullable
     public Float getBottomDepth() {
         return getFieldByNumber(10, Float.class);
     }
 
+    public float getBottomDepth(final float defaultValue) {
+        return getFloatFieldByNumber(10, defaultValue);
+    }
+
     @Nullable
     public Long getBottomTime() {
         return getFieldByNumber(11, Long.class);
     }
 
+    public long getBottomTime(final long defaultValue) {
+        return getLongFieldByNumber(11, defaultValue);
+    }
+
     @Nullable
     public Integer getApneaCountdownEnabled() {
         return getFieldByNumber(12, Integer.class);
     }
 
+    public int getApneaCountdownEnabled(final int defaultValue) {
+        return getIntFieldByNumber(12, defaultValue);
+    }
+
     @Nullable
     public Long getApneaCountdownTime() {
         return getFieldByNumber(13, Long.class);
     }
 
+    public long getApneaCountdownTime(final long defaultValue) {
+        return getLongFieldByNumber(13, defaultValue);
+    }
+
     @Nullable
     public Integer getBacklightMode() {
         return getFieldByNumber(14, Integer.class);
     }
 
+    public int getBacklightMode(final int defaultValue) {
+        return getIntFieldByNumber(14, defaultValue);
+    }
+
     @Nullable
     public Integer getBacklightBrightness() {
         return getFieldByNumber(15, Integer.class);
     }
 
+    public int getBacklightBrightness(final int defaultValue) {
+        return getIntFieldByNumber(15, defaultValue);
+    }
+
     @Nullable
     public Integer getBacklightTimeout() {
         return getFieldByNumber(16, Integer.class);
     }
 
+    public int getBacklightTimeout(final int defaultValue) {
+        return getIntFieldByNumber(16, defaultValue);
+    }
+
     @Nullable
     public Integer getRepeatDiveInterval() {
         return getFieldByNumber(17, Integer.class);
     }
 
+    public int getRepeatDiveInterval(final int defaultValue) {
+        return getIntFieldByNumber(17, defaultValue);
+    }
+
     @Nullable
     public Integer getSafetyStopTime() {
         return getFieldByNumber(18, Integer.class);
     }
 
+    public int getSafetyStopTime(final int defaultValue) {
+        return getIntFieldByNumber(18, defaultValue);
+    }
+
     @Nullable
     public Integer getHeartRateSourceType() {
         return getFieldByNumber(19, Integer.class);
     }
 
+    public int getHeartRateSourceType(final int defaultValue) {
+        return getIntFieldByNumber(19, defaultValue);
+    }
+
     @Nullable
     public Integer getHeartRateSource() {
         return getFieldByNumber(20, Integer.class);
     }
 
+    public int getHeartRateSource(final int defaultValue) {
+        return getIntFieldByNumber(20, defaultValue);
+    }
+
     @Nullable
     public Integer getTravelGas() {
         return getFieldByNumber(21, Integer.class);
     }
 
+    public int getTravelGas(final int defaultValue) {
+        return getIntFieldByNumber(21, defaultValue);
+    }
+
     @Nullable
     public Integer getCcrLowSetpointSwitchMode() {
         return getFieldByNumber(22, Integer.class);
     }
 
+    public int getCcrLowSetpointSwitchMode(final int defaultValue) {
+        return getIntFieldByNumber(22, defaultValue);
+    }
+
     @Nullable
     public Float getCcrLowSetpoint() {
         return getFieldByNumber(23, Float.class);
     }
 
+    public float getCcrLowSetpoint(final float defaultValue) {
+        return getFloatFieldByNumber(23, defaultValue);
+    }
+
     @Nullable
     public Double getCcrLowSetpointDepth() {
         return getFieldByNumber(24, Double.class);
     }
 
+    public double getCcrLowSetpointDepth(final double defaultValue) {
+        return getDoubleFieldByNumber(24, defaultValue);
+    }
+
     @Nullable
     public Integer getCcrHighSetpointSwitchMode() {
         return getFieldByNumber(25, Integer.class);
     }
 
+    public int getCcrHighSetpointSwitchMode(final int defaultValue) {
+        return getIntFieldByNumber(25, defaultValue);
+    }
+
     @Nullable
     public Float getCcrHighSetpoint() {
         return getFieldByNumber(26, Float.class);
     }
 
+    public float getCcrHighSetpoint(final float defaultValue) {
+        return getFloatFieldByNumber(26, defaultValue);
+    }
+
     @Nullable
     public Double getCcrHighSetpointDepth() {
         return getFieldByNumber(27, Double.class);
     }
 
+    public double getCcrHighSetpointDepth(final double defaultValue) {
+        return getDoubleFieldByNumber(27, defaultValue);
+    }
+
     @Nullable
     public Integer getGasConsumptionDisplay() {
         return getFieldByNumber(29, Integer.class);
     }
 
+    public int getGasConsumptionDisplay(final int defaultValue) {
+        return getIntFieldByNumber(29, defaultValue);
+    }
+
     @Nullable
     public Integer getUpKeyEnabled() {
         return getFieldByNumber(30, Integer.class);
     }
 
+    public int getUpKeyEnabled(final int defaultValue) {
+        return getIntFieldByNumber(30, defaultValue);
+    }
+
     @Nullable
     public Integer getDiveSounds() {
         return getFieldByNumber(35, Integer.class);
     }
 
+    public int getDiveSounds(final int defaultValue) {
+        return getIntFieldByNumber(35, defaultValue);
+    }
+
     @Nullable
     public Float getLastStopMultiple() {
         return getFieldByNumber(36, Float.class);
     }
 
+    public float getLastStopMultiple(final float defaultValue) {
+        return getFloatFieldByNumber(36, defaultValue);
+    }
+
     @Nullable
     public Integer getNoFlyTimeMode() {
         return getFieldByNumber(37, Integer.class);
     }
 
+    public int getNoFlyTimeMode(final int defaultValue) {
+        return getIntFieldByNumber(37, defaultValue);
+    }
+
     @Nullable
     public Long getTimestamp() {
         return getFieldByNumber(253, Long.class);
@@ -214,6 +342,10 @@ public class FitDiveSettings extends RecordData {
         return getFieldByNumber(254, Integer.class);
     }
 
+    public int getMessageIndex(final int defaultValue) {
+        return getIntFieldByNumber(254, defaultValue);
+    }
+
     /**
      * @noinspection unused
      */
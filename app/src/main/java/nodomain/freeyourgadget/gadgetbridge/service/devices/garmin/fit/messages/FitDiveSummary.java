@@ -44,111 +44,199 @@ public class FitDiveSummary extends RecordData {
         return getFieldByNumber(0, Integer.class);
     }
 
+    public int getReferenceMesg(final int defaultValue) {
+        return getIntFieldByNumber(0, defaultValue);
+    }
+
     @Nullable
     public Integer getReferenceIndex() {
         return getFieldByNumber(1, Integer.class);
     }
 
+    public int getReferenceIndex(final int defaultValue) {
+        return getIntFieldByNumber(1, defaultValue);
+    }
+
     @Nullable
     public Double getAvgDepth() {
         return getFieldByNumber(2, Double.class);
     }
 
+    public double getAvgDepth(final double defaultValue) {
+        return getDoubleFieldByNumber(2, defaultValue);
+    }
+
     @Nullable
     public Double getMaxDepth() {
         return getFieldByNumber(3, Double.class);
     }
 
+    public double getMaxDepth(final double defaultValue) {
+        return getDoubleFieldByNumber(3, defaultValue);
+    }
+
     @Nullable
     public Long getSurfaceInterval() {
         return getFieldByNumber(4, Long.class);
     }
 
+    public long getSurfaceInterval(final long defaultValue) {
+        return getLongFieldByNumber(4, defaultValue);
+    }
+
     @Nullable
     public Integer getStartCns() {
         return getFieldByNumber(5, Integer.class);
     }
 
+    public int getStartCns(final int defaultValue) {
+        return getIntFieldByNumber(5, defaultValue);
+    }
+
     @Nullable
     public Integer getEndCns() {
         return getFieldByNumber(6, Integer.class);
     }
 
+    public int getEndCns(final int defaultValue) {
+        return getIntFieldByNumber(6, defaultValue);
+    }
+
     @Nullable
     public Integer getStartN2() {
         return getFieldByNumber(7, Integer.class);
     }
 
+    public int getStartN2(final int defaultValue) {
+        return getIntFieldByNumber(7, defaultValue);
+    }
+
     @Nullable
     public Integer getEndN2() {
         return getFieldByNumber(8, Integer.class);
     }
 
+    public int getEndN2(final int defaultValue) {
+        return getIntFieldByNumber(8, defaultValue);
+    }
+
     @Nullable
     public Integer getO2Toxicity() {
         return getFieldByNumber(9, Integer.class);
     }
 
+    public int getO2Toxicity(final int defaultValue) {
+        return getIntFieldByNumber(9, defaultValue);
+    }
+
     @Nullable
     public Long getDiveNumber() {
         return getFieldByNumber(10, Long.class);
     }
 
+    public long getDiveNumber(final long defaultValue) {
+        return getLongFieldByNumber(10, defaultValue);
+    }
+
     @Nullable
     public Double getBottomTime() {
         return getFieldByNumber(11, Double.class);
     }
 
+    public double getBottomTime(final double defaultValue) {
+        return getDoubleFieldByNumber(11, defaultValue);
+    }
+
     @Nullable
     public Float getAvgPressureSac() {
         return getFieldByNumber(12, Float.class);
     }
 
+    public float getAvgPressureSac(final float defaultValue) {
+        return getFloatFieldByNumber(12, defaultValue);
+    }
+
     @Nullable
     public Float getAvgVolumeSac() {
         return getFieldByNumber(13, Float.class);
     }
 
+    public float getAvgVolumeSac(final float defaultValue) {
+        return getFloatFieldByNumber(13, defaultValue);
+    }
+
     @Nullable
     public Float getAvgRmv() {
         return getFieldByNumber(14, Float.class);
     }
 
+    public float getAvgRmv(final float defaultValue) {
+        return getFloatFieldByNumber(14, defaultValue);
+    }
+
     @Nullable
     public Double getDescentTime() {
         return getFieldByNumber(15, Double.class);
     }
 
+    public double getDescentTime(final double defaultValue) {
+        return getDoubleFieldByNumber(15, defaultValue);
+    }
+
     @Nullable
     public Double getAscentTime() {
         return getFieldByNumber(16, Double.class);
     }
 
+    public double getAscentTime(final double defaultValue) {
+        return getDoubleFieldByNumber(16, defaultValue);
+    }
+
     @Nullable
     public Double getAvgAscentRate() {
         return getFieldByNumber(17, Double.class);
     }
 
+    public double getAvgAscentRate(final double defaultValue) {
+        return getDoubleFieldByNumber(17, defaultValue);
+    }
+
     @Nullable
     public Double getAvgDescentRate() {
         return getFieldByNumber(22, Double.class);
     }
 
+    public double getAvgDescentRate(final double defaultValue) {
+        return getDoubleFieldByNumber(22, defaultValue);
+    }
+
     @Nullable
     public Double getMaxAscentRate() {
         return getFieldByNumber(23, Double.class);
     }
 
+    public double getMaxAscentRate(final double defaultValue) {
+        return getDoubleFieldByNumber(23, defaultValue);
+    }
+
     @Nullable
     public Double getMaxDescentRate() {
         return getFieldByNumber(24, Double.class);
     }
 
+    public double getMaxDescentRate(final double defaultValue) {
+        return getDoubleFieldByNumber(24, defaultValue);
+    }
+
     @Nullable
     public Double getHangTime() {
         return getFieldByNumber(25, Double.class);
     }
 
+    public double getHangTime(final double defaultValue) {
+        return getDoubleFieldByNumber(25, defaultValue);
+    }
+
     @Nullable
     public Long getTimestamp() {
         return getFieldByNumber(253, Long.class);
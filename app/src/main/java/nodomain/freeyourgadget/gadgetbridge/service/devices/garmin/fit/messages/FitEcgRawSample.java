@@ -44,6 +44,10 @@ public class FitEcgRawSample extends RecordData {
         return getFieldByNumber(0, Float.class);
     }
 
+    public float getValue(final float defaultValue) {
+        return getFloatFieldByNumber(0, defaultValue);
+    }
+
     /**
      * @noinspection unused
      */
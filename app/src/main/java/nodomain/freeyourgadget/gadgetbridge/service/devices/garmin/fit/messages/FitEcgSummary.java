@@ -44,21 +44,37 @@ public class FitEcgSummary extends RecordData {
         return getFieldByNumber(0, Integer.class);
     }
 
+    public int getUnknown0(final int defaultValue) {
+        return getIntFieldByNumber(0, defaultValue);
+    }
+
     @Nullable
     public Integer getUnknown1() {
         return getFieldByNumber(1, Integer.class);
     }
 
+    public int getUnknown1(final int defaultValue) {
+        return getIntFieldByNumber(1, defaultValue);
+    }
+
     @Nullable
     public Float getUnknown2() {
         return getFieldByNumber(2, Float.class);
     }
 
+    public float getUnknown2(final float defaultValue) {
+        return getFloatFieldByNumber(2, defaultValue);
+    }
+
     @Nullable
     public Float getUnknown3() {
         return getFieldByNumber(3, Float.class);
     }
 
+    public float getUnknown3(final float defaultValue) {
+        return getFloatFieldByNumber(3, defaultValue);
+    }
+
     @Nullable
     public Long getEcgTimestamp() {
         return getFieldByNumber(4, Long.class);
@@ -69,16 +85,28 @@ public class FitEcgSummary extends RecordData {
         return getFieldByNumber(5, Long.class);
     }
 
+    public long getLocalTimestamp(final long defaultValue) {
+        return getLongFieldByNumber(5, defaultValue);
+    }
+
     @Nullable
     public Integer getUnknown6() {
         return getFieldByNumber(6, Integer.class);
     }
 
+    public int getUnknown6(final int defaultValue) {
+        return getIntFieldByNumber(6, defaultValue);
+    }
+
     @Nullable
     public Float getAverageHeartRate() {
         return getFieldByNumber(7, Float.class);
     }
 
+    public float getAverageHeartRate(final float defaultValue) {
+        return getFloatFieldByNumber(7, defaultValue);
+    }
+
     @Nullable
     public String getUnknown10() {
         return getFieldByNumber(10, String.class);
@@ -89,11 +117,19 @@ public class FitEcgSummary extends RecordData {
         return getFieldByNumber(11, Integer.class);
     }
 
+    public int getUnknown11(final int defaultValue) {
+        return getIntFieldByNumber(11, defaultValue);
+    }
+
     @Nullable
     public Integer getUnknown12() {
         return getFieldByNumber(12, Integer.class);
     }
 
+    public int getUnknown12(final int defaultValue) {
+        return getIntFieldByNumber(12, defaultValue);
+    }
+
     /**
      * @noinspection unused
      */
@@ -44,56 +44,100 @@ public class FitEnduranceScore extends RecordData {
         return getFieldByNumber(0, Integer.class);
     }
 
+    public int getEnduranceScore(final int defaultValue) {
+        return getIntFieldByNumber(0, defaultValue);
+    }
+
     @Nullable
     public Integer getLevel() {
         return getFieldByNumber(1, Integer.class);
     }
 
+    public int getLevel(final int defaultValue) {
+        return getIntFieldByNumber(1, defaultValue);
+    }
+
     @Nullable
     public Integer getUnknown2() {
         return getFieldByNumber(2, Integer.class);
     }
 
+    public int getUnknown2(final int defaultValue) {
+        return getIntFieldByNumber(2, defaultValue);
+    }
+
     @Nullable
     public Integer getLowerBoundIntermediate() {
         return getFieldByNumber(3, Integer.class);
     }
 
+    public int getLowerBoundIntermediate(final int defaultValue) {
+        return getIntFieldByNumber(3, defaultValue);
+    }
+
     @Nullable
     public Integer getLowerBoundTrained() {
         return getFieldByNumber(4, Integer.class);
     }
 
+    public int getLowerBoundTrained(final int defaultValue) {
+        return getIntFieldByNumber(4, defaultValue);
+    }
+
     @Nullable
     public Integer getLowerBoundWellTrained() {
         return getFieldByNumber(5, Integer.class);
     }
 
+    public int getLowerBoundWellTrained(final int defaultValue) {
+        return getIntFieldByNumber(5, defaultValue);
+    }
+
     @Nullable
     public Integer getLowerBoundExpert() {
         return getFieldByNumber(6, Integer.class);
     }
 
+    public int getLowerBoundExpert(final int defaultValue) {
+        return getIntFieldByNumber(6, defaultValue);
+    }
+
     @Nullable
     public Integer getLowerBoundSuperior() {
         return getFieldByNumber(7, Integer.class);
     }
 
+    public int getLowerBoundSuperior(final int defaultValue) {
+        return getIntFieldByNumber(7, defaultValue);
+    }
+
     @Nullable
     public Integer getLowerBoundElite() {
         return getFieldByNumber(8, Integer.class);
     }
 
+    public int getLowerBoundElite(final int defaultValue) {
+        return getIntFieldByNumber(8, defaultValue);
+    }
+
     @Nullable
     public Integer getUnknown9() {
         return getFieldByNumber(9, Integer.class);
     }
 
+    public int getUnknown9(final int defaultValue) {
+        return getIntFieldByNumber(9, defaultValue);
+    }
+
     @Nullable
     public Integer getUnknown10() {
         return getFieldByNumber(10, Integer.class);
     }
 
+    public int getUnknown10(final int defaultValue) {
+        return getIntFieldByNumber(10, defaultValue);
+    }
+
     @Nullable
     public Long getTimestamp() {
         return getFieldByNumber(253, Long.class);
@@ -44,16 +44,28 @@ public class FitEpoStatus extends RecordData {
         return getFieldByNumber(0, Integer.class);
     }
 
+    public int getStatus(final int defaultValue) {
+        return getIntFieldByNumber(0, defaultValue);
+    }
+
     @Nullable
     public Long getStartTime() {
         return getFieldByNumber(1, Long.class);
     }
 
+    public long getStartTime(final long defaultValue) {
+        return getLongFieldByNumber(1, defaultValue);
+    }
+
     @Nullable
     public Long getEndTime() {
         return getFieldByNumber(2, Long.class);
     }
 
+    public long getEndTime(final long defaultValue) {
+        return getLongFieldByNumber(2, defaultValue);
+    }
+
     @Nullable
     public Long getTimestamp() {
         return getFieldByNumber(253, Long.class);
@@ -44,91 +44,163 @@ public class FitEvent extends RecordData {
         return getFieldByNumber(0, Integer.class);
     }
 
+    public int getEvent(final int defaultValue) {
+        return getIntFieldByNumber(0, defaultValue);
+    }
+
     @Nullable
     public Integer getEventType() {
         return getFieldByNumber(1, Integer.class);
     }
 
+    public int getEventType(final int defaultValue) {
+        return getIntFieldByNumber(1, defaultValue);
+    }
+
     @Nullable
     public Integer getData16() {
         return getFieldByNumber(2, Integer.class);
     }
 
+    public int getData16(final int defaultValue) {
+        return getIntFieldByNumber(2, defaultValue);
+    }
+
     @Nullable
     public Long getData() {
         return getFieldByNumber(3, Long.class);
     }
 
+    public long getData(final long defaultValue) {
+        return getLongFieldByNumber(3, defaultValue);
+    }
+
     @Nullable
     public Integer getEventGroup() {
         return getFieldByNumber(4, Integer.class);
     }
 
+    public int getEventGroup(final int defaultValue) {
+        return getIntFieldByNumber(4, defaultValue);
+    }
+
     @Nullable
     public Integer getScore() {
         return getFieldByNumber(7, Integer.class);
     }
 
+    public int getScore(final int defaultValue) {
+        return getIntFieldByNumber(7, defaultValue);
+    }
+
     @Nullable
     public Integer getOpponentScore() {
         return getFieldByNumber(8, Integer.class);
     }
 
+    public int getOpponentScore(final int defaultValue) {
+        return getIntFieldByNumber(8, defaultValue);
+    }
+
     @Nullable
     public Integer getFrontGearNum() {
         return getFieldByNumber(9, Integer.class);
     }
 
+    public int getFrontGearNum(final int defaultValue) {
+        return getIntFieldByNumber(9, defaultValue);
+    }
+
     @Nullable
     public Integer getFrontGear() {
         return getFieldByNumber(10, Integer.class);
     }
 
+    public int getFrontGear(final int defaultValue) {
+        return getIntFieldByNumber(10, defaultValue);
+    }
+
     @Nullable
     public Integer getRearGearNum() {
         return getFieldByNumber(11, Integer.class);
     }
 
+    public int getRearGearNum(final int defaultValue) {
+        return getIntFieldByNumber(11, defaultValue);
+    }
+
     @Nullable
     public Integer getRearGear() {
         return getFieldByNumber(12, Integer.class);
     }
 
+    public int getRearGear(final int defaultValue) {
+        return getIntFieldByNumber(12, defaultValue);
+    }
+
     @Nullable
     public Integer getDeviceIndex() {
         return getFieldByNumber(13, Integer.class);
     }
 
+    public int getDeviceIndex(final int defaultValue) {
+        return getIntFieldByNumber(13, defaultValue);
+    }
+
     @Nullable
     public Integer getActivityType() {
         return getFieldByNumber(14, Integer.class);
     }
 
+    public int getActivityType(final int defaultValue) {
+        return getIntFieldByNumber(14, defaultValue);
+    }
+
     @Nullable
     public Long getStartTimestamp() {
         return getFieldByNumber(15, Long.class);
     }
 
+    public long getStartTimestamp(final long defaultValue) {
+        return getLongFieldByNumber(15, defaultValue);
+    }
+
     @Nullable
     public Integer getRadarThreatLevelMax() {
         return getFieldByNumber(21, Integer.class);
     }
 
+    public int getRadarThreatLevelMax(final int defaultValue) {
+        return getIntFieldByNumber(21, defaultValue);
+    }
+
     @Nullable
     public Integer getRadarThreatCount() {
         return getFieldByNumber(22, Integer.class);
     }
 
+    public int getRadarThreatCount(final int defaultValue) {
+        return getIntFieldByNumber(22, defaultValue);
+    }
+
     @Nullable
     public Float getRadarThreatAvgApproachSpeed() {
         return getFieldByNumber(23, Float.class);
     }
 
+    public float getRadarThreatAvgApproachSpeed(final float defaultValue) {
+        return getFloatFieldByNumber(23, defaultValue);
+    }
+
     @Nullable
     public Float getRadarThreatMaxApproachSpeed() {
         return getFieldByNumber(24, Float.class);
     }
 
+    public float getRadarThreatMaxApproachSpeed(final float defaultValue) {
+        return getFloatFieldByNumber(24, defaultValue);
+    }
+
     @Nullable
     public Long getTimestamp() {
         return getFieldByNumber(253, Long.class);
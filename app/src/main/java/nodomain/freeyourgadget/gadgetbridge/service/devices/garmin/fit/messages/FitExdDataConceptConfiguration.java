@@ -44,51 +44,91 @@ public class FitExdDataConceptConfiguration extends RecordData {
         return getFieldByNumber(0, Integer.class);
     }
 
+    public int getScreenIndex(final int defaultValue) {
+        return getIntFieldByNumber(0, defaultValue);
+    }
+
     @Nullable
     public Integer getConceptField() {
         return getFieldByNumber(1, Integer.class);
     }
 
+    public int getConceptField(final int defaultValue) {
+        return getIntFieldByNumber(1, defaultValue);
+    }
+
     @Nullable
     public Integer getFieldId() {
         return getFieldByNumber(2, Integer.class);
     }
 
+    public int getFieldId(final int defaultValue) {
+        return getIntFieldByNumber(2, defaultValue);
+    }
+
     @Nullable
     public Integer getConceptCount() {
         return getFieldByNumber(3, Integer.class);
     }
 
+    public int getConceptCount(final int defaultValue) {
+        return getIntFieldByNumber(3, defaultValue);
+    }
+
     @Nullable
     public Integer getDataPage() {
         return getFieldByNumber(4, Integer.class);
     }
 
+    public int getDataPage(final int defaultValue) {
+        return getIntFieldByNumber(4, defaultValue);
+    }
+
     @Nullable
     public Integer getConceptKey() {
         return getFieldByNumber(5, Integer.class);
     }
 
+    public int getConceptKey(final int defaultValue) {
+        return getIntFieldByNumber(5, defaultValue);
+    }
+
     @Nullable
     public Integer getScaling() {
         return getFieldByNumber(6, Integer.class);
     }
 
+    public int getScaling(final int defaultValue) {
+        return getIntFieldByNumber(6, defaultValue);
+    }
+
     @Nullable
     public Integer getDataUnits() {
         return getFieldByNumber(8, Integer.class);
     }
 
+    public int getDataUnits(final int defaultValue) {
+        return getIntFieldByNumber(8, defaultValue);
+    }
+
     @Nullable
     public Integer getQualifier() {
         return getFieldByNumber(9, Integer.class);
     }
 
+    public int getQualifier(final int defaultValue) {
+        return getIntFieldByNumber(9, defaultValue);
+    }
+
     @Nullable
     public Integer getDescriptor() {
         return getFieldByNumber(10, Integer.class);
     }
 
+    public int getDescriptor(final int defaultValue) {
+        return getIntFieldByNumber(10, defaultValue);
+    }
+
     @Nullable
     public Boolean getIsSigned() {
         return getFieldByNumber(11, Boolean.class);
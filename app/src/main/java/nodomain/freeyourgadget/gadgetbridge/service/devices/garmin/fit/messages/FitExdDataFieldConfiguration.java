@@ -44,26 +44,46 @@ public class FitExdDataFieldConfiguration extends RecordData {
         return getFieldByNumber(0, Integer.class);
     }
 
+    public int getScreenIndex(final int defaultValue) {
+        return getIntFieldByNumber(0, defaultValue);
+    }
+
     @Nullable
     public Integer getConceptField() {
         return getFieldByNumber(1, Integer.class);
     }
 
+    public int getConceptField(final int defaultValue) {
+        return getIntFieldByNumber(1, defaultValue);
+    }
+
     @Nullable
     public Integer getFieldId() {
         return getFieldByNumber(2, Integer.class);
     }
 
+    public int getFieldId(final int defaultValue) {
+        return getIntFieldByNumber(2, defaultValue);
+    }
+
     @Nullable
     public Integer getConceptCount() {
         return getFieldByNumber(3, Integer.class);
     }
 
+    public int getConceptCount(final int defaultValue) {
+        return getIntFieldByNumber(3, defaultValue);
+    }
+
     @Nullable
     public Integer getDisplayType() {
         return getFieldByNumber(4, Integer.class);
     }
 
+    public int getDisplayType(final int defaultValue) {
+        return getIntFieldByNumber(4, defaultValue);
+    }
+
     @Nullable
     public String getTitle() {
         return getFieldByNumber(5, String.class);
@@ -44,16 +44,28 @@ public class FitExdScreenConfiguration extends RecordData {
         return getFieldByNumber(0, Integer.class);
     }
 
+    public int getScreenIndex(final int defaultValue) {
+        return getIntFieldByNumber(0, defaultValue);
+    }
+
     @Nullable
     public Integer getFieldCount() {
         return getFieldByNumber(1, Integer.class);
     }
 
+    public int getFieldCount(final int defaultValue) {
+        return getIntFieldByNumber(1, defaultValue);
+    }
+
     @Nullable
     public Integer getLayout() {
         return getFieldByNumber(2, Integer.class);
     }
 
+    public int getLayout(final int defaultValue) {
+        return getIntFieldByNumber(2, defaultValue);
+    }
+
     @Nullable
     public Boolean getScreenEnabled() {
         return getFieldByNumber(3, Boolean.class);
@@ -44,11 +44,19 @@ public class FitExerciseTitle extends RecordData {
         return getFieldByNumber(0, Integer.class);
     }
 
+    public int getExerciseCategory(final int defaultValue) {
+        return getIntFieldByNumber(0, defaultValue);
+    }
+
     @Nullable
     public Integer getExerciseName() {
         return getFieldByNumber(1, Integer.class);
     }
 
+    public int getExerciseName(final int defaultValue) {
+        return getIntFieldByNumber(1, defaultValue);
+    }
+
     @Nullable
     public String getWktStepName() {
         return getFieldByNumber(2, String.class);
@@ -59,6 +67,10 @@ public class FitExerciseTitle extends RecordData {
         return getFieldByNumber(254, Integer.class);
     }
 
+    public int getMessageIndex(final int defaultValue) {
+        return getIntFieldByNumber(254, defaultValue);
+    }
+
     /**
      * @noinspection unused
      */
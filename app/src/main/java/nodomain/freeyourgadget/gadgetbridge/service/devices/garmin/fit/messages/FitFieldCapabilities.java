@@ -44,26 +44,46 @@ public class FitFieldCapabilities extends RecordData {
         return getFieldByNumber(0, Integer.class);
     }
 
+    public int getFile(final int defaultValue) {
+        return getIntFieldByNumber(0, defaultValue);
+    }
+
     @Nullable
     public Integer getMesgNum() {
         return getFieldByNumber(1, Integer.class);
     }
 
+    public int getMesgNum(final int defaultValue) {
+        return getIntFieldByNumber(1, defaultValue);
+    }
+
     @Nullable
     public Integer getFieldNum() {
         return getFieldByNumber(2, Integer.class);
     }
 
+    public int getFieldNum(final int defaultValue) {
+        return getIntFieldByNumber(2, defaultValue);
+    }
+
     @Nullable
     public Integer getCount() {
         return getFieldByNumber(3, Integer.class);
     }
 
+    public int getCount(final int defaultValue) {
+        return getIntFieldByNumber(3, defaultValue);
+    }
+
     @Nullable
     public Integer getMessageIndex() {
         return getFieldByNumber(254, Integer.class);
     }
 
+    public int getMessageIndex(final int defaultValue) {
+        return getIntFieldByNumber(254, defaultValue);
+    }
+
     /**
      * @noinspection unused
      */
@@ -44,16 +44,28 @@ public class FitFieldDescription extends RecordData {
         return getFieldByNumber(0, Integer.class);
     }
 
+    public int getDeveloperDataIndex(final int defaultValue) {
+        return getIntFieldByNumber(0, defaultValue);
+    }
+
     @Nullable
     public Integer getFieldDefinitionNumber() {
         return getFieldByNumber(1, Integer.class);
     }
 
+    public int getFieldDefinitionNumber(final int defaultValue) {
+        return getIntFieldByNumber(1, defaultValue);
+    }
+
     @Nullable
     public Integer getFitBaseTypeId() {
         return getFieldByNumber(2, Integer.class);
     }
 
+    public int getFitBaseTypeId(final int defaultValue) {
+        return getIntFieldByNumber(2, defaultValue);
+    }
+
     @Nullable
     public String getFieldName() {
         return getFieldByNumber(3, String.class);
@@ -64,6 +76,10 @@ public class FitFieldDescription extends RecordData {
         return getFieldByNumber(4, Integer.class);
     }
 
+    public int getArray(final int defaultValue) {
+        return getIntFieldByNumber(4, defaultValue);
+    }
+
     @Nullable
     public String getComponents() {
         return getFieldByNumber(5, String.class);
@@ -74,11 +90,19 @@ public class FitFieldDescription extends RecordData {
         return getFieldByNumber(6, Integer.class);
     }
 
+    public int getScale(final int defaultValue) {
+        return getIntFieldByNumber(6, defaultValue);
+    }
+
     @Nullable
     public Integer getOffset() {
         return getFieldByNumber(7, Integer.class);
     }
 
+    public int getOffset(final int defaultValue) {
+        return getIntFieldByNumber(7, defaultValue);
+    }
+
     @Nullable
     public String getUnits() {
         return getFieldByNumber(8, String.class);
@@ -99,16 +123,28 @@ public class FitFieldDescription extends RecordData {
         return getFieldByNumber(13, Integer.class);
     }
 
+    public int getFitBaseUnitId(final int defaultValue) {
+        return getIntFieldByNumber(13, defaultValue);
+    }
+
     @Nullable
     public Integer getNativeMesgNum() {
         return getFieldByNumber(14, Integer.class);
     }
 
+    public int getNativeMesgNum(final int defaultValue) {
+        return getIntFieldByNumber(14, defaultValue);
+    }
+
     @Nullable
     public Integer getNativeFieldNum() {
         return getFieldByNumber(15, Integer.class);
     }
 
+    public int getNativeFieldNum(final int defaultValue) {
+        return getIntFieldByNumber(15, defaultValue);
+    }
+
     /**
      * @noinspection unused
      */
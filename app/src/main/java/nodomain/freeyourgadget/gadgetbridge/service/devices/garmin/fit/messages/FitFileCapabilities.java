@@ -44,11 +44,19 @@ public class FitFileCapabilities extends RecordData {
         return getFieldByNumber(0, Integer.class);
     }
 
+    public int getType(final int defaultValue) {
+        return getIntFieldByNumber(0, defaultValue);
+    }
+
     @Nullable
     public Integer getFlags() {
         return getFieldByNumber(1, Integer.class);
     }
 
+    public int getFlags(final int defaultValue) {
+        return getIntFieldByNumber(1, defaultValue);
+    }
+
     @Nullable
     public String getDirectory() {
         return getFieldByNumber(2, String.class);
@@ -59,16 +67,28 @@ public class FitFileCapabilities extends RecordData {
         return getFieldByNumber(3, Integer.class);
     }
 
+    public int getMaxCount(final int defaultValue) {
+        return getIntFieldByNumber(3, defaultValue);
+    }
+
     @Nullable
     public Long getMaxSize() {
         return getFieldByNumber(4, Long.class);
     }
 
+    public long getMaxSize(final long defaultValue) {
+        return getLongFieldByNumber(4, defaultValue);
+    }
+
     @Nullable
     public Integer getMessageIndex() {
         return getFieldByNumber(254, Integer.class);
     }
 
+    public int getMessageIndex(final int defaultValue) {
+        return getIntFieldByNumber(254, defaultValue);
+    }
+
     /**
      * @noinspection unused
      */
@@ -44,11 +44,19 @@ public class FitFileCreator extends RecordData {
         return getFieldByNumber(0, Integer.class);
     }
 
+    public int getSoftwareVersion(final int defaultValue) {
+        return getIntFieldByNumber(0, defaultValue);
+    }
+
     @Nullable
     public Integer getHardwareVersion() {
         return getFieldByNumber(1, Integer.class);
     }
 
+    public int getHardwareVersion(final int defaultValue) {
+        return getIntFieldByNumber(1, defaultValue);
+    }
+
     /**
      * @noinspection unused
      */
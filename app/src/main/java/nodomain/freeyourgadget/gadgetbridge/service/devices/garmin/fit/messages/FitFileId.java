@@ -50,16 +50,28 @@ public class FitFileId extends RecordData {
         return getFieldByNumber(1, Integer.class);
     }
 
+    public int getManufacturer(final int defaultValue) {
+        return getIntFieldByNumber(1, defaultValue);
+    }
+
     @Nullable
     public Integer getProduct() {
         return getFieldByNumber(2, Integer.class);
     }
 
+    public int getProduct(final int defaultValue) {
+        return getIntFieldByNumber(2, defaultValue);
+    }
+
     @Nullable
     public Long getSerialNumber() {
         return getFieldByNumber(3, Long.class);
     }
 
+    public long getSerialNumber(final long defaultValue) {
+        return getLongFieldByNumber(3, defaultValue);
+    }
+
     @Nullable
     public Long getTimeCreated() {
         return getFieldByNumber(4, Long.class);
@@ -70,11 +82,19 @@ public class FitFileId extends RecordData {
         return getFieldByNumber(5, Integer.class);
     }
 
+    public int getNumber(final int defaultValue) {
+        return getIntFieldByNumber(5, defaultValue);
+    }
+
     @Nullable
     public Integer getManufacturerPartner() {
         return getFieldByNumber(6, Integer.class);
     }
 
+    public int getManufacturerPartner(final int defaultValue) {
+        return getIntFieldByNumber(6, defaultValue);
+    }
+
     @Nullable
     public String getProductName() {
         return getFieldByNumber(8, String.class);
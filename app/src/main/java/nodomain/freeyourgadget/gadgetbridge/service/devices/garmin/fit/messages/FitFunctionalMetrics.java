@@ -44,61 +44,109 @@ public class FitFunctionalMetrics extends RecordData {
         return getFieldByNumber(0, Integer.class);
     }
 
+    public int getUnknown0(final int defaultValue) {
+        return getIntFieldByNumber(0, defaultValue);
+    }
+
     @Nullable
     public Long getUnknown2() {
         return getFieldByNumber(2, Long.class);
     }
 
+    public long getUnknown2(final long defaultValue) {
+        return getLongFieldByNumber(2, defaultValue);
+    }
+
     @Nullable
     public Long getUnknown3() {
         return getFieldByNumber(3, Long.class);
     }
 
+    public long getUnknown3(final long defaultValue) {
+        return getLongFieldByNumber(3, defaultValue);
+    }
+
     @Nullable
     public Integer getFunctionalThresholdPower() {
         return getFieldByNumber(4, Integer.class);
     }
 
+    public int getFunctionalThresholdPower(final int defaultValue) {
+        return getIntFieldByNumber(4, defaultValue);
+    }
+
     @Nullable
     public Integer getUnknown5() {
         return getFieldByNumber(5, Integer.class);
     }
 
+    public int getUnknown5(final int defaultValue) {
+        return getIntFieldByNumber(5, defaultValue);
+    }
+
     @Nullable
     public Integer getUnknown6() {
         return getFieldByNumber(6, Integer.class);
     }
 
+    public int getUnknown6(final int defaultValue) {
+        return getIntFieldByNumber(6, defaultValue);
+    }
+
     @Nullable
     public Integer getRunningLactateThresholdPower() {
         return getFieldByNumber(7, Integer.class);
     }
 
+    public int getRunningLactateThresholdPower(final int defaultValue) {
+        return getIntFieldByNumber(7, defaultValue);
+    }
+
     @Nullable
     public Integer getRunningLactateThresholdHr() {
         return getFieldByNumber(8, Integer.class);
     }
 
+    public int getRunningLactateThresholdHr(final int defaultValue) {
+        return getIntFieldByNumber(8, defaultValue);
+    }
+
     @Nullable
     public Integer getCyclingLactaceThresholdHr() {
         return getFieldByNumber(9, Integer.class);
     }
 
+    public int getCyclingLactaceThresholdHr(final int defaultValue) {
+        return getIntFieldByNumber(9, defaultValue);
+    }
+
     @Nullable
     public Integer getUnknown10() {
         return getFieldByNumber(10, Integer.class);
     }
 
+    public int getUnknown10(final int defaultValue) {
+        return getIntFieldByNumber(10, defaultValue);
+    }
+
     @Nullable
     public Integer getUnknown11() {
         return getFieldByNumber(11, Integer.class);
     }
 
+    public int getUnknown11(final int defaultValue) {
+        return getIntFieldByNumber(11, defaultValue);
+    }
+
     @Nullable
     public Integer getUnknown12() {
         return getFieldByNumber(12, Integer.class);
     }
 
+    public int getUnknown12(final int defaultValue) {
+        return getIntFieldByNumber(12, defaultValue);
+    }
+
     @Nullable
     public Long getTimestamp() {
         return getFieldByNumber(253, Long.class);
@@ -46,21 +46,37 @@ public class FitGoals extends RecordData {
         return getFieldByNumber(0, Integer.class);
     }
 
+    public int getSport(final int defaultValue) {
+        return getIntFieldByNumber(0, defaultValue);
+    }
+
     @Nullable
     public Integer getSubSport() {
         return getFieldByNumber(1, Integer.class);
     }
 
+    public int getSubSport(final int defaultValue) {
+        return getIntFieldByNumber(1, defaultValue);
+    }
+
     @Nullable
     public Long getStartDate() {
         return getFieldByNumber(2, Long.class);
     }
 
+    public long getStartDate(final long defaultValue) {
+        return getLongFieldByNumber(2, defaultValue);
+    }
+
     @Nullable
     public Long getEndDate() {
         return getFieldByNumber(3, Long.class);
     }
 
+    public long getEndDate(final long defaultValue) {
+        return getLongFieldByNumber(3, defaultValue);
+    }
+
     @Nullable
     public Type getType() {
         return getFieldByNumber(4, Type.class);
@@ -71,31 +87,55 @@ public class FitGoals extends RecordData {
         return getFieldByNumber(5, Long.class);
     }
 
+    public long getValue(final long defaultValue) {
+        return getLongFieldByNumber(5, defaultValue);
+    }
+
     @Nullable
     public Integer getRepeat() {
         return getFieldByNumber(6, Integer.class);
     }
 
+    public int getRepeat(final int defaultValue) {
+        return getIntFieldByNumber(6, defaultValue);
+    }
+
     @Nullable
     public Long getTargetValue() {
         return getFieldByNumber(7, Long.class);
     }
 
+    public long getTargetValue(final long defaultValue) {
+        return getLongFieldByNumber(7, defaultValue);
+    }
+
     @Nullable
     public Integer getRecurrence() {
         return getFieldByNumber(8, Integer.class);
     }
 
+    public int getRecurrence(final int defaultValue) {
+        return getIntFieldByNumber(8, defaultValue);
+    }
+
     @Nullable
     public Integer getRecurrenceValue() {
         return getFieldByNumber(9, Integer.class);
     }
 
+    public int getRecurrenceValue(final int defaultValue) {
+        return getIntFieldByNumber(9, defaultValue);
+    }
+
     @Nullable
     public Integer getEnabled() {
         return getFieldByNumber(10, Integer.class);
     }
 
+    public int getEnabled(final int defaultValue) {
+        return getIntFieldByNumber(10, defaultValue);
+    }
+
     @Nullable
     public Source getSource() {
         return getFieldByNumber(11, Source.class);
@@ -106,6 +146,10 @@ public class FitGoals extends RecordData {
         return getFieldByNumber(254, Integer.class);
     }
 
+    public int getMessageIndex(final int defaultValue) {
+        return getIntFieldByNumber(254, defaultValue);
+    }
+
     /**
      * @noinspection unused
      */
@@ -44,11 +44,19 @@ public class FitGpsEvent extends RecordData {
         return getFieldByNumber(0, Long.class);
     }
 
+    public long getEventType(final long defaultValue) {
+        return getLongFieldByNumber(0, defaultValue);
+    }
+
     @Nullable
     public Long getData() {
         return getFieldByNumber(1, Long.class);
     }
 
+    public long getData(final long defaultValue) {
+        return getLongFieldByNumber(1, defaultValue);
+    }
+
     @Nullable
     public Long getTimestamp() {
         return getFieldByNumber(253, Long.class);
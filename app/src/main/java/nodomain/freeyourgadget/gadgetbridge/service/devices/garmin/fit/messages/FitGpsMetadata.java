@@ -44,6 +44,10 @@ public class FitGpsMetadata extends RecordData {
         return getFieldByNumber(0, Integer.class);
     }
 
+    public int getTimestampMs(final int defaultValue) {
+        return getIntFieldByNumber(0, defaultValue);
+    }
+
     @Nullable
     public Double getPositionLat() {
         return getFieldByNumber(1, Double.class);
@@ -59,21 +63,37 @@ public class FitGpsMetadata extends RecordData {
         return getFieldByNumber(3, Double.class);
     }
 
+    public double getEnhancedAltitude(final double defaultValue) {
+        return getDoubleFieldByNumber(3, defaultValue);
+    }
+
     @Nullable
     public Double getEnhancedSpeed() {
         return getFieldByNumber(4, Double.class);
     }
 
+    public double getEnhancedSpeed(final double defaultValue) {
+        return getDoubleFieldByNumber(4, defaultValue);
+    }
+
     @Nullable
     public Float getHeading() {
         return getFieldByNumber(5, Float.class);
     }
 
+    public float getHeading(final float defaultValue) {
+        return getFloatFieldByNumber(5, defaultValue);
+    }
+
     @Nullable
     public Long getUtcTimestamp() {
         return getFieldByNumber(6, Long.class);
     }
 
+    public long getUtcTimestamp(final long defaultValue) {
+        return getLongFieldByNumber(6, defaultValue);
+    }
+
     @Nullable
     public Number[] getVelocity() {
         return getArrayFieldByNumber(7, Number.class);
@@ -44,31 +44,55 @@ public class FitHillScore extends RecordData {
         return getFieldByNumber(0, Integer.class);
     }
 
+    public int getHillScore(final int defaultValue) {
+        return getIntFieldByNumber(0, defaultValue);
+    }
+
     @Nullable
     public Integer getHillStrength() {
         return getFieldByNumber(1, Integer.class);
     }
 
+    public int getHillStrength(final int defaultValue) {
+        return getIntFieldByNumber(1, defaultValue);
+    }
+
     @Nullable
     public Integer getHillEndurance() {
         return getFieldByNumber(2, Integer.class);
     }
 
+    public int getHillEndurance(final int defaultValue) {
+        return getIntFieldByNumber(2, defaultValue);
+    }
+
     @Nullable
     public Integer getUnknown3() {
         return getFieldByNumber(3, Integer.class);
     }
 
+    public int getUnknown3(final int defaultValue) {
+        return getIntFieldByNumber(3, defaultValue);
+    }
+
     @Nullable
     public Integer getUnknown4() {
         return getFieldByNumber(4, Integer.class);
     }
 
+    public int getUnknown4(final int defaultValue) {
+        return getIntFieldByNumber(4, defaultValue);
+    }
+
     @Nullable
     public Integer getUnknown5() {
         return getFieldByNumber(5, Integer.class);
     }
 
+    public int getUnknown5(final int defaultValue) {
+        return getIntFieldByNumber(5, defaultValue);
+    }
+
     @Nullable
     public Long getTimestamp() {
         return getFieldByNumber(253, Long.class);
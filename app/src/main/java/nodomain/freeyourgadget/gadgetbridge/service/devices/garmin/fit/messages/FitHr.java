@@ -44,11 +44,19 @@ public class FitHr extends RecordData {
         return getFieldByNumber(0, Float.class);
     }
 
+    public float getFractionalTimestamp(final float defaultValue) {
+        return getFloatFieldByNumber(0, defaultValue);
+    }
+
     @Nullable
     public Float getTime256() {
         return getFieldByNumber(1, Float.class);
     }
 
+    public float getTime256(final float defaultValue) {
+        return getFloatFieldByNumber(1, defaultValue);
+    }
+
     @Nullable
     public Number[] getFilteredBpm() {
         return getArrayFieldByNumber(6, Number.class);
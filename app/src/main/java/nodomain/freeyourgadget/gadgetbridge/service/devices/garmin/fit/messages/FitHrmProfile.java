@@ -49,21 +49,37 @@ public class FitHrmProfile extends RecordData {
         return getFieldByNumber(1, Integer.class);
     }
 
+    public int getHrmAntId(final int defaultValue) {
+        return getIntFieldByNumber(1, defaultValue);
+    }
+
     @Nullable
     public Integer getLogHrv() {
         return getFieldByNumber(2, Integer.class);
     }
 
+    public int getLogHrv(final int defaultValue) {
+        return getIntFieldByNumber(2, defaultValue);
+    }
+
     @Nullable
     public Integer getHrmAntIdTransType() {
         return getFieldByNumber(3, Integer.class);
     }
 
+    public int getHrmAntIdTransType(final int defaultValue) {
+        return getIntFieldByNumber(3, defaultValue);
+    }
+
     @Nullable
     public Integer getMessageIndex() {
         return getFieldByNumber(254, Integer.class);
     }
 
+    public int getMessageIndex(final int defaultValue) {
+        return getIntFieldByNumber(254, defaultValue);
+    }
+
     /**
      * @noinspection unused
      */
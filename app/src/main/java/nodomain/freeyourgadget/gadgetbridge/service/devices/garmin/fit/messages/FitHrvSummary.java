@@ -45,31 +45,55 @@ public class FitHrvSummary extends RecordData {
         return getFieldByNumber(0, Float.class);
     }
 
+    public float getWeeklyAverage(final float defaultValue) {
+        return getFloatFieldByNumber(0, defaultValue);
+    }
+
     @Nullable
     public Float getLastNightAverage() {
         return getFieldByNumber(1, Float.class);
     }
 
+    public float getLastNightAverage(final float defaultValue) {
+        return getFloatFieldByNumber(1, defaultValue);
+    }
+
     @Nullable
     public Float getLastNight5MinHigh() {
         return getFieldByNumber(2, Float.class);
     }
 
+    public float getLastNight5MinHigh(final float defaultValue) {
+        return getFloatFieldByNumber(2, defaultValue);
+    }
+
     @Nullable
     public Float getBaselineLowUpper() {
         return getFieldByNumber(3, Float.class);
     }
 
+    public float getBaselineLowUpper(final float defaultValue) {
+        return getFloatFieldByNumber(3, defaultValue);
+    }
+
     @Nullable
     public Float getBaselineBalancedLower() {
         return getFieldByNumber(4, Float.class);
     }
 
+    public float getBaselineBalancedLower(final float defaultValue) {
+        return getFloatFieldByNumber(4, defaultValue);
+    }
+
     @Nullable
     public Float getBaselineBalancedUpper() {
         return getFieldByNumber(5, Float.class);
     }
 
+    public float getBaselineBalancedUpper(final float defaultValue) {
+        return getFloatFieldByNumber(5, defaultValue);
+    }
+
     @Nullable
     public HrvStatus getStatus() {
         return getFieldByNumber(6, HrvStatus.class);
@@ -44,6 +44,10 @@ public class FitHrvValue extends RecordData {
         return getFieldByNumber(0, Float.class);
     }
 
+    public float getValue(final float defaultValue) {
+        return getFloatFieldByNumber(0, defaultValue);
+    }
+
     @Nullable
     public Long getTimestamp() {
         return getFieldByNumber(253, Long.class);
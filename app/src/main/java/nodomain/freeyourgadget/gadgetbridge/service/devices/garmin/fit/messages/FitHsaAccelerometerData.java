@@ -44,11 +44,19 @@ public class FitHsaAccelerometerData extends RecordData {
         return getFieldByNumber(0, Integer.class);
     }
 
+    public int getTimestampMs(final int defaultValue) {
+        return getIntFieldByNumber(0, defaultValue);
+    }
+
     @Nullable
     public Integer getSamplingInterval() {
         return getFieldByNumber(1, Integer.class);
     }
 
+    public int getSamplingInterval(final int defaultValue) {
+        return getIntFieldByNumber(1, defaultValue);
+    }
+
     @Nullable
     public Number[] getAccelX() {
         return getArrayFieldByNumber(2, Number.class);
@@ -69,6 +77,10 @@ public class FitHsaAccelerometerData extends RecordData {
         return getFieldByNumber(5, Long.class);
     }
 
+    public long getTimestamp32k(final long defaultValue) {
+        return getLongFieldByNumber(5, defaultValue);
+    }
+
     @Nullable
     public Long getTimestamp() {
         return getFieldByNumber(253, Long.class);
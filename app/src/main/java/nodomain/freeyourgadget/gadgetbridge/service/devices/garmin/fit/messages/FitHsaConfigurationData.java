@@ -49,6 +49,10 @@ public class FitHsaConfigurationData extends RecordData {
         return getFieldByNumber(1, Integer.class);
     }
 
+    public int getDataSize(final int defaultValue) {
+        return getIntFieldByNumber(1, defaultValue);
+    }
+
     @Nullable
     public Long getTimestamp() {
         return getFieldByNumber(253, Long.class);
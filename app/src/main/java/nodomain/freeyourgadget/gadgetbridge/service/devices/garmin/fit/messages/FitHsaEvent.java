@@ -44,6 +44,10 @@ public class FitHsaEvent extends RecordData {
         return getFieldByNumber(0, Integer.class);
     }
 
+    public int getEventId(final int defaultValue) {
+        return getIntFieldByNumber(0, defaultValue);
+    }
+
     @Nullable
     public Long getTimestamp() {
         return getFieldByNumber(253, Long.class);
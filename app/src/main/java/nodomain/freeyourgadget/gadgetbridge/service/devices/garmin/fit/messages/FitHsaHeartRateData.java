@@ -44,11 +44,19 @@ public class FitHsaHeartRateData extends RecordData {
         return getFieldByNumber(0, Integer.class);
     }
 
+    public int getProcessingInterval(final int defaultValue) {
+        return getIntFieldByNumber(0, defaultValue);
+    }
+
     @Nullable
     public Integer getStatus() {
         return getFieldByNumber(1, Integer.class);
     }
 
+    public int getStatus(final int defaultValue) {
+        return getIntFieldByNumber(1, defaultValue);
+    }
+
     @Nullable
     public Number[] getHeartRate() {
         return getArrayFieldByNumber(2, Number.class);
@@ -44,6 +44,10 @@ public class FitHsaStepData extends RecordData {
         return getFieldByNumber(0, Integer.class);
     }
 
+    public int getProcessingInterval(final int defaultValue) {
+        return getIntFieldByNumber(0, defaultValue);
+    }
+
     @Nullable
     public Number[] getSteps() {
         return getArrayFieldByNumber(1, Number.class);
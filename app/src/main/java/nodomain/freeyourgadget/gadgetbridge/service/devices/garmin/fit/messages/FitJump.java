@@ -44,26 +44,46 @@ public class FitJump extends RecordData {
         return getFieldByNumber(0, Float.class);
     }
 
+    public float getDistance(final float defaultValue) {
+        return getFloatFieldByNumber(0, defaultValue);
+    }
+
     @Nullable
     public Float getHeigh() {
         return getFieldByNumber(1, Float.class);
     }
 
+    public float getHeigh(final float defaultValue) {
+        return getFloatFieldByNumber(1, defaultValue);
+    }
+
     @Nullable
     public Integer getRotations() {
         return getFieldByNumber(2, Integer.class);
     }
 
+    public int getRotations(final int defaultValue) {
+        return getIntFieldByNumber(2, defaultValue);
+    }
+
     @Nullable
     public Float getHangTime() {
         return getFieldByNumber(3, Float.class);
     }
 
+    public float getHangTime(final float defaultValue) {
+        return getFloatFieldByNumber(3, defaultValue);
+    }
+
     @Nullable
     public Float getScore() {
         return getFieldByNumber(4, Float.class);
     }
 
+    public float getScore(final float defaultValue) {
+        return getFloatFieldByNumber(4, defaultValue);
+    }
+
     @Nullable
     public Double getPositionLat() {
         return getFieldByNumber(5, Double.class);
@@ -79,11 +99,19 @@ public class FitJump extends RecordData {
         return getFieldByNumber(7, Float.class);
     }
 
+    public float getSpeed(final float defaultValue) {
+        return getFloatFieldByNumber(7, defaultValue);
+    }
+
     @Nullable
     public Double getEnhancedSpeed() {
         return getFieldByNumber(8, Double.class);
     }
 
+    public double getEnhancedSpeed(final double defaultValue) {
+        return getDoubleFieldByNumber(8, defaultValue);
+    }
+
     @Nullable
     public Long getTimestamp() {
         return getFieldByNumber(253, Long.class);
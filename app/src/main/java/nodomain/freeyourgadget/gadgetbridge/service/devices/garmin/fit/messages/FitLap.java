@@ -45,16 +45,28 @@ public class FitLap extends RecordData {
         return getFieldByNumber(0, Integer.class);
     }
 
+    public int getEvent(final int defaultValue) {
+        return getIntFieldByNumber(0, defaultValue);
+    }
+
     @Nullable
     public Integer getEventType() {
         return getFieldByNumber(1, Integer.class);
     }
 
+    public int getEventType(final int defaultValue) {
+        return getIntFieldByNumber(1, defaultValue);
+    }
+
     @Nullable
     public Long getStartTime() {
         return getFieldByNumber(2, Long.class);
     }
 
+    public long getStartTime(final long defaultValue) {
+        return getLongFieldByNumber(2, defaultValue);
+    }
+
     @Nullable
     public Double getStartLat() {
         return getFieldByNumber(3, Double.class);
@@ -80,126 +92,226 @@ public class FitLap extends RecordData {
         return getFieldByNumber(7, Double.class);
     }
 
+    public double getTotalElapsedTime(final double defaultValue) {
+        return getDoubleFieldByNumber(7, defaultValue);
+    }
+
     @Nullable
     public Double getTotalTimerTime() {
         return getFieldByNumber(8, Double.class);
     }
 
+    public double getTotalTimerTime(final double defaultValue) {
+        return getDoubleFieldByNumber(8, defaultValue);
+    }
+
     @Nullable
     public Double getTotalDistance() {
         return getFieldByNumber(9, Double.class);
     }
 
+    public double getTotalDistance(final double defaultValue) {
+        return getDoubleFieldByNumber(9, defaultValue);
+    }
+
     @Nullable
     public Long getTotalCycles() {
         return getFieldByNumber(10, Long.class);
     }
 
+    public long getTotalCycles(final long defaultValue) {
+        return getLongFieldByNumber(10, defaultValue);
+    }
+
     @Nullable
     public Integer getTotalCalories() {
         return getFieldByNumber(11, Integer.class);
     }
 
+    public int getTotalCalories(final int defaultValue) {
+        return getIntFieldByNumber(11, defaultValue);
+    }
+
     @Nullable
     public Integer getTotalFatCalories() {
         return getFieldByNumber(12, Integer.class);
     }
 
+    public int getTotalFatCalories(final int defaultValue) {
+        return getIntFieldByNumber(12, defaultValue);
+    }
+
     @Nullable
     public Float getAvgSpeed() {
         return getFieldByNumber(13, Float.class);
     }
 
+    public float getAvgSpeed(final float defaultValue) {
+        return getFloatFieldByNumber(13, defaultValue);
+    }
+
     @Nullable
     public Float getMaxSpeed() {
         return getFieldByNumber(14, Float.class);
     }
 
+    public float getMaxSpeed(final float defaultValue) {
+        return getFloatFieldByNumber(14, defaultValue);
+    }
+
     @Nullable
     public Integer getAvgHeartRate() {
         return getFieldByNumber(15, Integer.class);
     }
 
+    public int getAvgHeartRate(final int defaultValue) {
+        return getIntFieldByNumber(15, defaultValue);
+    }
+
     @Nullable
     public Integer getMaxHeartRate() {
         return getFieldByNumber(16, Integer.class);
     }
 
+    public int getMaxHeartRate(final int defaultValue) {
+        return getIntFieldByNumber(16, defaultValue);
+    }
+
     @Nullable
     public Integer getAvgCadence() {
         return getFieldByNumber(17, Integer.class);
     }
 
+    public int getAvgCadence(final int defaultValue) {
+        return getIntFieldByNumber(17, defaultValue);
+    }
+
     @Nullable
     public Integer getMaxCadence() {
         return getFieldByNumber(18, Integer.class);
     }
 
+    public int getMaxCadence(final int defaultValue) {
+        return getIntFieldByNumber(18, defaultValue);
+    }
+
     @Nullable
     public Integer getAvgPower() {
         return getFieldByNumber(19, Integer.class);
     }
 
+    public int getAvgPower(final int defaultValue) {
+        return getIntFieldByNumber(19, defaultValue);
+    }
+
     @Nullable
     public Integer getMaxPower() {
         return getFieldByNumber(20, Integer.class);
     }
 
+    public int getMaxPower(final int defaultValue) {
+        return getIntFieldByNumber(20, defaultValue);
+    }
+
     @Nullable
     public Integer getTotalAscent() {
         return getFieldByNumber(21, Integer.class);
     }
 
+    public int getTotalAscent(final int defaultValue) {
+        return getIntFieldByNumber(21, defaultValue);
+    }
+
     @Nullable
     public Integer getTotalDescent() {
         return getFieldByNumber(22, Integer.class);
     }
 
+    public int getTotalDescent(final int defaultValue) {
+        return getIntFieldByNumber(22, defaultValue);
+    }
+
     @Nullable
     public Integer getIntensity() {
         return getFieldByNumber(23, Integer.class);
     }
 
+    public int getIntensity(final int defaultValue) {
+        return getIntFieldByNumber(23, defaultValue);
+    }
+
     @Nullable
     public Integer getLapTrigger() {
         return getFieldByNumber(24, Integer.class);
     }
 
+    public int getLapTrigger(final int defaultValue) {
+        return getIntFieldByNumber(24, defaultValue);
+    }
+
     @Nullable
     public Integer getSport() {
         return getFieldByNumber(25, Integer.class);
     }
 
+    public int getSport(final int defaultValue) {
+        return getIntFieldByNumber(25, defaultValue);
+    }
+
     @Nullable
     public Integer getEventGroup() {
         return getFieldByNumber(26, Integer.class);
     }
 
+    public int getEventGroup(final int defaultValue) {
+        return getIntFieldByNumber(26, defaultValue);
+    }
+
     @Nullable
     public Integer getNumLengths() {
         return getFieldByNumber(32, Integer.class);
     }
 
+    public int getNumLengths(final int defaultValue) {
+        return getIntFieldByNumber(32, defaultValue);
+    }
+
     @Nullable
     public Integer getNormalizedPower() {
         return getFieldByNumber(33, Integer.class);
     }
 
+    public int getNormalizedPower(final int defaultValue) {
+        return getIntFieldByNumber(33, defaultValue);
+    }
+
     @Nullable
     public Integer getLeftRightBalance() {
         return getFieldByNumber(34, Integer.class);
     }
 
+    public int getLeftRightBalance(final int defaultValue) {
+        return getIntFieldByNumber(34, defaultValue);
+    }
+
     @Nullable
     public Integer getFirstLengthIndex() {
         return getFieldByNumber(35, Integer.class);
     }
 
+    public int getFirstLengthIndex(final int defaultValue) {
+        return getIntFieldByNumber(35, defaultValue);
+    }
+
     @Nullable
     public Integer getAvgStrokeDistance() {
         return getFieldByNumber(37, Integer.class);
     }
 
+    public int getAvgStrokeDistance(final int defaultValue) {
+        return getIntFieldByNumber(37, defaultValue);
+    }
+
     @Nullable
     public SwimStyle getSwimStyle() {
         return getFieldByNumber(38, SwimStyle.class);
@@ -210,91 +322,163 @@ public class FitLap extends RecordData {
         return getFieldByNumber(39, Integer.class);
     }
 
+    public int getSubSport(final int defaultValue) {
+        return getIntFieldByNumber(39, defaultValue);
+    }
+
     @Nullable
     public Integer getNumActiveLengths() {
         return getFieldByNumber(40, Integer.class);
     }
 
+    public int getNumActiveLengths(final int defaultValue) {
+        return getIntFieldByNumber(40, defaultValue);
+    }
+
     @Nullable
     public Long getTotalWork() {
         return getFieldByNumber(41, Long.class);
     }
 
+    public long getTotalWork(final long defaultValue) {
+        return getLongFieldByNumber(41, defaultValue);
+    }
+
     @Nullable
     public Float getAvgAltitude() {
         return getFieldByNumber(42, Float.class);
     }
 
+    public float getAvgAltitude(final float defaultValue) {
+        return getFloatFieldByNumber(42, defaultValue);
+    }
+
     @Nullable
     public Float getMaxAltitude() {
         return getFieldByNumber(43, Float.class);
     }
 
+    public float getMaxAltitude(final float defaultValue) {
+        return getFloatFieldByNumber(43, defaultValue);
+    }
+
     @Nullable
     public Integer getGpsAccuracy() {
         return getFieldByNumber(44, Integer.class);
     }
 
+    public int getGpsAccuracy(final int defaultValue) {
+        return getIntFieldByNumber(44, defaultValue);
+    }
+
     @Nullable
     public Float getAvgGrade() {
         return getFieldByNumber(45, Float.class);
     }
 
+    public float getAvgGrade(final float defaultValue) {
+        return getFloatFieldByNumber(45, defaultValue);
+    }
+
     @Nullable
     public Float getAvgPosGrade() {
         return getFieldByNumber(46, Float.class);
     }
 
+    public float getAvgPosGrade(final float defaultValue) {
+        return getFloatFieldByNumber(46, defaultValue);
+    }
+
     @Nullable
     public Float getAvgNegGrade() {
         return getFieldByNumber(47, Float.class);
     }
 
+    public float getAvgNegGrade(final float defaultValue) {
+        return getFloatFieldByNumber(47, defaultValue);
+    }
+
     @Nullable
     public Float getMaxPosGrade() {
         return getFieldByNumber(48, Float.class);
     }
 
+    public float getMaxPosGrade(final float defaultValue) {
+        return getFloatFieldByNumber(48, defaultValue);
+    }
+
     @Nullable
     public Float getMaxNegGrade() {
         return getFieldByNumber(49, Float.class);
     }
 
+    public float getMaxNegGrade(final float defaultValue) {
+        return getFloatFieldByNumber(49, defaultValue);
+    }
+
     @Nullable
     public Integer getAvgTemperature() {
         return getFieldByNumber(50, Integer.class);
     }
 
+    public int getAvgTemperature(final int defaultValue) {
+        return getIntFieldByNumber(50, defaultValue);
+    }
+
     @Nullable
     public Integer getMaxTemperature() {
         return getFieldByNumber(51, Integer.class);
     }
 
+    public int getMaxTemperature(final int defaultValue) {
+        return getIntFieldByNumber(51, defaultValue);
+    }
+
     @Nullable
     public Double getTotalMovingTime() {
         return getFieldByNumber(52, Double.class);
     }
 
+    public double getTotalMovingTime(final double defaultValue) {
+        return getDoubleFieldByNumber(52, defaultValue);
+    }
+
     @Nullable
     public Float getAvgPosVerticalSpeed() {
         return getFieldByNumber(53, Float.class);
     }
 
+    public float getAvgPosVerticalSpeed(final float defaultValue) {
+        return getFloatFieldByNumber(53, defaultValue);
+    }
+
     @Nullable
     public Float getAvgNegVerticalSpeed() {
         return getFieldByNumber(54, Float.class);
     }
 
+    public float getAvgNegVerticalSpeed(final float defaultValue) {
+        return getFloatFieldByNumber(54, defaultValue);
+    }
+
     @Nullable
     public Float getMaxPosVerticalSpeed() {
         return getFieldByNumber(55, Float.class);
     }
 
+    public float getMaxPosVerticalSpeed(final float defaultValue) {
+        return getFloatFieldByNumber(55, defaultValue);
+    }
+
     @Nullable
     public Float getMaxNegVerticalSpeed() {
         return getFieldByNumber(56, Float.class);
     }
 
+    public float getMaxNegVerticalSpeed(final float defaultValue) {
+        return getFloatFieldByNumber(56, defaultValue);
+    }
+
     @Nullable
     public Number[] getTimeInHrZone() {
         return getArrayFieldByNumber(57, Number.class);
@@ -320,31 +504,55 @@ public class FitLap extends RecordData {
         return getFieldByNumber(61, Integer.class);
     }
 
+    public int getRepetitionNum(final int defaultValue) {
+        return getIntFieldByNumber(61, defaultValue);
+    }
+
     @Nullable
     public Float getMinAltitude() {
         return getFieldByNumber(62, Float.class);
     }
 
+    public float getMinAltitude(final float defaultValue) {
+        return getFloatFieldByNumber(62, defaultValue);
+    }
+
     @Nullable
     public Integer getMinHeartRate() {
         return getFieldByNumber(63, Integer.class);
     }
 
+    public int getMinHeartRate(final int defaultValue) {
+        return getIntFieldByNumber(63, defaultValue);
+    }
+
     @Nullable
     public Integer getWktStepIndex() {
         return getFieldByNumber(71, Integer.class);
     }
 
+    public int getWktStepIndex(final int defaultValue) {
+        return getIntFieldByNumber(71, defaultValue);
+    }
+
     @Nullable
     public Integer getAvgSwolf() {
         return getFieldByNumber(73, Integer.class);
     }
 
+    public int getAvgSwolf(final int defaultValue) {
+        return getIntFieldByNumber(73, defaultValue);
+    }
+
     @Nullable
     public Integer getOpponentScore() {
         return getFieldByNumber(74, Integer.class);
     }
 
+    public int getOpponentScore(final int defaultValue) {
+        return getIntFieldByNumber(74, defaultValue);
+    }
+
     @Nullable
     public Number[] getStrokeCount() {
         return getArrayFieldByNumber(75, Number.class);
@@ -360,36 +568,64 @@ public class FitLap extends RecordData {
         return getFieldByNumber(77, Float.class);
     }
 
+    public float getAvgVerticalOscillation(final float defaultValue) {
+        return getFloatFieldByNumber(77, defaultValue);
+    }
+
     @Nullable
     public Float getAvgStanceTimePercent() {
         return getFieldByNumber(78, Float.class);
     }
 
+    public float getAvgStanceTimePercent(final float defaultValue) {
+        return getFloatFieldByNumber(78, defaultValue);
+    }
+
     @Nullable
     public Float getAvgStanceTime() {
         return getFieldByNumber(79, Float.class);
     }
 
+    public float getAvgStanceTime(final float defaultValue) {
+        return getFloatFieldByNumber(79, defaultValue);
+    }
+
     @Nullable
     public Float getAvgFractionalCadence() {
         return getFieldByNumber(80, Float.class);
     }
 
+    public float getAvgFractionalCadence(final float defaultValue) {
+        return getFloatFieldByNumber(80, defaultValue);
+    }
+
     @Nullable
     public Float getMaxFractionalCadence() {
         return getFieldByNumber(81, Float.class);
     }
 
+    public float getMaxFractionalCadence(final float defaultValue) {
+        return getFloatFieldByNumber(81, defaultValue);
+    }
+
     @Nullable
     public Float getTotalFractionalCycles() {
         return getFieldByNumber(82, Float.class);
     }
 
+    public float getTotalFractionalCycles(final float defaultValue) {
+        return getFloatFieldByNumber(82, defaultValue);
+    }
+
     @Nullable
     public Integer getPlayerScore() {
         return getFieldByNumber(83, Integer.class);
     }
 
+    public int getPlayerScore(final int defaultValue) {
+        return getIntFieldByNumber(83, defaultValue);
+    }
+
     @Nullable
     public Number[] getAvgTotalHemoglobinConc() {
         return getArrayFieldByNumber(84, Number.class);
@@ -425,46 +661,82 @@ public class FitLap extends RecordData {
         return getFieldByNumber(91, Float.class);
     }
 
+    public float getAvgLeftTorqueEffectiveness(final float defaultValue) {
+        return getFloatFieldByNumber(91, defaultValue);
+    }
+
     @Nullable
     public Float getAvgRightTorqueEffectiveness() {
         return getFieldByNumber(92, Float.class);
     }
 
+    public float getAvgRightTorqueEffectiveness(final float defaultValue) {
+        return getFloatFieldByNumber(92, defaultValue);
+    }
+
     @Nullable
     public Float getAvgLeftPedalSmoothness() {
         return getFieldByNumber(93, Float.class);
     }
 
+    public float getAvgLeftPedalSmoothness(final float defaultValue) {
+        return getFloatFieldByNumber(93, defaultValue);
+    }
+
     @Nullable
     public Float getAvgRightPedalSmoothness() {
         return getFieldByNumber(94, Float.class);
     }
 
+    public float getAvgRightPedalSmoothness(final float defaultValue) {
+        return getFloatFieldByNumber(94, defaultValue);
+    }
+
     @Nullable
     public Float getAvgCombinedPedalSmoothness() {
         return getFieldByNumber(95, Float.class);
     }
 
+    public float getAvgCombinedPedalSmoothness(final float defaultValue) {
+        return getFloatFieldByNumber(95, defaultValue);
+    }
+
     @Nullable
     public Double getTimeStanding() {
         return getFieldByNumber(98, Double.class);
     }
 
+    public double getTimeStanding(final double defaultValue) {
+        return getDoubleFieldByNumber(98, defaultValue);
+    }
+
     @Nullable
     public Integer getStandCount() {
         return getFieldByNumber(99, Integer.class);
     }
 
+    public int getStandCount(final int defaultValue) {
+        return getIntFieldByNumber(99, defaultValue);
+    }
+
     @Nullable
     public Integer getAvgLeftPco() {
         return getFieldByNumber(100, Integer.class);
     }
 
+    public int getAvgLeftPco(final int defaultValue) {
+        return getIntFieldByNumber(100, defaultValue);
+    }
+
     @Nullable
     public Integer getAvgRightPco() {
         return getFieldByNumber(101, Integer.class);
     }
 
+    public int getAvgRightPco(final int defaultValue) {
+        return getIntFieldByNumber(101, defaultValue);
+    }
+
     @Nullable
     public Number[] getAvgLeftPowerPhase() {
         return getArrayFieldByNumber(102, Number.class);
@@ -510,146 +782,262 @@ public class FitLap extends RecordData {
         return getFieldByNumber(110, Double.class);
     }
 
+    public double getEnhancedAvgSpeed(final double defaultValue) {
+        return getDoubleFieldByNumber(110, defaultValue);
+    }
+
     @Nullable
     public Double getEnhancedMaxSpeed() {
         return getFieldByNumber(111, Double.class);
     }
 
+    public double getEnhancedMaxSpeed(final double defaultValue) {
+        return getDoubleFieldByNumber(111, defaultValue);
+    }
+
     @Nullable
     public Double getEnhancedAvgAltitude() {
         return getFieldByNumber(112, Double.class);
     }
 
+    public double getEnhancedAvgAltitude(final double defaultValue) {
+        return getDoubleFieldByNumber(112, defaultValue);
+    }
+
     @Nullable
     public Double getEnhancedMinAltitude() {
         return getFieldByNumber(113, Double.class);
     }
 
+    public double getEnhancedMinAltitude(final double defaultValue) {
+        return getDoubleFieldByNumber(113, defaultValue);
+    }
+
     @Nullable
     public Double getEnhancedMaxAltitude() {
         return getFieldByNumber(114, Double.class);
     }
 
+    public double getEnhancedMaxAltitude(final double defaultValue) {
+        return getDoubleFieldByNumber(114, defaultValue);
+    }
+
     @Nullable
     public Integer getAvgLevMotorPower() {
         return getFieldByNumber(115, Integer.class);
     }
 
+    public int getAvgLevMotorPower(final int defaultValue) {
+        return getIntFieldByNumber(115, defaultValue);
+    }
+
     @Nullable
     public Integer getMaxLevMotorPower() {
         return getFieldByNumber(116, Integer.class);
     }
 
+    public int getMaxLevMotorPower(final int defaultValue) {
+        return getIntFieldByNumber(116, defaultValue);
+    }
+
     @Nullable
     public Float getLevBatteryConsumption() {
         return getFieldByNumber(117, Float.class);
     }
 
+    public float getLevBatteryConsumption(final float defaultValue) {
+        return getFloatFieldByNumber(117, defaultValue);
+    }
+
     @Nullable
     public Float getAvgVerticalRatio() {
         return getFieldByNumber(118, Float.class);
     }
 
+    public float getAvgVerticalRatio(final float defaultValue) {
+        return getFloatFieldByNumber(118, defaultValue);
+    }
+
     @Nullable
     public Float getAvgStanceTimeBalance() {
         return getFieldByNumber(119, Float.class);
     }
 
+    public float getAvgStanceTimeBalance(final float defaultValue) {
+        return getFloatFieldByNumber(119, defaultValue);
+    }
+
     @Nullable
     public Float getAvgStepLength() {
         return getFieldByNumber(120, Float.class);
     }
 
+    public float getAvgStepLength(final float defaultValue) {
+        return getFloatFieldByNumber(120, defaultValue);
+    }
+
     @Nullable
     public Float getAvgVam() {
         return getFieldByNumber(121, Float.class);
     }
 
+    public float getAvgVam(final float defaultValue) {
+        return getFloatFieldByNumber(121, defaultValue);
+    }
+
     @Nullable
     public Double getAvgDepth() {
         return getFieldByNumber(122, Double.class);
     }
 
+    public double getAvgDepth(final double defaultValue) {
+        return getDoubleFieldByNumber(122, defaultValue);
+    }
+
     @Nullable
     public Double getMaxDepth() {
         return getFieldByNumber(123, Double.class);
     }
 
+    public double getMaxDepth(final double defaultValue) {
+        return getDoubleFieldByNumber(123, defaultValue);
+    }
+
     @Nullable
     public Integer getMinTemperature() {
         return getFieldByNumber(124, Integer.class);
     }
 
+    public int getMinTemperature(final int defaultValue) {
+        return getIntFieldByNumber(124, defaultValue);
+    }
+
     @Nullable
     public Float getEnhancedAvgRespirationRate() {
         return getFieldByNumber(136, Float.class);
     }
 
+    public float getEnhancedAvgRespirationRate(final float defaultValue) {
+        return getFloatFieldByNumber(136, defaultValue);
+    }
+
     @Nullable
     public Float getEnhancedMaxRespirationRate() {
         return getFieldByNumber(137, Float.class);
     }
 
+    public float getEnhancedMaxRespirationRate(final float defaultValue) {
+        return getFloatFieldByNumber(137, defaultValue);
+    }
+
     @Nullable
     public Integer getAvgRespirationRate() {
         return getFieldByNumber(147, Integer.class);
     }
 
+    public int getAvgRespirationRate(final int defaultValue) {
+        return getIntFieldByNumber(147, defaultValue);
+    }
+
     @Nullable
     public Integer getMaxRespirationRate() {
         return getFieldByNumber(148, Integer.class);
     }
 
+    public int getMaxRespirationRate(final int defaultValue) {
+        return getIntFieldByNumber(148, defaultValue);
+    }
+
     @Nullable
     public Float getTotalGrit() {
         return getFieldByNumber(149, Float.class);
     }
 
+    public float getTotalGrit(final float defaultValue) {
+        return getFloatFieldByNumber(149, defaultValue);
+    }
+
     @Nullable
     public Float getTotalFlow() {
         return getFieldByNumber(150, Float.class);
     }
 
+    public float getTotalFlow(final float defaultValue) {
+        return getFloatFieldByNumber(150, defaultValue);
+    }
+
     @Nullable
     public Integer getJumpCount() {
         return getFieldByNumber(151, Integer.class);
     }
 
+    public int getJumpCount(final int defaultValue) {
+        return getIntFieldByNumber(151, defaultValue);
+    }
+
     @Nullable
     public Float getAvgGrit() {
         return getFieldByNumber(153, Float.class);
     }
 
+    public float getAvgGrit(final float defaultValue) {
+        return getFloatFieldByNumber(153, defaultValue);
+    }
+
     @Nullable
     public Float getAvgFlow() {
         return getFieldByNumber(154, Float.class);
     }
 
+    public float getAvgFlow(final float defaultValue) {
+        return getFloatFieldByNumber(154, defaultValue);
+    }
+
     @Nullable
     public Float getTotalFractionalAscent() {
         return getFieldByNumber(156, Float.class);
     }
 
+    public float getTotalFractionalAscent(final float defaultValue) {
+        return getFloatFieldByNumber(156, defaultValue);
+    }
+
     @Nullable
     public Float getTotalFractionalDescent() {
         return getFieldByNumber(157, Float.class);
     }
 
+    public float getTotalFractionalDescent(final float defaultValue) {
+        return getFloatFieldByNumber(157, defaultValue);
+    }
+
     @Nullable
     public Float getAvgCoreTemperature() {
         return getFieldByNumber(158, Float.class);
     }
 
+    public float getAvgCoreTemperature(final float defaultValue) {
+        return getFloatFieldByNumber(158, defaultValue);
+    }
+
     @Nullable
     public Float getMinCoreTemperature() {
         return getFieldByNumber(159, Float.class);
     }
 
+    public float getMinCoreTemperature(final float defaultValue) {
+        return getFloatFieldByNumber(159, defaultValue);
+    }
+
     @Nullable
     public Float getMaxCoreTemperature() {
         return getFieldByNumber(160, Float.class);
     }
 
+    public float getMaxCoreTemperature(final float defaultValue) {
+        return getFloatFieldByNumber(160, defaultValue);
+    }
+
     @Nullable
     public Long getTimestamp() {
         return getFieldByNumber(253, Long.class);
@@ -660,6 +1048,10 @@ public class FitLap extends RecordData {
         return getFieldByNumber(254, Integer.class);
     }
 
+    public int getMessageIndex(final int defaultValue) {
+        return getIntFieldByNumber(254, defaultValue);
+    }
+
     /**
      * @noinspection unused
      */
@@ -44,71 +44,127 @@ public class FitLength extends RecordData {
         return getFieldByNumber(0, Integer.class);
     }
 
+    public int getEvent(final int defaultValue) {
+        return getIntFieldByNumber(0, defaultValue);
+    }
+
     @Nullable
     public Integer getEventType() {
         return getFieldByNumber(1, Integer.class);
     }
 
+    public int getEventType(final int defaultValue) {
+        return getIntFieldByNumber(1, defaultValue);
+    }
+
     @Nullable
     public Long getStartTime() {
         return getFieldByNumber(2, Long.class);
     }
 
+    public long getStartTime(final long defaultValue) {
+        return getLongFieldByNumber(2, defaultValue);
+    }
+
     @Nullable
     public Double getTotalElapsedTime() {
         return getFieldByNumber(3, Double.class);
     }
 
+    public double getTotalElapsedTime(final double defaultValue) {
+        return getDoubleFieldByNumber(3, defaultValue);
+    }
+
     @Nullable
     public Double getTotalTimerTime() {
         return getFieldByNumber(4, Double.class);
     }
 
+    public double getTotalTimerTime(final double defaultValue) {
+        return getDoubleFieldByNumber(4, defaultValue);
+    }
+
     @Nullable
     public Integer getTotalStrokes() {
         return getFieldByNumber(5, Integer.class);
     }
 
+    public int getTotalStrokes(final int defaultValue) {
+        return getIntFieldByNumber(5, defaultValue);
+    }
+
     @Nullable
     public Float getAvgSpeed() {
         return getFieldByNumber(6, Float.class);
     }
 
+    public float getAvgSpeed(final float defaultValue) {
+        return getFloatFieldByNumber(6, defaultValue);
+    }
+
     @Nullable
     public Integer getSwimStroke() {
         return getFieldByNumber(7, Integer.class);
     }
 
+    public int getSwimStroke(final int defaultValue) {
+        return getIntFieldByNumber(7, defaultValue);
+    }
+
     @Nullable
     public Integer getAvgSwimmingCadence() {
         return getFieldByNumber(9, Integer.class);
     }
 
+    public int getAvgSwimmingCadence(final int defaultValue) {
+        return getIntFieldByNumber(9, defaultValue);
+    }
+
     @Nullable
     public Integer getEventGroup() {
         return getFieldByNumber(10, Integer.class);
     }
 
+    public int getEventGroup(final int defaultValue) {
+        return getIntFieldByNumber(10, defaultValue);
+    }
+
     @Nullable
     public Integer getTotalCalories() {
         return getFieldByNumber(11, Integer.class);
     }
 
+    public int getTotalCalories(final int defaultValue) {
+        return getIntFieldByNumber(11, defaultValue);
+    }
+
     @Nullable
     public Integer getLengthType() {
         return getFieldByNumber(12, Integer.class);
     }
 
+    public int getLengthType(final int defaultValue) {
+        return getIntFieldByNumber(12, defaultValue);
+    }
+
     @Nullable
     public Integer getPlayerScore() {
         return getFieldByNumber(18, Integer.class);
     }
 
+    public int getPlayerScore(final int defaultValue) {
+        return getIntFieldByNumber(18, defaultValue);
+    }
+
     @Nullable
     public Integer getOpponentScore() {
         return getFieldByNumber(19, Integer.class);
     }
 
+    public int getOpponentScore(final int defaultValue) {
+        return getIntFieldByNumber(19, defaultValue);
+    }
+
     @Nullable
     public Number[] getStrokeCount() {
         return getArrayFieldByNumber(20, Number.class);
@@ -124,21 +180,37 @@ public class FitLength extends RecordData {
         return getFieldByNumber(22, Float.class);
     }
 
+    public float getEnhancedAvgRespirationRate(final float defaultValue) {
+        return getFloatFieldByNumber(22, defaultValue);
+    }
+
     @Nullable
     public Float getEnhancedMaxRespirationRate() {
         return getFieldByNumber(23, Float.class);
     }
 
+    public float getEnhancedMaxRespirationRate(final float defaultValue) {
+        return getFloatFieldByNumber(23, defaultValue);
+    }
+
     @Nullable
     public Integer getAvgRespirationRate() {
         return getFieldByNumber(24, Integer.class);
     }
 
+    public int getAvgRespirationRate(final int defaultValue) {
+        return getIntFieldByNumber(24, defaultValue);
+    }
+
     @Nullable
     public Integer getMaxRespirationRate() {
         return getFieldByNumber(25, Integer.class);
     }
 
+    public int getMaxRespirationRate(final int defaultValue) {
+        return getIntFieldByNumber(25, defaultValue);
+    }
+
     @Nullable
     public Long getTimestamp() {
         return getFieldByNumber(253, Long.class);
@@ -149,6 +221,10 @@ public class FitLength extends RecordData {
         return getFieldByNumber(254, Integer.class);
     }
 
+    public int getMessageIndex(final int defaultValue) {
+        return getIntFieldByNumber(254, defaultValue);
+    }
+
     /**
      * @noinspection unused
      */
@@ -65,11 +65,19 @@ public class FitLocation extends RecordData {
         return getFieldByNumber(4, Float.class);
     }
 
+    public float getAltitude(final float defaultValue) {
+        return getFloatFieldByNumber(4, defaultValue);
+    }
+
     @Nullable
     public Integer getEnhancedAltitude() {
         return getFieldByNumber(5, Integer.class);
     }
 
+    public int getEnhancedAltitude(final int defaultValue) {
+        return getIntFieldByNumber(5, defaultValue);
+    }
+
     @Nullable
     public String getDescription() {
         return getFieldByNumber(6, String.class);
@@ -85,6 +93,10 @@ public class FitLocation extends RecordData {
         return getFieldByNumber(254, Integer.class);
     }
 
+    public int getMessageIndex(final int defaultValue) {
+        return getIntFieldByNumber(254, defaultValue);
+    }
+
     /**
      * @noinspection unused
      */
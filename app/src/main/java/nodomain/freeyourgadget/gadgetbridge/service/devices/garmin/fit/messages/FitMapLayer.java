@@ -44,61 +44,109 @@ public class FitMapLayer extends RecordData {
         return getFieldByNumber(2, Integer.class);
     }
 
+    public int getReliefShading(final int defaultValue) {
+        return getIntFieldByNumber(2, defaultValue);
+    }
+
     @Nullable
     public Integer getOrientation() {
         return getFieldByNumber(11, Integer.class);
     }
 
+    public int getOrientation(final int defaultValue) {
+        return getIntFieldByNumber(11, defaultValue);
+    }
+
     @Nullable
     public Integer getUserLocations() {
         return getFieldByNumber(13, Integer.class);
     }
 
+    public int getUserLocations(final int defaultValue) {
+        return getIntFieldByNumber(13, defaultValue);
+    }
+
     @Nullable
     public Integer getAutoZoom() {
         return getFieldByNumber(14, Integer.class);
     }
 
+    public int getAutoZoom(final int defaultValue) {
+        return getIntFieldByNumber(14, defaultValue);
+    }
+
     @Nullable
     public Integer getGuideText() {
         return getFieldByNumber(15, Integer.class);
     }
 
+    public int getGuideText(final int defaultValue) {
+        return getIntFieldByNumber(15, defaultValue);
+    }
+
     @Nullable
     public Integer getTrackLog() {
         return getFieldByNumber(16, Integer.class);
     }
 
+    public int getTrackLog(final int defaultValue) {
+        return getIntFieldByNumber(16, defaultValue);
+    }
+
     @Nullable
     public Integer getCourses() {
         return getFieldByNumber(20, Integer.class);
     }
 
+    public int getCourses(final int defaultValue) {
+        return getIntFieldByNumber(20, defaultValue);
+    }
+
     @Nullable
     public Integer getSpotSoundings() {
         return getFieldByNumber(23, Integer.class);
     }
 
+    public int getSpotSoundings(final int defaultValue) {
+        return getIntFieldByNumber(23, defaultValue);
+    }
+
     @Nullable
     public Integer getLightSectors() {
         return getFieldByNumber(24, Integer.class);
     }
 
+    public int getLightSectors(final int defaultValue) {
+        return getIntFieldByNumber(24, defaultValue);
+    }
+
     @Nullable
     public Integer getSegments() {
         return getFieldByNumber(27, Integer.class);
     }
 
+    public int getSegments(final int defaultValue) {
+        return getIntFieldByNumber(27, defaultValue);
+    }
+
     @Nullable
     public Integer getContours() {
         return getFieldByNumber(28, Integer.class);
     }
 
+    public int getContours(final int defaultValue) {
+        return getIntFieldByNumber(28, defaultValue);
+    }
+
     @Nullable
     public Integer getPopularity() {
         return getFieldByNumber(31, Integer.class);
     }
 
+    public int getPopularity(final int defaultValue) {
+        return getIntFieldByNumber(31, defaultValue);
+    }
+
     @Nullable
     public Long getTimestamp() {
         return getFieldByNumber(253, Long.class);
@@ -49,36 +49,64 @@ public class FitMaxMetData extends RecordData {
         return getFieldByNumber(2, Float.class);
     }
 
+    public float getVo2Max(final float defaultValue) {
+        return getFloatFieldByNumber(2, defaultValue);
+    }
+
     @Nullable
     public Integer getSport() {
         return getFieldByNumber(5, Integer.class);
     }
 
+    public int getSport(final int defaultValue) {
+        return getIntFieldByNumber(5, defaultValue);
+    }
+
     @Nullable
     public Integer getSubSport() {
         return getFieldByNumber(6, Integer.class);
     }
 
+    public int getSubSport(final int defaultValue) {
+        return getIntFieldByNumber(6, defaultValue);
+    }
+
     @Nullable
     public Integer getMaxMetCategory() {
         return getFieldByNumber(8, Integer.class);
     }
 
+    public int getMaxMetCategory(final int defaultValue) {
+        return getIntFieldByNumber(8, defaultValue);
+    }
+
     @Nullable
     public Integer getCalibratedData() {
         return getFieldByNumber(9, Integer.class);
     }
 
+    public int getCalibratedData(final int defaultValue) {
+        return getIntFieldByNumber(9, defaultValue);
+    }
+
     @Nullable
     public Integer getHrSource() {
         return getFieldByNumber(12, Integer.class);
     }
 
+    public int getHrSource(final int defaultValue) {
+        return getIntFieldByNumber(12, defaultValue);
+    }
+
     @Nullable
     public Integer getSpeedSource() {
         return getFieldByNumber(13, Integer.class);
     }
 
+    public int getSpeedSource(final int defaultValue) {
+        return getIntFieldByNumber(13, defaultValue);
+    }
+
     /**
      * @noinspection unused
      */
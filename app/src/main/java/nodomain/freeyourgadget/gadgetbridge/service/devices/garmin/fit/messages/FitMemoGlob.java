@@ -49,16 +49,28 @@ public class FitMemoGlob extends RecordData {
         return getFieldByNumber(1, Integer.class);
     }
 
+    public int getMesgNum(final int defaultValue) {
+        return getIntFieldByNumber(1, defaultValue);
+    }
+
     @Nullable
     public Integer getParentIndex() {
         return getFieldByNumber(2, Integer.class);
     }
 
+    public int getParentIndex(final int defaultValue) {
+        return getIntFieldByNumber(2, defaultValue);
+    }
+
     @Nullable
     public Integer getFieldNum() {
         return getFieldByNumber(3, Integer.class);
     }
 
+    public int getFieldNum(final int defaultValue) {
+        return getIntFieldByNumber(3, defaultValue);
+    }
+
     @Nullable
     public Number[] getData() {
         return getArrayFieldByNumber(4, Number.class);
@@ -69,6 +81,10 @@ public class FitMemoGlob extends RecordData {
         return getFieldByNumber(250, Long.class);
     }
 
+    public long getPartIndex(final long defaultValue) {
+        return getLongFieldByNumber(250, defaultValue);
+    }
+
     /**
      * @noinspection unused
      */
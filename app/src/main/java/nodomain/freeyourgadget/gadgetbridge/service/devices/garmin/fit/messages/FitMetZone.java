@@ -44,21 +44,37 @@ public class FitMetZone extends RecordData {
         return getFieldByNumber(1, Integer.class);
     }
 
+    public int getHighBpm(final int defaultValue) {
+        return getIntFieldByNumber(1, defaultValue);
+    }
+
     @Nullable
     public Float getCalories() {
         return getFieldByNumber(2, Float.class);
     }
 
+    public float getCalories(final float defaultValue) {
+        return getFloatFieldByNumber(2, defaultValue);
+    }
+
     @Nullable
     public Float getFatCalories() {
         return getFieldByNumber(3, Float.class);
     }
 
+    public float getFatCalories(final float defaultValue) {
+        return getFloatFieldByNumber(3, defaultValue);
+    }
+
     @Nullable
     public Integer getMessageIndex() {
         return getFieldByNumber(254, Integer.class);
     }
 
+    public int getMessageIndex(final int defaultValue) {
+        return getIntFieldByNumber(254, defaultValue);
+    }
+
     /**
      * @noinspection unused
      */
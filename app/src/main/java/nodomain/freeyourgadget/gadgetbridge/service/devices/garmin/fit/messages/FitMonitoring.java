@@ -47,76 +47,136 @@ public class FitMonitoring extends RecordData {
         return getFieldByNumber(0, Integer.class);
     }
 
+    public int getDeviceIndex(final int defaultValue) {
+        return getIntFieldByNumber(0, defaultValue);
+    }
+
     @Nullable
     public Integer getCalories() {
         return getFieldByNumber(1, Integer.class);
     }
 
+    public int getCalories(final int defaultValue) {
+        return getIntFieldByNumber(1, defaultValue);
+    }
+
     @Nullable
     public Long getDistance() {
         return getFieldByNumber(2, Long.class);
     }
 
+    public long getDistance(final long defaultValue) {
+        return getLongFieldByNumber(2, defaultValue);
+    }
+
     @Nullable
     public Long getCycles() {
         return getFieldByNumber(3, Long.class);
     }
 
+    public long getCycles(final long defaultValue) {
+        return getLongFieldByNumber(3, defaultValue);
+    }
+
     @Nullable
     public Long getActiveTime() {
         return getFieldByNumber(4, Long.class);
     }
 
+    public long getActiveTime(final long defaultValue) {
+        return getLongFieldByNumber(4, defaultValue);
+    }
+
     @Nullable
     public Integer getActivityType() {
         return getFieldByNumber(5, Integer.class);
     }
 
+    public int getActivityType(final int defaultValue) {
+        return getIntFieldByNumber(5, defaultValue);
+    }
+
     @Nullable
     public Integer getActivitySubtype() {
         return getFieldByNumber(6, Integer.class);
     }
 
+    public int getActivitySubtype(final int defaultValue) {
+        return getIntFieldByNumber(6, defaultValue);
+    }
+
     @Nullable
     public Integer getActivityLevel() {
         return getFieldByNumber(7, Integer.class);
     }
 
+    public int getActivityLevel(final int defaultValue) {
+        return getIntFieldByNumber(7, defaultValue);
+    }
+
     @Nullable
     public Integer getDistance16() {
         return getFieldByNumber(8, Integer.class);
     }
 
+    public int getDistance16(final int defaultValue) {
+        return getIntFieldByNumber(8, defaultValue);
+    }
+
     @Nullable
     public Integer getCycles16() {
         return getFieldByNumber(9, Integer.class);
     }
 
+    public int getCycles16(final int defaultValue) {
+        return getIntFieldByNumber(9, defaultValue);
+    }
+
     @Nullable
     public Integer getActiveTime16() {
         return getFieldByNumber(10, Integer.class);
     }
 
+    public int getActiveTime16(final int defaultValue) {
+        return getIntFieldByNumber(10, defaultValue);
+    }
+
     @Nullable
     public Long getLocalTimestamp() {
         return getFieldByNumber(11, Long.class);
     }
 
+    public long getLocalTimestamp(final long defaultValue) {
+        return getLongFieldByNumber(11, defaultValue);
+    }
+
     @Nullable
     public Float getTemperature() {
         return getFieldByNumber(12, Float.class);
     }
 
+    public float getTemperature(final float defaultValue) {
+        return getFloatFieldByNumber(12, defaultValue);
+    }
+
     @Nullable
     public Float getTemperatureMin() {
         return getFieldByNumber(14, Float.class);
     }
 
+    public float getTemperatureMin(final float defaultValue) {
+        return getFloatFieldByNumber(14, defaultValue);
+    }
+
     @Nullable
     public Float getTemperatureMax() {
         return getFieldByNumber(15, Float.class);
     }
 
+    public float getTemperatureMax(final float defaultValue) {
+        return getFloatFieldByNumber(15, defaultValue);
+    }
+
     @Nullable
     public Number[] getActivityTime() {
         return getArrayFieldByNumber(16, Number.class);
@@ -127,61 +187,109 @@ public class FitMonitoring extends RecordData {
         return getFieldByNumber(19, Integer.class);
     }
 
+    public int getActiveCalories(final int defaultValue) {
+        return getIntFieldByNumber(19, defaultValue);
+    }
+
     @Nullable
     public Integer getDurationMin() {
         return getFieldByNumber(29, Integer.class);
     }
 
+    public int getDurationMin(final int defaultValue) {
+        return getIntFieldByNumber(29, defaultValue);
+    }
+
     @Nullable
     public Integer getCurrentActivityTypeIntensity() {
         return getFieldByNumber(24, Integer.class);
     }
 
+    public int getCurrentActivityTypeIntensity(final int defaultValue) {
+        return getIntFieldByNumber(24, defaultValue);
+    }
+
     @Nullable
     public Integer getTimestamp16() {
         return getFieldByNumber(26, Integer.class);
     }
 
+    public int getTimestamp16(final int defaultValue) {
+        return getIntFieldByNumber(26, defaultValue);
+    }
+
     @Nullable
     public Integer getTimestampMin8() {
         return getFieldByNumber(25, Integer.class);
     }
 
+    public int getTimestampMin8(final int defaultValue) {
+        return getIntFieldByNumber(25, defaultValue);
+    }
+
     @Nullable
     public Integer getHeartRate() {
         return getFieldByNumber(27, Integer.class);
     }
 
+    public int getHeartRate(final int defaultValue) {
+        return getIntFieldByNumber(27, defaultValue);
+    }
+
     @Nullable
     public Float getIntensity() {
         return getFieldByNumber(28, Float.class);
     }
 
+    public float getIntensity(final float defaultValue) {
+        return getFloatFieldByNumber(28, defaultValue);
+    }
+
     @Nullable
     public Long getDuration() {
         return getFieldByNumber(30, Long.class);
     }
 
+    public long getDuration(final long defaultValue) {
+        return getLongFieldByNumber(30, defaultValue);
+    }
+
     @Nullable
     public Double getAscent() {
         return getFieldByNumber(31, Double.class);
     }
 
+    public double getAscent(final double defaultValue) {
+        return getDoubleFieldByNumber(31, defaultValue);
+    }
+
     @Nullable
     public Double getDescent() {
         return getFieldByNumber(32, Double.class);
     }
 
+    public double getDescent(final double defaultValue) {
+        return getDoubleFieldByNumber(32, defaultValue);
+    }
+
     @Nullable
     public Integer getModerateActivityMinutes() {
         return getFieldByNumber(33, Integer.class);
     }
 
+    public int getModerateActivityMinutes(final int defaultValue) {
+        return getIntFieldByNumber(33, defaultValue);
+    }
+
     @Nullable
     public Integer getVigorousActivityMinutes() {
         return getFieldByNumber(34, Integer.class);
     }
 
+    public int getVigorousActivityMinutes(final int defaultValue) {
+        return getIntFieldByNumber(34, defaultValue);
+    }
+
     @Nullable
     public Long getTimestamp() {
         return getFieldByNumber(253, Long.class);
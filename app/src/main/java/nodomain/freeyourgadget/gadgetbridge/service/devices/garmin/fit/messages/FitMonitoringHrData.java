@@ -44,11 +44,19 @@ public class FitMonitoringHrData extends RecordData {
         return getFieldByNumber(0, Integer.class);
     }
 
+    public int getRestingHeartRate(final int defaultValue) {
+        return getIntFieldByNumber(0, defaultValue);
+    }
+
     @Nullable
     public Integer getCurrentDayRestingHeartRate() {
         return getFieldByNumber(1, Integer.class);
     }
 
+    public int getCurrentDayRestingHeartRate(final int defaultValue) {
+        return getIntFieldByNumber(1, defaultValue);
+    }
+
     @Nullable
     public Long getTimestamp() {
         return getFieldByNumber(253, Long.class);
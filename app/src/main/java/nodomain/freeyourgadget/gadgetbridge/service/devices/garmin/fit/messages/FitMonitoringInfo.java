@@ -44,6 +44,10 @@ public class FitMonitoringInfo extends RecordData {
         return getFieldByNumber(0, Long.class);
     }
 
+    public long getLocalTimestamp(final long defaultValue) {
+        return getLongFieldByNumber(0, defaultValue);
+    }
+
     @Nullable
     public Number[] getActivityType() {
         return getArrayFieldByNumber(1, Number.class);
@@ -64,6 +68,10 @@ public class FitMonitoringInfo extends RecordData {
         return getFieldByNumber(5, Integer.class);
     }
 
+    public int getRestingMetabolicRate(final int defaultValue) {
+        return getIntFieldByNumber(5, defaultValue);
+    }
+
     @Nullable
     public Long getTimestamp() {
         return getFieldByNumber(253, Long.class);
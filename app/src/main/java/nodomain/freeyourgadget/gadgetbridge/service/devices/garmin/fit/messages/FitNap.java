@@ -49,6 +49,10 @@ public class FitNap extends RecordData {
         return getFieldByNumber(1, Integer.class);
     }
 
+    public int getUnknown1(final int defaultValue) {
+        return getIntFieldByNumber(1, defaultValue);
+    }
+
     @Nullable
     public Long getEndTimestamp() {
         return getFieldByNumber(2, Long.class);
@@ -59,16 +63,28 @@ public class FitNap extends RecordData {
         return getFieldByNumber(3, Integer.class);
     }
 
+    public int getUnknown3(final int defaultValue) {
+        return getIntFieldByNumber(3, defaultValue);
+    }
+
     @Nullable
     public Integer getUnknown4() {
         return getFieldByNumber(4, Integer.class);
     }
 
+    public int getUnknown4(final int defaultValue) {
+        return getIntFieldByNumber(4, defaultValue);
+    }
+
     @Nullable
     public Integer getUnknown6() {
         return getFieldByNumber(6, Integer.class);
     }
 
+    public int getUnknown6(final int defaultValue) {
+        return getIntFieldByNumber(6, defaultValue);
+    }
+
     @Nullable
     public Long getTimestamp7() {
         return getFieldByNumber(7, Long.class);
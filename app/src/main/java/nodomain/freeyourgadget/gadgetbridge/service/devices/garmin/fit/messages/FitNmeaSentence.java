@@ -44,6 +44,10 @@ public class FitNmeaSentence extends RecordData {
         return getFieldByNumber(0, Integer.class);
     }
 
+    public int getTimestampMs(final int defaultValue) {
+        return getIntFieldByNumber(0, defaultValue);
+    }
+
     @Nullable
     public String getSentence() {
         return getFieldByNumber(1, String.class);
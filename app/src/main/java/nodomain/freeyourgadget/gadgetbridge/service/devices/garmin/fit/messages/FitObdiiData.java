@@ -44,6 +44,10 @@ public class FitObdiiData extends RecordData {
         return getFieldByNumber(0, Integer.class);
     }
 
+    public int getTimestampMs(final int defaultValue) {
+        return getIntFieldByNumber(0, defaultValue);
+    }
+
     @Nullable
     public Number[] getTimeOffset() {
         return getArrayFieldByNumber(1, Number.class);
@@ -54,6 +58,10 @@ public class FitObdiiData extends RecordData {
         return getFieldByNumber(2, Integer.class);
     }
 
+    public int getPid(final int defaultValue) {
+        return getIntFieldByNumber(2, defaultValue);
+    }
+
     @Nullable
     public Number[] getRawData() {
         return getArrayFieldByNumber(3, Number.class);
@@ -74,11 +82,19 @@ public class FitObdiiData extends RecordData {
         return getFieldByNumber(6, Long.class);
     }
 
+    public long getStartTimestamp(final long defaultValue) {
+        return getLongFieldByNumber(6, defaultValue);
+    }
+
     @Nullable
     public Integer getStartTimestampMs() {
         return getFieldByNumber(7, Integer.class);
     }
 
+    public int getStartTimestampMs(final int defaultValue) {
+        return getIntFieldByNumber(7, defaultValue);
+    }
+
     @Nullable
     public Long getTimestamp() {
         return getFieldByNumber(253, Long.class);
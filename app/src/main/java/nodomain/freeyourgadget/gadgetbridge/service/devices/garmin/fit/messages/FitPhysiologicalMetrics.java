@@ -44,26 +44,46 @@ public class FitPhysiologicalMetrics extends RecordData {
         return getFieldByNumber(4, Float.class);
     }
 
+    public float getAerobicEffect(final float defaultValue) {
+        return getFloatFieldByNumber(4, defaultValue);
+    }
+
     @Nullable
     public Double getMetMax() {
         return getFieldByNumber(7, Double.class);
     }
 
+    public double getMetMax(final double defaultValue) {
+        return getDoubleFieldByNumber(7, defaultValue);
+    }
+
     @Nullable
     public Integer getRecoveryTime() {
         return getFieldByNumber(9, Integer.class);
     }
 
+    public int getRecoveryTime(final int defaultValue) {
+        return getIntFieldByNumber(9, defaultValue);
+    }
+
     @Nullable
     public Integer getLactateThresholdHeartRate() {
         return getFieldByNumber(14, Integer.class);
     }
 
+    public int getLactateThresholdHeartRate(final int defaultValue) {
+        return getIntFieldByNumber(14, defaultValue);
+    }
+
     @Nullable
     public Float getAnaerobicEffect() {
         return getFieldByNumber(20, Float.class);
     }
 
+    public float getAnaerobicEffect(final float defaultValue) {
+        return getFloatFieldByNumber(20, defaultValue);
+    }
+
     @Nullable
     public Long getTimestamp() {
         return getFieldByNumber(253, Long.class);
@@ -44,6 +44,10 @@ public class FitPowerZone extends RecordData {
         return getFieldByNumber(1, Integer.class);
     }
 
+    public int getHighValue(final int defaultValue) {
+        return getIntFieldByNumber(1, defaultValue);
+    }
+
     @Nullable
     public String getName() {
         return getFieldByNumber(2, String.class);
@@ -54,6 +58,10 @@ public class FitPowerZone extends RecordData {
         return getFieldByNumber(254, Integer.class);
     }
 
+    public int getMessageIndex(final int defaultValue) {
+        return getIntFieldByNumber(254, defaultValue);
+    }
+
     /**
      * @noinspection unused
      */
@@ -58,31 +58,55 @@ public class FitRecord extends RecordData {
         return getFieldByNumber(2, Float.class);
     }
 
+    public float getAltitude(final float defaultValue) {
+        return getFloatFieldByNumber(2, defaultValue);
+    }
+
     @Nullable
     public Integer getHeartRate() {
         return getFieldByNumber(3, Integer.class);
     }
 
+    public int getHeartRate(final int defaultValue) {
+        return getIntFieldByNumber(3, defaultValue);
+    }
+
     @Nullable
     public Integer getCadence() {
         return getFieldByNumber(4, Integer.class);
     }
 
+    public int getCadence(final int defaultValue) {
+        return getIntFieldByNumber(4, defaultValue);
+    }
+
     @Nullable
     public Double getDistance() {
         return getFieldByNumber(5, Double.class);
     }
 
+    public double getDistance(final double defaultValue) {
+        return getDoubleFieldByNumber(5, defaultValue);
+    }
+
     @Nullable
     public Float getSpeed() {
         return getFieldByNumber(6, Float.class);
     }
 
+    public float getSpeed(final float defaultValue) {
+        return getFloatFieldByNumber(6, defaultValue);
+    }
+
     @Nullable
     public Integer getPower() {
         return getFieldByNumber(7, Integer.class);
     }
 
+    public int getPower(final int defaultValue) {
+        return getIntFieldByNumber(7, defaultValue);
+    }
+
     @Nullable
     public Number[] getCompressedSpeedDistance() {
         return getArrayFieldByNumber(8, Number.class);
@@ -93,26 +117,46 @@ public class FitRecord extends RecordData {
         return getFieldByNumber(9, Float.class);
     }
 
+    public float getGrade(final float defaultValue) {
+        return getFloatFieldByNumber(9, defaultValue);
+    }
+
     @Nullable
     public Integer getResistance() {
         return getFieldByNumber(10, Integer.class);
     }
 
+    public int getResistance(final int defaultValue) {
+        return getIntFieldByNumber(10, defaultValue);
+    }
+
     @Nullable
     public Double getTimeFromCourse() {
         return getFieldByNumber(11, Double.class);
     }
 
+    public double getTimeFromCourse(final double defaultValue) {
+        return getDoubleFieldByNumber(11, defaultValue);
+    }
+
     @Nullable
     public Float getCycleLength() {
         return getFieldByNumber(12, Float.class);
     }
 
+    public float getCycleLength(final float defaultValue) {
+        return getFloatFieldByNumber(12, defaultValue);
+    }
+
     @Nullable
     public Integer getTemperature() {
         return getFieldByNumber(13, Integer.class);
     }
 
+    public int getTemperature(final int defaultValue) {
+        return getIntFieldByNumber(13, defaultValue);
+    }
+
     @Nullable
     public Number[] getSpeed1s() {
         return getArrayFieldByNumber(17, Number.class);
@@ -123,161 +167,289 @@ public class FitRecord extends RecordData {
         return getFieldByNumber(18, Integer.class);
     }
 
+    public int getCycles(final int defaultValue) {
+        return getIntFieldByNumber(18, defaultValue);
+    }
+
     @Nullable
     public Long getTotalCycles() {
         return getFieldByNumber(19, Long.class);
     }
 
+    public long getTotalCycles(final long defaultValue) {
+        return getLongFieldByNumber(19, defaultValue);
+    }
+
     @Nullable
     public Integer getCompressedAccumulatedPower() {
         return getFieldByNumber(28, Integer.class);
     }
 
+    public int getCompressedAccumulatedPower(final int defaultValue) {
+        return getIntFieldByNumber(28, defaultValue);
+    }
+
     @Nullable
     public Long getAccumulatedPower() {
         return getFieldByNumber(29, Long.class);
     }
 
+    public long getAccumulatedPower(final long defaultValue) {
+        return getLongFieldByNumber(29, defaultValue);
+    }
+
     @Nullable
     public Integer getLeftRightBalance() {
         return getFieldByNumber(30, Integer.class);
     }
 
+    public int getLeftRightBalance(final int defaultValue) {
+        return getIntFieldByNumber(30, defaultValue);
+    }
+
     @Nullable
     public Integer getGpsAccuracy() {
         return getFieldByNumber(31, Integer.class);
     }
 
+    public int getGpsAccuracy(final int defaultValue) {
+        return getIntFieldByNumber(31, defaultValue);
+    }
+
     @Nullable
     public Float getVerticalSpeed() {
         return getFieldByNumber(32, Float.class);
     }
 
+    public float getVerticalSpeed(final float defaultValue) {
+        return getFloatFieldByNumber(32, defaultValue);
+    }
+
     @Nullable
     public Integer getCalories() {
         return getFieldByNumber(33, Integer.class);
     }
 
+    public int getCalories(final int defaultValue) {
+        return getIntFieldByNumber(33, defaultValue);
+    }
+
     @Nullable
     public Float getOscillation() {
         return getFieldByNumber(39, Float.class);
     }
 
+    public float getOscillation(final float defaultValue) {
+        return getFloatFieldByNumber(39, defaultValue);
+    }
+
     @Nullable
     public Float getStanceTimePercent() {
         return getFieldByNumber(40, Float.class);
     }
 
+    public float getStanceTimePercent(final float defaultValue) {
+        return getFloatFieldByNumber(40, defaultValue);
+    }
+
     @Nullable
     public Float getStanceTime() {
         return getFieldByNumber(41, Float.class);
     }
 
+    public float getStanceTime(final float defaultValue) {
+        return getFloatFieldByNumber(41, defaultValue);
+    }
+
     @Nullable
     public Integer getActivity() {
         return getFieldByNumber(42, Integer.class);
     }
 
+    public int getActivity(final int defaultValue) {
+        return getIntFieldByNumber(42, defaultValue);
+    }
+
     @Nullable
     public Float getLeftTorqueEffectiveness() {
         return getFieldByNumber(43, Float.class);
     }
 
+    public float getLeftTorqueEffectiveness(final float defaultValue) {
+        return getFloatFieldByNumber(43, defaultValue);
+    }
+
     @Nullable
     public Float getRightTorqueEffectiveness() {
         return getFieldByNumber(44, Float.class);
     }
 
+    public float getRightTorqueEffectiveness(final float defaultValue) {
+        return getFloatFieldByNumber(44, defaultValue);
+    }
+
     @Nullable
     public Float getLeftPedalSmoothness() {
         return getFieldByNumber(45, Float.class);
     }
 
+    public float getLeftPedalSmoothness(final float defaultValue) {
+        return getFloatFieldByNumber(45, defaultValue);
+    }
+
     @Nullable
     public Float getRightPedalSmoothness() {
         return getFieldByNumber(46, Float.class);
     }
 
+    public float getRightPedalSmoothness(final float defaultValue) {
+        return getFloatFieldByNumber(46, defaultValue);
+    }
+
     @Nullable
     public Float getCombinedPedalSmoothness() {
         return getFieldByNumber(47, Float.class);
     }
 
+    public float getCombinedPedalSmoothness(final float defaultValue) {
+        return getFloatFieldByNumber(47, defaultValue);
+    }
+
     @Nullable
     public Float getTime128() {
         return getFieldByNumber(48, Float.class);
     }
 
+    public float getTime128(final float defaultValue) {
+        return getFloatFieldByNumber(48, defaultValue);
+    }
+
     @Nullable
     public Integer getStrokeType() {
         return getFieldByNumber(49, Integer.class);
     }
 
+    public int getStrokeType(final int defaultValue) {
+        return getIntFieldByNumber(49, defaultValue);
+    }
+
     @Nullable
     public Integer getZone() {
         return getFieldByNumber(50, Integer.class);
     }
 
+    public int getZone(final int defaultValue) {
+        return getIntFieldByNumber(50, defaultValue);
+    }
+
     @Nullable
     public Float getBallSpeed() {
         return getFieldByNumber(51, Float.class);
     }
 
+    public float getBallSpeed(final float defaultValue) {
+        return getFloatFieldByNumber(51, defaultValue);
+    }
+
     @Nullable
     public Float getCadence256() {
         return getFieldByNumber(52, Float.class);
     }
 
+    public float getCadence256(final float defaultValue) {
+        return getFloatFieldByNumber(52, defaultValue);
+    }
+
     @Nullable
     public Float getFractionalCadence() {
         return getFieldByNumber(53, Float.class);
     }
 
+    public float getFractionalCadence(final float defaultValue) {
+        return getFloatFieldByNumber(53, defaultValue);
+    }
+
     @Nullable
     public Float getAvgTotalHemoglobinConc() {
         return getFieldByNumber(54, Float.class);
     }
 
+    public float getAvgTotalHemoglobinConc(final float defaultValue) {
+        return getFloatFieldByNumber(54, defaultValue);
+    }
+
     @Nullable
     public Float getMinTotalHemoglobinConc() {
         return getFieldByNumber(55, Float.class);
     }
 
+    public float getMinTotalHemoglobinConc(final float defaultValue) {
+        return getFloatFieldByNumber(55, defaultValue);
+    }
+
     @Nullable
     public Float getMaxTotalHemoglobinConc() {
         return getFieldByNumber(56, Float.class);
     }
 
+    public float getMaxTotalHemoglobinConc(final float defaultValue) {
+        return getFloatFieldByNumber(56, defaultValue);
+    }
+
     @Nullable
     public Float getAvgSaturatedHemoglobinPercent() {
         return getFieldByNumber(57, Float.class);
     }
 
+    public float getAvgSaturatedHemoglobinPercent(final float defaultValue) {
+        return getFloatFieldByNumber(57, defaultValue);
+    }
+
     @Nullable
     public Float getMinSaturatedHemoglobinPercent() {
         return getFieldByNumber(58, Float.class);
     }
 
+    public float getMinSaturatedHemoglobinPercent(final float defaultValue) {
+        return getFloatFieldByNumber(58, defaultValue);
+    }
+
     @Nullable
     public Float getMaxSaturatedHemoglobinPercent() {
         return getFieldByNumber(59, Float.class);
     }
 
+    public float getMaxSaturatedHemoglobinPercent(final float defaultValue) {
+        return getFloatFieldByNumber(59, defaultValue);
+    }
+
     @Nullable
     public Integer getDeviceIndex() {
         return getFieldByNumber(62, Integer.class);
     }
 
+    public int getDeviceIndex(final int defaultValue) {
+        return getIntFieldByNumber(62, defaultValue);
+    }
+
     @Nullable
     public Integer getLeftPco() {
         return getFieldByNumber(67, Integer.class);
     }
 
+    public int getLeftPco(final int defaultValue) {
+        return getIntFieldByNumber(67, defaultValue);
+    }
+
     @Nullable
     public Integer getRightPco() {
         return getFieldByNumber(68, Integer.class);
     }
 
+    public int getRightPco(final int defaultValue) {
+        return getIntFieldByNumber(68, defaultValue);
+    }
+
     @Nullable
     public Number[] getLeftPowerPhase() {
         return getArrayFieldByNumber(69, Number.class);
@@ -303,171 +475,307 @@ public class FitRecord extends RecordData {
         return getFieldByNumber(73, Double.class);
     }
 
+    public double getEnhancedSpeed(final double defaultValue) {
+        return getDoubleFieldByNumber(73, defaultValue);
+    }
+
     @Nullable
     public Double getEnhancedAltitude() {
         return getFieldByNumber(78, Double.class);
     }
 
+    public double getEnhancedAltitude(final double defaultValue) {
+        return getDoubleFieldByNumber(78, defaultValue);
+    }
+
     @Nullable
     public Float getBatterySoc() {
         return getFieldByNumber(81, Float.class);
     }
 
+    public float getBatterySoc(final float defaultValue) {
+        return getFloatFieldByNumber(81, defaultValue);
+    }
+
     @Nullable
     public Integer getMotorPower() {
         return getFieldByNumber(82, Integer.class);
     }
 
+    public int getMotorPower(final int defaultValue) {
+        return getIntFieldByNumber(82, defaultValue);
+    }
+
     @Nullable
     public Float getVerticalRatio() {
         return getFieldByNumber(83, Float.class);
     }
 
+    public float getVerticalRatio(final float defaultValue) {
+        return getFloatFieldByNumber(83, defaultValue);
+    }
+
     @Nullable
     public Float getStanceTimeBalance() {
         return getFieldByNumber(84, Float.class);
     }
 
+    public float getStanceTimeBalance(final float defaultValue) {
+        return getFloatFieldByNumber(84, defaultValue);
+    }
+
     @Nullable
     public Float getStepLength() {
         return getFieldByNumber(85, Float.class);
     }
 
+    public float getStepLength(final float defaultValue) {
+        return getFloatFieldByNumber(85, defaultValue);
+    }
+
     @Nullable
     public Float getCycleLength16() {
         return getFieldByNumber(87, Float.class);
     }
 
+    public float getCycleLength16(final float defaultValue) {
+        return getFloatFieldByNumber(87, defaultValue);
+    }
+
     @Nullable
     public Long getAbsolutePressure() {
         return getFieldByNumber(91, Long.class);
     }
 
+    public long getAbsolutePressure(final long defaultValue) {
+        return getLongFieldByNumber(91, defaultValue);
+    }
+
     @Nullable
     public Double getDepth() {
         return getFieldByNumber(92, Double.class);
     }
 
+    public double getDepth(final double defaultValue) {
+        return getDoubleFieldByNumber(92, defaultValue);
+    }
+
     @Nullable
     public Double getNextStopDepth() {
         return getFieldByNumber(93, Double.class);
     }
 
+    public double getNextStopDepth(final double defaultValue) {
+        return getDoubleFieldByNumber(93, defaultValue);
+    }
+
     @Nullable
     public Long getNextStopTime() {
         return getFieldByNumber(94, Long.class);
     }
 
+    public long getNextStopTime(final long defaultValue) {
+        return getLongFieldByNumber(94, defaultValue);
+    }
+
     @Nullable
     public Long getTimeToSurface() {
         return getFieldByNumber(95, Long.class);
     }
 
+    public long getTimeToSurface(final long defaultValue) {
+        return getLongFieldByNumber(95, defaultValue);
+    }
+
     @Nullable
     public Long getNdlTime() {
         return getFieldByNumber(96, Long.class);
     }
 
+    public long getNdlTime(final long defaultValue) {
+        return getLongFieldByNumber(96, defaultValue);
+    }
+
     @Nullable
     public Integer getCnsLoad() {
         return getFieldByNumber(97, Integer.class);
     }
 
+    public int getCnsLoad(final int defaultValue) {
+        return getIntFieldByNumber(97, defaultValue);
+    }
+
     @Nullable
     public Integer getN2Load() {
         return getFieldByNumber(98, Integer.class);
     }
 
+    public int getN2Load(final int defaultValue) {
+        return getIntFieldByNumber(98, defaultValue);
+    }
+
     @Nullable
     public Integer getRespirationRate() {
         return getFieldByNumber(99, Integer.class);
     }
 
+    public int getRespirationRate(final int defaultValue) {
+        return getIntFieldByNumber(99, defaultValue);
+    }
+
     @Nullable
     public Float getEnhancedRespirationRate() {
         return getFieldByNumber(108, Float.class);
     }
 
+    public float getEnhancedRespirationRate(final float defaultValue) {
+        return getFloatFieldByNumber(108, defaultValue);
+    }
+
     @Nullable
     public Float getGrit() {
         return getFieldByNumber(114, Float.class);
     }
 
+    public float getGrit(final float defaultValue) {
+        return getFloatFieldByNumber(114, defaultValue);
+    }
+
     @Nullable
     public Float getFlow() {
         return getFieldByNumber(115, Float.class);
     }
 
+    public float getFlow(final float defaultValue) {
+        return getFloatFieldByNumber(115, defaultValue);
+    }
+
     @Nullable
     public Float getCurrentStress() {
         return getFieldByNumber(116, Float.class);
     }
 
+    public float getCurrentStress(final float defaultValue) {
+        return getFloatFieldByNumber(116, defaultValue);
+    }
+
     @Nullable
     public Integer getEbikeTravelRang() {
         return getFieldByNumber(117, Integer.class);
     }
 
+    public int getEbikeTravelRang(final int defaultValue) {
+        return getIntFieldByNumber(117, defaultValue);
+    }
+
     @Nullable
     public Integer getEbikeBatteryLevel() {
         return getFieldByNumber(118, Integer.class);
     }
 
+    public int getEbikeBatteryLevel(final int defaultValue) {
+        return getIntFieldByNumber(118, defaultValue);
+    }
+
     @Nullable
     public Integer getEbikeAssistMode() {
         return getFieldByNumber(119, Integer.class);
     }
 
+    public int getEbikeAssistMode(final int defaultValue) {
+        return getIntFieldByNumber(119, defaultValue);
+    }
+
     @Nullable
     public Integer getEbikeAssistLevelPercent() {
         return getFieldByNumber(120, Integer.class);
     }
 
+    public int getEbikeAssistLevelPercent(final int defaultValue) {
+        return getIntFieldByNumber(120, defaultValue);
+    }
+
     @Nullable
     public Long getAirTimeRemaining() {
         return getFieldByNumber(123, Long.class);
     }
 
+    public long getAirTimeRemaining(final long defaultValue) {
+        return getLongFieldByNumber(123, defaultValue);
+    }
+
     @Nullable
     public Float getPressureSac() {
         return getFieldByNumber(124, Float.class);
     }
 
+    public float getPressureSac(final float defaultValue) {
+        return getFloatFieldByNumber(124, defaultValue);
+    }
+
     @Nullable
     public Float getVolumeSac() {
         return getFieldByNumber(125, Float.class);
     }
 
+    public float getVolumeSac(final float defaultValue) {
+        return getFloatFieldByNumber(125, defaultValue);
+    }
+
     @Nullable
     public Float getRmv() {
         return getFieldByNumber(126, Float.class);
     }
 
+    public float getRmv(final float defaultValue) {
+        return getFloatFieldByNumber(126, defaultValue);
+    }
+
     @Nullable
     public Double getAscentRate() {
         return getFieldByNumber(127, Double.class);
     }
 
+    public double getAscentRate(final double defaultValue) {
+        return getDoubleFieldByNumber(127, defaultValue);
+    }
+
     @Nullable
     public Float getPo2() {
         return getFieldByNumber(129, Float.class);
     }
 
+    public float getPo2(final float defaultValue) {
+        return getFloatFieldByNumber(129, defaultValue);
+    }
+
     @Nullable
     public Integer getWristHeartRate() {
         return getFieldByNumber(136, Integer.class);
     }
 
+    public int getWristHeartRate(final int defaultValue) {
+        return getIntFieldByNumber(136, defaultValue);
+    }
+
     @Nullable
     public Float getCoreTemperature() {
         return getFieldByNumber(139, Float.class);
     }
 
+    public float getCoreTemperature(final float defaultValue) {
+        return getFloatFieldByNumber(139, defaultValue);
+    }
+
     @Nullable
     public Integer getBodyBattery() {
         return getFieldByNumber(143, Integer.class);
     }
 
+    public int getBodyBattery(final int defaultValue) {
+        return getIntFieldByNumber(143, defaultValue);
+    }
+
     @Nullable
     public Long getTimestamp() {
         return getFieldByNumber(253, Long.class);
@@ -927,34 +1235,28 @@ public class FitRecord extends RecordData {
     public ActivityPoint toActivityPoint() {
         final ActivityPoint activityPoint = new ActivityPoint();
         activityPoint.setTime(new Date(getComputedTimestamp() * 1000L));
-        if (getLatitude() != null && getLongitude() != null) {
+        final Double latitude = getLatitude();
+        final Double longitude = getLongitude();
+        if (latitude != null && longitude != null) {
             activityPoint.setLocation(new GPSCoordinate(
-                    getLongitude(),
-                    getLatitude(),
-                    getEnhancedAltitude() != null ? getEnhancedAltitude() : GPSCoordinate.UNKNOWN_ALTITUDE
+                    longitude,
+                    latitude,
+                    getEnhancedAltitude(GPSCoordinate.UNKNOWN_ALTITUDE)
             ));
         }
-        if (getHeartRate() != null) {
-            activityPoint.setHeartRate(getHeartRate());
-        }
-        if (getEnhancedSpeed() != null) {
-            activityPoint.setSpeed(getEnhancedSpeed().floatValue());
-        }
-        if (getCadence() != null) {
-            activityPoint.setCadence(getCadence());
-        }
-        if (getPower() != null) {
-            activityPoint.setPower(getPower());
-        }
-        if (getEnhancedRespirationRate() != null) {
-            activityPoint.setRespiratoryRate(getEnhancedRespirationRate());
-        }
-        if (getTemperature() != null) {
-            activityPoint.setTemperature(getTemperature());
-        }
-        if (getDepth() != null) {
-            activityPoint.setDepth(getDepth());
+
+        // This is called for every record of a workout, so avoid boxing the values - missing ones
+        // keep the defaults of the activity point
+        activityPoint.setHeartRate(getHeartRate(activityPoint.getHeartRate()));
+        activityPoint.setSpeed((float) getEnhancedSpeed(activityPoint.getSpeed()));
+        activityPoint.setCadence(getCadence(activityPoint.getCadence()));
+        activityPoint.setPower(getPower(activityPoint.getPower()));
+        activityPoint.setRespiratoryRate(getEnhancedRespirationRate(activityPoint.getRespiratoryRate()));
+        final int temperature = getTemperature(Integer.MIN_VALUE);
+        if (temperature != Integer.MIN_VALUE) {
+            activityPoint.setTemperature(temperature);
         }
+        activityPoint.setDepth(getDepth(activityPoint.getDepth()));
 
         return activityPoint;
     }
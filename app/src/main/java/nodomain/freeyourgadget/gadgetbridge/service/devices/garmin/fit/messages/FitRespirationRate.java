@@ -44,6 +44,10 @@ public class FitRespirationRate extends RecordData {
         return getFieldByNumber(0, Float.class);
     }
 
+    public float getRespirationRate(final float defaultValue) {
+        return getFloatFieldByNumber(0, defaultValue);
+    }
+
     @Nullable
     public Long getTimestamp() {
         return getFieldByNumber(253, Long.class);
@@ -44,21 +44,37 @@ public class FitSchedule extends RecordData {
         return getFieldByNumber(0, Integer.class);
     }
 
+    public int getManufacturer(final int defaultValue) {
+        return getIntFieldByNumber(0, defaultValue);
+    }
+
     @Nullable
     public Integer getProduct() {
         return getFieldByNumber(1, Integer.class);
     }
 
+    public int getProduct(final int defaultValue) {
+        return getIntFieldByNumber(1, defaultValue);
+    }
+
     @Nullable
     public Long getSerialNumber() {
         return getFieldByNumber(2, Long.class);
     }
 
+    public long getSerialNumber(final long defaultValue) {
+        return getLongFieldByNumber(2, defaultValue);
+    }
+
     @Nullable
     public Long getTimeCreated() {
         return getFieldByNumber(3, Long.class);
     }
 
+    public long getTimeCreated(final long defaultValue) {
+        return getLongFieldByNumber(3, defaultValue);
+    }
+
     @Nullable
     public Boolean getCompleted() {
         return getFieldByNumber(4, Boolean.class);
@@ -69,11 +85,19 @@ public class FitSchedule extends RecordData {
         return getFieldByNumber(5, Integer.class);
     }
 
+    public int getType(final int defaultValue) {
+        return getIntFieldByNumber(5, defaultValue);
+    }
+
     @Nullable
     public Long getScheduledTime() {
         return getFieldByNumber(6, Long.class);
     }
 
+    public long getScheduledTime(final long defaultValue) {
+        return getLongFieldByNumber(6, defaultValue);
+    }
+
     /**
      * @noinspection unused
      */
@@ -49,36 +49,64 @@ public class FitSdmProfile extends RecordData {
         return getFieldByNumber(1, Integer.class);
     }
 
+    public int getSdmAntId(final int defaultValue) {
+        return getIntFieldByNumber(1, defaultValue);
+    }
+
     @Nullable
     public Float getSdmCalFactor() {
         return getFieldByNumber(2, Float.class);
     }
 
+    public float getSdmCalFactor(final float defaultValue) {
+        return getFloatFieldByNumber(2, defaultValue);
+    }
+
     @Nullable
     public Double getOdometer() {
         return getFieldByNumber(3, Double.class);
     }
 
+    public double getOdometer(final double defaultValue) {
+        return getDoubleFieldByNumber(3, defaultValue);
+    }
+
     @Nullable
     public Integer getSpeedSource() {
         return getFieldByNumber(4, Integer.class);
     }
 
+    public int getSpeedSource(final int defaultValue) {
+        return getIntFieldByNumber(4, defaultValue);
+    }
+
     @Nullable
     public Integer getSdmAntIdTransType() {
         return getFieldByNumber(5, Integer.class);
     }
 
+    public int getSdmAntIdTransType(final int defaultValue) {
+        return getIntFieldByNumber(5, defaultValue);
+    }
+
     @Nullable
     public Integer getOdometerRollover() {
         return getFieldByNumber(7, Integer.class);
     }
 
+    public int getOdometerRollover(final int defaultValue) {
+        return getIntFieldByNumber(7, defaultValue);
+    }
+
     @Nullable
     public Integer getMessageIndex() {
         return getFieldByNumber(254, Integer.class);
     }
 
+    public int getMessageIndex(final int defaultValue) {
+        return getIntFieldByNumber(254, defaultValue);
+    }
+
     /**
      * @noinspection unused
      */
@@ -49,11 +49,19 @@ public class FitSegmentFile extends RecordData {
         return getFieldByNumber(3, Integer.class);
     }
 
+    public int getEnabled(final int defaultValue) {
+        return getIntFieldByNumber(3, defaultValue);
+    }
+
     @Nullable
     public Long getUserProfilePrimaryKey() {
         return getFieldByNumber(4, Long.class);
     }
 
+    public long getUserProfilePrimaryKey(final long defaultValue) {
+        return getLongFieldByNumber(4, defaultValue);
+    }
+
     @Nullable
     public Number[] getLeaderType() {
         return getArrayFieldByNumber(7, Number.class);
@@ -79,11 +87,19 @@ public class FitSegmentFile extends RecordData {
         return getFieldByNumber(11, Integer.class);
     }
 
+    public int getDefaultRaceLeader(final int defaultValue) {
+        return getIntFieldByNumber(11, defaultValue);
+    }
+
     @Nullable
     public Integer getMessageIndex() {
         return getFieldByNumber(254, Integer.class);
     }
 
+    public int getMessageIndex(final int defaultValue) {
+        return getIntFieldByNumber(254, defaultValue);
+    }
+
     /**
      * @noinspection unused
      */
@@ -54,36 +54,64 @@ public class FitSegmentId extends RecordData {
         return getFieldByNumber(2, Integer.class);
     }
 
+    public int getSport(final int defaultValue) {
+        return getIntFieldByNumber(2, defaultValue);
+    }
+
     @Nullable
     public Integer getEnabled() {
         return getFieldByNumber(3, Integer.class);
     }
 
+    public int getEnabled(final int defaultValue) {
+        return getIntFieldByNumber(3, defaultValue);
+    }
+
     @Nullable
     public Long getUserProfilePrimaryKey() {
         return getFieldByNumber(4, Long.class);
     }
 
+    public long getUserProfilePrimaryKey(final long defaultValue) {
+        return getLongFieldByNumber(4, defaultValue);
+    }
+
     @Nullable
     public Long getDeviceId() {
         return getFieldByNumber(5, Long.class);
     }
 
+    public long getDeviceId(final long defaultValue) {
+        return getLongFieldByNumber(5, defaultValue);
+    }
+
     @Nullable
     public Integer getDefaultRaceLeader() {
         return getFieldByNumber(6, Integer.class);
     }
 
+    public int getDefaultRaceLeader(final int defaultValue) {
+        return getIntFieldByNumber(6, defaultValue);
+    }
+
     @Nullable
     public Integer getDeleteStatus() {
         return getFieldByNumber(7, Integer.class);
     }
 
+    public int getDeleteStatus(final int defaultValue) {
+        return getIntFieldByNumber(7, defaultValue);
+    }
+
     @Nullable
     public Integer getSelectionType() {
         return getFieldByNumber(8, Integer.class);
     }
 
+    public int getSelectionType(final int defaultValue) {
+        return getIntFieldByNumber(8, defaultValue);
+    }
+
     /**
      * @noinspection unused
      */
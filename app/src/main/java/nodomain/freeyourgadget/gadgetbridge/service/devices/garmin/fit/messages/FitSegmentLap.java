@@ -44,16 +44,28 @@ public class FitSegmentLap extends RecordData {
         return getFieldByNumber(0, Integer.class);
     }
 
+    public int getEvent(final int defaultValue) {
+        return getIntFieldByNumber(0, defaultValue);
+    }
+
     @Nullable
     public Integer getEventType() {
         return getFieldByNumber(1, Integer.class);
     }
 
+    public int getEventType(final int defaultValue) {
+        return getIntFieldByNumber(1, defaultValue);
+    }
+
     @Nullable
     public Long getStartTime() {
         return getFieldByNumber(2, Long.class);
     }
 
+    public long getStartTime(final long defaultValue) {
+        return getLongFieldByNumber(2, defaultValue);
+    }
+
     @Nullable
     public Double getStartPositionLat() {
         return getFieldByNumber(3, Double.class);
@@ -79,91 +91,163 @@ public class FitSegmentLap extends RecordData {
         return getFieldByNumber(7, Double.class);
     }
 
+    public double getTotalElapsedTime(final double defaultValue) {
+        return getDoubleFieldByNumber(7, defaultValue);
+    }
+
     @Nullable
     public Double getTotalTimerTime() {
         return getFieldByNumber(8, Double.class);
     }
 
+    public double getTotalTimerTime(final double defaultValue) {
+        return getDoubleFieldByNumber(8, defaultValue);
+    }
+
     @Nullable
     public Double getTotalDistance() {
         return getFieldByNumber(9, Double.class);
     }
 
+    public double getTotalDistance(final double defaultValue) {
+        return getDoubleFieldByNumber(9, defaultValue);
+    }
+
     @Nullable
     public Long getTotalCycles() {
         return getFieldByNumber(10, Long.class);
     }
 
+    public long getTotalCycles(final long defaultValue) {
+        return getLongFieldByNumber(10, defaultValue);
+    }
+
     @Nullable
     public Integer getTotalCalories() {
         return getFieldByNumber(11, Integer.class);
     }
 
+    public int getTotalCalories(final int defaultValue) {
+        return getIntFieldByNumber(11, defaultValue);
+    }
+
     @Nullable
     public Integer getTotalFatCalories() {
         return getFieldByNumber(12, Integer.class);
     }
 
+    public int getTotalFatCalories(final int defaultValue) {
+        return getIntFieldByNumber(12, defaultValue);
+    }
+
     @Nullable
     public Float getAvgSpeed() {
         return getFieldByNumber(13, Float.class);
     }
 
+    public float getAvgSpeed(final float defaultValue) {
+        return getFloatFieldByNumber(13, defaultValue);
+    }
+
     @Nullable
     public Float getMaxSpeed() {
         return getFieldByNumber(14, Float.class);
     }
 
+    public float getMaxSpeed(final float defaultValue) {
+        return getFloatFieldByNumber(14, defaultValue);
+    }
+
     @Nullable
     public Integer getAvgHeartRate() {
         return getFieldByNumber(15, Integer.class);
     }
 
+    public int getAvgHeartRate(final int defaultValue) {
+        return getIntFieldByNumber(15, defaultValue);
+    }
+
     @Nullable
     public Integer getMaxHeartRate() {
         return getFieldByNumber(16, Integer.class);
     }
 
+    public int getMaxHeartRate(final int defaultValue) {
+        return getIntFieldByNumber(16, defaultValue);
+    }
+
     @Nullable
     public Integer getAvgCadence() {
         return getFieldByNumber(17, Integer.class);
     }
 
+    public int getAvgCadence(final int defaultValue) {
+        return getIntFieldByNumber(17, defaultValue);
+    }
+
     @Nullable
     public Integer getMaxCadence() {
         return getFieldByNumber(18, Integer.class);
     }
 
+    public int getMaxCadence(final int defaultValue) {
+        return getIntFieldByNumber(18, defaultValue);
+    }
+
     @Nullable
     public Integer getAvgPower() {
         return getFieldByNumber(19, Integer.class);
     }
 
+    public int getAvgPower(final int defaultValue) {
+        return getIntFieldByNumber(19, defaultValue);
+    }
+
     @Nullable
     public Integer getMaxPower() {
         return getFieldByNumber(20, Integer.class);
     }
 
+    public int getMaxPower(final int defaultValue) {
+        return getIntFieldByNumber(20, defaultValue);
+    }
+
     @Nullable
     public Integer getTotalAscent() {
         return getFieldByNumber(21, Integer.class);
     }
 
+    public int getTotalAscent(final int defaultValue) {
+        return getIntFieldByNumber(21, defaultValue);
+    }
+
     @Nullable
     public Integer getTotalDescent() {
         return getFieldByNumber(22, Integer.class);
     }
 
+    public int getTotalDescent(final int defaultValue) {
+        return getIntFieldByNumber(22, defaultValue);
+    }
+
     @Nullable
     public Integer getSport() {
         return getFieldByNumber(23, Integer.class);
     }
 
+    public int getSport(final int defaultValue) {
+        return getIntFieldByNumber(23, defaultValue);
+    }
+
     @Nullable
     public Integer getEventGroup() {
         return getFieldByNumber(24, Integer.class);
     }
 
+    public int getEventGroup(final int defaultValue) {
+        return getIntFieldByNumber(24, defaultValue);
+    }
+
     @Nullable
     public Double getNecLat() {
         return getFieldByNumber(25, Double.class);
@@ -194,96 +278,172 @@ public class FitSegmentLap extends RecordData {
         return getFieldByNumber(30, Integer.class);
     }
 
+    public int getNormalizedPower(final int defaultValue) {
+        return getIntFieldByNumber(30, defaultValue);
+    }
+
     @Nullable
     public Integer getLeftRightBalance() {
         return getFieldByNumber(31, Integer.class);
     }
 
+    public int getLeftRightBalance(final int defaultValue) {
+        return getIntFieldByNumber(31, defaultValue);
+    }
+
     @Nullable
     public Integer getSubSport() {
         return getFieldByNumber(32, Integer.class);
     }
 
+    public int getSubSport(final int defaultValue) {
+        return getIntFieldByNumber(32, defaultValue);
+    }
+
     @Nullable
     public Long getTotalWork() {
         return getFieldByNumber(33, Long.class);
     }
 
+    public long getTotalWork(final long defaultValue) {
+        return getLongFieldByNumber(33, defaultValue);
+    }
+
     @Nullable
     public Float getAvgAltitude() {
         return getFieldByNumber(34, Float.class);
     }
 
+    public float getAvgAltitude(final float defaultValue) {
+        return getFloatFieldByNumber(34, defaultValue);
+    }
+
     @Nullable
     public Float getMaxAltitude() {
         return getFieldByNumber(35, Float.class);
     }
 
+    public float getMaxAltitude(final float defaultValue) {
+        return getFloatFieldByNumber(35, defaultValue);
+    }
+
     @Nullable
     public Integer getGpsAccuracy() {
         return getFieldByNumber(36, Integer.class);
     }
 
+    public int getGpsAccuracy(final int defaultValue) {
+        return getIntFieldByNumber(36, defaultValue);
+    }
+
     @Nullable
     public Float getAvgGrade() {
         return getFieldByNumber(37, Float.class);
     }
 
+    public float getAvgGrade(final float defaultValue) {
+        return getFloatFieldByNumber(37, defaultValue);
+    }
+
     @Nullable
     public Float getAvgPosGrade() {
         return getFieldByNumber(38, Float.class);
     }
 
+    public float getAvgPosGrade(final float defaultValue) {
+        return getFloatFieldByNumber(38, defaultValue);
+    }
+
     @Nullable
     public Float getAvgNegGrade() {
         return getFieldByNumber(39, Float.class);
     }
 
+    public float getAvgNegGrade(final float defaultValue) {
+        return getFloatFieldByNumber(39, defaultValue);
+    }
+
     @Nullable
     public Float getMaxPosGrade() {
         return getFieldByNumber(40, Float.class);
     }
 
+    public float getMaxPosGrade(final float defaultValue) {
+        return getFloatFieldByNumber(40, defaultValue);
+    }
+
     @Nullable
     public Float getMaxNegGrade() {
         return getFieldByNumber(41, Float.class);
     }
 
+    public float getMaxNegGrade(final float defaultValue) {
+        return getFloatFieldByNumber(41, defaultValue);
+    }
+
     @Nullable
     public Integer getAvgTemperature() {
         return getFieldByNumber(42, Integer.class);
     }
 
+    public int getAvgTemperature(final int defaultValue) {
+        return getIntFieldByNumber(42, defaultValue);
+    }
+
     @Nullable
     public Integer getMaxTemperature() {
         return getFieldByNumber(43, Integer.class);
     }
 
+    public int getMaxTemperature(final int defaultValue) {
+        return getIntFieldByNumber(43, defaultValue);
+    }
+
     @Nullable
     public Double getTotalMovingTime() {
         return getFieldByNumber(44, Double.class);
     }
 
+    public double getTotalMovingTime(final double defaultValue) {
+        return getDoubleFieldByNumber(44, defaultValue);
+    }
+
     @Nullable
     public Float getAvgPosVerticalSpeed() {
         return getFieldByNumber(45, Float.class);
     }
 
+    public float getAvgPosVerticalSpeed(final float defaultValue) {
+        return getFloatFieldByNumber(45, defaultValue);
+    }
+
     @Nullable
     public Float getAvgNegVerticalSpeed() {
         return getFieldByNumber(46, Float.class);
     }
 
+    public float getAvgNegVerticalSpeed(final float defaultValue) {
+        return getFloatFieldByNumber(46, defaultValue);
+    }
+
     @Nullable
     public Float getMaxPosVerticalSpeed() {
         return getFieldByNumber(47, Float.class);
     }
 
+    public float getMaxPosVerticalSpeed(final float defaultValue) {
+        return getFloatFieldByNumber(47, defaultValue);
+    }
+
     @Nullable
     public Float getMaxNegVerticalSpeed() {
         return getFieldByNumber(48, Float.class);
     }
 
+    public float getMaxNegVerticalSpeed(final float defaultValue) {
+        return getFloatFieldByNumber(48, defaultValue);
+    }
+
     @Nullable
     public Number[] getTimeInHrZone() {
         return getArrayFieldByNumber(49, Number.class);
@@ -309,61 +469,109 @@ public class FitSegmentLap extends RecordData {
         return getFieldByNumber(53, Integer.class);
     }
 
+    public int getRepetitionNum(final int defaultValue) {
+        return getIntFieldByNumber(53, defaultValue);
+    }
+
     @Nullable
     public Float getMinAltitude() {
         return getFieldByNumber(54, Float.class);
     }
 
+    public float getMinAltitude(final float defaultValue) {
+        return getFloatFieldByNumber(54, defaultValue);
+    }
+
     @Nullable
     public Integer getMinHeartRate() {
         return getFieldByNumber(55, Integer.class);
     }
 
+    public int getMinHeartRate(final int defaultValue) {
+        return getIntFieldByNumber(55, defaultValue);
+    }
+
     @Nullable
     public Double getActiveTime() {
         return getFieldByNumber(56, Double.class);
     }
 
+    public double getActiveTime(final double defaultValue) {
+        return getDoubleFieldByNumber(56, defaultValue);
+    }
+
     @Nullable
     public Integer getWktStepIndex() {
         return getFieldByNumber(57, Integer.class);
     }
 
+    public int getWktStepIndex(final int defaultValue) {
+        return getIntFieldByNumber(57, defaultValue);
+    }
+
     @Nullable
     public Integer getSportEvent() {
         return getFieldByNumber(58, Integer.class);
     }
 
+    public int getSportEvent(final int defaultValue) {
+        return getIntFieldByNumber(58, defaultValue);
+    }
+
     @Nullable
     public Float getAvgLeftTorqueEffectiveness() {
         return getFieldByNumber(59, Float.class);
     }
 
+    public float getAvgLeftTorqueEffectiveness(final float defaultValue) {
+        return getFloatFieldByNumber(59, defaultValue);
+    }
+
     @Nullable
     public Float getAvgRightTorqueEffectiveness() {
         return getFieldByNumber(60, Float.class);
     }
 
+    public float getAvgRightTorqueEffectiveness(final float defaultValue) {
+        return getFloatFieldByNumber(60, defaultValue);
+    }
+
     @Nullable
     public Float getAvgLeftPedalSmoothness() {
         return getFieldByNumber(61, Float.class);
     }
 
+    public float getAvgLeftPedalSmoothness(final float defaultValue) {
+        return getFloatFieldByNumber(61, defaultValue);
+    }
+
     @Nullable
     public Float getAvgRightPedalSmoothness() {
         return getFieldByNumber(62, Float.class);
     }
 
+    public float getAvgRightPedalSmoothness(final float defaultValue) {
+        return getFloatFieldByNumber(62, defaultValue);
+    }
+
     @Nullable
     public Float getAvgCombinedPedalSmoothness() {
         return getFieldByNumber(63, Float.class);
     }
 
+    public float getAvgCombinedPedalSmoothness(final float defaultValue) {
+        return getFloatFieldByNumber(63, defaultValue);
+    }
+
     @Nullable
     public Integer getStatus() {
         return getFieldByNumber(64, Integer.class);
     }
 
+    public int getStatus(final int defaultValue) {
+        return getIntFieldByNumber(64, defaultValue);
+    }
+
     @Nullable
     public String getUuid() {
         return getFieldByNumber(65, String.class);
@@ -374,46 +582,82 @@ public class FitSegmentLap extends RecordData {
         return getFieldByNumber(66, Float.class);
     }
 
+    public float getAvgFractionalCadence(final float defaultValue) {
+        return getFloatFieldByNumber(66, defaultValue);
+    }
+
     @Nullable
     public Float getMaxFractionalCadence() {
         return getFieldByNumber(67, Float.class);
     }
 
+    public float getMaxFractionalCadence(final float defaultValue) {
+        return getFloatFieldByNumber(67, defaultValue);
+    }
+
     @Nullable
     public Float getTotalFractionalCycles() {
         return getFieldByNumber(68, Float.class);
     }
 
+    public float getTotalFractionalCycles(final float defaultValue) {
+        return getFloatFieldByNumber(68, defaultValue);
+    }
+
     @Nullable
     public Integer getFrontGearShiftCount() {
         return getFieldByNumber(69, Integer.class);
     }
 
+    public int getFrontGearShiftCount(final int defaultValue) {
+        return getIntFieldByNumber(69, defaultValue);
+    }
+
     @Nullable
     public Integer getRearGearShiftCount() {
         return getFieldByNumber(70, Integer.class);
     }
 
+    public int getRearGearShiftCount(final int defaultValue) {
+        return getIntFieldByNumber(70, defaultValue);
+    }
+
     @Nullable
     public Double getTimeStanding() {
         return getFieldByNumber(71, Double.class);
     }
 
+    public double getTimeStanding(final double defaultValue) {
+        return getDoubleFieldByNumber(71, defaultValue);
+    }
+
     @Nullable
     public Integer getStandCount() {
         return getFieldByNumber(72, Integer.class);
     }
 
+    public int getStandCount(final int defaultValue) {
+        return getIntFieldByNumber(72, defaultValue);
+    }
+
     @Nullable
     public Integer getAvgLeftPco() {
         return getFieldByNumber(73, Integer.class);
     }
 
+    public int getAvgLeftPco(final int defaultValue) {
+        return getIntFieldByNumber(73, defaultValue);
+    }
+
     @Nullable
     public Integer getAvgRightPco() {
         return getFieldByNumber(74, Integer.class);
     }
 
+    public int getAvgRightPco(final int defaultValue) {
+        return getIntFieldByNumber(74, defaultValue);
+    }
+
     @Nullable
     public Number[] getAvgLeftPowerPhase() {
         return getArrayFieldByNumber(75, Number.class);
@@ -459,51 +703,91 @@ public class FitSegmentLap extends RecordData {
         return getFieldByNumber(83, Integer.class);
     }
 
+    public int getManufacturer(final int defaultValue) {
+        return getIntFieldByNumber(83, defaultValue);
+    }
+
     @Nullable
     public Float getTotalGrit() {
         return getFieldByNumber(84, Float.class);
     }
 
+    public float getTotalGrit(final float defaultValue) {
+        return getFloatFieldByNumber(84, defaultValue);
+    }
+
     @Nullable
     public Float getTotalFlow() {
         return getFieldByNumber(85, Float.class);
     }
 
+    public float getTotalFlow(final float defaultValue) {
+        return getFloatFieldByNumber(85, defaultValue);
+    }
+
     @Nullable
     public Float getAvgGrit() {
         return getFieldByNumber(86, Float.class);
     }
 
+    public float getAvgGrit(final float defaultValue) {
+        return getFloatFieldByNumber(86, defaultValue);
+    }
+
     @Nullable
     public Float getAvgFlow() {
         return getFieldByNumber(87, Float.class);
     }
 
+    public float getAvgFlow(final float defaultValue) {
+        return getFloatFieldByNumber(87, defaultValue);
+    }
+
     @Nullable
     public Float getTotalFractionalAscent() {
         return getFieldByNumber(89, Float.class);
     }
 
+    public float getTotalFractionalAscent(final float defaultValue) {
+        return getFloatFieldByNumber(89, defaultValue);
+    }
+
     @Nullable
     public Float getTotalFractionalDescent() {
         return getFieldByNumber(90, Float.class);
     }
 
+    public float getTotalFractionalDescent(final float defaultValue) {
+        return getFloatFieldByNumber(90, defaultValue);
+    }
+
     @Nullable
     public Double getEnhancedAvgAltitude() {
         return getFieldByNumber(91, Double.class);
     }
 
+    public double getEnhancedAvgAltitude(final double defaultValue) {
+        return getDoubleFieldByNumber(91, defaultValue);
+    }
+
     @Nullable
     public Double getEnhancedMaxAltitude() {
         return getFieldByNumber(92, Double.class);
     }
 
+    public double getEnhancedMaxAltitude(final double defaultValue) {
+        return getDoubleFieldByNumber(92, defaultValue);
+    }
+
     @Nullable
     public Double getEnhancedMinAltitude() {
         return getFieldByNumber(93, Double.class);
     }
 
+    public double getEnhancedMinAltitude(final double defaultValue) {
+        return getDoubleFieldByNumber(93, defaultValue);
+    }
+
     @Nullable
     public Long getTimestamp() {
         return getFieldByNumber(253, Long.class);
@@ -514,6 +798,10 @@ public class FitSegmentLap extends RecordData {
         return getFieldByNumber(254, Integer.class);
     }
 
+    public int getMessageIndex(final int defaultValue) {
+        return getIntFieldByNumber(254, defaultValue);
+    }
+
     /**
      * @noinspection unused
      */
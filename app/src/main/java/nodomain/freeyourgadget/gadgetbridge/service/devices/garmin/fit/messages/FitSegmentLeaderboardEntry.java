@@ -49,21 +49,37 @@ public class FitSegmentLeaderboardEntry extends RecordData {
         return getFieldByNumber(1, Integer.class);
     }
 
+    public int getType(final int defaultValue) {
+        return getIntFieldByNumber(1, defaultValue);
+    }
+
     @Nullable
     public Long getGroupPrimaryKey() {
         return getFieldByNumber(2, Long.class);
     }
 
+    public long getGroupPrimaryKey(final long defaultValue) {
+        return getLongFieldByNumber(2, defaultValue);
+    }
+
     @Nullable
     public Long getActivityId() {
         return getFieldByNumber(3, Long.class);
     }
 
+    public long getActivityId(final long defaultValue) {
+        return getLongFieldByNumber(3, defaultValue);
+    }
+
     @Nullable
     public Double getSegmentTime() {
         return getFieldByNumber(4, Double.class);
     }
 
+    public double getSegmentTime(final double defaultValue) {
+        return getDoubleFieldByNumber(4, defaultValue);
+    }
+
     @Nullable
     public String getActivityIdString() {
         return getFieldByNumber(5, String.class);
@@ -74,6 +90,10 @@ public class FitSegmentLeaderboardEntry extends RecordData {
         return getFieldByNumber(254, Integer.class);
     }
 
+    public int getMessageIndex(final int defaultValue) {
+        return getIntFieldByNumber(254, defaultValue);
+    }
+
     /**
      * @noinspection unused
      */
@@ -54,11 +54,19 @@ public class FitSegmentPoint extends RecordData {
         return getFieldByNumber(3, Double.class);
     }
 
+    public double getDistance(final double defaultValue) {
+        return getDoubleFieldByNumber(3, defaultValue);
+    }
+
     @Nullable
     public Float getAltitude() {
         return getFieldByNumber(4, Float.class);
     }
 
+    public float getAltitude(final float defaultValue) {
+        return getFloatFieldByNumber(4, defaultValue);
+    }
+
     @Nullable
     public Number[] getLeaderTime() {
         return getArrayFieldByNumber(5, Number.class);
@@ -69,11 +77,19 @@ public class FitSegmentPoint extends RecordData {
         return getFieldByNumber(6, Double.class);
     }
 
+    public double getEnhancedAltitude(final double defaultValue) {
+        return getDoubleFieldByNumber(6, defaultValue);
+    }
+
     @Nullable
     public Integer getMessageIndex() {
         return getFieldByNumber(254, Integer.class);
     }
 
+    public int getMessageIndex(final int defaultValue) {
+        return getIntFieldByNumber(254, defaultValue);
+    }
+
     /**
      * @noinspection unused
      */
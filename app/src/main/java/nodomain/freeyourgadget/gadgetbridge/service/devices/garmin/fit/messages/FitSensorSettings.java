@@ -44,6 +44,10 @@ public class FitSensorSettings extends RecordData {
         return getFieldByNumber(0, Long.class);
     }
 
+    public long getAntId(final long defaultValue) {
+        return getLongFieldByNumber(0, defaultValue);
+    }
+
     @Nullable
     public String getName() {
         return getFieldByNumber(2, String.class);
@@ -54,21 +58,37 @@ public class FitSensorSettings extends RecordData {
         return getFieldByNumber(45, Integer.class);
     }
 
+    public int getUseForSpeed(final int defaultValue) {
+        return getIntFieldByNumber(45, defaultValue);
+    }
+
     @Nullable
     public Integer getUseForDistance() {
         return getFieldByNumber(46, Integer.class);
     }
 
+    public int getUseForDistance(final int defaultValue) {
+        return getIntFieldByNumber(46, defaultValue);
+    }
+
     @Nullable
     public Integer getConnectionType() {
         return getFieldByNumber(51, Integer.class);
     }
 
+    public int getConnectionType(final int defaultValue) {
+        return getIntFieldByNumber(51, defaultValue);
+    }
+
     @Nullable
     public Integer getMessageIndex() {
         return getFieldByNumber(254, Integer.class);
     }
 
+    public int getMessageIndex(final int defaultValue) {
+        return getIntFieldByNumber(254, defaultValue);
+    }
+
     /**
      * @noinspection unused
      */
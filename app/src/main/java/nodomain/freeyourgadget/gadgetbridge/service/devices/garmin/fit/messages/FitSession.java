@@ -50,16 +50,28 @@ public class FitSession extends RecordData {
         return getFieldByNumber(0, Integer.class);
     }
 
+    public int getEvent(final int defaultValue) {
+        return getIntFieldByNumber(0, defaultValue);
+    }
+
     @Nullable
     public Integer getEventType() {
         return getFieldByNumber(1, Integer.class);
     }
 
+    public int getEventType(final int defaultValue) {
+        return getIntFieldByNumber(1, defaultValue);
+    }
+
     @Nullable
     public Long getStartTime() {
         return getFieldByNumber(2, Long.class);
     }
 
+    public long getStartTime(final long defaultValue) {
+        return getLongFieldByNumber(2, defaultValue);
+    }
+
     @Nullable
     public Double getStartLatitude() {
         return getFieldByNumber(3, Double.class);
@@ -75,116 +87,208 @@ public class FitSession extends RecordData {
         return getFieldByNumber(5, Integer.class);
     }
 
+    public int getSport(final int defaultValue) {
+        return getIntFieldByNumber(5, defaultValue);
+    }
+
     @Nullable
     public Integer getSubSport() {
         return getFieldByNumber(6, Integer.class);
     }
 
+    public int getSubSport(final int defaultValue) {
+        return getIntFieldByNumber(6, defaultValue);
+    }
+
     @Nullable
     public Long getTotalElapsedTime() {
         return getFieldByNumber(7, Long.class);
     }
 
+    public long getTotalElapsedTime(final long defaultValue) {
+        return getLongFieldByNumber(7, defaultValue);
+    }
+
     @Nullable
     public Long getTotalTimerTime() {
         return getFieldByNumber(8, Long.class);
     }
 
+    public long getTotalTimerTime(final long defaultValue) {
+        return getLongFieldByNumber(8, defaultValue);
+    }
+
     @Nullable
     public Long getTotalDistance() {
         return getFieldByNumber(9, Long.class);
     }
 
+    public long getTotalDistance(final long defaultValue) {
+        return getLongFieldByNumber(9, defaultValue);
+    }
+
     @Nullable
     public Long getTotalCycles() {
         return getFieldByNumber(10, Long.class);
     }
 
+    public long getTotalCycles(final long defaultValue) {
+        return getLongFieldByNumber(10, defaultValue);
+    }
+
     @Nullable
     public Integer getTotalCalories() {
         return getFieldByNumber(11, Integer.class);
     }
 
+    public int getTotalCalories(final int defaultValue) {
+        return getIntFieldByNumber(11, defaultValue);
+    }
+
     @Nullable
     public Integer getTotalFatCalories() {
         return getFieldByNumber(13, Integer.class);
     }
 
+    public int getTotalFatCalories(final int defaultValue) {
+        return getIntFieldByNumber(13, defaultValue);
+    }
+
     @Nullable
     public Float getAvgSpeed() {
         return getFieldByNumber(14, Float.class);
     }
 
+    public float getAvgSpeed(final float defaultValue) {
+        return getFloatFieldByNumber(14, defaultValue);
+    }
+
     @Nullable
     public Float getMaxSpeed() {
         return getFieldByNumber(15, Float.class);
     }
 
+    public float getMaxSpeed(final float defaultValue) {
+        return getFloatFieldByNumber(15, defaultValue);
+    }
+
     @Nullable
     public Integer getAverageHeartRate() {
         return getFieldByNumber(16, Integer.class);
     }
 
+    public int getAverageHeartRate(final int defaultValue) {
+        return getIntFieldByNumber(16, defaultValue);
+    }
+
     @Nullable
     public Integer getMaxHeartRate() {
         return getFieldByNumber(17, Integer.class);
     }
 
+    public int getMaxHeartRate(final int defaultValue) {
+        return getIntFieldByNumber(17, defaultValue);
+    }
+
     @Nullable
     public Integer getAvgCadence() {
         return getFieldByNumber(18, Integer.class);
     }
 
+    public int getAvgCadence(final int defaultValue) {
+        return getIntFieldByNumber(18, defaultValue);
+    }
+
     @Nullable
     public Integer getMaxCadence() {
         return getFieldByNumber(19, Integer.class);
     }
 
+    public int getMaxCadence(final int defaultValue) {
+        return getIntFieldByNumber(19, defaultValue);
+    }
+
     @Nullable
     public Integer getAvgPower() {
         return getFieldByNumber(20, Integer.class);
     }
 
+    public int getAvgPower(final int defaultValue) {
+        return getIntFieldByNumber(20, defaultValue);
+    }
+
     @Nullable
     public Integer getMaxPower() {
         return getFieldByNumber(21, Integer.class);
     }
 
+    public int getMaxPower(final int defaultValue) {
+        return getIntFieldByNumber(21, defaultValue);
+    }
+
     @Nullable
     public Integer getTotalAscent() {
         return getFieldByNumber(22, Integer.class);
     }
 
+    public int getTotalAscent(final int defaultValue) {
+        return getIntFieldByNumber(22, defaultValue);
+    }
+
     @Nullable
     public Integer getTotalDescent() {
         return getFieldByNumber(23, Integer.class);
     }
 
+    public int getTotalDescent(final int defaultValue) {
+        return getIntFieldByNumber(23, defaultValue);
+    }
+
     @Nullable
     public Float getTotalTrainingEffect() {
         return getFieldByNumber(24, Float.class);
     }
 
+    public float getTotalTrainingEffect(final float defaultValue) {
+        return getFloatFieldByNumber(24, defaultValue);
+    }
+
     @Nullable
     public Integer getFirstLapIndex() {
         return getFieldByNumber(25, Integer.class);
     }
 
+    public int getFirstLapIndex(final int defaultValue) {
+        return getIntFieldByNumber(25, defaultValue);
+    }
+
     @Nullable
     public Integer getNumLaps() {
         return getFieldByNumber(26, Integer.class);
     }
 
+    public int getNumLaps(final int defaultValue) {
+        return getIntFieldByNumber(26, defaultValue);
+    }
+
     @Nullable
     public Integer getEventGroup() {
         return getFieldByNumber(27, Integer.class);
     }
 
+    public int getEventGroup(final int defaultValue) {
+        return getIntFieldByNumber(27, defaultValue);
+    }
+
     @Nullable
     public Integer getTrigger() {
         return getFieldByNumber(28, Integer.class);
     }
 
+    public int getTrigger(final int defaultValue) {
+        return getIntFieldByNumber(28, defaultValue);
+    }
+
     @Nullable
     public Double getNecLatitude() {
         return getFieldByNumber(29, Double.class);
@@ -210,26 +314,46 @@ public class FitSession extends RecordData {
         return getFieldByNumber(33, Integer.class);
     }
 
+    public int getNumLengths(final int defaultValue) {
+        return getIntFieldByNumber(33, defaultValue);
+    }
+
     @Nullable
     public Integer getNormalizedPower() {
         return getFieldByNumber(34, Integer.class);
     }
 
+    public int getNormalizedPower(final int defaultValue) {
+        return getIntFieldByNumber(34, defaultValue);
+    }
+
     @Nullable
     public Float getTrainingStressScore() {
         return getFieldByNumber(35, Float.class);
     }
 
+    public float getTrainingStressScore(final float defaultValue) {
+        return getFloatFieldByNumber(35, defaultValue);
+    }
+
     @Nullable
     public Float getIntensityFactor() {
         return getFieldByNumber(36, Float.class);
     }
 
+    public float getIntensityFactor(final float defaultValue) {
+        return getFloatFieldByNumber(36, defaultValue);
+    }
+
     @Nullable
     public Integer getLeftRightBalance() {
         return getFieldByNumber(37, Integer.class);
     }
 
+    public int getLeftRightBalance(final int defaultValue) {
+        return getIntFieldByNumber(37, defaultValue);
+    }
+
     @Nullable
     public Double getEndLatitude() {
         return getFieldByNumber(38, Double.class);
@@ -245,121 +369,217 @@ public class FitSession extends RecordData {
         return getFieldByNumber(41, Long.class);
     }
 
+    public long getAvgStrokeCount(final long defaultValue) {
+        return getLongFieldByNumber(41, defaultValue);
+    }
+
     @Nullable
     public Float getAvgStrokeDistance() {
         return getFieldByNumber(42, Float.class);
     }
 
+    public float getAvgStrokeDistance(final float defaultValue) {
+        return getFloatFieldByNumber(42, defaultValue);
+    }
+
     @Nullable
     public Integer getSwimStroke() {
         return getFieldByNumber(43, Integer.class);
     }
 
+    public int getSwimStroke(final int defaultValue) {
+        return getIntFieldByNumber(43, defaultValue);
+    }
+
     @Nullable
     public Float getPoolLength() {
         return getFieldByNumber(44, Float.class);
     }
 
+    public float getPoolLength(final float defaultValue) {
+        return getFloatFieldByNumber(44, defaultValue);
+    }
+
     @Nullable
     public Integer getThresholdPower() {
         return getFieldByNumber(45, Integer.class);
     }
 
+    public int getThresholdPower(final int defaultValue) {
+        return getIntFieldByNumber(45, defaultValue);
+    }
+
     @Nullable
     public Integer getPoolLengthUnit() {
         return getFieldByNumber(46, Integer.class);
     }
 
+    public int getPoolLengthUnit(final int defaultValue) {
+        return getIntFieldByNumber(46, defaultValue);
+    }
+
     @Nullable
     public Integer getNumActiveLengths() {
         return getFieldByNumber(47, Integer.class);
     }
 
+    public int getNumActiveLengths(final int defaultValue) {
+        return getIntFieldByNumber(47, defaultValue);
+    }
+
     @Nullable
     public Long getTotalWork() {
         return getFieldByNumber(48, Long.class);
     }
 
+    public long getTotalWork(final long defaultValue) {
+        return getLongFieldByNumber(48, defaultValue);
+    }
+
     @Nullable
     public Float getAvgAltitude() {
         return getFieldByNumber(49, Float.class);
     }
 
+    public float getAvgAltitude(final float defaultValue) {
+        return getFloatFieldByNumber(49, defaultValue);
+    }
+
     @Nullable
     public Float getMaxAltitude() {
         return getFieldByNumber(50, Float.class);
     }
 
+    public float getMaxAltitude(final float defaultValue) {
+        return getFloatFieldByNumber(50, defaultValue);
+    }
+
     @Nullable
     public Integer getGpsAccuracy() {
         return getFieldByNumber(51, Integer.class);
     }
 
+    public int getGpsAccuracy(final int defaultValue) {
+        return getIntFieldByNumber(51, defaultValue);
+    }
+
     @Nullable
     public Float getAvgGrade() {
         return getFieldByNumber(52, Float.class);
     }
 
+    public float getAvgGrade(final float defaultValue) {
+        return getFloatFieldByNumber(52, defaultValue);
+    }
+
     @Nullable
     public Float getAvgPosGrade() {
         return getFieldByNumber(53, Float.class);
     }
 
+    public float getAvgPosGrade(final float defaultValue) {
+        return getFloatFieldByNumber(53, defaultValue);
+    }
+
     @Nullable
     public Float getAvgNegGrade() {
         return getFieldByNumber(54, Float.class);
     }
 
+    public float getAvgNegGrade(final float defaultValue) {
+        return getFloatFieldByNumber(54, defaultValue);
+    }
+
     @Nullable
     public Float getMaxPosGrade() {
         return getFieldByNumber(55, Float.class);
     }
 
+    public float getMaxPosGrade(final float defaultValue) {
+        return getFloatFieldByNumber(55, defaultValue);
+    }
+
     @Nullable
     public Float getMaxNegGrade() {
         return getFieldByNumber(56, Float.class);
     }
 
+    public float getMaxNegGrade(final float defaultValue) {
+        return getFloatFieldByNumber(56, defaultValue);
+    }
+
     @Nullable
     public Integer getAvgTemperature() {
         return getFieldByNumber(57, Integer.class);
     }
 
+    public int getAvgTemperature(final int defaultValue) {
+        return getIntFieldByNumber(57, defaultValue);
+    }
+
     @Nullable
     public Integer getMaxTemperature() {
         return getFieldByNumber(58, Integer.class);
     }
 
+    public int getMaxTemperature(final int defaultValue) {
+        return getIntFieldByNumber(58, defaultValue);
+    }
+
     @Nullable
     public Double getTotalMovingTime() {
         return getFieldByNumber(59, Double.class);
     }
 
+    public double getTotalMovingTime(final double defaultValue) {
+        return getDoubleFieldByNumber(59, defaultValue);
+    }
+
     @Nullable
     public Float getAvgPosVerticalSpeed() {
         return getFieldByNumber(60, Float.class);
     }
 
+    public float getAvgPosVerticalSpeed(final float defaultValue) {
+        return getFloatFieldByNumber(60, defaultValue);
+    }
+
     @Nullable
     public Float getAvgNegVerticalSpeed() {
         return getFieldByNumber(61, Float.class);
     }
 
+    public float getAvgNegVerticalSpeed(final float defaultValue) {
+        return getFloatFieldByNumber(61, defaultValue);
+    }
+
     @Nullable
     public Float getMaxPosVerticalSpeed() {
         return getFieldByNumber(62, Float.class);
     }
 
+    public float getMaxPosVerticalSpeed(final float defaultValue) {
+        return getFloatFieldByNumber(62, defaultValue);
+    }
+
     @Nullable
     public Float getMaxNegVerticalSpeed() {
         return getFieldByNumber(63, Float.class);
     }
 
+    public float getMaxNegVerticalSpeed(final float defaultValue) {
+        return getFloatFieldByNumber(63, defaultValue);
+    }
+
     @Nullable
     public Integer getMinHeartRate() {
         return getFieldByNumber(64, Integer.class);
     }
 
+    public int getMinHeartRate(final int defaultValue) {
+        return getIntFieldByNumber(64, defaultValue);
+    }
+
     @Nullable
     public Number[] getTimeInHrZone() {
         return getArrayFieldByNumber(65, Number.class);
@@ -385,36 +605,64 @@ public class FitSession extends RecordData {
         return getFieldByNumber(69, Double.class);
     }
 
+    public double getAvgLapTime(final double defaultValue) {
+        return getDoubleFieldByNumber(69, defaultValue);
+    }
+
     @Nullable
     public Integer getBestLapIndex() {
         return getFieldByNumber(70, Integer.class);
     }
 
+    public int getBestLapIndex(final int defaultValue) {
+        return getIntFieldByNumber(70, defaultValue);
+    }
+
     @Nullable
     public Float getMinAltitude() {
         return getFieldByNumber(71, Float.class);
     }
 
+    public float getMinAltitude(final float defaultValue) {
+        return getFloatFieldByNumber(71, defaultValue);
+    }
+
     @Nullable
     public Float getAvgSwimCadence() {
         return getFieldByNumber(79, Float.class);
     }
 
+    public float getAvgSwimCadence(final float defaultValue) {
+        return getFloatFieldByNumber(79, defaultValue);
+    }
+
     @Nullable
     public Integer getAvgSwolf() {
         return getFieldByNumber(80, Integer.class);
     }
 
+    public int getAvgSwolf(final int defaultValue) {
+        return getIntFieldByNumber(80, defaultValue);
+    }
+
     @Nullable
     public Integer getPlayerScore() {
         return getFieldByNumber(82, Integer.class);
     }
 
+    public int getPlayerScore(final int defaultValue) {
+        return getIntFieldByNumber(82, defaultValue);
+    }
+
     @Nullable
     public Integer getOpponentScore() {
         return getFieldByNumber(83, Integer.class);
     }
 
+    public int getOpponentScore(final int defaultValue) {
+        return getIntFieldByNumber(83, defaultValue);
+    }
+
     @Nullable
     public String getOpponentName() {
         return getFieldByNumber(84, String.class);
@@ -435,41 +683,73 @@ public class FitSession extends RecordData {
         return getFieldByNumber(87, Float.class);
     }
 
+    public float getMaxBallSpeed(final float defaultValue) {
+        return getFloatFieldByNumber(87, defaultValue);
+    }
+
     @Nullable
     public Float getAvgBallSpeed() {
         return getFieldByNumber(88, Float.class);
     }
 
+    public float getAvgBallSpeed(final float defaultValue) {
+        return getFloatFieldByNumber(88, defaultValue);
+    }
+
     @Nullable
     public Float getAvgVerticalOscillation() {
         return getFieldByNumber(89, Float.class);
     }
 
+    public float getAvgVerticalOscillation(final float defaultValue) {
+        return getFloatFieldByNumber(89, defaultValue);
+    }
+
     @Nullable
     public Float getAvgStanceTimePercent() {
         return getFieldByNumber(90, Float.class);
     }
 
+    public float getAvgStanceTimePercent(final float defaultValue) {
+        return getFloatFieldByNumber(90, defaultValue);
+    }
+
     @Nullable
     public Float getAvgStanceTime() {
         return getFieldByNumber(91, Float.class);
     }
 
+    public float getAvgStanceTime(final float defaultValue) {
+        return getFloatFieldByNumber(91, defaultValue);
+    }
+
     @Nullable
     public Float getAvgFractionalCadence() {
         return getFieldByNumber(92, Float.class);
     }
 
+    public float getAvgFractionalCadence(final float defaultValue) {
+        return getFloatFieldByNumber(92, defaultValue);
+    }
+
     @Nullable
     public Float getMaxFractionalCadence() {
         return getFieldByNumber(93, Float.class);
     }
 
+    public float getMaxFractionalCadence(final float defaultValue) {
+        return getFloatFieldByNumber(93, defaultValue);
+    }
+
     @Nullable
     public Float getTotalFractionalCycles() {
         return getFieldByNumber(94, Float.class);
     }
 
+    public float getTotalFractionalCycles(final float defaultValue) {
+        return getFloatFieldByNumber(94, defaultValue);
+    }
+
     @Nullable
     public Number[] getAvgTotalHemoglobinConc() {
         return getArrayFieldByNumber(95, Number.class);
@@ -505,36 +785,64 @@ public class FitSession extends RecordData {
         return getFieldByNumber(101, Float.class);
     }
 
+    public float getAvgLeftTorqueEffectiveness(final float defaultValue) {
+        return getFloatFieldByNumber(101, defaultValue);
+    }
+
     @Nullable
     public Float getAvgRightTorqueEffectiveness() {
         return getFieldByNumber(102, Float.class);
     }
 
+    public float getAvgRightTorqueEffectiveness(final float defaultValue) {
+        return getFloatFieldByNumber(102, defaultValue);
+    }
+
     @Nullable
     public Float getAvgLeftPedalSmoothness() {
         return getFieldByNumber(103, Float.class);
     }
 
+    public float getAvgLeftPedalSmoothness(final float defaultValue) {
+        return getFloatFieldByNumber(103, defaultValue);
+    }
+
     @Nullable
     public Float getAvgRightPedalSmoothness() {
         return getFieldByNumber(104, Float.class);
     }
 
+    public float getAvgRightPedalSmoothness(final float defaultValue) {
+        return getFloatFieldByNumber(104, defaultValue);
+    }
+
     @Nullable
     public Float getAvgCombinedPedalSmoothness() {
         return getFieldByNumber(105, Float.class);
     }
 
+    public float getAvgCombinedPedalSmoothness(final float defaultValue) {
+        return getFloatFieldByNumber(105, defaultValue);
+    }
+
     @Nullable
     public Integer getFrontShifts() {
         return getFieldByNumber(107, Integer.class);
     }
 
+    public int getFrontShifts(final int defaultValue) {
+        return getIntFieldByNumber(107, defaultValue);
+    }
+
     @Nullable
     public Integer getRearShifts() {
         return getFieldByNumber(108, Integer.class);
     }
 
+    public int getRearShifts(final int defaultValue) {
+        return getIntFieldByNumber(108, defaultValue);
+    }
+
     @Nullable
     public String getSportProfileName() {
         return getFieldByNumber(110, String.class);
@@ -545,26 +853,46 @@ public class FitSession extends RecordData {
         return getFieldByNumber(111, Integer.class);
     }
 
+    public int getSportIndex(final int defaultValue) {
+        return getIntFieldByNumber(111, defaultValue);
+    }
+
     @Nullable
     public Long getStandTime() {
         return getFieldByNumber(112, Long.class);
     }
 
+    public long getStandTime(final long defaultValue) {
+        return getLongFieldByNumber(112, defaultValue);
+    }
+
     @Nullable
     public Integer getStandCount() {
         return getFieldByNumber(113, Integer.class);
     }
 
+    public int getStandCount(final int defaultValue) {
+        return getIntFieldByNumber(113, defaultValue);
+    }
+
     @Nullable
     public Integer getAvgLeftPco() {
         return getFieldByNumber(114, Integer.class);
     }
 
+    public int getAvgLeftPco(final int defaultValue) {
+        return getIntFieldByNumber(114, defaultValue);
+    }
+
     @Nullable
     public Integer getAvgRightPco() {
         return getFieldByNumber(115, Integer.class);
     }
 
+    public int getAvgRightPco(final int defaultValue) {
+        return getIntFieldByNumber(115, defaultValue);
+    }
+
     @Nullable
     public Number[] getAvgLeftPowerPhase() {
         return getArrayFieldByNumber(116, Number.class);
@@ -610,291 +938,523 @@ public class FitSession extends RecordData {
         return getFieldByNumber(124, Double.class);
     }
 
+    public double getEnhancedAvgSpeed(final double defaultValue) {
+        return getDoubleFieldByNumber(124, defaultValue);
+    }
+
     @Nullable
     public Double getEnhancedMaxSpeed() {
         return getFieldByNumber(125, Double.class);
     }
 
+    public double getEnhancedMaxSpeed(final double defaultValue) {
+        return getDoubleFieldByNumber(125, defaultValue);
+    }
+
     @Nullable
     public Double getEnhancedAvgAltitude() {
         return getFieldByNumber(126, Double.class);
     }
 
+    public double getEnhancedAvgAltitude(final double defaultValue) {
+        return getDoubleFieldByNumber(126, defaultValue);
+    }
+
     @Nullable
     public Double getEnhancedMinAltitude() {
         return getFieldByNumber(127, Double.class);
     }
 
+    public double getEnhancedMinAltitude(final double defaultValue) {
+        return getDoubleFieldByNumber(127, defaultValue);
+    }
+
     @Nullable
     public Double getEnhancedMaxAltitude() {
         return getFieldByNumber(128, Double.class);
     }
 
+    public double getEnhancedMaxAltitude(final double defaultValue) {
+        return getDoubleFieldByNumber(128, defaultValue);
+    }
+
     @Nullable
     public Integer getAvgLevMotorPower() {
         return getFieldByNumber(129, Integer.class);
     }
 
+    public int getAvgLevMotorPower(final int defaultValue) {
+        return getIntFieldByNumber(129, defaultValue);
+    }
+
     @Nullable
     public Integer getMaxLevMotorPower() {
         return getFieldByNumber(130, Integer.class);
     }
 
+    public int getMaxLevMotorPower(final int defaultValue) {
+        return getIntFieldByNumber(130, defaultValue);
+    }
+
     @Nullable
     public Float getLevBatteryConsumption() {
         return getFieldByNumber(131, Float.class);
     }
 
+    public float getLevBatteryConsumption(final float defaultValue) {
+        return getFloatFieldByNumber(131, defaultValue);
+    }
+
     @Nullable
     public Float getAvgVerticalRatio() {
         return getFieldByNumber(132, Float.class);
     }
 
+    public float getAvgVerticalRatio(final float defaultValue) {
+        return getFloatFieldByNumber(132, defaultValue);
+    }
+
     @Nullable
     public Float getAvgStanceTimeBalance() {
         return getFieldByNumber(133, Float.class);
     }
 
+    public float getAvgStanceTimeBalance(final float defaultValue) {
+        return getFloatFieldByNumber(133, defaultValue);
+    }
+
     @Nullable
     public Float getAvgStepLength() {
         return getFieldByNumber(134, Float.class);
     }
 
+    public float getAvgStepLength(final float defaultValue) {
+        return getFloatFieldByNumber(134, defaultValue);
+    }
+
     @Nullable
     public Float getTotalAnaerobicTrainingEffect() {
         return getFieldByNumber(137, Float.class);
     }
 
+    public float getTotalAnaerobicTrainingEffect(final float defaultValue) {
+        return getFloatFieldByNumber(137, defaultValue);
+    }
+
     @Nullable
     public Float getAvgVam() {
         return getFieldByNumber(139, Float.class);
     }
 
+    public float getAvgVam(final float defaultValue) {
+        return getFloatFieldByNumber(139, defaultValue);
+    }
+
     @Nullable
     public Double getAvgDepth() {
         return getFieldByNumber(140, Double.class);
     }
 
+    public double getAvgDepth(final double defaultValue) {
+        return getDoubleFieldByNumber(140, defaultValue);
+    }
+
     @Nullable
     public Double getMaxDepth() {
         return getFieldByNumber(141, Double.class);
     }
 
+    public double getMaxDepth(final double defaultValue) {
+        return getDoubleFieldByNumber(141, defaultValue);
+    }
+
     @Nullable
     public Long getSurfaceInterval() {
         return getFieldByNumber(142, Long.class);
     }
 
+    public long getSurfaceInterval(final long defaultValue) {
+        return getLongFieldByNumber(142, defaultValue);
+    }
+
     @Nullable
     public Integer getStartCns() {
         return getFieldByNumber(143, Integer.class);
     }
 
+    public int getStartCns(final int defaultValue) {
+        return getIntFieldByNumber(143, defaultValue);
+    }
+
     @Nullable
     public Integer getEndCns() {
         return getFieldByNumber(144, Integer.class);
     }
 
+    public int getEndCns(final int defaultValue) {
+        return getIntFieldByNumber(144, defaultValue);
+    }
+
     @Nullable
     public Integer getStartN2() {
         return getFieldByNumber(145, Integer.class);
     }
 
+    public int getStartN2(final int defaultValue) {
+        return getIntFieldByNumber(145, defaultValue);
+    }
+
     @Nullable
     public Integer getEndN2() {
         return getFieldByNumber(146, Integer.class);
     }
 
+    public int getEndN2(final int defaultValue) {
+        return getIntFieldByNumber(146, defaultValue);
+    }
+
     @Nullable
     public Integer getAvgRespirationRate() {
         return getFieldByNumber(147, Integer.class);
     }
 
+    public int getAvgRespirationRate(final int defaultValue) {
+        return getIntFieldByNumber(147, defaultValue);
+    }
+
     @Nullable
     public Integer getMaxRespirationRate() {
         return getFieldByNumber(148, Integer.class);
     }
 
+    public int getMaxRespirationRate(final int defaultValue) {
+        return getIntFieldByNumber(148, defaultValue);
+    }
+
     @Nullable
     public Integer getMinRespirationRate() {
         return getFieldByNumber(149, Integer.class);
     }
 
+    public int getMinRespirationRate(final int defaultValue) {
+        return getIntFieldByNumber(149, defaultValue);
+    }
+
     @Nullable
     public Integer getMinTemperature() {
         return getFieldByNumber(150, Integer.class);
     }
 
+    public int getMinTemperature(final int defaultValue) {
+        return getIntFieldByNumber(150, defaultValue);
+    }
+
     @Nullable
     public Integer getO2Toxicity() {
         return getFieldByNumber(155, Integer.class);
     }
 
+    public int getO2Toxicity(final int defaultValue) {
+        return getIntFieldByNumber(155, defaultValue);
+    }
+
     @Nullable
     public Long getDiveNumber() {
         return getFieldByNumber(156, Long.class);
     }
 
+    public long getDiveNumber(final long defaultValue) {
+        return getLongFieldByNumber(156, defaultValue);
+    }
+
     @Nullable
     public Double getTrainingLoadPeak() {
         return getFieldByNumber(168, Double.class);
     }
 
+    public double getTrainingLoadPeak(final double defaultValue) {
+        return getDoubleFieldByNumber(168, defaultValue);
+    }
+
     @Nullable
     public Float getEnhancedAvgRespirationRate() {
         return getFieldByNumber(169, Float.class);
     }
 
+    public float getEnhancedAvgRespirationRate(final float defaultValue) {
+        return getFloatFieldByNumber(169, defaultValue);
+    }
+
     @Nullable
     public Float getEnhancedMaxRespirationRate() {
         return getFieldByNumber(170, Float.class);
     }
 
+    public float getEnhancedMaxRespirationRate(final float defaultValue) {
+        return getFloatFieldByNumber(170, defaultValue);
+    }
+
     @Nullable
     public Integer getCaloriesConsumed() {
         return getFieldByNumber(177, Integer.class);
     }
 
+    public int getCaloriesConsumed(final int defaultValue) {
+        return getIntFieldByNumber(177, defaultValue);
+    }
+
     @Nullable
     public Integer getEstimatedSweatLoss() {
         return getFieldByNumber(178, Integer.class);
     }
 
+    public int getEstimatedSweatLoss(final int defaultValue) {
+        return getIntFieldByNumber(178, defaultValue);
+    }
+
     @Nullable
     public Integer getFluidConsumed() {
         return getFieldByNumber(179, Integer.class);
     }
 
+    public int getFluidConsumed(final int defaultValue) {
+        return getIntFieldByNumber(179, defaultValue);
+    }
+
     @Nullable
     public Float getEnhancedMinRespirationRate() {
         return getFieldByNumber(180, Float.class);
     }
 
+    public float getEnhancedMinRespirationRate(final float defaultValue) {
+        return getFloatFieldByNumber(180, defaultValue);
+    }
+
     @Nullable
     public Float getTotalGrit() {
         return getFieldByNumber(181, Float.class);
     }
 
+    public float getTotalGrit(final float defaultValue) {
+        return getFloatFieldByNumber(181, defaultValue);
+    }
+
     @Nullable
     public Float getTotalFlow() {
         return getFieldByNumber(182, Float.class);
     }
 
+    public float getTotalFlow(final float defaultValue) {
+        return getFloatFieldByNumber(182, defaultValue);
+    }
+
     @Nullable
     public Integer getJumpCount() {
         return getFieldByNumber(183, Integer.class);
     }
 
+    public int getJumpCount(final int defaultValue) {
+        return getIntFieldByNumber(183, defaultValue);
+    }
+
     @Nullable
     public Float getAvgGrit() {
         return getFieldByNumber(186, Float.class);
     }
 
+    public float getAvgGrit(final float defaultValue) {
+        return getFloatFieldByNumber(186, defaultValue);
+    }
+
     @Nullable
     public Float getAvgFlow() {
         return getFieldByNumber(187, Float.class);
     }
 
+    public float getAvgFlow(final float defaultValue) {
+        return getFloatFieldByNumber(187, defaultValue);
+    }
+
     @Nullable
     public Integer getPrimaryBenefit() {
         return getFieldByNumber(188, Integer.class);
     }
 
+    public int getPrimaryBenefit(final int defaultValue) {
+        return getIntFieldByNumber(188, defaultValue);
+    }
+
     @Nullable
     public Integer getWorkoutFeel() {
         return getFieldByNumber(192, Integer.class);
     }
 
+    public int getWorkoutFeel(final int defaultValue) {
+        return getIntFieldByNumber(192, defaultValue);
+    }
+
     @Nullable
     public Integer getWorkoutRpe() {
         return getFieldByNumber(193, Integer.class);
     }
 
+    public int getWorkoutRpe(final int defaultValue) {
+        return getIntFieldByNumber(193, defaultValue);
+    }
+
     @Nullable
     public Integer getAvgSpo2() {
         return getFieldByNumber(194, Integer.class);
     }
 
+    public int getAvgSpo2(final int defaultValue) {
+        return getIntFieldByNumber(194, defaultValue);
+    }
+
     @Nullable
     public Integer getAvgStress() {
         return getFieldByNumber(195, Integer.class);
     }
 
+    public int getAvgStress(final int defaultValue) {
+        return getIntFieldByNumber(195, defaultValue);
+    }
+
     @Nullable
     public Integer getRestingCalories() {
         return getFieldByNumber(196, Integer.class);
     }
 
+    public int getRestingCalories(final int defaultValue) {
+        return getIntFieldByNumber(196, defaultValue);
+    }
+
     @Nullable
     public Integer getHrvSdrr() {
         return getFieldByNumber(197, Integer.class);
     }
 
+    public int getHrvSdrr(final int defaultValue) {
+        return getIntFieldByNumber(197, defaultValue);
+    }
+
     @Nullable
     public Integer getHrvRmssd() {
         return getFieldByNumber(198, Integer.class);
     }
 
+    public int getHrvRmssd(final int defaultValue) {
+        return getIntFieldByNumber(198, defaultValue);
+    }
+
     @Nullable
     public Float getTotalFractionalAscent() {
         return getFieldByNumber(199, Float.class);
     }
 
+    public float getTotalFractionalAscent(final float defaultValue) {
+        return getFloatFieldByNumber(199, defaultValue);
+    }
+
     @Nullable
     public Float getTotalFractionalDescent() {
         return getFieldByNumber(200, Float.class);
     }
 
+    public float getTotalFractionalDescent(final float defaultValue) {
+        return getFloatFieldByNumber(200, defaultValue);
+    }
+
     @Nullable
     public Long getBatteryGain() {
         return getFieldByNumber(203, Long.class);
     }
 
+    public long getBatteryGain(final long defaultValue) {
+        return getLongFieldByNumber(203, defaultValue);
+    }
+
     @Nullable
     public Float getSolarIntensity() {
         return getFieldByNumber(204, Float.class);
     }
 
+    public float getSolarIntensity(final float defaultValue) {
+        return getFloatFieldByNumber(204, defaultValue);
+    }
+
     @Nullable
     public Integer getBeginningPotential() {
         return getFieldByNumber(205, Integer.class);
     }
 
+    public int getBeginningPotential(final int defaultValue) {
+        return getIntFieldByNumber(205, defaultValue);
+    }
+
     @Nullable
     public Integer getEndingPotential() {
         return getFieldByNumber(206, Integer.class);
     }
 
+    public int getEndingPotential(final int defaultValue) {
+        return getIntFieldByNumber(206, defaultValue);
+    }
+
     @Nullable
     public Integer getMinStamina() {
         return getFieldByNumber(207, Integer.class);
     }
 
+    public int getMinStamina(final int defaultValue) {
+        return getIntFieldByNumber(207, defaultValue);
+    }
+
     @Nullable
     public Float getAvgCoreTemperature() {
         return getFieldByNumber(208, Float.class);
     }
 
+    public float getAvgCoreTemperature(final float defaultValue) {
+        return getFloatFieldByNumber(208, defaultValue);
+    }
+
     @Nullable
     public Float getMinCoreTemperature() {
         return getFieldByNumber(209, Float.class);
     }
 
+    public float getMinCoreTemperature(final float defaultValue) {
+        return getFloatFieldByNumber(209, defaultValue);
+    }
+
     @Nullable
     public Float getMaxCoreTemperature() {
         return getFieldByNumber(210, Float.class);
     }
 
+    public float getMaxCoreTemperature(final float defaultValue) {
+        return getFloatFieldByNumber(210, defaultValue);
+    }
+
     @Nullable
     public Float getStepSpeedLoss() {
         return getFieldByNumber(222, Float.class);
     }
 
+    public float getStepSpeedLoss(final float defaultValue) {
+        return getFloatFieldByNumber(222, defaultValue);
+    }
+
     @Nullable
     public Float getStepSpeedLossPercentage() {
         return getFieldByNumber(223, Float.class);
     }
 
+    public float getStepSpeedLossPercentage(final float defaultValue) {
+        return getFloatFieldByNumber(223, defaultValue);
+    }
+
     @Nullable
     public Long getTimestamp() {
         return getFieldByNumber(253, Long.class);
@@ -905,6 +1465,10 @@ public class FitSession extends RecordData {
         return getFieldByNumber(254, Integer.class);
     }
 
+    public int getMessageIndex(final int defaultValue) {
+        return getIntFieldByNumber(254, defaultValue);
+    }
+
     /**
      * @noinspection unused
      */
@@ -45,21 +45,37 @@ public class FitSet extends RecordData {
         return getFieldByNumber(0, Double.class);
     }
 
+    public double getDuration(final double defaultValue) {
+        return getDoubleFieldByNumber(0, defaultValue);
+    }
+
     @Nullable
     public Integer getRepetitions() {
         return getFieldByNumber(3, Integer.class);
     }
 
+    public int getRepetitions(final int defaultValue) {
+        return getIntFieldByNumber(3, defaultValue);
+    }
+
     @Nullable
     public Float getWeight() {
         return getFieldByNumber(4, Float.class);
     }
 
+    public float getWeight(final float defaultValue) {
+        return getFloatFieldByNumber(4, defaultValue);
+    }
+
     @Nullable
     public Integer getSetType() {
         return getFieldByNumber(5, Integer.class);
     }
 
+    public int getSetType(final int defaultValue) {
+        return getIntFieldByNumber(5, defaultValue);
+    }
+
     @Nullable
     public Long getStartTime() {
         return getFieldByNumber(6, Long.class);
@@ -80,16 +96,28 @@ public class FitSet extends RecordData {
         return getFieldByNumber(9, Integer.class);
     }
 
+    public int getWeightDisplayUnit(final int defaultValue) {
+        return getIntFieldByNumber(9, defaultValue);
+    }
+
     @Nullable
     public Integer getMessageIndex() {
         return getFieldByNumber(10, Integer.class);
     }
 
+    public int getMessageIndex(final int defaultValue) {
+        return getIntFieldByNumber(10, defaultValue);
+    }
+
     @Nullable
     public Integer getWktStepIndex() {
         return getFieldByNumber(11, Integer.class);
     }
 
+    public int getWktStepIndex(final int defaultValue) {
+        return getIntFieldByNumber(11, defaultValue);
+    }
+
     @Nullable
     public Long getTimestamp() {
         return getFieldByNumber(254, Long.class);
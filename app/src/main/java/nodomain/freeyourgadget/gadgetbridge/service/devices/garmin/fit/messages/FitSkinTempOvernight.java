@@ -44,26 +44,46 @@ public class FitSkinTempOvernight extends RecordData {
         return getFieldByNumber(0, Long.class);
     }
 
+    public long getLocalTimestamp(final long defaultValue) {
+        return getLongFieldByNumber(0, defaultValue);
+    }
+
     @Nullable
     public Float getAverageDeviation() {
         return getFieldByNumber(1, Float.class);
     }
 
+    public float getAverageDeviation(final float defaultValue) {
+        return getFloatFieldByNumber(1, defaultValue);
+    }
+
     @Nullable
     public Float getAverage7DayDeviation() {
         return getFieldByNumber(2, Float.class);
     }
 
+    public float getAverage7DayDeviation(final float defaultValue) {
+        return getFloatFieldByNumber(2, defaultValue);
+    }
+
     @Nullable
     public Integer getUnk3() {
         return getFieldByNumber(3, Integer.class);
     }
 
+    public int getUnk3(final int defaultValue) {
+        return getIntFieldByNumber(3, defaultValue);
+    }
+
     @Nullable
     public Float getNightlyValue() {
         return getFieldByNumber(4, Float.class);
     }
 
+    public float getNightlyValue(final float defaultValue) {
+        return getFloatFieldByNumber(4, defaultValue);
+    }
+
     @Nullable
     public Long getTimestamp() {
         return getFieldByNumber(253, Long.class);
@@ -44,6 +44,10 @@ public class FitSkinTempRaw extends RecordData {
         return getFieldByNumber(1, Float.class);
     }
 
+    public float getDeviation(final float defaultValue) {
+        return getFloatFieldByNumber(1, defaultValue);
+    }
+
     @Nullable
     public Long getTimestamp() {
         return getFieldByNumber(253, Long.class);
@@ -44,11 +44,19 @@ public class FitSlaveDevice extends RecordData {
         return getFieldByNumber(0, Integer.class);
     }
 
+    public int getManufacturer(final int defaultValue) {
+        return getIntFieldByNumber(0, defaultValue);
+    }
+
     @Nullable
     public Integer getProduct() {
         return getFieldByNumber(1, Integer.class);
     }
 
+    public int getProduct(final int defaultValue) {
+        return getIntFieldByNumber(1, defaultValue);
+    }
+
     /**
      * @noinspection unused
      */
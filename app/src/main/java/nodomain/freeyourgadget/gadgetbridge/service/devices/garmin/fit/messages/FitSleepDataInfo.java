@@ -44,21 +44,37 @@ public class FitSleepDataInfo extends RecordData {
         return getFieldByNumber(0, Integer.class);
     }
 
+    public int getUnk0(final int defaultValue) {
+        return getIntFieldByNumber(0, defaultValue);
+    }
+
     @Nullable
     public Integer getSampleLength() {
         return getFieldByNumber(1, Integer.class);
     }
 
+    public int getSampleLength(final int defaultValue) {
+        return getIntFieldByNumber(1, defaultValue);
+    }
+
     @Nullable
     public Long getLocalTimestamp() {
         return getFieldByNumber(2, Long.class);
     }
 
+    public long getLocalTimestamp(final long defaultValue) {
+        return getLongFieldByNumber(2, defaultValue);
+    }
+
     @Nullable
     public Integer getUnk3() {
         return getFieldByNumber(3, Integer.class);
     }
 
+    public int getUnk3(final int defaultValue) {
+        return getIntFieldByNumber(3, defaultValue);
+    }
+
     @Nullable
     public String getVersion() {
         return getFieldByNumber(4, String.class);
@@ -44,6 +44,10 @@ public class FitSleepDataRaw extends RecordData {
         return getFieldByNumber(0, Integer.class);
     }
 
+    public int getBytes(final int defaultValue) {
+        return getIntFieldByNumber(0, defaultValue);
+    }
+
     /**
      * @noinspection unused
      */
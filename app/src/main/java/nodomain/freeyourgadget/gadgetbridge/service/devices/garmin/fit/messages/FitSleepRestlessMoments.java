@@ -44,11 +44,19 @@ public class FitSleepRestlessMoments extends RecordData {
         return getFieldByNumber(0, Long.class);
     }
 
+    public long getUnknown0(final long defaultValue) {
+        return getLongFieldByNumber(0, defaultValue);
+    }
+
     @Nullable
     public Integer getRestlessMomentsCount() {
         return getFieldByNumber(1, Integer.class);
     }
 
+    public int getRestlessMomentsCount(final int defaultValue) {
+        return getIntFieldByNumber(1, defaultValue);
+    }
+
     @Nullable
     public Number[] getUnknown2() {
         return getArrayFieldByNumber(2, Number.class);
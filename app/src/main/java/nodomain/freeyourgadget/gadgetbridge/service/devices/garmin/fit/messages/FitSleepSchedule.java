@@ -44,16 +44,28 @@ public class FitSleepSchedule extends RecordData {
         return getFieldByNumber(0, Long.class);
     }
 
+    public long getBedTime(final long defaultValue) {
+        return getLongFieldByNumber(0, defaultValue);
+    }
+
     @Nullable
     public Long getWakeTime() {
         return getFieldByNumber(1, Long.class);
     }
 
+    public long getWakeTime(final long defaultValue) {
+        return getLongFieldByNumber(1, defaultValue);
+    }
+
     @Nullable
     public Integer getMessageIndex() {
         return getFieldByNumber(254, Integer.class);
     }
 
+    public int getMessageIndex(final int defaultValue) {
+        return getIntFieldByNumber(254, defaultValue);
+    }
+
     /**
      * @noinspection unused
      */
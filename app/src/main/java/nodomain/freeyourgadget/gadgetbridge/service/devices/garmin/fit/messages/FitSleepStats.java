@@ -44,86 +44,154 @@ public class FitSleepStats extends RecordData {
         return getFieldByNumber(0, Integer.class);
     }
 
+    public int getCombinedAwakeScore(final int defaultValue) {
+        return getIntFieldByNumber(0, defaultValue);
+    }
+
     @Nullable
     public Integer getAwakeTimeScore() {
         return getFieldByNumber(1, Integer.class);
     }
 
+    public int getAwakeTimeScore(final int defaultValue) {
+        return getIntFieldByNumber(1, defaultValue);
+    }
+
     @Nullable
     public Integer getAwakeningsCountScore() {
         return getFieldByNumber(2, Integer.class);
     }
 
+    public int getAwakeningsCountScore(final int defaultValue) {
+        return getIntFieldByNumber(2, defaultValue);
+    }
+
     @Nullable
     public Integer getDeepSleepScore() {
         return getFieldByNumber(3, Integer.class);
     }
 
+    public int getDeepSleepScore(final int defaultValue) {
+        return getIntFieldByNumber(3, defaultValue);
+    }
+
     @Nullable
     public Integer getSleepDurationScore() {
         return getFieldByNumber(4, Integer.class);
     }
 
+    public int getSleepDurationScore(final int defaultValue) {
+        return getIntFieldByNumber(4, defaultValue);
+    }
+
     @Nullable
     public Integer getLightSleepScore() {
         return getFieldByNumber(5, Integer.class);
     }
 
+    public int getLightSleepScore(final int defaultValue) {
+        return getIntFieldByNumber(5, defaultValue);
+    }
+
     @Nullable
     public Integer getOverallSleepScore() {
         return getFieldByNumber(6, Integer.class);
     }
 
+    public int getOverallSleepScore(final int defaultValue) {
+        return getIntFieldByNumber(6, defaultValue);
+    }
+
     @Nullable
     public Integer getSleepQualityScore() {
         return getFieldByNumber(7, Integer.class);
     }
 
+    public int getSleepQualityScore(final int defaultValue) {
+        return getIntFieldByNumber(7, defaultValue);
+    }
+
     @Nullable
     public Integer getSleepRecoveryScore() {
         return getFieldByNumber(8, Integer.class);
     }
 
+    public int getSleepRecoveryScore(final int defaultValue) {
+        return getIntFieldByNumber(8, defaultValue);
+    }
+
     @Nullable
     public Integer getRemSleepScore() {
         return getFieldByNumber(9, Integer.class);
     }
 
+    public int getRemSleepScore(final int defaultValue) {
+        return getIntFieldByNumber(9, defaultValue);
+    }
+
     @Nullable
     public Integer getSleepRestlessnessScore() {
         return getFieldByNumber(10, Integer.class);
     }
 
+    public int getSleepRestlessnessScore(final int defaultValue) {
+        return getIntFieldByNumber(10, defaultValue);
+    }
+
     @Nullable
     public Integer getAwakeningsCount() {
         return getFieldByNumber(11, Integer.class);
     }
 
+    public int getAwakeningsCount(final int defaultValue) {
+        return getIntFieldByNumber(11, defaultValue);
+    }
+
     @Nullable
     public Integer getUnk12() {
         return getFieldByNumber(12, Integer.class);
     }
 
+    public int getUnk12(final int defaultValue) {
+        return getIntFieldByNumber(12, defaultValue);
+    }
+
     @Nullable
     public Integer getUnk13() {
         return getFieldByNumber(13, Integer.class);
     }
 
+    public int getUnk13(final int defaultValue) {
+        return getIntFieldByNumber(13, defaultValue);
+    }
+
     @Nullable
     public Integer getInterruptionsScore() {
         return getFieldByNumber(14, Integer.class);
     }
 
+    public int getInterruptionsScore(final int defaultValue) {
+        return getIntFieldByNumber(14, defaultValue);
+    }
+
     @Nullable
     public Float getAverageStressDuringSleep() {
         return getFieldByNumber(15, Float.class);
     }
 
+    public float getAverageStressDuringSleep(final float defaultValue) {
+        return getFloatFieldByNumber(15, defaultValue);
+    }
+
     @Nullable
     public Integer getUnk16() {
         return getFieldByNumber(16, Integer.class);
     }
 
+    public int getUnk16(final int defaultValue) {
+        return getIntFieldByNumber(16, defaultValue);
+    }
+
     /**
      * @noinspection unused
      */
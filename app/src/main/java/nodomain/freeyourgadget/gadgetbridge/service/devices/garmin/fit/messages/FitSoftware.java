@@ -44,6 +44,10 @@ public class FitSoftware extends RecordData {
         return getFieldByNumber(3, Float.class);
     }
 
+    public float getVersion(final float defaultValue) {
+        return getFloatFieldByNumber(3, defaultValue);
+    }
+
     @Nullable
     public String getPartNumber() {
         return getFieldByNumber(5, String.class);
@@ -54,6 +58,10 @@ public class FitSoftware extends RecordData {
         return getFieldByNumber(254, Integer.class);
     }
 
+    public int getMessageIndex(final int defaultValue) {
+        return getIntFieldByNumber(254, defaultValue);
+    }
+
     /**
      * @noinspection unused
      */
@@ -44,6 +44,10 @@ public class FitSpeedZone extends RecordData {
         return getFieldByNumber(0, Float.class);
     }
 
+    public float getHighValue(final float defaultValue) {
+        return getFloatFieldByNumber(0, defaultValue);
+    }
+
     @Nullable
     public String getName() {
         return getFieldByNumber(1, String.class);
@@ -54,6 +58,10 @@ public class FitSpeedZone extends RecordData {
         return getFieldByNumber(254, Integer.class);
     }
 
+    public int getMessageIndex(final int defaultValue) {
+        return getIntFieldByNumber(254, defaultValue);
+    }
+
     /**
      * @noinspection unused
      */
@@ -44,41 +44,73 @@ public class FitSplit extends RecordData {
         return getFieldByNumber(0, Integer.class);
     }
 
+    public int getSplitType(final int defaultValue) {
+        return getIntFieldByNumber(0, defaultValue);
+    }
+
     @Nullable
     public Double getTotalElapsedTime() {
         return getFieldByNumber(1, Double.class);
     }
 
+    public double getTotalElapsedTime(final double defaultValue) {
+        return getDoubleFieldByNumber(1, defaultValue);
+    }
+
     @Nullable
     public Double getTotalTimerTime() {
         return getFieldByNumber(2, Double.class);
     }
 
+    public double getTotalTimerTime(final double defaultValue) {
+        return getDoubleFieldByNumber(2, defaultValue);
+    }
+
     @Nullable
     public Double getTotalDistance() {
         return getFieldByNumber(3, Double.class);
     }
 
+    public double getTotalDistance(final double defaultValue) {
+        return getDoubleFieldByNumber(3, defaultValue);
+    }
+
     @Nullable
     public Double getAvgSpeed() {
         return getFieldByNumber(4, Double.class);
     }
 
+    public double getAvgSpeed(final double defaultValue) {
+        return getDoubleFieldByNumber(4, defaultValue);
+    }
+
     @Nullable
     public Long getStartTime() {
         return getFieldByNumber(9, Long.class);
     }
 
+    public long getStartTime(final long defaultValue) {
+        return getLongFieldByNumber(9, defaultValue);
+    }
+
     @Nullable
     public Integer getTotalAscent() {
         return getFieldByNumber(13, Integer.class);
     }
 
+    public int getTotalAscent(final int defaultValue) {
+        return getIntFieldByNumber(13, defaultValue);
+    }
+
     @Nullable
     public Integer getTotalDescent() {
         return getFieldByNumber(14, Integer.class);
     }
 
+    public int getTotalDescent(final int defaultValue) {
+        return getIntFieldByNumber(14, defaultValue);
+    }
+
     @Nullable
     public Double getStartPositionLat() {
         return getFieldByNumber(21, Double.class);
@@ -104,36 +136,64 @@ public class FitSplit extends RecordData {
         return getFieldByNumber(25, Double.class);
     }
 
+    public double getMaxSpeed(final double defaultValue) {
+        return getDoubleFieldByNumber(25, defaultValue);
+    }
+
     @Nullable
     public Double getAvgVertSpeed() {
         return getFieldByNumber(26, Double.class);
     }
 
+    public double getAvgVertSpeed(final double defaultValue) {
+        return getDoubleFieldByNumber(26, defaultValue);
+    }
+
     @Nullable
     public Long getEndTime() {
         return getFieldByNumber(27, Long.class);
     }
 
+    public long getEndTime(final long defaultValue) {
+        return getLongFieldByNumber(27, defaultValue);
+    }
+
     @Nullable
     public Long getTotalCalories() {
         return getFieldByNumber(28, Long.class);
     }
 
+    public long getTotalCalories(final long defaultValue) {
+        return getLongFieldByNumber(28, defaultValue);
+    }
+
     @Nullable
     public Double getStartElevation() {
         return getFieldByNumber(74, Double.class);
     }
 
+    public double getStartElevation(final double defaultValue) {
+        return getDoubleFieldByNumber(74, defaultValue);
+    }
+
     @Nullable
     public Double getTotalMovingTime() {
         return getFieldByNumber(110, Double.class);
     }
 
+    public double getTotalMovingTime(final double defaultValue) {
+        return getDoubleFieldByNumber(110, defaultValue);
+    }
+
     @Nullable
     public Integer getMessageIndex() {
         return getFieldByNumber(254, Integer.class);
     }
 
+    public int getMessageIndex(final int defaultValue) {
+        return getIntFieldByNumber(254, defaultValue);
+    }
+
     /**
      * @noinspection unused
      */
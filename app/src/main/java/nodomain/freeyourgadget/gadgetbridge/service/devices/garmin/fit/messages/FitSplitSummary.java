@@ -44,66 +44,118 @@ public class FitSplitSummary extends RecordData {
         return getFieldByNumber(0, Integer.class);
     }
 
+    public int getSplitType(final int defaultValue) {
+        return getIntFieldByNumber(0, defaultValue);
+    }
+
     @Nullable
     public Integer getNumSplits() {
         return getFieldByNumber(3, Integer.class);
     }
 
+    public int getNumSplits(final int defaultValue) {
+        return getIntFieldByNumber(3, defaultValue);
+    }
+
     @Nullable
     public Double getTotalTimerTime() {
         return getFieldByNumber(4, Double.class);
     }
 
+    public double getTotalTimerTime(final double defaultValue) {
+        return getDoubleFieldByNumber(4, defaultValue);
+    }
+
     @Nullable
     public Double getTotalDistance() {
         return getFieldByNumber(5, Double.class);
     }
 
+    public double getTotalDistance(final double defaultValue) {
+        return getDoubleFieldByNumber(5, defaultValue);
+    }
+
     @Nullable
     public Double getAvgSpeed() {
         return getFieldByNumber(6, Double.class);
     }
 
+    public double getAvgSpeed(final double defaultValue) {
+        return getDoubleFieldByNumber(6, defaultValue);
+    }
+
     @Nullable
     public Double getMaxSpeed() {
         return getFieldByNumber(7, Double.class);
     }
 
+    public double getMaxSpeed(final double defaultValue) {
+        return getDoubleFieldByNumber(7, defaultValue);
+    }
+
     @Nullable
     public Integer getTotalAscent() {
         return getFieldByNumber(8, Integer.class);
     }
 
+    public int getTotalAscent(final int defaultValue) {
+        return getIntFieldByNumber(8, defaultValue);
+    }
+
     @Nullable
     public Integer getTotalDescent() {
         return getFieldByNumber(9, Integer.class);
     }
 
+    public int getTotalDescent(final int defaultValue) {
+        return getIntFieldByNumber(9, defaultValue);
+    }
+
     @Nullable
     public Integer getAvgHeartRate() {
         return getFieldByNumber(10, Integer.class);
     }
 
+    public int getAvgHeartRate(final int defaultValue) {
+        return getIntFieldByNumber(10, defaultValue);
+    }
+
     @Nullable
     public Integer getMaxHeartRate() {
         return getFieldByNumber(11, Integer.class);
     }
 
+    public int getMaxHeartRate(final int defaultValue) {
+        return getIntFieldByNumber(11, defaultValue);
+    }
+
     @Nullable
     public Double getAvgVertSpeed() {
         return getFieldByNumber(12, Double.class);
     }
 
+    public double getAvgVertSpeed(final double defaultValue) {
+        return getDoubleFieldByNumber(12, defaultValue);
+    }
+
     @Nullable
     public Long getTotalCalories() {
         return getFieldByNumber(13, Long.class);
     }
 
+    public long getTotalCalories(final long defaultValue) {
+        return getLongFieldByNumber(13, defaultValue);
+    }
+
     @Nullable
     public Double getTotalMovingTime() {
         return getFieldByNumber(77, Double.class);
     }
 
+    public double getTotalMovingTime(final double defaultValue) {
+        return getDoubleFieldByNumber(77, defaultValue);
+    }
+
     @Nullable
     public Long getTimestamp() {
         return getFieldByNumber(253, Long.class);
@@ -114,6 +166,10 @@ public class FitSplitSummary extends RecordData {
         return getFieldByNumber(254, Integer.class);
     }
 
+    public int getMessageIndex(final int defaultValue) {
+        return getIntFieldByNumber(254, defaultValue);
+    }
+
     /**
      * @noinspection unused
      */
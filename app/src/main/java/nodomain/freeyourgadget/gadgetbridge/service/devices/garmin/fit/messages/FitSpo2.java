@@ -44,16 +44,28 @@ public class FitSpo2 extends RecordData {
         return getFieldByNumber(0, Integer.class);
     }
 
+    public int getReadingSpo2(final int defaultValue) {
+        return getIntFieldByNumber(0, defaultValue);
+    }
+
     @Nullable
     public Integer getReadingConfidence() {
         return getFieldByNumber(1, Integer.class);
     }
 
+    public int getReadingConfidence(final int defaultValue) {
+        return getIntFieldByNumber(1, defaultValue);
+    }
+
     @Nullable
     public Integer getMode() {
         return getFieldByNumber(2, Integer.class);
     }
 
+    public int getMode(final int defaultValue) {
+        return getIntFieldByNumber(2, defaultValue);
+    }
+
     @Nullable
     public Long getTimestamp() {
         return getFieldByNumber(253, Long.class);
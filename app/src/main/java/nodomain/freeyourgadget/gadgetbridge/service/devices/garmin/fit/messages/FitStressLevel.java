@@ -44,6 +44,10 @@ public class FitStressLevel extends RecordData {
         return getFieldByNumber(0, Integer.class);
     }
 
+    public int getStressLevelValue(final int defaultValue) {
+        return getIntFieldByNumber(0, defaultValue);
+    }
+
     @Nullable
     public Long getStressLevelTime() {
         return getFieldByNumber(1, Long.class);
@@ -54,6 +58,10 @@ public class FitStressLevel extends RecordData {
         return getFieldByNumber(3, Integer.class);
     }
 
+    public int getBodyEnergy(final int defaultValue) {
+        return getIntFieldByNumber(3, defaultValue);
+    }
+
     /**
      * @noinspection unused
      */
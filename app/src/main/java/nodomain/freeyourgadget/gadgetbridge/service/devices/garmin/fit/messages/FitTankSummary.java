@@ -44,21 +44,37 @@ public class FitTankSummary extends RecordData {
         return getFieldByNumber(0, Long.class);
     }
 
+    public long getSensor(final long defaultValue) {
+        return getLongFieldByNumber(0, defaultValue);
+    }
+
     @Nullable
     public Float getStartPressure() {
         return getFieldByNumber(1, Float.class);
     }
 
+    public float getStartPressure(final float defaultValue) {
+        return getFloatFieldByNumber(1, defaultValue);
+    }
+
     @Nullable
     public Float getEndPressure() {
         return getFieldByNumber(2, Float.class);
     }
 
+    public float getEndPressure(final float defaultValue) {
+        return getFloatFieldByNumber(2, defaultValue);
+    }
+
     @Nullable
     public Double getVolumeUsed() {
         return getFieldByNumber(3, Double.class);
     }
 
+    public double getVolumeUsed(final double defaultValue) {
+        return getDoubleFieldByNumber(3, defaultValue);
+    }
+
     @Nullable
     public Long getTimestamp() {
         return getFieldByNumber(253, Long.class);
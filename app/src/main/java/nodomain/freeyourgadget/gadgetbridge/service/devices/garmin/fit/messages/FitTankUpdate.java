@@ -44,11 +44,19 @@ public class FitTankUpdate extends RecordData {
         return getFieldByNumber(0, Long.class);
     }
 
+    public long getSensor(final long defaultValue) {
+        return getLongFieldByNumber(0, defaultValue);
+    }
+
     @Nullable
     public Float getPressure() {
         return getFieldByNumber(1, Float.class);
     }
 
+    public float getPressure(final float defaultValue) {
+        return getFloatFieldByNumber(1, defaultValue);
+    }
+
     @Nullable
     public Long getTimestamp() {
         return getFieldByNumber(253, Long.class);
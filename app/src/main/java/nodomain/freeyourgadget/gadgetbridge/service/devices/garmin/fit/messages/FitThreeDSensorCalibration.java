@@ -44,21 +44,37 @@ public class FitThreeDSensorCalibration extends RecordData {
         return getFieldByNumber(0, Integer.class);
     }
 
+    public int getSensorType(final int defaultValue) {
+        return getIntFieldByNumber(0, defaultValue);
+    }
+
     @Nullable
     public Long getCalibrationFactor() {
         return getFieldByNumber(1, Long.class);
     }
 
+    public long getCalibrationFactor(final long defaultValue) {
+        return getLongFieldByNumber(1, defaultValue);
+    }
+
     @Nullable
     public Long getCalibrationDivisor() {
         return getFieldByNumber(2, Long.class);
     }
 
+    public long getCalibrationDivisor(final long defaultValue) {
+        return getLongFieldByNumber(2, defaultValue);
+    }
+
     @Nullable
     public Long getLevelShift() {
         return getFieldByNumber(3, Long.class);
     }
 
+    public long getLevelShift(final long defaultValue) {
+        return getLongFieldByNumber(3, defaultValue);
+    }
+
     @Nullable
     public Number[] getOffsetCal() {
         return getArrayFieldByNumber(4, Number.class);
@@ -44,11 +44,19 @@ public class FitTimeInZone extends RecordData {
         return getFieldByNumber(0, Integer.class);
     }
 
+    public int getReferenceMessage(final int defaultValue) {
+        return getIntFieldByNumber(0, defaultValue);
+    }
+
     @Nullable
     public Integer getReferenceIndex() {
         return getFieldByNumber(1, Integer.class);
     }
 
+    public int getReferenceIndex(final int defaultValue) {
+        return getIntFieldByNumber(1, defaultValue);
+    }
+
     @Nullable
     public Double[] getTimeInZone() {
         return getArrayFieldByNumber(2, Double.class);
@@ -94,31 +102,55 @@ public class FitTimeInZone extends RecordData {
         return getFieldByNumber(10, Integer.class);
     }
 
+    public int getHrCalcType(final int defaultValue) {
+        return getIntFieldByNumber(10, defaultValue);
+    }
+
     @Nullable
     public Integer getMaxHeartRate() {
         return getFieldByNumber(11, Integer.class);
     }
 
+    public int getMaxHeartRate(final int defaultValue) {
+        return getIntFieldByNumber(11, defaultValue);
+    }
+
     @Nullable
     public Integer getRestingHeartRate() {
         return getFieldByNumber(12, Integer.class);
     }
 
+    public int getRestingHeartRate(final int defaultValue) {
+        return getIntFieldByNumber(12, defaultValue);
+    }
+
     @Nullable
     public Integer getThresholdHeartRate() {
         return getFieldByNumber(13, Integer.class);
     }
 
+    public int getThresholdHeartRate(final int defaultValue) {
+        return getIntFieldByNumber(13, defaultValue);
+    }
+
     @Nullable
     public Integer getPwrCalcType() {
         return getFieldByNumber(14, Integer.class);
     }
 
+    public int getPwrCalcType(final int defaultValue) {
+        return getIntFieldByNumber(14, defaultValue);
+    }
+
     @Nullable
     public Integer getFunctionalThresholdPower() {
         return getFieldByNumber(15, Integer.class);
     }
 
+    public int getFunctionalThresholdPower(final int defaultValue) {
+        return getIntFieldByNumber(15, defaultValue);
+    }
+
     @Nullable
     public Long getTimestamp() {
         return getFieldByNumber(253, Long.class);
@@ -44,31 +44,55 @@ public class FitTimestampCorrelation extends RecordData {
         return getFieldByNumber(0, Float.class);
     }
 
+    public float getFractionalTimestamp(final float defaultValue) {
+        return getFloatFieldByNumber(0, defaultValue);
+    }
+
     @Nullable
     public Long getSystemTimestamp() {
         return getFieldByNumber(1, Long.class);
     }
 
+    public long getSystemTimestamp(final long defaultValue) {
+        return getLongFieldByNumber(1, defaultValue);
+    }
+
     @Nullable
     public Float getFractionalSystemTimestamp() {
         return getFieldByNumber(2, Float.class);
     }
 
+    public float getFractionalSystemTimestamp(final float defaultValue) {
+        return getFloatFieldByNumber(2, defaultValue);
+    }
+
     @Nullable
     public Long getLocalTimestamp() {
         return getFieldByNumber(3, Long.class);
     }
 
+    public long getLocalTimestamp(final long defaultValue) {
+        return getLongFieldByNumber(3, defaultValue);
+    }
+
     @Nullable
     public Integer getTimestampMs() {
         return getFieldByNumber(4, Integer.class);
     }
 
+    public int getTimestampMs(final int defaultValue) {
+        return getIntFieldByNumber(4, defaultValue);
+    }
+
     @Nullable
     public Integer getSystemTimestampMs() {
         return getFieldByNumber(5, Integer.class);
     }
 
+    public int getSystemTimestampMs(final int defaultValue) {
+        return getIntFieldByNumber(5, defaultValue);
+    }
+
     @Nullable
     public Long getTimestamp() {
         return getFieldByNumber(253, Long.class);
@@ -44,41 +44,73 @@ public class FitTotals extends RecordData {
         return getFieldByNumber(0, Long.class);
     }
 
+    public long getTimerTime(final long defaultValue) {
+        return getLongFieldByNumber(0, defaultValue);
+    }
+
     @Nullable
     public Long getDistance() {
         return getFieldByNumber(1, Long.class);
     }
 
+    public long getDistance(final long defaultValue) {
+        return getLongFieldByNumber(1, defaultValue);
+    }
+
     @Nullable
     public Long getCalories() {
         return getFieldByNumber(2, Long.class);
     }
 
+    public long getCalories(final long defaultValue) {
+        return getLongFieldByNumber(2, defaultValue);
+    }
+
     @Nullable
     public Integer getSport() {
         return getFieldByNumber(3, Integer.class);
     }
 
+    public int getSport(final int defaultValue) {
+        return getIntFieldByNumber(3, defaultValue);
+    }
+
     @Nullable
     public Long getElapsedTime() {
         return getFieldByNumber(4, Long.class);
     }
 
+    public long getElapsedTime(final long defaultValue) {
+        return getLongFieldByNumber(4, defaultValue);
+    }
+
     @Nullable
     public Integer getSessions() {
         return getFieldByNumber(5, Integer.class);
     }
 
+    public int getSessions(final int defaultValue) {
+        return getIntFieldByNumber(5, defaultValue);
+    }
+
     @Nullable
     public Long getActiveTime() {
         return getFieldByNumber(6, Long.class);
     }
 
+    public long getActiveTime(final long defaultValue) {
+        return getLongFieldByNumber(6, defaultValue);
+    }
+
     @Nullable
     public Integer getSportIndex() {
         return getFieldByNumber(9, Integer.class);
     }
 
+    public int getSportIndex(final int defaultValue) {
+        return getIntFieldByNumber(9, defaultValue);
+    }
+
     @Nullable
     public String getActivityProfile() {
         return getFieldByNumber(10, String.class);
@@ -94,6 +126,10 @@ public class FitTotals extends RecordData {
         return getFieldByNumber(254, Integer.class);
     }
 
+    public int getMessageIndex(final int defaultValue) {
+        return getIntFieldByNumber(254, defaultValue);
+    }
+
     /**
      * @noinspection unused
      */
@@ -44,26 +44,46 @@ public class FitTrainingFile extends RecordData {
         return getFieldByNumber(0, Integer.class);
     }
 
+    public int getType(final int defaultValue) {
+        return getIntFieldByNumber(0, defaultValue);
+    }
+
     @Nullable
     public Integer getManufacturer() {
         return getFieldByNumber(1, Integer.class);
     }
 
+    public int getManufacturer(final int defaultValue) {
+        return getIntFieldByNumber(1, defaultValue);
+    }
+
     @Nullable
     public Integer getProduct() {
         return getFieldByNumber(2, Integer.class);
     }
 
+    public int getProduct(final int defaultValue) {
+        return getIntFieldByNumber(2, defaultValue);
+    }
+
     @Nullable
     public Long getSerialNumber() {
         return getFieldByNumber(3, Long.class);
     }
 
+    public long getSerialNumber(final long defaultValue) {
+        return getLongFieldByNumber(3, defaultValue);
+    }
+
     @Nullable
     public Long getTimeCreated() {
         return getFieldByNumber(4, Long.class);
     }
 
+    public long getTimeCreated(final long defaultValue) {
+        return getLongFieldByNumber(4, defaultValue);
+    }
+
     @Nullable
     public Long getTimestamp() {
         return getFieldByNumber(253, Long.class);
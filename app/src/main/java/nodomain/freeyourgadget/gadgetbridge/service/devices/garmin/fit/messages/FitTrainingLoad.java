@@ -44,11 +44,19 @@ public class FitTrainingLoad extends RecordData {
         return getFieldByNumber(3, Integer.class);
     }
 
+    public int getTrainingLoadAcute(final int defaultValue) {
+        return getIntFieldByNumber(3, defaultValue);
+    }
+
     @Nullable
     public Integer getTrainingLoadChronic() {
         return getFieldByNumber(4, Integer.class);
     }
 
+    public int getTrainingLoadChronic(final int defaultValue) {
+        return getIntFieldByNumber(4, defaultValue);
+    }
+
     @Nullable
     public Long getTimestamp() {
         return getFieldByNumber(253, Long.class);
@@ -44,146 +44,262 @@ public class FitTrainingReadiness extends RecordData {
         return getFieldByNumber(0, Integer.class);
     }
 
+    public int getTrainingReadiness(final int defaultValue) {
+        return getIntFieldByNumber(0, defaultValue);
+    }
+
     @Nullable
     public Integer getLevel() {
         return getFieldByNumber(1, Integer.class);
     }
 
+    public int getLevel(final int defaultValue) {
+        return getIntFieldByNumber(1, defaultValue);
+    }
+
     @Nullable
     public Integer getUnknown2() {
         return getFieldByNumber(2, Integer.class);
     }
 
+    public int getUnknown2(final int defaultValue) {
+        return getIntFieldByNumber(2, defaultValue);
+    }
+
     @Nullable
     public Integer getUnknown3() {
         return getFieldByNumber(3, Integer.class);
     }
 
+    public int getUnknown3(final int defaultValue) {
+        return getIntFieldByNumber(3, defaultValue);
+    }
+
     @Nullable
     public Integer getUnknown4() {
         return getFieldByNumber(4, Integer.class);
     }
 
+    public int getUnknown4(final int defaultValue) {
+        return getIntFieldByNumber(4, defaultValue);
+    }
+
     @Nullable
     public Integer getUnknown5() {
         return getFieldByNumber(5, Integer.class);
     }
 
+    public int getUnknown5(final int defaultValue) {
+        return getIntFieldByNumber(5, defaultValue);
+    }
+
     @Nullable
     public Integer getUnknown6() {
         return getFieldByNumber(6, Integer.class);
     }
 
+    public int getUnknown6(final int defaultValue) {
+        return getIntFieldByNumber(6, defaultValue);
+    }
+
     @Nullable
     public Integer getUnknown7() {
         return getFieldByNumber(7, Integer.class);
     }
 
+    public int getUnknown7(final int defaultValue) {
+        return getIntFieldByNumber(7, defaultValue);
+    }
+
     @Nullable
     public Integer getUnknown8() {
         return getFieldByNumber(8, Integer.class);
     }
 
+    public int getUnknown8(final int defaultValue) {
+        return getIntFieldByNumber(8, defaultValue);
+    }
+
     @Nullable
     public Integer getUnknown9() {
         return getFieldByNumber(9, Integer.class);
     }
 
+    public int getUnknown9(final int defaultValue) {
+        return getIntFieldByNumber(9, defaultValue);
+    }
+
     @Nullable
     public Integer getUnknown10() {
         return getFieldByNumber(10, Integer.class);
     }
 
+    public int getUnknown10(final int defaultValue) {
+        return getIntFieldByNumber(10, defaultValue);
+    }
+
     @Nullable
     public Integer getUnknown11() {
         return getFieldByNumber(11, Integer.class);
     }
 
+    public int getUnknown11(final int defaultValue) {
+        return getIntFieldByNumber(11, defaultValue);
+    }
+
     @Nullable
     public Integer getUnknown12() {
         return getFieldByNumber(12, Integer.class);
     }
 
+    public int getUnknown12(final int defaultValue) {
+        return getIntFieldByNumber(12, defaultValue);
+    }
+
     @Nullable
     public Integer getUnknown13() {
         return getFieldByNumber(13, Integer.class);
     }
 
+    public int getUnknown13(final int defaultValue) {
+        return getIntFieldByNumber(13, defaultValue);
+    }
+
     @Nullable
     public Integer getUnknown14() {
         return getFieldByNumber(14, Integer.class);
     }
 
+    public int getUnknown14(final int defaultValue) {
+        return getIntFieldByNumber(14, defaultValue);
+    }
+
     @Nullable
     public Integer getUnknown15() {
         return getFieldByNumber(15, Integer.class);
     }
 
+    public int getUnknown15(final int defaultValue) {
+        return getIntFieldByNumber(15, defaultValue);
+    }
+
     @Nullable
     public Integer getUnknown16() {
         return getFieldByNumber(16, Integer.class);
     }
 
+    public int getUnknown16(final int defaultValue) {
+        return getIntFieldByNumber(16, defaultValue);
+    }
+
     @Nullable
     public Integer getUnknown17() {
         return getFieldByNumber(17, Integer.class);
     }
 
+    public int getUnknown17(final int defaultValue) {
+        return getIntFieldByNumber(17, defaultValue);
+    }
+
     @Nullable
     public Integer getUnknown18() {
         return getFieldByNumber(18, Integer.class);
     }
 
+    public int getUnknown18(final int defaultValue) {
+        return getIntFieldByNumber(18, defaultValue);
+    }
+
     @Nullable
     public Integer getUnknown19() {
         return getFieldByNumber(19, Integer.class);
     }
 
+    public int getUnknown19(final int defaultValue) {
+        return getIntFieldByNumber(19, defaultValue);
+    }
+
     @Nullable
     public Long getLocalTimestamp() {
         return getFieldByNumber(20, Long.class);
     }
 
+    public long getLocalTimestamp(final long defaultValue) {
+        return getLongFieldByNumber(20, defaultValue);
+    }
+
     @Nullable
     public Integer getUnknown21() {
         return getFieldByNumber(21, Integer.class);
     }
 
+    public int getUnknown21(final int defaultValue) {
+        return getIntFieldByNumber(21, defaultValue);
+    }
+
     @Nullable
     public Integer getUnknown22() {
         return getFieldByNumber(22, Integer.class);
     }
 
+    public int getUnknown22(final int defaultValue) {
+        return getIntFieldByNumber(22, defaultValue);
+    }
+
     @Nullable
     public Integer getUnknown25() {
         return getFieldByNumber(25, Integer.class);
     }
 
+    public int getUnknown25(final int defaultValue) {
+        return getIntFieldByNumber(25, defaultValue);
+    }
+
     @Nullable
     public Integer getUnknown26() {
         return getFieldByNumber(26, Integer.class);
     }
 
+    public int getUnknown26(final int defaultValue) {
+        return getIntFieldByNumber(26, defaultValue);
+    }
+
     @Nullable
     public Integer getUnknown27() {
         return getFieldByNumber(27, Integer.class);
     }
 
+    public int getUnknown27(final int defaultValue) {
+        return getIntFieldByNumber(27, defaultValue);
+    }
+
     @Nullable
     public Integer getUnknown28() {
         return getFieldByNumber(28, Integer.class);
     }
 
+    public int getUnknown28(final int defaultValue) {
+        return getIntFieldByNumber(28, defaultValue);
+    }
+
     @Nullable
     public Integer getUnknown29() {
         return getFieldByNumber(29, Integer.class);
     }
 
+    public int getUnknown29(final int defaultValue) {
+        return getIntFieldByNumber(29, defaultValue);
+    }
+
     @Nullable
     public Integer getUnknown30() {
         return getFieldByNumber(30, Integer.class);
     }
 
+    public int getUnknown30(final int defaultValue) {
+        return getIntFieldByNumber(30, defaultValue);
+    }
+
     @Nullable
     public Long getTimestamp() {
         return getFieldByNumber(253, Long.class);
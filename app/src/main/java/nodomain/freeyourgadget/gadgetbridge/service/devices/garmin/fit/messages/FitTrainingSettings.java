@@ -44,21 +44,37 @@ public class FitTrainingSettings extends RecordData {
         return getFieldByNumber(31, Double.class);
     }
 
+    public double getTargetDistance(final double defaultValue) {
+        return getDoubleFieldByNumber(31, defaultValue);
+    }
+
     @Nullable
     public Float getTargetSpeed() {
         return getFieldByNumber(32, Float.class);
     }
 
+    public float getTargetSpeed(final float defaultValue) {
+        return getFloatFieldByNumber(32, defaultValue);
+    }
+
     @Nullable
     public Long getTargetTime() {
         return getFieldByNumber(33, Long.class);
     }
 
+    public long getTargetTime(final long defaultValue) {
+        return getLongFieldByNumber(33, defaultValue);
+    }
+
     @Nullable
     public Double getPreciseTargetSpeed() {
         return getFieldByNumber(153, Double.class);
     }
 
+    public double getPreciseTargetSpeed(final double defaultValue) {
+        return getDoubleFieldByNumber(153, defaultValue);
+    }
+
     /**
      * @noinspection unused
      */
@@ -44,61 +44,109 @@ public class FitUserMetrics extends RecordData {
         return getFieldByNumber(0, Integer.class);
     }
 
+    public int getVo2Max(final int defaultValue) {
+        return getIntFieldByNumber(0, defaultValue);
+    }
+
     @Nullable
     public Integer getAge() {
         return getFieldByNumber(1, Integer.class);
     }
 
+    public int getAge(final int defaultValue) {
+        return getIntFieldByNumber(1, defaultValue);
+    }
+
     @Nullable
     public Float getHeight() {
         return getFieldByNumber(2, Float.class);
     }
 
+    public float getHeight(final float defaultValue) {
+        return getFloatFieldByNumber(2, defaultValue);
+    }
+
     @Nullable
     public Float getWeight() {
         return getFieldByNumber(3, Float.class);
     }
 
+    public float getWeight(final float defaultValue) {
+        return getFloatFieldByNumber(3, defaultValue);
+    }
+
     @Nullable
     public Integer getGender() {
         return getFieldByNumber(4, Integer.class);
     }
 
+    public int getGender(final int defaultValue) {
+        return getIntFieldByNumber(4, defaultValue);
+    }
+
     @Nullable
     public Integer getMaxHr() {
         return getFieldByNumber(6, Integer.class);
     }
 
+    public int getMaxHr(final int defaultValue) {
+        return getIntFieldByNumber(6, defaultValue);
+    }
+
     @Nullable
     public Integer getRemainingRecoveryTime() {
         return getFieldByNumber(8, Integer.class);
     }
 
+    public int getRemainingRecoveryTime(final int defaultValue) {
+        return getIntFieldByNumber(8, defaultValue);
+    }
+
     @Nullable
     public Integer getInitialBodyBattery() {
         return getFieldByNumber(15, Integer.class);
     }
 
+    public int getInitialBodyBattery(final int defaultValue) {
+        return getIntFieldByNumber(15, defaultValue);
+    }
+
     @Nullable
     public Long getStartOfActivity() {
         return getFieldByNumber(16, Long.class);
     }
 
+    public long getStartOfActivity(final long defaultValue) {
+        return getLongFieldByNumber(16, defaultValue);
+    }
+
     @Nullable
     public Integer getBeginningPotential() {
         return getFieldByNumber(32, Integer.class);
     }
 
+    public int getBeginningPotential(final int defaultValue) {
+        return getIntFieldByNumber(32, defaultValue);
+    }
+
     @Nullable
     public Long getEndOfPreviousActivity() {
         return getFieldByNumber(35, Long.class);
     }
 
+    public long getEndOfPreviousActivity(final long defaultValue) {
+        return getLongFieldByNumber(35, defaultValue);
+    }
+
     @Nullable
     public Long getWakeUpTime() {
         return getFieldByNumber(39, Long.class);
     }
 
+    public long getWakeUpTime(final long defaultValue) {
+        return getLongFieldByNumber(39, defaultValue);
+    }
+
     @Nullable
     public Long getTimestamp() {
         return getFieldByNumber(253, Long.class);
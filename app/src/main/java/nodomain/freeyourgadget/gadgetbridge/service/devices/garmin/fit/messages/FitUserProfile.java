@@ -51,21 +51,37 @@ public class FitUserProfile extends RecordData {
         return getFieldByNumber(1, Integer.class);
     }
 
+    public int getGender(final int defaultValue) {
+        return getIntFieldByNumber(1, defaultValue);
+    }
+
     @Nullable
     public Integer getAge() {
         return getFieldByNumber(2, Integer.class);
     }
 
+    public int getAge(final int defaultValue) {
+        return getIntFieldByNumber(2, defaultValue);
+    }
+
     @Nullable
     public Integer getHeight() {
         return getFieldByNumber(3, Integer.class);
     }
 
+    public int getHeight(final int defaultValue) {
+        return getIntFieldByNumber(3, defaultValue);
+    }
+
     @Nullable
     public Float getWeight() {
         return getFieldByNumber(4, Float.class);
     }
 
+    public float getWeight(final float defaultValue) {
+        return getFloatFieldByNumber(4, defaultValue);
+    }
+
     @Nullable
     public Language getLanguage() {
         return getFieldByNumber(5, Language.class);
@@ -86,26 +102,46 @@ public class FitUserProfile extends RecordData {
         return getFieldByNumber(8, Integer.class);
     }
 
+    public int getRestingHeartRate(final int defaultValue) {
+        return getIntFieldByNumber(8, defaultValue);
+    }
+
     @Nullable
     public Integer getDefaultMaxRunningHeartRate() {
         return getFieldByNumber(9, Integer.class);
     }
 
+    public int getDefaultMaxRunningHeartRate(final int defaultValue) {
+        return getIntFieldByNumber(9, defaultValue);
+    }
+
     @Nullable
     public Integer getDefaultMaxBikingHeartRate() {
         return getFieldByNumber(10, Integer.class);
     }
 
+    public int getDefaultMaxBikingHeartRate(final int defaultValue) {
+        return getIntFieldByNumber(10, defaultValue);
+    }
+
     @Nullable
     public Integer getDefaultMaxHeartRate() {
         return getFieldByNumber(11, Integer.class);
     }
 
+    public int getDefaultMaxHeartRate(final int defaultValue) {
+        return getIntFieldByNumber(11, defaultValue);
+    }
+
     @Nullable
     public Integer getHrSetting() {
         return getFieldByNumber(12, Integer.class);
     }
 
+    public int getHrSetting(final int defaultValue) {
+        return getIntFieldByNumber(12, defaultValue);
+    }
+
     @Nullable
     public Type getSpeedSetting() {
         return getFieldByNumber(13, Type.class);
@@ -121,16 +157,28 @@ public class FitUserProfile extends RecordData {
         return getFieldByNumber(16, Integer.class);
     }
 
+    public int getPowerSetting(final int defaultValue) {
+        return getIntFieldByNumber(16, defaultValue);
+    }
+
     @Nullable
     public Integer getActivityClass() {
         return getFieldByNumber(17, Integer.class);
     }
 
+    public int getActivityClass(final int defaultValue) {
+        return getIntFieldByNumber(17, defaultValue);
+    }
+
     @Nullable
     public Integer getPositionSetting() {
         return getFieldByNumber(18, Integer.class);
     }
 
+    public int getPositionSetting(final int defaultValue) {
+        return getIntFieldByNumber(18, defaultValue);
+    }
+
     @Nullable
     public Type getTemperatureSetting() {
         return getFieldByNumber(21, Type.class);
@@ -141,6 +189,10 @@ public class FitUserProfile extends RecordData {
         return getFieldByNumber(22, Integer.class);
     }
 
+    public int getLocalId(final int defaultValue) {
+        return getIntFieldByNumber(22, defaultValue);
+    }
+
     @Nullable
     public Number[] getGlobalId() {
         return getArrayFieldByNumber(23, Number.class);
@@ -151,16 +203,28 @@ public class FitUserProfile extends RecordData {
         return getFieldByNumber(24, Integer.class);
     }
 
+    public int getYearOfBirth(final int defaultValue) {
+        return getIntFieldByNumber(24, defaultValue);
+    }
+
     @Nullable
     public Long getWakeTime() {
         return getFieldByNumber(28, Long.class);
     }
 
+    public long getWakeTime(final long defaultValue) {
+        return getLongFieldByNumber(28, defaultValue);
+    }
+
     @Nullable
     public Long getSleepTime() {
         return getFieldByNumber(29, Long.class);
     }
 
+    public long getSleepTime(final long defaultValue) {
+        return getLongFieldByNumber(29, defaultValue);
+    }
+
     @Nullable
     public Type getHeightSetting() {
         return getFieldByNumber(30, Type.class);
@@ -171,21 +235,37 @@ public class FitUserProfile extends RecordData {
         return getFieldByNumber(31, Integer.class);
     }
 
+    public int getUserRunningStepLength(final int defaultValue) {
+        return getIntFieldByNumber(31, defaultValue);
+    }
+
     @Nullable
     public Integer getUserWalkingStepLength() {
         return getFieldByNumber(32, Integer.class);
     }
 
+    public int getUserWalkingStepLength(final int defaultValue) {
+        return getIntFieldByNumber(32, defaultValue);
+    }
+
     @Nullable
     public Float getLtspeed() {
         return getFieldByNumber(37, Float.class);
     }
 
+    public float getLtspeed(final float defaultValue) {
+        return getFloatFieldByNumber(37, defaultValue);
+    }
+
     @Nullable
     public Long getTimeLastLthrUpdate() {
         return getFieldByNumber(41, Long.class);
     }
 
+    public long getTimeLastLthrUpdate(final long defaultValue) {
+        return getLongFieldByNumber(41, defaultValue);
+    }
+
     @Nullable
     public Type getDepthSetting() {
         return getFieldByNumber(47, Type.class);
@@ -196,16 +276,28 @@ public class FitUserProfile extends RecordData {
         return getFieldByNumber(49, Long.class);
     }
 
+    public long getDiveCount(final long defaultValue) {
+        return getLongFieldByNumber(49, defaultValue);
+    }
+
     @Nullable
     public Integer getGenderX() {
         return getFieldByNumber(62, Integer.class);
     }
 
+    public int getGenderX(final int defaultValue) {
+        return getIntFieldByNumber(62, defaultValue);
+    }
+
     @Nullable
     public Integer getMessageIndex() {
         return getFieldByNumber(254, Integer.class);
     }
 
+    public int getMessageIndex(final int defaultValue) {
+        return getIntFieldByNumber(254, defaultValue);
+    }
+
     /**
      * @noinspection unused
      */
@@ -54,6 +54,10 @@ public class FitVideo extends RecordData {
         return getFieldByNumber(2, Long.class);
     }
 
+    public long getDuration(final long defaultValue) {
+        return getLongFieldByNumber(2, defaultValue);
+    }
+
     /**
      * @noinspection unused
      */
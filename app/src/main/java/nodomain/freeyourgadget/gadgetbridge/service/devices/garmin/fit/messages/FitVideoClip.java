@@ -44,36 +44,64 @@ public class FitVideoClip extends RecordData {
         return getFieldByNumber(0, Integer.class);
     }
 
+    public int getClipNumber(final int defaultValue) {
+        return getIntFieldByNumber(0, defaultValue);
+    }
+
     @Nullable
     public Long getStartTimestamp() {
         return getFieldByNumber(1, Long.class);
     }
 
+    public long getStartTimestamp(final long defaultValue) {
+        return getLongFieldByNumber(1, defaultValue);
+    }
+
     @Nullable
     public Integer getStartTimestampMs() {
         return getFieldByNumber(2, Integer.class);
     }
 
+    public int getStartTimestampMs(final int defaultValue) {
+        return getIntFieldByNumber(2, defaultValue);
+    }
+
     @Nullable
     public Long getEndTimestamp() {
         return getFieldByNumber(3, Long.class);
     }
 
+    public long getEndTimestamp(final long defaultValue) {
+        return getLongFieldByNumber(3, defaultValue);
+    }
+
     @Nullable
     public Integer getEndTimestampMs() {
         return getFieldByNumber(4, Integer.class);
     }
 
+    public int getEndTimestampMs(final int defaultValue) {
+        return getIntFieldByNumber(4, defaultValue);
+    }
+
     @Nullable
     public Long getClipStart() {
         return getFieldByNumber(6, Long.class);
     }
 
+    public long getClipStart(final long defaultValue) {
+        return getLongFieldByNumber(6, defaultValue);
+    }
+
     @Nullable
     public Long getClipEnd() {
         return getFieldByNumber(7, Long.class);
     }
 
+    public long getClipEnd(final long defaultValue) {
+        return getLongFieldByNumber(7, defaultValue);
+    }
+
     /**
      * @noinspection unused
      */
@@ -44,6 +44,10 @@ public class FitVideoTitle extends RecordData {
         return getFieldByNumber(0, Integer.class);
     }
 
+    public int getMessageCount(final int defaultValue) {
+        return getIntFieldByNumber(0, defaultValue);
+    }
+
     @Nullable
     public String getText() {
         return getFieldByNumber(1, String.class);
@@ -54,6 +58,10 @@ public class FitVideoTitle extends RecordData {
         return getFieldByNumber(254, Integer.class);
     }
 
+    public int getMessageIndex(final int defaultValue) {
+        return getIntFieldByNumber(254, defaultValue);
+    }
+
     /**
      * @noinspection unused
      */
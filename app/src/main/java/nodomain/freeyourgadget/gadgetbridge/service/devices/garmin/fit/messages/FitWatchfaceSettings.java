@@ -44,16 +44,28 @@ public class FitWatchfaceSettings extends RecordData {
         return getFieldByNumber(0, Integer.class);
     }
 
+    public int getMode(final int defaultValue) {
+        return getIntFieldByNumber(0, defaultValue);
+    }
+
     @Nullable
     public Integer getLayout() {
         return getFieldByNumber(1, Integer.class);
     }
 
+    public int getLayout(final int defaultValue) {
+        return getIntFieldByNumber(1, defaultValue);
+    }
+
     @Nullable
     public Integer getMessageIndex() {
         return getFieldByNumber(254, Integer.class);
     }
 
+    public int getMessageIndex(final int defaultValue) {
+        return getIntFieldByNumber(254, defaultValue);
+    }
+
     /**
      * @noinspection unused
      */
@@ -64,16 +64,28 @@ public class FitWeather extends RecordData {
         return getFieldByNumber(3, Integer.class);
     }
 
+    public int getWindDirection(final int defaultValue) {
+        return getIntFieldByNumber(3, defaultValue);
+    }
+
     @Nullable
     public Float getWindSpeed() {
         return getFieldByNumber(4, Float.class);
     }
 
+    public float getWindSpeed(final float defaultValue) {
+        return getFloatFieldByNumber(4, defaultValue);
+    }
+
     @Nullable
     public Integer getPrecipitationProbability() {
         return getFieldByNumber(5, Integer.class);
     }
 
+    public int getPrecipitationProbability(final int defaultValue) {
+        return getIntFieldByNumber(5, defaultValue);
+    }
+
     @Nullable
     public Integer getTemperatureFeelsLike() {
         return getFieldByNumber(6, Integer.class);
@@ -84,6 +96,10 @@ public class FitWeather extends RecordData {
         return getFieldByNumber(7, Integer.class);
     }
 
+    public int getRelativeHumidity(final int defaultValue) {
+        return getIntFieldByNumber(7, defaultValue);
+    }
+
     @Nullable
     public String getLocation() {
         return getFieldByNumber(8, String.class);
@@ -99,11 +115,19 @@ public class FitWeather extends RecordData {
         return getFieldByNumber(10, Long.class);
     }
 
+    public long getObservedLocationLat(final long defaultValue) {
+        return getLongFieldByNumber(10, defaultValue);
+    }
+
     @Nullable
     public Long getObservedLocationLong() {
         return getFieldByNumber(11, Long.class);
     }
 
+    public long getObservedLocationLong(final long defaultValue) {
+        return getLongFieldByNumber(11, defaultValue);
+    }
+
     @Nullable
     public DayOfWeek getDayOfWeek() {
         return getFieldByNumber(12, DayOfWeek.class);
@@ -129,6 +153,10 @@ public class FitWeather extends RecordData {
         return getFieldByNumber(16, Float.class);
     }
 
+    public float getUvIndex(final float defaultValue) {
+        return getFloatFieldByNumber(16, defaultValue);
+    }
+
     @Nullable
     public AQI_LEVELS getAirQuality() {
         return getFieldByNumber(17, AQI_LEVELS.class);
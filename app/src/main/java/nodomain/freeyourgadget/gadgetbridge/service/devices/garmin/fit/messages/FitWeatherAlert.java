@@ -49,21 +49,37 @@ public class FitWeatherAlert extends RecordData {
         return getFieldByNumber(1, Long.class);
     }
 
+    public long getIssueTime(final long defaultValue) {
+        return getLongFieldByNumber(1, defaultValue);
+    }
+
     @Nullable
     public Long getExpireTime() {
         return getFieldByNumber(2, Long.class);
     }
 
+    public long getExpireTime(final long defaultValue) {
+        return getLongFieldByNumber(2, defaultValue);
+    }
+
     @Nullable
     public Integer getSeverity() {
         return getFieldByNumber(3, Integer.class);
     }
 
+    public int getSeverity(final int defaultValue) {
+        return getIntFieldByNumber(3, defaultValue);
+    }
+
     @Nullable
     public Integer getType() {
         return getFieldByNumber(4, Integer.class);
     }
 
+    public int getType(final int defaultValue) {
+        return getIntFieldByNumber(4, defaultValue);
+    }
+
     @Nullable
     public Long getTimestamp() {
         return getFieldByNumber(253, Long.class);
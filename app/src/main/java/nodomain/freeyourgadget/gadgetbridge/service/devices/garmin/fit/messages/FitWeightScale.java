@@ -44,66 +44,118 @@ public class FitWeightScale extends RecordData {
         return getFieldByNumber(0, Float.class);
     }
 
+    public float getWeight(final float defaultValue) {
+        return getFloatFieldByNumber(0, defaultValue);
+    }
+
     @Nullable
     public Float getPercentFat() {
         return getFieldByNumber(1, Float.class);
     }
 
+    public float getPercentFat(final float defaultValue) {
+        return getFloatFieldByNumber(1, defaultValue);
+    }
+
     @Nullable
     public Float getPercentHydration() {
         return getFieldByNumber(2, Float.class);
     }
 
+    public float getPercentHydration(final float defaultValue) {
+        return getFloatFieldByNumber(2, defaultValue);
+    }
+
     @Nullable
     public Float getVisceralFatMass() {
         return getFieldByNumber(3, Float.class);
     }
 
+    public float getVisceralFatMass(final float defaultValue) {
+        return getFloatFieldByNumber(3, defaultValue);
+    }
+
     @Nullable
     public Float getBoneMass() {
         return getFieldByNumber(4, Float.class);
     }
 
+    public float getBoneMass(final float defaultValue) {
+        return getFloatFieldByNumber(4, defaultValue);
+    }
+
     @Nullable
     public Float getMuscleMass() {
         return getFieldByNumber(5, Float.class);
     }
 
+    public float getMuscleMass(final float defaultValue) {
+        return getFloatFieldByNumber(5, defaultValue);
+    }
+
     @Nullable
     public Float getBasalMet() {
         return getFieldByNumber(7, Float.class);
     }
 
+    public float getBasalMet(final float defaultValue) {
+        return getFloatFieldByNumber(7, defaultValue);
+    }
+
     @Nullable
     public Integer getPhysiqueRating() {
         return getFieldByNumber(8, Integer.class);
     }
 
+    public int getPhysiqueRating(final int defaultValue) {
+        return getIntFieldByNumber(8, defaultValue);
+    }
+
     @Nullable
     public Float getActiveMet() {
         return getFieldByNumber(9, Float.class);
     }
 
+    public float getActiveMet(final float defaultValue) {
+        return getFloatFieldByNumber(9, defaultValue);
+    }
+
     @Nullable
     public Integer getMetabolicAge() {
         return getFieldByNumber(10, Integer.class);
     }
 
+    public int getMetabolicAge(final int defaultValue) {
+        return getIntFieldByNumber(10, defaultValue);
+    }
+
     @Nullable
     public Integer getVisceralFatRating() {
         return getFieldByNumber(11, Integer.class);
     }
 
+    public int getVisceralFatRating(final int defaultValue) {
+        return getIntFieldByNumber(11, defaultValue);
+    }
+
     @Nullable
     public Integer getUserProfileIndex() {
         return getFieldByNumber(12, Integer.class);
     }
 
+    public int getUserProfileIndex(final int defaultValue) {
+        return getIntFieldByNumber(12, defaultValue);
+    }
+
     @Nullable
     public Float getBmi() {
         return getFieldByNumber(13, Float.class);
     }
 
+    public float getBmi(final float defaultValue) {
+        return getFloatFieldByNumber(13, defaultValue);
+    }
+
     @Nullable
     public Long getTimestamp() {
         return getFieldByNumber(253, Long.class);
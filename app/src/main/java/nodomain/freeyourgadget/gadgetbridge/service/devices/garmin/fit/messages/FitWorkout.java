@@ -44,16 +44,28 @@ public class FitWorkout extends RecordData {
         return getFieldByNumber(4, Integer.class);
     }
 
+    public int getSport(final int defaultValue) {
+        return getIntFieldByNumber(4, defaultValue);
+    }
+
     @Nullable
     public Long getCapabilities() {
         return getFieldByNumber(5, Long.class);
     }
 
+    public long getCapabilities(final long defaultValue) {
+        return getLongFieldByNumber(5, defaultValue);
+    }
+
     @Nullable
     public Integer getNumValidSteps() {
         return getFieldByNumber(6, Integer.class);
     }
 
+    public int getNumValidSteps(final int defaultValue) {
+        return getIntFieldByNumber(6, defaultValue);
+    }
+
     @Nullable
     public String getName() {
         return getFieldByNumber(8, String.class);
@@ -64,16 +76,28 @@ public class FitWorkout extends RecordData {
         return getFieldByNumber(11, Integer.class);
     }
 
+    public int getSubSport(final int defaultValue) {
+        return getIntFieldByNumber(11, defaultValue);
+    }
+
     @Nullable
     public Float getPoolLength() {
         return getFieldByNumber(14, Float.class);
     }
 
+    public float getPoolLength(final float defaultValue) {
+        return getFloatFieldByNumber(14, defaultValue);
+    }
+
     @Nullable
     public Integer getPoolLengthUnit() {
         return getFieldByNumber(15, Integer.class);
     }
 
+    public int getPoolLengthUnit(final int defaultValue) {
+        return getIntFieldByNumber(15, defaultValue);
+    }
+
     @Nullable
     public String getNotes() {
         return getFieldByNumber(17, String.class);
@@ -84,6 +108,10 @@ public class FitWorkout extends RecordData {
         return getFieldByNumber(254, Integer.class);
     }
 
+    public int getMessageIndex(final int defaultValue) {
+        return getIntFieldByNumber(254, defaultValue);
+    }
+
     /**
      * @noinspection unused
      */
@@ -44,36 +44,64 @@ public class FitWorkoutSession extends RecordData {
         return getFieldByNumber(0, Integer.class);
     }
 
+    public int getSport(final int defaultValue) {
+        return getIntFieldByNumber(0, defaultValue);
+    }
+
     @Nullable
     public Integer getSubSport() {
         return getFieldByNumber(1, Integer.class);
     }
 
+    public int getSubSport(final int defaultValue) {
+        return getIntFieldByNumber(1, defaultValue);
+    }
+
     @Nullable
     public Integer getNumValidSteps() {
         return getFieldByNumber(2, Integer.class);
     }
 
+    public int getNumValidSteps(final int defaultValue) {
+        return getIntFieldByNumber(2, defaultValue);
+    }
+
     @Nullable
     public Integer getFirstStepIndex() {
         return getFieldByNumber(3, Integer.class);
     }
 
+    public int getFirstStepIndex(final int defaultValue) {
+        return getIntFieldByNumber(3, defaultValue);
+    }
+
     @Nullable
     public Float getPoolLength() {
         return getFieldByNumber(4, Float.class);
     }
 
+    public float getPoolLength(final float defaultValue) {
+        return getFloatFieldByNumber(4, defaultValue);
+    }
+
     @Nullable
     public Integer getPoolLengthUnit() {
         return getFieldByNumber(5, Integer.class);
     }
 
+    public int getPoolLengthUnit(final int defaultValue) {
+        return getIntFieldByNumber(5, defaultValue);
+    }
+
     @Nullable
     public Integer getMessageIndex() {
         return getFieldByNumber(254, Integer.class);
     }
 
+    public int getMessageIndex(final int defaultValue) {
+        return getIntFieldByNumber(254, defaultValue);
+    }
+
     /**
      * @noinspection unused
      */
@@ -49,36 +49,64 @@ public class FitWorkoutStep extends RecordData {
         return getFieldByNumber(1, Integer.class);
     }
 
+    public int getDurationType(final int defaultValue) {
+        return getIntFieldByNumber(1, defaultValue);
+    }
+
     @Nullable
     public Long getDurationValue() {
         return getFieldByNumber(2, Long.class);
     }
 
+    public long getDurationValue(final long defaultValue) {
+        return getLongFieldByNumber(2, defaultValue);
+    }
+
     @Nullable
     public Integer getTargetType() {
         return getFieldByNumber(3, Integer.class);
     }
 
+    public int getTargetType(final int defaultValue) {
+        return getIntFieldByNumber(3, defaultValue);
+    }
+
     @Nullable
     public Long getTargetValue() {
         return getFieldByNumber(4, Long.class);
     }
 
+    public long getTargetValue(final long defaultValue) {
+        return getLongFieldByNumber(4, defaultValue);
+    }
+
     @Nullable
     public Long getCustomTargetValueLow() {
         return getFieldByNumber(5, Long.class);
     }
 
+    public long getCustomTargetValueLow(final long defaultValue) {
+        return getLongFieldByNumber(5, defaultValue);
+    }
+
     @Nullable
     public Long getCustomTargetValueHigh() {
         return getFieldByNumber(6, Long.class);
     }
 
+    public long getCustomTargetValueHigh(final long defaultValue) {
+        return getLongFieldByNumber(6, defaultValue);
+    }
+
     @Nullable
     public Integer getIntensity() {
         return getFieldByNumber(7, Integer.class);
     }
 
+    public int getIntensity(final int defaultValue) {
+        return getIntFieldByNumber(7, defaultValue);
+    }
+
     @Nullable
     public String getNotes() {
         return getFieldByNumber(8, String.class);
@@ -89,51 +117,91 @@ public class FitWorkoutStep extends RecordData {
         return getFieldByNumber(9, Integer.class);
     }
 
+    public int getEquipment(final int defaultValue) {
+        return getIntFieldByNumber(9, defaultValue);
+    }
+
     @Nullable
     public Integer getExerciseCategory() {
         return getFieldByNumber(10, Integer.class);
     }
 
+    public int getExerciseCategory(final int defaultValue) {
+        return getIntFieldByNumber(10, defaultValue);
+    }
+
     @Nullable
     public Integer getExerciseName() {
         return getFieldByNumber(11, Integer.class);
     }
 
+    public int getExerciseName(final int defaultValue) {
+        return getIntFieldByNumber(11, defaultValue);
+    }
+
     @Nullable
     public Float getExerciseWeight() {
         return getFieldByNumber(12, Float.class);
     }
 
+    public float getExerciseWeight(final float defaultValue) {
+        return getFloatFieldByNumber(12, defaultValue);
+    }
+
     @Nullable
     public Integer getWeightDisplayUnit() {
         return getFieldByNumber(13, Integer.class);
     }
 
+    public int getWeightDisplayUnit(final int defaultValue) {
+        return getIntFieldByNumber(13, defaultValue);
+    }
+
     @Nullable
     public Integer getSecondaryTargetType() {
         return getFieldByNumber(19, Integer.class);
     }
 
+    public int getSecondaryTargetType(final int defaultValue) {
+        return getIntFieldByNumber(19, defaultValue);
+    }
+
     @Nullable
     public Long getSecondaryTargetValue() {
         return getFieldByNumber(20, Long.class);
     }
 
+    public long getSecondaryTargetValue(final long defaultValue) {
+        return getLongFieldByNumber(20, defaultValue);
+    }
+
     @Nullable
     public Long getSecondaryCustomTargetValueLow() {
         return getFieldByNumber(21, Long.class);
     }
 
+    public long getSecondaryCustomTargetValueLow(final long defaultValue) {
+        return getLongFieldByNumber(21, defaultValue);
+    }
+
     @Nullable
     public Long getSecondaryCustomTargetValueHigh() {
         return getFieldByNumber(22, Long.class);
     }
 
+    public long getSecondaryCustomTargetValueHigh(final long defaultValue) {
+        return getLongFieldByNumber(22, defaultValue);
+    }
+
     @Nullable
     public Integer getMessageIndex() {
         return getFieldByNumber(254, Integer.class);
     }
 
+    public int getMessageIndex(final int defaultValue) {
+        return getIntFieldByNumber(254, defaultValue);
+    }
+
     /**
      * @noinspection unused
      */
@@ -44,26 +44,46 @@ public class FitZonesTarget extends RecordData {
         return getFieldByNumber(3, Integer.class);
     }
 
+    public int getFunctionalThresholdPower(final int defaultValue) {
+        return getIntFieldByNumber(3, defaultValue);
+    }
+
     @Nullable
     public Integer getMaxHeartRate() {
         return getFieldByNumber(1, Integer.class);
     }
 
+    public int getMaxHeartRate(final int defaultValue) {
+        return getIntFieldByNumber(1, defaultValue);
+    }
+
     @Nullable
     public Integer getThresholdHeartRate() {
         return getFieldByNumber(2, Integer.class);
     }
 
+    public int getThresholdHeartRate(final int defaultValue) {
+        return getIntFieldByNumber(2, defaultValue);
+    }
+
     @Nullable
     public Integer getHrCalcType() {
         return getFieldByNumber(5, Integer.class);
     }
 
+    public int getHrCalcType(final int defaultValue) {
+        return getIntFieldByNumber(5, defaultValue);
+    }
+
     @Nullable
     public Integer getPwrCalcType() {
         return getFieldByNumber(7, Integer.class);
     }
 
+    public int getPwrCalcType(final int defaultValue) {
+        return getIntFieldByNumber(7, defaultValue);
+    }
+
     /**
      * @noinspection unused
      */
@@ -146,6 +146,7 @@ import nodomain.freeyourgadget.gadgetbridge.service.btle.BtLEAction;
 import nodomain.freeyourgadget.gadgetbridge.service.btle.GattCharacteristic;
 import nodomain.freeyourgadget.gadgetbridge.service.btle.GattService;
 import nodomain.freeyourgadget.gadgetbridge.service.btle.TransactionBuilder;
+import nodomain.freeyourgadget.gadgetbridge.service.btle.TransactionPriority;
 import nodomain.freeyourgadget.gadgetbridge.service.btle.actions.ConditionalWriteAction;
 import nodomain.freeyourgadget.gadgetbridge.service.btle.profiles.IntentListener;
 import nodomain.freeyourgadget.gadgetbridge.service.btle.profiles.alertnotification.AlertCategory;
@@ -832,6 +833,9 @@ public abstract class HuamiSupport extends AbstractBTLESingleDeviceSupport
     protected void performPreferredNotification(String task, String notificationOrigin, SimpleNotification simpleNotification, int alertLevel, BtLEAction extraAction) {
         try {
             TransactionBuilder builder = performInitialized(task);
+            if (MiBandConst.ORIGIN_INCOMING_CALL.equals(notificationOrigin)) {
+                builder.setPriority(TransactionPriority.REALTIME);
+            }
             Prefs prefs = getDevicePrefs();
             short vibrateTimes = getPreferredVibrateCount(notificationOrigin, prefs);
             VibrationProfile profile = getPreferredVibrateProfile(notificationOrigin, prefs, vibrateTimes);
@@ -1238,6 +1242,7 @@ public abstract class HuamiSupport extends AbstractBTLESingleDeviceSupport
             buf.put(new byte[]{0, 0, 0, 2});
             try {
                 TransactionBuilder builder = performInitialized("incoming call");
+                builder.setPriority(TransactionPriority.REALTIME);
                 writeToChunked(builder, 0, buf.array());
                 builder.queue();
             } catch (IOException e) {
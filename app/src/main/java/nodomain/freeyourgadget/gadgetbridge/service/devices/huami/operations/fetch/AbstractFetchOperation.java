@@ -32,6 +32,7 @@ import java.text.DateFormat;
 import java.util.Arrays;
 import java.util.Calendar;
 import java.util.GregorianCalendar;
+import java.util.zip.CRC32;
 
 import nodomain.freeyourgadget.gadgetbridge.GBApplication;
 import nodomain.freeyourgadget.gadgetbridge.Logging;
@@ -41,7 +42,6 @@ import nodomain.freeyourgadget.gadgetbridge.devices.huami.HuamiService;
 import nodomain.freeyourgadget.gadgetbridge.impl.GBDevice;
 import nodomain.freeyourgadget.gadgetbridge.service.btle.BLETypeConversions;
 import nodomain.freeyourgadget.gadgetbridge.service.devices.huami.HuamiFetcher;
-import nodomain.freeyourgadget.gadgetbridge.util.CheckSums;
 import nodomain.freeyourgadget.gadgetbridge.util.DateTimeUtils;
 import nodomain.freeyourgadget.gadgetbridge.util.GB;
 
@@ -61,6 +61,8 @@ public abstract class AbstractFetchOperation {
     protected byte lastPacketCounter;
     protected int expectedDataLength = 0;
     protected final ByteArrayOutputStream buffer = new ByteArrayOutputStream(1024);
+    // Updated as the data arrives, since the buffer may not hold all of it
+    private final CRC32 checksum = new CRC32();
 
     protected boolean operationValid = true; // to mark operation failed midway (eg. out of sync)
 
@@ -85,6 +87,7 @@ public abstract class AbstractFetchOperation {
     public void doPerform() {
         expectedDataLength = 0;
         lastPacketCounter = -1;
+        checksum.reset();
         fetchCount++;
 
         startFetching();
@@ -115,7 +118,7 @@ public abstract class AbstractFetchOperation {
      * @return whether the checksum was valid
      */
     protected boolean validChecksum(int crc32) {
-        return crc32 == CheckSums.getCRC32(buffer.toByteArray());
+        return crc32 == (int) checksum.getValue();
     }
 
     protected abstract boolean processBufferedData();
@@ -131,6 +134,7 @@ public abstract class AbstractFetchOperation {
         if ((byte) (lastPacketCounter + 1) == value[0]) {
             // TODO we should handle skipped or repeated bytes more gracefully
             lastPacketCounter++;
+            checksum.update(value, 1, value.length - 1); // skip the counter
             bufferActivityData(value);
         } else {
             GB.toast("Error " + getName() + ", invalid package counter: " + value[0] + ", last was: " + lastPacketCounter, Toast.LENGTH_LONG, GB.ERROR);
@@ -23,6 +23,7 @@ import java.io.File;
 import java.io.FileOutputStream;
 import java.io.OutputStream;
 import java.text.SimpleDateFormat;
+import java.util.Arrays;
 import java.util.Calendar;
 import java.util.GregorianCalendar;
 import java.util.Locale;
@@ -39,12 +40,17 @@ import nodomain.freeyourgadget.gadgetbridge.util.FileUtils;
 public abstract class AbstractRepeatingFetchOperation extends AbstractFetchOperation {
     private static final Logger LOG = LoggerFactory.getLogger(AbstractRepeatingFetchOperation.class);
 
+    // The timestamp of the first sample that was not processed yet, if some were processed
+    // before the end of the fetch
+    private GregorianCalendar nextTimestamp;
+
     public AbstractRepeatingFetchOperation(final HuamiFetcher fetcher, final HuamiFetchDataType dataType) {
         super(fetcher, dataType);
     }
 
     @Override
     protected void startFetching() {
+        nextTimestamp = null;
         final GregorianCalendar sinceWhen = getLastSuccessfulSyncTime();
         LOG.info("start {} since {}", getName(), DateTimeUtils.formatIso8601(sinceWhen.getTime()));
         startFetching(dataType.getCode(), sinceWhen);
@@ -60,28 +66,73 @@ public abstract class AbstractRepeatingFetchOperation extends AbstractFetchOpera
      */
     protected abstract boolean handleActivityData(GregorianCalendar timestamp, byte[] bytes);
 
+    /**
+     * The number of bytes after which the buffered data is processed while the fetch is still
+     * running, or 0 to only process it once all data was received. This must be a multiple of
+     * the size of a sample, and {@link #handleActivityData(GregorianCalendar, byte[])} must
+     * accept any number of consecutive samples, one per minute.
+     * <p>
+     * After each batch, the last sync timestamp is saved, so that an interrupted fetch resumes
+     * after the last processed sample. Note that batches are processed before the checksum of
+     * the whole transfer can be validated.
+     */
+    protected int getIncrementalBatchSize() {
+        return 0;
+    }
+
     @Override
-    protected boolean processBufferedData() {
-        LOG.info("{} has finished round {}, got {} bytes in buffer", getName(), fetchCount, buffer.size());
+    protected void bufferActivityData(final byte[] value) {
+        super.bufferActivityData(value);
 
-        if (buffer.size() == 0) {
-            return true;
+        final int batchSize = getIncrementalBatchSize();
+        if (batchSize <= 0 || buffer.size() < batchSize) {
+            return;
         }
 
         final byte[] bytes = buffer.toByteArray();
-        final GregorianCalendar timestamp = (GregorianCalendar) this.startTimestamp.clone();
-
-        // Uncomment to dump the bytes to external storage for debugging
-        //dumpBytesToExternalStorage(bytes, timestamp);
+        final int batchLength = bytes.length - bytes.length % batchSize;
+        buffer.reset();
+        buffer.write(bytes, batchLength, bytes.length - batchLength);
 
-        final boolean handleSuccess = handleActivityData(timestamp, bytes);
+        final GregorianCalendar timestamp = getNextTimestamp();
+        LOG.debug("{} processing batch of {} bytes since {}", getName(), batchLength, DateTimeUtils.formatIso8601(timestamp.getTime()));
 
-        if (!handleSuccess) {
-            return false;
+        if (!handleActivityData(timestamp, Arrays.copyOf(bytes, batchLength))) {
+            LOG.error("{} failed to process batch, stopping", getName());
+            operationValid = false;
+            return;
         }
 
         timestamp.add(Calendar.MINUTE, 1);
+        nextTimestamp = timestamp;
         saveLastSyncTimestamp(timestamp);
+    }
+
+    @Override
+    protected boolean processBufferedData() {
+        LOG.info("{} has finished round {}, got {} bytes in buffer", getName(), fetchCount, buffer.size());
+
+        if (buffer.size() == 0 && nextTimestamp == null) {
+            return true;
+        }
+
+        final GregorianCalendar timestamp = getNextTimestamp();
+
+        if (buffer.size() != 0) {
+            final byte[] bytes = buffer.toByteArray();
+
+            // Uncomment to dump the bytes to external storage for debugging
+            //dumpBytesToExternalStorage(bytes, timestamp);
+
+            final boolean handleSuccess = handleActivityData(timestamp, bytes);
+
+            if (!handleSuccess) {
+                return false;
+            }
+
+            timestamp.add(Calendar.MINUTE, 1);
+            saveLastSyncTimestamp(timestamp);
+        }
 
         if (needsAnotherFetch(timestamp)) {
             buffer.reset();
@@ -92,6 +143,13 @@ public abstract class AbstractRepeatingFetchOperation extends AbstractFetchOpera
         return true;
     }
 
+    private GregorianCalendar getNextTimestamp() {
+        if (nextTimestamp != null) {
+            return (GregorianCalendar) nextTimestamp.clone();
+        }
+        return (GregorianCalendar) this.startTimestamp.clone();
+    }
+
     private boolean needsAnotherFetch(final GregorianCalendar lastSyncTimestamp) {
         final long lastFetchRange = lastSyncTimestamp.getTimeInMillis() - startTimestamp.getTimeInMillis();
         if (lastFetchRange < 1000L) {
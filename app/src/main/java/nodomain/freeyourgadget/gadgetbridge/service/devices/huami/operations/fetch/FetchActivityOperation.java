@@ -25,24 +25,23 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.text.SimpleDateFormat;
-import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.GregorianCalendar;
-import java.util.List;
 import java.util.Locale;
 
 import nodomain.freeyourgadget.gadgetbridge.GBApplication;
 import nodomain.freeyourgadget.gadgetbridge.R;
 import nodomain.freeyourgadget.gadgetbridge.database.DBHandler;
-import nodomain.freeyourgadget.gadgetbridge.database.DBHelper;
+import nodomain.freeyourgadget.gadgetbridge.devices.AbstractSampleProvider;
 import nodomain.freeyourgadget.gadgetbridge.devices.DeviceCoordinator;
+import nodomain.freeyourgadget.gadgetbridge.devices.SampleColumns;
 import nodomain.freeyourgadget.gadgetbridge.devices.SampleProvider;
 import nodomain.freeyourgadget.gadgetbridge.entities.DaoSession;
-import nodomain.freeyourgadget.gadgetbridge.entities.Device;
 import nodomain.freeyourgadget.gadgetbridge.entities.HuamiExtendedActivitySample;
+import nodomain.freeyourgadget.gadgetbridge.entities.HuamiExtendedActivitySampleDao;
 import nodomain.freeyourgadget.gadgetbridge.entities.MiBandActivitySample;
-import nodomain.freeyourgadget.gadgetbridge.entities.User;
+import nodomain.freeyourgadget.gadgetbridge.entities.MiBandActivitySampleDao;
 import nodomain.freeyourgadget.gadgetbridge.service.devices.huami.HuamiFetcher;
 import nodomain.freeyourgadget.gadgetbridge.util.DateTimeUtils;
 import nodomain.freeyourgadget.gadgetbridge.util.GB;
@@ -54,6 +53,9 @@ import nodomain.freeyourgadget.gadgetbridge.util.GB;
 public class FetchActivityOperation extends AbstractRepeatingFetchOperation {
     private static final Logger LOG = LoggerFactory.getLogger(FetchActivityOperation.class);
 
+    // Persist the samples every 4 hours of data, so that long fetches do not start over if interrupted
+    private static final int BATCH_SAMPLES = 4 * 60;
+
     private final int sampleSize;
 
     public FetchActivityOperation(final HuamiFetcher fetcher) {
@@ -74,54 +76,39 @@ public class FetchActivityOperation extends AbstractRepeatingFetchOperation {
             return false;
         }
 
-        final List<MiBandActivitySample> samples = new ArrayList<>(60 * 24); // 1day per default
-
-        for (int i = 0; i < bytes.length; i += sampleSize) {
-            final MiBandActivitySample sample;
-
-            switch (sampleSize) {
-                case 4:
-                    sample = createSample(bytes, i);
-                    break;
-                case 8:
-                    sample = createExtendedSample(bytes, i);
-                    break;
-                default:
-                    throw new IllegalStateException("Unsupported sample size " + sampleSize);
-            }
-
-            samples.add(sample);
-        }
-
-        if (samples.isEmpty()) {
+        final int numSamples = bytes.length / sampleSize;
+        if (numSamples == 0) {
             LOG.info("No samples to save");
             return true;
         }
 
-        LOG.info("Saving {} samples", samples.size());
+        final SampleColumns samples;
+        switch (sampleSize) {
+            case 4:
+                samples = createSamples(bytes, numSamples, timestamp);
+                break;
+            case 8:
+                samples = createExtendedSamples(bytes, numSamples, timestamp);
+                break;
+            default:
+                throw new IllegalStateException("Unsupported sample size " + sampleSize);
+        }
+
+        LOG.info("Saving {} samples", numSamples);
 
         // save all the samples that we got
         try (DBHandler handler = GBApplication.acquireDB()) {
             DaoSession session = handler.getDaoSession();
 
             DeviceCoordinator coordinator = getDevice().getDeviceCoordinator();
-            SampleProvider sampleProvider = coordinator.getSampleProvider(getDevice(), session);
-            Device device = DBHelper.getDevice(getDevice(), session);
-            User user = DBHelper.getUser(session);
-
-            for (MiBandActivitySample sample : samples) {
-                sample.setDevice(device);
-                sample.setUser(user);
-                sample.setTimestamp((int) (timestamp.getTimeInMillis() / 1000));
-                sample.setProvider(sampleProvider);
-
-                //LOG.debug(sampleToString(sample));
-
-                timestamp.add(Calendar.MINUTE, 1);
+            SampleProvider<?> provider = coordinator.getSampleProvider(getDevice(), session);
+            if (!(provider instanceof AbstractSampleProvider<?> sampleProvider)) {
+                LOG.error("Can not save activity samples with {}", provider);
+                return false;
             }
-            sampleProvider.addGBActivitySamples(samples.toArray(new MiBandActivitySample[0]));
+            sampleProvider.addGBActivitySamples(samples);
 
-            timestamp.add(Calendar.MINUTE, -1);
+            timestamp.add(Calendar.MINUTE, numSamples - 1);
 
             LOG.info("Huami activity data: last sample timestamp: {}", DateTimeUtils.formatDateTime(timestamp.getTime()));
             return true;
@@ -132,6 +119,11 @@ public class FetchActivityOperation extends AbstractRepeatingFetchOperation {
         }
     }
 
+    @Override
+    protected int getIncrementalBatchSize() {
+        return BATCH_SAMPLES * sampleSize;
+    }
+
     @Override
     protected boolean validChecksum(final int crc32) {
         // TODO actually check it
@@ -139,28 +131,68 @@ public class FetchActivityOperation extends AbstractRepeatingFetchOperation {
         return true;
     }
 
-    private MiBandActivitySample createSample(byte[] value, int i) {
-        MiBandActivitySample sample = new MiBandActivitySample();
-        sample.setRawKind(value[i] & 0xff);
-        sample.setRawIntensity(value[i + 1] & 0xff);
-        sample.setSteps(value[i + 2] & 0xff);
-        sample.setHeartRate(value[i + 3] & 0xff);
+    private static SampleColumns createSamples(final byte[] value, final int numSamples, final Calendar timestamp) {
+        final int[] rawKind = new int[numSamples];
+        final int[] rawIntensity = new int[numSamples];
+        final int[] steps = new int[numSamples];
+        final int[] heartRate = new int[numSamples];
+
+        for (int n = 0, i = 0; n < numSamples; n++, i += 4) {
+            rawKind[n] = value[i] & 0xff;
+            rawIntensity[n] = value[i + 1] & 0xff;
+            steps[n] = value[i + 2] & 0xff;
+            heartRate[n] = value[i + 3] & 0xff;
+        }
+
+        return new SampleColumns(getTimestamps(timestamp, numSamples))
+                .put(MiBandActivitySampleDao.Properties.RawKind, rawKind)
+                .put(MiBandActivitySampleDao.Properties.RawIntensity, rawIntensity)
+                .put(MiBandActivitySampleDao.Properties.Steps, steps)
+                .put(MiBandActivitySampleDao.Properties.HeartRate, heartRate);
+    }
+
+    private static SampleColumns createExtendedSamples(final byte[] value, final int numSamples, final Calendar timestamp) {
+        final int[] rawKind = new int[numSamples];
+        final int[] rawIntensity = new int[numSamples];
+        final int[] steps = new int[numSamples];
+        final int[] heartRate = new int[numSamples];
+        final int[] unknown1 = new int[numSamples];
+        final int[] sleep = new int[numSamples];
+        final int[] deepSleep = new int[numSamples];
+        final int[] remSleep = new int[numSamples];
+
+        for (int n = 0, i = 0; n < numSamples; n++, i += 8) {
+            rawKind[n] = value[i] & 0xff;
+            rawIntensity[n] = value[i + 1] & 0xff;
+            steps[n] = value[i + 2] & 0xff;
+            heartRate[n] = value[i + 3] & 0xff;
+            unknown1[n] = value[i + 4] & 0xff;
+            sleep[n] = value[i + 5] & 0xff;
+            deepSleep[n] = value[i + 6] & 0xff;
+            remSleep[n] = value[i + 7] & 0xff;
+        }
 
-        return sample;
+        return new SampleColumns(getTimestamps(timestamp, numSamples))
+                .put(HuamiExtendedActivitySampleDao.Properties.RawKind, rawKind)
+                .put(HuamiExtendedActivitySampleDao.Properties.RawIntensity, rawIntensity)
+                .put(HuamiExtendedActivitySampleDao.Properties.Steps, steps)
+                .put(HuamiExtendedActivitySampleDao.Properties.HeartRate, heartRate)
+                .put(HuamiExtendedActivitySampleDao.Properties.Unknown1, unknown1)
+                .put(HuamiExtendedActivitySampleDao.Properties.Sleep, sleep)
+                .put(HuamiExtendedActivitySampleDao.Properties.DeepSleep, deepSleep)
+                .put(HuamiExtendedActivitySampleDao.Properties.RemSleep, remSleep);
     }
 
-    private MiBandActivitySample createExtendedSample(byte[] value, int i) {
-        final HuamiExtendedActivitySample huamiExtendedActivitySample = new HuamiExtendedActivitySample();
-        huamiExtendedActivitySample.setRawKind(value[i] & 0xff);
-        huamiExtendedActivitySample.setRawIntensity(value[i + 1] & 0xff);
-        huamiExtendedActivitySample.setSteps(value[i + 2] & 0xff);
-        huamiExtendedActivitySample.setHeartRate(value[i + 3] & 0xff);
-        huamiExtendedActivitySample.setUnknown1(value[i + 4] & 0xff);
-        huamiExtendedActivitySample.setSleep(value[i + 5] & 0xff);
-        huamiExtendedActivitySample.setDeepSleep(value[i + 6] & 0xff);
-        huamiExtendedActivitySample.setRemSleep(value[i + 7] & 0xff);
-
-        return huamiExtendedActivitySample;
+    /**
+     * One sample per minute, starting at the given timestamp.
+     */
+    private static long[] getTimestamps(final Calendar timestamp, final int numSamples) {
+        final long start = timestamp.getTimeInMillis() / 1000;
+        final long[] timestamps = new long[numSamples];
+        for (int n = 0; n < numSamples; n++) {
+            timestamps[n] = start + n * 60L;
+        }
+        return timestamps;
     }
 
     private static final SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ssZ", Locale.ROOT);
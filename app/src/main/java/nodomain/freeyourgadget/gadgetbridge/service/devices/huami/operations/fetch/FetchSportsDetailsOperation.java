@@ -209,7 +209,7 @@ public class FetchSportsDetailsOperation extends AbstractFetchOperation {
             targetFolder.mkdirs();
             final File targetFile = new File(targetFolder, fileName);
             final FileOutputStream outputStream = new FileOutputStream(targetFile);
-            outputStream.write(buffer.toByteArray());
+            buffer.writeTo(outputStream);
             outputStream.close();
             return targetFile.getAbsolutePath();
         } catch (final IOException e) {
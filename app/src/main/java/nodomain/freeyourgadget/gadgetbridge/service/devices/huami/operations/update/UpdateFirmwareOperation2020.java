@@ -29,6 +29,7 @@ import nodomain.freeyourgadget.gadgetbridge.R;
 import nodomain.freeyourgadget.gadgetbridge.devices.huami.HuamiService;
 import nodomain.freeyourgadget.gadgetbridge.service.btle.BLETypeConversions;
 import nodomain.freeyourgadget.gadgetbridge.service.btle.TransactionBuilder;
+import nodomain.freeyourgadget.gadgetbridge.service.btle.TransactionPriority;
 import nodomain.freeyourgadget.gadgetbridge.service.devices.huami.AbstractHuamiFirmwareInfo;
 import nodomain.freeyourgadget.gadgetbridge.service.devices.huami.HuamiFirmwareType;
 import nodomain.freeyourgadget.gadgetbridge.service.devices.huami.HuamiSupport;
@@ -239,9 +240,6 @@ public class UpdateFirmwareOperation2020 extends UpdateFirmwareOperation {
             chunkLength = remaining;
         }
 
-        int packets = chunkLength / packetLength;
-        int chunkProgress = 0;
-
         try {
             if (remaining <= 0) {
                 sendTransferComplete();
@@ -249,18 +247,10 @@ public class UpdateFirmwareOperation2020 extends UpdateFirmwareOperation {
             }
 
             TransactionBuilder builder = performInitialized("send firmware packets");
+            builder.setPriority(TransactionPriority.BULK);
 
-            for (int i = 0; i < packets; i++) {
-                byte[] fwChunk = Arrays.copyOfRange(fwbytes, offset + i * packetLength, offset + i * packetLength + packetLength);
-
-                builder.write(fwCDataChar, fwChunk);
-                chunkProgress += packetLength;
-            }
-
-            if (chunkProgress < chunkLength) {
-                byte[] lastChunk = Arrays.copyOfRange(fwbytes, offset + packets * packetLength, offset + packets * packetLength + (chunkLength - chunkProgress));
-                builder.write(fwCDataChar, lastChunk);
-            }
+            // the packets of a chunk are pipelined, the device only replies once the chunk is complete
+            builder.writeBulk(fwCDataChar, Arrays.copyOfRange(fwbytes, offset, offset + chunkLength), packetLength);
 
             int progressPercent = (int) ((((float) (offset + chunkLength)) / len) * 100);
 
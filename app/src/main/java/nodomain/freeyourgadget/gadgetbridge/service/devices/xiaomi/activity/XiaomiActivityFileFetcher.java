@@ -28,11 +28,12 @@ import org.slf4j.LoggerFactory;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileOutputStream;
-import java.io.OutputStream;
 import java.util.Arrays;
 import java.util.List;
 import java.util.PriorityQueue;
 import java.util.Queue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import nodomain.freeyourgadget.gadgetbridge.R;
 import nodomain.freeyourgadget.gadgetbridge.impl.GBDevice;
@@ -43,23 +44,65 @@ import nodomain.freeyourgadget.gadgetbridge.service.devices.xiaomi.services.Xiao
 import nodomain.freeyourgadget.gadgetbridge.util.CheckSums;
 import nodomain.freeyourgadget.gadgetbridge.util.GB;
 
+/**
+ * Fetches activity files from the watch, one at a time. Received files are handed to a background
+ * thread to be stored and parsed, so that the next file can be requested right away instead of
+ * waiting for the database. Files are parsed in the order they were received, and at most
+ * {@link #MAX_PENDING_PARSES} of them wait for the parser, so that a slow parser throttles the
+ * transfer. A file is only acked once it was stored.
+ * <p>
+ * Files that are still parsed after the fetcher was reset or disposed are stored, but neither
+ * acked nor followed by another request, since they belong to a previous connection.
+ */
 public class XiaomiActivityFileFetcher {
     private static final Logger LOG = LoggerFactory.getLogger(XiaomiActivityFileFetcher.class);
 
+    private static final int MAX_PENDING_PARSES = 2;
+
     private final XiaomiHealthService mHealthService;
 
     private final Queue<XiaomiActivityFileId> mFetchQueue = new PriorityQueue<>();
-    private ByteArrayOutputStream mBuffer = new ByteArrayOutputStream();
+    private final ByteArrayOutputStream mBuffer = new ByteArrayOutputStream();
     private boolean isFetching = false;
 
+    @Nullable
+    private ExecutorService mParserExecutor;
+    // files received but not yet parsed
+    private int mPendingParses = 0;
+    // the next file will be requested once a pending file was parsed
+    private boolean mWaitingForParser = false;
+    // all files were received, the fetch finishes once all of them were parsed
+    private boolean mAllFilesReceived = false;
+    // incremented on reset, parses of an older generation no longer affect the fetch
+    private int mGeneration = 0;
+
     private final Handler timeoutHandler = new Handler(Looper.getMainLooper());
 
     public XiaomiActivityFileFetcher(final XiaomiHealthService healthService) {
         this.mHealthService = healthService;
     }
 
-    public void dispose() {
+    /**
+     * Forgets the files that are being fetched, for example after reconnecting.
+     */
+    public synchronized void reset() {
         clearTimeout();
+        mGeneration++;
+        mFetchQueue.clear();
+        mBuffer.reset();
+        isFetching = false;
+        mPendingParses = 0;
+        mWaitingForParser = false;
+        mAllFilesReceived = false;
+    }
+
+    public synchronized void dispose() {
+        reset();
+        if (mParserExecutor != null) {
+            // let the received files still be parsed
+            mParserExecutor.shutdown();
+            mParserExecutor = null;
+        }
     }
 
     private void clearTimeout() {
@@ -69,12 +112,14 @@ public class XiaomiActivityFileFetcher {
     private void setTimeout() {
         // #4305 - Set the timeout in case the watch does not send the file
         this.timeoutHandler.postDelayed(() -> {
-            LOG.warn("Timed out waiting for activity file with {} bytes in the buffer", mBuffer.size());
-            triggerNextFetch();
+            synchronized (this) {
+                LOG.warn("Timed out waiting for activity file with {} bytes in the buffer", mBuffer.size());
+                triggerNextFetch();
+            }
         }, 5000L);
     }
 
-    public void addChunk(final byte[] chunk) {
+    public synchronized void addChunk(final byte[] chunk) {
         clearTimeout();
 
         final int total = BLETypeConversions.toUint16(chunk, 0);
@@ -82,7 +127,7 @@ public class XiaomiActivityFileFetcher {
 
         if (num == 1) {
             // reset buffer
-            mBuffer = new ByteArrayOutputStream();
+            mBuffer.reset();
         }
 
         LOG.debug("Got activity chunk {}/{}", num, total);
@@ -95,7 +140,7 @@ public class XiaomiActivityFileFetcher {
         }
 
         final byte[] data = mBuffer.toByteArray();
-        mBuffer = new ByteArrayOutputStream();
+        mBuffer.reset();
 
         if (data.length < 13) {
             LOG.warn("Activity data length of {} is too short", data.length);
@@ -128,35 +173,86 @@ public class XiaomiActivityFileFetcher {
         final byte[] fileIdBytes = Arrays.copyOfRange(data, 0, 7);
         final XiaomiActivityFileId fileId = XiaomiActivityFileId.from(fileIdBytes);
 
-        dumpBytesToExternalStorage(fileId, data);
+        final int generation = mGeneration;
+        mPendingParses++;
+        getParserExecutor().execute(() -> processFile(generation, fileId, data));
+
+        if (mPendingParses < MAX_PENDING_PARSES) {
+            triggerNextFetch();
+        } else {
+            LOG.debug("Waiting for {} files to be parsed before fetching the next", mPendingParses);
+            mWaitingForParser = true;
+        }
+    }
 
-        if (!XiaomiPreferences.keepActivityDataOnDevice(mHealthService.getSupport().getDevice())) {
-            LOG.debug("Acking recorded data {}", fileId);
-            // TODO is this too early?
-            mHealthService.ackRecordedData(fileId);
+    private ExecutorService getParserExecutor() {
+        if (mParserExecutor == null) {
+            mParserExecutor = createParserExecutor();
         }
+        return mParserExecutor;
+    }
 
+    protected ExecutorService createParserExecutor() {
+        // a single thread, so that files are parsed in the order they were fetched
+        return Executors.newSingleThreadExecutor(r -> new Thread(r, "XiaomiActivityParser"));
+    }
+
+    /**
+     * Stores, parses and acks a received file. Runs on the parser thread.
+     */
+    private void processFile(final int generation, final XiaomiActivityFileId fileId, final byte[] data) {
+        final GBDevice device = mHealthService.getSupport().getDevice();
+
+        // the raw file must exist before parsing, some parsers use it
+        final boolean dumped = dumpBytesToExternalStorage(fileId, data);
+
+        boolean stored = false;
         final XiaomiActivityParser activityParser = XiaomiActivityParser.create(fileId);
         if (activityParser == null) {
             LOG.warn("Failed to find parser for {}", fileId);
-            triggerNextFetch();
-            return;
+        } else {
+            try {
+                if (activityParser.parse(mHealthService.getSupport().getContext(), device, fileId, data)) {
+                    LOG.info("Successfully parsed {}", fileId);
+                    stored = true;
+                } else {
+                    LOG.warn("Failed to parse {}", fileId);
+                }
+            } catch (final Exception ex) {
+                LOG.error("Exception while parsing {}", fileId, ex);
+            }
         }
 
-        try {
-            if (activityParser.parse(mHealthService.getSupport().getContext(), mHealthService.getSupport().getDevice(), fileId, data)) {
-                LOG.info("Successfully parsed {}", fileId);
-            } else {
-                LOG.warn("Failed to parse {}", fileId);
+        synchronized (this) {
+            if (generation != mGeneration) {
+                // the watch will send the file again on the next fetch
+                LOG.debug("Not acking {}, since the fetch was reset", fileId);
+                return;
             }
-        } catch (final Exception ex) {
-            LOG.error("Exception while parsing {}", fileId, ex);
+
+            // Files that could not be parsed can still be parsed again later from the raw file
+            if ((stored || dumped) && !XiaomiPreferences.keepActivityDataOnDevice(device)) {
+                LOG.debug("Acking recorded data {}", fileId);
+                mHealthService.ackRecordedData(fileId);
+            } else if (!stored && !dumped) {
+                LOG.warn("Not acking {}, since it was not stored", fileId);
+            }
+
+            onFileProcessed();
         }
+    }
 
-        triggerNextFetch();
+    private synchronized void onFileProcessed() {
+        mPendingParses--;
+        if (mWaitingForParser) {
+            mWaitingForParser = false;
+            triggerNextFetch();
+        } else if (mAllFilesReceived && mPendingParses == 0) {
+            finishFetch();
+        }
     }
 
-    public void fetch(final List<XiaomiActivityFileId> fileIds) {
+    public synchronized void fetch(final List<XiaomiActivityFileId> fileIds) {
         // #4305 - ensure unique files
         for (final XiaomiActivityFileId fileId : fileIds) {
             if (!mFetchQueue.contains(fileId)) {
@@ -175,25 +271,31 @@ public class XiaomiActivityFileFetcher {
             support.getDevice().setBusyTask(R.string.busy_task_fetch_activity_data, context);
             support.getDevice().sendDeviceUpdateIntent(support.getContext());
             triggerNextFetch();
+        } else if (mAllFilesReceived) {
+            // All previous files were received, but some are still being parsed
+            triggerNextFetch();
         }
     }
 
     private void triggerNextFetch() {
         clearTimeout();
-        mBuffer = new ByteArrayOutputStream();
+        mBuffer.reset();
 
         final XiaomiActivityFileId fileId = mFetchQueue.poll();
 
         if (fileId == null) {
             LOG.debug("Nothing more to fetch");
-            isFetching = false;
-            mHealthService.getSupport().getDevice().unsetBusyTask();
-            GB.signalActivityDataFinish(mHealthService.getSupport().getDevice());
-            GB.updateTransferNotification(null, "", false, 100, mHealthService.getSupport().getContext());
-            mHealthService.getSupport().getDevice().sendDeviceUpdateIntent(mHealthService.getSupport().getContext());
+            mAllFilesReceived = true;
+            if (mPendingParses == 0) {
+                finishFetch();
+            } else {
+                LOG.debug("Waiting for {} files to be parsed", mPendingParses);
+            }
             return;
         }
 
+        mAllFilesReceived = false;
+
         LOG.debug("Triggering next fetch for: {}", fileId);
 
         setTimeout();
@@ -201,6 +303,15 @@ public class XiaomiActivityFileFetcher {
         mHealthService.requestRecordedData(fileId);
     }
 
+    private void finishFetch() {
+        mAllFilesReceived = false;
+        isFetching = false;
+        mHealthService.getSupport().getDevice().unsetBusyTask();
+        GB.signalActivityDataFinish(mHealthService.getSupport().getDevice());
+        GB.updateTransferNotification(null, "", false, 100, mHealthService.getSupport().getContext());
+        mHealthService.getSupport().getDevice().sendDeviceUpdateIntent(mHealthService.getSupport().getContext());
+    }
+
     @Nullable
     public static File getRawFile(final GBDevice device, final XiaomiActivityFileId fileId) {
         try {
@@ -217,7 +328,10 @@ public class XiaomiActivityFileFetcher {
         return null;
     }
 
-    protected void dumpBytesToExternalStorage(final XiaomiActivityFileId fileId, final byte[] bytes) {
+    /**
+     * @return whether the bytes were written
+     */
+    protected boolean dumpBytesToExternalStorage(final XiaomiActivityFileId fileId, final byte[] bytes) {
         try {
             final File outputFile = getRawFile(mHealthService.getSupport().getDevice(), fileId);
             final File parentFile = outputFile.getParentFile();
@@ -226,11 +340,15 @@ public class XiaomiActivityFileFetcher {
                 parentFile.mkdirs();
             }
 
-            final OutputStream outputStream = new FileOutputStream(outputFile);
-            outputStream.write(bytes);
-            outputStream.close();
+            try (FileOutputStream outputStream = new FileOutputStream(outputFile)) {
+                outputStream.write(bytes);
+                // the file may be acked right after this, so make sure it is on disk
+                outputStream.getFD().sync();
+            }
+            return true;
         } catch (final Exception e) {
             LOG.error("Failed to dump bytes to storage", e);
         }
+        return false;
     }
 }
@@ -197,6 +197,7 @@ public class XiaomiHealthService extends AbstractXiaomiService {
         gpsFixAcquired = false;
         workoutStarted = false;
         gpsTimeoutHandler.removeCallbacksAndMessages(null);
+        activityFetcher.reset();
 
         setUserInfo();
         getSupport().sendCommand("get spo2 config", COMMAND_TYPE, CMD_CONFIG_SPO2_GET);
@@ -16,9 +16,7 @@ import nodomain.freeyourgadget.gadgetbridge.export.ActivityTrackExporter;
 import nodomain.freeyourgadget.gadgetbridge.export.GPXExporter;
 import nodomain.freeyourgadget.gadgetbridge.model.ActivityPoint;
 import nodomain.freeyourgadget.gadgetbridge.model.ActivityTrack;
-import nodomain.freeyourgadget.gadgetbridge.service.devices.garmin.fit.FitFile;
 import nodomain.freeyourgadget.gadgetbridge.service.devices.garmin.fit.exception.FitParseException;
-import nodomain.freeyourgadget.gadgetbridge.service.devices.garmin.fit.messages.FitRecord;
 
 public final class ActivitySummaryUtils {
     private static final Logger LOG = LoggerFactory.getLogger(ActivitySummaryUtils.class);
@@ -63,10 +61,8 @@ public final class ActivitySummaryUtils {
     }
 
     private static File convertFitToGpx(final BaseActivitySummary summary, final File file) throws IOException, ActivityTrackExporter.GPXTrackEmptyException, FitParseException {
-        final FitFile fitFile = FitFile.parseIncoming(file);
-        final List<ActivityPoint> activityPoints = fitFile.getRecords().stream()
-                .filter(r -> r instanceof FitRecord)
-                .map(r -> ((FitRecord) r).toActivityPoint())
+        // the exporter works with points
+        final List<ActivityPoint> activityPoints = ActivityTrackStore.getTrack(file).toActivityPoints().stream()
                 .filter(ap -> ap.getLocation() != null)
                 .collect(Collectors.toList());
 
@@ -0,0 +1,501 @@
+/*  Copyright (C) 2026 Freeyourgadget
+
+    This file is part of Gadgetbridge.
+
+    Gadgetbridge is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published
+    by the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    Gadgetbridge is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>. */
+package nodomain.freeyourgadget.gadgetbridge.util;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import nodomain.freeyourgadget.gadgetbridge.GBApplication;
+import nodomain.freeyourgadget.gadgetbridge.model.ActivityPoint;
+import nodomain.freeyourgadget.gadgetbridge.model.GPSCoordinate;
+import nodomain.freeyourgadget.gadgetbridge.service.devices.garmin.fit.FitStreamDecoder;
+import nodomain.freeyourgadget.gadgetbridge.service.devices.garmin.fit.exception.FitParseException;
+import nodomain.freeyourgadget.gadgetbridge.service.devices.garmin.fit.messages.FitRecord;
+import nodomain.freeyourgadget.gadgetbridge.service.devices.garmin.fit.messages.FitSession;
+
+/**
+ * Keeps the track points of workout FIT files in a compact columnar file in the cache, so that
+ * showing the map, charts or exporting a workout does not need to parse the whole FIT file again.
+ * <p>
+ * The track file of a FIT file is written when the workout is imported, or the first time its points
+ * are needed. It is read through a memory-mapped buffer, which {@link Track} reads the columns from
+ * directly. It records the size and modification time of the FIT file it was created from, and is
+ * created again if they do not match anymore.
+ */
+public final class ActivityTrackStore {
+    private static final Logger LOG = LoggerFactory.getLogger(ActivityTrackStore.class);
+
+    private static final String CACHE_DIR = "tracks";
+    private static final String EXTENSION = ".track";
+
+    private static final int MAGIC = 0x4B544247; // "GBTK"
+    private static final int VERSION = 2;
+    private static final int HEADER_SIZE = 4 + 4 + 8 + 8 + 4;
+
+    private ActivityTrackStore() {
+    }
+
+    /**
+     * @return the track of a FIT file, from its track file if it is up to date, or parsed from the
+     * FIT file otherwise
+     */
+    @NonNull
+    public static Track getTrack(final File fitFile) throws IOException, FitParseException {
+        final Track cachedTrack = getCachedTrack(fitFile);
+        if (cachedTrack != null) {
+            return cachedTrack;
+        }
+
+        final List<ActivityPoint> recordPoints = new ArrayList<>();
+        final FitSession[] session = new FitSession[1];
+        FitStreamDecoder.decode(fitFile, record -> {
+            if (record instanceof FitRecord) {
+                recordPoints.add(((FitRecord) record).toActivityPoint());
+            } else if (record instanceof FitSession && session[0] == null) {
+                session[0] = (FitSession) record;
+            }
+        });
+
+        return put(fitFile, recordPoints, session[0]);
+    }
+
+    /**
+     * @return the track of a FIT file from its track file, or null if there is none that is up to date
+     */
+    @Nullable
+    public static Track getCachedTrack(final File fitFile) {
+        final File trackFile = getTrackFile(fitFile);
+        if (trackFile == null) {
+            return null;
+        }
+        try {
+            return read(trackFile, fitFile);
+        } catch (final IOException e) {
+            LOG.warn("Failed to read {}", trackFile, e);
+            return null;
+        }
+    }
+
+    /**
+     * Creates the track file of a FIT file that was already parsed by the caller, unless it exists.
+     *
+     * @param recordPoints the points of the record messages of the FIT file, as parsed
+     * @param session      the first session message, or null if there was none
+     * @return the track of the FIT file
+     */
+    @NonNull
+    public static Track put(final File fitFile,
+                            final List<ActivityPoint> recordPoints,
+                            @Nullable final FitSession session) {
+        final Track track = createTrack(recordPoints, session);
+        final File trackFile = getTrackFile(fitFile);
+        if (trackFile != null && !isUpToDate(trackFile, fitFile)) {
+            try {
+                write(trackFile, fitFile, track);
+            } catch (final IOException e) {
+                LOG.warn("Failed to write {}", trackFile, e);
+            }
+        }
+        return track;
+    }
+
+    /**
+     * Deletes the track file of a FIT file, e.g. when its workout was deleted.
+     */
+    public static void delete(final File fitFile) {
+        final File trackFile = getTrackFile(fitFile);
+        if (trackFile != null && trackFile.exists() && !trackFile.delete()) {
+            LOG.warn("Failed to delete {}", trackFile);
+        }
+    }
+
+    /**
+     * Without any located record, the start and end of the session are used as the location of the
+     * first and last record, if known, so that they can at least be shown on the map.
+     */
+    private static Track createTrack(final List<ActivityPoint> recordPoints, @Nullable final FitSession session) {
+        for (final ActivityPoint point : recordPoints) {
+            if (point.getLocation() != null) {
+                return Track.of(recordPoints);
+            }
+        }
+        if (session == null) {
+            return Track.of(recordPoints);
+        }
+        if (recordPoints.isEmpty()) {
+            return Track.of(session.toActivityPoints());
+        }
+        final Track track = Track.of(recordPoints);
+        if (session.getStartLatitude() != null && session.getStartLongitude() != null) {
+            track.putLocation(0, session.getStartLatitude(), session.getStartLongitude());
+        }
+        if (session.getEndLatitude() != null && session.getEndLongitude() != null) {
+            track.putLocation(track.size() - 1, session.getEndLatitude(), session.getEndLongitude());
+        }
+        return track;
+    }
+
+    @Nullable
+    private static File getCacheDir() {
+        final File cacheDir = new File(GBApplication.getContext().getCacheDir(), CACHE_DIR);
+        if (!cacheDir.isDirectory() && !cacheDir.mkdirs()) {
+            LOG.warn("Failed to create {}", cacheDir);
+            return null;
+        }
+        return cacheDir;
+    }
+
+    @Nullable
+    private static File getTrackFile(final File fitFile) {
+        final File cacheDir = getCacheDir();
+        return cacheDir != null ? getTrackFile(cacheDir, fitFile) : null;
+    }
+
+    @VisibleForTesting
+    static File getTrackFile(final File cacheDir, final File fitFile) {
+        // FIT files of different devices may have the same name
+        final String path = fitFile.getAbsolutePath();
+        return new File(cacheDir, fitFile.getName() + "-" + Integer.toHexString(path.hashCode()) + EXTENSION);
+    }
+
+    private static boolean isUpToDate(final File trackFile, final File fitFile) {
+        if (!trackFile.isFile()) {
+            return false;
+        }
+        try (RandomAccessFile raf = new RandomAccessFile(trackFile, "r")) {
+            if (raf.length() < HEADER_SIZE) {
+                return false;
+            }
+            final byte[] header = new byte[HEADER_SIZE];
+            raf.readFully(header);
+            return matchesHeader(ByteBuffer.wrap(header).order(ByteOrder.LITTLE_ENDIAN), fitFile) >= 0;
+        } catch (final IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * @return the number of points if the header matches the FIT file, -1 otherwise
+     */
+    private static int matchesHeader(final ByteBuffer buf, final File fitFile) {
+        if (buf.getInt() != MAGIC || buf.getInt() != VERSION) {
+            return -1;
+        }
+        if (buf.getLong() != fitFile.length() || buf.getLong() != fitFile.lastModified()) {
+            return -1;
+        }
+        return buf.getInt();
+    }
+
+    /**
+     * @return the track, or null if the track file does not exist or is not up to date
+     */
+    @VisibleForTesting
+    @Nullable
+    static Track read(final File trackFile, final File fitFile) throws IOException {
+        if (!trackFile.isFile()) {
+            return null;
+        }
+        try (RandomAccessFile raf = new RandomAccessFile(trackFile, "r");
+             FileChannel channel = raf.getChannel()) {
+            final long size = channel.size();
+            if (size < HEADER_SIZE) {
+                return null;
+            }
+            final ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            while (header.hasRemaining()) {
+                if (channel.read(header) < 0) {
+                    return null;
+                }
+            }
+            header.flip();
+
+            final int count = matchesHeader(header, fitFile);
+            if (count < 0) {
+                return null;
+            }
+            if (size != HEADER_SIZE + (long) count * Track.BYTES_PER_POINT) {
+                LOG.warn("Unexpected size {} of {} with {} points", size, trackFile, count);
+                return null;
+            }
+
+            // the mapping stays valid after the channel is closed
+            final ByteBuffer columns = channel.map(FileChannel.MapMode.READ_ONLY, HEADER_SIZE, size - HEADER_SIZE);
+            return new Track(count, columns);
+        }
+    }
+
+    @VisibleForTesting
+    static void write(final File trackFile, final File fitFile, final Track track) throws IOException {
+        final ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        header.putInt(MAGIC);
+        header.putInt(VERSION);
+        header.putLong(fitFile.length());
+        header.putLong(fitFile.lastModified());
+        header.putInt(track.size());
+        header.flip();
+
+        // write to a temporary file first, so that readers never see a partial track
+        final File tmpFile = new File(trackFile.getPath() + ".tmp");
+        try (FileOutputStream fos = new FileOutputStream(tmpFile);
+             FileChannel channel = fos.getChannel()) {
+            final ByteBuffer columns = track.columns.duplicate();
+            columns.clear();
+            while (header.hasRemaining()) {
+                channel.write(header);
+            }
+            while (columns.hasRemaining()) {
+                channel.write(columns);
+            }
+        }
+        if (!tmpFile.renameTo(trackFile)) {
+            //noinspection ResultOfMethodCallIgnored
+            tmpFile.delete();
+            throw new IOException("Failed to rename " + tmpFile + " to " + trackFile);
+        }
+    }
+
+    /**
+     * The track points of a workout, stored by column in a single buffer, which is the memory-mapped
+     * track file if the track was read from one. Points without a location have a NaN latitude and
+     * longitude, other missing values are stored like in {@link ActivityPoint}.
+     */
+    public static final class Track {
+        // time, latitude, longitude, altitude, temperature, depth are 8 bytes - heart rate, speed,
+        // cadence, power, respiratory rate, hdop, vdop are 4 bytes
+        private static final int BYTES_PER_POINT = 6 * 8 + 7 * 4;
+
+        private final int size;
+        private final ByteBuffer columns;
+
+        private Track(final int size, final ByteBuffer columns) {
+            this.size = size;
+            this.columns = columns;
+            columns.order(ByteOrder.LITTLE_ENDIAN);
+        }
+
+        public static Track of(final List<ActivityPoint> points) {
+            final int size = points.size();
+            final Track track = new Track(size, ByteBuffer.allocate(size * BYTES_PER_POINT));
+            final ByteBuffer buf = track.columns;
+            for (int i = 0; i < size; i++) {
+                final ActivityPoint point = points.get(i);
+                buf.putLong(track.timeOffset(i), point.getTime() != null ? point.getTime().getTime() : 0);
+                final GPSCoordinate location = point.getLocation();
+                if (location != null) {
+                    buf.putDouble(track.latitudeOffset(i), location.getLatitude());
+                    buf.putDouble(track.longitudeOffset(i), location.getLongitude());
+                    buf.putDouble(track.altitudeOffset(i), location.getAltitude());
+                    buf.putFloat(track.hdopOffset(i), (float) location.getHdop());
+                    buf.putFloat(track.vdopOffset(i), (float) location.getVdop());
+                } else {
+                    buf.putDouble(track.latitudeOffset(i), Double.NaN);
+                    buf.putDouble(track.longitudeOffset(i), Double.NaN);
+                    buf.putDouble(track.altitudeOffset(i), GPSCoordinate.UNKNOWN_ALTITUDE);
+                    buf.putFloat(track.hdopOffset(i), (float) GPSCoordinate.UNKNOWN_DOP);
+                    buf.putFloat(track.vdopOffset(i), (float) GPSCoordinate.UNKNOWN_DOP);
+                }
+                buf.putDouble(track.temperatureOffset(i), point.getTemperature());
+                buf.putDouble(track.depthOffset(i), point.getDepth());
+                buf.putInt(track.heartRateOffset(i), point.getHeartRate());
+                buf.putFloat(track.speedOffset(i), point.getSpeed());
+                buf.putInt(track.cadenceOffset(i), point.getCadence());
+                buf.putInt(track.powerOffset(i), point.getPower());
+                buf.putFloat(track.respiratoryRateOffset(i), point.getRespiratoryRate());
+            }
+            return track;
+        }
+
+        private void putLocation(final int i, final double latitude, final double longitude) {
+            columns.putDouble(latitudeOffset(i), latitude);
+            columns.putDouble(longitudeOffset(i), longitude);
+        }
+
+        public int size() {
+            return size;
+        }
+
+        /**
+         * @return the time of the point, in milliseconds
+         */
+        public long getTime(final int i) {
+            return columns.getLong(timeOffset(i));
+        }
+
+        public boolean hasLocation(final int i) {
+            return !Double.isNaN(getLatitude(i));
+        }
+
+        public boolean hasAnyLocation() {
+            for (int i = 0; i < size; i++) {
+                if (hasLocation(i)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        public double getLatitude(final int i) {
+            return columns.getDouble(latitudeOffset(i));
+        }
+
+        public double getLongitude(final int i) {
+            return columns.getDouble(longitudeOffset(i));
+        }
+
+        public double getAltitude(final int i) {
+            return columns.getDouble(altitudeOffset(i));
+        }
+
+        public double getHdop(final int i) {
+            return columns.getFloat(hdopOffset(i));
+        }
+
+        public double getVdop(final int i) {
+            return columns.getFloat(vdopOffset(i));
+        }
+
+        public double getTemperature(final int i) {
+            return columns.getDouble(temperatureOffset(i));
+        }
+
+        public double getDepth(final int i) {
+            return columns.getDouble(depthOffset(i));
+        }
+
+        public int getHeartRate(final int i) {
+            return columns.getInt(heartRateOffset(i));
+        }
+
+        public float getSpeed(final int i) {
+            return columns.getFloat(speedOffset(i));
+        }
+
+        public int getCadence(final int i) {
+            return columns.getInt(cadenceOffset(i));
+        }
+
+        public int getPower(final int i) {
+            return columns.getInt(powerOffset(i));
+        }
+
+        public float getRespiratoryRate(final int i) {
+            return columns.getFloat(respiratoryRateOffset(i));
+        }
+
+        /**
+         * @return the location of the point, or null if it has none
+         */
+        @Nullable
+        public GPSCoordinate getLocation(final int i) {
+            if (!hasLocation(i)) {
+                return null;
+            }
+            final GPSCoordinate location = new GPSCoordinate(getLongitude(i), getLatitude(i), getAltitude(i));
+            location.setHdop(getHdop(i));
+            location.setVdop(getVdop(i));
+            return location;
+        }
+
+        /**
+         * Builds the points of the track, for consumers that need them as objects, like the GPX export.
+         */
+        public List<ActivityPoint> toActivityPoints() {
+            final List<ActivityPoint> points = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                final ActivityPoint point = new ActivityPoint(new Date(getTime(i)));
+                point.setLocation(getLocation(i));
+                point.setTemperature(getTemperature(i));
+                point.setDepth(getDepth(i));
+                point.setHeartRate(getHeartRate(i));
+                point.setSpeed(getSpeed(i));
+                point.setCadence(getCadence(i));
+                point.setPower(getPower(i));
+                point.setRespiratoryRate(getRespiratoryRate(i));
+                points.add(point);
+            }
+            return points;
+        }
+
+        private int timeOffset(final int i) {
+            return 8 * i;
+        }
+
+        private int latitudeOffset(final int i) {
+            return 8 * (size + i);
+        }
+
+        private int longitudeOffset(final int i) {
+            return 8 * (2 * size + i);
+        }
+
+        private int altitudeOffset(final int i) {
+            return 8 * (3 * size + i);
+        }
+
+        private int temperatureOffset(final int i) {
+            return 8 * (4 * size + i);
+        }
+
+        private int depthOffset(final int i) {
+            return 8 * (5 * size + i);
+        }
+
+        private int heartRateOffset(final int i) {
+            return 4 * (12 * size + i);
+        }
+
+        private int speedOffset(final int i) {
+            return 4 * (13 * size + i);
+        }
+
+        private int cadenceOffset(final int i) {
+            return 4 * (14 * size + i);
+        }
+
+        private int powerOffset(final int i) {
+            return 4 * (15 * size + i);
+        }
+
+        private int respiratoryRateOffset(final int i) {
+            return 4 * (16 * size + i);
+        }
+
+        private int hdopOffset(final int i) {
+            return 4 * (17 * size + i);
+        }
+
+        private int vdopOffset(final int i) {
+            return 4 * (18 * size + i);
+        }
+    }
+}
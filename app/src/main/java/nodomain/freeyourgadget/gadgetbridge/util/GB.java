@@ -62,6 +62,7 @@ import nodomain.freeyourgadget.gadgetbridge.GBEnvironment;
 import nodomain.freeyourgadget.gadgetbridge.R;
 import nodomain.freeyourgadget.gadgetbridge.activities.ControlCenterv2;
 import nodomain.freeyourgadget.gadgetbridge.activities.SettingsActivity;
+import nodomain.freeyourgadget.gadgetbridge.database.DeviceDataVersions;
 import nodomain.freeyourgadget.gadgetbridge.deviceevents.GBDeviceEventScreenshot;
 import nodomain.freeyourgadget.gadgetbridge.impl.GBDevice;
 import nodomain.freeyourgadget.gadgetbridge.model.ActivityKind;
@@ -727,6 +728,9 @@ public class GB {
     }
 
     public static void signalActivityDataFinish(final GBDevice device) {
+        // some devices write their data without going through the sample providers
+        DeviceDataVersions.bump(device);
+
         final Intent intent = new Intent(GBApplication.ACTION_NEW_DATA);
         intent.putExtra(GBDevice.EXTRA_DEVICE, device);
 
@@ -131,7 +131,7 @@ public class ZipBackupExportJob extends AbstractZipBackupJob {
         final SharedPreferences globalPreferences = GBApplication.getPrefs().getPreferences();
         exportPreferences(zipOut, globalPreferences, PREFS_GLOBAL_FILENAME);
 
-        try (DBHandler dbHandler = GBApplication.acquireDB()) {
+        try (DBHandler dbHandler = GBApplication.acquireReadDB()) {
             final List<Device> activeDevices = DBHelper.getActiveDevices(dbHandler.getDaoSession());
             for (Device dbDevice : activeDevices) {
                 LOG.debug("Exporting device preferences for {}", dbDevice.getIdentifier());
@@ -165,12 +165,7 @@ public class ZipBackupExportJob extends AbstractZipBackupJob {
         final ZipEntry zipEntry = new ZipEntry(DATABASE_FILENAME);
         zipOut.putNextEntry(zipEntry);
 
-        try (DBHandler dbHandler = GBApplication.acquireDB()) {
-            final DBHelper helper = new DBHelper(context);
-            helper.exportDB(dbHandler, zipOut);
-        } catch (final Exception e) {
-            throw new IOException("Failed to export database", e);
-        }
+        new DBHelper(context).exportDBSnapshot(zipOut);
 
         zipOut.closeEntry();
     }
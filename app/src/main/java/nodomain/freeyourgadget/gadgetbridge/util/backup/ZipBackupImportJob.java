@@ -140,7 +140,7 @@ public class ZipBackupImportJob extends AbstractZipBackupJob {
             // Restore database
             LOG.debug("Importing database");
             updateProgress(75, R.string.backup_restore_importing_database);
-            try (DBHandler dbHandler = GBApplication.acquireDB()) {
+            try (DBHandler dbHandler = GBApplication.acquireExclusiveDB()) {
                 final DBHelper helper = new DBHelper(getContext());
                 final SQLiteOpenHelper sqLiteOpenHelper = dbHandler.getHelper();
                 try (InputStream databaseInputStream = zipFile.getInputStream(zipFile.getEntry(DATABASE_FILENAME))) {
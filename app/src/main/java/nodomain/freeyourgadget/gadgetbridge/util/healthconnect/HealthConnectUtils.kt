@@ -53,6 +53,7 @@ import java.time.format.DateTimeFormatter
 import java.util.*
 import java.util.function.BiConsumer
 import kotlin.math.pow
+import kotlin.reflect.KClass
 
 data class SyncStatistics(
     val success: Boolean,
@@ -241,7 +242,6 @@ class HealthConnectUtils {
         val offset = ZonedDateTime.now(TimeZone.getDefault().toZoneId()).offset
         val manager = GBApplication.app().deviceManager
         val syncIntervalInSeconds: Long = 24 * 60 * 60 // 1 day slices
-        val lookBackInSeconds: Long = 24 * 60 * 60
 
         for (targetAddress in selectedDevices) {
             // Check if worker has been cancelled
@@ -258,6 +258,16 @@ class HealthConnectUtils {
 
             LOG.info("$HC_SYNC_TAG Starting sync for device: {}", gbDevice.aliasOrName)
 
+            val watermarks = try {
+                GBApplication.acquireReadDB().use { db ->
+                    val deviceFromDb = DBHelper.findDevice(gbDevice, db.daoSession)
+                    if (deviceFromDb != null) HealthConnectWatermarks.load(db.daoSession, deviceFromDb.id) else HealthConnectWatermarks()
+                }
+            } catch (e: Exception) {
+                LOG.error("$HC_SYNC_TAG Error loading Health Connect watermarks for device {}", gbDevice.aliasOrName, e)
+                HealthConnectWatermarks()
+            }
+
             val deviceCoordinator = gbDevice.deviceCoordinator
             val device = Device(
                 type = when (deviceCoordinator.getDeviceKind(gbDevice)) {
@@ -362,20 +372,6 @@ class HealthConnectUtils {
 
                     updateSyncStatus(summary, true, summaryCallback, mainHandler)
 
-                    val queryStartTs = currentSliceStartTs.minusSeconds(lookBackInSeconds)
-                    LOG.info("$HC_SYNC_TAG Querying Gadgetbridge DB for {}({}) from {} to {}", gbDevice.aliasOrName, dataType.name, queryStartTs, currentSliceEndTs)
-
-                    // Fetch activityBasedSamples under their own lock if needed for the current dataType
-                    val activityBasedSamples: List<ActivitySample>? = 
-                        if (dataType == HealthConnectPermissionManager.HealthConnectDataType.ACTIVITY || 
-                            dataType == HealthConnectPermissionManager.HealthConnectDataType.SLEEP) {
-                            GBApplication.acquireDB().use { db ->
-                                getActivitySamples(db, gbDevice, queryStartTs.epochSecond.toInt(), currentSliceEndTs.epochSecond.toInt())
-                            }
-                        } else {
-                            null
-                        }
-
                     try {
                         val sliceStats = syncDataTypeSlice(
                             dataType = dataType,
@@ -386,7 +382,7 @@ class HealthConnectUtils {
                             currentSliceStartTs = currentSliceStartTs,
                             currentSliceEndTs = currentSliceEndTs,
                             grantedPermissions = grantedPermissions,
-                            activityBasedSamples = activityBasedSamples,
+                            watermarks = watermarks,
                             context = context
                         )
 
@@ -435,6 +431,8 @@ class HealthConnectUtils {
 
                         LOG.info("$HC_SYNC_TAG Updating Health Connect sync state for device {}, data type {} to timestamp: {}", gbDevice.aliasOrName, dataType.name, timestampToPersistForThisDataType)
                         syncStateDao.insertOrReplace(syncState)
+                        // Also keep the progress of the record types of slices that failed for other record types
+                        watermarks.persist(db.daoSession, deviceFromDb.id)
                     }
                 } catch (e: Exception) {
                     LOG.error("$HC_SYNC_TAG Error updating Health Connect sync state for device {}, data type {}: {}", gbDevice.aliasOrName, dataType.name, e.localizedMessage, e)
@@ -473,6 +471,7 @@ class HealthConnectUtils {
         private const val MAX_RETRIES = 5
         private const val INITIAL_DELAY_MS = 1000L
         private const val HC_SYNC_TAG = "[HC_SYNC]"
+        private const val SLEEP_LOOKBACK_SECONDS: Long = 24 * 60 * 60
 
         private fun getSyncTimestampRange(
             context: Context,
@@ -556,71 +555,126 @@ class HealthConnectUtils {
             currentSliceStartTs: Instant,
             currentSliceEndTs: Instant,
             grantedPermissions: Set<String>,
-            activityBasedSamples: List<ActivitySample>?,
+            watermarks: HealthConnectWatermarks,
             context: Context
         ): List<SyncerStatistics> {
             val sliceStats = mutableListOf<SyncerStatistics>()
 
+            /**
+             * Syncs a record type from its watermark on, skipping it if the whole slice was already exported.
+             */
+            suspend fun syncIncrementally(
+                recordClass: KClass<out Record>,
+                pendingStartTs: Instant? = watermarks.getPendingStart(
+                    HealthConnectWatermarks.key(dataType, recordClass), currentSliceStartTs, currentSliceEndTs
+                ),
+                sync: suspend (sliceStartTs: Instant) -> SyncerStatistics
+            ) {
+                if (pendingStartTs == null) {
+                    CompanionLogger.debug("$HC_SYNC_TAG Slice {} to {} of {} was already exported for {}", currentSliceStartTs, currentSliceEndTs, recordClass.simpleName, gbDevice.aliasOrName)
+                    return
+                }
+                sliceStats.add(sync(pendingStartTs))
+                watermarks.advance(HealthConnectWatermarks.key(dataType, recordClass), currentSliceEndTs)
+            }
+
             when (dataType) {
                 HealthConnectPermissionManager.HealthConnectDataType.ACTIVITY -> {
-                    // Sync activity samples (steps, heart rate) if available
-                    if (!activityBasedSamples.isNullOrEmpty()) {
-                        sliceStats.add(StepsSyncer.sync(
+                    // Sync activity samples (steps, heart rate), reading them only from the earliest watermark on
+                    val recordClasses = mutableListOf<KClass<out Record>>(StepsRecord::class, HeartRateRecord::class)
+                    if (gbDevice.deviceCoordinator.supportsActiveCalories(gbDevice)) {
+                        recordClasses.add(ActiveCaloriesBurnedRecord::class)
+                    }
+                    val pendingStarts = recordClasses.associateWith {
+                        watermarks.getPendingStart(HealthConnectWatermarks.key(dataType, it), currentSliceStartTs, currentSliceEndTs)
+                    }
+                    val queryStartTs = pendingStarts.values.filterNotNull().minOrNull()
+                    if (queryStartTs == null) {
+                        CompanionLogger.info("$HC_SYNC_TAG Slice {} to {} of {} was already exported for {}", currentSliceStartTs, currentSliceEndTs, dataType.name, gbDevice.aliasOrName)
+                        return sliceStats
+                    }
+
+                    // The syncers are also run without samples, so that their watermarks still move past this slice
+                    val activityBasedSamples = getActivitySamples(gbDevice, dataType, queryStartTs, currentSliceEndTs)
+                    syncIncrementally(StepsRecord::class, pendingStarts[StepsRecord::class]) {
+                        StepsSyncer.sync(
                             healthConnectClient, gbDevice, metadata, offset,
-                            currentSliceStartTs, currentSliceEndTs, grantedPermissions, activityBasedSamples
-                        ))
-                        sliceStats.add(HeartRateSyncer.sync(
+                            it, currentSliceEndTs, grantedPermissions, activityBasedSamples
+                        )
+                    }
+                    syncIncrementally(HeartRateRecord::class, pendingStarts[HeartRateRecord::class]) {
+                        HeartRateSyncer.sync(
                             healthConnectClient, gbDevice, metadata, offset,
-                            currentSliceStartTs, currentSliceEndTs, grantedPermissions, activityBasedSamples
-                        ))
-                        if (gbDevice.deviceCoordinator.supportsActiveCalories(gbDevice)) {
-                            sliceStats.add(ActiveCaloriesSyncer.sync(
+                            it, currentSliceEndTs, grantedPermissions, activityBasedSamples
+                        )
+                    }
+                    if (ActiveCaloriesBurnedRecord::class in pendingStarts) {
+                        syncIncrementally(ActiveCaloriesBurnedRecord::class, pendingStarts[ActiveCaloriesBurnedRecord::class]) {
+                            ActiveCaloriesSyncer.sync(
                                 healthConnectClient, gbDevice, metadata, offset,
-                                currentSliceStartTs, currentSliceEndTs, grantedPermissions, activityBasedSamples
-                            ))
+                                it, currentSliceEndTs, grantedPermissions, activityBasedSamples
+                            )
                         }
                     }
                 }
                 HealthConnectPermissionManager.HealthConnectDataType.SLEEP -> {
-                    if (!activityBasedSamples.isNullOrEmpty()) {
+                    // Sleep sessions may have started before the slice, so this needs the whole sessions
+                    val activityBasedSamples = getActivitySamples(
+                        gbDevice, dataType, currentSliceStartTs.minusSeconds(SLEEP_LOOKBACK_SECONDS), currentSliceEndTs
+                    )
+                    if (activityBasedSamples.isNotEmpty()) {
                         sliceStats.add(SleepSyncer.sync(
                             healthConnectClient, gbDevice, metadata, offset,
                             currentSliceStartTs, currentSliceEndTs, grantedPermissions, activityBasedSamples, context
                         ))
                     }
                 }
-                HealthConnectPermissionManager.HealthConnectDataType.VO2MAX -> sliceStats.add(Vo2MaxSyncer.sync(
-                    healthConnectClient, gbDevice, metadata, offset,
-                    currentSliceStartTs, currentSliceEndTs, grantedPermissions
-                ))
-                HealthConnectPermissionManager.HealthConnectDataType.HRV -> sliceStats.add(HrvSyncer.sync(
-                    healthConnectClient, gbDevice, metadata, offset,
-                    currentSliceStartTs, currentSliceEndTs, grantedPermissions
-                ))
-                HealthConnectPermissionManager.HealthConnectDataType.WEIGHT -> sliceStats.add(WeightSyncer.sync(
-                    healthConnectClient, gbDevice, metadata, offset,
-                    currentSliceStartTs, currentSliceEndTs, grantedPermissions
-                ))
-                HealthConnectPermissionManager.HealthConnectDataType.SPO2 -> sliceStats.add(Spo2Syncer.sync(
-                    healthConnectClient, gbDevice, metadata, offset,
-                    currentSliceStartTs, currentSliceEndTs, grantedPermissions
-                ))
+                HealthConnectPermissionManager.HealthConnectDataType.VO2MAX -> syncIncrementally(Vo2MaxRecord::class) {
+                    Vo2MaxSyncer.sync(
+                        healthConnectClient, gbDevice, metadata, offset,
+                        it, currentSliceEndTs, grantedPermissions
+                    )
+                }
+                HealthConnectPermissionManager.HealthConnectDataType.HRV -> syncIncrementally(HeartRateVariabilityRmssdRecord::class) {
+                    HrvSyncer.sync(
+                        healthConnectClient, gbDevice, metadata, offset,
+                        it, currentSliceEndTs, grantedPermissions
+                    )
+                }
+                HealthConnectPermissionManager.HealthConnectDataType.WEIGHT -> syncIncrementally(WeightRecord::class) {
+                    WeightSyncer.sync(
+                        healthConnectClient, gbDevice, metadata, offset,
+                        it, currentSliceEndTs, grantedPermissions
+                    )
+                }
+                HealthConnectPermissionManager.HealthConnectDataType.SPO2 -> syncIncrementally(OxygenSaturationRecord::class) {
+                    Spo2Syncer.sync(
+                        healthConnectClient, gbDevice, metadata, offset,
+                        it, currentSliceEndTs, grantedPermissions
+                    )
+                }
                 HealthConnectPermissionManager.HealthConnectDataType.TEMPERATURE -> sliceStats.add(TemperatureSyncer.sync(
                     healthConnectClient, gbDevice, metadata, offset,
                     currentSliceStartTs, currentSliceEndTs, grantedPermissions
                 ))
-                HealthConnectPermissionManager.HealthConnectDataType.RESPIRATORY_RATE -> sliceStats.add(RespiratoryRateSyncer.sync(
-                    healthConnectClient, gbDevice, metadata, offset,
-                    currentSliceStartTs, currentSliceEndTs, grantedPermissions
-                ))
-                HealthConnectPermissionManager.HealthConnectDataType.RESTING_HEART_RATE -> sliceStats.add(RestingHeartRateSyncer.sync(
-                    healthConnectClient, gbDevice, metadata, offset,
-                    currentSliceStartTs, currentSliceEndTs, grantedPermissions
-                ))
-                HealthConnectPermissionManager.HealthConnectDataType.BLOOD_GLUCOSE -> sliceStats.add(BloodGlucoseSyncer.sync(
-                    healthConnectClient, gbDevice, metadata, offset,
-                    currentSliceStartTs, currentSliceEndTs, grantedPermissions
-                ))
+                HealthConnectPermissionManager.HealthConnectDataType.RESPIRATORY_RATE -> syncIncrementally(RespiratoryRateRecord::class) {
+                    RespiratoryRateSyncer.sync(
+                        healthConnectClient, gbDevice, metadata, offset,
+                        it, currentSliceEndTs, grantedPermissions
+                    )
+                }
+                HealthConnectPermissionManager.HealthConnectDataType.RESTING_HEART_RATE -> syncIncrementally(RestingHeartRateRecord::class) {
+                    RestingHeartRateSyncer.sync(
+                        healthConnectClient, gbDevice, metadata, offset,
+                        it, currentSliceEndTs, grantedPermissions
+                    )
+                }
+                HealthConnectPermissionManager.HealthConnectDataType.BLOOD_GLUCOSE -> syncIncrementally(BloodGlucoseRecord::class) {
+                    BloodGlucoseSyncer.sync(
+                        healthConnectClient, gbDevice, metadata, offset,
+                        it, currentSliceEndTs, grantedPermissions
+                    )
+                }
                 HealthConnectPermissionManager.HealthConnectDataType.WORKOUTS -> {
                     // Sync explicitly recorded workouts from BaseActivitySummary
                     val coordinator = gbDevice.deviceCoordinator
@@ -636,6 +690,17 @@ class HealthConnectUtils {
             return sliceStats
         }
 
+        private fun getActivitySamples(
+            gbDevice: GBDevice,
+            dataType: HealthConnectPermissionManager.HealthConnectDataType,
+            queryStartTs: Instant,
+            queryEndTs: Instant
+        ): List<ActivitySample> {
+            CompanionLogger.info("$HC_SYNC_TAG Querying Gadgetbridge DB for {}({}) from {} to {}", gbDevice.aliasOrName, dataType.name, queryStartTs, queryEndTs)
+            return GBApplication.acquireReadDB().use { db ->
+                getActivitySamples(db, gbDevice, queryStartTs.epochSecond.toInt(), queryEndTs.epochSecond.toInt())
+            }
+        }
 
         internal fun getActivitySamples(db: DBHandler, device: GBDevice, tsFrom: Int, tsTo: Int): List<ActivitySample> {
             val provider = device.deviceCoordinator.getSampleProvider(device, db.daoSession)
@@ -0,0 +1,112 @@
+/*  Copyright (C) 2026 Freeyourgadget
+
+    This file is part of Gadgetbridge.
+
+    Gadgetbridge is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published
+    by the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    Gadgetbridge is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>. */
+package nodomain.freeyourgadget.gadgetbridge.util.healthconnect
+
+import androidx.health.connect.client.records.Record
+import nodomain.freeyourgadget.gadgetbridge.entities.DaoSession
+import nodomain.freeyourgadget.gadgetbridge.entities.HealthConnectSyncState
+import nodomain.freeyourgadget.gadgetbridge.entities.HealthConnectSyncStateDao
+import java.time.Instant
+import kotlin.reflect.KClass
+
+/**
+ * The high-water marks of a device for each record type: the end of the last slice that was exported
+ * to Health Connect. Samples up to the watermark of a record type were already exported, so they are
+ * neither read from the database nor converted again - not even those at the slice boundaries, which
+ * would otherwise be exported twice.
+ *
+ * The watermarks are stored in the [HealthConnectSyncState] of the device, next to those of the data
+ * types, as "DATA_TYPE/RecordType". Like those, they are stored with a resolution of one second.
+ */
+internal class HealthConnectWatermarks(private val watermarks: MutableMap<String, Instant> = mutableMapOf()) {
+    private val changed = mutableSetOf<String>()
+
+    fun get(key: String): Instant? = watermarks[key]
+
+    /**
+     * @return the start of the part of the slice that was not exported yet, or null if the whole slice was
+     */
+    fun getPendingStart(key: String, sliceStart: Instant, sliceEnd: Instant): Instant? {
+        val watermark = watermarks[key] ?: return sliceStart
+        if (watermark.isBefore(sliceStart)) {
+            return sliceStart
+        }
+        val pendingStart = watermark.plusMillis(1)
+        return if (pendingStart.isAfter(sliceEnd)) null else pendingStart
+    }
+
+    /**
+     * Marks everything until the end of the slice as exported. Watermarks never go back.
+     */
+    fun advance(key: String, sliceEnd: Instant) {
+        val watermark = watermarks[key]
+        if (watermark == null || sliceEnd.isAfter(watermark)) {
+            watermarks[key] = sliceEnd
+            changed.add(key)
+        }
+    }
+
+    /**
+     * Stores the watermarks that were advanced since they were loaded or last persisted.
+     */
+    fun persist(session: DaoSession, deviceId: Long) {
+        if (changed.isEmpty()) {
+            return
+        }
+        session.healthConnectSyncStateDao.insertOrReplaceInTx(
+            changed.map { HealthConnectSyncState(deviceId, it, watermarks.getValue(it).epochSecond) }
+        )
+        changed.clear()
+    }
+
+    companion object {
+        fun key(dataType: HealthConnectPermissionManager.HealthConnectDataType, recordClass: KClass<out Record>): String {
+            return "${dataType.name}/${recordClass.simpleName}"
+        }
+
+        fun load(session: DaoSession, deviceId: Long): HealthConnectWatermarks {
+            val states = session.healthConnectSyncStateDao.queryBuilder()
+                .where(
+                    HealthConnectSyncStateDao.Properties.DeviceId.eq(deviceId),
+                    HealthConnectSyncStateDao.Properties.DataType.like("%/%")
+                )
+                .list()
+            val watermarks = states.associateTo(mutableMapOf()) {
+                it.dataType to Instant.ofEpochSecond(it.lastSyncTimestamp)
+            }
+            return HealthConnectWatermarks(watermarks)
+        }
+
+        /**
+         * Moves the watermarks of the record types of a data type back to its sync state, if they are ahead of it,
+         * so that their samples get exported again.
+         */
+        fun rewind(session: DaoSession, syncState: HealthConnectSyncState) {
+            val states = session.healthConnectSyncStateDao.queryBuilder()
+                .where(
+                    HealthConnectSyncStateDao.Properties.DeviceId.eq(syncState.deviceId),
+                    HealthConnectSyncStateDao.Properties.DataType.like("${syncState.dataType}/%"),
+                    HealthConnectSyncStateDao.Properties.LastSyncTimestamp.gt(syncState.lastSyncTimestamp)
+                )
+                .list()
+            for (state in states) {
+                state.lastSyncTimestamp = syncState.lastSyncTimestamp
+            }
+            session.healthConnectSyncStateDao.updateInTx(states)
+        }
+    }
+}
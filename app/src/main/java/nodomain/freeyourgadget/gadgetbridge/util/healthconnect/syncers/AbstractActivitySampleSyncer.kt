@@ -22,7 +22,6 @@ import androidx.health.connect.client.records.Record
 import androidx.health.connect.client.records.metadata.Metadata
 import nodomain.freeyourgadget.gadgetbridge.impl.GBDevice
 import nodomain.freeyourgadget.gadgetbridge.model.ActivitySample
-import nodomain.freeyourgadget.gadgetbridge.util.healthconnect.HealthConnectUtils
 import org.slf4j.Logger
 import java.time.Instant
 import java.time.ZoneOffset
@@ -60,23 +59,27 @@ internal abstract class AbstractActivitySampleSyncer<TRecord : Record> : Activit
         }
 
         // 2. Relevant Input Data Check
-        val relevantSamples = deviceSamples.sortedBy { it.timestamp }
+        val relevantSamples = deviceSamples.sortedByTimestamp()
         if (relevantSamples.isEmpty()) {
-            logger.info("No relevant step samples (>0) for device '$deviceName' in the provided deviceSamples for slice $sliceStartBoundary to $sliceEndBoundary.")
+            logger.info("No relevant $recordTypeName samples for device '$deviceName' in the provided deviceSamples for slice $sliceStartBoundary to $sliceEndBoundary.")
             return SyncerStatistics(recordType = recordTypeName)
         }
 
-        logger.info("Processing ${relevantSamples.size} samples for steps for device '$deviceName' for slice $sliceStartBoundary to $sliceEndBoundary.")
+        logger.info("Processing ${relevantSamples.size} samples for $recordTypeName for device '$deviceName' for slice $sliceStartBoundary to $sliceEndBoundary.")
 
-        val recordsToInsert = mutableListOf<Record>()
+        // 3. Conversion and insertion (with chunking)
+        val recordsToInsert = RecordBuffer(healthConnectClient)
         var skippedCount = 0
-        relevantSamples.forEach { currentSample ->
+        for (currentSample in relevantSamples) {
             val endTs = Instant.ofEpochSecond(currentSample.timestamp.toLong())
             val startTs = endTs.minus(1, ChronoUnit.MINUTES)
 
             // Use inclusive boundaries [sliceStart, sliceEnd] for the slice
             // Overlap check: interval overlaps if endTs > sliceStart AND startTs <= sliceEnd
-            if (endTs.isBefore(sliceStartBoundary) || startTs.isAfter(sliceEndBoundary)) {
+            if (startTs.isAfter(sliceEndBoundary)) {
+                break // samples are sorted, so all following ones are outside the slice too
+            }
+            if (endTs.isBefore(sliceStartBoundary)) {
                 logger.debug(
                     "Skipping {} for device '{}' for sample at {} (interval {} to {}) as its interval is outside the slice {} - {}.",
                     recordTypeName,
@@ -87,32 +90,27 @@ internal abstract class AbstractActivitySampleSyncer<TRecord : Record> : Activit
                     sliceStartBoundary,
                     sliceEndBoundary
                 )
-                return@forEach
+                continue
             }
 
             val record = convertSample(sample = currentSample, offset, metadata, deviceName)
             if (record == null) {
                 skippedCount++
-                return@forEach
+                continue
             }
             recordsToInsert.add(record)
         }
+        recordsToInsert.flush()
 
-        // 3. No Valid Records to Insert
-        if (recordsToInsert.isEmpty()) {
+        // 4. No Valid Records Inserted
+        if (recordsToInsert.inserted == 0) {
             logger.info("No valid $recordTypeName created for device '$deviceName' for slice $sliceStartBoundary to $sliceEndBoundary after processing ${relevantSamples.size} samples.")
             return SyncerStatistics(recordsSkipped = skippedCount, recordType = recordTypeName)
         }
 
-        // 4. Insertion (with chunking)
-        logger.info("Attempting to insert ${recordsToInsert.size} $recordTypeName(s) for device '$deviceName' for slice $sliceStartBoundary to $sliceEndBoundary.")
-        for (chunk in recordsToInsert.chunked(HealthConnectUtils.CHUNK_SIZE)) {
-            HealthConnectUtils.insertRecords(chunk, healthConnectClient)
-        }
-
-        logger.info("Successfully inserted ${recordsToInsert.size} $recordTypeName(s) for device '$deviceName' for slice $sliceStartBoundary to $sliceEndBoundary.")
+        logger.info("Successfully inserted ${recordsToInsert.inserted} $recordTypeName(s) for device '$deviceName' for slice $sliceStartBoundary to $sliceEndBoundary.")
         return SyncerStatistics(
-            recordsSynced = recordsToInsert.size,
+            recordsSynced = recordsToInsert.inserted,
             recordsSkipped = skippedCount,
             recordType = recordTypeName
         )
@@ -25,7 +25,6 @@ import nodomain.freeyourgadget.gadgetbridge.devices.TimeSampleProvider
 import nodomain.freeyourgadget.gadgetbridge.entities.DaoSession
 import nodomain.freeyourgadget.gadgetbridge.impl.GBDevice
 import nodomain.freeyourgadget.gadgetbridge.model.TimeSample
-import nodomain.freeyourgadget.gadgetbridge.util.healthconnect.HealthConnectUtils
 import nodomain.freeyourgadget.gadgetbridge.util.healthconnect.SyncException
 import org.slf4j.Logger
 import java.time.Instant
@@ -75,7 +74,7 @@ internal abstract class AbstractTimeSampleSyncer<TSample : TimeSample, TRecord :
 
         // Fetch samples
         val samples: List<TSample> = try {
-            GBApplication.acquireDB().use { dbInstance ->
+            GBApplication.acquireReadDB().use { dbInstance ->
                 val provider = getSampleProvider(gbDevice, dbInstance.daoSession)
                 if (provider == null) {
                     logger.info("$recordTypeName sample provider not available for device '$deviceName'.")
@@ -97,11 +96,12 @@ internal abstract class AbstractTimeSampleSyncer<TSample : TimeSample, TRecord :
 
         logger.info("Processing ${samples.size} $recordTypeName samples for device '$deviceName'.")
 
-        // Convert samples to records
+        // Convert samples to records, inserting them in chunks
+        val recordsToInsert = RecordBuffer(healthConnectClient)
         var skippedCount = 0
 
-        val recordsToInsert = samples.filter {
-            val timestamp = Instant.ofEpochMilli(it.timestamp)
+        for (sample in samples) {
+            val timestamp = Instant.ofEpochMilli(sample.timestamp)
             // Use inclusive boundaries [sliceStart, sliceEnd] to ensure last sample is included
             if (timestamp.isBefore(sliceStartBoundary) || timestamp.isAfter(sliceEndBoundary)) {
                 logger.debug(
@@ -110,33 +110,26 @@ internal abstract class AbstractTimeSampleSyncer<TSample : TimeSample, TRecord :
                     sliceStartBoundary,
                     sliceEndBoundary
                 )
-                return@filter false
+                continue
             }
-            return@filter true
-        }.mapNotNull {
-            convertSample(
-                it,
-                offset,
-                metadata,
-                deviceName
-            ) ?: run {
+
+            val record = convertSample(sample, offset, metadata, deviceName)
+            if (record == null) {
                 skippedCount++
-                null
+                continue
             }
+            recordsToInsert.add(record)
         }
+        recordsToInsert.flush()
 
-        if (recordsToInsert.isEmpty()) {
+        if (recordsToInsert.inserted == 0) {
             logger.info("No valid $recordTypeName records to insert for device '$deviceName' in slice $sliceStartBoundary to $sliceEndBoundary after processing samples.")
             return SyncerStatistics(recordsSkipped = skippedCount, recordType = recordTypeName)
         }
 
-        // Insert records
-        logger.info("Attempting to insert ${recordsToInsert.size} $recordTypeName(s) for device '$deviceName' for slice $sliceStartBoundary to $sliceEndBoundary.")
-        HealthConnectUtils.insertRecords(recordsToInsert, healthConnectClient)
-
-        logger.info("Successfully inserted ${recordsToInsert.size} $recordTypeName(s) for device '$deviceName' for slice $sliceStartBoundary to $sliceEndBoundary.")
+        logger.info("Successfully inserted ${recordsToInsert.inserted} $recordTypeName(s) for device '$deviceName' for slice $sliceStartBoundary to $sliceEndBoundary.")
         return SyncerStatistics(
-            recordsSynced = recordsToInsert.size,
+            recordsSynced = recordsToInsert.inserted,
             recordsSkipped = skippedCount,
             recordType = recordTypeName
         )
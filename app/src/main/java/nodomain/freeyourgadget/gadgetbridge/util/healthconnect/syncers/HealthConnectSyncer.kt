@@ -52,6 +52,18 @@ internal sealed interface HealthConnectSyncer {
     ): SyncerStatistics
 }
 
+/**
+ * Samples are read from the database in order already, so this only sorts them if they are not.
+ */
+internal fun List<ActivitySample>.sortedByTimestamp(): List<ActivitySample> {
+    for (i in 1 until size) {
+        if (this[i].timestamp < this[i - 1].timestamp) {
+            return sortedBy { it.timestamp }
+        }
+    }
+    return this
+}
+
 /**
  * Interface for syncers that require pre-fetched ActivitySample data.
  * Used by syncers that process activity-based data like steps and heart rate.
@@ -19,7 +19,6 @@ package nodomain.freeyourgadget.gadgetbridge.util.healthconnect.syncers
 import androidx.health.connect.client.HealthConnectClient
 import androidx.health.connect.client.permission.HealthPermission
 import androidx.health.connect.client.records.HeartRateRecord
-import androidx.health.connect.client.records.Record
 import androidx.health.connect.client.records.metadata.Metadata
 import nodomain.freeyourgadget.gadgetbridge.impl.GBDevice
 import nodomain.freeyourgadget.gadgetbridge.model.ActivitySample
@@ -54,7 +53,7 @@ internal object HeartRateSyncer : ActivitySampleSyncer {
         // 2. Relevant Input Data Check
         val validHRSamples = deviceSamples
             .filter { it.heartRate in 20..250 }
-            .sortedBy { it.timestamp }
+            .sortedByTimestamp()
 
         if (validHRSamples.isEmpty()) {
             LOG.info("No valid heart rate samples found for device '$deviceName' for slice $sliceStartBoundary to $sliceEndBoundary.")
@@ -63,7 +62,7 @@ internal object HeartRateSyncer : ActivitySampleSyncer {
 
         LOG.info("Processing ${validHRSamples.size} valid heart rate samples for device '$deviceName' for slice $sliceStartBoundary to $sliceEndBoundary.")
 
-        val heartRateRecordList = mutableListOf<Record>()
+        val heartRateRecords = RecordBuffer(healthConnectClient)
         val currentHcSamples = mutableListOf<HeartRateRecord.Sample>()
         var previousSampleTimestamp: Instant? = null
         var skippedCount = 0
@@ -99,7 +98,7 @@ internal object HeartRateSyncer : ActivitySampleSyncer {
                                 recordEndTime,
                                 currentHcSamples.size
                             )
-                            heartRateRecordList.add(HeartRateRecord(recordStartTime, offset, recordEndTime, offset, ArrayList(currentHcSamples), metadata))
+                            heartRateRecords.add(HeartRateRecord(recordStartTime, offset, recordEndTime, offset, ArrayList(currentHcSamples), metadata))
                         } else {
                              LOG.warn("Skipping HeartRateRecord for device '$deviceName' from $recordStartTime to $recordEndTime due to invalid duration even after adjustment.")
                         }
@@ -126,23 +125,20 @@ internal object HeartRateSyncer : ActivitySampleSyncer {
                     recordEndTime,
                     currentHcSamples.size
                 )
-                heartRateRecordList.add(HeartRateRecord(recordStartTime, offset, recordEndTime, offset, ArrayList(currentHcSamples), metadata))
+                heartRateRecords.add(HeartRateRecord(recordStartTime, offset, recordEndTime, offset, ArrayList(currentHcSamples), metadata))
             } else {
                 LOG.warn("Skipping final HeartRateRecord for device '$deviceName' from $recordStartTime to $recordEndTime due to invalid duration even after adjustment.")
             }
         }
 
-        if (heartRateRecordList.isEmpty()) {
+        heartRateRecords.flush()
+
+        if (heartRateRecords.inserted == 0) {
             LOG.info("No valid HeartRateRecord(s) created for device '$deviceName' for slice $sliceStartBoundary to $sliceEndBoundary after processing ${validHRSamples.size} samples.")
             return SyncerStatistics(recordsSkipped = skippedCount, recordType = "HeartRate")
         }
 
-        LOG.info("Attempting to insert ${heartRateRecordList.size} HeartRateRecord(s) for device '$deviceName' for slice $sliceStartBoundary to $sliceEndBoundary.")
-        for (chunk in heartRateRecordList.chunked(HealthConnectUtils.CHUNK_SIZE)) {
-            HealthConnectUtils.insertRecords(chunk, healthConnectClient)
-        }
-
-        LOG.info("Successfully inserted ${heartRateRecordList.size} HeartRateRecord(s) for device '$deviceName' for slice $sliceStartBoundary to $sliceEndBoundary.")
-        return SyncerStatistics(recordsSynced = heartRateRecordList.size, recordsSkipped = skippedCount, recordType = "HeartRate")
+        LOG.info("Successfully inserted ${heartRateRecords.inserted} HeartRateRecord(s) for device '$deviceName' for slice $sliceStartBoundary to $sliceEndBoundary.")
+        return SyncerStatistics(recordsSynced = heartRateRecords.inserted, recordsSkipped = skippedCount, recordType = "HeartRate")
     }
 }
\ No newline at end of file
@@ -0,0 +1,60 @@
+/*  Copyright (C) 2026 Freeyourgadget
+
+    This file is part of Gadgetbridge.
+
+    Gadgetbridge is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published
+    by the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    Gadgetbridge is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>. */
+package nodomain.freeyourgadget.gadgetbridge.util.healthconnect.syncers
+
+import androidx.health.connect.client.HealthConnectClient
+import androidx.health.connect.client.records.Record
+import nodomain.freeyourgadget.gadgetbridge.util.healthconnect.HealthConnectUtils
+import nodomain.freeyourgadget.gadgetbridge.util.healthconnect.SyncException
+
+/**
+ * Collects converted records and inserts them into Health Connect in chunks, so that syncers never
+ * keep more than one chunk of records in memory while converting the samples of a slice.
+ */
+internal class RecordBuffer(
+    private val healthConnectClient: HealthConnectClient,
+    private val capacity: Int = HealthConnectUtils.CHUNK_SIZE
+) {
+    private val records = ArrayList<Record>(capacity)
+
+    /**
+     * The number of records that were inserted so far.
+     */
+    var inserted: Int = 0
+        private set
+
+    @Throws(SyncException::class)
+    suspend fun add(record: Record) {
+        records.add(record)
+        if (records.size >= capacity) {
+            flush()
+        }
+    }
+
+    /**
+     * Inserts the remaining records. Must be called once all samples were converted.
+     */
+    @Throws(SyncException::class)
+    suspend fun flush() {
+        if (records.isEmpty()) {
+            return
+        }
+        HealthConnectUtils.insertRecords(records.toList(), healthConnectClient)
+        inserted += records.size
+        records.clear()
+    }
+}
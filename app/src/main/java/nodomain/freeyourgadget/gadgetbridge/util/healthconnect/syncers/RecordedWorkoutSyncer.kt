@@ -41,7 +41,6 @@ import androidx.health.connect.client.units.Power
 import androidx.health.connect.client.units.Velocity
 import nodomain.freeyourgadget.gadgetbridge.GBApplication
 import nodomain.freeyourgadget.gadgetbridge.activities.maps.MapsTrackViewModel
-import nodomain.freeyourgadget.gadgetbridge.model.ActivityPoint
 import nodomain.freeyourgadget.gadgetbridge.model.ActivitySummaryData
 import nodomain.freeyourgadget.gadgetbridge.model.ActivitySummaryEntries
 import nodomain.freeyourgadget.gadgetbridge.database.DBHandler
@@ -50,6 +49,7 @@ import nodomain.freeyourgadget.gadgetbridge.entities.BaseActivitySummary
 import nodomain.freeyourgadget.gadgetbridge.entities.BaseActivitySummaryDao
 import nodomain.freeyourgadget.gadgetbridge.impl.GBDevice
 import nodomain.freeyourgadget.gadgetbridge.model.ActivityKind
+import nodomain.freeyourgadget.gadgetbridge.util.ActivityTrackStore
 import nodomain.freeyourgadget.gadgetbridge.util.FileUtils
 import nodomain.freeyourgadget.gadgetbridge.util.GBPrefs
 import nodomain.freeyourgadget.gadgetbridge.util.Prefs
@@ -133,17 +133,17 @@ internal object RecordedWorkoutSyncer {
                     continue
                 }
 
-                var activityPoints: List<ActivityPoint>? = null
+                var track: ActivityTrackStore.Track? = null
 
                 if (useDetailedSync) {
-                    activityPoints = loadActivityPoints(workout, deviceName)
+                    track = loadTrack(workout, deviceName)
                 }
 
-                if (activityPoints != null && activityPoints.isNotEmpty()) {
-                    LOG.info("Using detailed sync with ${activityPoints.size} activity points for workout (Type: ${activityKind}, Start: $workoutStartInstant).")
+                if (track != null && track.size() > 0) {
+                    LOG.info("Using detailed sync with ${track.size()} activity points for workout (Type: ${activityKind}, Start: $workoutStartInstant).")
                     processDetailedWorkout(
                         workout,
-                        activityPoints,
+                        track,
                         workoutStartInstant,
                         workoutEndInstant,
                         offset,
@@ -157,7 +157,7 @@ internal object RecordedWorkoutSyncer {
                     )
                 } else {
                     if (useDetailedSync) {
-                        if (activityPoints == null) {
+                        if (track == null) {
                             LOG.info("No track file available for workout, falling back to aggregate data.")
                         } else {
                             LOG.info("Track file contains no activity points, falling back to aggregate data.")
@@ -256,6 +256,10 @@ internal object RecordedWorkoutSyncer {
         }
 
         for (workout in workouts) {
+            if (!workout.summaryData.isNullOrBlank()) {
+                // already filled in when the workout was fetched, parsing it again is expensive
+                continue
+            }
             try {
                 activitySummaryParser.parseWorkout(workout, true)
                 LOG.debug("Parsed workout summary for device '{}' at {}", deviceName, workout.startTime)
@@ -265,7 +269,7 @@ internal object RecordedWorkoutSyncer {
         }
     }
 
-    private fun loadActivityPoints(workout: BaseActivitySummary, deviceName: String): List<ActivityPoint>? {
+    private fun loadTrack(workout: BaseActivitySummary, deviceName: String): ActivityTrackStore.Track? {
         val trackFilePath = workout.rawDetailsPath
         if (trackFilePath.isNullOrBlank()) {
             LOG.debug("No track file path available for workout on device '$deviceName'.")
@@ -279,12 +283,12 @@ internal object RecordedWorkoutSyncer {
         }
 
         return try {
-            val points = MapsTrackViewModel.getActivityPoints(trackFile)
-            if (points.isEmpty()) {
+            val track = MapsTrackViewModel.getTrack(trackFile)
+            if (track == null || track.size() == 0) {
                 LOG.debug("Track file contains no activity points: $trackFilePath")
                 null
             } else {
-                points
+                track
             }
         } catch (e: Exception) {
             LOG.error("Error loading activity points from track file: $trackFilePath", e)
@@ -294,7 +298,7 @@ internal object RecordedWorkoutSyncer {
 
     private fun processDetailedWorkout(
         workout: BaseActivitySummary,
-        activityPoints: List<ActivityPoint>,
+        track: ActivityTrackStore.Track,
         workoutStartInstant: Instant,
         workoutEndInstant: Instant,
         offset: ZoneOffset,
@@ -310,14 +314,13 @@ internal object RecordedWorkoutSyncer {
 
         // Build GPS route if location data is available and permission is granted
         val exerciseRoute = if (PERMISSION_WRITE_EXERCISE_ROUTE in grantedPermissions) {
-            val locationPoints = activityPoints
-                .filter { it.location != null && it.time != null }
-                .mapNotNull { point ->
-                    val pointInstant = point.time.toInstant()
+            val locationPoints = (0 until track.size())
+                .mapNotNull { i ->
+                    val location = track.getLocation(i) ?: return@mapNotNull null
+                    val pointInstant = Instant.ofEpochMilli(track.getTime(i))
                     if (pointInstant.isBefore(workoutStartInstant) || pointInstant.isAfter(workoutEndInstant)) {
                         return@mapNotNull null
                     }
-                    val location = point.location ?: return@mapNotNull null
                     ExerciseRoute.Location(
                         time = pointInstant,
                         latitude = location.latitude,
@@ -351,9 +354,9 @@ internal object RecordedWorkoutSyncer {
             )
         )
 
-        addDetailedHeartRateRecords(activityPoints, workoutStartInstant, workoutEndInstant, offset, metadata, grantedPermissions, recordsToInsert, deviceName)
-        addDetailedSpeedRecords(activityPoints, workoutStartInstant, workoutEndInstant, offset, metadata, grantedPermissions, recordsToInsert, deviceName)
-        addDetailedPowerRecords(activityPoints, workoutStartInstant, workoutEndInstant, offset, metadata, grantedPermissions, recordsToInsert, deviceName)
+        addDetailedHeartRateRecords(track, workoutStartInstant, workoutEndInstant, offset, metadata, grantedPermissions, recordsToInsert, deviceName)
+        addDetailedSpeedRecords(track, workoutStartInstant, workoutEndInstant, offset, metadata, grantedPermissions, recordsToInsert, deviceName)
+        addDetailedPowerRecords(track, workoutStartInstant, workoutEndInstant, offset, metadata, grantedPermissions, recordsToInsert, deviceName)
 
         val summaryData = parseSummaryData(workout.summaryData)
         if (summaryData != null) {
@@ -409,7 +412,7 @@ internal object RecordedWorkoutSyncer {
     }
 
     private fun addDetailedHeartRateRecords(
-        activityPoints: List<ActivityPoint>,
+        track: ActivityTrackStore.Track,
         startTime: Instant,
         endTime: Instant,
         offset: ZoneOffset,
@@ -423,19 +426,18 @@ internal object RecordedWorkoutSyncer {
             return
         }
 
-        val hrSamples = activityPoints
-            .filter { it.heartRate > 0 && it.time != null }
-            .map { point ->
-                val pointInstant = point.time.toInstant()
-                if (pointInstant.isBefore(startTime) || pointInstant.isAfter(endTime)) {
-                    return@map null
+        val hrSamples = (0 until track.size())
+            .mapNotNull { i ->
+                val heartRate = track.getHeartRate(i)
+                val pointInstant = Instant.ofEpochMilli(track.getTime(i))
+                if (heartRate <= 0 || pointInstant.isBefore(startTime) || pointInstant.isAfter(endTime)) {
+                    return@mapNotNull null
                 }
                 HeartRateRecord.Sample(
                     time = pointInstant,
-                    beatsPerMinute = point.heartRate.toLong()
+                    beatsPerMinute = heartRate.toLong()
                 )
             }
-            .filterNotNull()
 
         if (hrSamples.isNotEmpty()) {
             recordsToInsert.add(
@@ -453,7 +455,7 @@ internal object RecordedWorkoutSyncer {
     }
 
     private fun addDetailedSpeedRecords(
-        activityPoints: List<ActivityPoint>,
+        track: ActivityTrackStore.Track,
         startTime: Instant,
         endTime: Instant,
         offset: ZoneOffset,
@@ -467,19 +469,18 @@ internal object RecordedWorkoutSyncer {
             return
         }
 
-        val speedSamples = activityPoints
-            .filter { it.speed > 0 && it.time != null }
-            .map { point ->
-                val pointInstant = point.time.toInstant()
-                if (pointInstant.isBefore(startTime) || pointInstant.isAfter(endTime)) {
-                    return@map null
+        val speedSamples = (0 until track.size())
+            .mapNotNull { i ->
+                val speed = track.getSpeed(i)
+                val pointInstant = Instant.ofEpochMilli(track.getTime(i))
+                if (speed <= 0 || pointInstant.isBefore(startTime) || pointInstant.isAfter(endTime)) {
+                    return@mapNotNull null
                 }
                 SpeedRecord.Sample(
                     time = pointInstant,
-                    speed = Velocity.metersPerSecond(point.speed.toDouble())
+                    speed = Velocity.metersPerSecond(speed.toDouble())
                 )
             }
-            .filterNotNull()
 
         if (speedSamples.isNotEmpty()) {
             recordsToInsert.add(
@@ -497,7 +498,7 @@ internal object RecordedWorkoutSyncer {
     }
 
     private fun addDetailedPowerRecords(
-        activityPoints: List<ActivityPoint>,
+        track: ActivityTrackStore.Track,
         startTime: Instant,
         endTime: Instant,
         offset: ZoneOffset,
@@ -511,19 +512,18 @@ internal object RecordedWorkoutSyncer {
             return
         }
 
-        val powerSamples = activityPoints
-            .filter { it.power > 0 && it.time != null }
-            .map { point ->
-                val pointInstant = point.time.toInstant()
-                if (pointInstant.isBefore(startTime) || pointInstant.isAfter(endTime)) {
-                    return@map null
+        val powerSamples = (0 until track.size())
+            .mapNotNull { i ->
+                val power = track.getPower(i)
+                val pointInstant = Instant.ofEpochMilli(track.getTime(i))
+                if (power <= 0 || pointInstant.isBefore(startTime) || pointInstant.isAfter(endTime)) {
+                    return@mapNotNull null
                 }
                 PowerRecord.Sample(
                     time = pointInstant,
-                    power = Power.watts(point.power.toDouble())
+                    power = Power.watts(power.toDouble())
                 )
             }
-            .filterNotNull()
 
         if (powerSamples.isNotEmpty()) {
             recordsToInsert.add(
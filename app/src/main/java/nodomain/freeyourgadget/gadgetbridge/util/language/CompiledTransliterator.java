@@ -0,0 +1,167 @@
+/*  Copyright (C) 2026 Freeyourgadget
+
+    This file is part of Gadgetbridge.
+
+    Gadgetbridge is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published
+    by the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    Gadgetbridge is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>. */
+package nodomain.freeyourgadget.gadgetbridge.util.language;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Consecutive {@link SimpleTransliterator}s of a chain merged into a single lookup table, so that
+ * the text is transliterated in a single pass, and not copied at all if nothing needs to be
+ * replaced.
+ * <p>
+ * Since simple transliterators replace every character on its own, the chain can be computed in
+ * advance for each character that any of them would replace.
+ */
+public final class CompiledTransliterator implements Transliterator {
+    // Replacements by character, in pages of 256 that are only allocated if needed
+    private final String[][] pages = new String[256][];
+
+    private CompiledTransliterator(final List<SimpleTransliterator> chain) {
+        final Set<Character> sourceChars = new LinkedHashSet<>();
+        for (final SimpleTransliterator transliterator : chain) {
+            for (final Character c : transliterator.getSourceChars()) {
+                sourceChars.add(c);
+                if (transliterator.isConvertToLowercase()) {
+                    final String upperChars = UpperCaseHolder.UPPER_CASE.get(c);
+                    if (upperChars != null) {
+                        for (int i = 0; i < upperChars.length(); i++) {
+                            sourceChars.add(upperChars.charAt(i));
+                        }
+                    }
+                }
+            }
+        }
+
+        for (final char c : toArray(sourceChars)) {
+            final String source = String.valueOf(c);
+            String replacement = source;
+            for (final SimpleTransliterator transliterator : chain) {
+                replacement = transliterator.transliterate(replacement);
+            }
+            if (!replacement.equals(source)) {
+                put(c, replacement);
+            }
+        }
+    }
+
+    /**
+     * Compiles a chain of transliterators, merging all consecutive {@link SimpleTransliterator}s.
+     * The result transliterates exactly like a {@link MultiTransliterator} of the chain.
+     */
+    public static Transliterator compile(final List<Transliterator> transliterators) {
+        final List<Transliterator> compiled = new ArrayList<>(transliterators.size());
+        final List<SimpleTransliterator> run = new ArrayList<>();
+
+        for (final Transliterator transliterator : transliterators) {
+            if (transliterator instanceof SimpleTransliterator) {
+                run.add((SimpleTransliterator) transliterator);
+                continue;
+            }
+            if (!run.isEmpty()) {
+                compiled.add(new CompiledTransliterator(run));
+                run.clear();
+            }
+            compiled.add(transliterator);
+        }
+        if (!run.isEmpty()) {
+            compiled.add(new CompiledTransliterator(run));
+        }
+
+        if (compiled.size() == 1) {
+            return compiled.get(0);
+        }
+        return new MultiTransliterator(compiled);
+    }
+
+    @Override
+    public String transliterate(final String txt) {
+        if (txt == null || txt.isEmpty()) {
+            return txt;
+        }
+
+        StringBuilder builder = null;
+        final int length = txt.length();
+        for (int i = 0; i < length; i++) {
+            final char c = txt.charAt(i);
+            final String[] page = pages[c >>> 8];
+            final String replacement = page != null ? page[c & 0xff] : null;
+            if (replacement == null) {
+                if (builder != null) {
+                    builder.append(c);
+                }
+                continue;
+            }
+            if (builder == null) {
+                builder = new StringBuilder(length + 16);
+                builder.append(txt, 0, i);
+            }
+            builder.append(replacement);
+        }
+
+        return builder != null ? builder.toString() : txt;
+    }
+
+    private void put(final char c, final String replacement) {
+        String[] page = pages[c >>> 8];
+        if (page == null) {
+            page = new String[256];
+            pages[c >>> 8] = page;
+        }
+        page[c & 0xff] = replacement;
+    }
+
+    private static char[] toArray(final Set<Character> chars) {
+        final char[] ret = new char[chars.size()];
+        int i = 0;
+        for (final Character c : chars) {
+            ret[i++] = c;
+        }
+        return ret;
+    }
+
+    /**
+     * All characters by their lowercase, for the characters that are not lowercase. Lazily
+     * initialized, since it is only needed when compiling.
+     */
+    private static class UpperCaseHolder {
+        private static final Map<Character, String> UPPER_CASE = new HashMap<>();
+
+        static {
+            final Map<Character, StringBuilder> upperCase = new HashMap<>();
+            for (int i = Character.MIN_VALUE; i <= Character.MAX_VALUE; i++) {
+                final char c = (char) i;
+                final char lowerCase = Character.toLowerCase(c);
+                if (lowerCase != c) {
+                    StringBuilder chars = upperCase.get(lowerCase);
+                    if (chars == null) {
+                        chars = new StringBuilder(2);
+                        upperCase.put(lowerCase, chars);
+                    }
+                    chars.append(c);
+                }
+            }
+            for (final Map.Entry<Character, StringBuilder> e : upperCase.entrySet()) {
+                UPPER_CASE.put(e.getKey(), e.getValue().toString());
+            }
+        }
+    }
+}
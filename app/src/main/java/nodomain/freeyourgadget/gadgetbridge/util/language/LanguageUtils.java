@@ -29,9 +29,9 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import nodomain.freeyourgadget.gadgetbridge.GBApplication;
-import nodomain.freeyourgadget.gadgetbridge.devices.DeviceCoordinator;
 import nodomain.freeyourgadget.gadgetbridge.impl.GBDevice;
 import nodomain.freeyourgadget.gadgetbridge.util.Prefs;
 import nodomain.freeyourgadget.gadgetbridge.util.language.impl.ArabicTransliterator;
@@ -94,6 +94,9 @@ public class LanguageUtils {
         put("armenian", new ArmenianTransliterator());
     }};
 
+    // The compiled transliterators, by device address
+    private static final Map<String, DeviceTransliterator> DEVICE_TRANSLITERATORS = new ConcurrentHashMap<>();
+
     /**
      * Get a {@link Transliterator} for a specific language.
      *
@@ -110,23 +113,37 @@ public class LanguageUtils {
     }
 
     /**
-     * Get the configured transliterator for the provided {@link GBDevice}, if any.
+     * Get the configured transliterator for the provided {@link GBDevice}, if any. The
+     * transliterator is compiled once and cached per device, until its configuration changes.
      *
      * @param device the device
      * @return the configured transliterator, null if not configured
      */
     @Nullable
     public static Transliterator getTransliterator(final GBDevice device) {
-        final DeviceCoordinator coordinator = device.getDeviceCoordinator();
         final Prefs devicePrefs = new Prefs(GBApplication.getDeviceSpecificSharedPrefs(device.getAddress()));
         final String transliterateLanguagesPref = devicePrefs.getString(PREF_TRANSLITERATION_LANGUAGES, "");
 
         if (transliterateLanguagesPref.isEmpty()) {
+            DEVICE_TRANSLITERATORS.remove(device.getAddress());
             return null;
         }
 
+        final boolean flattenToAscii = !device.getDeviceCoordinator().supportsUnicodeEmojis(device);
+
+        final DeviceTransliterator cached = DEVICE_TRANSLITERATORS.get(device.getAddress());
+        if (cached != null && cached.languages.equals(transliterateLanguagesPref) && cached.flattenToAscii == flattenToAscii) {
+            return cached.transliterator;
+        }
+
+        final Transliterator transliterator = createTransliterator(transliterateLanguagesPref, flattenToAscii);
+        DEVICE_TRANSLITERATORS.put(device.getAddress(), new DeviceTransliterator(transliterateLanguagesPref, flattenToAscii, transliterator));
+        return transliterator;
+    }
+
+    private static Transliterator createTransliterator(final String transliterateLanguagesPref, final boolean flattenToAscii) {
         final List<String> languages = Arrays.asList(transliterateLanguagesPref.split(","));
-        final List<Transliterator> transliterators = new ArrayList<>(languages.size());
+        final List<Transliterator> transliterators = new ArrayList<>(languages.size() + 1);
 
         for (String language : languages) {
             if (!TRANSLITERATORS_MAP.containsKey(language)) {
@@ -137,7 +154,7 @@ public class LanguageUtils {
             transliterators.add(TRANSLITERATORS_MAP.get(language));
         }
 
-        if (!coordinator.supportsUnicodeEmojis(device)) {
+        if (flattenToAscii) {
             // For now, assume that if the device does not support unicode emoji, it also doesn't
             // support utf, so flatten to ASCII. This allows for devices that support unicode
             // characters to still use transliterators for languages not supported by the device,
@@ -146,6 +163,18 @@ public class LanguageUtils {
             transliterators.add(new FlattenToAsciiTransliterator());
         }
 
-        return new MultiTransliterator(transliterators);
+        return CompiledTransliterator.compile(transliterators);
+    }
+
+    private static final class DeviceTransliterator {
+        private final String languages;
+        private final boolean flattenToAscii;
+        private final Transliterator transliterator;
+
+        private DeviceTransliterator(final String languages, final boolean flattenToAscii, final Transliterator transliterator) {
+            this.languages = languages;
+            this.flattenToAscii = flattenToAscii;
+            this.transliterator = transliterator;
+        }
     }
 }
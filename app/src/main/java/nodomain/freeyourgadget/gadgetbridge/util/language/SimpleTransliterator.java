@@ -19,6 +19,7 @@ package nodomain.freeyourgadget.gadgetbridge.util.language;
 import org.apache.commons.lang3.text.WordUtils;
 
 import java.util.Map;
+import java.util.Set;
 
 public class SimpleTransliterator implements Transliterator {
     private final Map<Character, String> transliterateMap;
@@ -51,7 +52,18 @@ public class SimpleTransliterator implements Transliterator {
         return message;
     }
 
-    private String transliterate(final char c) {
+    /**
+     * The characters replaced by this transliterator, in lowercase if {@link #isConvertToLowercase()}.
+     */
+    Set<Character> getSourceChars() {
+        return transliterateMap.keySet();
+    }
+
+    boolean isConvertToLowercase() {
+        return convertToLowercase;
+    }
+
+    String transliterate(final char c) {
         final char sourceChar = convertToLowercase ? Character.toLowerCase(c) : c;
 
         if (transliterateMap.containsKey(sourceChar)) {
@@ -19,22 +19,34 @@ package nodomain.freeyourgadget.gadgetbridge.util.language.impl;
 import java.nio.charset.StandardCharsets;
 import java.text.Normalizer;
 import java.util.HashMap;
+import java.util.regex.Pattern;
 
 import nodomain.freeyourgadget.gadgetbridge.util.language.SimpleTransliterator;
 import nodomain.freeyourgadget.gadgetbridge.util.language.Transliterator;
 
 public class FlattenToAsciiTransliterator implements Transliterator {
+    private static final Pattern MARKS = Pattern.compile("\\p{M}");
+
     @Override
     public String transliterate(String txt) {
-        if (txt == null || txt.isEmpty()) {
+        if (txt == null || txt.isEmpty() || isAscii(txt)) {
             return txt;
         }
 
         // Decompose the string into its compatible decomposition (splits base characters from accents/marks, and changes some characters to compatibility version)
         txt = Normalizer.normalize(txt, Normalizer.Form.NFKD);
         // Remove all marks (characters intended to be combined with another character), keeping the base glyphs
-        txt = txt.replaceAll("\\p{M}", "");
+        txt = MARKS.matcher(txt).replaceAll("");
         // Flatten the resulting string to ASCII
         return new String(txt.getBytes(StandardCharsets.US_ASCII), StandardCharsets.US_ASCII);
     }
+
+    private static boolean isAscii(final String txt) {
+        for (int i = 0; i < txt.length(); i++) {
+            if (txt.charAt(i) >= 0x80) {
+                return false;
+            }
+        }
+        return true;
+    }
 }
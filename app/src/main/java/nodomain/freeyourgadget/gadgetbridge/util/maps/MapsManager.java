@@ -33,7 +33,6 @@ import org.mapsforge.map.android.util.AndroidUtil;
 import org.mapsforge.map.android.view.MapView;
 import org.mapsforge.map.datastore.MultiMapDataStore;
 import org.mapsforge.map.layer.cache.TileCache;
-import org.mapsforge.map.layer.overlay.Polyline;
 import org.mapsforge.map.layer.renderer.TileRendererLayer;
 import org.mapsforge.map.reader.MapFile;
 import org.slf4j.Logger;
@@ -41,14 +40,10 @@ import org.slf4j.LoggerFactory;
 
 import java.io.FileInputStream;
 import java.io.IOException;
-import java.util.List;
 import java.util.Locale;
-import java.util.stream.Collectors;
 
 import nodomain.freeyourgadget.gadgetbridge.GBApplication;
 import nodomain.freeyourgadget.gadgetbridge.R;
-import nodomain.freeyourgadget.gadgetbridge.model.GPSCoordinate;
-import nodomain.freeyourgadget.gadgetbridge.util.Accumulator;
 import nodomain.freeyourgadget.gadgetbridge.util.GBPrefs;
 
 public final class MapsManager {
@@ -60,7 +55,7 @@ public final class MapsManager {
 
     private final Context mContext;
     private final MapView mapView;
-    private Polyline polyline;
+    private TrackLayer trackLayer;
 
     private TileRendererLayer tileRendererLayer;
     private boolean tileRenderedAdded;
@@ -160,10 +155,10 @@ public final class MapsManager {
     }
 
     public void onDestroy() {
-        if (polyline != null) {
-            mapView.getLayerManager().getLayers().remove(polyline);
-            polyline.onDestroy();
-            polyline = null;
+        if (trackLayer != null) {
+            mapView.getLayerManager().getLayers().remove(trackLayer);
+            trackLayer.onDestroy();
+            trackLayer = null;
         }
 
         if (tileRendererLayer != null) {
@@ -194,34 +189,29 @@ public final class MapsManager {
         return new BoundingBox(minLat, minLon, maxLat, maxLon);
     }
 
-    public void setTrack(final List<? extends GPSCoordinate> trackPoints) {
-        final Accumulator latitudeAccumulator = new Accumulator();
-        final Accumulator longitudeAccumulator = new Accumulator();
-        for (GPSCoordinate trackPoint : trackPoints) {
-            latitudeAccumulator.add(trackPoint.getLatitude());
-            longitudeAccumulator.add(trackPoint.getLongitude());
-        }
-        final double maxLat = latitudeAccumulator.getMax();
-        final double minLat = latitudeAccumulator.getMin();
-        final double maxLon = longitudeAccumulator.getMax();
-        final double minLon = longitudeAccumulator.getMin();
+    /**
+     * Long tracks can have tens of thousands of points, so only the ones needed for the current
+     * zoom level and visible area are drawn. The track must not be empty, and should be created
+     * off the main thread.
+     */
+    public void setTrack(final SimplifiedTrack track) {
+        final double maxLat = track.getMaxLatitude();
+        final double minLat = track.getMinLatitude();
+        final double maxLon = track.getMaxLongitude();
+        final double minLon = track.getMinLongitude();
         final LatLong center = new LatLong(minLat + (maxLat - minLat) / 2, minLon + (maxLon - minLon) / 2);
 
-        final List<LatLong> points = trackPoints.stream()
-                .map(p -> new LatLong(p.getLatitude(), p.getLongitude()))
-                .collect(Collectors.toList());
-
-        if (polyline == null) {
+        if (trackLayer == null) {
             final Paint paint = AndroidGraphicFactory.INSTANCE.createPaint();
             final int trackColor = GBApplication.getPrefs().getInt(MapsManager.PREF_TRACK_COLOR, ContextCompat.getColor(mContext, R.color.map_track_default));
             paint.setColor(trackColor);
             paint.setStrokeWidth(8);
             paint.setStyle(Style.STROKE);
 
-            polyline = new Polyline(paint, AndroidGraphicFactory.INSTANCE);
-            mapView.addLayer(polyline);
+            trackLayer = new TrackLayer(paint, AndroidGraphicFactory.INSTANCE);
+            mapView.addLayer(trackLayer);
         }
-        polyline.setPoints(points);
+        trackLayer.setTrack(track);
 
         mapView.setCenter(center);
 
@@ -239,10 +229,10 @@ public final class MapsManager {
     }
 
     public void reload() {
-        if (polyline != null) {
+        if (trackLayer != null) {
             final int trackColor = GBApplication.getPrefs().getInt(MapsManager.PREF_TRACK_COLOR, ContextCompat.getColor(mContext, R.color.map_track_default));
-            polyline.getPaintStroke().setColor(trackColor);
-            polyline.requestRedraw();
+            trackLayer.getPaintStroke().setColor(trackColor);
+            trackLayer.requestRedraw();
         }
 
         loadMaps();
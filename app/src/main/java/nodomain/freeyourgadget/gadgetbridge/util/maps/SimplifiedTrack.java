@@ -0,0 +1,286 @@
+/*  Copyright (C) 2026 Freeyourgadget
+
+    This file is part of Gadgetbridge.
+
+    Gadgetbridge is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published
+    by the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    Gadgetbridge is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>. */
+package nodomain.freeyourgadget.gadgetbridge.util.maps;
+
+import org.mapsforge.core.model.BoundingBox;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+
+import nodomain.freeyourgadget.gadgetbridge.model.GPSCoordinate;
+
+/**
+ * A track with its level of detail precomputed for all zoom levels, so that drawing it only costs
+ * as much as the points that are visible at the current zoom level.
+ * <p>
+ * The points are kept in normalized Web Mercator coordinates, from 0 to 1, where one pixel at zoom
+ * level z spans 1 / (tileSize * 2^z). A single run of Douglas-Peucker assigns each point the largest
+ * tolerance at which it is still kept, so the points of a zoom level are the ones whose tolerance
+ * is larger than half a pixel. These are then clipped to the visible area, with a margin so that
+ * panning does not need to clip them again on every frame.
+ * <p>
+ * Computing the level of detail takes long for long tracks, so it should not be created on the
+ * main thread.
+ */
+public final class SimplifiedTrack {
+    private static final double MAX_LATITUDE = 85.05112877980659;
+    private static final int MAX_ZOOM_LEVEL = 30;
+
+    // Tolerance in pixels, below which points are left out
+    private static final double TOLERANCE_PIXELS = 0.5;
+
+    // Fraction of the visible width and height added on each side when clipping
+    private static final double CLIP_MARGIN = 0.5;
+
+    private final double[] x;
+    private final double[] y;
+    private final double[] tolerance;
+    private final double minLatitude, minLongitude, maxLatitude, maxLongitude;
+
+    private final int[][] levels = new int[MAX_ZOOM_LEVEL + 1][];
+    private int levelsTileSize;
+
+    private int clippedZoomLevel = -1;
+    private int clippedTileSize;
+    private double clipMinX, clipMinY, clipMaxX, clipMaxY;
+    private List<int[]> clippedRuns = Collections.emptyList();
+
+    public SimplifiedTrack(final List<? extends GPSCoordinate> points) {
+        final int size = points.size();
+        x = new double[size];
+        y = new double[size];
+        double minLat = Double.POSITIVE_INFINITY, minLon = Double.POSITIVE_INFINITY;
+        double maxLat = Double.NEGATIVE_INFINITY, maxLon = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < size; i++) {
+            final GPSCoordinate point = points.get(i);
+            x[i] = longitudeToX(point.getLongitude());
+            y[i] = latitudeToY(point.getLatitude());
+            minLat = Math.min(minLat, point.getLatitude());
+            maxLat = Math.max(maxLat, point.getLatitude());
+            minLon = Math.min(minLon, point.getLongitude());
+            maxLon = Math.max(maxLon, point.getLongitude());
+        }
+        minLatitude = minLat;
+        minLongitude = minLon;
+        maxLatitude = maxLat;
+        maxLongitude = maxLon;
+        tolerance = computeTolerances(x, y);
+    }
+
+    public int size() {
+        return x.length;
+    }
+
+    public double getMinLatitude() {
+        return minLatitude;
+    }
+
+    public double getMinLongitude() {
+        return minLongitude;
+    }
+
+    public double getMaxLatitude() {
+        return maxLatitude;
+    }
+
+    public double getMaxLongitude() {
+        return maxLongitude;
+    }
+
+    /**
+     * @return the horizontal position of a point, in pixels of a map with the given size
+     */
+    public double getPixelX(final int index, final long mapSize) {
+        return x[index] * mapSize;
+    }
+
+    /**
+     * @return the vertical position of a point, in pixels of a map with the given size
+     */
+    public double getPixelY(final int index, final long mapSize) {
+        return y[index] * mapSize;
+    }
+
+    /**
+     * @return the indices of the points to draw at a zoom level, split in runs of connected points,
+     * covering at least the visible bounding box
+     */
+    public synchronized List<int[]> getVisibleRuns(final byte zoomLevel, final int tileSize, final BoundingBox visible) {
+        final int zoom = Math.max(0, Math.min(zoomLevel, MAX_ZOOM_LEVEL));
+        final double minX = longitudeToX(visible.minLongitude);
+        final double maxX = longitudeToX(visible.maxLongitude);
+        // y grows towards the south
+        final double minY = latitudeToY(visible.maxLatitude);
+        final double maxY = latitudeToY(visible.minLatitude);
+
+        if (zoom == clippedZoomLevel && tileSize == clippedTileSize &&
+                minX >= clipMinX && maxX <= clipMaxX && minY >= clipMinY && maxY <= clipMaxY) {
+            return clippedRuns;
+        }
+
+        final double marginX = (maxX - minX) * CLIP_MARGIN;
+        final double marginY = (maxY - minY) * CLIP_MARGIN;
+        clipMinX = minX - marginX;
+        clipMaxX = maxX + marginX;
+        clipMinY = minY - marginY;
+        clipMaxY = maxY + marginY;
+        clippedZoomLevel = zoom;
+        clippedTileSize = tileSize;
+        clippedRuns = clip(getLevel(zoom, tileSize), clipMinX, clipMinY, clipMaxX, clipMaxY);
+        return clippedRuns;
+    }
+
+    /**
+     * @return the indices of the points that are kept at a zoom level, in track order
+     */
+    synchronized int[] getLevel(final int zoomLevel, final int tileSize) {
+        if (tileSize != levelsTileSize) {
+            Arrays.fill(levels, null);
+            levelsTileSize = tileSize;
+        }
+        if (levels[zoomLevel] != null) {
+            return levels[zoomLevel];
+        }
+
+        final double minTolerance = TOLERANCE_PIXELS / ((double) tileSize * (1L << zoomLevel));
+        int count = 0;
+        for (final double t : tolerance) {
+            if (t >= minTolerance) {
+                count++;
+            }
+        }
+        final int[] level = new int[count];
+        int j = 0;
+        for (int i = 0; i < tolerance.length; i++) {
+            if (tolerance[i] >= minTolerance) {
+                level[j++] = i;
+            }
+        }
+        levels[zoomLevel] = level;
+        return level;
+    }
+
+    /**
+     * Keeps the segments that may cross the clip box. Consecutive kept segments form a run, so that
+     * no line is drawn between the points where the track leaves the box and comes back.
+     */
+    private List<int[]> clip(final int[] level,
+                             final double minX, final double minY,
+                             final double maxX, final double maxY) {
+        if (level.length == 1) {
+            final int i = level[0];
+            if (x[i] >= minX && x[i] <= maxX && y[i] >= minY && y[i] <= maxY) {
+                return Collections.singletonList(new int[]{i});
+            }
+            return Collections.emptyList();
+        }
+
+        final List<int[]> runs = new ArrayList<>();
+        int runStart = -1;
+        for (int k = 0; k + 1 < level.length; k++) {
+            final int a = level[k];
+            final int b = level[k + 1];
+            final boolean visible = Math.max(x[a], x[b]) >= minX && Math.min(x[a], x[b]) <= maxX &&
+                    Math.max(y[a], y[b]) >= minY && Math.min(y[a], y[b]) <= maxY;
+            if (visible && runStart < 0) {
+                runStart = k;
+            } else if (!visible && runStart >= 0) {
+                runs.add(Arrays.copyOfRange(level, runStart, k + 1));
+                runStart = -1;
+            }
+        }
+        if (runStart >= 0) {
+            runs.add(Arrays.copyOfRange(level, runStart, level.length));
+        }
+        return runs;
+    }
+
+    /**
+     * Runs Douglas-Peucker once with a tolerance of zero, recording for each point the distance at
+     * which it was selected. Since a point is only considered once its parent was selected, the
+     * tolerance of a point is capped by the one of its parent.
+     */
+    static double[] computeTolerances(final double[] x, final double[] y) {
+        final int size = x.length;
+        final double[] tolerance = new double[size];
+        if (size == 0) {
+            return tolerance;
+        }
+        tolerance[0] = Double.POSITIVE_INFINITY;
+        tolerance[size - 1] = Double.POSITIVE_INFINITY;
+
+        // the track can have many thousands of points, so do not recurse
+        final Deque<int[]> segments = new ArrayDeque<>();
+        if (size > 2) {
+            segments.push(new int[]{0, size - 1});
+        }
+        while (!segments.isEmpty()) {
+            final int[] segment = segments.pop();
+            final int first = segment[0];
+            final int last = segment[1];
+            final double parentTolerance = Math.min(tolerance[first], tolerance[last]);
+
+            int farthest = -1;
+            double maxDistance = -1;
+            for (int i = first + 1; i < last; i++) {
+                final double distance = distanceToSegment(x[i], y[i], x[first], y[first], x[last], y[last]);
+                if (distance > maxDistance) {
+                    maxDistance = distance;
+                    farthest = i;
+                }
+            }
+
+            tolerance[farthest] = Math.min(maxDistance, parentTolerance);
+            if (farthest - first > 1) {
+                segments.push(new int[]{first, farthest});
+            }
+            if (last - farthest > 1) {
+                segments.push(new int[]{farthest, last});
+            }
+        }
+
+        return tolerance;
+    }
+
+    private static double distanceToSegment(final double px, final double py,
+                                            final double ax, final double ay,
+                                            final double bx, final double by) {
+        final double dx = bx - ax;
+        final double dy = by - ay;
+        final double lengthSquared = dx * dx + dy * dy;
+        double t = 0;
+        if (lengthSquared > 0) {
+            t = Math.max(0, Math.min(1, ((px - ax) * dx + (py - ay) * dy) / lengthSquared));
+        }
+        final double ex = px - (ax + t * dx);
+        final double ey = py - (ay + t * dy);
+        return Math.sqrt(ex * ex + ey * ey);
+    }
+
+    private static double longitudeToX(final double longitude) {
+        return (longitude + 180) / 360;
+    }
+
+    private static double latitudeToY(final double latitude) {
+        final double sinLatitude = Math.sin(Math.toRadians(Math.max(-MAX_LATITUDE, Math.min(latitude, MAX_LATITUDE))));
+        return 0.5 - Math.log((1 + sinLatitude) / (1 - sinLatitude)) / (4 * Math.PI);
+    }
+}
@@ -0,0 +1,91 @@
+/*  Copyright (C) 2026 Freeyourgadget
+
+    This file is part of Gadgetbridge.
+
+    Gadgetbridge is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published
+    by the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    Gadgetbridge is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>. */
+package nodomain.freeyourgadget.gadgetbridge.util.maps;
+
+import androidx.annotation.Nullable;
+
+import org.mapsforge.core.graphics.Canvas;
+import org.mapsforge.core.graphics.GraphicFactory;
+import org.mapsforge.core.graphics.Paint;
+import org.mapsforge.core.graphics.Path;
+import org.mapsforge.core.model.BoundingBox;
+import org.mapsforge.core.model.Point;
+import org.mapsforge.core.model.Rotation;
+import org.mapsforge.core.util.MercatorProjection;
+import org.mapsforge.map.layer.Layer;
+
+import java.util.List;
+
+/**
+ * Draws a {@link SimplifiedTrack}, using only the points needed for the current zoom level and
+ * visible area. Unlike a {@link org.mapsforge.map.layer.overlay.Polyline}, drawing a long track
+ * does not get slower with the number of points.
+ */
+public class TrackLayer extends Layer {
+    private final Paint paintStroke;
+    private final GraphicFactory graphicFactory;
+
+    @Nullable
+    private volatile SimplifiedTrack track;
+
+    public TrackLayer(final Paint paintStroke, final GraphicFactory graphicFactory) {
+        this.paintStroke = paintStroke;
+        this.graphicFactory = graphicFactory;
+    }
+
+    public Paint getPaintStroke() {
+        return paintStroke;
+    }
+
+    public void setTrack(@Nullable final SimplifiedTrack track) {
+        this.track = track;
+        requestRedraw();
+    }
+
+    @Override
+    public void draw(final BoundingBox boundingBox,
+                     final byte zoomLevel,
+                     final Canvas canvas,
+                     final Point topLeftPoint,
+                     final Rotation rotation) {
+        final SimplifiedTrack currentTrack = track;
+        if (currentTrack == null || currentTrack.size() == 0) {
+            return;
+        }
+
+        final int tileSize = displayModel.getTileSize();
+        final long mapSize = MercatorProjection.getMapSize(zoomLevel, tileSize);
+        final List<int[]> runs = currentTrack.getVisibleRuns(zoomLevel, tileSize, boundingBox);
+        if (runs.isEmpty()) {
+            return;
+        }
+
+        final Path path = graphicFactory.createPath();
+        for (final int[] run : runs) {
+            for (int i = 0; i < run.length; i++) {
+                final float x = (float) (currentTrack.getPixelX(run[i], mapSize) - topLeftPoint.x);
+                final float y = (float) (currentTrack.getPixelY(run[i], mapSize) - topLeftPoint.y);
+                if (i == 0) {
+                    path.moveTo(x, y);
+                } else {
+                    path.lineTo(x, y);
+                }
+            }
+        }
+        canvas.drawPath(path, paintStroke);
+    }
+}
@@ -0,0 +1,70 @@
+package nodomain.freeyourgadget.gadgetbridge.activities.charts;
+
+import org.junit.Test;
+
+import nodomain.freeyourgadget.gadgetbridge.database.DeviceDataVersions;
+import nodomain.freeyourgadget.gadgetbridge.model.ActivityAmounts;
+import nodomain.freeyourgadget.gadgetbridge.test.TestBase;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class ChartDataCacheTest extends TestBase {
+    private static final String ADDRESS = "00:00:00:00:30";
+
+    private final ChartDataCache cache = ChartDataCache.getInstance();
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        cache.clear();
+    }
+
+    @Test
+    public void testHitUntilDataChanges() {
+        final ChartDataCache.Key key = new ChartDataCache.Key(ADDRESS, "chart", 1000, 2000);
+        final ChartsData data = new ChartsData() {
+        };
+
+        assertNull(cache.getChartsData(key));
+        cache.putChartsData(key, data, DeviceDataVersions.get(ADDRESS));
+        assertTrue(cache.containsChartsData(key));
+        assertSame(data, cache.getChartsData(key));
+        assertNull(cache.getChartsData(new ChartDataCache.Key(ADDRESS, "other chart", 1000, 2000)));
+
+        DeviceDataVersions.bump(ADDRESS);
+        assertFalse(cache.containsChartsData(key));
+        assertNull(cache.getChartsData(key));
+    }
+
+    @Test
+    public void testBumpAll() {
+        final ChartDataCache.Key key = new ChartDataCache.Key(ADDRESS, "chart", 1000, 2000);
+        final ChartsData data = new ChartsData() {
+        };
+
+        cache.putChartsData(key, data, DeviceDataVersions.get(ADDRESS));
+        assertSame(data, cache.getChartsData(key));
+
+        // e.g. a database import
+        DeviceDataVersions.bumpAll();
+        assertNull(cache.getChartsData(key));
+    }
+
+    @Test
+    public void testStaleDataIsNotStored() {
+        final ChartDataCache.Key key = new ChartDataCache.Key(ADDRESS, "ActivityAmounts", 1000, 1000);
+        final long version = DeviceDataVersions.get(ADDRESS);
+
+        // data was added while the amounts were being computed
+        DeviceDataVersions.bump(ADDRESS);
+        cache.putActivityAmounts(key, new ActivityAmounts(), version);
+        assertNull(cache.getActivityAmounts(key));
+
+        cache.putActivityAmounts(key, new ActivityAmounts(), DeviceDataVersions.get(ADDRESS));
+        cache.clear();
+        assertNull(cache.getActivityAmounts(key));
+    }
+}
@@ -0,0 +1,142 @@
+package nodomain.freeyourgadget.gadgetbridge.database;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TimeZone;
+
+import nodomain.freeyourgadget.gadgetbridge.devices.DailyTotalsRollupProvider;
+import nodomain.freeyourgadget.gadgetbridge.devices.miband.MiBandSampleProvider;
+import nodomain.freeyourgadget.gadgetbridge.entities.DailyTotalsRollup;
+import nodomain.freeyourgadget.gadgetbridge.entities.Device;
+import nodomain.freeyourgadget.gadgetbridge.entities.MiBandActivitySample;
+import nodomain.freeyourgadget.gadgetbridge.entities.User;
+import nodomain.freeyourgadget.gadgetbridge.impl.GBDevice;
+import nodomain.freeyourgadget.gadgetbridge.test.TestBase;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+public class DailyTotalsRollupProviderTest extends TestBase {
+    private GBDevice dummyGBDevice;
+    private DailyTotalsRollupProvider rollupProvider;
+    private int todayStart;
+    private int tenDaysAgoStart;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        dummyGBDevice = createDummyGDevice("00:00:00:00:20");
+        DBHelper.getDevice(dummyGBDevice, daoSession);
+        rollupProvider = new DailyTotalsRollupProvider(dummyGBDevice, daoSession);
+
+        final Calendar day = Calendar.getInstance();
+        todayStart = DailyTotalsRollupProvider.getDayStart(day);
+        day.add(Calendar.DATE, -10);
+        tenDaysAgoStart = DailyTotalsRollupProvider.getDayStart(day);
+    }
+
+    @Test
+    public void testStoreAndGet() {
+        rollupProvider.store(Arrays.asList(createRollup(tenDaysAgoStart, 1000), createRollup(tenDaysAgoStart + 86400, 2000)));
+
+        final DailyTotalsRollup rollup = rollupProvider.get(tenDaysAgoStart);
+        assertNotNull(rollup);
+        assertEquals(1000, rollup.getSteps());
+
+        final Map<Integer, DailyTotalsRollup> range = rollupProvider.getRange(tenDaysAgoStart, todayStart);
+        assertEquals(2, range.size());
+        assertEquals(2000, range.get(tenDaysAgoStart + 86400).getSteps());
+    }
+
+    @Test
+    public void testIncompleteDayIsNotStored() {
+        assertFalse(DailyTotalsRollupProvider.isComplete(todayStart));
+        assertTrue(DailyTotalsRollupProvider.isComplete(tenDaysAgoStart));
+        assertThrows(IllegalArgumentException.class, () -> rollupProvider.store(Collections.singletonList(createRollup(todayStart, 1000))));
+    }
+
+    @Test
+    public void testInvalidatedByNewSamples() {
+        rollupProvider.store(Arrays.asList(
+                createRollup(tenDaysAgoStart - 86400, 500),
+                createRollup(tenDaysAgoStart, 1000),
+                createRollup(tenDaysAgoStart + 86400, 2000),
+                createRollup(tenDaysAgoStart + 2 * 86400, 3000)
+        ));
+
+        // a sample in the evening counts for its own day, and for the sleep of the next day
+        final MiBandSampleProvider sampleProvider = new MiBandSampleProvider(dummyGBDevice, daoSession);
+        sampleProvider.addGBActivitySample(createSample(sampleProvider, tenDaysAgoStart + 20 * 3600));
+
+        assertNotNull(rollupProvider.get(tenDaysAgoStart - 86400));
+        assertNull(rollupProvider.get(tenDaysAgoStart));
+        assertNull(rollupProvider.get(tenDaysAgoStart + 86400));
+        assertNotNull(rollupProvider.get(tenDaysAgoStart + 2 * 86400));
+
+        // samples of today can not affect stored days
+        sampleProvider.addGBActivitySample(createSample(sampleProvider, todayStart + 60));
+        assertNotNull(rollupProvider.get(tenDaysAgoStart + 2 * 86400));
+
+        rollupProvider.clear();
+        assertTrue(rollupProvider.getRange(0, todayStart).isEmpty());
+    }
+
+    @Test
+    public void testInvalidatedAcrossDaylightSavingTime() {
+        final TimeZone defaultTimeZone = TimeZone.getDefault();
+        TimeZone.setDefault(TimeZone.getTimeZone("Europe/Berlin"));
+        try {
+            // 2025-10-26 is 25 hours long
+            final Calendar day = Calendar.getInstance();
+            day.set(2025, Calendar.OCTOBER, 25, 12, 0, 0);
+            final int[] dayStarts = new int[4];
+            for (int i = 0; i < dayStarts.length; i++) {
+                dayStarts[i] = DailyTotalsRollupProvider.getDayStart(day);
+                day.add(Calendar.DATE, 1);
+            }
+            assertEquals(25 * 3600, dayStarts[2] - dayStarts[1]);
+            for (final int dayStart : dayStarts) {
+                rollupProvider.store(Collections.singletonList(createRollup(dayStart, 1000)));
+            }
+
+            // late in the evening of the long day, more than 24 hours after its start
+            final MiBandSampleProvider sampleProvider = new MiBandSampleProvider(dummyGBDevice, daoSession);
+            sampleProvider.addGBActivitySample(createSample(sampleProvider, dayStarts[2] - 30 * 60));
+
+            assertNotNull(rollupProvider.get(dayStarts[0]));
+            assertNull(rollupProvider.get(dayStarts[1]));
+            assertNull(rollupProvider.get(dayStarts[2]));
+            assertNotNull(rollupProvider.get(dayStarts[3]));
+        } finally {
+            TimeZone.setDefault(defaultTimeZone);
+        }
+    }
+
+    private DailyTotalsRollup createRollup(final int dayStart, final long steps) {
+        final DailyTotalsRollup rollup = new DailyTotalsRollup();
+        rollup.setDayStart(dayStart);
+        rollup.setSteps(steps);
+        return rollup;
+    }
+
+    private MiBandActivitySample createSample(final MiBandSampleProvider sampleProvider, final int timestamp) {
+        final User user = DBHelper.getUser(daoSession);
+        final Device device = DBHelper.getDevice(dummyGBDevice, daoSession);
+        final MiBandActivitySample sample = sampleProvider.createActivitySample();
+        sample.setProvider(sampleProvider);
+        sample.setRawKind(MiBandSampleProvider.TYPE_ACTIVITY);
+        sample.setTimestamp(timestamp);
+        sample.setSteps(100);
+        sample.setUserId(user.getId());
+        sample.setDeviceId(device.getId());
+        return sample;
+    }
+}
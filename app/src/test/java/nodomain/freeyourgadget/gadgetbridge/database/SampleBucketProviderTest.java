@@ -0,0 +1,157 @@
+package nodomain.freeyourgadget.gadgetbridge.database;
+
+import org.junit.Test;
+
+import java.util.Calendar;
+import java.util.List;
+
+import nodomain.freeyourgadget.gadgetbridge.GBApplication;
+import nodomain.freeyourgadget.gadgetbridge.devices.DailyTotalsRollupProvider;
+import nodomain.freeyourgadget.gadgetbridge.devices.SampleBucketProvider;
+import nodomain.freeyourgadget.gadgetbridge.devices.miband.MiBandSampleProvider;
+import nodomain.freeyourgadget.gadgetbridge.entities.Device;
+import nodomain.freeyourgadget.gadgetbridge.entities.MiBandActivitySample;
+import nodomain.freeyourgadget.gadgetbridge.entities.SampleBucket;
+import nodomain.freeyourgadget.gadgetbridge.entities.User;
+import nodomain.freeyourgadget.gadgetbridge.impl.GBDevice;
+import nodomain.freeyourgadget.gadgetbridge.model.SampleMetric;
+import nodomain.freeyourgadget.gadgetbridge.model.SampleResolution;
+import nodomain.freeyourgadget.gadgetbridge.test.TestBase;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class SampleBucketProviderTest extends TestBase {
+    private GBDevice dummyGBDevice;
+    private MiBandSampleProvider sampleProvider;
+    private int todayStart;
+    private int tenDaysAgoStart;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        dummyGBDevice = createDummyGDevice("00:00:00:00:30");
+        DBHelper.getDevice(dummyGBDevice, daoSession);
+        sampleProvider = new MiBandSampleProvider(dummyGBDevice, daoSession);
+
+        final Calendar day = Calendar.getInstance();
+        todayStart = DailyTotalsRollupProvider.getDayStart(day);
+        day.add(Calendar.DATE, -10);
+        tenDaysAgoStart = DailyTotalsRollupProvider.getDayStart(day);
+
+        // buckets are not stored while anyone is writing, like the test itself
+        GBApplication.releaseDB();
+    }
+
+    @Override
+    public void tearDown() throws Exception {
+        GBApplication.acquireDB();
+        super.tearDown();
+    }
+
+    @Test
+    public void testAggregation() {
+        sampleProvider.addGBActivitySamples(new MiBandActivitySample[]{
+                createSample(tenDaysAgoStart + 60, 60),
+                createSample(tenDaysAgoStart + 120, 80),
+                createSample(tenDaysAgoStart + 3600, 100),
+                createSample(tenDaysAgoStart + 3660, 0), // invalid, not counted
+        });
+
+        final List<SampleBucket> days = getBuckets(SampleResolution.DAY);
+        assertEquals(1, days.size());
+        assertEquals(tenDaysAgoStart, days.get(0).getTimestamp());
+        assertEquals(60, days.get(0).getMin());
+        assertEquals(100, days.get(0).getMax());
+        assertEquals(3, days.get(0).getCount());
+        assertEquals(80, days.get(0).getAverage(), 0.001);
+
+        final List<SampleBucket> hours = getBuckets(SampleResolution.HOUR);
+        assertEquals(2, hours.size());
+        assertEquals(tenDaysAgoStart, hours.get(0).getTimestamp());
+        assertEquals(70, hours.get(0).getAverage(), 0.001);
+        assertEquals(tenDaysAgoStart + 3600, hours.get(1).getTimestamp());
+
+        final List<SampleBucket> minutes = getBuckets(SampleResolution.MINUTE);
+        assertEquals(3, minutes.size());
+    }
+
+    @Test
+    public void testStoredAndInvalidated() {
+        sampleProvider.addGBActivitySample(createSample(tenDaysAgoStart + 60, 60));
+
+        getBuckets(SampleResolution.DAY);
+        // day bucket and quarter-hour/hour buckets of the complete day
+        assertEquals(3, daoSession.getSampleBucketDao().count());
+
+        // empty complete days are stored as well, so they are not computed again
+        sampleProvider.getSampleBuckets(SampleMetric.HEART_RATE, SampleResolution.DAY, tenDaysAgoStart, todayStart - 1);
+        assertEquals(3 + 9, daoSession.getSampleBucketDao().count());
+
+        sampleProvider.addGBActivitySample(createSample(tenDaysAgoStart + 120, 100));
+        assertEquals(9, daoSession.getSampleBucketDao().count());
+
+        final List<SampleBucket> days = getBuckets(SampleResolution.DAY);
+        assertEquals(1, days.size());
+        assertEquals(100, days.get(0).getMax());
+        assertEquals(2, days.get(0).getCount());
+
+        new SampleBucketProvider(dummyGBDevice, daoSession).clear();
+        assertEquals(0, daoSession.getSampleBucketDao().count());
+    }
+
+    @Test
+    public void testNotStoredWhenSamplesAddedMeanwhile() {
+        sampleProvider.addGBActivitySample(createSample(tenDaysAgoStart + 60, 60));
+
+        final List<SampleBucket> days = new SampleBucketProvider(dummyGBDevice, daoSession).getBuckets(
+                SampleMetric.HEART_RATE,
+                SampleResolution.DAY,
+                tenDaysAgoStart,
+                tenDaysAgoStart + 86399,
+                (timestampFrom, timestampTo, consumer) -> {
+                    consumer.accept(tenDaysAgoStart + 60, 60);
+                    // a sync adds samples after they were read
+                    sampleProvider.addGBActivitySample(createSample(tenDaysAgoStart + 120, 100));
+                }
+        );
+        assertEquals(1, days.size());
+        assertEquals(0, daoSession.getSampleBucketDao().count());
+
+        assertEquals(2, getBuckets(SampleResolution.DAY).get(0).getCount());
+        assertEquals(3, daoSession.getSampleBucketDao().count());
+    }
+
+    @Test
+    public void testTodayIsNotStored() {
+        sampleProvider.addGBActivitySample(createSample(todayStart + 60, 60));
+
+        final List<SampleBucket> days = sampleProvider.getSampleBuckets(SampleMetric.HEART_RATE, SampleResolution.DAY, todayStart, todayStart + 86399);
+        assertEquals(1, days.size());
+        assertTrue(daoSession.getSampleBucketDao().loadAll().isEmpty());
+    }
+
+    @Test
+    public void testResolutionForRange() {
+        assertEquals(SampleResolution.MINUTE, SampleResolution.forRange(3600, 30));
+        assertEquals(SampleResolution.QUARTER_HOUR, SampleResolution.forRange(86400, 30));
+        assertEquals(SampleResolution.DAY, SampleResolution.forRange(365 * 86400L, 30));
+    }
+
+    private List<SampleBucket> getBuckets(final SampleResolution resolution) {
+        return sampleProvider.getSampleBuckets(SampleMetric.HEART_RATE, resolution, tenDaysAgoStart, tenDaysAgoStart + 86399);
+    }
+
+    private MiBandActivitySample createSample(final int timestamp, final int heartRate) {
+        final User user = DBHelper.getUser(daoSession);
+        final Device device = DBHelper.getDevice(dummyGBDevice, daoSession);
+        final MiBandActivitySample sample = sampleProvider.createActivitySample();
+        sample.setProvider(sampleProvider);
+        sample.setRawKind(MiBandSampleProvider.TYPE_ACTIVITY);
+        sample.setTimestamp(timestamp);
+        sample.setHeartRate(heartRate);
+        sample.setUserId(user.getId());
+        sample.setDeviceId(device.getId());
+        return sample;
+    }
+}
@@ -0,0 +1,115 @@
+package nodomain.freeyourgadget.gadgetbridge.database;
+
+import org.junit.Test;
+
+import java.util.List;
+
+import nodomain.freeyourgadget.gadgetbridge.devices.SampleColumns;
+import nodomain.freeyourgadget.gadgetbridge.devices.huami.HuamiExtendedSampleProvider;
+import nodomain.freeyourgadget.gadgetbridge.devices.huami.HuamiStressSampleProvider;
+import nodomain.freeyourgadget.gadgetbridge.devices.huawei.HuaweiSampleProvider;
+import nodomain.freeyourgadget.gadgetbridge.devices.miband.MiBandSampleProvider;
+import nodomain.freeyourgadget.gadgetbridge.entities.HuamiExtendedActivitySample;
+import nodomain.freeyourgadget.gadgetbridge.entities.HuamiStressSample;
+import nodomain.freeyourgadget.gadgetbridge.entities.HuamiStressSampleDao;
+import nodomain.freeyourgadget.gadgetbridge.entities.HuaweiActivitySample;
+import nodomain.freeyourgadget.gadgetbridge.entities.HuaweiActivitySampleDao;
+import nodomain.freeyourgadget.gadgetbridge.entities.MiBandActivitySample;
+import nodomain.freeyourgadget.gadgetbridge.entities.MiBandActivitySampleDao;
+import nodomain.freeyourgadget.gadgetbridge.impl.GBDevice;
+import nodomain.freeyourgadget.gadgetbridge.model.ActivitySample;
+import nodomain.freeyourgadget.gadgetbridge.test.TestBase;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+
+public class SampleColumnsTest extends TestBase {
+    private GBDevice dummyGBDevice;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        dummyGBDevice = createDummyGDevice("00:00:00:00:40");
+    }
+
+    @Test
+    public void testAddActivitySamples() {
+        final MiBandSampleProvider sampleProvider = new MiBandSampleProvider(dummyGBDevice, daoSession);
+        sampleProvider.addGBActivitySamples(new SampleColumns(new long[]{1000, 1060, 1120})
+                .put(MiBandActivitySampleDao.Properties.Steps, new int[]{10, 20, 30})
+                .put(MiBandActivitySampleDao.Properties.RawKind, new int[]{1, 2, 3}));
+
+        final List<MiBandActivitySample> samples = sampleProvider.getAllActivitySamples(0, 2000);
+        assertEquals(3, samples.size());
+        assertEquals(1060, samples.get(1).getTimestamp());
+        assertEquals(20, samples.get(1).getSteps());
+        assertEquals(2, samples.get(1).getRawKind());
+        // not given
+        assertEquals(0, samples.get(1).getRawIntensity());
+        assertEquals(DBHelper.getDevice(dummyGBDevice, daoSession).getId(), samples.get(1).getDeviceId());
+        assertEquals(DBHelper.getUser(daoSession).getId(), samples.get(1).getUserId());
+
+        // replaces existing samples
+        sampleProvider.addGBActivitySamples(new SampleColumns(new long[]{1060})
+                .put(MiBandActivitySampleDao.Properties.Steps, new int[]{25}));
+        assertEquals(25, sampleProvider.getAllActivitySamples(1060, 1060).get(0).getSteps());
+        assertEquals(3, sampleProvider.getAllActivitySamples(0, 2000).size());
+    }
+
+    @Test
+    public void testNullableColumns() {
+        final HuamiExtendedSampleProvider sampleProvider = new HuamiExtendedSampleProvider(dummyGBDevice, daoSession);
+        sampleProvider.addGBActivitySamples(new SampleColumns(new long[]{1000})
+                .put(MiBandActivitySampleDao.Properties.Steps, new int[]{10}));
+
+        final HuamiExtendedActivitySample sample = sampleProvider.getAllActivitySamples(1000, 1000).get(0);
+        assertEquals(10, sample.getSteps());
+        assertNull(sample.getSleep());
+    }
+
+    @Test
+    public void testAddTimeSamples() {
+        final HuamiStressSampleProvider sampleProvider = new HuamiStressSampleProvider(dummyGBDevice, daoSession);
+        sampleProvider.addSamples(new SampleColumns(new long[]{1000000L, 1060000L})
+                .put(HuamiStressSampleDao.Properties.Stress, new int[]{40, 50}));
+
+        final List<HuamiStressSample> samples = sampleProvider.getAllSamples(0, 2000000L);
+        assertEquals(2, samples.size());
+        assertEquals(50, samples.get(1).getStress());
+    }
+
+    @Test
+    public void testAddHuaweiSamples() {
+        final HuaweiSampleProvider sampleProvider = new HuaweiSampleProvider(dummyGBDevice, daoSession);
+        sampleProvider.addGBActivitySamples(new SampleColumns(new long[]{1000})
+                .put(HuaweiActivitySampleDao.Properties.OtherTimestamp, new int[]{1060})
+                .put(HuaweiActivitySampleDao.Properties.Steps, new int[]{10}));
+
+        // stored as a start and an end row
+        final List<HuaweiActivitySample> samples = sampleProvider.getSampleDao().queryBuilder()
+                .orderAsc(HuaweiActivitySampleDao.Properties.Timestamp)
+                .list();
+        assertEquals(2, samples.size());
+        assertEquals(1000, samples.get(0).getTimestamp());
+        assertEquals(10, samples.get(0).getSteps());
+        assertEquals(ActivitySample.NOT_MEASURED, samples.get(0).getHeartRate());
+        assertEquals(1060, samples.get(1).getTimestamp());
+        assertEquals(ActivitySample.NOT_MEASURED, samples.get(1).getSteps());
+    }
+
+    @Test
+    public void testInvalidColumns() {
+        final MiBandSampleProvider sampleProvider = new MiBandSampleProvider(dummyGBDevice, daoSession);
+        final SampleColumns columns = new SampleColumns(new long[]{1000, 1060});
+
+        assertThrows(IllegalArgumentException.class, () -> columns.put(MiBandActivitySampleDao.Properties.Steps, new int[]{1}));
+        assertThrows(IllegalArgumentException.class, () -> sampleProvider.addGBActivitySamples(
+                new SampleColumns(new long[]{1000}).put(HuamiStressSampleDao.Properties.TypeNum, new int[]{1})
+        ));
+        assertThrows(IllegalArgumentException.class, () -> sampleProvider.addGBActivitySamples(
+                new SampleColumns(new long[]{1000}).put(MiBandActivitySampleDao.Properties.DeviceId, new long[]{1})
+        ));
+        assertEquals(0, sampleProvider.getAllActivitySamples(0, 2000).size());
+    }
+}
@@ -529,4 +529,38 @@ public class TestHuaweiTLV {
 
         Assert.assertEquals(expectedValueMap, huaweiTLV.valueMap);
     }
+
+    @Test
+    public void testParseNestedWithoutCopy() throws HuaweiPacket.MissingTagException {
+        byte[] input = {(byte) 0x81, 0x06, 0x02, 0x01, 0x42, 0x03, 0x01, 0x43, 0x04, 0x02, 0x00, 0x05};
+
+        HuaweiTLV huaweiTLV = new HuaweiTLV().parse(input);
+        HuaweiTLV nested = huaweiTLV.getObject(0x81);
+
+        Assert.assertEquals((byte) 0x42, (byte) nested.getByte(0x02));
+        Assert.assertEquals(0x43, (int) nested.getAsInteger(0x03));
+        Assert.assertEquals((short) 0x05, (short) huaweiTLV.getShort(0x04));
+        Assert.assertArrayEquals(new byte[] {0x00, 0x05}, huaweiTLV.getBytes(0x04));
+        Assert.assertArrayEquals(input, huaweiTLV.serialize());
+    }
+
+    @Test
+    public void testGetWithIndex() throws HuaweiPacket.MissingTagException {
+        HuaweiTLV huaweiTLV = new HuaweiTLV();
+        for (int i = 0; i < 20; i++)
+            huaweiTLV.put(i, (byte) i);
+        huaweiTLV.put(0x05, (byte) 0x42);
+
+        HuaweiTLV parsed = new HuaweiTLV().parse(huaweiTLV.serialize());
+
+        Assert.assertEquals((byte) 0x05, (byte) parsed.getByte(0x05));
+        Assert.assertEquals((byte) 0x13, (byte) parsed.getByte(0x13));
+        Assert.assertFalse(parsed.contains(0x7f));
+
+        parsed.remove(0x05);
+        parsed.remove(0x05);
+        Assert.assertFalse(parsed.contains(0x05));
+        parsed.put(0x7f, (byte) 0x01);
+        Assert.assertTrue(parsed.contains(0x7f));
+    }
 }
@@ -0,0 +1,76 @@
+package nodomain.freeyourgadget.gadgetbridge.externalevents;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import nodomain.freeyourgadget.gadgetbridge.activities.NotificationFilterActivity;
+import nodomain.freeyourgadget.gadgetbridge.entities.NotificationFilter;
+import nodomain.freeyourgadget.gadgetbridge.entities.NotificationFilterEntry;
+import nodomain.freeyourgadget.gadgetbridge.test.TestBase;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class NotificationFilterIndexTest extends TestBase {
+    private final NotificationFilterIndex index = NotificationFilterIndex.getInstance();
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        index.invalidate();
+    }
+
+    @Test
+    public void testLoadAndInvalidate() {
+        final long filterId = insertFilter("com.example.chat", NotificationFilterActivity.NOTIFICATION_FILTER_SUBMODE_ANY, "spam", "ads");
+
+        final NotificationFilterIndex.CompiledFilter filter = index.get("com.Example.Chat");
+        assertNotNull(filter);
+        assertEquals(NotificationFilterActivity.NOTIFICATION_FILTER_MODE_BLACKLIST, filter.getMode());
+        assertTrue(filter.matches("Buy ads now"));
+        assertFalse(filter.matches("Hello there"));
+        assertNull(index.get("com.example.other"));
+
+        // not seen until invalidated
+        insertEntry(filterId, "Hello");
+        assertFalse(index.get("com.example.chat").matches("Hello there"));
+        index.invalidate();
+        assertTrue(index.get("com.example.chat").matches("Hello there"));
+    }
+
+    @Test
+    public void testMatchesAllWords() {
+        final NotificationFilter filter = new NotificationFilter();
+        filter.setNotificationFilterMode(NotificationFilterActivity.NOTIFICATION_FILTER_MODE_WHITELIST);
+        filter.setNotificationFilterSubMode(NotificationFilterActivity.NOTIFICATION_FILTER_SUBMODE_ALL);
+
+        final NotificationFilterIndex.CompiledFilter compiled = NotificationFilterIndex.compile(filter, Arrays.asList("he", "hello", "world", "world"));
+        assertTrue(compiled.matches("hello world"));
+        assertFalse(compiled.matches("hello word"));
+        assertTrue(NotificationFilterIndex.compile(filter, Collections.emptyList()).matches("anything"));
+    }
+
+    private long insertFilter(final String appIdentifier, final int subMode, final String... words) {
+        final NotificationFilter filter = new NotificationFilter();
+        filter.setAppIdentifier(appIdentifier);
+        filter.setNotificationFilterMode(NotificationFilterActivity.NOTIFICATION_FILTER_MODE_BLACKLIST);
+        filter.setNotificationFilterSubMode(subMode);
+        final long filterId = daoSession.getNotificationFilterDao().insert(filter);
+        for (final String word : words) {
+            insertEntry(filterId, word);
+        }
+        return filterId;
+    }
+
+    private void insertEntry(final long filterId, final String word) {
+        final NotificationFilterEntry entry = new NotificationFilterEntry();
+        entry.setNotificationFilterId(filterId);
+        entry.setNotificationFilterContent(word);
+        daoSession.getNotificationFilterEntryDao().insert(entry);
+    }
+}
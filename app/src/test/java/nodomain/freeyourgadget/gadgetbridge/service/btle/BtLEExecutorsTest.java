@@ -0,0 +1,66 @@
+package nodomain.freeyourgadget.gadgetbridge.service.btle;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class BtLEExecutorsTest {
+    @Test
+    public void testSerialExecutorRunsTasksInOrderOneAtATime() throws InterruptedException {
+        final BtLEExecutors.SerialExecutor executor = new BtLEExecutors.SerialExecutor("test_in");
+        final List<Integer> order = new ArrayList<>();
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger maxRunning = new AtomicInteger();
+        final List<String> threadNames = new ArrayList<>();
+        final int count = 100;
+        final CountDownLatch done = new CountDownLatch(count);
+
+        for (int i = 0; i < count; i++) {
+            final int idx = i;
+            executor.execute(() -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                synchronized (order) {
+                    order.add(idx);
+                    threadNames.add(Thread.currentThread().getName());
+                }
+                running.decrementAndGet();
+                done.countDown();
+            });
+        }
+
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        assertEquals(1, maxRunning.get());
+        for (int i = 0; i < count; i++) {
+            assertEquals(i, (int) order.get(i));
+            assertEquals("test_in", threadNames.get(i));
+        }
+    }
+
+    @Test
+    public void testBlockedSerialExecutorDoesNotBlockOthers() throws InterruptedException {
+        final BtLEExecutors.SerialExecutor blocked = new BtLEExecutors.SerialExecutor("blocked_in");
+        final BtLEExecutors.SerialExecutor other = new BtLEExecutors.SerialExecutor("other_in");
+        final CountDownLatch release = new CountDownLatch(1);
+        final CountDownLatch otherDone = new CountDownLatch(1);
+
+        blocked.execute(() -> {
+            try {
+                release.await();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        other.execute(otherDone::countDown);
+
+        assertTrue(otherDone.await(10, TimeUnit.SECONDS));
+        release.countDown();
+        assertTrue(blocked.isAlive());
+    }
+}
@@ -0,0 +1,78 @@
+package nodomain.freeyourgadget.gadgetbridge.service.btle;
+
+import org.junit.Test;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import nodomain.freeyourgadget.gadgetbridge.service.btle.actions.WaitAction;
+import nodomain.freeyourgadget.gadgetbridge.test.TestBase;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class BtLEMetricsTest extends TestBase {
+    private static final UUID CHARACTERISTIC = UUID.fromString("00002a37-0000-1000-8000-00805f9b34fb");
+
+    @Override
+    public void tearDown() throws Exception {
+        BtLEMetrics.setEnabled(false);
+        super.tearDown();
+    }
+
+    @Test
+    public void testNothingRecordedWhenDisabled() {
+        BtLEMetrics.setEnabled(false);
+        final BtLEMetrics metrics = BtLEMetrics.forDevice("00:00:00:00:00:01");
+        metrics.reset();
+
+        metrics.onActionFinished(new WaitAction(0), System.nanoTime());
+        metrics.onBytesWritten(CHARACTERISTIC, 20);
+        metrics.onMtuChanged(247, 0);
+
+        assertTrue(metrics.getActionLatencies().isEmpty());
+        assertTrue(metrics.getWriteThroughput().isEmpty());
+        assertTrue(metrics.getEvents().isEmpty());
+    }
+
+    @Test
+    public void testRecordWhenEnabled() {
+        BtLEMetrics.setEnabled(true);
+        final BtLEMetrics metrics = BtLEMetrics.forDevice("00:00:00:00:00:02");
+        metrics.reset();
+
+        metrics.onActionFinished(new WaitAction(0), System.nanoTime());
+        metrics.onActionFinished(new WaitAction(0), System.nanoTime());
+        metrics.onBytesWritten(CHARACTERISTIC, 20);
+        metrics.onBytesWritten(CHARACTERISTIC, 12);
+        metrics.onBytesReceived(CHARACTERISTIC, 5);
+        metrics.onQueueDepth(3);
+        metrics.onMtuChanged(247, 0);
+
+        assertTrue(metrics.getActionLatencies().get("WaitAction").startsWith("count=2,"));
+        assertTrue(metrics.getWriteThroughput().get(CHARACTERISTIC.toString()).startsWith("count=2, bytes=32,"));
+        assertTrue(metrics.getReceiveThroughput().get(CHARACTERISTIC.toString()).startsWith("count=1, bytes=5,"));
+        assertTrue(metrics.getQueueDepth().endsWith("max=3"));
+        assertEquals(1, metrics.getEvents().size());
+        assertTrue(metrics.getEvents().get(0).endsWith("MTU changed to 247 SUCCESS"));
+    }
+
+    @Test
+    public void testThroughputExcludesIdleTime() {
+        final long second = TimeUnit.SECONDS.toNanos(1);
+        final BtLEMetrics.Throughput throughput = new BtLEMetrics.Throughput();
+
+        throughput.record(100, 0);
+        throughput.record(100, second / 2);
+        throughput.record(100, second);
+        // disconnected for a minute
+        throughput.record(100, 61 * second);
+        throughput.record(100, 61 * second + second / 2);
+
+        // 300 bytes after the first packet of each burst, in 1.5s
+        assertEquals(200, throughput.getRate(), 0.001);
+        // only the second burst is within the window
+        assertEquals(20, throughput.getRecentRate(62 * second), 0.001);
+        assertEquals(0, throughput.getRecentRate(120 * second), 0.001);
+    }
+}
@@ -1,8 +1,36 @@
 package nodomain.freeyourgadget.gadgetbridge.service.btle;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+import android.bluetooth.BluetoothAdapter;
+import android.bluetooth.BluetoothDevice;
+import android.bluetooth.BluetoothGatt;
+import android.bluetooth.BluetoothGattCallback;
+import android.bluetooth.BluetoothGattCharacteristic;
+
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import nodomain.freeyourgadget.gadgetbridge.impl.GBDevice;
+import nodomain.freeyourgadget.gadgetbridge.service.btle.actions.BulkWriteAction;
+import nodomain.freeyourgadget.gadgetbridge.service.btle.actions.WriteAction;
 import nodomain.freeyourgadget.gadgetbridge.test.TestBase;
+import nodomain.freeyourgadget.gadgetbridge.util.preferences.DevicePrefs;
 
 public class BtLEQueueTest extends TestBase {
 
@@ -20,4 +48,67 @@ public class BtLEQueueTest extends TestBase {
     public void testIsConnected() throws Exception {
         // TODO
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testRealtimeTransactionRunsBetweenBulkPackets() throws Exception {
+        final GBDevice gbDevice = createDummyGDevice("00:00:00:00:70");
+        final BluetoothGatt gatt = Mockito.mock(BluetoothGatt.class);
+        final BluetoothDevice remoteDevice = Mockito.mock(BluetoothDevice.class);
+        final ArgumentCaptor<BluetoothGattCallback> gattCallback = ArgumentCaptor.forClass(BluetoothGattCallback.class);
+        when(remoteDevice.connectGatt(any(), anyBoolean(), gattCallback.capture(), anyInt())).thenReturn(gatt);
+        final BluetoothAdapter adapter = Mockito.mock(BluetoothAdapter.class);
+        when(adapter.getRemoteDevice(anyString())).thenReturn(remoteDevice);
+        final AbstractBTLEDeviceSupport deviceSupport = Mockito.mock(AbstractBTLEDeviceSupport.class);
+        when(deviceSupport.getBluetoothAdapter()).thenReturn(adapter);
+        when(deviceSupport.getContext()).thenReturn(getContext());
+        when(deviceSupport.getDevicePrefs()).thenReturn(Mockito.mock(DevicePrefs.class));
+
+        final BtLEQueue queue = new BtLEQueue(gbDevice, Collections.emptySet(), deviceSupport);
+        assertTrue(queue.connect());
+        gbDevice.setState(GBDevice.State.INITIALIZED);
+
+        final List<String> written = Collections.synchronizedList(new ArrayList<>());
+        final CountDownLatch allWritten = new CountDownLatch(4);
+        final BluetoothGattCharacteristic bulkCharacteristic = mockCharacteristic("bulk", written);
+        final BluetoothGattCharacteristic realtimeCharacteristic = mockCharacteristic("realtime", written);
+
+        final Transaction realtime = new Transaction("realtime");
+        realtime.setPriority(TransactionPriority.REALTIME);
+        realtime.add(new WriteAction(realtimeCharacteristic, new byte[]{9}));
+
+        when(gatt.writeCharacteristic(any(BluetoothGattCharacteristic.class))).thenAnswer(invocation -> {
+            final BluetoothGattCharacteristic characteristic = invocation.getArgument(0);
+            if (written.size() == 1) {
+                // arrives while the first packet of the bulk write is pending
+                queue.add(realtime);
+            }
+            allWritten.countDown();
+            gattCallback.getValue().onCharacteristicWrite(gatt, characteristic, BluetoothGatt.GATT_SUCCESS);
+            return true;
+        });
+
+        final Transaction bulk = new Transaction("bulk");
+        bulk.setPriority(TransactionPriority.BULK);
+        bulk.add(new BulkWriteAction(bulkCharacteristic, new byte[]{0, 1, 2}, 1));
+        queue.add(bulk);
+
+        try {
+            assertTrue(allWritten.await(10, TimeUnit.SECONDS));
+            assertEquals(Arrays.asList("bulk 0", "realtime 9", "bulk 1", "bulk 2"), written);
+        } finally {
+            queue.dispose();
+        }
+    }
+
+    private static BluetoothGattCharacteristic mockCharacteristic(final String name, final List<String> written) {
+        final BluetoothGattCharacteristic characteristic = Mockito.mock(BluetoothGattCharacteristic.class);
+        when(characteristic.getUuid()).thenReturn(UUID.randomUUID());
+        when(characteristic.getProperties()).thenReturn(BluetoothGattCharacteristic.PROPERTY_WRITE);
+        when(characteristic.setValue(any(byte[].class))).thenAnswer(invocation -> {
+            final byte[] value = invocation.getArgument(0);
+            written.add(name + " " + value[0]);
+            return true;
+        });
+        return characteristic;
+    }
+}
@@ -0,0 +1,69 @@
+package nodomain.freeyourgadget.gadgetbridge.service.btle;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class TransactionSchedulerTest {
+    @Test
+    public void testLanesAreServedByPriority() {
+        final TransactionScheduler scheduler = new TransactionScheduler();
+        final Transaction bulk = createTransaction("bulk", TransactionPriority.BULK);
+        final Transaction interactive1 = createTransaction("interactive1", TransactionPriority.INTERACTIVE);
+        final Transaction interactive2 = createTransaction("interactive2", TransactionPriority.INTERACTIVE);
+        final Transaction realtime = createTransaction("realtime", TransactionPriority.REALTIME);
+
+        scheduler.addLast(bulk);
+        scheduler.addLast(interactive1);
+        scheduler.addLast(interactive2);
+        scheduler.addLast(realtime);
+
+        assertSame(realtime, scheduler.poll());
+        assertSame(interactive1, scheduler.poll());
+        assertSame(interactive2, scheduler.poll());
+        assertSame(bulk, scheduler.poll());
+        assertTrue(scheduler.isEmpty());
+    }
+
+    @Test
+    public void testAddFirstOnlyWithinLane() {
+        final TransactionScheduler scheduler = new TransactionScheduler();
+        final Transaction realtime = createTransaction("realtime", TransactionPriority.REALTIME);
+        final Transaction interactive = createTransaction("interactive", TransactionPriority.INTERACTIVE);
+        final Transaction immediate = createTransaction("immediate", TransactionPriority.INTERACTIVE);
+
+        scheduler.addLast(interactive);
+        scheduler.addLast(realtime);
+        scheduler.addFirst(immediate);
+
+        assertSame(realtime, scheduler.poll());
+        assertSame(immediate, scheduler.poll());
+        assertSame(interactive, scheduler.poll());
+    }
+
+    @Test
+    public void testPollHigherThan() {
+        final TransactionScheduler scheduler = new TransactionScheduler();
+        final Transaction bulk = createTransaction("bulk", TransactionPriority.BULK);
+        final Transaction interactive = createTransaction("interactive", TransactionPriority.INTERACTIVE);
+
+        scheduler.addLast(bulk);
+        assertNull(scheduler.pollHigherThan(TransactionPriority.BULK));
+
+        scheduler.addLast(interactive);
+        assertNull(scheduler.pollHigherThan(TransactionPriority.INTERACTIVE));
+        assertSame(interactive, scheduler.pollHigherThan(TransactionPriority.BULK));
+        assertNull(scheduler.pollHigherThan(TransactionPriority.BULK));
+
+        scheduler.clear();
+        assertTrue(scheduler.isEmpty());
+    }
+
+    private static Transaction createTransaction(final String name, final TransactionPriority priority) {
+        final Transaction transaction = new Transaction(name);
+        transaction.setPriority(priority);
+        return transaction;
+    }
+}
@@ -0,0 +1,89 @@
+package nodomain.freeyourgadget.gadgetbridge.service.btle.actions;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import android.bluetooth.BluetoothGatt;
+import android.bluetooth.BluetoothGattCharacteristic;
+
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.util.UUID;
+
+import nodomain.freeyourgadget.gadgetbridge.test.TestBase;
+
+public class BulkWriteActionTest extends TestBase {
+    private static BluetoothGattCharacteristic mockCharacteristic(final int properties) {
+        final BluetoothGattCharacteristic characteristic = Mockito.mock(BluetoothGattCharacteristic.class);
+        when(characteristic.getUuid()).thenReturn(UUID.randomUUID());
+        when(characteristic.getProperties()).thenReturn(properties);
+        when(characteristic.setValue(any(byte[].class))).thenReturn(true);
+        return characteristic;
+    }
+
+    @Test
+    public void testChunks() {
+        final BulkWriteAction action = new BulkWriteAction(mockCharacteristic(BluetoothGattCharacteristic.PROPERTY_WRITE), new byte[]{1, 2, 3, 4, 5}, 2);
+
+        assertEquals(3, action.getChunkCount());
+        assertEquals(5, action.getLength());
+        assertArrayEquals(new byte[]{1, 2}, action.getChunk(0));
+        assertArrayEquals(new byte[]{5}, action.getChunk(2));
+    }
+
+    @Test
+    public void testOneChunkPerRun() {
+        final BluetoothGattCharacteristic characteristic = mockCharacteristic(BluetoothGattCharacteristic.PROPERTY_WRITE_NO_RESPONSE);
+        final BluetoothGatt gatt = Mockito.mock(BluetoothGatt.class);
+        when(gatt.writeCharacteristic(characteristic)).thenReturn(true);
+
+        final BulkWriteAction action = new BulkWriteAction(characteristic, new byte[]{1, 2, 3}, 2);
+        assertTrue(action.hasNextChunk());
+        assertTrue(action.run(gatt));
+        verify(gatt, times(1)).writeCharacteristic(characteristic);
+        assertTrue(action.hasNextChunk());
+        assertTrue(action.run(gatt));
+        assertFalse(action.hasNextChunk());
+        verify(characteristic).setWriteType(BluetoothGattCharacteristic.WRITE_TYPE_NO_RESPONSE);
+    }
+
+    @Test
+    public void testRetryWhileBusy() {
+        final BluetoothGattCharacteristic characteristic = mockCharacteristic(BluetoothGattCharacteristic.PROPERTY_WRITE);
+        final BluetoothGatt gatt = Mockito.mock(BluetoothGatt.class);
+        when(gatt.writeCharacteristic(characteristic)).thenReturn(false, false, true);
+
+        final BulkWriteAction action = new BulkWriteAction(characteristic, new byte[]{1, 2, 3}, 3);
+        assertTrue(action.run(gatt));
+        verify(gatt, times(3)).writeCharacteristic(characteristic);
+        assertFalse(action.hasNextChunk());
+    }
+
+    @Test
+    public void testGiveUpWhenBusy() {
+        final BluetoothGattCharacteristic characteristic = mockCharacteristic(BluetoothGattCharacteristic.PROPERTY_WRITE);
+        final BluetoothGatt gatt = Mockito.mock(BluetoothGatt.class);
+        when(gatt.writeCharacteristic(characteristic)).thenReturn(false);
+
+        final BulkWriteAction action = new BulkWriteAction(characteristic, new byte[]{1, 2, 3}, 3);
+        assertFalse(action.run(gatt));
+        assertTrue(action.hasNextChunk());
+    }
+
+    @Test
+    public void testNoRetryWhenNotWritable() {
+        final BluetoothGattCharacteristic characteristic = mockCharacteristic(BluetoothGattCharacteristic.PROPERTY_READ);
+        final BluetoothGatt gatt = Mockito.mock(BluetoothGatt.class);
+
+        final BulkWriteAction action = new BulkWriteAction(characteristic, new byte[]{1, 2, 3}, 3);
+        assertFalse(action.run(gatt));
+        verify(gatt, times(0)).writeCharacteristic(characteristic);
+    }
+}
@@ -24,6 +24,7 @@ import org.junit.Assert;
 import org.junit.BeforeClass;
 import org.junit.Test;
 
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
@@ -39,6 +40,7 @@ import java.time.Instant;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Calendar;
 import java.util.GregorianCalendar;
 import java.util.List;
@@ -53,6 +55,7 @@ import nodomain.freeyourgadget.gadgetbridge.service.devices.garmin.deviceevents.
 import nodomain.freeyourgadget.gadgetbridge.service.devices.garmin.fit.FieldDefinition;
 import nodomain.freeyourgadget.gadgetbridge.service.devices.garmin.fit.FitFile;
 import nodomain.freeyourgadget.gadgetbridge.service.devices.garmin.fit.FitLocalMessageBuilder;
+import nodomain.freeyourgadget.gadgetbridge.service.devices.garmin.fit.FitStreamDecoder;
 import nodomain.freeyourgadget.gadgetbridge.service.devices.garmin.fit.GlobalFITMessage;
 import nodomain.freeyourgadget.gadgetbridge.service.devices.garmin.fit.RecordData;
 import nodomain.freeyourgadget.gadgetbridge.service.devices.garmin.fit.RecordDefinition;
@@ -528,6 +531,60 @@ public class GarminSupportTest extends TestBase {
         getAllFitFieldValues(fitFile);
     }
 
+    @Test
+    public void TestFitStreamDecoder() throws FitParseException, IOException {
+        byte[] fileContents = readBinaryResource("/TestFitMessageTypeParsing.fit");
+
+        final List<RecordData> streamed = new ArrayList<>();
+        new FitStreamDecoder(new ByteArrayInputStream(fileContents)).decode(streamed::add);
+        Assert.assertEquals(FitFile.parseIncoming(fileContents).toString(), streamed.toString());
+
+        final byte[] truncated = Arrays.copyOf(fileContents, fileContents.length / 2);
+        Assert.assertThrows(FitParseException.class, () -> new FitStreamDecoder(new ByteArrayInputStream(truncated)).decode(record -> {
+        }));
+
+        final byte[] corrupted = fileContents.clone();
+        corrupted[corrupted.length - 1] ^= 0x01;
+        Assert.assertThrows(FitParseException.class, () -> FitFile.parseIncoming(corrupted));
+
+        // bytes after the CRC are only logged
+        final byte[] trailing = Arrays.copyOf(fileContents, fileContents.length + 4);
+        Assert.assertEquals(streamed.toString(), FitFile.parseIncoming(trailing).getRecords().toString());
+    }
+
+    @Test
+    public void TestFitPrimitiveAccessors() throws Exception {
+        byte[] fileContents = readBinaryResource("/TestFitMessageTypeParsing.fit");
+        FitFile fitFile = FitFile.parseIncoming(fileContents);
+
+        int checked = 0;
+        for (RecordData record : fitFile.getRecords()) {
+            for (Method method : record.getClass().getDeclaredMethods()) {
+                if (!method.getName().startsWith("get") || method.getParameterCount() != 1 || !method.getParameterTypes()[0].isPrimitive()) {
+                    continue;
+                }
+                final Method boxedMethod = record.getClass().getMethod(method.getName());
+                final Number boxed = (Number) boxedMethod.invoke(record);
+                final Class<?> type = method.getReturnType();
+                final String message = method.getName() + " of " + record;
+
+                if (type == int.class) {
+                    Assert.assertEquals(message, boxed != null ? boxed.intValue() : -42, (int) method.invoke(record, -42));
+                } else if (type == long.class) {
+                    Assert.assertEquals(message, boxed != null ? boxed.longValue() : -42L, (long) method.invoke(record, -42L));
+                } else if (type == float.class) {
+                    Assert.assertEquals(message, boxed != null ? boxed.floatValue() : -42f, (float) method.invoke(record, -42f), 0);
+                } else if (type == double.class) {
+                    Assert.assertEquals(message, boxed != null ? boxed.doubleValue() : -42d, (double) method.invoke(record, -42d), 0);
+                } else {
+                    Assert.fail("Unexpected type " + type + " for " + message);
+                }
+                checked++;
+            }
+        }
+        Assert.assertTrue(checked > 0);
+    }
+
     /// encode->decode three locations / waypoints in a Lctns.fit compliant format
     @Test
     public void TestFitLocationEncoding() throws FitParseException, IOException {
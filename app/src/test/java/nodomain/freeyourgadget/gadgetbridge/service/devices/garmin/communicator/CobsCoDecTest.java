@@ -1,8 +1,12 @@
 package nodomain.freeyourgadget.gadgetbridge.service.devices.garmin.communicator;
 
+import org.apache.commons.lang3.ArrayUtils;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.util.Arrays;
+import java.util.Random;
+
 import nodomain.freeyourgadget.gadgetbridge.util.GB;
 
 public class CobsCoDecTest {
@@ -110,4 +114,61 @@ public class CobsCoDecTest {
             Assert.assertArrayEquals(payload, decodedData);
         }
     }
+
+    @Test
+    public void testTrailingZeros() {
+        final byte[] payload = new byte[]{0, 0, 0, 0};
+        Assert.assertArrayEquals(GB.hexStringToByteArray("00010101010100"), CobsCoDec.encode(payload));
+
+        cobsCoDec.receivedBytes(CobsCoDec.encode(payload));
+        Assert.assertArrayEquals(payload, cobsCoDec.retrieveMessage());
+    }
+
+    @Test
+    public void testEncodeWithHeadroom() {
+        final byte[] payload = GB.hexStringToByteArray("2C00A0139600310F");
+        final byte[] encoded = CobsCoDec.encode(payload, 1);
+        Assert.assertArrayEquals(CobsCoDec.encode(payload), Arrays.copyOfRange(encoded, 1, encoded.length));
+    }
+
+    @Test
+    public void testLargeFrameInChunks() {
+        final byte[] payload = new byte[50_000];
+        new Random(42).nextBytes(payload);
+        final byte[] encoded = CobsCoDec.encode(payload);
+
+        for (int i = 0; i < encoded.length; i += 244) {
+            Assert.assertNull(cobsCoDec.retrieveMessage());
+            cobsCoDec.receivedBytes(encoded, i, Math.min(244, encoded.length - i));
+        }
+
+        Assert.assertArrayEquals(payload, cobsCoDec.retrieveMessage());
+    }
+
+    @Test
+    public void testTwoFramesInOneChunk() {
+        final byte[] first = GB.hexStringToByteArray("0102000304");
+        final byte[] second = GB.hexStringToByteArray("05000006");
+
+        cobsCoDec.receivedBytes(ArrayUtils.addAll(CobsCoDec.encode(first), CobsCoDec.encode(second)));
+        Assert.assertArrayEquals(first, cobsCoDec.retrieveMessage());
+        Assert.assertNull(cobsCoDec.retrieveMessage());
+
+        // the second frame is decoded once more bytes arrive
+        cobsCoDec.receivedBytes(new byte[0]);
+        Assert.assertArrayEquals(second, cobsCoDec.retrieveMessage());
+    }
+
+    @Test
+    public void testOversizedFrameIsDiscarded() {
+        final byte[] oversized = new byte[CobsCoDec.MAX_FRAME_SIZE + 1];
+        Arrays.fill(oversized, (byte) 0x55);
+        final byte[] payload = GB.hexStringToByteArray("0102000304");
+
+        cobsCoDec.receivedBytes(CobsCoDec.encode(oversized));
+        Assert.assertNull(cobsCoDec.retrieveMessage());
+
+        cobsCoDec.receivedBytes(CobsCoDec.encode(payload));
+        Assert.assertArrayEquals(payload, cobsCoDec.retrieveMessage());
+    }
 }
@@ -0,0 +1,116 @@
+package nodomain.freeyourgadget.gadgetbridge.service.devices.garmin.fit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.robolectric.Shadows.shadowOf;
+
+import android.os.Looper;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import nodomain.freeyourgadget.gadgetbridge.GBApplication;
+import nodomain.freeyourgadget.gadgetbridge.devices.PendingFileProvider;
+import nodomain.freeyourgadget.gadgetbridge.entities.GarminRespiratoryRateSampleDao;
+import nodomain.freeyourgadget.gadgetbridge.entities.PendingFile;
+import nodomain.freeyourgadget.gadgetbridge.impl.GBDevice;
+import nodomain.freeyourgadget.gadgetbridge.service.devices.garmin.FileType;
+import nodomain.freeyourgadget.gadgetbridge.service.devices.garmin.fit.messages.FitFileId;
+import nodomain.freeyourgadget.gadgetbridge.service.devices.garmin.fit.messages.FitRespirationRate;
+import nodomain.freeyourgadget.gadgetbridge.service.devices.garmin.fit.messages.FitSpo2;
+import nodomain.freeyourgadget.gadgetbridge.test.TestBase;
+
+public class FitAsyncProcessorTest extends TestBase {
+    @Rule
+    public TemporaryFolder tmp = new TemporaryFolder();
+
+    @Test
+    public void testFailedFileIsRolledBack() throws Exception {
+        final GBDevice device = createDummyGDevice("00:00:00:00:60");
+        final PendingFileProvider pendingFileProvider = new PendingFileProvider(device, daoSession);
+
+        // spo2 samples are persisted before the respiratory rate samples, which fail
+        final File failing = createMonitorFile(1000000000L, true);
+        final File succeeding = createMonitorFile(1000003600L, false);
+        pendingFileProvider.addPendingFile(failing.getPath());
+        pendingFileProvider.addPendingFile(succeeding.getPath());
+        daoSession.getDatabase().execSQL("CREATE TRIGGER FAIL_RESPIRATORY_RATE BEFORE INSERT ON " +
+                GarminRespiratoryRateSampleDao.TABLENAME + " BEGIN SELECT RAISE(ABORT, 'test'); END");
+
+        final List<File> failedFiles = process(device, Arrays.asList(failing, succeeding));
+
+        assertEquals(Collections.singletonList(failing), failedFiles);
+        final List<PendingFile> pendingFiles = pendingFileProvider.getAllPendingFiles();
+        assertEquals(1, pendingFiles.size());
+        assertEquals(failing.getPath(), pendingFiles.get(0).getPath());
+        // only the spo2 sample of the second file is left
+        assertEquals(1, daoSession.getGarminSpo2SampleDao().count());
+        assertEquals(0, daoSession.getGarminRespiratoryRateSampleDao().count());
+    }
+
+    private List<File> process(final GBDevice device, final List<File> files) throws InterruptedException {
+        final AtomicReference<List<File>> failedFiles = new AtomicReference<>();
+        // the processor needs write access from its own thread
+        GBApplication.releaseDB();
+        try {
+            new FitAsyncProcessor(getContext(), device).process(files, new FitAsyncProcessor.Callback() {
+                @Override
+                public void onProgress(final int perc) {
+                }
+
+                @Override
+                public void onFinish(final List<File> failed) {
+                    failedFiles.set(new ArrayList<>(failed));
+                }
+            });
+
+            final long deadline = System.currentTimeMillis() + 10000L;
+            while (failedFiles.get() == null && System.currentTimeMillis() < deadline) {
+                shadowOf(Looper.getMainLooper()).idle();
+                Thread.sleep(10);
+            }
+        } finally {
+            GBApplication.acquireDB();
+        }
+        assertNotNull("processor did not finish", failedFiles.get());
+        return failedFiles.get();
+    }
+
+    private File createMonitorFile(final long timestamp, final boolean withRespiratoryRate) throws IOException {
+        final List<RecordData> records = new ArrayList<>();
+
+        final FitFileId.Builder fileId = new FitFileId.Builder();
+        fileId.setType(FileType.FILETYPE.MONITOR);
+        fileId.setManufacturer(1);
+        fileId.setTimeCreated(timestamp);
+        records.add(fileId.build());
+
+        final FitSpo2.Builder spo2 = new FitSpo2.Builder();
+        spo2.setTimestamp(timestamp);
+        spo2.setReadingSpo2(97);
+        records.add(spo2.build());
+
+        if (withRespiratoryRate) {
+            final FitRespirationRate.Builder respirationRate = new FitRespirationRate.Builder();
+            respirationRate.setTimestamp(timestamp);
+            respirationRate.setRespirationRate(14.5f);
+            records.add(respirationRate.build());
+        }
+
+        final File file = tmp.newFile(timestamp + ".fit");
+        try (FileOutputStream out = new FileOutputStream(file)) {
+            out.write(new FitFile(records).getOutgoingMessage());
+        }
+        return file;
+    }
+}
@@ -0,0 +1,191 @@
+package nodomain.freeyourgadget.gadgetbridge.service.devices.xiaomi.activity;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import androidx.annotation.NonNull;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.InOrder;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import nodomain.freeyourgadget.gadgetbridge.service.devices.xiaomi.XiaomiSupport;
+import nodomain.freeyourgadget.gadgetbridge.service.devices.xiaomi.services.XiaomiHealthService;
+import nodomain.freeyourgadget.gadgetbridge.test.TestBase;
+import nodomain.freeyourgadget.gadgetbridge.util.CheckSums;
+
+public class XiaomiActivityFileFetcherTest extends TestBase {
+    private XiaomiHealthService healthService;
+    private ManualExecutor parser;
+    private XiaomiActivityFileFetcher fetcher;
+
+    @Override
+    @Before
+    public void setUp() throws Exception {
+        super.setUp();
+        final XiaomiSupport support = mock(XiaomiSupport.class);
+        when(support.getDevice()).thenReturn(createDummyGDevice("00:00:00:00:50"));
+        when(support.getContext()).thenReturn(getContext());
+        healthService = mock(XiaomiHealthService.class);
+        when(healthService.getSupport()).thenReturn(support);
+
+        parser = new ManualExecutor();
+        fetcher = new XiaomiActivityFileFetcher(healthService) {
+            @Override
+            protected ExecutorService createParserExecutor() {
+                return parser;
+            }
+
+            @Override
+            protected boolean dumpBytesToExternalStorage(final XiaomiActivityFileId fileId, final byte[] bytes) {
+                return true;
+            }
+        };
+    }
+
+    @Test
+    public void testAckAfterParseAndThrottle() {
+        final XiaomiActivityFileId file1 = createFileId(1000);
+        final XiaomiActivityFileId file2 = createFileId(2000);
+        final XiaomiActivityFileId file3 = createFileId(3000);
+
+        fetcher.fetch(Arrays.asList(file1, file2, file3));
+        fetcher.addChunk(createChunk(file1));
+        fetcher.addChunk(createChunk(file2));
+
+        // two files wait for the parser, nothing was acked yet
+        verify(healthService, never()).requestRecordedData(file3);
+        verify(healthService, never()).ackRecordedData(any());
+
+        parser.runNext();
+        fetcher.addChunk(createChunk(file3));
+        parser.runNext();
+        parser.runNext();
+
+        final InOrder inOrder = inOrder(healthService);
+        inOrder.verify(healthService).requestRecordedData(file1);
+        inOrder.verify(healthService).requestRecordedData(file2);
+        inOrder.verify(healthService).ackRecordedData(sameFile(file1));
+        inOrder.verify(healthService).requestRecordedData(file3);
+        inOrder.verify(healthService).ackRecordedData(sameFile(file2));
+        inOrder.verify(healthService).ackRecordedData(sameFile(file3));
+        verify(healthService, times(1)).requestRecordedData(file3);
+    }
+
+    @Test
+    public void testNoAckAfterDispose() {
+        final XiaomiActivityFileId file1 = createFileId(1000);
+        final XiaomiActivityFileId file2 = createFileId(2000);
+
+        fetcher.fetch(Arrays.asList(file1, file2));
+        fetcher.addChunk(createChunk(file1));
+        fetcher.dispose();
+        parser.runNext();
+
+        verify(healthService, never()).ackRecordedData(any());
+        verify(healthService, times(1)).requestRecordedData(file2);
+    }
+
+    @Test
+    public void testFetchAfterReset() {
+        final XiaomiActivityFileId file1 = createFileId(1000);
+        final XiaomiActivityFileId file2 = createFileId(2000);
+
+        fetcher.fetch(Arrays.asList(file1, file2));
+        fetcher.addChunk(createChunk(file1));
+
+        // reconnected while file1 was being parsed
+        fetcher.reset();
+        fetcher.fetch(Collections.singletonList(file2));
+        parser.runNext();
+
+        verify(healthService, never()).ackRecordedData(any());
+        verify(healthService, times(2)).requestRecordedData(file2);
+    }
+
+    private static XiaomiActivityFileId createFileId(final long timestampSeconds) {
+        // an activity subtype without a parser, so that nothing is written to the database
+        return new XiaomiActivityFileId(new Date(timestampSeconds * 1000L), 0, 0, 0x1f, 0, 1);
+    }
+
+    private static XiaomiActivityFileId sameFile(final XiaomiActivityFileId fileId) {
+        return argThat(other -> other != null && other.compareTo(fileId) == 0);
+    }
+
+    private static byte[] createChunk(final XiaomiActivityFileId fileId) {
+        final ByteBuffer data = ByteBuffer.allocate(16).order(ByteOrder.LITTLE_ENDIAN);
+        data.put(fileId.toBytes());
+        data.put((byte) 0);
+        data.putInt(0);
+        data.putInt(CheckSums.getCRC32(data.array(), 0, 12));
+
+        final ByteBuffer chunk = ByteBuffer.allocate(4 + 16).order(ByteOrder.LITTLE_ENDIAN);
+        chunk.putShort((short) 1);
+        chunk.putShort((short) 1);
+        chunk.put(data.array());
+        return chunk.array();
+    }
+
+    /**
+     * Runs the parse tasks only when the test asks for it.
+     */
+    private static class ManualExecutor extends AbstractExecutorService {
+        private final Queue<Runnable> tasks = new ArrayDeque<>();
+        private boolean shutdown = false;
+
+        void runNext() {
+            tasks.remove().run();
+        }
+
+        @Override
+        public void execute(@NonNull final Runnable command) {
+            tasks.add(command);
+        }
+
+        @Override
+        public void shutdown() {
+            // the queued tasks still run, like in a real executor
+            shutdown = true;
+        }
+
+        @NonNull
+        @Override
+        public List<Runnable> shutdownNow() {
+            shutdown = true;
+            return Collections.emptyList();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return shutdown;
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return shutdown && tasks.isEmpty();
+        }
+
+        @Override
+        public boolean awaitTermination(final long timeout, @NonNull final TimeUnit unit) {
+            return isTerminated();
+        }
+    }
+}
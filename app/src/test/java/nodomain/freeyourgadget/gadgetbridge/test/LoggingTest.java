@@ -2,8 +2,11 @@ package nodomain.freeyourgadget.gadgetbridge.test;
 
 import org.junit.After;
 import org.junit.Test;
+import org.slf4j.LoggerFactory;
 
 import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 
 import androidx.annotation.NonNull;
 import nodomain.freeyourgadget.gadgetbridge.GBApplication;
@@ -11,6 +14,7 @@ import nodomain.freeyourgadget.gadgetbridge.Logging;
 import nodomain.freeyourgadget.gadgetbridge.util.FileUtils;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
@@ -79,4 +83,37 @@ public class LoggingTest extends TestBase {
         tempOut = Logging.formatBytes(new byte[] {0xa, 1, (byte) 255});
         assertEquals("0a 01 ff", tempOut);
     }
+
+    @Test
+    public void testLazyHexdump() {
+        assertEquals("0A01FF", Logging.lazyHexdump(new byte[] {0xa, 1, (byte) 255}).toString());
+        assertEquals("(null)", Logging.lazyHexdump(null).toString());
+    }
+
+    @Test
+    public void testDebugLogging() {
+        final org.slf4j.Logger logger = LoggerFactory.getLogger(LoggingTest.class);
+        try {
+            logging.setDebugLogging(true);
+            assertTrue(logger.isDebugEnabled());
+
+            logging.setDebugLogging(false);
+            assertFalse(logger.isDebugEnabled());
+            assertTrue(logger.isInfoEnabled());
+        } finally {
+            logging.setDebugLogging(false);
+        }
+    }
+
+    @Test
+    public void testFlush() throws Exception {
+        logging.setupLogging(true);
+        LoggerFactory.getLogger(LoggingTest.class).info("flushed line");
+        logging.flush();
+        assertTrue(logging.getFileLogger().isStarted());
+
+        final File logFile = new File(logging.getLogPath());
+        final String content = new String(Files.readAllBytes(logFile.toPath()), StandardCharsets.UTF_8);
+        assertTrue(content.contains("flushed line"));
+    }
 }
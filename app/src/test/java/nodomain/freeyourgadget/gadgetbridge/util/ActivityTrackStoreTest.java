@@ -0,0 +1,114 @@
+package nodomain.freeyourgadget.gadgetbridge.util;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+
+import nodomain.freeyourgadget.gadgetbridge.model.ActivityPoint;
+import nodomain.freeyourgadget.gadgetbridge.model.GPSCoordinate;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class ActivityTrackStoreTest {
+    @Rule
+    public TemporaryFolder tmp = new TemporaryFolder();
+
+    @Test
+    public void testRoundTrip() throws IOException {
+        final File fitFile = createFitFile();
+        final File trackFile = ActivityTrackStore.getTrackFile(tmp.getRoot(), fitFile);
+
+        final ActivityPoint located = new ActivityPoint(new Date(1700000000000L));
+        located.setLocation(new GPSCoordinate(-1.5754310, 54.8591470, 29.2, 2.5, GPSCoordinate.UNKNOWN_DOP, GPSCoordinate.UNKNOWN_DOP));
+        located.setHeartRate(92);
+        located.setSpeed(0.5f);
+        located.setCadence(80);
+        located.setPower(250);
+        located.setRespiratoryRate(14.5f);
+        located.setTemperature(11);
+        final ActivityPoint notLocated = new ActivityPoint(new Date(1700000001000L));
+        notLocated.setHeartRate(93);
+
+        ActivityTrackStore.write(trackFile, fitFile, ActivityTrackStore.Track.of(Arrays.asList(located, notLocated)));
+        final ActivityTrackStore.Track track = ActivityTrackStore.read(trackFile, fitFile);
+        assertNotNull(track);
+        assertEquals(2, track.size());
+        assertTrue(track.hasAnyLocation());
+        assertTrue(track.hasLocation(0));
+        assertEquals(54.8591470, track.getLatitude(0), 0);
+        assertEquals(92, track.getHeartRate(0));
+        assertFalse(track.hasLocation(1));
+        assertNull(track.getLocation(1));
+        assertEquals(93, track.getHeartRate(1));
+
+        final List<ActivityPoint> points = track.toActivityPoints();
+        final ActivityPoint first = points.get(0);
+        assertEquals(located.getTime(), first.getTime());
+        assertEquals(54.8591470, first.getLocation().getLatitude(), 0);
+        assertEquals(-1.5754310, first.getLocation().getLongitude(), 0);
+        assertEquals(29.2, first.getLocation().getAltitude(), 0);
+        assertEquals(2.5, first.getLocation().getHdop(), 0);
+        assertFalse(first.getLocation().hasVdop());
+        assertEquals(92, first.getHeartRate());
+        assertEquals(0.5f, first.getSpeed(), 0);
+        assertEquals(80, first.getCadence());
+        assertEquals(250, first.getPower());
+        assertEquals(14.5f, first.getRespiratoryRate(), 0);
+        assertEquals(11, first.getTemperature(), 0);
+        assertEquals(-1, first.getDepth(), 0);
+
+        final ActivityPoint second = points.get(1);
+        assertEquals(notLocated.getTime(), second.getTime());
+        assertNull(second.getLocation());
+        assertEquals(93, second.getHeartRate());
+        assertEquals(-1, second.getSpeed(), 0);
+        assertEquals(-1, second.getCadence());
+        assertEquals(-273, second.getTemperature(), 0);
+    }
+
+    @Test
+    public void testEmptyTrack() throws IOException {
+        final File fitFile = createFitFile();
+        final File trackFile = ActivityTrackStore.getTrackFile(tmp.getRoot(), fitFile);
+
+        ActivityTrackStore.write(trackFile, fitFile, ActivityTrackStore.Track.of(Arrays.asList()));
+        final ActivityTrackStore.Track track = ActivityTrackStore.read(trackFile, fitFile);
+        assertNotNull(track);
+        assertEquals(0, track.size());
+        assertFalse(track.hasAnyLocation());
+    }
+
+    @Test
+    public void testStaleTrackIsIgnored() throws IOException {
+        final File fitFile = createFitFile();
+        final File trackFile = ActivityTrackStore.getTrackFile(tmp.getRoot(), fitFile);
+        assertNull(ActivityTrackStore.read(trackFile, fitFile));
+
+        ActivityTrackStore.write(trackFile, fitFile, ActivityTrackStore.Track.of(Arrays.asList(new ActivityPoint(new Date()))));
+        assertNotNull(ActivityTrackStore.read(trackFile, fitFile));
+
+        try (FileOutputStream fos = new FileOutputStream(fitFile, true)) {
+            fos.write(new byte[]{1, 2, 3});
+        }
+        assertNull(ActivityTrackStore.read(trackFile, fitFile));
+    }
+
+    private File createFitFile() throws IOException {
+        final File fitFile = tmp.newFile("ACTIVITY.fit");
+        try (FileOutputStream fos = new FileOutputStream(fitFile)) {
+            fos.write(new byte[]{14, 16, 0, 0});
+        }
+        return fitFile;
+    }
+}
@@ -0,0 +1,63 @@
+package nodomain.freeyourgadget.gadgetbridge.util.healthconnect
+
+import androidx.health.connect.client.records.HeartRateRecord
+import androidx.health.connect.client.records.StepsRecord
+import nodomain.freeyourgadget.gadgetbridge.util.healthconnect.HealthConnectPermissionManager.HealthConnectDataType
+import org.junit.Assert.*
+import org.junit.Test
+import java.time.Instant
+
+class HealthConnectWatermarksTest {
+    private val sliceStart = Instant.ofEpochSecond(1_700_000_000)
+    private val sliceEnd = sliceStart.plusSeconds(24 * 60 * 60)
+    private val steps = HealthConnectWatermarks.key(HealthConnectDataType.ACTIVITY, StepsRecord::class)
+    private val heartRate = HealthConnectWatermarks.key(HealthConnectDataType.ACTIVITY, HeartRateRecord::class)
+
+    @Test
+    fun testKey() {
+        assertEquals("ACTIVITY/StepsRecord", steps)
+    }
+
+    @Test
+    fun testPendingStartWithoutWatermark() {
+        val watermarks = HealthConnectWatermarks()
+
+        assertEquals(sliceStart, watermarks.getPendingStart(steps, sliceStart, sliceEnd))
+    }
+
+    @Test
+    fun testPendingStartAfterWatermark() {
+        val watermarks = HealthConnectWatermarks()
+        watermarks.advance(steps, sliceStart.plusSeconds(3600))
+
+        // the sample at the watermark was already exported
+        assertEquals(sliceStart.plusSeconds(3600).plusMillis(1), watermarks.getPendingStart(steps, sliceStart, sliceEnd))
+        assertEquals(sliceStart, watermarks.getPendingStart(heartRate, sliceStart, sliceEnd))
+    }
+
+    @Test
+    fun testSliceBoundaryIsNotExportedTwice() {
+        val watermarks = HealthConnectWatermarks()
+        watermarks.advance(steps, sliceStart)
+
+        assertEquals(sliceStart.plusMillis(1), watermarks.getPendingStart(steps, sliceStart, sliceEnd))
+    }
+
+    @Test
+    fun testExportedSliceIsSkipped() {
+        val watermarks = HealthConnectWatermarks()
+        watermarks.advance(steps, sliceEnd)
+
+        assertNull(watermarks.getPendingStart(steps, sliceStart, sliceEnd))
+        assertNull(watermarks.getPendingStart(steps, sliceStart, sliceStart.plusSeconds(60)))
+    }
+
+    @Test
+    fun testWatermarkNeverGoesBack() {
+        val watermarks = HealthConnectWatermarks()
+        watermarks.advance(steps, sliceEnd)
+        watermarks.advance(steps, sliceStart)
+
+        assertEquals(sliceEnd, watermarks.get(steps))
+    }
+}
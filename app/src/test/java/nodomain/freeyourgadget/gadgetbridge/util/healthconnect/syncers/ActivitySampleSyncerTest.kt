@@ -0,0 +1,106 @@
+package nodomain.freeyourgadget.gadgetbridge.util.healthconnect.syncers
+
+import androidx.health.connect.client.HealthConnectClient
+import androidx.health.connect.client.permission.HealthPermission
+import androidx.health.connect.client.records.HeartRateRecord
+import androidx.health.connect.client.records.Record
+import androidx.health.connect.client.records.StepsRecord
+import androidx.health.connect.client.records.metadata.Device
+import androidx.health.connect.client.records.metadata.Metadata
+import androidx.health.connect.client.response.InsertRecordsResponse
+import kotlinx.coroutines.runBlocking
+import nodomain.freeyourgadget.gadgetbridge.entities.MiBandActivitySample
+import nodomain.freeyourgadget.gadgetbridge.impl.GBDevice
+import nodomain.freeyourgadget.gadgetbridge.model.ActivitySample
+import nodomain.freeyourgadget.gadgetbridge.test.TestBase
+import nodomain.freeyourgadget.gadgetbridge.util.healthconnect.HealthConnectUtils
+import org.junit.Assert.*
+import org.junit.Test
+import org.mockito.Mockito
+import java.time.Instant
+import java.time.ZoneOffset
+
+class ActivitySampleSyncerTest : TestBase() {
+    private val sliceStart = Instant.ofEpochSecond(1_700_000_040)
+    private val sliceEnd = sliceStart.plusSeconds(24 * 60 * 60)
+    private val metadata = Metadata.autoRecorded(Device(type = Device.TYPE_WATCH))
+    private val permissions = setOf(
+        HealthPermission.getWritePermission(StepsRecord::class),
+        HealthPermission.getWritePermission(HeartRateRecord::class)
+    )
+
+    @Test
+    fun testStepsAreInsertedInChunks() = runBlocking {
+        val client = FakeHealthConnectClient()
+        val samples = createSamples(sliceStart, 450)
+
+        val stats = StepsSyncer.sync(client, device(), metadata, ZoneOffset.UTC, sliceStart, sliceEnd, permissions, samples)
+
+        assertEquals(450, stats.recordsSynced)
+        assertEquals(
+            listOf(HealthConnectUtils.CHUNK_SIZE, HealthConnectUtils.CHUNK_SIZE, 450 - 2 * HealthConnectUtils.CHUNK_SIZE),
+            client.inserted.map { it.size }
+        )
+    }
+
+    @Test
+    fun testOnlyStepsAfterPendingStartAreInserted() = runBlocking {
+        val client = FakeHealthConnectClient()
+        val samples = createSamples(sliceStart, 10)
+        // the samples until the 4th one were exported already
+        val pendingStart = Instant.ofEpochSecond(samples[3].timestamp.toLong()).plusMillis(1)
+
+        val stats = StepsSyncer.sync(client, device(), metadata, ZoneOffset.UTC, pendingStart, sliceEnd, permissions, samples)
+
+        assertEquals(6, stats.recordsSynced)
+        val records = client.inserted.flatten().map { it as StepsRecord }
+        assertEquals(Instant.ofEpochSecond(samples[4].timestamp.toLong()), records.first().endTime)
+    }
+
+    @Test
+    fun testUnsortedSamplesAreSorted() = runBlocking {
+        val client = FakeHealthConnectClient()
+        val samples = createSamples(sliceStart, 5).reversed()
+
+        val stats = HeartRateSyncer.sync(client, device(), metadata, ZoneOffset.UTC, sliceStart, sliceEnd, permissions, samples)
+
+        assertEquals(1, stats.recordsSynced)
+        val record = client.inserted.single().single() as HeartRateRecord
+        assertEquals(5, record.samples.size)
+        assertEquals(sliceStart, record.startTime)
+    }
+
+    @Test
+    fun testNothingIsInsertedWithoutSamples() = runBlocking {
+        val client = FakeHealthConnectClient()
+
+        val stats = StepsSyncer.sync(client, device(), metadata, ZoneOffset.UTC, sliceStart, sliceEnd, permissions, emptyList())
+
+        assertEquals(0, stats.recordsSynced)
+        assertTrue(client.inserted.isEmpty())
+    }
+
+    private fun device(): GBDevice = createDummyGDevice("00:00:00:00:30")
+
+    private fun createSamples(start: Instant, count: Int): List<ActivitySample> {
+        return (0 until count).map { i ->
+            val sample = MiBandActivitySample()
+            sample.timestamp = (start.epochSecond + i * 60L).toInt()
+            sample.steps = 10 + i
+            sample.heartRate = 70
+            sample
+        }
+    }
+
+    /**
+     * Records the inserted chunks instead of talking to Health Connect.
+     */
+    private class FakeHealthConnectClient : HealthConnectClient by Mockito.mock(HealthConnectClient::class.java) {
+        val inserted = mutableListOf<List<Record>>()
+
+        override suspend fun insertRecords(records: List<Record>): InsertRecordsResponse {
+            inserted.add(records)
+            return Mockito.mock(InsertRecordsResponse::class.java)
+        }
+    }
+}
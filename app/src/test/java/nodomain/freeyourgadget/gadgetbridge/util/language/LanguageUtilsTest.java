@@ -6,6 +6,7 @@ import org.junit.Test;
 
 import java.util.Arrays;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 import nodomain.freeyourgadget.gadgetbridge.GBApplication;
@@ -17,7 +18,9 @@ import nodomain.freeyourgadget.gadgetbridge.util.language.impl.FlattenToAsciiTra
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static nodomain.freeyourgadget.gadgetbridge.activities.devicesettings.DeviceSettingsPreferenceConst.PREF_TRANSLITERATION_LANGUAGES;
 
 /**
@@ -278,6 +281,40 @@ public class LanguageUtilsTest extends TestBase {
         assertEquals("300 Kc", multiTransliterator.transliterate("300\u00A0Kč"));
     }
 
+    @Test
+    public void testCompiledTransliterator() throws Exception {
+        final List<Transliterator> transliterators = Arrays.asList(
+                LanguageUtils.getTransliterator("german"),
+                LanguageUtils.getTransliterator("serbian"),
+                LanguageUtils.getTransliterator("armenian"),
+                LanguageUtils.getTransliterator("common_symbols"),
+                LanguageUtils.getTransliterator("extended_ascii"),
+                new FlattenToAsciiTransliterator()
+        );
+        final Transliterator chain = new MultiTransliterator(transliterators);
+        final Transliterator compiled = CompiledTransliterator.compile(transliterators);
+
+        final String input = "Grüße aus München – Љуљачка „Ђ“ Բարեւ … 300\u00A0Kč";
+        assertEquals(chain.transliterate(input), compiled.transliterate(input));
+
+        final String ascii = "Nothing to replace here";
+        assertSame(ascii, compiled.transliterate(ascii));
+    }
+
+    @Test
+    public void testTransliteratorIsCachedPerDevice() throws Exception {
+        enableTransliteration(true);
+        final Transliterator transliterator = getTransliteration();
+        assertSame(transliterator, getTransliteration());
+
+        GBApplication.getDeviceSpecificSharedPrefs(dummyGBDevice.getAddress()).edit()
+                .putString(PREF_TRANSLITERATION_LANGUAGES, "russian")
+                .apply();
+        final Transliterator changed = getTransliteration();
+        assertNotSame(transliterator, changed);
+        assertEquals("Privet", changed.transliterate("Привет"));
+    }
+
     @Test
     public void testTransliterateOption() throws Exception {
         enableTransliteration(false);
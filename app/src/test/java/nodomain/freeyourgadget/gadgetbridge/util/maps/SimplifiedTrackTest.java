@@ -0,0 +1,96 @@
+package nodomain.freeyourgadget.gadgetbridge.util.maps;
+
+import org.junit.Test;
+import org.mapsforge.core.model.BoundingBox;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import nodomain.freeyourgadget.gadgetbridge.model.GPSCoordinate;
+import nodomain.freeyourgadget.gadgetbridge.test.TestBase;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class SimplifiedTrackTest extends TestBase {
+    private static final int TILE_SIZE = 256;
+
+    @Test
+    public void testStraightLineIsReducedToEndpoints() {
+        final List<GPSCoordinate> points = new ArrayList<>();
+        for (int i = 0; i <= 1000; i++) {
+            points.add(new GPSCoordinate(8 + i * 0.0001, 50));
+        }
+        final SimplifiedTrack track = new SimplifiedTrack(points);
+
+        assertArrayEquals(new int[]{0, 1000}, track.getLevel(10, TILE_SIZE));
+        assertArrayEquals(new int[]{0, 1000}, track.getLevel(30, TILE_SIZE));
+    }
+
+    @Test
+    public void testBounds() {
+        final List<GPSCoordinate> points = new ArrayList<>();
+        points.add(new GPSCoordinate(8.5, 50.2));
+        points.add(new GPSCoordinate(8.1, 50.4));
+        points.add(new GPSCoordinate(8.3, 50.1));
+        final SimplifiedTrack track = new SimplifiedTrack(points);
+
+        assertEquals(50.1, track.getMinLatitude(), 0);
+        assertEquals(50.4, track.getMaxLatitude(), 0);
+        assertEquals(8.1, track.getMinLongitude(), 0);
+        assertEquals(8.5, track.getMaxLongitude(), 0);
+    }
+
+    @Test
+    public void testDetailGrowsWithZoom() {
+        final List<GPSCoordinate> points = new ArrayList<>();
+        for (int i = 0; i <= 10000; i++) {
+            // a zigzag of about 1m around a line of about 7km
+            points.add(new GPSCoordinate(8 + i * 0.00001, 50 + (i % 2) * 0.00001));
+        }
+        final SimplifiedTrack track = new SimplifiedTrack(points);
+
+        final int[] lowZoom = track.getLevel(10, TILE_SIZE);
+        final int[] highZoom = track.getLevel(22, TILE_SIZE);
+        assertTrue(lowZoom.length < 10);
+        assertEquals(points.size(), highZoom.length);
+        assertEquals(0, lowZoom[0]);
+        assertEquals(10000, lowZoom[lowZoom.length - 1]);
+    }
+
+    @Test
+    public void testClipToVisibleArea() {
+        // a track that leaves the visible area to the east, and comes back further north
+        final List<GPSCoordinate> points = new ArrayList<>();
+        points.add(new GPSCoordinate(8.00, 50.00));
+        points.add(new GPSCoordinate(8.01, 50.00));
+        points.add(new GPSCoordinate(9.00, 50.00));
+        points.add(new GPSCoordinate(9.00, 50.02));
+        points.add(new GPSCoordinate(8.01, 50.02));
+        points.add(new GPSCoordinate(8.00, 50.02));
+        final SimplifiedTrack track = new SimplifiedTrack(points);
+
+        final BoundingBox visible = new BoundingBox(49.99, 7.99, 50.03, 8.02);
+        final List<int[]> runs = track.getVisibleRuns((byte) 22, TILE_SIZE, visible);
+        // the points in the middle of straight lines are never needed
+        assertEquals(2, runs.size());
+        assertArrayEquals(new int[]{0, 2}, runs.get(0));
+        assertArrayEquals(new int[]{3, 5}, runs.get(1));
+
+        // panning within the margin keeps the clipped runs
+        final BoundingBox panned = new BoundingBox(49.991, 7.991, 50.031, 8.021);
+        assertTrue(runs == track.getVisibleRuns((byte) 22, TILE_SIZE, panned));
+    }
+
+    @Test
+    public void testSinglePoint() {
+        final List<GPSCoordinate> points = new ArrayList<>();
+        points.add(new GPSCoordinate(8, 50));
+        final SimplifiedTrack track = new SimplifiedTrack(points);
+
+        final List<int[]> runs = track.getVisibleRuns((byte) 15, TILE_SIZE, new BoundingBox(49, 7, 51, 9));
+        assertEquals(1, runs.size());
+        assertArrayEquals(new int[]{0}, runs.get(0));
+    }
+}
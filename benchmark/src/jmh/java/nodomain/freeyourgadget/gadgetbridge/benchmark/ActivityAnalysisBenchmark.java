@@ -0,0 +1,166 @@
+/*  Copyright (C) 2026 Freeyourgadget
+
+    This file is part of Gadgetbridge.
+
+    Gadgetbridge is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published
+    by the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    Gadgetbridge is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>. */
+package nodomain.freeyourgadget.gadgetbridge.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import nodomain.freeyourgadget.gadgetbridge.activities.charts.ActivityAnalysis;
+import nodomain.freeyourgadget.gadgetbridge.activities.charts.SleepAnalysis;
+import nodomain.freeyourgadget.gadgetbridge.devices.SampleProvider;
+import nodomain.freeyourgadget.gadgetbridge.model.ActivityAmounts;
+import nodomain.freeyourgadget.gadgetbridge.model.ActivityKind;
+import nodomain.freeyourgadget.gadgetbridge.model.ActivitySample;
+
+/**
+ * Analysis of the activity samples of a period, as done for the charts and the daily totals.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+public class ActivityAnalysisBenchmark {
+    @Param({"1", "7", "30"})
+    public int days;
+
+    private List<ActivitySample> samples;
+
+    @Setup
+    public void setup() {
+        // One sample per minute, sleeping from 23:00 to 07:00 with alternating sleep phases
+        final Random random = new Random(42);
+        final int start = 1767225600; // 2026-01-01
+        samples = new ArrayList<>(days * 24 * 60);
+        for (int minute = 0; minute < days * 24 * 60; minute++) {
+            final int minuteOfDay = minute % (24 * 60);
+            final ActivityKind kind;
+            if (minuteOfDay < 7 * 60 || minuteOfDay >= 23 * 60) {
+                switch ((minuteOfDay / 45) % 4) {
+                    case 0:
+                        kind = ActivityKind.LIGHT_SLEEP;
+                        break;
+                    case 1:
+                        kind = ActivityKind.DEEP_SLEEP;
+                        break;
+                    case 2:
+                        kind = ActivityKind.REM_SLEEP;
+                        break;
+                    default:
+                        kind = ActivityKind.AWAKE_SLEEP;
+                        break;
+                }
+            } else {
+                kind = ActivityKind.ACTIVITY;
+            }
+            final int steps = kind == ActivityKind.ACTIVITY ? random.nextInt(120) : 0;
+            samples.add(new Sample(start + minute * 60, kind, steps, steps * 70, 60 + random.nextInt(60)));
+        }
+    }
+
+    @Benchmark
+    public ActivityAmounts calculateActivityAmounts() {
+        return new ActivityAnalysis().calculateActivityAmounts(samples);
+    }
+
+    @Benchmark
+    public List<SleepAnalysis.SleepSession> calculateSleepSessions() {
+        return new SleepAnalysis().calculateSleepSessions(samples);
+    }
+
+    /**
+     * A sample with an already normalized kind, so that no sample provider is needed.
+     */
+    private static final class Sample implements ActivitySample {
+        private final int timestamp;
+        private final ActivityKind kind;
+        private final int steps;
+        private final int distanceCm;
+        private int heartRate;
+
+        private Sample(final int timestamp, final ActivityKind kind, final int steps, final int distanceCm, final int heartRate) {
+            this.timestamp = timestamp;
+            this.kind = kind;
+            this.steps = steps;
+            this.distanceCm = distanceCm;
+            this.heartRate = heartRate;
+        }
+
+        @Override
+        public SampleProvider<?> getProvider() {
+            return null;
+        }
+
+        @Override
+        public int getRawKind() {
+            return kind.getCode();
+        }
+
+        @Override
+        public ActivityKind getKind() {
+            return kind;
+        }
+
+        @Override
+        public int getRawIntensity() {
+            return NOT_MEASURED;
+        }
+
+        @Override
+        public float getIntensity() {
+            return 0.5f;
+        }
+
+        @Override
+        public int getSteps() {
+            return steps;
+        }
+
+        @Override
+        public int getDistanceCm() {
+            return distanceCm;
+        }
+
+        @Override
+        public int getActiveCalories() {
+            return NOT_MEASURED;
+        }
+
+        @Override
+        public int getHeartRate() {
+            return heartRate;
+        }
+
+        @Override
+        public void setHeartRate(final int value) {
+            heartRate = value;
+        }
+
+        @Override
+        public int getTimestamp() {
+            return timestamp;
+        }
+    }
+}
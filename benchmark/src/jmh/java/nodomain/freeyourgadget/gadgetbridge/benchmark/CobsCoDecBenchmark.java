@@ -0,0 +1,92 @@
+/*  Copyright (C) 2026 Freeyourgadget
+
+    This file is part of Gadgetbridge.
+
+    Gadgetbridge is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published
+    by the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    Gadgetbridge is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>. */
+package nodomain.freeyourgadget.gadgetbridge.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import nodomain.freeyourgadget.gadgetbridge.service.devices.garmin.communicator.CobsCoDec;
+
+/**
+ * COBS framing of the Garmin protocol, for every message exchanged with the device. The largest
+ * payload is a file transfer frame. Run with the GC profiler to compare the allocations of a new
+ * codec per message with those of a codec reused across messages, as for a connection.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+public class CobsCoDecBenchmark {
+    @Param({"20", "244", "4096", "65536"})
+    public int payloadSize;
+
+    // Size of the chunks in which the encoded message is received, as with a typical MTU
+    private static final int CHUNK_SIZE = 244;
+
+    private byte[] payload;
+    private byte[][] chunks;
+    private CobsCoDec reusedCoDec;
+
+    @Setup
+    public void setup() {
+        payload = new byte[payloadSize];
+        final Random random = new Random(42);
+        random.nextBytes(payload);
+        // make sure there are some zeroes to stuff
+        for (int i = 0; i < payload.length; i += 37) {
+            payload[i] = 0;
+        }
+
+        final byte[] encoded = CobsCoDec.encode(payload);
+        chunks = new byte[(encoded.length + CHUNK_SIZE - 1) / CHUNK_SIZE][];
+        for (int i = 0; i < chunks.length; i++) {
+            chunks[i] = Arrays.copyOfRange(encoded, i * CHUNK_SIZE, Math.min(encoded.length, (i + 1) * CHUNK_SIZE));
+        }
+
+        reusedCoDec = new CobsCoDec();
+    }
+
+    @Benchmark
+    public byte[] encode() {
+        return CobsCoDec.encode(payload);
+    }
+
+    @Benchmark
+    public byte[] decodeChunked() {
+        final CobsCoDec coDec = new CobsCoDec();
+        for (final byte[] chunk : chunks) {
+            coDec.receivedBytes(chunk);
+        }
+        return coDec.retrieveMessage();
+    }
+
+    @Benchmark
+    public byte[] decodeChunkedReused() {
+        for (final byte[] chunk : chunks) {
+            reusedCoDec.receivedBytes(chunk);
+        }
+        return reusedCoDec.retrieveMessage();
+    }
+}
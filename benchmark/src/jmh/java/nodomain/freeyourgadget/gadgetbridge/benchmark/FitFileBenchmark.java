@@ -0,0 +1,120 @@
+/*  Copyright (C) 2026 Freeyourgadget
+
+    This file is part of Gadgetbridge.
+
+    Gadgetbridge is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published
+    by the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    Gadgetbridge is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>. */
+package nodomain.freeyourgadget.gadgetbridge.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import nodomain.freeyourgadget.gadgetbridge.service.devices.garmin.FileType;
+import nodomain.freeyourgadget.gadgetbridge.service.devices.garmin.fit.FitFile;
+import nodomain.freeyourgadget.gadgetbridge.service.devices.garmin.fit.RecordData;
+import nodomain.freeyourgadget.gadgetbridge.service.devices.garmin.fit.exception.FitParseException;
+import nodomain.freeyourgadget.gadgetbridge.service.devices.garmin.fit.messages.FitFileId;
+import nodomain.freeyourgadget.gadgetbridge.service.devices.garmin.fit.messages.FitRecord;
+
+/**
+ * Decoding of FIT files, as done when importing activities, sleep and monitoring data from
+ * Garmin devices.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+public class FitFileBenchmark {
+    @Param({"TestFitMessageTypeParsing.fit", "synthetic"})
+    public String fixture;
+
+    // Number of records of the synthetic workout, 2 hours at one record per second
+    private static final int SYNTHETIC_RECORDS = 7200;
+
+    private byte[] fileContents;
+    private FitFile fitFile;
+
+    @Setup
+    public void setup() throws IOException, FitParseException {
+        if ("synthetic".equals(fixture)) {
+            fileContents = createSyntheticWorkout();
+        } else {
+            fileContents = readResource("/" + fixture);
+        }
+        fitFile = FitFile.parseIncoming(fileContents);
+    }
+
+    @Benchmark
+    public FitFile parseIncoming() throws FitParseException {
+        return FitFile.parseIncoming(fileContents);
+    }
+
+    @Benchmark
+    public void toActivityPoints(final Blackhole blackhole) {
+        for (final RecordData record : fitFile.getRecords()) {
+            if (record instanceof FitRecord) {
+                blackhole.consume(((FitRecord) record).toActivityPoint());
+            }
+        }
+    }
+
+    private static byte[] createSyntheticWorkout() {
+        final List<RecordData> records = new ArrayList<>(SYNTHETIC_RECORDS + 1);
+
+        final FitFileId.Builder fileId = new FitFileId.Builder();
+        fileId.setType(FileType.FILETYPE.ACTIVITY);
+        fileId.setManufacturer(1);
+        fileId.setProduct(65534);
+        records.add(fileId.build());
+
+        final long start = 1767225600L; // 2026-01-01
+        for (int i = 0; i < SYNTHETIC_RECORDS; i++) {
+            final FitRecord.Builder record = new FitRecord.Builder();
+            record.setTimestamp(start + i);
+            record.setLatitude(47.5 + i * 1e-5);
+            record.setLongitude(9.7 + i * 1e-5);
+            record.setEnhancedAltitude(400.0 + (i % 100));
+            record.setHeartRate(120 + (i % 50));
+            record.setCadence(80 + (i % 20));
+            record.setDistance(i * 3.0);
+            record.setEnhancedSpeed(3.0 + (i % 10) / 10.0);
+            record.setPower(200 + (i % 80));
+            records.add(record.build());
+        }
+
+        return new FitFile(records).getOutgoingMessage();
+    }
+
+    static byte[] readResource(final String name) throws IOException {
+        try (InputStream inputStream = FitFileBenchmark.class.getResourceAsStream(name)) {
+            if (inputStream == null) {
+                throw new IOException("Resource " + name + " not found");
+            }
+            final ByteArrayOutputStream output = new ByteArrayOutputStream();
+            inputStream.transferTo(output);
+            return output.toByteArray();
+        }
+    }
+}
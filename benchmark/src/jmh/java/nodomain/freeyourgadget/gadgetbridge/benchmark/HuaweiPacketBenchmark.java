@@ -0,0 +1,94 @@
+/*  Copyright (C) 2026 Freeyourgadget
+
+    This file is part of Gadgetbridge.
+
+    Gadgetbridge is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published
+    by the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    Gadgetbridge is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>. */
+package nodomain.freeyourgadget.gadgetbridge.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import nodomain.freeyourgadget.gadgetbridge.devices.huawei.HuaweiPacket;
+import nodomain.freeyourgadget.gadgetbridge.devices.huawei.HuaweiTLV;
+
+/**
+ * Parsing of Huawei packets and their TLVs, for every message received from the device.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+public class HuaweiPacketBenchmark {
+    // Number of nested objects in the TLV, similar to a batch of workout data
+    @Param({"1", "50"})
+    public int entries;
+
+    private final HuaweiPacket.ParamsProvider paramsProvider = new HuaweiPacket.ParamsProvider();
+
+    private byte[] serializedTlv;
+    private byte[] serializedPacket;
+
+    @Setup
+    public void setup() throws HuaweiPacket.CryptoException {
+        paramsProvider.setTransactionsCrypted(false);
+        paramsProvider.setMtu(0xFFFF);
+        paramsProvider.setSliceSize(0xFFFF);
+
+        final HuaweiTLV list = new HuaweiTLV();
+        for (int i = 0; i < entries; i++) {
+            list.put(0x82, new HuaweiTLV()
+                    .put(0x03, i)
+                    .put(0x04, (short) (i * 3))
+                    .put(0x05, (byte) 1)
+                    .put(0x06, new byte[8])
+            );
+        }
+        final HuaweiTLV tlv = new HuaweiTLV().put(0x81, list);
+        serializedTlv = tlv.serialize();
+
+        // An unknown service and command, so that only the generic parsing is measured
+        final HuaweiPacket packet = new HuaweiPacket(paramsProvider);
+        packet.serviceId = 0x7f;
+        packet.commandId = 0x7f;
+        packet.setTlv(tlv);
+        packet.setEncryption(false);
+        packet.setSliced(false);
+        packet.complete = true;
+        serializedPacket = packet.serialize().get(0);
+    }
+
+    @Benchmark
+    public HuaweiTLV parseTlv() {
+        return new HuaweiTLV().parse(serializedTlv);
+    }
+
+    @Benchmark
+    public Integer parseTlvAndRead() throws HuaweiPacket.MissingTagException {
+        int sum = 0;
+        for (final HuaweiTLV entry : new HuaweiTLV().parse(serializedTlv).getObject(0x81).getObjects(0x82)) {
+            sum += entry.getInteger(0x03) + entry.getShort(0x04);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public HuaweiPacket parsePacket() throws HuaweiPacket.ParseException {
+        return new HuaweiPacket(paramsProvider).parse(serializedPacket);
+    }
+}
@@ -0,0 +1,80 @@
+/*  Copyright (C) 2026 Freeyourgadget
+
+    This file is part of Gadgetbridge.
+
+    Gadgetbridge is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published
+    by the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    Gadgetbridge is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>. */
+package nodomain.freeyourgadget.gadgetbridge.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import nodomain.freeyourgadget.gadgetbridge.util.language.CompiledTransliterator;
+import nodomain.freeyourgadget.gadgetbridge.util.language.LanguageUtils;
+import nodomain.freeyourgadget.gadgetbridge.util.language.MultiTransliterator;
+import nodomain.freeyourgadget.gadgetbridge.util.language.Transliterator;
+
+/**
+ * Transliteration of notification texts, with a chain of languages as configured by the user.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+public class TransliteratorBenchmark {
+    @Param({"german", "german,russian,common_symbols,extended_ascii", "arabic,bengali,croatian,czech,estonian,french,georgian,german,greek,hebrew,hungarian,icelandic,italian,korean,latvian,lithuanian,persian,polish,russian,scandinavian,serbian,turkish,ukranian,armenian,common_symbols,extended_ascii"})
+    public String languages;
+
+    @Param({"ascii", "mixed"})
+    public String text;
+
+    @Param({"chain", "compiled"})
+    public String mode;
+
+    private Transliterator transliterator;
+    private String input;
+
+    @Setup
+    public void setup() {
+        final List<Transliterator> transliterators = new ArrayList<>();
+        for (final String language : languages.split(",")) {
+            transliterators.add(LanguageUtils.getTransliterator(language));
+        }
+        if ("compiled".equals(mode)) {
+            transliterator = CompiledTransliterator.compile(transliterators);
+        } else {
+            transliterator = new MultiTransliterator(transliterators);
+        }
+
+        final String sample;
+        if ("ascii".equals(text)) {
+            sample = "Hey, are we still meeting for lunch tomorrow at noon? Let me know! ";
+        } else {
+            sample = "Grüße aus München – Привет из Москвы! Καλημέρα 😀 “quoted” … ";
+        }
+        input = sample.repeat(4);
+    }
+
+    @Benchmark
+    public String transliterate() {
+        return transliterator.transliterate(input);
+    }
+}